@@ -7,7 +7,8 @@ CREATE TABLE shop (
     name VARCHAR(255) NOT NULL,
     min_order_amount DECIMAL(10,2),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    INDEX idx_shop_updated_at (updated_at)
 );
 
 CREATE TABLE shop_operating_hours (
@@ -27,7 +28,7 @@ CREATE TABLE menu (
     base_price DECIMAL(10,2),
     is_open BOOLEAN DEFAULT FALSE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     FOREIGN KEY (shop_id) REFERENCES shop(id) ON DELETE CASCADE
 );
 
@@ -56,7 +57,7 @@ CREATE TABLE cart (
     user_id VARCHAR(36) NOT NULL,
     shop_id VARCHAR(36),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)
 );
 
 CREATE TABLE cart_line_item (
@@ -80,7 +81,11 @@ CREATE TABLE order_table (
     user_id VARCHAR(36) NOT NULL,
     shop_id VARCHAR(36) NOT NULL,
     total_price DECIMAL(10,2),
-    order_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    order_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    status VARCHAR(20) NOT NULL DEFAULT 'PLACED',
+    status_changed_at TIMESTAMP NULL,
+    claimed_by VARCHAR(64),
+    claim_expires_at TIMESTAMP NULL
 );
 
 CREATE TABLE order_line_item (
@@ -90,6 +95,7 @@ CREATE TABLE order_line_item (
     menu_name VARCHAR(255) NOT NULL,
     quantity INT NOT NULL DEFAULT 1,
     line_price DECIMAL(10,2),
+    line_no INT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (order_id) REFERENCES order_table(id) ON DELETE CASCADE
 );
@@ -103,13 +109,90 @@ CREATE TABLE order_item_selected_option (
     FOREIGN KEY (order_line_item_id) REFERENCES order_line_item(id) ON DELETE CASCADE
 );
 
+-- 주문 요약 읽기 테이블 (사용자별 주문 목록을 기본 키 범위 스캔으로 조회)
+CREATE TABLE order_summary (
+    user_id VARCHAR(36) NOT NULL,
+    order_time TIMESTAMP NOT NULL,
+    order_id VARCHAR(36) NOT NULL,
+    shop_id VARCHAR(36) NOT NULL,
+    shop_name VARCHAR(255),
+    first_menu_name VARCHAR(255),
+    item_count INT NOT NULL,
+    total_quantity INT NOT NULL,
+    total_price DECIMAL(10,2) NOT NULL,
+    PRIMARY KEY (user_id, order_time, order_id),
+    CONSTRAINT uk_order_summary_order_id UNIQUE (order_id),
+    FOREIGN KEY (order_id) REFERENCES order_table(id) ON DELETE CASCADE
+);
+
+-- 사용자/가게별 일간 주문 집계 (기간 통계를 원본 주문 스캔 없이 합산)
+CREATE TABLE user_daily_order_stats (
+    user_id VARCHAR(36) NOT NULL,
+    stat_date DATE NOT NULL,
+    order_count BIGINT NOT NULL,
+    revenue DECIMAL(15,2) NOT NULL,
+    item_quantity BIGINT NOT NULL,
+    PRIMARY KEY (user_id, stat_date)
+);
+
+CREATE TABLE shop_daily_order_stats (
+    shop_id VARCHAR(36) NOT NULL,
+    stat_date DATE NOT NULL,
+    order_count BIGINT NOT NULL,
+    revenue DECIMAL(15,2) NOT NULL,
+    item_quantity BIGINT NOT NULL,
+    PRIMARY KEY (shop_id, stat_date)
+);
+
+-- 사용자별 주문 검색 색인 (메뉴·가게 이름 n-gram 토큰 → 주문 시각(epoch 초) 포스팅 목록, 직전 값과의 차이를 가변 길이 정수로 이어 붙임)
+CREATE TABLE user_order_search_token (
+    user_id VARCHAR(36) NOT NULL,
+    token VARCHAR(8) COLLATE utf8mb4_bin NOT NULL,
+    postings MEDIUMBLOB NOT NULL,
+    last_order_time BIGINT NOT NULL,
+    order_count INT NOT NULL,
+    PRIMARY KEY (user_id, token)
+);
+
+-- 가게별 인기 메뉴 집계 스냅샷 (메모리 집계 재기동 복원용, score/error는 스냅샷 시점 감쇠 적용 값)
+CREATE TABLE shop_popular_menu (
+    shop_id VARCHAR(36) NOT NULL,
+    menu_id VARCHAR(36) NOT NULL,
+    menu_name VARCHAR(255),
+    score DOUBLE NOT NULL,
+    error DOUBLE NOT NULL,
+    snapshot_epoch_millis BIGINT NOT NULL,
+    PRIMARY KEY (shop_id, menu_id)
+);
+
+-- 가게별 일간 정산 (샤드마다 그 샤드에 저장된 주문분, 지급 시 샤드별 행을 합산, 취소 주문 제외)
+CREATE TABLE shop_daily_settlement (
+    shop_id VARCHAR(36) NOT NULL,
+    settlement_date DATE NOT NULL,
+    order_count BIGINT NOT NULL,
+    gross_amount DECIMAL(14,2) NOT NULL,
+    item_quantity BIGINT NOT NULL,
+    option_revenue DECIMAL(14,2) NOT NULL,
+    PRIMARY KEY (settlement_date, shop_id)
+);
+
+-- 정산 배치 구간 완료 표시 (재실행 시 완료된 구간 건너뜀, 구간 번호는 가게 ID 해시 구간)
+-- completed_at은 집계 시작 시각이며, 그 뒤에 상태가 바뀐 주문(status_changed_at)이 있는 구간은 다시 정산
+CREATE TABLE settlement_partition (
+    settlement_date DATE NOT NULL,
+    partition_no INT NOT NULL,
+    settled_orders BIGINT NOT NULL,
+    completed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (settlement_date, partition_no)
+);
+
 -- User Context 테이블들
 CREATE TABLE user (
     id VARCHAR(36) PRIMARY KEY DEFAULT (UUID()),
     name VARCHAR(255) NOT NULL,
     email VARCHAR(255) UNIQUE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)
 );
 
 -- 인덱스 생성
@@ -119,8 +202,12 @@ CREATE INDEX idx_option_group_menu_id ON option_group(menu_id);
 CREATE INDEX idx_option_option_group_id ON option(option_group_id);
 CREATE INDEX idx_cart_user_id ON cart(user_id);
 CREATE INDEX idx_cart_line_item_cart_id ON cart_line_item(cart_id);
-CREATE INDEX idx_order_user_id ON order_table(user_id);
+CREATE INDEX idx_order_user_time_id ON order_table(user_id, order_time, id);
+CREATE INDEX idx_order_shop_status_time ON order_table(shop_id, status, order_time);
+CREATE INDEX idx_order_time_id ON order_table(order_time, id);
 CREATE INDEX idx_order_line_item_order_id ON order_line_item(order_id);
+CREATE INDEX idx_order_summary_shop_time ON order_summary(shop_id, order_time, order_id);
+CREATE INDEX idx_order_summary_time ON order_summary(order_time, order_id);
 
 -- 샘플 데이터 삽입 (테스트용)
 INSERT INTO shop (id, name, min_order_amount) VALUES 
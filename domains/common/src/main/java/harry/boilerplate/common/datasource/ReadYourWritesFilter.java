@@ -0,0 +1,114 @@
+package harry.boilerplate.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 쓰기 직후 읽기의 주 DB 라우팅 필터
+ * X-User-Id 헤더의 사용자가 성공한 명령(POST/PUT/PATCH/DELETE)을 보내면 기록하고,
+ * 기록 후 일정 시간 안에 들어온 같은 사용자의 요청은 요청 전체를 주 DB에서 처리 (예: 장바구니 담기 직후 장바구니 조회)
+ * 인스턴스 메모리의 기록(ReadYourWritesTracker)은 다른 인스턴스와 공유되지 않으므로,
+ * 명령 요청에는 쓰기 시각을 담은 쿠키(WRITE_MARKER_COOKIE)를 내려 주고 이후 어느 인스턴스든 쿠키가 기간 안이면 주 DB에서 처리
+ * - 응답 본문을 쓴 뒤에는 헤더를 추가할 수 없으므로 쿠키는 명령 처리 전에 설정 (실패한 명령이면 잠시 주 DB에서 읽을 뿐 결과는 같음)
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String WRITE_MARKER_COOKIE = "rw-last-write";
+
+    private static final Set<String> COMMAND_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String userId = request.getHeader(USER_ID_HEADER);
+        boolean hasUser = userId != null && !userId.isBlank();
+        boolean command = COMMAND_METHODS.contains(request.getMethod());
+        boolean onPrimary = (hasUser && tracker.requiresPrimary(userId)) || tracker.isRecent(writeMarkerOf(request));
+
+        if (command) {
+            addWriteMarker(response);
+        }
+
+        if (onPrimary) {
+            doFilterOnPrimary(request, response, chain);
+        } else {
+            chain.doFilter(request, response);
+        }
+
+        if (hasUser && command && response.getStatus() < 400) {
+            tracker.recordWrite(userId);
+        }
+    }
+
+    /**
+     * 요청 쿠키의 마지막 쓰기 시각 (없거나 잘못된 값이면 0)
+     */
+    private static long writeMarkerOf(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (WRITE_MARKER_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private void addWriteMarker(HttpServletResponse response) {
+        if (tracker.getWindowMillis() <= 0) {
+            return;
+        }
+        Cookie cookie = new Cookie(WRITE_MARKER_COOKIE, String.valueOf(System.currentTimeMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (tracker.getWindowMillis() + 999) / 1000));
+        response.addCookie(cookie);
+    }
+
+    private void doFilterOnPrimary(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            ReplicationContext.runOnPrimary(() -> {
+                try {
+                    chain.doFilter(request, response);
+                } catch (IOException | ServletException e) {
+                    throw new FilterException(e);
+                }
+            });
+        } catch (FilterException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw (ServletException) e.getCause();
+        }
+    }
+
+    /**
+     * 람다 밖으로 검사 예외를 전달하기 위한 래퍼
+     */
+    private static final class FilterException extends RuntimeException {
+        private FilterException(Exception cause) {
+            super(cause);
+        }
+    }
+}
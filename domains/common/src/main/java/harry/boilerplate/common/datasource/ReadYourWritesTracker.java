@@ -0,0 +1,59 @@
+package harry.boilerplate.common.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 최근 쓰기 시각 기록
+ * 쓰기 후 windowMillis 동안은 해당 사용자의 읽기를 주 DB로 보내, 복제 지연으로 방금 쓴 내용이 보이지 않는 일을 방지
+ * 기록은 인스턴스 메모리에만 있으므로 다른 인스턴스로 간 요청에는 적용되지 않음
+ * (여러 인스턴스 배포에서는 ReadYourWritesFilter가 응답 쿠키로 내려 주는 쓰기 시각 표식으로 보완)
+ */
+public class ReadYourWritesTracker {
+
+    // 기록이 이 수를 넘으면 만료된 기록 정리
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * 사용자의 쓰기 기록
+     */
+    public void recordWrite(String userKey) {
+        if (userKey == null || windowMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        lastWrites.put(userKey, now);
+        if (lastWrites.size() > CLEANUP_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowMillis);
+        }
+    }
+
+    /**
+     * 주어진 쓰기 시각이 아직 주 DB에서 읽어야 하는 기간 안인지 여부
+     */
+    public boolean isRecent(long writtenAtMillis) {
+        return writtenAtMillis > 0 && System.currentTimeMillis() - writtenAtMillis < windowMillis;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * 사용자의 읽기를 주 DB로 보내야 하는지 여부
+     */
+    public boolean requiresPrimary(String userKey) {
+        if (userKey == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(userKey);
+        return writtenAt != null && isRecent(writtenAt);
+    }
+}
@@ -0,0 +1,156 @@
+package harry.boilerplate.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본 상태 확인
+ * 주기적으로 각 복제본에 접속하여 복제 지연(초)을 확인하고, 접속 가능하며 지연이 허용치 이내인 복제본만 읽기 대상으로 유지
+ * 상태를 확인할 수 없는 복제본은 제외하므로 모든 복제본이 제외되면 읽기도 주 DB로 처리됨
+ */
+public class ReplicaHealthChecker implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaHealthChecker.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    // MySQL 8.0.22 이후 명령/컬럼명을 먼저 시도하고, 이전 버전 이름으로 재시도
+    private static final String[] STATUS_QUERIES = {"SHOW REPLICA STATUS", "SHOW SLAVE STATUS"};
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+    private final long intervalMillis;
+
+    private volatile List<String> healthyReplicaIds = List.of();
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaHealthChecker(Map<String, DataSource> replicas, long maxLagSeconds, long intervalMillis) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLagSeconds = maxLagSeconds;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * 즉시 한 번 확인한 뒤 주기적 확인 시작
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        checkAll();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 확인 대상 복제본 DataSource (복제본 ID → DataSource)
+     */
+    public Map<String, DataSource> getReplicas() {
+        return Map.copyOf(replicas);
+    }
+
+    /**
+     * 현재 읽기 대상인 복제본 ID 목록 (설정 순서 유지)
+     */
+    public List<String> healthyReplicaIds() {
+        return healthyReplicaIds;
+    }
+
+    /**
+     * 모든 복제본 상태 확인
+     */
+    public void checkAll() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            if (isHealthy(replica.getKey(), replica.getValue())) {
+                healthy.add(replica.getKey());
+            }
+        }
+
+        List<String> previous = healthyReplicaIds;
+        healthyReplicaIds = List.copyOf(healthy);
+        if (!previous.equals(healthyReplicaIds)) {
+            logger.info("읽기 복제본 변경: {} → {}", previous, healthyReplicaIds);
+        }
+    }
+
+    private boolean isHealthy(String replicaId, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                logger.warn("복제본 접속 불가: {}", replicaId);
+                return false;
+            }
+            Long lagSeconds = lagSeconds(connection);
+            if (lagSeconds == null) {
+                logger.warn("복제본 복제 중단: {}", replicaId);
+                return false;
+            }
+            if (lagSeconds > maxLagSeconds) {
+                logger.warn("복제본 지연 초과: {} ({}초)", replicaId, lagSeconds);
+                return false;
+            }
+            return true;
+        } catch (SQLException e) {
+            logger.warn("복제본 상태 확인 실패: {} - {}", replicaId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 복제 지연(초) 조회
+     * 복제 상태가 없으면(복제본이 아닌 DB) 0, 복제가 중단되어 지연을 알 수 없으면 null
+     */
+    private Long lagSeconds(Connection connection) throws SQLException {
+        SQLException failure = null;
+        for (String query : STATUS_QUERIES) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(query)) {
+                if (!resultSet.next()) {
+                    return 0L;
+                }
+                return readLag(resultSet);
+            } catch (SQLException e) {
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+
+    private Long readLag(ResultSet resultSet) throws SQLException {
+        for (String column : LAG_COLUMNS) {
+            try {
+                long lag = resultSet.getLong(column);
+                return resultSet.wasNull() ? null : lag;
+            } catch (SQLException e) {
+                // 다른 버전의 컬럼명으로 재시도
+            }
+        }
+        throw new SQLException("복제 지연 컬럼을 찾을 수 없습니다");
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
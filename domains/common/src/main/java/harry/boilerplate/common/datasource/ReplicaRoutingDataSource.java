@@ -0,0 +1,54 @@
+package harry.boilerplate.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 복제본 라우팅 DataSource
+ * 읽기 전용 트랜잭션은 상태 확인기가 정상으로 판단한 복제본에 번갈아 배정하고, 그 외(쓰기, 트랜잭션 밖, 주 DB 강제)는 주 DB로 위임
+ * 트랜잭션 속성이 확정된 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 함
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaHealthChecker healthChecker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaHealthChecker healthChecker) {
+        if (primary == null) {
+            throw new IllegalArgumentException("주 DataSource는 필수입니다");
+        }
+        Map<String, DataSource> replicas = healthChecker.getReplicas();
+        if (replicas.containsKey(PRIMARY)) {
+            throw new IllegalArgumentException("복제본 ID로 사용할 수 없는 이름입니다: " + PRIMARY);
+        }
+        this.healthChecker = healthChecker;
+
+        Map<Object, Object> targets = new LinkedHashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReplicationContext.isPrimaryForced()) {
+            return PRIMARY;
+        }
+
+        List<String> healthy = healthChecker.healthyReplicaIds();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+}
@@ -0,0 +1,88 @@
+package harry.boilerplate.common.datasource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ * replication.enabled=true 이면 @Transactional(readOnly = true) 트랜잭션을 복제본으로 보내고,
+ * 복제본이 모두 비정상이거나 쓰기 직후 읽기이면 주 DB(spring.datasource)를 사용
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicationProperties.class)
+@ConditionalOnProperty(prefix = "replication", name = "enabled", havingValue = "true")
+public class ReplicationConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaHealthChecker replicaHealthChecker(ReplicationProperties properties,
+                                                     DataSourceProperties primaryProperties) {
+        return new ReplicaHealthChecker(
+            replicaDataSources(properties, primaryProperties),
+            properties.getMaxLagSeconds(),
+            properties.getHealthCheckIntervalMillis()
+        );
+    }
+
+    /**
+     * 주 DB와 복제본을 묶은 라우팅 DataSource
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties primaryProperties,
+                                                             ReplicaHealthChecker replicaHealthChecker) {
+        return new ReplicaRoutingDataSource(
+            primaryProperties.initializeDataSourceBuilder().build(),
+            replicaHealthChecker
+        );
+    }
+
+    /**
+     * JPA가 사용하는 기본 DataSource
+     * 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 얻어, 읽기 전용 여부가 확정된 뒤 라우팅되도록 함
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicationProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesMillis());
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadYourWritesFilter(readYourWritesTracker);
+    }
+
+    /**
+     * 복제본별 DataSource (상태 확인과 라우팅이 같은 커넥션 풀을 공유)
+     */
+    private Map<String, DataSource> replicaDataSources(ReplicationProperties properties,
+                                                       DataSourceProperties primaryProperties) {
+        if (properties.getReplicas().isEmpty()) {
+            throw new IllegalStateException("replication.replicas에 복제본을 1개 이상 설정해야 합니다");
+        }
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        for (ReplicationProperties.Replica replica : properties.getReplicas()) {
+            dataSources.put(replica.getId(), DataSourceBuilder.create()
+                .url(replica.getUrl())
+                .username(replica.getUsername() != null ? replica.getUsername() : primaryProperties.getUsername())
+                .password(replica.getPassword() != null ? replica.getPassword() : primaryProperties.getPassword())
+                .driverClassName(replica.getDriverClassName() != null
+                    ? replica.getDriverClassName() : primaryProperties.getDriverClassName())
+                .build());
+        }
+        return dataSources;
+    }
+}
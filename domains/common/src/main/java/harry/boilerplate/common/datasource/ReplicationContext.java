@@ -0,0 +1,49 @@
+package harry.boilerplate.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 복제본 라우팅 컨텍스트
+ * 주 DB 강제가 지정된 동안에는 읽기 전용 트랜잭션도 복제본이 아닌 주 DB에서 실행
+ */
+public final class ReplicationContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReplicationContext() {
+    }
+
+    /**
+     * 주 DB 강제 여부
+     */
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    /**
+     * 주 DB에서 작업 실행 (직전 쓰기 결과를 바로 읽어야 하는 경우)
+     */
+    public static <T> T callOnPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                PRIMARY_FORCED.set(previous);
+            } else {
+                PRIMARY_FORCED.remove();
+            }
+        }
+    }
+
+    /**
+     * 주 DB에서 작업 실행 (반환값 없음)
+     */
+    public static void runOnPrimary(Runnable action) {
+        callOnPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+}
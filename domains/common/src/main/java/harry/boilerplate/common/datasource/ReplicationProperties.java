@@ -0,0 +1,66 @@
+package harry.boilerplate.common.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정 (replication.*)
+ * <pre>
+ * replication:
+ *   enabled: true
+ *   replicas:
+ *     - id: replica-1
+ *       url: jdbc:mysql://localhost:3317/food_delivery_db
+ *     - id: replica-2
+ *       url: jdbc:mysql://localhost:3318/food_delivery_db
+ *   health-check-interval-millis: 2000
+ *   max-lag-seconds: 3
+ *   read-your-writes-millis: 5000
+ * </pre>
+ * 주 DB는 spring.datasource를 그대로 사용하며, 복제 지연 확인에는 복제본 계정의 REPLICATION CLIENT 권한이 필요
+ * order.sharding.enabled=true 인 Order Context에서는 샤드 라우팅과 함께 사용할 수 없음
+ */
+@ConfigurationProperties(prefix = "replication")
+public class ReplicationProperties {
+
+    private boolean enabled = false;
+    private List<Replica> replicas = new ArrayList<>();
+    private long healthCheckIntervalMillis = 2000;
+    private long maxLagSeconds = 3;
+    private long readYourWritesMillis = 5000;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public List<Replica> getReplicas() { return replicas; }
+    public void setReplicas(List<Replica> replicas) { this.replicas = replicas; }
+    public long getHealthCheckIntervalMillis() { return healthCheckIntervalMillis; }
+    public void setHealthCheckIntervalMillis(long healthCheckIntervalMillis) { this.healthCheckIntervalMillis = healthCheckIntervalMillis; }
+    public long getMaxLagSeconds() { return maxLagSeconds; }
+    public void setMaxLagSeconds(long maxLagSeconds) { this.maxLagSeconds = maxLagSeconds; }
+    public long getReadYourWritesMillis() { return readYourWritesMillis; }
+    public void setReadYourWritesMillis(long readYourWritesMillis) { this.readYourWritesMillis = readYourWritesMillis; }
+
+    /**
+     * 복제본 접속 정보 (username, password, driverClassName은 생략 시 spring.datasource 값 사용)
+     */
+    public static class Replica {
+        private String id;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+        public String getDriverClassName() { return driverClassName; }
+        public void setDriverClassName(String driverClassName) { this.driverClassName = driverClassName; }
+    }
+}
@@ -31,6 +31,14 @@ public abstract class BaseEntity {
         updatedAt = Instant.now();
     }
     
+    /**
+     * 자기 컬럼 변경 없이 하위 엔티티/컬렉션만 바뀐 경우 수정 시각 갱신
+     * 애그리게이트 루트의 updatedAt을 애그리게이트 전체의 버전(ETag 등)으로 쓸 수 있도록 함
+     */
+    protected void touch() {
+        updatedAt = Instant.now();
+    }
+    
     public Instant getCreatedAt() {
         return createdAt;
     }
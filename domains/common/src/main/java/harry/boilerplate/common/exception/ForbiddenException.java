@@ -0,0 +1,24 @@
+package harry.boilerplate.common.exception;
+
+/**
+ * 요청자에게 권한이 없는 작업을 요청했을 때 발생하는 예외 (403 Forbidden)
+ */
+public class ForbiddenException extends ApplicationException {
+
+    private final ErrorCode errorCode;
+
+    public ForbiddenException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public ForbiddenException(ErrorCode errorCode, String additionalMessage) {
+        super(errorCode.getMessage() + ": " + additionalMessage);
+        this.errorCode = errorCode;
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -39,6 +39,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
     
+    /**
+     * 권한 없음 예외 처리
+     */
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ErrorResponse> handleForbiddenException(
+            ForbiddenException ex, HttpServletRequest request) {
+        
+        logger.warn("Forbidden: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.of(
+            ex.getErrorCode().getCode(),
+            ex.getErrorCode().getMessage(),
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+    }
+    
     /**
      * 애플리케이션 예외 처리
      */
@@ -0,0 +1,60 @@
+package harry.boilerplate.common.response;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET 응답 (ETag / Last-Modified)
+ * 값싼 버전 조회 결과를 If-None-Match / If-Modified-Since와 비교하여, 변경이 없으면 Read Model 조립 없이 304를 반환
+ * 버전 조회와 본문 조립 사이에 리소스가 바뀌면 이전 버전의 ETag가 붙을 수 있으나, 다음 요청에서 다시 200으로 갱신되므로 무해
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * 조건부 GET 처리
+     * @param request 현재 요청
+     * @param version 리소스 버전 (리소스가 없으면 empty, 이 경우 조건 비교 없이 그대로 조회)
+     * @param cacheControl 응답 Cache-Control (사용자별 리소스는 private 지정)
+     * @param response 변경된 경우 실행할 조회
+     */
+    public static <T> ResponseEntity<T> respond(WebRequest request, Optional<ResourceVersion> version,
+                                                CacheControl cacheControl, Supplier<ResponseEntity<T>> response) {
+        if (version.isEmpty()) {
+            return response.get();
+        }
+
+        ResourceVersion current = version.get();
+        Instant lastModified = current.getLastModified();
+        boolean notModified = lastModified != null
+            ? request.checkNotModified(current.getETag(), lastModified.toEpochMilli())
+            : request.checkNotModified(current.getETag());
+        if (notModified) {
+            return withVersion(ResponseEntity.status(HttpStatus.NOT_MODIFIED), current, cacheControl).build();
+        }
+
+        ResponseEntity<T> result = response.get();
+        if (!result.getStatusCode().is2xxSuccessful()) {
+            return result;
+        }
+        return withVersion(ResponseEntity.status(result.getStatusCode()).headers(result.getHeaders()), current, cacheControl)
+            .body(result.getBody());
+    }
+
+    private static ResponseEntity.BodyBuilder withVersion(ResponseEntity.BodyBuilder builder, ResourceVersion version,
+                                                          CacheControl cacheControl) {
+        builder.eTag(version.getETag()).cacheControl(cacheControl);
+        if (version.getLastModified() != null) {
+            builder.lastModified(version.getLastModified());
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,88 @@
+package harry.boilerplate.common.response;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * 조회 리소스의 버전 (조건부 GET의 ETag / Last-Modified 원천)
+ * 애그리게이트의 updatedAt 등 표현에 영향을 주는 값들로부터 약한 ETag를 만들고,
+ * 표현이 저장된 값만으로 결정되는 경우에만 Last-Modified를 함께 제공
+ * (현재 시각에 따라 달라지는 영업 여부 등이 섞인 리소스는 Last-Modified 없이 ETag만 사용)
+ */
+public final class ResourceVersion {
+
+    private static final int ETAG_HEX_LENGTH = 16;
+
+    private final String eTag;
+    private final Instant lastModified;
+
+    private ResourceVersion(String eTag, Instant lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * 표현에 영향을 주는 값들로 버전 생성 (Last-Modified 없음)
+     */
+    public static ResourceVersion of(Object... parts) {
+        return new ResourceVersion(weakETag(parts), null);
+    }
+
+    /**
+     * 마지막 수정 시각으로 버전 생성 (ETag와 Last-Modified 모두 제공)
+     */
+    public static ResourceVersion lastModified(Instant lastModified, Object... parts) {
+        if (lastModified == null) {
+            throw new IllegalArgumentException("마지막 수정 시각은 필수입니다");
+        }
+        Object[] all = new Object[parts.length + 1];
+        all[0] = lastModified;
+        System.arraycopy(parts, 0, all, 1, parts.length);
+        return new ResourceVersion(weakETag(all), lastModified);
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * 마지막 수정 시각 (제공하지 않으면 null)
+     */
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    private static String weakETag(Object[] parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            source.append(Objects.toString(part, "")).append('|');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(digest).substring(0, ETAG_HEX_LENGTH) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResourceVersion that)) return false;
+        return eTag.equals(that.eTag) && Objects.equals(lastModified, that.lastModified);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eTag, lastModified);
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceVersion{eTag=" + eTag + ", lastModified=" + lastModified + "}";
+    }
+}
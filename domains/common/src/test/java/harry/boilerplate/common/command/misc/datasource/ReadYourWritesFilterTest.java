@@ -0,0 +1,110 @@
+package harry.boilerplate.common.command.misc.datasource;
+
+import harry.boilerplate.common.datasource.ReadYourWritesFilter;
+import harry.boilerplate.common.datasource.ReadYourWritesTracker;
+import harry.boilerplate.common.datasource.ReplicationContext;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReadYourWritesFilter 테스트
+ */
+@DisplayName("쓰기 직후 읽기 주 DB 라우팅 필터 테스트")
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(60_000);
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(tracker);
+
+    @Test
+    @DisplayName("명령 직후 같은 사용자의 조회는 주 DB에서 처리")
+    void 명령_직후_같은_사용자의_조회는_주_DB에서_처리() throws Exception {
+        // Given
+        filter.doFilter(request("POST", "user-1"), new MockHttpServletResponse(), (req, res) -> { });
+        List<Boolean> primaryForced = new ArrayList<>();
+
+        // When
+        filter.doFilter(request("GET", "user-1"), new MockHttpServletResponse(),
+            (req, res) -> primaryForced.add(ReplicationContext.isPrimaryForced()));
+
+        // Then
+        assertThat(primaryForced).containsExactly(true);
+        assertThat(ReplicationContext.isPrimaryForced()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 사용자나 쓰기 기록이 없는 사용자의 조회는 복제본 대상")
+    void 다른_사용자나_쓰기_기록이_없는_사용자의_조회는_복제본_대상() throws Exception {
+        // Given
+        filter.doFilter(request("POST", "user-1"), new MockHttpServletResponse(), (req, res) -> { });
+        List<Boolean> primaryForced = new ArrayList<>();
+
+        // When
+        filter.doFilter(request("GET", "user-2"), new MockHttpServletResponse(),
+            (req, res) -> primaryForced.add(ReplicationContext.isPrimaryForced()));
+
+        // Then
+        assertThat(primaryForced).containsExactly(false);
+    }
+
+    @Test
+    @DisplayName("명령 응답의 쓰기 시각 쿠키를 가진 조회는 기록이 없는 인스턴스에서도 주 DB에서 처리")
+    void 쓰기_시각_쿠키를_가진_조회는_다른_인스턴스에서도_주_DB에서_처리() throws Exception {
+        // Given
+        MockHttpServletResponse commandResponse = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "user-1"), commandResponse, (req, res) -> { });
+        Cookie marker = commandResponse.getCookie(ReadYourWritesFilter.WRITE_MARKER_COOKIE);
+        ReadYourWritesFilter otherInstance = new ReadYourWritesFilter(new ReadYourWritesTracker(60_000));
+        MockHttpServletRequest read = request("GET", "user-1");
+        read.setCookies(marker);
+        List<Boolean> primaryForced = new ArrayList<>();
+
+        // When
+        otherInstance.doFilter(read, new MockHttpServletResponse(),
+            (req, res) -> primaryForced.add(ReplicationContext.isPrimaryForced()));
+
+        // Then
+        assertThat(marker).isNotNull();
+        assertThat(primaryForced).containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("실패한 명령은 쓰기로 기록하지 않음")
+    void 실패한_명령은_쓰기로_기록하지_않음() throws Exception {
+        // Given
+        MockHttpServletResponse failed = new MockHttpServletResponse();
+        failed.setStatus(400);
+
+        // When
+        filter.doFilter(request("POST", "user-1"), failed, (req, res) -> { });
+
+        // Then
+        assertThat(tracker.requiresPrimary("user-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("읽기 기간이 지나면 다시 복제본 대상")
+    void 읽기_기간이_지나면_다시_복제본_대상() {
+        // Given
+        ReadYourWritesTracker expired = new ReadYourWritesTracker(0);
+
+        // When
+        expired.recordWrite("user-1");
+
+        // Then
+        assertThat(expired.requiresPrimary("user-1")).isFalse();
+    }
+
+    private MockHttpServletRequest request(String method, String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/carts");
+        request.addHeader(ReadYourWritesFilter.USER_ID_HEADER, userId);
+        return request;
+    }
+}
@@ -0,0 +1,160 @@
+package harry.boilerplate.common.command.misc.datasource;
+
+import harry.boilerplate.common.datasource.ReplicaHealthChecker;
+import harry.boilerplate.common.datasource.ReplicaRoutingDataSource;
+import harry.boilerplate.common.datasource.ReplicationContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReplicaRoutingDataSource / ReplicaHealthChecker 테스트
+ */
+@DisplayName("읽기 복제본 라우팅 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica1 = mock(DataSource.class);
+    private final DataSource replica2 = mock(DataSource.class);
+
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private ReplicaHealthChecker healthChecker;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        healthChecker = new ReplicaHealthChecker(replicas, 3, 1000);
+        routingDataSource = new ReplicaRoutingDataSource(primary, healthChecker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 정상 복제본에 번갈아 배정")
+    void 읽기_전용_트랜잭션은_정상_복제본에_번갈아_배정() throws SQLException {
+        // Given
+        Connection replica1Connection = replicaConnection(replica1, 0L);
+        Connection replica2Connection = replicaConnection(replica2, 1L);
+        healthChecker.checkAll();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // Then
+        assertThat(healthChecker.healthyReplicaIds()).containsExactly("replica-1", "replica-2");
+        assertThat(first).isSameAs(replica1Connection);
+        assertThat(second).isSameAs(replica2Connection);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 주 DB로 라우팅")
+    void 쓰기_트랜잭션은_주_DB로_라우팅() throws SQLException {
+        // Given
+        replicaConnection(replica1, 0L);
+        replicaConnection(replica2, 0L);
+        healthChecker.checkAll();
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘거나 접속할 수 없는 복제본은 제외")
+    void 복제_지연이_허용치를_넘거나_접속할_수_없는_복제본은_제외() throws SQLException {
+        // Given
+        replicaConnection(replica1, 10L);
+        when(replica2.getConnection()).thenThrow(new SQLException("Communications link failure"));
+
+        // When
+        healthChecker.checkAll();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(healthChecker.healthyReplicaIds()).isEmpty();
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("복제가 중단된 복제본은 제외")
+    void 복제가_중단된_복제본은_제외() throws SQLException {
+        // Given
+        replicaConnection(replica1, null);
+        replicaConnection(replica2, 0L);
+
+        // When
+        healthChecker.checkAll();
+
+        // Then
+        assertThat(healthChecker.healthyReplicaIds()).containsExactly("replica-2");
+    }
+
+    @Test
+    @DisplayName("주 DB 강제 중에는 읽기 전용 트랜잭션도 주 DB로 라우팅")
+    void 주_DB_강제_중에는_읽기_전용_트랜잭션도_주_DB로_라우팅() throws SQLException {
+        // Given
+        replicaConnection(replica1, 0L);
+        replicaConnection(replica2, 0L);
+        healthChecker.checkAll();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection connection = ReplicationContext.callOnPrimary(() -> {
+            try {
+                return routingDataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(ReplicationContext.isPrimaryForced()).isFalse();
+    }
+
+    /**
+     * 복제 지연을 응답하는 복제본 커넥션 (lagSeconds가 null이면 복제 중단)
+     */
+    private Connection replicaConnection(DataSource replica, Long lagSeconds) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(lagSeconds != null ? lagSeconds : 0L);
+        when(resultSet.wasNull()).thenReturn(lagSeconds == null);
+        return connection;
+    }
+}
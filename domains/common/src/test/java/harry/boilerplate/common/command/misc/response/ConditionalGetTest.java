@@ -0,0 +1,104 @@
+package harry.boilerplate.common.command.misc.response;
+
+import harry.boilerplate.common.response.ConditionalGet;
+import harry.boilerplate.common.response.ResourceVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConditionalGet / ResourceVersion 테스트
+ */
+@DisplayName("조건부 GET 응답 테스트")
+class ConditionalGetTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2024-01-01T00:00:00.123456Z");
+
+    @Test
+    @DisplayName("같은 값으로 만든 버전은 같은 약한 ETag를 가지며 값이 바뀌면 달라짐")
+    void 같은_값으로_만든_버전은_같은_약한_ETag를_가지며_값이_바뀌면_달라짐() {
+        // When
+        ResourceVersion version = ResourceVersion.of(UPDATED_AT, true);
+
+        // Then
+        assertThat(version.getETag()).startsWith("W/\"").endsWith("\"");
+        assertThat(version.getLastModified()).isNull();
+        assertThat(ResourceVersion.of(UPDATED_AT, true)).isEqualTo(version);
+        assertThat(ResourceVersion.of(UPDATED_AT, false).getETag()).isNotEqualTo(version.getETag());
+        assertThat(ResourceVersion.of(UPDATED_AT.plusNanos(1000), true).getETag()).isNotEqualTo(version.getETag());
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 버전과 같으면 조회 없이 304 반환")
+    void If_None_Match가_현재_버전과_같으면_조회_없이_304_반환() {
+        // Given
+        ResourceVersion version = ResourceVersion.of(UPDATED_AT);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resource");
+        request.addHeader("If-None-Match", version.getETag());
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        ResponseEntity<String> response = ConditionalGet.respond(webRequest(request), Optional.of(version),
+            CacheControl.noCache(), () -> {
+                loads.incrementAndGet();
+                return ResponseEntity.ok("body");
+            });
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo(version.getETag());
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("버전이 다르면 조회 결과에 ETag와 Last-Modified를 붙여 반환")
+    void 버전이_다르면_조회_결과에_ETag와_Last_Modified를_붙여_반환() {
+        // Given
+        ResourceVersion version = ResourceVersion.lastModified(UPDATED_AT, "menu-1");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resource");
+        request.addHeader("If-None-Match", "W/\"stale\"");
+
+        // When
+        ResponseEntity<String> response = ConditionalGet.respond(webRequest(request), Optional.of(version),
+            CacheControl.noCache().cachePrivate(), () -> ResponseEntity.ok("body"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("body");
+        assertThat(response.getHeaders().getETag()).isEqualTo(version.getETag());
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(UPDATED_AT.toEpochMilli() / 1000 * 1000);
+        assertThat(response.getHeaders().getCacheControl()).contains("no-cache", "private");
+    }
+
+    @Test
+    @DisplayName("버전이 없으면 조건 비교 없이 조회 결과를 그대로 반환")
+    void 버전이_없으면_조건_비교_없이_조회_결과를_그대로_반환() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resource");
+        request.addHeader("If-None-Match", "*");
+
+        // When
+        ResponseEntity<String> response = ConditionalGet.respond(webRequest(request), Optional.empty(),
+            CacheControl.noCache(), () -> ResponseEntity.notFound().build());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getHeaders().getETag()).isNull();
+    }
+
+    private ServletWebRequest webRequest(MockHttpServletRequest request) {
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -4,17 +4,20 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Order Context Spring Boot 애플리케이션
  */
 @SpringBootApplication
+@EnableScheduling
 @ComponentScan(basePackages = {
     "harry.boilerplate.order",
     "harry.boilerplate.common"
 })
 @EntityScan(basePackages = {
     "harry.boilerplate.order.command.domain",
+    "harry.boilerplate.order.query.infrastructure.projection",
     "harry.boilerplate.common.domain"
 })
 public class OrderApplication {
@@ -0,0 +1,41 @@
+package harry.boilerplate.order.command.application.dto;
+
+/**
+ * 가게 작업 큐 주문 선점 Command
+ */
+public class ClaimOrdersCommand {
+    
+    private final String shopId;
+    private final String claimant;
+    private final String status;
+    private final int batchSize;
+    private final String requesterShopId; // 요청자가 속한 가게 (X-Shop-Id)
+    
+    public ClaimOrdersCommand(String shopId, String claimant, String status, int batchSize, String requesterShopId) {
+        this.shopId = shopId;
+        this.claimant = claimant;
+        this.status = status;
+        this.batchSize = batchSize;
+        this.requesterShopId = requesterShopId;
+    }
+    
+    public String getShopId() {
+        return shopId;
+    }
+    
+    public String getClaimant() {
+        return claimant;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    public String getRequesterShopId() {
+        return requesterShopId;
+    }
+}
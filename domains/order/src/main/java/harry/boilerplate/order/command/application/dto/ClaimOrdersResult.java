@@ -0,0 +1,132 @@
+package harry.boilerplate.order.command.application.dto;
+
+import harry.boilerplate.order.command.domain.aggregate.Order;
+import harry.boilerplate.order.command.domain.entity.OrderLineItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가게 작업 큐 주문 선점 결과
+ */
+public class ClaimOrdersResult {
+    
+    private final List<ClaimedOrder> orders;
+    
+    public ClaimOrdersResult(List<ClaimedOrder> orders) {
+        this.orders = orders != null ? List.copyOf(orders) : List.of();
+    }
+    
+    public static ClaimOrdersResult from(List<Order> orders) {
+        return new ClaimOrdersResult(orders.stream().map(ClaimedOrder::from).toList());
+    }
+    
+    public List<ClaimedOrder> getOrders() {
+        return orders;
+    }
+    
+    public boolean isEmpty() {
+        return orders.isEmpty();
+    }
+    
+    /**
+     * 선점한 주문 정보
+     */
+    public static class ClaimedOrder {
+        
+        private final String orderId;
+        private final String userId;
+        private final String status;
+        private final BigDecimal totalPrice;
+        private final LocalDateTime orderTime;
+        private final LocalDateTime claimExpiresAt;
+        private final List<ClaimedItem> items;
+        
+        public ClaimedOrder(String orderId, String userId, String status, BigDecimal totalPrice,
+                            LocalDateTime orderTime, LocalDateTime claimExpiresAt, List<ClaimedItem> items) {
+            this.orderId = orderId;
+            this.userId = userId;
+            this.status = status;
+            this.totalPrice = totalPrice;
+            this.orderTime = orderTime;
+            this.claimExpiresAt = claimExpiresAt;
+            this.items = items != null ? List.copyOf(items) : List.of();
+        }
+        
+        static ClaimedOrder from(Order order) {
+            List<ClaimedItem> items = order.getOrderItems().stream()
+                .map(ClaimedItem::from)
+                .toList();
+            return new ClaimedOrder(
+                order.getId().getValue(),
+                order.getUserId().getValue(),
+                order.getStatus().name(),
+                order.getTotalPrice().getAmount(),
+                order.getOrderTime(),
+                order.getClaimExpiresAt(),
+                items
+            );
+        }
+        
+        public String getOrderId() {
+            return orderId;
+        }
+        
+        public String getUserId() {
+            return userId;
+        }
+        
+        public String getStatus() {
+            return status;
+        }
+        
+        public BigDecimal getTotalPrice() {
+            return totalPrice;
+        }
+        
+        public LocalDateTime getOrderTime() {
+            return orderTime;
+        }
+        
+        public LocalDateTime getClaimExpiresAt() {
+            return claimExpiresAt;
+        }
+        
+        public List<ClaimedItem> getItems() {
+            return items;
+        }
+    }
+    
+    /**
+     * 선점한 주문의 메뉴 정보
+     */
+    public static class ClaimedItem {
+        
+        private final String menuId;
+        private final String menuName;
+        private final int quantity;
+        
+        public ClaimedItem(String menuId, String menuName, int quantity) {
+            this.menuId = menuId;
+            this.menuName = menuName;
+            this.quantity = quantity;
+        }
+        
+        static ClaimedItem from(OrderLineItem item) {
+            return new ClaimedItem(item.getMenuId().getValue(), item.getMenuName(), item.getQuantity());
+        }
+        
+        public String getMenuId() {
+            return menuId;
+        }
+        
+        public String getMenuName() {
+            return menuName;
+        }
+        
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+}
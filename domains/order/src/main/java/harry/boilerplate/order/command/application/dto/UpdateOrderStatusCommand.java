@@ -0,0 +1,45 @@
+package harry.boilerplate.order.command.application.dto;
+
+/**
+ * 주문 상태 변경 Command
+ */
+public class UpdateOrderStatusCommand {
+    
+    private final String orderId;
+    private final String actorId;
+    private final String status;
+    private final String shopId;
+    
+    public UpdateOrderStatusCommand(String orderId, String actorId, String status) {
+        this(orderId, actorId, status, null);
+    }
+    
+    public UpdateOrderStatusCommand(String orderId, String actorId, String status, String shopId) {
+        this.orderId = orderId;
+        this.actorId = actorId;
+        this.status = status;
+        this.shopId = shopId;
+    }
+    
+    public String getOrderId() {
+        return orderId;
+    }
+    
+    /**
+     * 상태를 변경하는 작업자 ID (가게 작업은 선점한 작업자, 취소는 주문한 사용자)
+     */
+    public String getActorId() {
+        return actorId;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    /**
+     * 요청자가 인증된 가게 ID (가게 점주 요청이면 선점 없이 해당 가게 주문을 변경 가능, 없으면 null)
+     */
+    public String getShopId() {
+        return shopId;
+    }
+}
@@ -0,0 +1,90 @@
+package harry.boilerplate.order.command.application.handler;
+
+import harry.boilerplate.common.exception.ForbiddenException;
+import harry.boilerplate.order.command.application.dto.ClaimOrdersCommand;
+import harry.boilerplate.order.command.application.dto.ClaimOrdersResult;
+import harry.boilerplate.order.command.domain.aggregate.Order;
+import harry.boilerplate.order.command.domain.aggregate.OrderRepository;
+import harry.boilerplate.order.command.domain.exception.OrderDomainException;
+import harry.boilerplate.order.command.domain.exception.OrderErrorCode;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가게 작업 큐 주문 선점 Command Handler
+ * 주방 태블릿이 처리할 주문을 묶음 단위로 선점
+ * 샤드마다 짧은 트랜잭션으로 선점하므로 핸들러 자체는 트랜잭션을 열지 않음
+ */
+@Component
+public class ClaimOrdersCommandHandler {
+    
+    private final OrderRepository orderRepository;
+    private final long leaseSeconds;
+    private final int maxBatchSize;
+    
+    public ClaimOrdersCommandHandler(OrderRepository orderRepository,
+                                     @Value("${order.queue.lease-seconds:60}") long leaseSeconds,
+                                     @Value("${order.queue.max-batch-size:50}") int maxBatchSize) {
+        this.orderRepository = orderRepository;
+        this.leaseSeconds = leaseSeconds;
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    /**
+     * 주문 선점 처리
+     * 상태를 지정하지 않으면 새 주문(PLACED)을 선점
+     * 요청자의 가게가 대상 가게와 다르면 선점하지 않음 (권한이 없으면 403)
+     */
+    public ClaimOrdersResult handle(ClaimOrdersCommand command) {
+        // 입력 검증
+        validateCommand(command);
+        
+        // 권한 확인 - 선점한 주문은 작업자 ID로 상태를 바꿀 수 있으므로 자기 가게 주문만 선점
+        if (command.getRequesterShopId() == null || command.getRequesterShopId().isBlank()) {
+            throw new ForbiddenException(OrderErrorCode.CLAIM_NOT_ALLOWED, "가게 점주만 주문을 선점할 수 있습니다");
+        }
+        if (!command.getRequesterShopId().equals(command.getShopId())) {
+            throw new ForbiddenException(OrderErrorCode.CLAIM_NOT_ALLOWED, "다른 가게의 주문입니다: " + command.getShopId());
+        }
+        
+        OrderStatus status = command.getStatus() == null || command.getStatus().isBlank()
+            ? OrderStatus.PLACED
+            : OrderStatus.from(command.getStatus());
+        if (!status.isKitchenWork()) {
+            throw new OrderDomainException(OrderErrorCode.INVALID_ORDER_STATUS, status.name());
+        }
+        
+        int batchSize = Math.min(command.getBatchSize(), maxBatchSize);
+        LocalDateTime now = LocalDateTime.now();
+        List<Order> claimed = orderRepository.claimOrders(
+            ShopId.of(command.getShopId()),
+            status,
+            command.getClaimant(),
+            batchSize,
+            now,
+            now.plusSeconds(leaseSeconds)
+        );
+        
+        return ClaimOrdersResult.from(claimed);
+    }
+    
+    /**
+     * Command 입력 검증
+     */
+    private void validateCommand(ClaimOrdersCommand command) {
+        if (command.getShopId() == null || command.getShopId().trim().isEmpty()) {
+            throw new OrderDomainException(OrderErrorCode.SHOP_ID_REQUIRED);
+        }
+        if (command.getClaimant() == null || command.getClaimant().trim().isEmpty()) {
+            throw new OrderDomainException(OrderErrorCode.INVALID_CLAIMANT);
+        }
+        if (command.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("선점 개수는 1 이상이어야 합니다");
+        }
+    }
+}
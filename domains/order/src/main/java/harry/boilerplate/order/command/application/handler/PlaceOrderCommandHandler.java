@@ -1,10 +1,14 @@
 package harry.boilerplate.order.command.application.handler;
 
+import harry.boilerplate.common.domain.entity.Money;
 import harry.boilerplate.order.command.application.dto.PlaceOrderCommand;
+import harry.boilerplate.order.command.application.service.CartPricingService;
 import harry.boilerplate.order.command.domain.aggregate.Cart;
 import harry.boilerplate.order.command.domain.aggregate.CartRepository;
 import harry.boilerplate.order.command.domain.aggregate.Order;
 import harry.boilerplate.order.command.domain.aggregate.OrderRepository;
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.MenuPriceTable;
 import harry.boilerplate.order.command.domain.valueObject.UserId;
 import harry.boilerplate.order.command.domain.exception.CartDomainException;
 import harry.boilerplate.order.command.domain.exception.CartErrorCode;
@@ -15,6 +19,8 @@ import harry.boilerplate.order.command.infrastructure.external.user.UserApiClien
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 /**
  * 주문 생성 Command Handler
  * Requirements: 6.1, 6.2
@@ -27,15 +33,18 @@ public class PlaceOrderCommandHandler {
     private final OrderRepository orderRepository;
     private final ShopApiClient shopApiClient;
     private final UserApiClient userApiClient;
+    private final CartPricingService cartPricingService;
     
     public PlaceOrderCommandHandler(CartRepository cartRepository,
                                   OrderRepository orderRepository,
                                   ShopApiClient shopApiClient,
-                                  UserApiClient userApiClient) {
+                                  UserApiClient userApiClient,
+                                  CartPricingService cartPricingService) {
         this.cartRepository = cartRepository;
         this.orderRepository = orderRepository;
         this.shopApiClient = shopApiClient;
         this.userApiClient = userApiClient;
+        this.cartPricingService = cartPricingService;
     }
     
     /**
@@ -69,20 +78,21 @@ public class PlaceOrderCommandHandler {
             throw new CartDomainException(CartErrorCode.INVALID_SHOP_ID);
         }
         
-        // 3. 가게 영업 상태 재확인 (주문 시점에 다시 확인)
-        if (!shopApiClient.isShopOpen(cart.getShopId().getValue())) {
+        // 3. 가게 영업 상태 재확인 (주문 시점에 다시 확인, 최소 주문금액도 같은 응답에서 사용)
+        ShopApiClient.ShopInfoResponse shop = shopApiClient.getShop(cart.getShopId().getValue());
+        if (!shop.isOpen()) {
             throw new OrderDomainException(OrderErrorCode.SHOP_NOT_OPEN);
         }
         
-        // 4. 최소 주문금액 검증 (Requirements: 6.4)
-        // TODO: Shop Context API를 통해 가게의 최소 주문금액을 조회하여 검증
-        // 현재는 기본 검증만 수행
-        if (cart.getTotalPrice().getAmount().compareTo(java.math.BigDecimal.valueOf(5000)) < 0) {
+        // 4. 가격표 일괄 조회 후 가게 최소 주문금액 검증 (Requirements: 6.4)
+        Map<MenuId, MenuPriceTable> priceTables = cartPricingService.loadPriceTables(cart);
+        Money minOrderAmount = Money.of(shop.getMinOrderAmount());
+        if (cart.getTotalPrice(priceTables).isLessThan(minOrderAmount)) {
             throw new OrderDomainException(OrderErrorCode.MINIMUM_ORDER_AMOUNT_NOT_MET);
         }
         
         // 5. 주문 생성 (Requirements: 6.1, 6.2)
-        Order order = cart.placeOrder(); // Cart.placeOrder()는 내부적으로 Order.fromCart() 호출
+        Order order = cart.placeOrder(priceTables); // Cart.placeOrder()는 내부적으로 Order.fromCart() 호출
         
         // 6. 주문 저장
         try {
@@ -0,0 +1,74 @@
+package harry.boilerplate.order.command.application.handler;
+
+import harry.boilerplate.common.exception.ForbiddenException;
+import harry.boilerplate.order.command.application.dto.UpdateOrderStatusCommand;
+import harry.boilerplate.order.command.domain.aggregate.Order;
+import harry.boilerplate.order.command.domain.aggregate.OrderRepository;
+import harry.boilerplate.order.command.domain.exception.OrderDomainException;
+import harry.boilerplate.order.command.domain.exception.OrderErrorCode;
+import harry.boilerplate.order.command.domain.valueObject.OrderId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 Command Handler
+ * 선점한 작업자나 가게 점주가 주문을 다음 상태로 진행하고, 주문한 사용자가 주문을 취소
+ */
+@Component
+@Transactional
+public class UpdateOrderStatusCommandHandler {
+    
+    private final OrderRepository orderRepository;
+    
+    public UpdateOrderStatusCommandHandler(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+    
+    /**
+     * 주문 상태 변경 처리
+     * 1. 주문 조회
+     * 2. 권한 확인 (권한이 없으면 403)
+     * 3. 상태 전환 (다른 작업자가 선점 중이거나 허용되지 않은 전환이면 실패)
+     * 4. 주문 저장
+     */
+    public void handle(UpdateOrderStatusCommand command) {
+        // 입력 검증
+        validateCommand(command);
+        OrderStatus next = OrderStatus.from(command.getStatus());
+        
+        // 1. 주문 조회
+        Order order = orderRepository.findByIdOptional(OrderId.of(command.getOrderId()))
+            .orElseThrow(() -> new OrderDomainException(OrderErrorCode.ORDER_NOT_FOUND));
+        
+        // 2. 권한 확인
+        LocalDateTime now = LocalDateTime.now();
+        ShopId actingShopId = command.getShopId() != null ? ShopId.of(command.getShopId()) : null;
+        if (!order.canChangeStatus(next, command.getActorId(), actingShopId, now)) {
+            throw new ForbiddenException(next == OrderStatus.CANCELLED
+                ? OrderErrorCode.ORDER_CANCEL_NOT_ALLOWED
+                : OrderErrorCode.STATUS_CHANGE_NOT_ALLOWED);
+        }
+        
+        // 3. 상태 전환
+        order.changeStatus(next, command.getActorId(), now);
+        
+        // 4. 주문 저장
+        orderRepository.save(order);
+    }
+    
+    /**
+     * Command 입력 검증
+     */
+    private void validateCommand(UpdateOrderStatusCommand command) {
+        if (command.getOrderId() == null || command.getOrderId().trim().isEmpty()) {
+            throw new OrderDomainException(OrderErrorCode.ORDER_NOT_FOUND);
+        }
+        if (command.getActorId() == null || command.getActorId().trim().isEmpty()) {
+            throw new OrderDomainException(OrderErrorCode.INVALID_CLAIMANT);
+        }
+    }
+}
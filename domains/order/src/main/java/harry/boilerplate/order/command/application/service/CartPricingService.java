@@ -0,0 +1,40 @@
+package harry.boilerplate.order.command.application.service;
+
+import harry.boilerplate.order.command.domain.aggregate.Cart;
+import harry.boilerplate.order.command.domain.entity.CartLineItem;
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.MenuPriceTable;
+import harry.boilerplate.order.command.infrastructure.external.shop.MenuPriceTableCache;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장바구니 가격 계산 서비스
+ * 장바구니에 담긴 메뉴들의 가격표를 메뉴 가격표 캐시에서 한 번에 준비
+ */
+@Component
+public class CartPricingService {
+
+    private final MenuPriceTableCache menuPriceTableCache;
+
+    public CartPricingService(MenuPriceTableCache menuPriceTableCache) {
+        this.menuPriceTableCache = menuPriceTableCache;
+    }
+
+    /**
+     * 장바구니에 담긴 모든 메뉴의 가격표 조회
+     */
+    public Map<MenuId, MenuPriceTable> loadPriceTables(Cart cart) {
+        if (cart == null || cart.isEmpty() || cart.getShopId() == null) {
+            return Map.of();
+        }
+        Set<MenuId> menuIds = new LinkedHashSet<>();
+        for (CartLineItem item : cart.getItems()) {
+            menuIds.add(item.getMenuId());
+        }
+        return menuPriceTableCache.loadPriceTables(cart.getShopId(), menuIds);
+    }
+}
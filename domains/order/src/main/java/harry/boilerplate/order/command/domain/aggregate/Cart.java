@@ -3,6 +3,7 @@ package harry.boilerplate.order.command.domain.aggregate;
 import harry.boilerplate.common.domain.entity.AggregateRoot;
 import harry.boilerplate.common.domain.entity.Money;
 import harry.boilerplate.order.command.domain.event.CartItemAddedEvent;
+import harry.boilerplate.order.command.domain.event.CartItemsRemovedEvent;
 import harry.boilerplate.order.command.domain.entity.CartLineItem;
 import harry.boilerplate.order.command.domain.valueObject.*;
 import harry.boilerplate.order.command.domain.exception.CartDomainException;
@@ -11,6 +12,7 @@ import jakarta.persistence.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -67,6 +69,7 @@ public class Cart extends AggregateRoot<Cart, CartId> {
         }
         this.shopId = newShopId.getValue();
         this.items.clear();
+        touch();
     }
     
     /**
@@ -96,6 +99,7 @@ public class Cart extends AggregateRoot<Cart, CartId> {
             // 새 아이템 추가
             items.add(newItem);
         }
+        touch();
         
         // 도메인 이벤트 발행
         addDomainEvent(new CartItemAddedEvent(
@@ -131,24 +135,34 @@ public class Cart extends AggregateRoot<Cart, CartId> {
     
     /**
      * 장바구니 총 금액 계산
-     * 실제 구현에서는 Shop Context API를 통해 메뉴와 옵션 가격을 조회해야 함
+     * 메뉴별 가격표(기본가 + 옵션 가격)를 이용하여 라인 가격을 합산
      */
-    public Money getTotalPrice() {
+    public Money getTotalPrice(Map<MenuId, MenuPriceTable> priceTables) {
         if (isEmpty()) {
             return Money.zero();
         }
         
-        // TODO: Shop Context API를 통해 실제 가격 계산
-        // 현재는 기본 가격으로 계산 (메뉴당 10,000원으로 가정)
         Money total = Money.zero();
         for (CartLineItem item : items) {
-            Money itemPrice = Money.of(10000).multiply(item.getQuantity());
-            total = total.add(itemPrice);
+            MenuPriceTable priceTable = priceTableOf(priceTables, item.getMenuId());
+            total = total.add(priceTable.linePrice(item.getSelectedOptions(), item.getQuantity()));
         }
         
         return total;
     }
     
+    /**
+     * 아이템의 메뉴 가격표 조회
+     */
+    public static MenuPriceTable priceTableOf(Map<MenuId, MenuPriceTable> priceTables, MenuId menuId) {
+        MenuPriceTable priceTable = priceTables != null ? priceTables.get(menuId) : null;
+        if (priceTable == null) {
+            throw new CartDomainException(CartErrorCode.MENU_NOT_AVAILABLE,
+                "메뉴 가격 정보를 찾을 수 없습니다: " + menuId.getValue());
+        }
+        return priceTable;
+    }
+    
     /**
      * 장바구니가 비어있는지 확인
      */
@@ -177,21 +191,28 @@ public class Cart extends AggregateRoot<Cart, CartId> {
      */
     public void removeItem(MenuId menuId, List<OptionId> selectedOptions) {
         CartLineItem targetItem = new CartLineItem(menuId, selectedOptions, 1);
-        items.removeIf(item -> item.isSameMenuAndOptions(targetItem));
+        if (items.removeIf(item -> item.isSameMenuAndOptions(targetItem))) {
+            touch();
+            addDomainEvent(new CartItemsRemovedEvent(this.id, this.userId, this.shopId, items.size()));
+        }
     }
     
     /**
      * 장바구니 비우기
      */
     public void clear() {
+        String clearedShopId = this.shopId;
         this.items.clear();
         this.shopId = null;
+        touch();
+        addDomainEvent(new CartItemsRemovedEvent(this.id, this.userId, clearedShopId, 0));
     }
     
     /**
      * 장바구니로부터 주문 생성
+     * @param priceTables 장바구니 메뉴들의 가격표 (메뉴 ID 기준)
      */
-    public Order placeOrder() {
+    public Order placeOrder(Map<MenuId, MenuPriceTable> priceTables) {
         if (isEmpty()) {
             throw new CartDomainException(CartErrorCode.EMPTY_CART);
         }
@@ -199,7 +220,7 @@ public class Cart extends AggregateRoot<Cart, CartId> {
             throw new CartDomainException(CartErrorCode.DIFFERENT_SHOP_MENU, "가게가 선택되지 않았습니다");
         }
         
-        Order order = Order.fromCart(this);
+        Order order = Order.fromCart(this, priceTables);
         
         // 주문 완료 후 장바구니 비우기
         clear();
@@ -3,6 +3,7 @@ package harry.boilerplate.order.command.domain.aggregate;
 import harry.boilerplate.common.domain.entity.AggregateRoot;
 import harry.boilerplate.common.domain.entity.Money;
 import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.domain.event.OrderStatusChangedEvent;
 import harry.boilerplate.order.command.domain.entity.CartLineItem;
 import harry.boilerplate.order.command.domain.entity.OrderLineItem;
 import harry.boilerplate.order.command.domain.valueObject.*;
@@ -13,13 +14,21 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Order 애그리게이트 루트
  * 주문 정보와 주문 라인 아이템들을 관리
  */
 @Entity
-@Table(name = "order_table")
+@Table(name = "order_table", indexes = {
+    // 사용자 주문 이력 키셋 페이징용 (user_id, order_time, id)
+    @Index(name = "idx_order_user_time_id", columnList = "user_id, order_time, id"),
+    // 가게 작업 큐 조회/선점용 (shop_id, status, order_time)
+    @Index(name = "idx_order_shop_status_time", columnList = "shop_id, status, order_time"),
+    // 기간 단위 배치(정산·아카이브·재구성)의 월·일 범위 조회용 (order_time, id)
+    @Index(name = "idx_order_time_id", columnList = "order_time, id")
+})
 public class Order extends AggregateRoot<Order, OrderId> {
 
     @Id
@@ -40,6 +49,20 @@ public class Order extends AggregateRoot<Order, OrderId> {
 
     @Column(name = "order_time", nullable = false)
     private LocalDateTime orderTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
+    // 가게 작업 큐 선점 정보 (선점 만료 시각이 지나면 다른 작업자가 다시 선점 가능)
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claim_expires_at")
+    private LocalDateTime claimExpiresAt;
     
     // 기본 생성자 (JPA용)
     protected Order() {
@@ -66,6 +89,7 @@ public class Order extends AggregateRoot<Order, OrderId> {
         for (OrderLineItem item : orderItems) {
             OrderLineItem attached = new OrderLineItem(
                 this,
+                this.orderItems.size(),
                 item.getMenuId(),
                 item.getMenuName(),
                 item.getSelectedOptions(),
@@ -76,13 +100,24 @@ public class Order extends AggregateRoot<Order, OrderId> {
         }
         this.totalPrice = calculateTotalPrice().getAmount();
         this.orderTime = LocalDateTime.now();
+        this.status = OrderStatus.PLACED;
+        this.statusChangedAt = this.orderTime;
         
         // 도메인 이벤트 발행
         addDomainEvent(new OrderPlacedEvent(
             this.id,
             this.userId,
             this.shopId,
-            this.totalPrice
+            this.totalPrice,
+            this.orderTime,
+            // 첫 메뉴는 라인 순서(line_no)가 가장 앞선 아이템 (요약 재구성도 같은 기준)
+            this.orderItems.get(0).getMenuName(),
+            getItemCount(),
+            getTotalQuantity(),
+            this.orderItems.stream()
+                .map(item -> new OrderPlacedEvent.OrderedMenu(
+                    item.getMenuId().getValue(), item.getMenuName(), item.getQuantity()))
+                .toList()
         ));
     }
     
@@ -95,12 +130,15 @@ public class Order extends AggregateRoot<Order, OrderId> {
         this.orderItems = new ArrayList<>(orderItems != null ? orderItems : new ArrayList<>());
         this.totalPrice = totalPrice != null ? totalPrice.getAmount() : java.math.BigDecimal.ZERO;
         this.orderTime = orderTime;
+        this.status = OrderStatus.PLACED;
+        this.statusChangedAt = orderTime;
     }
     
     /**
      * Cart로부터 Order 생성
+     * 가격표를 기준으로 단가와 옵션 스냅샷을 확정
      */
-    public static Order fromCart(Cart cart) {
+    public static Order fromCart(Cart cart, Map<MenuId, MenuPriceTable> priceTables) {
         if (cart == null) {
             throw new IllegalArgumentException("장바구니는 필수입니다");
         }
@@ -111,16 +149,17 @@ public class Order extends AggregateRoot<Order, OrderId> {
             throw new OrderDomainException(OrderErrorCode.INVALID_SHOP_ID);
         }
         
-        // TODO: Shop Context API를 통해 실제 메뉴 정보와 가격을 조회하여 OrderLineItem 생성
-        // 현재는 기본 구현만 제공
         List<OrderLineItem> orderItems = new ArrayList<>();
         for (CartLineItem cartItem : cart.getItems()) {
-            // 실제 구현에서는 Shop Context API를 통해 메뉴 이름과 옵션 정보, 가격을 조회해야 함
-            String menuName = "메뉴명"; // TODO: Shop Context API 호출
-            List<SelectedOption> selectedOptions = List.of(); // TODO: Shop Context API 호출하여 SelectedOption 생성
-            Money unitPrice = Money.of(10000); // TODO: Shop Context API 호출
+            MenuPriceTable priceTable = Cart.priceTableOf(priceTables, cartItem.getMenuId());
+            List<OptionId> optionIds = cartItem.getSelectedOptions();
             
-            OrderLineItem orderItem = OrderLineItem.fromCartLineItem(cartItem, menuName, selectedOptions, unitPrice);
+            OrderLineItem orderItem = OrderLineItem.fromCartLineItem(
+                cartItem,
+                priceTable.getMenuName(),
+                priceTable.toSelectedOptions(optionIds),
+                priceTable.unitPrice(optionIds)
+            );
             orderItems.add(orderItem);
         }
         
@@ -159,6 +198,88 @@ public class Order extends AggregateRoot<Order, OrderId> {
             .sum();
     }
     
+    /**
+     * 주문 상태 변경
+     * 다른 작업자가 선점 중인 주문은 변경할 수 없으며, 상태가 바뀌면 선점은 해제됨
+     */
+    public void changeStatus(OrderStatus next, String actor, LocalDateTime now) {
+        if (next == null) {
+            throw new OrderDomainException(OrderErrorCode.INVALID_ORDER_STATUS);
+        }
+        if (isClaimedByOther(actor, now)) {
+            throw new OrderDomainException(OrderErrorCode.ORDER_CLAIMED_BY_OTHER);
+        }
+        if (!status.canTransitionTo(next)) {
+            throw new OrderDomainException(OrderErrorCode.INVALID_STATUS_TRANSITION, status + " → " + next);
+        }
+
+        OrderStatus previous = this.status;
+        this.status = next;
+        this.statusChangedAt = now;
+        releaseClaim();
+
+        addDomainEvent(new OrderStatusChangedEvent(
+            this.id,
+            this.userId,
+            this.shopId,
+            previous.name(),
+            next.name()
+        ));
+    }
+
+    /**
+     * 가게 작업 큐에서 주문 선점
+     * 선점은 leaseUntil까지 유효하며, 만료되면 다른 작업자가 다시 선점할 수 있음
+     */
+    public void claim(String claimant, LocalDateTime now, LocalDateTime leaseUntil) {
+        if (claimant == null || claimant.isBlank()) {
+            throw new OrderDomainException(OrderErrorCode.INVALID_CLAIMANT);
+        }
+        if (!status.isKitchenWork()) {
+            throw new OrderDomainException(OrderErrorCode.INVALID_ORDER_STATUS, status.name());
+        }
+        if (isClaimedByOther(claimant, now)) {
+            throw new OrderDomainException(OrderErrorCode.ORDER_CLAIMED_BY_OTHER);
+        }
+        this.claimedBy = claimant;
+        this.claimExpiresAt = leaseUntil;
+    }
+
+    /**
+     * 선점 해제
+     */
+    public void releaseClaim() {
+        this.claimedBy = null;
+        this.claimExpiresAt = null;
+    }
+
+    /**
+     * 지정한 작업자가 현재 유효하게 선점 중인지 확인
+     */
+    public boolean isClaimedBy(String claimant, LocalDateTime now) {
+        return claimedBy != null && claimedBy.equals(claimant) && isClaimActive(now);
+    }
+
+    /**
+     * 요청자가 주문을 next 상태로 바꿀 권한이 있는지 확인
+     * - 취소는 주문한 사용자만 가능
+     * - 그 외 전환(가게 작업)은 주문을 유효하게 선점한 작업자 또는 주문 가게로 인증된 요청만 가능
+     */
+    public boolean canChangeStatus(OrderStatus next, String actor, ShopId actingShopId, LocalDateTime now) {
+        if (next == OrderStatus.CANCELLED) {
+            return actor != null && this.userId.equals(actor);
+        }
+        return isClaimedBy(actor, now) || isFromShop(actingShopId);
+    }
+
+    private boolean isClaimedByOther(String actor, LocalDateTime now) {
+        return claimedBy != null && !claimedBy.equals(actor) && isClaimActive(now);
+    }
+
+    private boolean isClaimActive(LocalDateTime now) {
+        return claimExpiresAt != null && claimExpiresAt.isAfter(now);
+    }
+    
     /**
      * 특정 사용자의 주문인지 확인
      */
@@ -203,4 +324,20 @@ public class Order extends AggregateRoot<Order, OrderId> {
     public LocalDateTime getOrderTime() {
         return orderTime;
     }
+    
+    public OrderStatus getStatus() {
+        return status;
+    }
+    
+    public LocalDateTime getStatusChangedAt() {
+        return statusChangedAt;
+    }
+    
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+    
+    public LocalDateTime getClaimExpiresAt() {
+        return claimExpiresAt;
+    }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package harry.boilerplate.order.command.domain.aggregate;
 
 import harry.boilerplate.order.command.domain.valueObject.OrderId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
 import harry.boilerplate.order.command.domain.valueObject.UserId;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +17,13 @@ public interface OrderRepository {
     boolean existsById(OrderId orderId);
     void delete(Order order);
     void deleteById(OrderId orderId);
+
+    /**
+     * 가게 작업 큐에서 해당 상태의 주문을 오래된 순으로 최대 limit개 선점
+     * 다른 작업자가 잠근 행은 건너뛰며(SKIP LOCKED), 선점이 만료된 주문은 다시 선점 대상이 됨
+     */
+    List<Order> claimOrders(ShopId shopId, OrderStatus status, String claimant, int limit,
+                            LocalDateTime now, LocalDateTime leaseUntil);
 }
 
 
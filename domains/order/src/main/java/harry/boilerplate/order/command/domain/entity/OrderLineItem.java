@@ -46,6 +46,10 @@ public class OrderLineItem extends DomainEntity<OrderLineItem, String> {
     @Column(name = "line_price", precision = 10, scale = 2, nullable = false)
     private BigDecimal linePrice;
 
+    // 주문 안에서의 라인 순서 (0부터, 첫 메뉴와 아이템 나열 순서의 기준)
+    @Column(name = "line_no", nullable = false)
+    private int lineNo;
+
     // JPA 기본 생성자
     protected OrderLineItem() {
     }
@@ -73,13 +77,17 @@ public class OrderLineItem extends DomainEntity<OrderLineItem, String> {
         this.linePrice = linePrice.getAmount();
     }
 
-    public OrderLineItem(Order order, MenuId menuId, String menuName, List<SelectedOption> selectedOptions,
+    public OrderLineItem(Order order, int lineNo, MenuId menuId, String menuName, List<SelectedOption> selectedOptions,
                           int quantity, Money linePrice) {
         this(menuId, menuName, selectedOptions, quantity, linePrice);
         if (order == null) {
             throw new IllegalArgumentException("Order는 필수입니다");
         }
+        if (lineNo < 0) {
+            throw new IllegalArgumentException("라인 순서는 0 이상이어야 합니다");
+        }
         this.order = order;
+        this.lineNo = lineNo;
     }
 
     /**
@@ -142,6 +150,10 @@ public class OrderLineItem extends DomainEntity<OrderLineItem, String> {
         return Money.of(linePrice);
     }
 
+    public int getLineNo() {
+        return lineNo;
+    }
+
     @Override
     public String toString() {
         return "OrderLineItem{" +
@@ -0,0 +1,67 @@
+package harry.boilerplate.order.command.domain.event;
+
+import harry.boilerplate.common.domain.event.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 장바구니 아이템 제거 도메인 이벤트
+ * Cart 애그리게이트에서 아이템을 제거하거나 장바구니를 비웠을 때(주문 생성 포함) 발행되는 이벤트
+ */
+public class CartItemsRemovedEvent implements DomainEvent {
+    private final UUID eventId = UUID.randomUUID();
+    private final Instant occurredAt = Instant.now();
+    private final String aggregateId;
+    private final String aggregateType = "Cart";
+    private final int version = 1;
+    
+    // 비즈니스 데이터
+    private final String userId;
+    private final String shopId;
+    private final int remainingItemCount;
+    
+    public CartItemsRemovedEvent(String cartId, String userId, String shopId, int remainingItemCount) {
+        this.aggregateId = cartId;
+        this.userId = userId;
+        this.shopId = shopId;
+        this.remainingItemCount = remainingItemCount;
+    }
+    
+    @Override
+    public UUID getEventId() {
+        return eventId;
+    }
+    
+    @Override
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+    
+    @Override
+    public String getAggregateId() {
+        return aggregateId;
+    }
+    
+    @Override
+    public String getAggregateType() {
+        return aggregateType;
+    }
+    
+    @Override
+    public int getVersion() {
+        return version;
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    public String getShopId() {
+        return shopId;
+    }
+    
+    public int getRemainingItemCount() {
+        return remainingItemCount;
+    }
+}
\ No newline at end of file
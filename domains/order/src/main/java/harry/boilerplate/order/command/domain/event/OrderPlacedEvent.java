@@ -4,6 +4,8 @@ import harry.boilerplate.common.domain.event.DomainEvent;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -21,12 +23,29 @@ public class OrderPlacedEvent implements DomainEvent {
     private final String userId;
     private final String shopId;
     private final BigDecimal totalAmount;
+    private final LocalDateTime orderTime;
+    private final String firstMenuName;
+    private final int itemCount;
+    private final int totalQuantity;
+    private final List<OrderedMenu> orderedMenus;
 
-    public OrderPlacedEvent(String orderId, String userId, String shopId, BigDecimal totalAmount) {
+    public OrderPlacedEvent(String orderId, String userId, String shopId, BigDecimal totalAmount,
+                            LocalDateTime orderTime, String firstMenuName, int itemCount, int totalQuantity) {
+        this(orderId, userId, shopId, totalAmount, orderTime, firstMenuName, itemCount, totalQuantity, List.of());
+    }
+
+    public OrderPlacedEvent(String orderId, String userId, String shopId, BigDecimal totalAmount,
+                            LocalDateTime orderTime, String firstMenuName, int itemCount, int totalQuantity,
+                            List<OrderedMenu> orderedMenus) {
         this.aggregateId = orderId;
         this.userId = userId;
         this.shopId = shopId;
         this.totalAmount = totalAmount;
+        this.orderTime = orderTime;
+        this.firstMenuName = firstMenuName;
+        this.itemCount = itemCount;
+        this.totalQuantity = totalQuantity;
+        this.orderedMenus = List.copyOf(orderedMenus != null ? orderedMenus : List.of());
     }
 
     @Override
@@ -65,4 +84,33 @@ public class OrderPlacedEvent implements DomainEvent {
     public BigDecimal getTotalAmount() {
         return totalAmount;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getOrderTime() {
+        return orderTime;
+    }
+
+    public String getFirstMenuName() {
+        return firstMenuName;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public int getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    /**
+     * 주문한 메뉴별 수량 (라인 아이템 순서, 같은 메뉴가 옵션만 달리하여 여러 번 담긴 경우 각각 포함)
+     */
+    public List<OrderedMenu> getOrderedMenus() {
+        return orderedMenus;
+    }
+
+    /**
+     * 주문 라인 아이템의 메뉴와 수량
+     */
+    public record OrderedMenu(String menuId, String menuName, int quantity) {
+    }
+}
@@ -0,0 +1,74 @@
+package harry.boilerplate.order.command.domain.event;
+
+import harry.boilerplate.common.domain.event.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 주문 상태 변경 도메인 이벤트
+ * Order 애그리게이트의 상태가 바뀌었을 때 발행되는 이벤트
+ */
+public class OrderStatusChangedEvent implements DomainEvent {
+    private final UUID eventId = UUID.randomUUID();
+    private final Instant occurredAt = Instant.now();
+    private final String aggregateId;
+    private final String aggregateType = "Order";
+    private final int version = 1;
+
+    // 비즈니스 데이터
+    private final String userId;
+    private final String shopId;
+    private final String previousStatus;
+    private final String status;
+
+    public OrderStatusChangedEvent(String orderId, String userId, String shopId,
+                                   String previousStatus, String status) {
+        this.aggregateId = orderId;
+        this.userId = userId;
+        this.shopId = shopId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+    }
+
+    @Override
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    @Override
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getShopId() {
+        return shopId;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+}
@@ -22,6 +22,18 @@ public enum OrderErrorCode implements ErrorCode {
     // 주문 상태 관련 에러
     ORDER_ALREADY_PLACED("ORDER-DOMAIN-006", "이미 주문이 완료되었습니다"),
     INVALID_ORDER_STATUS("ORDER-DOMAIN-007", "올바르지 않은 주문 상태입니다"),
+    INVALID_STATUS_TRANSITION("ORDER-DOMAIN-012", "변경할 수 없는 주문 상태입니다"),
+    
+    // 가게 작업 큐 관련 에러
+    INVALID_CLAIMANT("ORDER-DOMAIN-013", "작업자 ID는 필수입니다"),
+    ORDER_CLAIMED_BY_OTHER("ORDER-DOMAIN-014", "다른 작업자가 처리 중인 주문입니다"),
+    CLAIM_NOT_ALLOWED("ORDER-DOMAIN-018", "가게 주문을 선점할 권한이 없습니다"),
+    
+    // 주문 권한 관련 에러
+    STATUS_CHANGE_NOT_ALLOWED("ORDER-DOMAIN-015", "주문 상태를 변경할 권한이 없습니다"),
+    ORDER_CANCEL_NOT_ALLOWED("ORDER-DOMAIN-016", "주문을 취소할 권한이 없습니다"),
+    EXPORT_NOT_ALLOWED("ORDER-DOMAIN-017", "주문을 내보낼 권한이 없습니다"),
+    SHOP_ACCESS_NOT_ALLOWED("ORDER-DOMAIN-019", "가게 주문 정보를 조회할 권한이 없습니다"),
     
     // 외부 API 검증 관련 에러
     SHOP_NOT_OPEN("ORDER-DOMAIN-010", "가게가 영업 중이 아닙니다"),
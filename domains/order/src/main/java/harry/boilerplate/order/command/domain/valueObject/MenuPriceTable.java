@@ -0,0 +1,179 @@
+package harry.boilerplate.order.command.domain.valueObject;
+
+import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.common.domain.entity.ValueObject;
+import harry.boilerplate.order.command.domain.exception.CartDomainException;
+import harry.boilerplate.order.command.domain.exception.CartErrorCode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 메뉴 가격표 값 객체
+ * 특정 버전의 메뉴 기본가와 옵션 가격을 압축된 형태(정렬된 배열)로 보관
+ * 동일 (메뉴 ID, 버전)에 대해 한 번 만들어 두면 이후 가격 계산은 메모리 내 연산만으로 수행됨
+ */
+public class MenuPriceTable extends ValueObject {
+
+    private final String menuId;
+    private final String version;
+    private final String menuName;
+    private final BigDecimal basePrice;
+    private final String[] optionIds;
+    private final BigDecimal[] optionPrices;
+
+    private MenuPriceTable(String menuId, String version, String menuName, BigDecimal basePrice,
+                           String[] optionIds, BigDecimal[] optionPrices) {
+        this.menuId = menuId;
+        this.version = version;
+        this.menuName = menuName;
+        this.basePrice = basePrice;
+        this.optionIds = optionIds;
+        this.optionPrices = optionPrices;
+    }
+
+    /**
+     * 가격표 생성
+     * 옵션은 옵션 ID 기준으로 정렬하여 이진 탐색이 가능하도록 보관 (중복 ID는 먼저 나온 가격 사용)
+     */
+    public static MenuPriceTable of(MenuId menuId, String version, String menuName, BigDecimal basePrice,
+                                    Map<String, BigDecimal> optionPrices) {
+        if (menuId == null) {
+            throw new IllegalArgumentException("메뉴 ID는 필수입니다");
+        }
+        if (menuName == null || menuName.trim().isEmpty()) {
+            throw new IllegalArgumentException("메뉴 이름은 필수입니다");
+        }
+        if (basePrice == null) {
+            throw new IllegalArgumentException("메뉴 기본가는 필수입니다");
+        }
+
+        TreeMap<String, BigDecimal> sorted = new TreeMap<>();
+        if (optionPrices != null) {
+            optionPrices.forEach((optionId, price) -> {
+                if (optionId != null) {
+                    sorted.putIfAbsent(optionId, price != null ? price : BigDecimal.ZERO);
+                }
+            });
+        }
+
+        return new MenuPriceTable(
+            menuId.getValue(),
+            version,
+            menuName.trim(),
+            basePrice,
+            sorted.keySet().toArray(new String[0]),
+            sorted.values().toArray(new BigDecimal[0])
+        );
+    }
+
+    /**
+     * 선택된 옵션을 포함한 단가 계산 (기본가 + 옵션 가격 합)
+     */
+    public Money unitPrice(List<OptionId> selectedOptionIds) {
+        BigDecimal unit = basePrice;
+        if (selectedOptionIds != null) {
+            for (OptionId optionId : selectedOptionIds) {
+                unit = unit.add(optionPrices[indexOf(optionId)]);
+            }
+        }
+        return Money.of(unit);
+    }
+
+    /**
+     * 라인 가격 계산 (단가 × 수량)
+     */
+    public Money linePrice(List<OptionId> selectedOptionIds, int quantity) {
+        return unitPrice(selectedOptionIds).multiply(quantity);
+    }
+
+    /**
+     * 주문 시점 옵션 스냅샷 생성
+     */
+    public List<SelectedOption> toSelectedOptions(List<OptionId> selectedOptionIds) {
+        if (selectedOptionIds == null || selectedOptionIds.isEmpty()) {
+            return List.of();
+        }
+        List<SelectedOption> snapshots = new ArrayList<>(selectedOptionIds.size());
+        for (OptionId optionId : selectedOptionIds) {
+            int index = indexOf(optionId);
+            snapshots.add(new SelectedOption(optionId, optionIds[index], optionPrices[index]));
+        }
+        return snapshots;
+    }
+
+    /**
+     * 선택된 옵션이 모두 현재 가격표에 있는지 여부
+     * 메뉴 옵션이 바뀌어 장바구니에 남은 옵션이 더 이상 없으면 false (조회 측에서 예외 없이 판매 불가 표시에 사용)
+     */
+    public boolean hasOptions(List<OptionId> selectedOptionIds) {
+        if (selectedOptionIds == null) {
+            return true;
+        }
+        for (OptionId optionId : selectedOptionIds) {
+            if (optionId == null || Arrays.binarySearch(optionIds, optionId.getValue()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(OptionId optionId) {
+        int index = optionId != null ? Arrays.binarySearch(optionIds, optionId.getValue()) : -1;
+        if (index < 0) {
+            throw new CartDomainException(CartErrorCode.INVALID_OPTION_SELECTION,
+                "메뉴에 존재하지 않는 옵션입니다: " + (optionId != null ? optionId.getValue() : null));
+        }
+        return index;
+    }
+
+    public MenuId getMenuId() {
+        return MenuId.of(menuId);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public Money getBasePrice() {
+        return Money.of(basePrice);
+    }
+
+    public int getOptionCount() {
+        return optionIds.length;
+    }
+
+    @Override
+    protected Object[] getEqualityComponents() {
+        return new Object[]{menuId, version};
+    }
+
+    @Override
+    protected boolean equalsByValue(Object other) {
+        if (!(other instanceof MenuPriceTable)) {
+            return false;
+        }
+        MenuPriceTable that = (MenuPriceTable) other;
+        return Objects.equals(this.menuId, that.menuId) &&
+               Objects.equals(this.version, that.version);
+    }
+
+    @Override
+    public String toString() {
+        return "MenuPriceTable{" +
+               "menuId='" + menuId + '\'' +
+               ", version='" + version + '\'' +
+               ", basePrice=" + basePrice +
+               ", optionCount=" + optionIds.length +
+               '}';
+    }
+}
@@ -0,0 +1,79 @@
+package harry.boilerplate.order.command.domain.valueObject;
+
+import harry.boilerplate.order.command.domain.exception.OrderDomainException;
+import harry.boilerplate.order.command.domain.exception.OrderErrorCode;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 주문 상태
+ * PLACED → ACCEPTED → PREPARING → READY → DELIVERING → COMPLETED 순으로 진행
+ * 조리 시작 전(PLACED, ACCEPTED)까지만 취소 가능
+ */
+public enum OrderStatus {
+
+    PLACED("주문 접수 대기"),
+    ACCEPTED("주문 접수"),
+    PREPARING("조리중"),
+    READY("조리 완료"),
+    DELIVERING("배달중"),
+    COMPLETED("배달 완료"),
+    CANCELLED("주문 취소");
+
+    private final String description;
+
+    OrderStatus(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 다음 상태로 전환 가능한지 확인
+     */
+    public boolean canTransitionTo(OrderStatus next) {
+        return next != null && nextStatuses().contains(next);
+    }
+
+    /**
+     * 더 이상 상태가 바뀌지 않는 종료 상태인지 확인
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == CANCELLED;
+    }
+
+    /**
+     * 가게 작업 큐에서 처리하는 상태인지 확인 (배달 시작 전)
+     */
+    public boolean isKitchenWork() {
+        return this == PLACED || this == ACCEPTED || this == PREPARING || this == READY;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 문자열로부터 주문 상태 변환 (대소문자 무시)
+     */
+    public static OrderStatus from(String value) {
+        if (value == null || value.isBlank()) {
+            throw new OrderDomainException(OrderErrorCode.INVALID_ORDER_STATUS);
+        }
+        try {
+            return OrderStatus.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new OrderDomainException(OrderErrorCode.INVALID_ORDER_STATUS, value);
+        }
+    }
+
+    private Set<OrderStatus> nextStatuses() {
+        return switch (this) {
+            case PLACED -> EnumSet.of(ACCEPTED, CANCELLED);
+            case ACCEPTED -> EnumSet.of(PREPARING, CANCELLED);
+            case PREPARING -> EnumSet.of(READY);
+            case READY -> EnumSet.of(DELIVERING);
+            case DELIVERING -> EnumSet.of(COMPLETED);
+            case COMPLETED, CANCELLED -> EnumSet.noneOf(OrderStatus.class);
+        };
+    }
+}
@@ -0,0 +1,162 @@
+package harry.boilerplate.order.command.infrastructure.external.shop;
+
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.MenuPriceTable;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 메뉴 가격표 캐시 (Command / Query 공용)
+ * (메뉴 ID, 메뉴 버전) 단위로 가격표를 메모이제이션하고, 버전 확인 주기(version-ttl) 안에서는 Shop Context 호출 없이 재사용
+ * 확인이 필요한 메뉴들은 옵션까지 포함해 한 번의 일괄 요청으로 조회
+ * 가격표와 버전 기록은 최근 사용 순(LRU)으로 최대 개수를 넘는 항목부터 제거
+ */
+@Component
+public class MenuPriceTableCache {
+
+    static final int MAX_PRICE_TABLES = 10_000;
+
+    private final ShopApiClient shopApiClient;
+    private final long versionTtlMillis;
+
+    private final Map<PriceTableKey, MenuPriceTable> priceTables = lruMap(MAX_PRICE_TABLES);
+    private final Map<String, VersionStamp> latestVersions = lruMap(MAX_PRICE_TABLES);
+
+    public MenuPriceTableCache(ShopApiClient shopApiClient,
+                               @Value("${order.pricing.version-ttl-millis:30000}") long versionTtlMillis) {
+        this.shopApiClient = shopApiClient;
+        this.versionTtlMillis = versionTtlMillis;
+    }
+
+    /**
+     * 여러 메뉴의 가격표를 일괄 조회
+     * 동일 메뉴는 한 번만 확인하며, 가격 정보를 찾을 수 없는 메뉴는 결과에서 제외
+     * 메모리에 없거나 버전 확인 주기가 지난 메뉴는 Shop Context에 한 번의 일괄 요청으로 조회
+     */
+    public Map<MenuId, MenuPriceTable> loadPriceTables(ShopId shopId, Collection<MenuId> menuIds) {
+        Map<MenuId, MenuPriceTable> result = new LinkedHashMap<>();
+        if (shopId == null || menuIds == null) {
+            return result;
+        }
+        long now = System.currentTimeMillis();
+
+        Set<MenuId> requested = new LinkedHashSet<>();
+        Map<MenuId, MenuPriceTable> resolved = new HashMap<>();
+        List<String> staleMenuIds = new ArrayList<>();
+        for (MenuId menuId : menuIds) {
+            if (menuId == null || !requested.add(menuId)) {
+                continue;
+            }
+            MenuPriceTable fresh = freshPriceTable(menuId, now);
+            if (fresh != null) {
+                resolved.put(menuId, fresh);
+            } else {
+                staleMenuIds.add(menuId.getValue());
+            }
+        }
+
+        if (!staleMenuIds.isEmpty()) {
+            for (ShopApiClient.MenuInfoResponse menu : shopApiClient.getMenus(shopId.getValue(), staleMenuIds)) {
+                MenuId menuId = MenuId.of(menu.getId());
+                resolved.put(menuId, refresh(shopId.getValue(), menuId, menu, now));
+            }
+        }
+
+        // 요청한 메뉴 순서 유지
+        for (MenuId menuId : requested) {
+            MenuPriceTable priceTable = resolved.get(menuId);
+            if (priceTable != null) {
+                result.put(menuId, priceTable);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 메모리에 보관 중인 가격표 수
+     */
+    int size() {
+        return priceTables.size();
+    }
+
+    /**
+     * 최근 확인한 버전이 유효 기간 안이면 메모리의 가격표 반환 (없으면 null)
+     */
+    private MenuPriceTable freshPriceTable(MenuId menuId, long now) {
+        VersionStamp stamp = latestVersions.get(menuId.getValue());
+        if (stamp != null && now - stamp.verifiedAt() < versionTtlMillis) {
+            return priceTables.get(new PriceTableKey(menuId.getValue(), stamp.version()));
+        }
+        return null;
+    }
+
+    /**
+     * Shop Context에서 받은 메뉴 정보로 가격표 갱신
+     * 버전이 같으면 기존 가격표를 재사용하고, 바뀌었거나 알 수 없으면 새로 생성
+     */
+    private MenuPriceTable refresh(String shopId, MenuId menuId, ShopApiClient.MenuInfoResponse menu, long now) {
+        VersionStamp stamp = latestVersions.get(menuId.getValue());
+        String version = menu.getVersion();
+        PriceTableKey key = new PriceTableKey(menuId.getValue(), version);
+        MenuPriceTable priceTable = version != null ? priceTables.get(key) : null;
+        if (priceTable == null) {
+            priceTable = buildPriceTable(shopId, menuId, menu);
+            if (stamp != null && !Objects.equals(stamp.version(), version)) {
+                priceTables.remove(new PriceTableKey(menuId.getValue(), stamp.version()));
+            }
+            priceTables.put(key, priceTable);
+        }
+        latestVersions.put(menuId.getValue(), new VersionStamp(version, now));
+        return priceTable;
+    }
+
+    private MenuPriceTable buildPriceTable(String shopId, MenuId menuId, ShopApiClient.MenuInfoResponse menu) {
+        // Order Context의 옵션 ID는 Shop Context의 옵션 이름에 대응
+        // 일괄 조회 응답에 옵션이 포함되어 있으면 추가 호출 없이 사용
+        List<ShopApiClient.OptionInfoResponse> options = menu.getOptions() != null
+            ? menu.getOptions()
+            : shopApiClient.getMenuOptions(shopId, menuId.getValue());
+        Map<String, BigDecimal> optionPrices = new LinkedHashMap<>();
+        for (ShopApiClient.OptionInfoResponse option : options) {
+            optionPrices.putIfAbsent(option.getName(), option.getPrice());
+        }
+        return MenuPriceTable.of(
+            menuId,
+            menu.getVersion(),
+            menu.getName(),
+            menu.getBasePrice() != null ? menu.getBasePrice() : BigDecimal.ZERO,
+            optionPrices
+        );
+    }
+
+    /**
+     * 최근 사용 순으로 정렬되어 최대 개수를 넘으면 가장 오래 쓰지 않은 항목을 제거하는 맵
+     */
+    private static <K, V> Map<K, V> lruMap(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    private record PriceTableKey(String menuId, String version) {
+    }
+
+    private record VersionStamp(String version, long verifiedAt) {
+    }
+}
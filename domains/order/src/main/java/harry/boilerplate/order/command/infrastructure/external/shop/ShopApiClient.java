@@ -1,6 +1,8 @@
 package harry.boilerplate.order.command.infrastructure.external.shop;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,6 +18,13 @@ public interface ShopApiClient {
      */
     boolean isShopOpen(String shopId);
 
+    /**
+     * 가게 영업 상태와 최소 주문금액을 한 번에 조회
+     * @param shopId 가게 ID
+     * @return 가게 정보 (가게를 찾을 수 없으면 영업하지 않고 최소 주문금액 0)
+     */
+    ShopInfoResponse getShop(String shopId);
+
     /**
      * 메뉴 기본 정보 조회 (이름, 기본가 등)
      * @param shopId 가게 ID
@@ -32,6 +41,21 @@ public interface ShopApiClient {
      */
     List<OptionInfoResponse> getMenuOptions(String shopId, String menuId);
 
+    /**
+     * 여러 메뉴의 기본 정보와 옵션을 한 번에 조회
+     * @param shopId 가게 ID
+     * @param menuIds 메뉴 ID 목록
+     * @return 메뉴 정보 목록 (옵션 포함, 존재하지 않는 메뉴는 제외)
+     */
+    List<MenuInfoResponse> getMenus(String shopId, Collection<String> menuIds);
+
+    /**
+     * 가게 디렉터리 조회 (가게 이름, 최소 주문금액)
+     * @param updatedSince 이 시각 이후(포함) 변경된 가게만 조회, null이면 전체
+     * @return 변경 시각 오름차순의 가게 디렉터리 항목
+     */
+    List<ShopDirectoryEntryResponse> getShopDirectory(Instant updatedSince);
+
     /**
      * 메뉴 정보 응답
      */
@@ -41,13 +65,27 @@ public interface ShopApiClient {
         private final String description;
         private final BigDecimal basePrice;
         private final boolean open;
+        private final String version;
+        private final List<OptionInfoResponse> options;
 
         public MenuInfoResponse(String id, String name, String description, BigDecimal basePrice, boolean open) {
+            this(id, name, description, basePrice, open, null);
+        }
+
+        public MenuInfoResponse(String id, String name, String description, BigDecimal basePrice, boolean open,
+                                String version) {
+            this(id, name, description, basePrice, open, version, null);
+        }
+
+        public MenuInfoResponse(String id, String name, String description, BigDecimal basePrice, boolean open,
+                                String version, List<OptionInfoResponse> options) {
             this.id = id;
             this.name = name;
             this.description = description;
             this.basePrice = basePrice;
             this.open = open;
+            this.version = version;
+            this.options = options != null ? List.copyOf(options) : null;
         }
 
         public String getId() { return id; }
@@ -55,6 +93,10 @@ public interface ShopApiClient {
         public String getDescription() { return description; }
         public BigDecimal getBasePrice() { return basePrice; }
         public boolean isOpen() { return open; }
+        /** 메뉴 버전 (Shop Context의 메뉴 수정 시각, 없으면 null) */
+        public String getVersion() { return version; }
+        /** 함께 조회된 옵션 목록 (옵션 없이 조회한 경우 null) */
+        public List<OptionInfoResponse> getOptions() { return options; }
     }
 
     /**
@@ -72,8 +114,43 @@ public interface ShopApiClient {
         public String getName() { return name; }
         public BigDecimal getPrice() { return price; }
     }
-}
 
+    /**
+     * 가게 정보 응답
+     */
+    class ShopInfoResponse {
+        private final boolean open;
+        private final BigDecimal minOrderAmount;
+
+        public ShopInfoResponse(boolean open, BigDecimal minOrderAmount) {
+            this.open = open;
+            this.minOrderAmount = minOrderAmount != null ? minOrderAmount : BigDecimal.ZERO;
+        }
 
+        public boolean isOpen() { return open; }
+        public BigDecimal getMinOrderAmount() { return minOrderAmount; }
+    }
+
+    /**
+     * 가게 디렉터리 항목 응답
+     */
+    class ShopDirectoryEntryResponse {
+        private final String id;
+        private final String name;
+        private final BigDecimal minOrderAmount;
+        private final Instant updatedAt;
 
+        public ShopDirectoryEntryResponse(String id, String name, BigDecimal minOrderAmount, Instant updatedAt) {
+            this.id = id;
+            this.name = name;
+            this.minOrderAmount = minOrderAmount;
+            this.updatedAt = updatedAt;
+        }
 
+        public String getId() { return id; }
+        public String getName() { return name; }
+        public BigDecimal getMinOrderAmount() { return minOrderAmount; }
+        /** 가게 정보 변경 시각 (없으면 null) */
+        public Instant getUpdatedAt() { return updatedAt; }
+    }
+}
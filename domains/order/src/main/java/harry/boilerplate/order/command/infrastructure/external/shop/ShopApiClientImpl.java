@@ -8,8 +8,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,6 +33,11 @@ public class ShopApiClientImpl implements ShopApiClient {
 
     @Override
     public boolean isShopOpen(String shopId) {
+        return getShop(shopId).isOpen();
+    }
+
+    @Override
+    public ShopInfoResponse getShop(String shopId) {
         String url = String.format("%s/api/shops/%s", baseUrl, shopId);
 
         ResponseEntity<ShopEnvelope> response;
@@ -52,10 +61,10 @@ public class ShopApiClientImpl implements ShopApiClient {
 
         ShopEnvelope body = response.getBody();
         if (body == null || body.getShop() == null) {
-            return false;
+            return new ShopInfoResponse(false, BigDecimal.ZERO);
         }
-        Object open = body.getShop().getOpen();
-        return parseBoolean(open);
+        ShopDto shop = body.getShop();
+        return new ShopInfoResponse(parseBoolean(shop.getOpen()), toBigDecimal(shop.getMinOrderAmount()));
     }
 
     @Override
@@ -90,7 +99,9 @@ public class ShopApiClientImpl implements ShopApiClient {
         BigDecimal basePrice = toBigDecimal(menu.getBasePrice());
         boolean open = parseBoolean(menu.getOpen());
 
-        return new MenuInfoResponse(menu.getId(), menu.getName(), menu.getDescription(), basePrice, open);
+        String version = menu.getUpdatedAt() != null ? menu.getUpdatedAt().toString() : null;
+
+        return new MenuInfoResponse(menu.getId(), menu.getName(), menu.getDescription(), basePrice, open, version);
     }
 
     @Override
@@ -121,7 +132,98 @@ public class ShopApiClientImpl implements ShopApiClient {
             return List.of();
         }
 
-        MenuDto menu = body.getMenu();
+        return toOptions(body.getMenu());
+    }
+
+    @Override
+    public List<MenuInfoResponse> getMenus(String shopId, Collection<String> menuIds) {
+        if (menuIds == null || menuIds.isEmpty()) {
+            return List.of();
+        }
+        // 메뉴 ID는 경로·쿼리 문자열로 인코딩하여 전달 (ID에 예약 문자가 있어도 요청이 깨지지 않도록)
+        URI url = UriComponentsBuilder.fromUriString(baseUrl)
+            .path("/api/shops/{shopId}/menus")
+            .queryParam("ids", String.join(",", menuIds))
+            .buildAndExpand(shopId)
+            .encode()
+            .toUri();
+
+        ResponseEntity<MenusEnvelope> response;
+        int attempts = 0;
+        while (true) {
+            try {
+                response = restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<MenusEnvelope>() {}
+                );
+                break;
+            } catch (RestClientException e) {
+                if (++attempts >= 2) {
+                    throw e;
+                }
+                try { Thread.sleep(200); } catch (InterruptedException ignored) { Thread.currentThread().interrupt(); }
+            }
+        }
+
+        MenusEnvelope body = response.getBody();
+        if (body == null || body.getMenus() == null) {
+            return List.of();
+        }
+
+        return body.getMenus().stream()
+            .map(menu -> new MenuInfoResponse(
+                menu.getId(),
+                menu.getName(),
+                menu.getDescription(),
+                toBigDecimal(menu.getBasePrice()),
+                parseBoolean(menu.getOpen()),
+                menu.getUpdatedAt() != null ? menu.getUpdatedAt().toString() : null,
+                toOptions(menu)))
+            .toList();
+    }
+
+    @Override
+    public List<ShopDirectoryEntryResponse> getShopDirectory(Instant updatedSince) {
+        String url = updatedSince != null
+            ? String.format("%s/api/shops/directory?updatedSince=%s", baseUrl, updatedSince)
+            : String.format("%s/api/shops/directory", baseUrl);
+
+        ResponseEntity<DirectoryEnvelope> response;
+        int attempts = 0;
+        while (true) {
+            try {
+                response = restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<DirectoryEnvelope>() {}
+                );
+                break;
+            } catch (RestClientException e) {
+                if (++attempts >= 2) {
+                    throw e;
+                }
+                try { Thread.sleep(200); } catch (InterruptedException ignored) { Thread.currentThread().interrupt(); }
+            }
+        }
+
+        DirectoryEnvelope body = response.getBody();
+        if (body == null || body.getShops() == null) {
+            return List.of();
+        }
+
+        return body.getShops().stream()
+            .map(shop -> new ShopDirectoryEntryResponse(
+                shop.getId(),
+                shop.getName(),
+                shop.getMinOrderAmount() != null ? toBigDecimal(shop.getMinOrderAmount()) : null,
+                toInstant(shop.getUpdatedAt())))
+            .toList();
+    }
+
+    private List<OptionInfoResponse> toOptions(MenuDto menu) {
         List<OptionGroupDto> groups = menu.getOptionGroups();
         if (groups == null) return List.of();
 
@@ -145,6 +247,19 @@ public class ShopApiClientImpl implements ShopApiClient {
         return new BigDecimal(value.toString());
     }
 
+    /**
+     * Instant 직렬화 형식(ISO-8601 문자열 또는 epoch 초)에 관계없이 변환
+     */
+    private Instant toInstant(Object value) {
+        if (value == null) return null;
+        if (value instanceof Number) {
+            BigDecimal seconds = new BigDecimal(value.toString());
+            return Instant.ofEpochSecond(seconds.longValue(),
+                seconds.remainder(BigDecimal.ONE).movePointRight(9).longValue());
+        }
+        return Instant.parse(value.toString());
+    }
+
     @JsonIgnoreProperties(ignoreUnknown = true)
     @SuppressWarnings("unused")
     private static class ShopEnvelope {
@@ -158,9 +273,39 @@ public class ShopApiClientImpl implements ShopApiClient {
     @SuppressWarnings("unused")
     private static class ShopDto {
         private Object open;
+        private Object minOrderAmount;
 
         public Object getOpen() { return open; }
         public void setOpen(Object open) { this.open = open; }
+        public Object getMinOrderAmount() { return minOrderAmount; }
+        public void setMinOrderAmount(Object minOrderAmount) { this.minOrderAmount = minOrderAmount; }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @SuppressWarnings("unused")
+    private static class DirectoryEnvelope {
+        private List<DirectoryShopDto> shops;
+
+        public List<DirectoryShopDto> getShops() { return shops; }
+        public void setShops(List<DirectoryShopDto> shops) { this.shops = shops; }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @SuppressWarnings("unused")
+    private static class DirectoryShopDto {
+        private String id;
+        private String name;
+        private Object minOrderAmount;
+        private Object updatedAt;
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public Object getMinOrderAmount() { return minOrderAmount; }
+        public void setMinOrderAmount(Object minOrderAmount) { this.minOrderAmount = minOrderAmount; }
+        public Object getUpdatedAt() { return updatedAt; }
+        public void setUpdatedAt(Object updatedAt) { this.updatedAt = updatedAt; }
     }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -172,6 +317,15 @@ public class ShopApiClientImpl implements ShopApiClient {
         public void setMenu(MenuDto menu) { this.menu = menu; }
     }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @SuppressWarnings("unused")
+    private static class MenusEnvelope {
+        private List<MenuDto> menus;
+
+        public List<MenuDto> getMenus() { return menus; }
+        public void setMenus(List<MenuDto> menus) { this.menus = menus; }
+    }
+
     @JsonIgnoreProperties(ignoreUnknown = true)
     @SuppressWarnings("unused")
     private static class MenuDto {
@@ -181,6 +335,7 @@ public class ShopApiClientImpl implements ShopApiClient {
         private Object basePrice;
         private Object open;
         private List<OptionGroupDto> optionGroups;
+        private Object updatedAt;
 
         public String getId() { return id; }
         public void setId(String id) { this.id = id; }
@@ -194,6 +349,8 @@ public class ShopApiClientImpl implements ShopApiClient {
         public void setOpen(Object open) { this.open = open; }
         public List<OptionGroupDto> getOptionGroups() { return optionGroups; }
         public void setOptionGroups(List<OptionGroupDto> optionGroups) { this.optionGroups = optionGroups; }
+        public Object getUpdatedAt() { return updatedAt; }
+        public void setUpdatedAt(Object updatedAt) { this.updatedAt = updatedAt; }
     }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -4,87 +4,118 @@ import harry.boilerplate.order.command.domain.aggregate.Cart;
 import harry.boilerplate.order.command.domain.aggregate.CartRepository;
 import harry.boilerplate.order.command.domain.valueObject.CartId;
 import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
+/**
+ * 장바구니 리포지토리 구현체
+ * 장바구니는 사용자 해시로 결정된 샤드에 저장되며, ID로만 조회하는 경우 샤드를 탐색
+ */
 @Repository
 @Transactional
 public class CartRepositoryImpl implements CartRepository {
 
+    private static final String EXISTS_SQL = "SELECT 1 FROM cart WHERE id = ?";
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CartRepositoryImpl(ShardRouter shardRouter, ApplicationEventPublisher eventPublisher) {
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
+    }
+
     @Override
     public void save(Cart cart) {
         if (cart == null) throw new IllegalArgumentException("Cart cannot be null");
-        if (existsById(cart.getId())) {
-            entityManager.merge(cart);
-        } else {
-            entityManager.persist(cart);
-        }
-        entityManager.flush();
+        shardRouter.onShardOf(cart.getUserId(), () -> {
+            if (existsById(cart.getId())) {
+                entityManager.merge(cart);
+            } else {
+                entityManager.persist(cart);
+            }
+            entityManager.flush();
+        });
+        cart.getDomainEvents().forEach(eventPublisher::publishEvent);
+        cart.clearDomainEvents();
     }
 
     @Override
     public Cart findById(CartId cartId) {
         if (cartId == null) throw new IllegalArgumentException("CartId cannot be null");
-        try {
-            return entityManager.createQuery(
-                "SELECT c FROM Cart c WHERE c.id = :id", Cart.class)
-                .setParameter("id", cartId.getValue())
-                .getSingleResult();
-        } catch (NoResultException e) {
-            return null;
-        }
+        return shardRouter.onShardLocating(EXISTS_SQL, cartId.getValue(), () -> {
+            try {
+                return entityManager.createQuery(
+                    "SELECT c FROM Cart c WHERE c.id = :id", Cart.class)
+                    .setParameter("id", cartId.getValue())
+                    .getSingleResult();
+            } catch (NoResultException e) {
+                return null;
+            }
+        }, () -> null);
     }
 
     @Override
     public Cart findByUserId(UserId userId) {
         if (userId == null) throw new IllegalArgumentException("UserId cannot be null");
-        try {
-            return entityManager.createQuery(
-                "SELECT c FROM Cart c WHERE c.userId = :userId ORDER BY c.updatedAt DESC", Cart.class)
-                .setParameter("userId", userId.getValue())
-                .setMaxResults(1)
-                .getSingleResult();
-        } catch (NoResultException e) {
-            return null;
-        }
+        return shardRouter.onShardOf(userId, () -> {
+            try {
+                return entityManager.createQuery(
+                    "SELECT c FROM Cart c WHERE c.userId = :userId ORDER BY c.updatedAt DESC", Cart.class)
+                    .setParameter("userId", userId.getValue())
+                    .setMaxResults(1)
+                    .getSingleResult();
+            } catch (NoResultException e) {
+                return null;
+            }
+        });
     }
 
     @Override
     public boolean existsById(CartId cartId) {
         if (cartId == null) return false;
-        Long count = entityManager.createQuery(
-            "SELECT COUNT(c) FROM Cart c WHERE c.id = :id", Long.class)
-            .setParameter("id", cartId.getValue())
-            .getSingleResult();
-        return count > 0;
+        return shardRouter.onShardLocating(EXISTS_SQL, cartId.getValue(), () -> {
+            Long count = entityManager.createQuery(
+                "SELECT COUNT(c) FROM Cart c WHERE c.id = :id", Long.class)
+                .setParameter("id", cartId.getValue())
+                .getSingleResult();
+            return count > 0;
+        }, () -> false);
     }
 
     @Override
     public void delete(Cart cart) {
         if (cart == null) throw new IllegalArgumentException("Cart cannot be null");
-        Cart managed = entityManager.find(Cart.class, cart.getId().getValue());
-        if (managed != null) {
-            entityManager.remove(managed);
-            entityManager.flush();
-        }
+        shardRouter.onShardOf(cart.getUserId(), () -> {
+            Cart managed = entityManager.find(Cart.class, cart.getId().getValue());
+            if (managed != null) {
+                entityManager.remove(managed);
+                entityManager.flush();
+            }
+        });
     }
 
     @Override
     public void deleteById(CartId cartId) {
         if (cartId == null) throw new IllegalArgumentException("CartId cannot be null");
-        Cart managed = entityManager.find(Cart.class, cartId.getValue());
-        if (managed != null) {
-            entityManager.remove(managed);
-            entityManager.flush();
-        }
+        shardRouter.onShardLocating(EXISTS_SQL, cartId.getValue(), () -> {
+            Cart managed = entityManager.find(Cart.class, cartId.getValue());
+            if (managed != null) {
+                entityManager.remove(managed);
+                entityManager.flush();
+            }
+            return null;
+        }, () -> null);
     }
 
     @Override
@@ -100,20 +131,24 @@ public class CartRepositoryImpl implements CartRepository {
     @Override
     public boolean existsByUserId(UserId userId) {
         if (userId == null) return false;
-        Long count = entityManager.createQuery(
-            "SELECT COUNT(c) FROM Cart c WHERE c.userId = :userId", Long.class)
-            .setParameter("userId", userId.getValue())
-            .getSingleResult();
-        return count > 0;
+        return shardRouter.onShardOf(userId, () -> {
+            Long count = entityManager.createQuery(
+                "SELECT COUNT(c) FROM Cart c WHERE c.userId = :userId", Long.class)
+                .setParameter("userId", userId.getValue())
+                .getSingleResult();
+            return count > 0;
+        });
     }
 
     @Override
     public void deleteByUserId(UserId userId) {
         if (userId == null) throw new IllegalArgumentException("UserId cannot be null");
-        entityManager.createQuery("DELETE FROM Cart c WHERE c.userId = :userId")
-            .setParameter("userId", userId.getValue())
-            .executeUpdate();
-        entityManager.flush();
+        shardRouter.onShardOf(userId, () -> {
+            entityManager.createQuery("DELETE FROM Cart c WHERE c.userId = :userId")
+                .setParameter("userId", userId.getValue())
+                .executeUpdate();
+            entityManager.flush();
+        });
     }
 }
 
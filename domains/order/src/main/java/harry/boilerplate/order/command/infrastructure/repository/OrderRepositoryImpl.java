@@ -3,75 +3,129 @@ package harry.boilerplate.order.command.infrastructure.repository;
 import harry.boilerplate.order.command.domain.aggregate.Order;
 import harry.boilerplate.order.command.domain.aggregate.OrderRepository;
 import harry.boilerplate.order.command.domain.valueObject.OrderId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
 import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * 주문 리포지토리 구현체
+ * 주문은 주문한 사용자의 해시로 결정된 샤드에 저장되며, ID로만 조회하는 경우 샤드를 탐색
+ * 저장 시 애그리게이트에 쌓인 도메인 이벤트를 발행 (리스너는 커밋 이후 처리)
+ */
 @Repository
 @Transactional
 public class OrderRepositoryImpl implements OrderRepository {
 
+    private static final String EXISTS_SQL = "SELECT 1 FROM order_table WHERE id = ?";
+
+    // (shop_id, status, order_time) 인덱스를 타고 잠그지 않고 선점 후보만 읽음
+    private static final String CLAIM_CANDIDATES_SQL =
+        "SELECT id, order_time FROM order_table " +
+        "WHERE shop_id = :shopId AND status = :status " +
+        "AND (claim_expires_at IS NULL OR claim_expires_at < :now) " +
+        "ORDER BY order_time " +
+        "LIMIT :limit";
+
+    // 고른 후보 중 아직 선점되지 않은 주문만 잠그고, 다른 작업자가 잠근 행은 건너뜀
+    private static final String CLAIM_SQL =
+        "SELECT id FROM order_table " +
+        "WHERE id IN (:ids) AND status = :status " +
+        "AND (claim_expires_at IS NULL OR claim_expires_at < :now) " +
+        "FOR UPDATE SKIP LOCKED";
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OrderRepositoryImpl(ShardRouter shardRouter, ApplicationEventPublisher eventPublisher) {
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
+    }
+
     @Override
     public void save(Order order) {
         if (order == null) throw new IllegalArgumentException("Order cannot be null");
-        if (existsById(order.getId())) {
-            entityManager.merge(order);
-        } else {
-            entityManager.persist(order);
-        }
-        entityManager.flush();
+        shardRouter.onShardOf(order.getUserId(), () -> {
+            if (existsById(order.getId())) {
+                entityManager.merge(order);
+            } else {
+                entityManager.persist(order);
+            }
+            entityManager.flush();
+        });
+        order.getDomainEvents().forEach(eventPublisher::publishEvent);
+        order.clearDomainEvents();
     }
 
     @Override
     public Order findById(OrderId orderId) {
         if (orderId == null) throw new IllegalArgumentException("OrderId cannot be null");
-        try {
-            return entityManager.createQuery(
-                "SELECT o FROM Order o WHERE o.id = :id", Order.class)
-                .setParameter("id", orderId.getValue())
-                .getSingleResult();
-        } catch (NoResultException e) {
-            return null;
-        }
+        return shardRouter.onShardLocating(EXISTS_SQL, orderId.getValue(), () -> {
+            try {
+                return entityManager.createQuery(
+                    "SELECT o FROM Order o WHERE o.id = :id", Order.class)
+                    .setParameter("id", orderId.getValue())
+                    .getSingleResult();
+            } catch (NoResultException e) {
+                return null;
+            }
+        }, () -> null);
     }
 
     @Override
     public boolean existsById(OrderId orderId) {
         if (orderId == null) return false;
-        Long count = entityManager.createQuery(
-            "SELECT COUNT(o) FROM Order o WHERE o.id = :id", Long.class)
-            .setParameter("id", orderId.getValue())
-            .getSingleResult();
-        return count > 0;
+        return shardRouter.onShardLocating(EXISTS_SQL, orderId.getValue(), () -> {
+            Long count = entityManager.createQuery(
+                "SELECT COUNT(o) FROM Order o WHERE o.id = :id", Long.class)
+                .setParameter("id", orderId.getValue())
+                .getSingleResult();
+            return count > 0;
+        }, () -> false);
     }
 
     @Override
     public void delete(Order order) {
         if (order == null) throw new IllegalArgumentException("Order cannot be null");
-        Order managed = entityManager.find(Order.class, order.getId().getValue());
-        if (managed != null) {
-            entityManager.remove(managed);
-            entityManager.flush();
-        }
+        shardRouter.onShardOf(order.getUserId(), () -> {
+            Order managed = entityManager.find(Order.class, order.getId().getValue());
+            if (managed != null) {
+                entityManager.remove(managed);
+                entityManager.flush();
+            }
+        });
     }
 
     @Override
     public void deleteById(OrderId orderId) {
         if (orderId == null) throw new IllegalArgumentException("OrderId cannot be null");
-        Order managed = entityManager.find(Order.class, orderId.getValue());
-        if (managed != null) {
-            entityManager.remove(managed);
-            entityManager.flush();
-        }
+        shardRouter.onShardLocating(EXISTS_SQL, orderId.getValue(), () -> {
+            Order managed = entityManager.find(Order.class, orderId.getValue());
+            if (managed != null) {
+                entityManager.remove(managed);
+                entityManager.flush();
+            }
+            return null;
+        }, () -> null);
     }
 
     @Override
@@ -82,11 +136,102 @@ public class OrderRepositoryImpl implements OrderRepository {
     @Override
     public List<Order> findByUserId(UserId userId) {
         if (userId == null) throw new IllegalArgumentException("UserId cannot be null");
-        return entityManager.createQuery(
+        return shardRouter.onShardOf(userId, () -> entityManager.createQuery(
             "SELECT o FROM Order o WHERE o.userId = :userId ORDER BY o.orderTime DESC", Order.class)
             .setParameter("userId", userId.getValue())
+            .getResultList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Order> claimOrders(ShopId shopId, OrderStatus status, String claimant, int limit,
+                                   LocalDateTime now, LocalDateTime leaseUntil) {
+        if (shopId == null) throw new IllegalArgumentException("ShopId cannot be null");
+        if (status == null) throw new IllegalArgumentException("OrderStatus cannot be null");
+
+        // 가게 주문은 모든 샤드에 흩어져 있으므로 샤드마다 오래된 후보를 최대 limit개씩 읽고,
+        // 모든 샤드를 합쳐 가장 오래된 limit개를 고른 뒤 샤드마다 짧은 트랜잭션으로 선점
+        // (앞 샤드부터 채우면 뒤 샤드의 더 오래된 주문이 계속 밀림)
+        List<List<ClaimCandidate>> candidates = shardRouter.scatterGather(shardId ->
+            findClaimCandidates(shardId, shopId, status, limit, now));
+
+        List<Order> claimed = new ArrayList<>();
+        selectOldest(candidates, limit).forEach((shardId, ids) ->
+            claimed.addAll(shardRouter.inShardTransaction(shardId, () ->
+                claimOnCurrentShard(ids, status, claimant, now, leaseUntil))));
+        claimed.sort(Comparator.comparing(Order::getOrderTime));
+        return claimed;
+    }
+
+    /**
+     * 샤드별 선점 후보를 합쳐 주문 시각이 가장 오래된 limit개를 골라 샤드별로 나눔
+     */
+    static Map<String, List<String>> selectOldest(List<List<ClaimCandidate>> candidatesPerShard, int limit) {
+        List<ClaimCandidate> merged = new ArrayList<>();
+        candidatesPerShard.forEach(merged::addAll);
+        merged.sort(Comparator.comparing(ClaimCandidate::orderTime).thenComparing(ClaimCandidate::orderId));
+
+        Map<String, List<String>> selected = new LinkedHashMap<>();
+        for (ClaimCandidate candidate : merged.subList(0, Math.min(limit, merged.size()))) {
+            selected.computeIfAbsent(candidate.shardId(), shardId -> new ArrayList<>()).add(candidate.orderId());
+        }
+        return selected;
+    }
+
+    private List<ClaimCandidate> findClaimCandidates(String shardId, ShopId shopId, OrderStatus status, int limit,
+                                                     LocalDateTime now) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(CLAIM_CANDIDATES_SQL)
+            .setParameter("shopId", shopId.getValue())
+            .setParameter("status", status.name())
+            .setParameter("now", now)
+            .setParameter("limit", limit)
             .getResultList();
+
+        List<ClaimCandidate> candidates = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            candidates.add(new ClaimCandidate(shardId, (String) row[0], toLocalDateTime(row[1])));
+        }
+        return candidates;
     }
-}
 
+    /**
+     * 후보 중 그 사이 다른 작업자가 선점하지 않은 주문만 잠가 선점
+     * 겹친 주문은 건너뛰므로 요청보다 적게 선점될 수 있으며, 남은 주문은 다음 요청에서 선점
+     */
+    private List<Order> claimOnCurrentShard(List<String> candidateIds, OrderStatus status, String claimant,
+                                            LocalDateTime now, LocalDateTime leaseUntil) {
+        @SuppressWarnings("unchecked")
+        List<String> ids = entityManager.createNativeQuery(CLAIM_SQL)
+            .setParameter("ids", candidateIds)
+            .setParameter("status", status.name())
+            .setParameter("now", now)
+            .getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 잠근 주문을 라인 아이템과 함께 로드 후 선점 (커밋 시 반영)
+        List<Order> orders = entityManager.createQuery(
+            "SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id IN :ids", Order.class)
+            .setParameter("ids", ids)
+            .getResultList();
+        for (Order order : orders) {
+            order.claim(claimant, now, leaseUntil);
+        }
+        return orders;
+    }
 
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    /**
+     * 선점 후보 (잠그지 않고 읽은 주문)
+     */
+    record ClaimCandidate(String shardId, String orderId, LocalDateTime orderTime) {
+    }
+}
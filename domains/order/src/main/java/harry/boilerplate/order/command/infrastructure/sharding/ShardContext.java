@@ -0,0 +1,77 @@
+package harry.boilerplate.order.command.infrastructure.sharding;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 샤드 컨텍스트
+ * 트랜잭션 안에서 처음 지정된 샤드는 트랜잭션 종료 시까지 유지되며,
+ * 같은 트랜잭션에서 다른 샤드로 전환하려 하면 예외 발생 (샤드 간 트랜잭션 미지원)
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * 현재 샤드 ID (지정되지 않았으면 null)
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 지정한 샤드에서 작업 실행
+     */
+    public static <T> T callInShard(String shardId, Supplier<T> action) {
+        if (shardId == null) {
+            throw new IllegalArgumentException("샤드 ID는 필수입니다");
+        }
+
+        String previous = CURRENT.get();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (previous == null) {
+                bindToTransaction(shardId);
+            } else if (!previous.equals(shardId)) {
+                throw new IllegalStateException(
+                    "하나의 트랜잭션에서 여러 샤드에 접근할 수 없습니다: " + previous + " → " + shardId);
+            }
+            return action.get();
+        }
+
+        CURRENT.set(shardId);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 지정한 샤드에서 작업 실행 (반환값 없음)
+     */
+    public static void runInShard(String shardId, Runnable action) {
+        callInShard(shardId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private static void bindToTransaction(String shardId) {
+        CURRENT.set(shardId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                CURRENT.remove();
+            }
+        });
+    }
+}
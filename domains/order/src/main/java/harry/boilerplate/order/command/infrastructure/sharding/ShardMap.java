@@ -0,0 +1,177 @@
+package harry.boilerplate.order.command.infrastructure.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * 사용자 해시 범위 → 샤드 매핑 (불변)
+ * 32비트 해시 공간 [0, 2^32)을 시작값 기준의 연속 구간으로 나누어 각 구간을 하나의 샤드에 할당
+ * 샤드 추가는 기존 구간을 분할하여 뒤쪽 절반을 새 샤드에 할당하는 방식으로 수행
+ * 분할은 매핑만 바꾸고 데이터는 옮기지 않으므로, 새 샤드로 넘어가는 구간에 데이터가 없을 때만 유효함
+ * (데이터가 있으면 먼저 새 샤드로 복사한 뒤 매핑을 바꿔야 하며, 기동 시 ShardRangeVerifier가 구간 밖 데이터를 확인)
+ */
+public final class ShardMap {
+
+    public static final long HASH_SPACE = 1L << 32;
+
+    private final long[] rangeStarts;
+    private final String[] shardIds;
+
+    private ShardMap(long[] rangeStarts, String[] shardIds) {
+        this.rangeStarts = rangeStarts;
+        this.shardIds = shardIds;
+    }
+
+    /**
+     * 단일 샤드 매핑 (샤딩 비활성화 시 사용)
+     */
+    public static ShardMap single(String shardId) {
+        return of(Map.of(0L, shardId));
+    }
+
+    /**
+     * 구간 시작값 → 샤드 ID 매핑으로 생성
+     * 첫 구간은 반드시 0에서 시작해야 하며, 각 구간은 다음 구간의 시작 직전까지 이어짐
+     */
+    public static ShardMap of(Map<Long, String> rangeStartToShard) {
+        if (rangeStartToShard == null || rangeStartToShard.isEmpty()) {
+            throw new IllegalArgumentException("샤드 구간은 최소 1개 이상이어야 합니다");
+        }
+        TreeMap<Long, String> sorted = new TreeMap<>(rangeStartToShard);
+        if (sorted.firstKey() != 0L) {
+            throw new IllegalArgumentException("첫 샤드 구간은 0에서 시작해야 합니다");
+        }
+        if (sorted.lastKey() >= HASH_SPACE) {
+            throw new IllegalArgumentException("샤드 구간 시작값이 해시 범위를 벗어났습니다: " + sorted.lastKey());
+        }
+
+        long[] starts = new long[sorted.size()];
+        String[] ids = new String[sorted.size()];
+        int index = 0;
+        for (Map.Entry<Long, String> entry : sorted.entrySet()) {
+            if (entry.getValue() == null || entry.getValue().isBlank()) {
+                throw new IllegalArgumentException("샤드 ID는 필수입니다");
+            }
+            starts[index] = entry.getKey();
+            ids[index] = entry.getValue();
+            index++;
+        }
+        return new ShardMap(starts, ids);
+    }
+
+    /**
+     * 라우팅 키의 안정적인 32비트 해시 (CRC32, 0 ~ 2^32-1)
+     */
+    public static long hash(String routingKey) {
+        CRC32 crc = new CRC32();
+        crc.update(routingKey.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * 라우팅 키가 속한 샤드 ID
+     */
+    public String shardFor(String routingKey) {
+        if (routingKey == null) {
+            throw new IllegalArgumentException("라우팅 키는 필수입니다");
+        }
+        return shardForHash(hash(routingKey));
+    }
+
+    /**
+     * 해시 값이 속한 샤드 ID
+     */
+    public String shardForHash(long hash) {
+        int index = Arrays.binarySearch(rangeStarts, hash);
+        if (index < 0) {
+            index = -index - 2; // 삽입 위치 바로 앞 구간
+        }
+        return shardIds[index];
+    }
+
+    /**
+     * 지정한 위치에서 구간을 분할하여 뒤쪽 구간을 새 샤드에 할당한 매핑 반환
+     * 분할 지점은 기존 구간의 내부여야 하며, 뒤쪽 구간에 데이터가 없어야 함 (기존 데이터는 옮겨지지 않음)
+     */
+    public ShardMap split(long at, String newShardId) {
+        if (at <= 0 || at >= HASH_SPACE) {
+            throw new IllegalArgumentException("분할 지점이 해시 범위를 벗어났습니다: " + at);
+        }
+        if (Arrays.binarySearch(rangeStarts, at) >= 0) {
+            throw new IllegalArgumentException("이미 구간의 시작값입니다: " + Long.toHexString(at));
+        }
+        TreeMap<Long, String> next = toMap();
+        next.put(at, newShardId);
+        return of(next);
+    }
+
+    /**
+     * 지정한 시작값의 구간을 반으로 나누어 뒤쪽 절반을 새 샤드에 할당한 매핑 반환
+     * 뒤쪽 절반에 데이터가 없어야 함 (split 참고)
+     */
+    public ShardMap splitInHalf(long rangeStart, String newShardId) {
+        int index = Arrays.binarySearch(rangeStarts, rangeStart);
+        if (index < 0) {
+            throw new IllegalArgumentException("존재하지 않는 구간입니다: " + Long.toHexString(rangeStart));
+        }
+        long end = index + 1 < rangeStarts.length ? rangeStarts[index + 1] : HASH_SPACE;
+        if (end - rangeStart < 2) {
+            throw new IllegalArgumentException("더 이상 분할할 수 없는 구간입니다: " + Long.toHexString(rangeStart));
+        }
+        return split(rangeStart + (end - rangeStart) / 2, newShardId);
+    }
+
+    /**
+     * 매핑에 포함된 샤드 ID 목록 (구간 순서)
+     */
+    public Set<String> shardIds() {
+        return new LinkedHashSet<>(Arrays.asList(shardIds));
+    }
+
+    /**
+     * 구간 목록
+     */
+    public List<Range> ranges() {
+        List<Range> ranges = new ArrayList<>(rangeStarts.length);
+        for (int i = 0; i < rangeStarts.length; i++) {
+            long end = i + 1 < rangeStarts.length ? rangeStarts[i + 1] : HASH_SPACE;
+            ranges.add(new Range(rangeStarts[i], end, shardIds[i]));
+        }
+        return ranges;
+    }
+
+    private TreeMap<Long, String> toMap() {
+        TreeMap<Long, String> map = new TreeMap<>();
+        for (int i = 0; i < rangeStarts.length; i++) {
+            map.put(rangeStarts[i], shardIds[i]);
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ShardMap{");
+        for (Range range : ranges()) {
+            builder.append(range).append(' ');
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * 해시 구간 [start, end) → 샤드
+     */
+    public record Range(long start, long end, String shardId) {
+
+        @Override
+        public String toString() {
+            return "[" + Long.toHexString(start) + ", " + Long.toHexString(end) + ")=" + shardId;
+        }
+    }
+}
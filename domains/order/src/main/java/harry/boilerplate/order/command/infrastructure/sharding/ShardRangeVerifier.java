@@ -0,0 +1,70 @@
+package harry.boilerplate.order.command.infrastructure.sharding;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 샤드 구간 검증
+ * 구간을 분할하여 새 샤드에 할당해도 기존 데이터는 옮겨지지 않으므로, 분할은 새 샤드로 넘어가는 구간에 데이터가 없을 때만 유효함
+ * 기동 시 샤드마다 자기 구간 밖의 사용자 데이터(주문, 장바구니)가 있는지 확인하고, 있으면 라우팅이 그 데이터를 찾지 못하므로 기동을 중단
+ * 사용자 ID 인덱스를 훑으므로 데이터가 많으면 기동이 느려질 수 있음 (order.sharding.verify-ranges=false로 끔)
+ * MySQL CRC32()는 ShardMap.hash와 같은 값을 돌려줌 (utf8mb4 사용자 ID 기준)
+ */
+public class ShardRangeVerifier {
+
+    // 사용자 해시로 샤드가 정해지는 테이블
+    static final List<String> USER_TABLES = List.of("order_table", "cart");
+
+    private final ShardMap shardMap;
+    private final ShardRoutingDataSource routingDataSource;
+
+    public ShardRangeVerifier(ShardMap shardMap, ShardRoutingDataSource routingDataSource) {
+        this.shardMap = shardMap;
+        this.routingDataSource = routingDataSource;
+    }
+
+    /**
+     * 모든 샤드에 자기 구간 밖의 사용자 데이터가 없는지 확인
+     * @throws IllegalStateException 다른 구간의 데이터가 남아 있는 경우 (데이터를 옮긴 뒤 구간을 나눠야 함)
+     */
+    public void verify() {
+        for (String shardId : shardMap.shardIds()) {
+            List<ShardMap.Range> owned = shardMap.ranges().stream()
+                .filter(range -> range.shardId().equals(shardId))
+                .toList();
+            DataSource dataSource = routingDataSource.getShardDataSource(shardId);
+            for (String table : USER_TABLES) {
+                String misplaced = findMisplacedUser(dataSource, table, owned);
+                if (misplaced != null) {
+                    throw new IllegalStateException(String.format(
+                        "샤드 %s의 %s에 다른 구간의 사용자 데이터가 있습니다 (user_id=%s, 해시 %s → %s). " +
+                        "데이터가 있는 구간은 분할할 수 없으며, 데이터를 새 샤드로 옮긴 뒤 구간을 변경해야 합니다",
+                        shardId, table, misplaced, Long.toHexString(ShardMap.hash(misplaced)),
+                        shardMap.shardFor(misplaced)));
+                }
+            }
+        }
+    }
+
+    /**
+     * 샤드 구간 밖의 사용자 하나 조회 (없으면 null)
+     */
+    private static String findMisplacedUser(DataSource dataSource, String table, List<ShardMap.Range> owned) {
+        String ownedCondition = owned.stream()
+            .map(range -> "(CRC32(user_id) >= " + range.start() + " AND CRC32(user_id) < " + range.end() + ")")
+            .collect(Collectors.joining(" OR "));
+        String sql = "SELECT user_id FROM " + table + " WHERE NOT (" + ownedCondition + ") LIMIT 1";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        } catch (SQLException e) {
+            throw new IllegalStateException("샤드 구간 검증 실패: " + table, e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package harry.boilerplate.order.command.infrastructure.sharding;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 해시 기반 샤드 라우터
+ * - 사용자 단위 작업은 UserId 해시로 결정된 샤드에서 실행
+ * - 사용자 키가 없는 관리용 조회는 모든 샤드에 병렬로 실행 후 결과를 모음 (scatter-gather)
+ */
+public class ShardRouter implements AutoCloseable {
+
+    private final ShardMap shardMap;
+    private final ShardRoutingDataSource routingDataSource;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final long scatterTimeoutMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * @param shardMap             해시 구간 → 샤드 매핑
+     * @param routingDataSource    샤드 라우팅 DataSource (단일 샤드면 null)
+     * @param readOnlyTransaction  샤드별 병렬 조회에 사용할 읽기 전용 트랜잭션 (없으면 트랜잭션 없이 실행)
+     * @param writeTransaction     샤드별 쓰기 작업에 사용할 트랜잭션 (없으면 트랜잭션 없이 실행)
+     * @param scatterTimeoutMillis 병렬 조회 대기 시간
+     */
+    public ShardRouter(ShardMap shardMap, ShardRoutingDataSource routingDataSource,
+                       TransactionTemplate readOnlyTransaction, TransactionTemplate writeTransaction,
+                       long scatterTimeoutMillis) {
+        this.shardMap = shardMap;
+        this.routingDataSource = routingDataSource;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.writeTransaction = writeTransaction;
+        this.scatterTimeoutMillis = scatterTimeoutMillis;
+    }
+
+    /**
+     * 사용자가 속한 샤드 ID
+     */
+    public String shardOf(UserId userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다");
+        }
+        return shardMap.shardFor(userId.getValue());
+    }
+
+    /**
+     * 사용자가 속한 샤드에서 작업 실행
+     */
+    public <T> T onShardOf(UserId userId, Supplier<T> action) {
+        return ShardContext.callInShard(shardOf(userId), action);
+    }
+
+    /**
+     * 사용자가 속한 샤드에서 작업 실행 (반환값 없음)
+     */
+    public void onShardOf(UserId userId, Runnable action) {
+        ShardContext.runInShard(shardOf(userId), action);
+    }
+
+    /**
+     * 여러 샤드로 나뉘어 있는지 여부
+     */
+    public boolean isSharded() {
+        return routingDataSource != null && shardMap.shardIds().size() > 1;
+    }
+
+    public ShardMap getShardMap() {
+        return shardMap;
+    }
+
+    /**
+     * 모든 샤드에서 병렬로 조회 후 샤드별 결과 반환 (구간 순서)
+     * 각 샤드 조회는 별도 스레드에서 독립된 읽기 전용 트랜잭션으로 실행
+     */
+    public <T> List<T> scatterGather(Function<String, T> perShard) {
+        if (!isSharded()) {
+            String shardId = shardMap.shardIds().iterator().next();
+            return List.of(ShardContext.callInShard(shardId, () -> perShard.apply(shardId)));
+        }
+
+        Map<String, Future<T>> futures = new LinkedHashMap<>();
+        for (String shardId : shardMap.shardIds()) {
+            futures.put(shardId, executor.submit(() -> ShardContext.callInShard(shardId, () ->
+                readOnlyTransaction != null
+                    ? readOnlyTransaction.execute(status -> perShard.apply(shardId))
+                    : perShard.apply(shardId))));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scatterTimeoutMillis);
+        List<T> results = new ArrayList<>(futures.size());
+        for (Map.Entry<String, Future<T>> entry : futures.entrySet()) {
+            results.add(await(entry.getKey(), entry.getValue(), deadline, futures));
+        }
+        return results;
+    }
+
+    /**
+     * 지정한 샤드에서 독립된 쓰기 트랜잭션으로 작업 실행
+     * 호출 스레드의 샤드/트랜잭션과 섞이지 않도록 별도 스레드에서 실행 후 결과를 기다림
+     */
+    public <T> T inShardTransaction(String shardId, Supplier<T> action) {
+        Future<T> future = executor.submit(() -> ShardContext.callInShard(shardId, () ->
+            writeTransaction != null
+                ? writeTransaction.execute(status -> action.get())
+                : action.get()));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scatterTimeoutMillis);
+        return await(shardId, future, deadline, Map.of(shardId, future));
+    }
+
+    /**
+     * 사용자 키 없이 ID로 저장된 샤드 탐색
+     * 모든 샤드에 존재 여부 조회(sql의 파라미터는 ID 1개)를 병렬로 실행하여 처음 발견된 샤드 반환
+     */
+    public Optional<String> locate(String existsSql, String id) {
+        if (!isSharded()) {
+            return Optional.of(shardMap.shardIds().iterator().next());
+        }
+
+        Map<String, Future<Boolean>> futures = new LinkedHashMap<>();
+        for (String shardId : shardMap.shardIds()) {
+            DataSource dataSource = routingDataSource.getShardDataSource(shardId);
+            futures.put(shardId, executor.submit(() -> exists(dataSource, existsSql, id)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scatterTimeoutMillis);
+        for (Map.Entry<String, Future<Boolean>> entry : futures.entrySet()) {
+            if (Boolean.TRUE.equals(await(entry.getKey(), entry.getValue(), deadline, futures))) {
+                return Optional.of(entry.getKey());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * ID로 샤드를 찾아 작업 실행, 찾지 못하면 notFound 결과 반환
+     */
+    public <T> T onShardLocating(String existsSql, String id, Supplier<T> action, Supplier<T> notFound) {
+        String current = ShardContext.current();
+        if (current != null) {
+            // 이미 샤드가 정해진 트랜잭션에서는 해당 샤드에서만 조회
+            return ShardContext.callInShard(current, action);
+        }
+        return locate(existsSql, id)
+            .map(shardId -> ShardContext.callInShard(shardId, action))
+            .orElseGet(notFound);
+    }
+
+    private static boolean exists(DataSource dataSource, String sql, String id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private <T> T await(String shardId, Future<T> future, long deadlineNanos, Map<String, ? extends Future<?>> all) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            all.values().forEach(f -> f.cancel(true));
+            throw new IllegalStateException("샤드 조회 시간 초과: " + shardId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            all.values().forEach(f -> f.cancel(true));
+            throw new IllegalStateException("샤드 조회 중단: " + shardId, e);
+        } catch (ExecutionException e) {
+            all.values().forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("샤드 조회 실패: " + shardId, e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
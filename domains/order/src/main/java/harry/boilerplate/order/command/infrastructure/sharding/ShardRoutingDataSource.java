@@ -0,0 +1,47 @@
+package harry.boilerplate.order.command.infrastructure.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 샤드 라우팅 DataSource
+ * ShardContext의 현재 샤드에 해당하는 DataSource로 커넥션 요청을 위임
+ * 샤드가 지정되지 않은 경우 기본 샤드(해시 구간 0의 샤드)를 사용
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Map<String, DataSource> shardDataSources;
+
+    public ShardRoutingDataSource(Map<String, DataSource> shardDataSources, String defaultShardId) {
+        if (shardDataSources == null || shardDataSources.isEmpty()) {
+            throw new IllegalArgumentException("샤드 DataSource는 최소 1개 이상이어야 합니다");
+        }
+        if (!shardDataSources.containsKey(defaultShardId)) {
+            throw new IllegalArgumentException("기본 샤드의 DataSource가 없습니다: " + defaultShardId);
+        }
+        this.shardDataSources = Map.copyOf(shardDataSources);
+        setTargetDataSources(new LinkedHashMap<>(shardDataSources));
+        setDefaultTargetDataSource(shardDataSources.get(defaultShardId));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    /**
+     * 샤드별 DataSource (샤드 직접 조회용)
+     */
+    public DataSource getShardDataSource(String shardId) {
+        DataSource dataSource = shardDataSources.get(shardId);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("존재하지 않는 샤드입니다: " + shardId);
+        }
+        return dataSource;
+    }
+}
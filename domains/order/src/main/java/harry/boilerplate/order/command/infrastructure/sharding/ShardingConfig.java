@@ -0,0 +1,118 @@
+package harry.boilerplate.order.command.infrastructure.sharding;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주문/장바구니 저장소 샤딩 설정
+ * order.sharding.enabled=false(기본값)이면 spring.datasource 단일 DB를 하나의 샤드로 사용
+ * 읽기 복제본 라우팅(replication.enabled)과 동시에 켜면 기동 시 실패 (ShardingEnabledCondition)
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    public static final String DEFAULT_SHARD = "default";
+
+    @Bean
+    public ShardMap shardMap(ShardingProperties properties) {
+        if (!properties.isEnabled()) {
+            return ShardMap.single(DEFAULT_SHARD);
+        }
+
+        Map<Long, String> rangeStarts = new LinkedHashMap<>();
+        for (ShardingProperties.Range range : properties.getRanges()) {
+            rangeStarts.put(Long.parseLong(range.getStart(), 16), range.getShard());
+        }
+        ShardMap shardMap = ShardMap.of(rangeStarts);
+
+        for (String shardId : shardMap.shardIds()) {
+            boolean configured = properties.getShards().stream().anyMatch(shard -> shardId.equals(shard.getId()));
+            if (!configured) {
+                throw new IllegalStateException("샤드 접속 정보가 없습니다: " + shardId);
+            }
+        }
+        return shardMap;
+    }
+
+    /**
+     * 샤드별 DataSource를 묶은 라우팅 DataSource
+     */
+    @Bean
+    @Conditional(ShardingEnabledCondition.class)
+    public ShardRoutingDataSource shardRoutingDataSource(
+            ShardingProperties properties,
+            ShardMap shardMap,
+            @Value("${spring.datasource.username:}") String defaultUsername,
+            @Value("${spring.datasource.password:}") String defaultPassword,
+            @Value("${spring.datasource.driver-class-name:}") String defaultDriverClassName) {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            dataSources.put(shard.getId(), DataSourceBuilder.create()
+                .url(shard.getUrl())
+                .username(shard.getUsername() != null ? shard.getUsername() : defaultUsername)
+                .password(shard.getPassword() != null ? shard.getPassword() : defaultPassword)
+                .driverClassName(shard.getDriverClassName() != null ? shard.getDriverClassName() : defaultDriverClassName)
+                .build());
+        }
+        return new ShardRoutingDataSource(dataSources, shardMap.shardForHash(0));
+    }
+
+    /**
+     * 샤드 구간 검증 (verify-ranges=true면 생성 시 구간 밖 데이터를 확인하여 있으면 기동 중단)
+     */
+    @Bean
+    @Conditional(ShardingEnabledCondition.class)
+    public ShardRangeVerifier shardRangeVerifier(ShardMap shardMap, ShardRoutingDataSource shardRoutingDataSource,
+                                                 ShardingProperties properties) {
+        ShardRangeVerifier verifier = new ShardRangeVerifier(shardMap, shardRoutingDataSource);
+        if (properties.isVerifyRanges()) {
+            verifier.verify();
+        }
+        return verifier;
+    }
+
+    /**
+     * JPA가 사용하는 기본 DataSource
+     * 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 얻어, 리포지토리가 지정한 샤드로 라우팅되도록 함
+     */
+    @Bean
+    @Primary
+    @Conditional(ShardingEnabledCondition.class)
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardMap shardMap,
+                                   ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource,
+                                   PlatformTransactionManager transactionManager,
+                                   ShardingProperties properties) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        TransactionTemplate writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new ShardRouter(
+            shardMap,
+            shardRoutingDataSource.getIfAvailable(),
+            readOnlyTransaction,
+            writeTransaction,
+            properties.getScatterTimeoutMillis()
+        );
+    }
+}
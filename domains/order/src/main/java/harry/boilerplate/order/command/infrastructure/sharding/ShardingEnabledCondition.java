@@ -0,0 +1,25 @@
+package harry.boilerplate.order.command.infrastructure.sharding;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * 샤딩 DataSource 등록 조건 (order.sharding.enabled=true)
+ * 샤딩과 읽기 복제본 라우팅(replication.enabled)은 둘 다 기본 DataSource(@Primary dataSource)를 등록하므로
+ * 함께 켜져 있으면 빈 이름 충돌로 원인을 알기 어려운 오류가 나기 전에 설정 단계에서 기동을 중단
+ */
+public class ShardingEnabledCondition implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        Environment environment = context.getEnvironment();
+        boolean sharding = environment.getProperty("order.sharding.enabled", Boolean.class, false);
+        if (sharding && environment.getProperty("replication.enabled", Boolean.class, false)) {
+            throw new IllegalStateException(
+                "order.sharding.enabled와 replication.enabled는 함께 사용할 수 없습니다 (샤드별 복제본 라우팅은 지원하지 않음)");
+        }
+        return sharding;
+    }
+}
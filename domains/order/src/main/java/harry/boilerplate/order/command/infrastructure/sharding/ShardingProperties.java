@@ -0,0 +1,83 @@
+package harry.boilerplate.order.command.infrastructure.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 샤딩 설정 (order.sharding.*)
+ * <pre>
+ * order:
+ *   sharding:
+ *     enabled: true
+ *     shards:
+ *       - id: shard-0
+ *         url: jdbc:mysql://localhost:3307/food_delivery_db
+ *       - id: shard-1
+ *         url: jdbc:mysql://localhost:3308/food_delivery_db
+ *     ranges:            # 해시 구간 시작값(16진수) → 샤드, 다음 구간 시작 직전까지 적용
+ *       - start: "0"
+ *         shard: shard-0
+ *       - start: "80000000"
+ *         shard: shard-1
+ * </pre>
+ * 샤드 추가 시 기존 구간 사이에 새 시작값을 넣어 구간을 분할 (예: "c0000000" → shard-2)
+ * 분할은 새 샤드로 넘어가는 구간에 데이터가 없을 때만 가능하며, 데이터가 있으면 먼저 새 샤드로 복사한 뒤 구간을 변경해야 함
+ * verify-ranges(기본 true)이면 기동 시 샤드마다 자기 구간 밖의 사용자 데이터가 있는지 확인하고 있으면 기동을 중단
+ */
+@ConfigurationProperties(prefix = "order.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+    private long scatterTimeoutMillis = 5000;
+    private boolean verifyRanges = true;
+    private List<Shard> shards = new ArrayList<>();
+    private List<Range> ranges = new ArrayList<>();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public long getScatterTimeoutMillis() { return scatterTimeoutMillis; }
+    public void setScatterTimeoutMillis(long scatterTimeoutMillis) { this.scatterTimeoutMillis = scatterTimeoutMillis; }
+    public boolean isVerifyRanges() { return verifyRanges; }
+    public void setVerifyRanges(boolean verifyRanges) { this.verifyRanges = verifyRanges; }
+    public List<Shard> getShards() { return shards; }
+    public void setShards(List<Shard> shards) { this.shards = shards; }
+    public List<Range> getRanges() { return ranges; }
+    public void setRanges(List<Range> ranges) { this.ranges = ranges; }
+
+    /**
+     * 샤드 접속 정보 (username, password, driverClassName은 생략 시 spring.datasource 값 사용)
+     */
+    public static class Shard {
+        private String id;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+        public String getDriverClassName() { return driverClassName; }
+        public void setDriverClassName(String driverClassName) { this.driverClassName = driverClassName; }
+    }
+
+    /**
+     * 해시 구간 (시작값은 16진수 문자열)
+     */
+    public static class Range {
+        private String start;
+        private String shard;
+
+        public String getStart() { return start; }
+        public void setStart(String start) { this.start = start; }
+        public String getShard() { return shard; }
+        public void setShard(String shard) { this.shard = shard; }
+    }
+}
@@ -1,7 +1,9 @@
 package harry.boilerplate.order.command.presentation.controller;
 
 import harry.boilerplate.common.response.CommandResultResponse;
+import harry.boilerplate.order.command.application.dto.UpdateOrderStatusCommand;
 import harry.boilerplate.order.command.application.handler.PlaceOrderCommandHandler;
+import harry.boilerplate.order.command.application.handler.UpdateOrderStatusCommandHandler;
 import harry.boilerplate.order.command.presentation.dto.PlaceOrderRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,9 +26,12 @@ import jakarta.validation.Valid;
 public class OrderCommandController {
     
     private final PlaceOrderCommandHandler placeOrderCommandHandler;
+    private final UpdateOrderStatusCommandHandler updateOrderStatusCommandHandler;
     
-    public OrderCommandController(PlaceOrderCommandHandler placeOrderCommandHandler) {
+    public OrderCommandController(PlaceOrderCommandHandler placeOrderCommandHandler,
+                                  UpdateOrderStatusCommandHandler updateOrderStatusCommandHandler) {
         this.placeOrderCommandHandler = placeOrderCommandHandler;
+        this.updateOrderStatusCommandHandler = updateOrderStatusCommandHandler;
     }
     
     /**
@@ -95,32 +100,38 @@ public class OrderCommandController {
     
     /**
      * 주문 상태 변경
-     * Requirements: 6.6 (향후 구현 예정)
+     * Requirements: 6.6
      */
     @PutMapping("/{orderId}/status")
     @Operation(
         summary = "주문 상태 변경",
-        description = "주문의 상태를 변경합니다. (예: 접수, 조리중, 배송중, 완료 등)"
+        description = "주문의 상태를 변경합니다. (PLACED → ACCEPTED → PREPARING → READY → DELIVERING → COMPLETED, 조리 전 CANCELLED) " +
+            "가게 작업 전환은 주문을 선점한 작업자나 주문 가게의 점주(X-Shop-Id)만, 취소는 주문한 사용자만 요청할 수 있습니다. " +
+            "다른 작업자가 선점 중인 주문은 변경할 수 없으며, 변경 후 선점은 해제됩니다."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "주문 상태 변경 성공"),
-        @ApiResponse(responseCode = "400", description = "잘못된 상태 변경 요청"),
+        @ApiResponse(responseCode = "400", description = "잘못된 상태 변경 요청 (허용되지 않은 전환, 다른 작업자가 선점 중 등)"),
         @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음"),
-        @ApiResponse(responseCode = "403", description = "상태 변경 권한 없음"),
+        @ApiResponse(responseCode = "403", description = "상태 변경 권한 없음 (선점하지 않은 작업자, 다른 가게, 주문자가 아닌 취소 요청)"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     public ResponseEntity<CommandResultResponse> updateOrderStatus(
-            @Parameter(description = "사용자 ID", required = true, example = "user-123")
+            @Parameter(description = "요청자 ID (작업 큐에서 주문을 선점한 작업자, 취소는 주문한 사용자)", required = true, example = "tablet-1")
             @RequestHeader("X-User-Id") String userId,
+            @Parameter(description = "요청자가 인증된 가게 ID (가게 점주 요청)", example = "shop-456")
+            @RequestHeader(value = "X-Shop-Id", required = false) String shopId,
             @Parameter(description = "주문 ID", required = true, example = "order-789")
             @PathVariable String orderId,
             @Parameter(description = "새로운 주문 상태", required = true, example = "PREPARING")
             @RequestParam String status) {
         
-        // TODO: UpdateOrderStatusCommandHandler 구현 필요
-        // 현재는 기본 응답만 반환
+        // Command Handler 호출
+        updateOrderStatusCommandHandler.handle(new UpdateOrderStatusCommand(orderId, userId, status, shopId));
+        
         CommandResultResponse response = CommandResultResponse.success(
-            "주문 상태가 변경되었습니다"
+            "주문 상태가 변경되었습니다",
+            orderId
         );
         
         return ResponseEntity.ok(response);
@@ -0,0 +1,62 @@
+package harry.boilerplate.order.command.presentation.controller;
+
+import harry.boilerplate.order.command.application.dto.ClaimOrdersCommand;
+import harry.boilerplate.order.command.application.dto.ClaimOrdersResult;
+import harry.boilerplate.order.command.application.handler.ClaimOrdersCommandHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 가게 주문 작업 큐 API Controller
+ * 주방 태블릿이 처리할 주문을 선점
+ */
+@RestController
+@RequestMapping("/api/v1/shops/{shopId}/order-queue")
+@Tag(name = "Shop Order Queue API", description = "가게 주문 작업 큐 API")
+public class ShopOrderQueueController {
+    
+    private final ClaimOrdersCommandHandler claimOrdersCommandHandler;
+    
+    public ShopOrderQueueController(ClaimOrdersCommandHandler claimOrdersCommandHandler) {
+        this.claimOrdersCommandHandler = claimOrdersCommandHandler;
+    }
+    
+    /**
+     * 주문 선점
+     */
+    @PostMapping("/claims")
+    @Operation(
+        summary = "주문 선점",
+        description = "지정한 상태의 주문을 오래된 순으로 최대 size개 선점합니다. " +
+            "다른 작업자가 선점 중인 주문은 건너뛰며, 선점 시간이 지나면 다른 작업자가 다시 선점할 수 있습니다. " +
+            "X-Shop-Id가 경로의 가게 ID와 같아야 합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "주문 선점 성공 (선점할 주문이 없으면 빈 목록)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (작업자 ID 누락, 큐에서 처리하지 않는 상태 등)"),
+        @ApiResponse(responseCode = "403", description = "선점 권한 없음 (X-Shop-Id 누락 또는 다른 가게)"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<ClaimOrdersResult> claimOrders(
+            @Parameter(description = "가게 ID", required = true, example = "shop-001")
+            @PathVariable String shopId,
+            @Parameter(description = "작업자 ID (주방 태블릿 등)", required = true, example = "tablet-1")
+            @RequestHeader("X-Worker-Id") String workerId,
+            @Parameter(description = "요청자가 속한 가게 ID", example = "shop-001")
+            @RequestHeader(value = "X-Shop-Id", required = false) String requesterShopId,
+            @Parameter(description = "선점할 주문 상태 (PLACED, ACCEPTED, PREPARING, READY)", example = "PLACED")
+            @RequestParam(defaultValue = "PLACED") String status,
+            @Parameter(description = "선점할 최대 주문 수", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        
+        ClaimOrdersResult result = claimOrdersCommandHandler.handle(
+            new ClaimOrdersCommand(shopId, workerId, status, size, requesterShopId));
+        
+        return ResponseEntity.ok(result);
+    }
+}
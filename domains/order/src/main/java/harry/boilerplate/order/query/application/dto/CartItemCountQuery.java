@@ -0,0 +1,18 @@
+package harry.boilerplate.order.query.application.dto;
+
+/**
+ * 장바구니 아이템 개수 조회 Query
+ * Requirements: 5.5
+ */
+public class CartItemCountQuery {
+    
+    private final String userId;
+    
+    public CartItemCountQuery(String userId) {
+        this.userId = userId;
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,18 @@
+package harry.boilerplate.order.query.application.dto;
+
+/**
+ * 장바구니 아이템 개수 조회 결과 (장바구니가 없으면 0)
+ * Requirements: 5.5
+ */
+public class CartItemCountResult {
+    
+    private final int count;
+    
+    public CartItemCountResult(int count) {
+        this.count = count;
+    }
+    
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,55 @@
+package harry.boilerplate.order.query.application.dto;
+
+import harry.boilerplate.order.query.application.readModel.CartSummaryReadModel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 장바구니 변경 스트림 메시지 (장바구니 배지 갱신용 아이템 개수·총 수량·총 금액)
+ */
+public class CartStreamMessage {
+
+    private final int itemCount;
+    private final int totalQuantity;
+    private final BigDecimal totalPrice;
+    private final Instant updatedAt;
+
+    public CartStreamMessage(int itemCount, int totalQuantity, BigDecimal totalPrice, Instant updatedAt) {
+        this.itemCount = itemCount;
+        this.totalQuantity = totalQuantity;
+        this.totalPrice = totalPrice;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 장바구니 요약 조회 결과로부터 생성 (장바구니가 없으면 빈 장바구니)
+     */
+    public static CartStreamMessage from(CartSummaryResult result) {
+        if (result == null || result.isEmpty()) {
+            return new CartStreamMessage(0, 0, BigDecimal.ZERO, null);
+        }
+        CartSummaryReadModel summary = result.getCartSummary();
+        return new CartStreamMessage(summary.getItemCount(), summary.getTotalQuantity(),
+            summary.getTotalPrice(), summary.getUpdatedAt());
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public int getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    /**
+     * 장바구니 마지막 변경 시각 (장바구니가 없으면 null)
+     */
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,27 @@
+package harry.boilerplate.order.query.application.dto;
+
+/**
+ * 가게 실시간 주문 현황 조회 Query
+ * 최근 5/15/60분 집계와 최근 minutes분의 분당 집계
+ */
+public class LiveOrderRateQuery {
+
+    private final String shopId;
+    private final int minutes;
+
+    public LiveOrderRateQuery(String shopId, int minutes) {
+        this.shopId = shopId;
+        this.minutes = minutes;
+    }
+
+    public String getShopId() {
+        return shopId;
+    }
+
+    /**
+     * 분당 집계를 돌려줄 최근 분 수
+     */
+    public int getMinutes() {
+        return minutes;
+    }
+}
@@ -0,0 +1,46 @@
+package harry.boilerplate.order.query.application.dto;
+
+import harry.boilerplate.order.query.application.readModel.MinuteOrderRateReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderRateWindowReadModel;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 가게 실시간 주문 현황 조회 결과
+ * 최근 N분 집계와 분당 집계 (분당 집계는 오래된 분부터, 주문 없는 분은 0)
+ */
+public class LiveOrderRateResult {
+
+    private final String shopId;
+    private final Instant asOf;
+    private final List<OrderRateWindowReadModel> windows;
+    private final List<MinuteOrderRateReadModel> perMinute;
+
+    public LiveOrderRateResult(String shopId, Instant asOf, List<OrderRateWindowReadModel> windows,
+                               List<MinuteOrderRateReadModel> perMinute) {
+        this.shopId = shopId;
+        this.asOf = asOf;
+        this.windows = List.copyOf(windows);
+        this.perMinute = List.copyOf(perMinute);
+    }
+
+    public String getShopId() {
+        return shopId;
+    }
+
+    /**
+     * 집계 기준 시각
+     */
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    public List<OrderRateWindowReadModel> getWindows() {
+        return windows;
+    }
+
+    public List<MinuteOrderRateReadModel> getPerMinute() {
+        return perMinute;
+    }
+}
@@ -0,0 +1,31 @@
+package harry.boilerplate.order.query.application.dto;
+
+import java.util.List;
+
+/**
+ * 함께 주문한 메뉴 추천 조회 Query (장바구니에 담은 메뉴 기준)
+ */
+public class MenuSuggestionQuery {
+
+    private final String shopId;
+    private final List<String> menuIds;
+    private final int limit;
+
+    public MenuSuggestionQuery(String shopId, List<String> menuIds, int limit) {
+        this.shopId = shopId;
+        this.menuIds = menuIds != null ? List.copyOf(menuIds) : List.of();
+        this.limit = limit;
+    }
+
+    public String getShopId() {
+        return shopId;
+    }
+
+    public List<String> getMenuIds() {
+        return menuIds;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
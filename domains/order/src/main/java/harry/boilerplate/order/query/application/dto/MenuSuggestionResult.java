@@ -0,0 +1,27 @@
+package harry.boilerplate.order.query.application.dto;
+
+import harry.boilerplate.order.query.application.readModel.MenuSuggestionReadModel;
+
+import java.util.List;
+
+/**
+ * 함께 주문한 메뉴 추천 조회 결과 (점수가 높은 순)
+ */
+public class MenuSuggestionResult {
+
+    private final String shopId;
+    private final List<MenuSuggestionReadModel> suggestions;
+
+    public MenuSuggestionResult(String shopId, List<MenuSuggestionReadModel> suggestions) {
+        this.shopId = shopId;
+        this.suggestions = List.copyOf(suggestions);
+    }
+
+    public String getShopId() {
+        return shopId;
+    }
+
+    public List<MenuSuggestionReadModel> getSuggestions() {
+        return suggestions;
+    }
+}
@@ -0,0 +1,68 @@
+package harry.boilerplate.order.query.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 내보내기 재개 지점
+ * 마지막으로 내보낸 주문의 (샤드, orderTime, orderId)를 불투명 토큰으로 인코딩
+ * 내보내기는 샤드 순서대로, 샤드 안에서는 (orderTime, orderId) 순으로 진행되므로 이 위치 다음부터 이어서 내보낼 수 있음
+ */
+public class OrderExportCheckpoint {
+
+    private static final String SEPARATOR = "|";
+
+    private final String shardId;
+    private final LocalDateTime orderTime;
+    private final String orderId;
+
+    public OrderExportCheckpoint(String shardId, LocalDateTime orderTime, String orderId) {
+        if (shardId == null || shardId.isBlank() || orderTime == null || orderId == null || orderId.isBlank()) {
+            throw new IllegalArgumentException("재개 지점에는 샤드, 주문 시간, 주문 ID가 필요합니다");
+        }
+        this.shardId = shardId;
+        this.orderTime = orderTime;
+        this.orderId = orderId;
+    }
+
+    /**
+     * 토큰을 재개 지점으로 변환
+     */
+    public static OrderExportCheckpoint decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("재개 지점 토큰이 비어 있습니다");
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                .split("\\" + SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("유효하지 않은 재개 지점 토큰입니다");
+            }
+            return new OrderExportCheckpoint(parts[0], LocalDateTime.parse(parts[1]), parts[2]);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 재개 지점 토큰입니다");
+        }
+    }
+
+    /**
+     * 재개 지점을 URL에 그대로 쓸 수 있는 토큰으로 변환
+     */
+    public String encode() {
+        String raw = shardId + SEPARATOR + orderTime + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getShardId() {
+        return shardId;
+    }
+
+    public LocalDateTime getOrderTime() {
+        return orderTime;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+}
@@ -0,0 +1,41 @@
+package harry.boilerplate.order.query.application.dto;
+
+/**
+ * 주문 내보내기 형식
+ */
+public enum OrderExportFormat {
+    
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+    
+    private final String contentType;
+    private final String extension;
+    
+    OrderExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+    
+    /**
+     * 요청 파라미터 값으로 형식 조회 (대소문자 무시)
+     */
+    public static OrderExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        for (OrderExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,49 @@
+package harry.boilerplate.order.query.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 Query
+ * shopId가 없으면 전체 주문, [from, to) 기간이 없으면 전체 기간
+ * checkpoint가 있으면 해당 위치 다음 주문부터 이어서 내보냄
+ */
+public class OrderExportQuery {
+    
+    private final String shopId;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final OrderExportFormat format;
+    private final OrderExportCheckpoint checkpoint;
+    
+    public OrderExportQuery(String shopId, LocalDateTime from, LocalDateTime to,
+                            OrderExportFormat format, OrderExportCheckpoint checkpoint) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("내보내기 시작 시각은 종료 시각보다 앞서야 합니다");
+        }
+        this.shopId = shopId != null && !shopId.isBlank() ? shopId : null;
+        this.from = from;
+        this.to = to;
+        this.format = format != null ? format : OrderExportFormat.NDJSON;
+        this.checkpoint = checkpoint;
+    }
+    
+    public String getShopId() {
+        return shopId;
+    }
+    
+    public LocalDateTime getFrom() {
+        return from;
+    }
+    
+    public LocalDateTime getTo() {
+        return to;
+    }
+    
+    public OrderExportFormat getFormat() {
+        return format;
+    }
+    
+    public OrderExportCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+}
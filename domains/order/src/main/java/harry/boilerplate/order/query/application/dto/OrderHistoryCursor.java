@@ -0,0 +1,72 @@
+package harry.boilerplate.order.query.application.dto;
+
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 이력 키셋 페이징 커서
+ * 마지막으로 조회한 주문의 (orderTime, orderId)를 클라이언트가 해석하지 않는 불투명 토큰으로 인코딩
+ */
+public class OrderHistoryCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime orderTime;
+    private final String orderId;
+
+    public OrderHistoryCursor(LocalDateTime orderTime, String orderId) {
+        if (orderTime == null || orderId == null || orderId.isBlank()) {
+            throw new IllegalArgumentException("커서에는 주문 시간과 주문 ID가 필요합니다");
+        }
+        this.orderTime = orderTime;
+        this.orderId = orderId;
+    }
+
+    /**
+     * 페이지의 마지막 주문 위치로 커서 생성
+     */
+    public static OrderHistoryCursor after(OrderHistoryReadModel lastOrder) {
+        return new OrderHistoryCursor(lastOrder.getOrderTime(), lastOrder.getOrderId());
+    }
+
+    /**
+     * 토큰을 커서로 변환
+     */
+    public static OrderHistoryCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("커서 토큰이 비어 있습니다");
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서 토큰입니다");
+            }
+            return new OrderHistoryCursor(
+                LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                raw.substring(separatorIndex + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서 토큰입니다");
+        }
+    }
+
+    /**
+     * 커서를 URL에 그대로 쓸 수 있는 토큰으로 변환
+     */
+    public String encode() {
+        String raw = orderTime + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getOrderTime() {
+        return orderTime;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+}
@@ -2,6 +2,7 @@ package harry.boilerplate.order.query.application.dto;
 
 /**
  * 주문 이력 조회 Query
+ * cursor가 있으면 키셋 페이징, 없으면 page 기반 오프셋 페이징
  * Requirements: 6.3
  */
 public class OrderHistoryQuery {
@@ -9,11 +10,17 @@ public class OrderHistoryQuery {
     private final String userId;
     private final int page;
     private final int size;
+    private final String cursor;
     
     public OrderHistoryQuery(String userId, int page, int size) {
+        this(userId, page, size, null);
+    }
+    
+    public OrderHistoryQuery(String userId, int page, int size, String cursor) {
         this.userId = userId;
         this.page = Math.max(0, page); // 최소 0
         this.size = Math.min(Math.max(1, size), 100); // 1~100 범위
+        this.cursor = cursor != null && !cursor.isBlank() ? cursor : null;
     }
     
     public OrderHistoryQuery(String userId) {
@@ -35,4 +42,12 @@ public class OrderHistoryQuery {
     public int getOffset() {
         return page * size;
     }
+    
+    public String getCursor() {
+        return cursor;
+    }
+    
+    public boolean isCursorPaging() {
+        return cursor != null;
+    }
 }
\ No newline at end of file
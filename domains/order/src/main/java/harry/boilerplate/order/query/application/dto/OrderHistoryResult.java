@@ -6,6 +6,7 @@ import java.util.List;
 
 /**
  * 주문 이력 조회 결과
+ * 다음 페이지가 있으면 nextCursor로 이어서 키셋 페이징 가능
  * Requirements: 6.3
  */
 public class OrderHistoryResult {
@@ -15,19 +16,42 @@ public class OrderHistoryResult {
     private final int page;
     private final int size;
     private final boolean hasNext;
+    private final String nextCursor;
     
     public OrderHistoryResult(List<OrderHistoryReadModel> orders, int totalCount, int page, int size) {
+        this(orders, totalCount, page, size, (page + 1) * size < totalCount, false);
+    }
+    
+    private OrderHistoryResult(List<OrderHistoryReadModel> orders, int totalCount, int page, int size,
+                               boolean hasNext, boolean withCursor) {
         this.orders = orders != null ? List.copyOf(orders) : List.of();
         this.totalCount = totalCount;
         this.page = page;
         this.size = size;
-        this.hasNext = (page + 1) * size < totalCount;
+        this.hasNext = hasNext;
+        this.nextCursor = withCursor && hasNext && !this.orders.isEmpty()
+            ? OrderHistoryCursor.after(this.orders.get(this.orders.size() - 1)).encode()
+            : null;
     }
     
     public static OrderHistoryResult from(List<OrderHistoryReadModel> orders, int totalCount, int page, int size) {
         return new OrderHistoryResult(orders, totalCount, page, size);
     }
     
+    /**
+     * 오프셋 페이징 결과에 다음 페이지 커서를 함께 담아 생성 (이후 페이지는 커서로 이어서 조회 가능)
+     */
+    public static OrderHistoryResult fromWithCursor(List<OrderHistoryReadModel> orders, int totalCount, int page, int size) {
+        return new OrderHistoryResult(orders, totalCount, page, size, (page + 1) * size < totalCount, true);
+    }
+    
+    /**
+     * 키셋 페이징 결과 생성 (page는 사용하지 않으므로 0)
+     */
+    public static OrderHistoryResult ofCursor(List<OrderHistoryReadModel> orders, int totalCount, int size, boolean hasNext) {
+        return new OrderHistoryResult(orders, totalCount, 0, size, hasNext, true);
+    }
+    
     public static OrderHistoryResult empty(int page, int size) {
         return new OrderHistoryResult(List.of(), 0, page, size);
     }
@@ -52,6 +76,10 @@ public class OrderHistoryResult {
         return hasNext;
     }
     
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
     public boolean isEmpty() {
         return orders.isEmpty();
     }
@@ -0,0 +1,29 @@
+package harry.boilerplate.order.query.application.dto;
+
+/**
+ * 주문 이력 검색 Query (메뉴 이름·가게 이름에 검색어가 포함된 주문)
+ */
+public class OrderSearchQuery {
+
+    private final String userId;
+    private final String keyword;
+    private final int limit;
+
+    public OrderSearchQuery(String userId, String keyword, int limit) {
+        this.userId = userId;
+        this.keyword = keyword;
+        this.limit = limit;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
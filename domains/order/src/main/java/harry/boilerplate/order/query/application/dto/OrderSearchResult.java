@@ -0,0 +1,27 @@
+package harry.boilerplate.order.query.application.dto;
+
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+
+import java.util.List;
+
+/**
+ * 주문 이력 검색 결과 (최신순)
+ */
+public class OrderSearchResult {
+
+    private final String keyword;
+    private final List<OrderHistoryReadModel> orders;
+
+    public OrderSearchResult(String keyword, List<OrderHistoryReadModel> orders) {
+        this.keyword = keyword;
+        this.orders = List.copyOf(orders);
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public List<OrderHistoryReadModel> getOrders() {
+        return orders;
+    }
+}
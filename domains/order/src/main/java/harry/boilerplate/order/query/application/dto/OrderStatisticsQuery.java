@@ -0,0 +1,64 @@
+package harry.boilerplate.order.query.application.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 주문 통계 조회 Query
+ * 사용자 또는 가게의 [from, to] 기간(양 끝 포함) 주문 통계
+ * Requirements: 6.3
+ */
+public class OrderStatisticsQuery {
+    
+    private final String userId;
+    private final String shopId;
+    private final LocalDate from;
+    private final LocalDate to;
+    
+    private OrderStatisticsQuery(String userId, String shopId, LocalDate from, LocalDate to) {
+        this.userId = userId;
+        this.shopId = shopId;
+        this.from = from;
+        this.to = to;
+    }
+    
+    /**
+     * 사용자 주문 통계 조회
+     */
+    public static OrderStatisticsQuery forUser(String userId, LocalDate from, LocalDate to) {
+        return new OrderStatisticsQuery(userId, null, from, to);
+    }
+    
+    /**
+     * 가게 주문 통계 조회
+     */
+    public static OrderStatisticsQuery forShop(String shopId, LocalDate from, LocalDate to) {
+        return new OrderStatisticsQuery(null, shopId, from, to);
+    }
+    
+    /**
+     * 기준일까지 최근 days일 기간 (기준일 포함, 최소 1일)
+     */
+    public static LocalDate startOfLastDays(LocalDate to, int days) {
+        return to.minusDays(Math.max(1, days) - 1L);
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    public String getShopId() {
+        return shopId;
+    }
+    
+    public LocalDate getFrom() {
+        return from;
+    }
+    
+    public LocalDate getTo() {
+        return to;
+    }
+    
+    public boolean isShopQuery() {
+        return shopId != null;
+    }
+}
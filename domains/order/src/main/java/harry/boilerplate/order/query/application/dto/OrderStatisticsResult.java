@@ -0,0 +1,81 @@
+package harry.boilerplate.order.query.application.dto;
+
+import harry.boilerplate.order.query.application.readModel.DailyOrderStatReadModel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 주문 통계 조회 결과
+ * 기간 합계와 일자별 집계 (주문 없는 날은 제외)
+ * Requirements: 6.3
+ */
+public class OrderStatisticsResult {
+    
+    private final LocalDate from;
+    private final LocalDate to;
+    private final long orderCount;
+    private final BigDecimal totalRevenue;
+    private final long itemQuantity;
+    private final BigDecimal averageOrderAmount;
+    private final List<DailyOrderStatReadModel> daily;
+    
+    private OrderStatisticsResult(LocalDate from, LocalDate to, long orderCount, BigDecimal totalRevenue,
+                                  long itemQuantity, List<DailyOrderStatReadModel> daily) {
+        this.from = from;
+        this.to = to;
+        this.orderCount = orderCount;
+        this.totalRevenue = totalRevenue;
+        this.itemQuantity = itemQuantity;
+        this.averageOrderAmount = orderCount > 0
+            ? totalRevenue.divide(BigDecimal.valueOf(orderCount), 2, RoundingMode.HALF_UP)
+            : BigDecimal.ZERO;
+        this.daily = daily;
+    }
+    
+    /**
+     * 일자별 집계를 합산하여 기간 통계 생성
+     */
+    public static OrderStatisticsResult of(LocalDate from, LocalDate to, List<DailyOrderStatReadModel> daily) {
+        List<DailyOrderStatReadModel> days = daily != null ? List.copyOf(daily) : List.of();
+        long orderCount = 0;
+        long itemQuantity = 0;
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        for (DailyOrderStatReadModel day : days) {
+            orderCount += day.getOrderCount();
+            itemQuantity += day.getItemQuantity();
+            totalRevenue = totalRevenue.add(day.getRevenue());
+        }
+        return new OrderStatisticsResult(from, to, orderCount, totalRevenue, itemQuantity, days);
+    }
+    
+    public LocalDate getFrom() {
+        return from;
+    }
+    
+    public LocalDate getTo() {
+        return to;
+    }
+    
+    public long getOrderCount() {
+        return orderCount;
+    }
+    
+    public BigDecimal getTotalRevenue() {
+        return totalRevenue;
+    }
+    
+    public long getItemQuantity() {
+        return itemQuantity;
+    }
+    
+    public BigDecimal getAverageOrderAmount() {
+        return averageOrderAmount;
+    }
+    
+    public List<DailyOrderStatReadModel> getDaily() {
+        return daily;
+    }
+}
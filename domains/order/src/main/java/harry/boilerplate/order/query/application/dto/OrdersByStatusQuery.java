@@ -0,0 +1,36 @@
+package harry.boilerplate.order.query.application.dto;
+
+/**
+ * 상태별 주문 조회 Query
+ * Requirements: 6.3
+ */
+public class OrdersByStatusQuery {
+    
+    private final String userId;
+    private final String status;
+    private final int page;
+    private final int size;
+    
+    public OrdersByStatusQuery(String userId, String status, int page, int size) {
+        this.userId = userId;
+        this.status = status;
+        this.page = Math.max(0, page); // 최소 0
+        this.size = Math.min(Math.max(1, size), 100); // 1~100 범위
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public int getPage() {
+        return page;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,23 @@
+package harry.boilerplate.order.query.application.dto;
+
+/**
+ * 가게 인기 메뉴 조회 Query
+ */
+public class PopularMenuQuery {
+
+    private final String shopId;
+    private final int limit;
+
+    public PopularMenuQuery(String shopId, int limit) {
+        this.shopId = shopId;
+        this.limit = limit;
+    }
+
+    public String getShopId() {
+        return shopId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
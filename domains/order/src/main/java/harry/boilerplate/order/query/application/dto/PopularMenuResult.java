@@ -0,0 +1,27 @@
+package harry.boilerplate.order.query.application.dto;
+
+import harry.boilerplate.order.query.application.readModel.PopularMenuReadModel;
+
+import java.util.List;
+
+/**
+ * 가게 인기 메뉴 조회 결과 (점수가 높은 순)
+ */
+public class PopularMenuResult {
+
+    private final String shopId;
+    private final List<PopularMenuReadModel> menus;
+
+    public PopularMenuResult(String shopId, List<PopularMenuReadModel> menus) {
+        this.shopId = shopId;
+        this.menus = List.copyOf(menus);
+    }
+
+    public String getShopId() {
+        return shopId;
+    }
+
+    public List<PopularMenuReadModel> getMenus() {
+        return menus;
+    }
+}
@@ -0,0 +1,61 @@
+package harry.boilerplate.order.query.application.dto;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 가게 주문 스트림 메시지 (주방 화면에 새 주문을 띄우는 데 필요한 요약)
+ */
+public class ShopOrderStreamMessage {
+
+    private final String orderId;
+    private final BigDecimal totalAmount;
+    private final LocalDateTime orderTime;
+    private final String firstMenuName;
+    private final int itemCount;
+    private final int totalQuantity;
+
+    public ShopOrderStreamMessage(String orderId, BigDecimal totalAmount, LocalDateTime orderTime,
+                                  String firstMenuName, int itemCount, int totalQuantity) {
+        this.orderId = orderId;
+        this.totalAmount = totalAmount;
+        this.orderTime = orderTime;
+        this.firstMenuName = firstMenuName;
+        this.itemCount = itemCount;
+        this.totalQuantity = totalQuantity;
+    }
+
+    /**
+     * 주문 생성 이벤트로부터 생성
+     */
+    public static ShopOrderStreamMessage from(OrderPlacedEvent event) {
+        return new ShopOrderStreamMessage(event.getAggregateId(), event.getTotalAmount(), event.getOrderTime(),
+            event.getFirstMenuName(), event.getItemCount(), event.getTotalQuantity());
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public LocalDateTime getOrderTime() {
+        return orderTime;
+    }
+
+    public String getFirstMenuName() {
+        return firstMenuName;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public int getTotalQuantity() {
+        return totalQuantity;
+    }
+}
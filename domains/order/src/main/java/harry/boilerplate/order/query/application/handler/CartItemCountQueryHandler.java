@@ -0,0 +1,35 @@
+package harry.boilerplate.order.query.application.handler;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.dto.CartItemCountQuery;
+import harry.boilerplate.order.query.application.dto.CartItemCountResult;
+import harry.boilerplate.order.query.infrastructure.dao.CartQueryDao;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 장바구니 아이템 개수 조회 Query Handler
+ * 배지 표시용으로 가격 계산 없이 장바구니 라인 아이템 수만 집계
+ * Requirements: 5.5
+ */
+@Component
+@Transactional(readOnly = true)
+public class CartItemCountQueryHandler {
+    
+    private final CartQueryDao cartQueryDao;
+    
+    public CartItemCountQueryHandler(CartQueryDao cartQueryDao) {
+        this.cartQueryDao = cartQueryDao;
+    }
+    
+    /**
+     * 사용자 장바구니의 아이템 개수 조회
+     */
+    public CartItemCountResult handle(CartItemCountQuery query) {
+        if (query.getUserId() == null || query.getUserId().trim().isEmpty()) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다");
+        }
+        
+        return new CartItemCountResult(cartQueryDao.getCartItemCountByUserId(UserId.of(query.getUserId())));
+    }
+}
@@ -1,10 +1,12 @@
 package harry.boilerplate.order.query.application.handler;
 
+import harry.boilerplate.common.response.ResourceVersion;
 import harry.boilerplate.order.query.application.dto.CartSummaryQuery;
 import harry.boilerplate.order.query.application.dto.CartSummaryResult;
 import harry.boilerplate.order.query.application.readModel.CartSummaryReadModel;
 import harry.boilerplate.order.command.domain.valueObject.UserId;
 import harry.boilerplate.order.query.infrastructure.dao.CartQueryDao;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,9 +21,24 @@ import java.util.Optional;
 public class CartSummaryQueryHandler {
     
     private final CartQueryDao cartQueryDao;
+    private final long pricingVersionTtlMillis;
     
-    public CartSummaryQueryHandler(CartQueryDao cartQueryDao) {
+    public CartSummaryQueryHandler(CartQueryDao cartQueryDao,
+                                   @Value("${order.pricing.version-ttl-millis:30000}") long pricingVersionTtlMillis) {
         this.cartQueryDao = cartQueryDao;
+        this.pricingVersionTtlMillis = pricingVersionTtlMillis;
+    }
+    
+    /**
+     * 장바구니 요약의 버전 조회 (장바구니가 없으면 empty)
+     * 요약에는 Shop Context의 가격·가게 이름이 섞여 있어 장바구니 변경 시각만으로는 결정되지 않으므로,
+     * 가격 캐시 유효 시간 단위 구간을 함께 넣어 ETag만 제공 (가격 변경은 기존 가격 캐시와 같은 지연 안에 반영)
+     */
+    public Optional<ResourceVersion> version(CartSummaryQuery query) {
+        validateQuery(query);
+        
+        return cartQueryDao.findCartUpdatedAtByUserId(UserId.of(query.getUserId()))
+            .map(updatedAt -> ResourceVersion.of(updatedAt, pricingWindow()));
     }
     
     /**
@@ -43,6 +60,10 @@ public class CartSummaryQueryHandler {
         }
     }
     
+    private long pricingWindow() {
+        return pricingVersionTtlMillis > 0 ? System.currentTimeMillis() / pricingVersionTtlMillis : 0;
+    }
+    
     /**
      * Query 입력 검증
      */
@@ -0,0 +1,68 @@
+package harry.boilerplate.order.query.application.handler;
+
+import harry.boilerplate.order.query.application.dto.LiveOrderRateQuery;
+import harry.boilerplate.order.query.application.dto.LiveOrderRateResult;
+import harry.boilerplate.order.query.application.readModel.MinuteOrderRateReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderRateWindowReadModel;
+import harry.boilerplate.order.query.infrastructure.projection.LiveOrderRateCounter;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가게 실시간 주문 현황 조회 Query Handler
+ * 메모리 분 단위 카운터에서 최근 WINDOW_MINUTES분을 한 번 읽어 창별 합계를 계산 (DB 조회 없음)
+ */
+@Component
+public class LiveOrderRateQueryHandler {
+
+    // 응답에 포함하는 최근 N분 창
+    static final int[] WINDOWS = {5, 15, LiveOrderRateCounter.WINDOW_MINUTES};
+
+    private final LiveOrderRateCounter liveOrderRateCounter;
+
+    public LiveOrderRateQueryHandler(LiveOrderRateCounter liveOrderRateCounter) {
+        this.liveOrderRateCounter = liveOrderRateCounter;
+    }
+
+    /**
+     * 가게의 최근 5/15/60분 주문 수·매출과 최근 minutes분의 분당 집계 조회
+     */
+    public LiveOrderRateResult handle(LiveOrderRateQuery query) {
+        validateQuery(query);
+
+        Instant now = Instant.now();
+        List<MinuteOrderRateReadModel> lastHour = liveOrderRateCounter.perMinute(
+            query.getShopId(), now, LiveOrderRateCounter.WINDOW_MINUTES);
+
+        List<OrderRateWindowReadModel> windows = new ArrayList<>(WINDOWS.length);
+        for (int window : WINDOWS) {
+            long orderCount = 0;
+            BigDecimal revenue = BigDecimal.ZERO;
+            for (MinuteOrderRateReadModel minute : lastHour.subList(lastHour.size() - window, lastHour.size())) {
+                orderCount += minute.getOrderCount();
+                revenue = revenue.add(minute.getRevenue());
+            }
+            windows.add(new OrderRateWindowReadModel(window, orderCount, revenue));
+        }
+
+        return new LiveOrderRateResult(query.getShopId(), now, windows,
+            lastHour.subList(lastHour.size() - query.getMinutes(), lastHour.size()));
+    }
+
+    /**
+     * Query 입력 검증
+     */
+    private void validateQuery(LiveOrderRateQuery query) {
+        if (query.getShopId() == null || query.getShopId().trim().isEmpty()) {
+            throw new IllegalArgumentException("가게 ID는 필수입니다");
+        }
+        if (query.getMinutes() < 1 || query.getMinutes() > LiveOrderRateCounter.WINDOW_MINUTES) {
+            throw new IllegalArgumentException(
+                "분당 집계 기간은 1분 이상 " + LiveOrderRateCounter.WINDOW_MINUTES + "분 이하여야 합니다");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package harry.boilerplate.order.query.application.handler;
+
+import harry.boilerplate.order.query.application.dto.MenuSuggestionQuery;
+import harry.boilerplate.order.query.application.dto.MenuSuggestionResult;
+import harry.boilerplate.order.query.infrastructure.projection.MenuCoOccurrenceIndex;
+import org.springframework.stereotype.Component;
+
+/**
+ * 함께 주문한 메뉴 추천 Query Handler
+ * 메모리 동시 주문 색인에서 담은 메뉴의 이웃만 읽어 응답 (DB 조회 없음)
+ */
+@Component
+public class MenuSuggestionQueryHandler {
+
+    static final int MAX_LIMIT = 20;
+    static final int MAX_MENU_IDS = 50;
+
+    private final MenuCoOccurrenceIndex menuCoOccurrenceIndex;
+
+    public MenuSuggestionQueryHandler(MenuCoOccurrenceIndex menuCoOccurrenceIndex) {
+        this.menuCoOccurrenceIndex = menuCoOccurrenceIndex;
+    }
+
+    /**
+     * 담은 메뉴들과 자주 함께 주문된 메뉴 limit개 조회
+     */
+    public MenuSuggestionResult handle(MenuSuggestionQuery query) {
+        validateQuery(query);
+
+        return new MenuSuggestionResult(query.getShopId(),
+            menuCoOccurrenceIndex.suggest(query.getShopId(), query.getMenuIds(), query.getLimit()));
+    }
+
+    /**
+     * Query 입력 검증
+     */
+    private void validateQuery(MenuSuggestionQuery query) {
+        if (query.getShopId() == null || query.getShopId().trim().isEmpty()) {
+            throw new IllegalArgumentException("가게 ID는 필수입니다");
+        }
+        if (query.getMenuIds().isEmpty()) {
+            throw new IllegalArgumentException("메뉴 ID는 1개 이상이어야 합니다");
+        }
+        if (query.getMenuIds().size() > MAX_MENU_IDS) {
+            throw new IllegalArgumentException("메뉴 ID는 " + MAX_MENU_IDS + "개 이하여야 합니다");
+        }
+        if (query.getLimit() < 1 || query.getLimit() > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다");
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package harry.boilerplate.order.query.application.handler;
 
+import harry.boilerplate.order.query.application.dto.OrderHistoryCursor;
 import harry.boilerplate.order.query.application.dto.OrderHistoryQuery;
 import harry.boilerplate.order.query.application.dto.OrderHistoryResult;
 import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+import harry.boilerplate.order.query.application.service.UserOrderCountCache;
 import harry.boilerplate.order.command.domain.valueObject.UserId;
 import harry.boilerplate.order.query.infrastructure.dao.OrderQueryDao;
 import org.springframework.stereotype.Component;
@@ -19,13 +21,16 @@ import java.util.List;
 public class OrderHistoryQueryHandler {
     
     private final OrderQueryDao orderQueryDao;
+    private final UserOrderCountCache userOrderCountCache;
     
-    public OrderHistoryQueryHandler(OrderQueryDao orderQueryDao) {
+    public OrderHistoryQueryHandler(OrderQueryDao orderQueryDao, UserOrderCountCache userOrderCountCache) {
         this.orderQueryDao = orderQueryDao;
+        this.userOrderCountCache = userOrderCountCache;
     }
     
     /**
      * 사용자의 주문 이력 조회 (페이징 지원)
+     * 커서가 있으면 키셋 페이징, 없으면 오프셋 페이징으로 조회
      * 주문이 없는 경우 빈 결과 반환
      */
     public OrderHistoryResult handle(OrderHistoryQuery query) {
@@ -35,18 +40,35 @@ public class OrderHistoryQueryHandler {
         // 사용자 ID로 주문 이력 조회
         UserId userId = UserId.of(query.getUserId());
         
+        if (query.isCursorPaging()) {
+            return handleCursorPage(userId, OrderHistoryCursor.decode(query.getCursor()), query.getSize());
+        }
+        
         // 페이징된 주문 이력 조회
         List<OrderHistoryReadModel> orders = orderQueryDao.findOrderHistoryByUserId(
             userId, query.getPage(), query.getSize());
         
-        // 총 주문 개수 조회 (페이징 정보 계산용)
-        long totalCount = orderQueryDao.countOrdersByUserId(userId);
-        
         if (orders.isEmpty()) {
             return OrderHistoryResult.empty(query.getPage(), query.getSize());
-        } else {
-            return OrderHistoryResult.from(orders, (int) totalCount, query.getPage(), query.getSize());
         }
+        
+        // 총 주문 개수 조회 (페이징 정보 계산용, 캐시 사용)
+        long totalCount = userOrderCountCache.getCount(userId);
+        return OrderHistoryResult.fromWithCursor(orders, (int) totalCount, query.getPage(), query.getSize());
+    }
+    
+    /**
+     * 커서 이후 주문을 키셋 페이징으로 조회
+     * 한 건을 더 조회해 다음 페이지 존재 여부를 판단
+     */
+    private OrderHistoryResult handleCursorPage(UserId userId, OrderHistoryCursor cursor, int size) {
+        List<OrderHistoryReadModel> fetched = orderQueryDao.findOrderHistoryByUserIdBefore(
+            userId, cursor.getOrderTime(), cursor.getOrderId(), size + 1);
+        
+        boolean hasNext = fetched.size() > size;
+        List<OrderHistoryReadModel> orders = hasNext ? fetched.subList(0, size) : fetched;
+        long totalCount = userOrderCountCache.getCount(userId);
+        return OrderHistoryResult.ofCursor(orders, (int) totalCount, size, hasNext);
     }
     
     /**
@@ -0,0 +1,126 @@
+package harry.boilerplate.order.query.application.handler;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.dto.OrderSearchQuery;
+import harry.boilerplate.order.query.application.dto.OrderSearchResult;
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderItemReadModel;
+import harry.boilerplate.order.query.infrastructure.dao.OrderQueryDao;
+import harry.boilerplate.order.query.infrastructure.dao.OrderQueryDao.DateRange;
+import harry.boilerplate.order.query.infrastructure.dao.OrderSearchDao;
+import harry.boilerplate.order.query.infrastructure.projection.OrderSearchTokenizer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 이력 검색 Query Handler
+ * 1) 검색 색인에서 검색어 n-gram이 모두 나온 주문 시각을 최신순으로 받고
+ * 2) 후보 시각을 limit의 두 배씩 가까운 시각끼리 묶은 기간 목록으로 만들어 한 번의 조회로 주문을 읽은 뒤
+ * 3) 메뉴 이름·가게 이름에 검색어가 실제로 포함된 주문만 limit개까지 응답 (오탐으로 모자라면 다음 후보 묶음 조회)
+ * 색인은 초 단위이고 DB는 초 미만을 반올림해 저장할 수 있으므로 각 시각의 다음 초까지 조회
+ */
+@Component
+@Transactional(readOnly = true)
+public class OrderSearchQueryHandler {
+
+    static final int MAX_LIMIT = 50;
+    static final int MAX_KEYWORD_LENGTH = 50;
+
+    private final OrderSearchDao orderSearchDao;
+    private final OrderQueryDao orderQueryDao;
+
+    public OrderSearchQueryHandler(OrderSearchDao orderSearchDao, OrderQueryDao orderQueryDao) {
+        this.orderSearchDao = orderSearchDao;
+        this.orderQueryDao = orderQueryDao;
+    }
+
+    /**
+     * 메뉴 이름 또는 가게 이름에 검색어가 포함된 주문 최신순 조회
+     */
+    public OrderSearchResult handle(OrderSearchQuery query) {
+        validateQuery(query);
+
+        UserId userId = UserId.of(query.getUserId());
+        String keyword = OrderSearchTokenizer.normalize(query.getKeyword());
+        Set<String> tokens = OrderSearchTokenizer.queryTokens(query.getKeyword());
+        List<LocalDateTime> orderTimes = orderSearchDao.findOrderTimesContainingAll(userId, tokens);
+
+        Map<String, OrderHistoryReadModel> matched = new LinkedHashMap<>();
+        // 오탐을 감안해 limit의 두 배 후보 시각을 한 번에 확인 (조회 조건은 최대 MAX_LIMIT * 2개 기간)
+        int batchSize = query.getLimit() * 2;
+        int from = 0;
+        while (from < orderTimes.size() && matched.size() < query.getLimit()) {
+            int to = Math.min(orderTimes.size(), from + batchSize);
+            List<OrderHistoryReadModel> orders =
+                orderQueryDao.findOrderHistoryByUserIdAndDateRanges(userId, toRanges(orderTimes.subList(from, to)));
+            for (OrderHistoryReadModel order : orders) {
+                if (matched.size() >= query.getLimit()) {
+                    break;
+                }
+                if (contains(order, keyword)) {
+                    matched.putIfAbsent(order.getOrderId(), order);
+                }
+            }
+            from = to;
+        }
+
+        return new OrderSearchResult(query.getKeyword(), new ArrayList<>(matched.values()));
+    }
+
+    /**
+     * 최신순 후보 시각을 조회 기간으로 변환 (1초 이내로 이어지는 시각은 한 기간으로 묶음)
+     */
+    private static List<DateRange> toRanges(List<LocalDateTime> orderTimes) {
+        List<DateRange> ranges = new ArrayList<>();
+        int from = 0;
+        while (from < orderTimes.size()) {
+            int to = from + 1;
+            while (to < orderTimes.size() && !orderTimes.get(to).isBefore(orderTimes.get(to - 1).minusSeconds(1))) {
+                to++;
+            }
+            ranges.add(new DateRange(orderTimes.get(to - 1), orderTimes.get(from).plusSeconds(1)));
+            from = to;
+        }
+        return ranges;
+    }
+
+    /**
+     * 메뉴 이름 또는 가게 이름에 정규화한 검색어가 포함되는지 확인 (n-gram 후보 중 오탐 제거)
+     */
+    private static boolean contains(OrderHistoryReadModel order, String keyword) {
+        if (OrderSearchTokenizer.normalize(order.getShopName()).contains(keyword)) {
+            return true;
+        }
+        for (OrderItemReadModel item : order.getOrderItems()) {
+            if (OrderSearchTokenizer.normalize(item.getMenuName()).contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Query 입력 검증
+     */
+    private void validateQuery(OrderSearchQuery query) {
+        if (query.getUserId() == null || query.getUserId().trim().isEmpty()) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다");
+        }
+        if (query.getKeyword() == null || OrderSearchTokenizer.normalize(query.getKeyword()).isEmpty()) {
+            throw new IllegalArgumentException("검색어는 글자나 숫자를 1자 이상 포함해야 합니다");
+        }
+        if (query.getKeyword().length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_KEYWORD_LENGTH + "자 이하여야 합니다");
+        }
+        if (query.getLimit() < 1 || query.getLimit() > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package harry.boilerplate.order.query.application.handler;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.dto.OrderStatisticsQuery;
+import harry.boilerplate.order.query.application.dto.OrderStatisticsResult;
+import harry.boilerplate.order.query.application.readModel.DailyOrderStatReadModel;
+import harry.boilerplate.order.query.infrastructure.dao.OrderStatisticsDao;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 주문 통계 조회 Query Handler
+ * 일간 집계 테이블을 기간만큼 합산하여 계산 (최근 반영 주기 이내의 주문은 다음 반영 후 포함)
+ * Requirements: 6.3
+ */
+@Component
+@Transactional(readOnly = true)
+public class OrderStatisticsQueryHandler {
+    
+    private final OrderStatisticsDao orderStatisticsDao;
+    
+    public OrderStatisticsQueryHandler(OrderStatisticsDao orderStatisticsDao) {
+        this.orderStatisticsDao = orderStatisticsDao;
+    }
+    
+    /**
+     * 사용자 또는 가게의 기간 주문 통계 조회
+     */
+    public OrderStatisticsResult handle(OrderStatisticsQuery query) {
+        validateQuery(query);
+        
+        List<DailyOrderStatReadModel> daily = query.isShopQuery()
+            ? orderStatisticsDao.findShopDailyStats(query.getShopId(), query.getFrom(), query.getTo())
+            : orderStatisticsDao.findUserDailyStats(UserId.of(query.getUserId()), query.getFrom(), query.getTo());
+        
+        return OrderStatisticsResult.of(query.getFrom(), query.getTo(), daily);
+    }
+    
+    /**
+     * Query 입력 검증
+     */
+    private void validateQuery(OrderStatisticsQuery query) {
+        if (query.isShopQuery()) {
+            if (query.getShopId().trim().isEmpty()) {
+                throw new IllegalArgumentException("가게 ID는 필수입니다");
+            }
+        } else if (query.getUserId() == null || query.getUserId().trim().isEmpty()) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다");
+        }
+        if (query.getFrom() == null || query.getTo() == null) {
+            throw new IllegalArgumentException("통계 기간은 필수입니다");
+        }
+        if (query.getFrom().isAfter(query.getTo())) {
+            throw new IllegalArgumentException("통계 시작일은 종료일보다 늦을 수 없습니다");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package harry.boilerplate.order.query.application.handler;
+
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.dto.OrderHistoryResult;
+import harry.boilerplate.order.query.application.dto.OrdersByStatusQuery;
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+import harry.boilerplate.order.query.infrastructure.dao.OrderQueryDao;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 상태별 주문 조회 Query Handler
+ * Requirements: 6.3
+ */
+@Component
+@Transactional(readOnly = true)
+public class OrdersByStatusQueryHandler {
+    
+    private final OrderQueryDao orderQueryDao;
+    
+    public OrdersByStatusQueryHandler(OrderQueryDao orderQueryDao) {
+        this.orderQueryDao = orderQueryDao;
+    }
+    
+    /**
+     * 사용자의 특정 상태 주문 조회 (페이징 지원)
+     * 주문이 없는 경우 빈 결과 반환
+     */
+    public OrderHistoryResult handle(OrdersByStatusQuery query) {
+        // 입력 검증
+        if (query.getUserId() == null || query.getUserId().trim().isEmpty()) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다");
+        }
+        OrderStatus status = OrderStatus.from(query.getStatus());
+        UserId userId = UserId.of(query.getUserId());
+        
+        List<OrderHistoryReadModel> orders = orderQueryDao.findOrderHistoryByUserIdAndStatus(
+            userId, status, query.getPage(), query.getSize());
+        
+        if (orders.isEmpty()) {
+            return OrderHistoryResult.empty(query.getPage(), query.getSize());
+        }
+        long totalCount = orderQueryDao.countOrdersByUserIdAndStatus(userId, status);
+        return OrderHistoryResult.from(orders, (int) totalCount, query.getPage(), query.getSize());
+    }
+}
@@ -0,0 +1,44 @@
+package harry.boilerplate.order.query.application.handler;
+
+import harry.boilerplate.order.query.application.dto.PopularMenuQuery;
+import harry.boilerplate.order.query.application.dto.PopularMenuResult;
+import harry.boilerplate.order.query.infrastructure.projection.PopularMenuTracker;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가게 인기 메뉴 조회 Query Handler
+ * 메모리 집계에서 정렬해 둔 상위 목록을 현재 시점 점수로 환산하여 응답 (DB 조회 없음)
+ */
+@Component
+public class PopularMenuQueryHandler {
+
+    static final int MAX_LIMIT = 50;
+
+    private final PopularMenuTracker popularMenuTracker;
+
+    public PopularMenuQueryHandler(PopularMenuTracker popularMenuTracker) {
+        this.popularMenuTracker = popularMenuTracker;
+    }
+
+    /**
+     * 가게의 인기 메뉴 상위 limit개 조회
+     */
+    public PopularMenuResult handle(PopularMenuQuery query) {
+        validateQuery(query);
+
+        return new PopularMenuResult(query.getShopId(),
+            popularMenuTracker.top(query.getShopId(), query.getLimit(), System.currentTimeMillis()));
+    }
+
+    /**
+     * Query 입력 검증
+     */
+    private void validateQuery(PopularMenuQuery query) {
+        if (query.getShopId() == null || query.getShopId().trim().isEmpty()) {
+            throw new IllegalArgumentException("가게 ID는 필수입니다");
+        }
+        if (query.getLimit() < 1 || query.getLimit() > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다");
+        }
+    }
+}
@@ -15,10 +15,20 @@ public class CartItemReadModel {
     private final List<SelectedOptionReadModel> selectedOptions;
     private final int quantity;
     private final BigDecimal linePrice;
+    private final boolean available;
     
     public CartItemReadModel(String cartLineItemId, String menuId, String menuName, 
                             BigDecimal menuPrice, List<SelectedOptionReadModel> selectedOptions,
                             int quantity, BigDecimal linePrice) {
+        this(cartLineItemId, menuId, menuName, menuPrice, selectedOptions, quantity, linePrice, true);
+    }
+    
+    /**
+     * available이 false면 메뉴 삭제·옵션 변경 등으로 현재 주문할 수 없는 아이템 (가격은 0원으로 표시)
+     */
+    public CartItemReadModel(String cartLineItemId, String menuId, String menuName, 
+                            BigDecimal menuPrice, List<SelectedOptionReadModel> selectedOptions,
+                            int quantity, BigDecimal linePrice, boolean available) {
         this.cartLineItemId = cartLineItemId;
         this.menuId = menuId;
         this.menuName = menuName;
@@ -26,6 +36,7 @@ public class CartItemReadModel {
         this.selectedOptions = List.copyOf(selectedOptions != null ? selectedOptions : List.of());
         this.quantity = quantity;
         this.linePrice = linePrice;
+        this.available = available;
     }
     
     public String getCartLineItemId() {
@@ -55,4 +66,8 @@ public class CartItemReadModel {
     public BigDecimal getLinePrice() {
         return linePrice;
     }
+    
+    public boolean isAvailable() {
+        return available;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package harry.boilerplate.order.query.application.readModel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일간 주문 집계 Read Model
+ * 주문 통계 화면의 일자별 항목
+ */
+public class DailyOrderStatReadModel {
+    
+    private final LocalDate date;
+    private final long orderCount;
+    private final BigDecimal revenue;
+    private final long itemQuantity;
+    
+    public DailyOrderStatReadModel(LocalDate date, long orderCount, BigDecimal revenue, long itemQuantity) {
+        this.date = date;
+        this.orderCount = orderCount;
+        this.revenue = revenue != null ? revenue : BigDecimal.ZERO;
+        this.itemQuantity = itemQuantity;
+    }
+    
+    /**
+     * 같은 일자의 집계 합산 (샤드별로 나뉜 가게 집계를 합칠 때 사용)
+     */
+    public DailyOrderStatReadModel plus(DailyOrderStatReadModel other) {
+        return new DailyOrderStatReadModel(date, orderCount + other.orderCount,
+            revenue.add(other.revenue), itemQuantity + other.itemQuantity);
+    }
+    
+    public LocalDate getDate() {
+        return date;
+    }
+    
+    public long getOrderCount() {
+        return orderCount;
+    }
+    
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+    
+    public long getItemQuantity() {
+        return itemQuantity;
+    }
+}
@@ -0,0 +1,36 @@
+package harry.boilerplate.order.query.application.readModel;
+
+/**
+ * 함께 주문한 메뉴 추천 Read Model
+ * coOrderCount는 담은 메뉴와 함께 주문된 주문 수의 합, score는 담은 메뉴별 함께 주문한 비율의 합
+ */
+public class MenuSuggestionReadModel {
+
+    private final String menuId;
+    private final String menuName;
+    private final long coOrderCount;
+    private final double score;
+
+    public MenuSuggestionReadModel(String menuId, String menuName, long coOrderCount, double score) {
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.coOrderCount = coOrderCount;
+        this.score = score;
+    }
+
+    public String getMenuId() {
+        return menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public long getCoOrderCount() {
+        return coOrderCount;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
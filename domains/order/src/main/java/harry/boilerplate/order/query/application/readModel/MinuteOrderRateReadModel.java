@@ -0,0 +1,36 @@
+package harry.boilerplate.order.query.application.readModel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 분 단위 주문 집계 Read Model
+ * 실시간 주문 현황 화면의 분당 주문 수·매출 항목
+ */
+public class MinuteOrderRateReadModel {
+
+    private final Instant minute;
+    private final long orderCount;
+    private final BigDecimal revenue;
+
+    public MinuteOrderRateReadModel(Instant minute, long orderCount, BigDecimal revenue) {
+        this.minute = minute;
+        this.orderCount = orderCount;
+        this.revenue = revenue != null ? revenue : BigDecimal.ZERO;
+    }
+
+    /**
+     * 분 시작 시각
+     */
+    public Instant getMinute() {
+        return minute;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
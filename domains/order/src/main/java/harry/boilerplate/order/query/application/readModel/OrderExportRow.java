@@ -0,0 +1,64 @@
+package harry.boilerplate.order.query.application.readModel;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 행
+ * 커서에서 읽은 즉시 출력하고 버리는 평면 데이터 (중첩 Read Model 없음)
+ */
+public class OrderExportRow {
+    
+    private final String orderId;
+    private final String userId;
+    private final String shopId;
+    private final LocalDateTime orderTime;
+    private final String firstMenuName;
+    private final int itemCount;
+    private final int totalQuantity;
+    private final BigDecimal totalPrice;
+    
+    public OrderExportRow(String orderId, String userId, String shopId, LocalDateTime orderTime,
+                          String firstMenuName, int itemCount, int totalQuantity, BigDecimal totalPrice) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.shopId = shopId;
+        this.orderTime = orderTime;
+        this.firstMenuName = firstMenuName;
+        this.itemCount = itemCount;
+        this.totalQuantity = totalQuantity;
+        this.totalPrice = totalPrice;
+    }
+    
+    public String getOrderId() {
+        return orderId;
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    public String getShopId() {
+        return shopId;
+    }
+    
+    public LocalDateTime getOrderTime() {
+        return orderTime;
+    }
+    
+    public String getFirstMenuName() {
+        return firstMenuName;
+    }
+    
+    public int getItemCount() {
+        return itemCount;
+    }
+    
+    public int getTotalQuantity() {
+        return totalQuantity;
+    }
+    
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+}
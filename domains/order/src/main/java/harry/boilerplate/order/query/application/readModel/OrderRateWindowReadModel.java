@@ -0,0 +1,32 @@
+package harry.boilerplate.order.query.application.readModel;
+
+import java.math.BigDecimal;
+
+/**
+ * 최근 N분 주문 집계 Read Model
+ * 실시간 주문 현황 화면의 "최근 5/15/60분" 항목
+ */
+public class OrderRateWindowReadModel {
+
+    private final int minutes;
+    private final long orderCount;
+    private final BigDecimal revenue;
+
+    public OrderRateWindowReadModel(int minutes, long orderCount, BigDecimal revenue) {
+        this.minutes = minutes;
+        this.orderCount = orderCount;
+        this.revenue = revenue != null ? revenue : BigDecimal.ZERO;
+    }
+
+    public int getMinutes() {
+        return minutes;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
@@ -0,0 +1,30 @@
+package harry.boilerplate.order.query.application.readModel;
+
+/**
+ * 가게 인기 메뉴 Read Model
+ * score는 시간 감쇠를 적용한 주문 수량 (반감기마다 절반으로 줄어드는 근사값)
+ */
+public class PopularMenuReadModel {
+
+    private final String menuId;
+    private final String menuName;
+    private final double score;
+
+    public PopularMenuReadModel(String menuId, String menuName, double score) {
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.score = score;
+    }
+
+    public String getMenuId() {
+        return menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,200 @@
+package harry.boilerplate.order.query.application.service;
+
+import harry.boilerplate.order.command.domain.event.CartItemAddedEvent;
+import harry.boilerplate.order.command.domain.event.CartItemsRemovedEvent;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.dto.CartStreamMessage;
+import harry.boilerplate.order.query.application.dto.CartSummaryQuery;
+import harry.boilerplate.order.query.application.handler.CartSummaryQueryHandler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 사용자별 장바구니 변경 스트림(SSE) 구독 관리
+ * 연결은 서블릿 비동기 요청으로 유지되어 연결마다 스레드를 점유하지 않고, 장바구니 명령이 커밋된 뒤에만 요약을 다시 계산하여 전송
+ * 같은 사용자의 변경이 연달아 들어오면 전송 중인 작업 뒤에 한 번만 더 계산하여 합침
+ * 주기적인 heartbeat로 끊어진 연결을 찾아 정리하고, 유휴 연결은 타임아웃 시 종료 (클라이언트 EventSource가 재연결)
+ */
+@Component
+public class CartStreamRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartStreamRegistry.class);
+
+    static final String EVENT_NAME = "cart";
+
+    // 끊긴 연결 재연결 대기 시간 (EventSource retry)
+    private static final long RECONNECT_MILLIS = 3_000;
+
+    // 사용자별 전송 상태: 없음(대기 없음) / PENDING(전송 중) / DIRTY(전송 중 추가 변경 있음)
+    private static final Boolean PENDING = Boolean.FALSE;
+    private static final Boolean DIRTY = Boolean.TRUE;
+
+    private final CartSummaryQueryHandler cartSummaryQueryHandler;
+    private final long timeoutMillis;
+    private final int maxStreamsPerUser;
+    // 전송은 요약 조회(DB·가격 캐시)를 포함하므로 커밋한 요청 스레드가 아닌 별도 가상 스레드에서 수행
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, Deque<SseEmitter>> streams = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> publishing = new ConcurrentHashMap<>();
+
+    public CartStreamRegistry(CartSummaryQueryHandler cartSummaryQueryHandler,
+                              @Value("${order.cart-stream.timeout-millis:1800000}") long timeoutMillis,
+                              @Value("${order.cart-stream.max-streams-per-user:5}") int maxStreamsPerUser) {
+        this.cartSummaryQueryHandler = cartSummaryQueryHandler;
+        this.timeoutMillis = timeoutMillis;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+    }
+
+    /**
+     * 사용자의 장바구니 스트림 구독 (구독 직후 현재 장바구니 상태를 한 번 전송)
+     * 사용자당 연결 수가 상한을 넘으면 가장 오래된 연결을 종료
+     */
+    public SseEmitter subscribe(UserId userId) {
+        String key = userId.getValue();
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> remove(key, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(key, emitter));
+
+        SseEmitter[] evicted = new SseEmitter[1];
+        streams.compute(key, (k, userStreams) -> {
+            Deque<SseEmitter> deque = userStreams != null ? userStreams : new ConcurrentLinkedDeque<>();
+            deque.addLast(emitter);
+            if (deque.size() > maxStreamsPerUser) {
+                evicted[0] = deque.pollFirst();
+            }
+            return deque;
+        });
+        if (evicted[0] != null) {
+            evicted[0].complete();
+        }
+
+        publish(key);
+        return emitter;
+    }
+
+    /**
+     * 장바구니 아이템 추가가 커밋되면 구독 중인 사용자에게 전송
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCartItemAdded(CartItemAddedEvent event) {
+        publish(event.getUserId());
+    }
+
+    /**
+     * 장바구니 아이템 제거·비우기가 커밋되면 구독 중인 사용자에게 전송
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCartItemsRemoved(CartItemsRemovedEvent event) {
+        publish(event.getUserId());
+    }
+
+    /**
+     * 모든 연결에 heartbeat 전송 (전송에 실패한 연결은 정리)
+     * 느린 연결의 쓰기가 스케줄러 스레드를 붙잡지 않도록 사용자별로 전송용 가상 스레드에 맡김
+     */
+    @Scheduled(fixedDelayString = "${order.cart-stream.heartbeat-interval-millis:15000}")
+    public void heartbeat() {
+        streams.forEach((key, userStreams) -> executor.execute(() -> {
+            for (SseEmitter emitter : List.copyOf(userStreams)) {
+                send(key, emitter, SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    /**
+     * 현재 연결 수
+     */
+    public int streamCount() {
+        return streams.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    /**
+     * 사용자의 현재 연결 수
+     */
+    public int streamCount(UserId userId) {
+        Deque<SseEmitter> userStreams = streams.get(userId.getValue());
+        return userStreams != null ? userStreams.size() : 0;
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+        streams.values().forEach(userStreams -> userStreams.forEach(SseEmitter::complete));
+        streams.clear();
+    }
+
+    /**
+     * 사용자에게 장바구니 상태 전송 예약 (구독이 없으면 무시, 이미 전송 중이면 끝난 뒤 한 번 더 전송)
+     */
+    private void publish(String key) {
+        if (key == null || !streams.containsKey(key)) {
+            return;
+        }
+        if (publishing.compute(key, (k, state) -> state == null ? PENDING : DIRTY).equals(PENDING)) {
+            executor.execute(() -> drain(key));
+        }
+    }
+
+    private void drain(String key) {
+        do {
+            push(key);
+        } while (publishing.compute(key, (k, state) -> DIRTY.equals(state) ? PENDING : null) != null);
+    }
+
+    private void push(String key) {
+        Deque<SseEmitter> userStreams = streams.get(key);
+        if (userStreams == null || userStreams.isEmpty()) {
+            return;
+        }
+
+        CartStreamMessage message;
+        try {
+            message = CartStreamMessage.from(cartSummaryQueryHandler.handle(new CartSummaryQuery(key)));
+        } catch (RuntimeException e) {
+            logger.warn("장바구니 스트림 메시지 조회 실패: {} - {}", key, e.getMessage());
+            return;
+        }
+
+        for (SseEmitter emitter : List.copyOf(userStreams)) {
+            send(key, emitter, SseEmitter.event()
+                .name(EVENT_NAME)
+                .reconnectTime(RECONNECT_MILLIS)
+                .data(message, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void send(String key, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 끊어진 연결(IOException)은 컨테이너가 오류 콜백으로 종료하며, 이미 종료된 연결(IllegalStateException)은 목록에서만 제거
+            remove(key, emitter);
+        }
+    }
+
+    private void remove(String key, SseEmitter emitter) {
+        streams.computeIfPresent(key, (k, userStreams) -> {
+            userStreams.remove(emitter);
+            return userStreams.isEmpty() ? null : userStreams;
+        });
+    }
+}
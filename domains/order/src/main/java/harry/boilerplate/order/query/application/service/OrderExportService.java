@@ -0,0 +1,140 @@
+package harry.boilerplate.order.query.application.service;
+
+import harry.boilerplate.common.exception.ForbiddenException;
+import harry.boilerplate.order.command.domain.exception.OrderErrorCode;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.application.dto.OrderExportCheckpoint;
+import harry.boilerplate.order.query.application.dto.OrderExportQuery;
+import harry.boilerplate.order.query.application.readModel.OrderExportRow;
+import harry.boilerplate.order.query.infrastructure.dao.OrderExportDao;
+import harry.boilerplate.order.query.infrastructure.export.OrderExportWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 내보내기
+ * 샤드를 순서대로 하나씩 스트리밍하며 읽은 행을 바로 출력하므로 내보내는 주문 수와 관계없이 메모리 사용량이 일정
+ * checkpoint-interval 행마다 재개 지점을 출력하여, 연결이 끊기면 마지막 재개 지점부터 이어받을 수 있음
+ * 전체 주문 내보내기는 운영자(order.operator-ids)만, 가게 점주는 자기 가게 주문만 내보낼 수 있음
+ */
+@Component
+public class OrderExportService {
+
+    private final OrderExportDao orderExportDao;
+    private final ShardRouter shardRouter;
+    private final int checkpointInterval;
+    private final ShopAccessPolicy shopAccessPolicy;
+
+    public OrderExportService(OrderExportDao orderExportDao, ShardRouter shardRouter,
+                              @Value("${order.export.checkpoint-interval:10000}") int checkpointInterval,
+                              ShopAccessPolicy shopAccessPolicy) {
+        this.orderExportDao = orderExportDao;
+        this.shardRouter = shardRouter;
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+        this.shopAccessPolicy = shopAccessPolicy;
+    }
+
+    /**
+     * 요청자 권한에 맞게 내보내기 범위 확정
+     * - 운영자: 요청한 범위 그대로 (가게 미지정 시 전체 주문)
+     * - 가게 점주(requesterShopId): 자기 가게 주문만 (가게 미지정 시 자기 가게로 한정)
+     * - 그 외: 내보내기 불가
+     */
+    public OrderExportQuery authorize(OrderExportQuery query, String requesterId, String requesterShopId) {
+        if (shopAccessPolicy.isOperator(requesterId)) {
+            return query;
+        }
+        if (requesterShopId == null || requesterShopId.isBlank()) {
+            throw new ForbiddenException(OrderErrorCode.EXPORT_NOT_ALLOWED, "운영자 또는 가게 점주만 내보낼 수 있습니다");
+        }
+        if (query.getShopId() != null && !query.getShopId().equals(requesterShopId)) {
+            throw new ForbiddenException(OrderErrorCode.EXPORT_NOT_ALLOWED, "다른 가게의 주문입니다: " + query.getShopId());
+        }
+        return new OrderExportQuery(requesterShopId, query.getFrom(), query.getTo(),
+            query.getFormat(), query.getCheckpoint());
+    }
+
+    /**
+     * 내보내기 요청 검증 (응답을 쓰기 시작하기 전에 호출)
+     */
+    public void validate(OrderExportQuery query) {
+        shardsToExport(query);
+    }
+
+    /**
+     * 주문을 출력 스트림에 내보냄
+     * @return 내보낸 주문 수
+     */
+    public long export(OrderExportQuery query, OutputStream out) throws IOException {
+        List<String> shardIds = shardsToExport(query);
+        OrderExportWriter writer = OrderExportWriter.create(query.getFormat(), out);
+        Progress progress = new Progress(writer, query.getCheckpoint());
+
+        try {
+            for (int i = 0; i < shardIds.size(); i++) {
+                String shardId = shardIds.get(i);
+                // 재개 지점은 첫 샤드에만 적용하고 이후 샤드는 처음부터
+                OrderExportCheckpoint after = i == 0 ? query.getCheckpoint() : null;
+                orderExportDao.streamOrders(shardId, query, after, row -> progress.accept(shardId, row));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.writeCheckpoint(progress.lastToken(), true);
+        writer.finish();
+        return progress.exported;
+    }
+
+    /**
+     * 내보낼 샤드 목록 (재개 지점이 있으면 해당 샤드부터)
+     */
+    private List<String> shardsToExport(OrderExportQuery query) {
+        List<String> shardIds = new ArrayList<>(shardRouter.getShardMap().shardIds());
+        OrderExportCheckpoint checkpoint = query.getCheckpoint();
+        if (checkpoint == null) {
+            return shardIds;
+        }
+        int start = shardIds.indexOf(checkpoint.getShardId());
+        if (start < 0) {
+            throw new IllegalArgumentException("재개 지점의 샤드를 찾을 수 없습니다: " + checkpoint.getShardId());
+        }
+        return shardIds.subList(start, shardIds.size());
+    }
+
+    /**
+     * 내보내기 진행 상황 (마지막으로 출력한 행 위치만 유지)
+     */
+    private final class Progress {
+        private final OrderExportWriter writer;
+        private OrderExportCheckpoint last;
+        private long exported;
+
+        private Progress(OrderExportWriter writer, OrderExportCheckpoint resumedFrom) {
+            this.writer = writer;
+            this.last = resumedFrom;
+        }
+
+        private void accept(String shardId, OrderExportRow row) {
+            try {
+                writer.writeRow(row);
+                last = new OrderExportCheckpoint(shardId, row.getOrderTime(), row.getOrderId());
+                if (++exported % checkpointInterval == 0) {
+                    writer.writeCheckpoint(last.encode(), false);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private String lastToken() {
+            return last != null ? last.encode() : null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package harry.boilerplate.order.query.application.service;
+
+import harry.boilerplate.common.exception.ForbiddenException;
+import harry.boilerplate.order.command.domain.exception.OrderErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 가게 주문 정보 접근 권한
+ * 운영자(order.operator-ids)는 모든 가게, 가게 점주(X-Shop-Id)는 자기 가게의 주문 정보만 조회할 수 있음
+ */
+@Component
+public class ShopAccessPolicy {
+
+    private final Set<String> operatorIds;
+
+    public ShopAccessPolicy(@Value("${order.operator-ids:}") Set<String> operatorIds) {
+        this.operatorIds = operatorIds != null ? Set.copyOf(operatorIds) : Set.of();
+    }
+
+    /**
+     * 운영자 여부
+     */
+    public boolean isOperator(String requesterId) {
+        return requesterId != null && operatorIds.contains(requesterId);
+    }
+
+    /**
+     * 가게 주문 정보 조회 권한 확인 (권한이 없으면 403)
+     * @param shopId 조회할 가게 ID
+     * @param requesterId 요청자 ID (X-User-Id, 운영자 확인용)
+     * @param requesterShopId 요청자가 속한 가게 ID (X-Shop-Id)
+     */
+    public void authorize(String shopId, String requesterId, String requesterShopId) {
+        if (isOperator(requesterId)) {
+            return;
+        }
+        if (requesterShopId == null || requesterShopId.isBlank()) {
+            throw new ForbiddenException(OrderErrorCode.SHOP_ACCESS_NOT_ALLOWED, "운영자 또는 가게 점주만 조회할 수 있습니다");
+        }
+        if (!requesterShopId.equals(shopId)) {
+            throw new ForbiddenException(OrderErrorCode.SHOP_ACCESS_NOT_ALLOWED, "다른 가게입니다: " + shopId);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package harry.boilerplate.order.query.application.service;
+
+import harry.boilerplate.order.command.infrastructure.external.shop.ShopApiClient;
+import harry.boilerplate.order.command.infrastructure.external.shop.ShopApiClient.ShopDirectoryEntryResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게 디렉터리 로컬 복제본 (가게 ID → 가게 이름, 최소 주문금액)
+ * 기동 시 Shop Context에서 전체를 한 번 적재하고, 이후 주기적으로 마지막 변경 시각 이후의 변경분만 받아 갱신
+ * 주문 목록 조회 시 페이지 전체의 가게 이름을 API 호출 없이 메모리에서 한 번에 조회
+ */
+@Component
+public class ShopDirectory {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShopDirectory.class);
+
+    // 같은 시각에 변경되었지만 늦게 커밋된 가게를 놓치지 않도록 마지막 변경 시각보다 앞에서부터 다시 조회
+    static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final ShopApiClient shopApiClient;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile Instant lastUpdatedAt;
+    private volatile boolean loaded;
+
+    public ShopDirectory(ShopApiClient shopApiClient) {
+        this.shopApiClient = shopApiClient;
+    }
+
+    /**
+     * 기동 시 전체 적재 (Shop Context가 응답하지 않으면 다음 주기 동기화에서 재시도)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            int count = sync();
+            logger.info("가게 디렉터리 적재 완료: {}건", count);
+        } catch (RestClientException e) {
+            logger.warn("가게 디렉터리 적재 실패, 다음 동기화에서 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 증분 동기화
+     */
+    @Scheduled(fixedDelayString = "${order.shop-directory.refresh-interval-millis:30000}")
+    public void refresh() {
+        try {
+            sync();
+        } catch (RestClientException e) {
+            logger.warn("가게 디렉터리 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 변경분을 받아 디렉터리에 반영 (적재 전이면 전체)
+     * @return 반영한 가게 수
+     */
+    synchronized int sync() {
+        Instant since = loaded && lastUpdatedAt != null ? lastUpdatedAt.minus(SYNC_OVERLAP) : null;
+        List<ShopDirectoryEntryResponse> changed = shopApiClient.getShopDirectory(since);
+
+        Instant latest = lastUpdatedAt;
+        for (ShopDirectoryEntryResponse shop : changed) {
+            if (shop.getId() == null) {
+                continue;
+            }
+            Entry entry = new Entry(shop.getName(), shop.getMinOrderAmount(), shop.getUpdatedAt());
+            // 겹쳐 조회한 구간에서 이미 반영된 더 최신 값은 유지
+            entries.merge(shop.getId(), entry, (current, incoming) -> incoming.isOlderThan(current) ? current : incoming);
+            if (shop.getUpdatedAt() != null && (latest == null || shop.getUpdatedAt().isAfter(latest))) {
+                latest = shop.getUpdatedAt();
+            }
+        }
+        lastUpdatedAt = latest;
+        loaded = true;
+        return changed.size();
+    }
+
+    /**
+     * 가게 이름 조회 (디렉터리에 없으면 null)
+     */
+    public String nameOf(String shopId) {
+        Entry entry = shopId != null ? entries.get(shopId) : null;
+        return entry != null ? entry.name() : null;
+    }
+
+    /**
+     * 여러 가게의 이름을 한 번에 조회 (디렉터리에 없는 가게는 결과에서 제외)
+     */
+    public Map<String, String> namesOf(Collection<String> shopIds) {
+        Map<String, String> names = new HashMap<>();
+        for (String shopId : shopIds) {
+            if (shopId == null || names.containsKey(shopId)) {
+                continue;
+            }
+            Entry entry = entries.get(shopId);
+            if (entry != null && entry.name() != null) {
+                names.put(shopId, entry.name());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 가게 최소 주문금액 조회 (디렉터리에 없거나 설정되지 않았으면 empty)
+     */
+    public Optional<BigDecimal> minOrderAmountOf(String shopId) {
+        Entry entry = shopId != null ? entries.get(shopId) : null;
+        return entry != null ? Optional.ofNullable(entry.minOrderAmount()) : Optional.empty();
+    }
+
+    /**
+     * 전체 적재 완료 여부
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    private record Entry(String name, BigDecimal minOrderAmount, Instant updatedAt) {
+        boolean isOlderThan(Entry other) {
+            return updatedAt != null && other.updatedAt != null && updatedAt.isBefore(other.updatedAt);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package harry.boilerplate.order.query.application.service;
+
+import harry.boilerplate.order.query.application.dto.ShopOrderStreamMessage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 가게 하나의 최근 주문 스트림 이벤트 보관 (재연결 시 Last-Event-ID 이후 재전송용)
+ * 최근 capacity개만 보관하며, 요청한 ID 이후 이벤트 중 일부가 이미 밀려났거나 알 수 없는 ID이면 재전송 불가로 판단
+ * 동기화하지 않으므로 호출 측에서 가게 단위로 잠근 뒤 사용
+ */
+public class ShopOrderEventLog {
+
+    private final int capacity;
+    private final Deque<Entry> entries;
+    // 이 ID까지의 이벤트는 보관하지 않음 (처음에는 기록 시작 전 마지막 ID, 이후에는 마지막으로 밀려난 ID)
+    private long floor;
+    private long lastId;
+
+    public ShopOrderEventLog(int capacity, long startId) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("보관 이벤트 수는 1 이상이어야 합니다");
+        }
+        this.capacity = capacity;
+        this.entries = new ArrayDeque<>(capacity);
+        this.floor = startId;
+        this.lastId = startId;
+    }
+
+    /**
+     * 이벤트 추가 (ID는 이전 이벤트보다 커야 하며, 보관 수를 넘으면 가장 오래된 이벤트를 밀어냄)
+     */
+    public Entry append(long id, ShopOrderStreamMessage message) {
+        if (id <= lastId) {
+            throw new IllegalArgumentException("이벤트 ID는 증가해야 합니다: " + id);
+        }
+        if (entries.size() == capacity) {
+            floor = entries.removeFirst().id();
+        }
+        Entry entry = new Entry(id, message);
+        entries.addLast(entry);
+        lastId = id;
+        return entry;
+    }
+
+    /**
+     * 지정한 ID 이후의 이벤트 조회 (재전송할 수 없는 ID이면 empty)
+     */
+    public Optional<List<Entry>> after(long lastEventId) {
+        if (lastEventId < floor || lastEventId > lastId) {
+            return Optional.empty();
+        }
+        List<Entry> missed = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.id() > lastEventId) {
+                missed.add(entry);
+            }
+        }
+        return Optional.of(missed);
+    }
+
+    /**
+     * 보관 중인 이벤트에 해당 주문이 있는지 여부 (같은 주문을 두 번 전송하지 않기 위해 사용)
+     */
+    public boolean containsOrder(String orderId) {
+        for (Entry entry : entries) {
+            if (entry.message().getOrderId().equals(orderId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 마지막 이벤트 ID (이벤트가 없으면 기록 시작 전 ID)
+     */
+    public long lastId() {
+        return lastId;
+    }
+
+    /**
+     * 보관 중인 이벤트 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 스트림 이벤트 (ID는 SSE id 필드로 전송)
+     */
+    public record Entry(long id, ShopOrderStreamMessage message) {
+    }
+}
@@ -0,0 +1,71 @@
+package harry.boilerplate.order.query.application.service;
+
+import harry.boilerplate.order.query.infrastructure.dao.ShopOrderFeedDao;
+import harry.boilerplate.order.query.infrastructure.dao.ShopOrderFeedDao.FeedOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가게 주문 피드 폴러
+ * 주문 생성 커밋 이벤트는 주문을 커밋한 인스턴스에서만 발생하므로, 이 인스턴스에 연결된 가게의 최근 주문을 주기적으로 DB에서 읽어
+ * 다른 인스턴스에서 커밋된 주문도 가게 주문 스트림으로 전달 (이미 전송한 주문은 ShopOrderStreamRegistry가 걸러냄)
+ * 주문 시각은 커밋보다 앞서므로 마지막 조회 시각보다 lookback-millis 앞에서부터 다시 읽음
+ */
+@Component
+public class ShopOrderFeedPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShopOrderFeedPoller.class);
+
+    // 한 번에 조회할 가게 수 (IN 목록 크기 제한)
+    private static final int SHOPS_PER_QUERY = 500;
+
+    private final ShopOrderStreamRegistry shopOrderStreamRegistry;
+    private final ShopOrderFeedDao shopOrderFeedDao;
+    private final Duration lookback;
+    private volatile LocalDateTime lastPolledAt;
+
+    public ShopOrderFeedPoller(ShopOrderStreamRegistry shopOrderStreamRegistry, ShopOrderFeedDao shopOrderFeedDao,
+                               @Value("${order.shop-order-stream.feed-lookback-millis:30000}") long lookbackMillis) {
+        this.shopOrderStreamRegistry = shopOrderStreamRegistry;
+        this.shopOrderFeedDao = shopOrderFeedDao;
+        this.lookback = Duration.ofMillis(lookbackMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${order.shop-order-stream.feed-poll-interval-millis:2000}")
+    public void poll() {
+        try {
+            pollAt(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // 다음 주기에 마지막 조회 시각부터 다시 읽음
+            logger.warn("가게 주문 피드 조회 실패", e);
+        }
+    }
+
+    /**
+     * 연결된 가게의 최근 주문 중 아직 전송하지 않은 주문을 전송
+     * @return 새로 전송한 주문 수
+     */
+    public int pollAt(LocalDateTime now) {
+        List<String> shopIds = shopOrderStreamRegistry.subscribedShopIds();
+        LocalDateTime since = (lastPolledAt != null ? lastPolledAt : now).minus(lookback);
+
+        int delivered = 0;
+        for (int from = 0; from < shopIds.size(); from += SHOPS_PER_QUERY) {
+            List<String> chunk = shopIds.subList(from, Math.min(shopIds.size(), from + SHOPS_PER_QUERY));
+            for (FeedOrder order : shopOrderFeedDao.findOrdersSince(chunk, since)) {
+                if (shopOrderStreamRegistry.deliver(order.shopId(), order.message())) {
+                    delivered++;
+                }
+            }
+        }
+        lastPolledAt = now;
+        return delivered;
+    }
+}
@@ -0,0 +1,411 @@
+package harry.boilerplate.order.query.application.service;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.query.application.dto.ShopOrderStreamMessage;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가게별 주문 스트림(SSE) 구독 관리 (주방 화면의 새 주문 폴링 대체)
+ * 주문 생성이 커밋된 뒤 가게의 모든 연결에 전송하며, 가게별 최근 이벤트를 보관하여 재연결 시 Last-Event-ID 이후를 재전송
+ * 연결마다 크기가 정해진 전송 버퍼를 두고 별도 가상 스레드가 비우므로, 느린 연결이 주문 커밋이나 다른 연결의 전송을 막지 않음
+ * 버퍼가 가득 찬 연결은 끊고(클라이언트가 Last-Event-ID로 재연결), 재전송할 수 없는 위치에서 연결하면 "sync" 이벤트로 전체 재조회를 요청
+ * 이벤트 ID는 "인스턴스 epoch-순번" 형식이며 보관 이벤트는 인스턴스 메모리에만 있으므로,
+ * 재기동했거나 다른 인스턴스로 재연결하여 epoch가 다르면 순번을 비교하지 않고 "sync" 이벤트를 전송
+ * 연결이 없는 가게의 보관 이벤트는 idle-evict-millis 동안 새 주문이 없으면 heartbeat 주기에 정리 (이후 재연결은 "sync")
+ * 커밋 이벤트는 주문을 커밋한 인스턴스에서만 발생하므로, 다른 인스턴스에서 커밋된 주문은 ShopOrderFeedPoller가 DB에서 읽어 전달
+ * (같은 주문은 보관 이벤트에 있으면 다시 전송하지 않음)
+ */
+@Component
+public class ShopOrderStreamRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShopOrderStreamRegistry.class);
+
+    static final String ORDER_EVENT_NAME = "order";
+    // 이 이벤트를 받으면 클라이언트는 주문 작업 큐에서 현재 주문을 다시 조회한 뒤, 이벤트 ID 이후의 주문만 스트림으로 반영
+    static final String SYNC_EVENT_NAME = "sync";
+
+    // 끊긴 연결 재연결 대기 시간 (EventSource retry)
+    private static final long RECONNECT_MILLIS = 3_000;
+
+    private final long timeoutMillis;
+    private final int replaySize;
+    private final int bufferSize;
+    private final int maxStreamsPerShop;
+    private final long idleEvictMillis;
+    // 이벤트 ID 앞에 붙이는 인스턴스 epoch (재기동 전이나 다른 인스턴스의 ID로 재연결하면 그 사이 이벤트를 알 수 없으므로 재전송 불가로 판단)
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36)
+        + Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36 * 36), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, ShopChannel> channels = new ConcurrentHashMap<>();
+
+    public ShopOrderStreamRegistry(
+            @Value("${order.shop-order-stream.timeout-millis:1800000}") long timeoutMillis,
+            @Value("${order.shop-order-stream.replay-size:500}") int replaySize,
+            @Value("${order.shop-order-stream.buffer-size:256}") int bufferSize,
+            @Value("${order.shop-order-stream.max-streams-per-shop:20}") int maxStreamsPerShop,
+            @Value("${order.shop-order-stream.idle-evict-millis:600000}") long idleEvictMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.replaySize = replaySize;
+        this.bufferSize = bufferSize;
+        this.maxStreamsPerShop = maxStreamsPerShop;
+        this.idleEvictMillis = idleEvictMillis;
+    }
+
+    /**
+     * 가게 주문 스트림 구독
+     * lastEventId 이후 이벤트를 보관하고 있으면 재전송하고, 처음 연결했거나 재전송할 수 없으면 "sync" 이벤트를 먼저 전송
+     * 가게당 연결 수가 상한을 넘으면 가장 오래된 연결을 종료
+     */
+    public SseEmitter subscribe(ShopId shopId, String lastEventId) {
+        String key = shopId.getValue();
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber;
+        Subscriber evicted = null;
+        while (true) {
+            ShopChannel channel = channelOf(key);
+            synchronized (channel) {
+                if (channel.evicted) {
+                    // 정리와 겹친 경우 새 채널로 다시 시도
+                    continue;
+                }
+                subscriber = new Subscriber(channel, emitter);
+                // 재전송과 등록을 같은 잠금 안에서 수행하여 그 사이 커밋된 주문이 빠지거나 중복되지 않도록 함
+                Optional<List<ShopOrderEventLog.Entry>> missed = replayableAfter(channel.log, lastEventId);
+                if (missed.isPresent()) {
+                    missed.get().forEach(entry -> subscriber.offer(orderEvent(entry)));
+                } else {
+                    subscriber.offer(syncEvent(channel.log.lastId()));
+                }
+                channel.subscribers.addLast(subscriber);
+                channel.touch();
+                if (channel.subscribers.size() > maxStreamsPerShop) {
+                    evicted = channel.subscribers.pollFirst();
+                }
+                break;
+            }
+        }
+        emitter.onCompletion(() -> subscriber.channel.subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriber.channel.subscribers.remove(subscriber));
+
+        if (evicted != null) {
+            evicted.emitter.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * 주문 생성이 커밋되면 가게의 모든 연결에 전송 (연결이 없어도 재전송용으로 보관)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        if (event.getShopId() == null) {
+            return;
+        }
+        publish(event.getShopId(), ShopOrderStreamMessage.from(event), true);
+    }
+
+    /**
+     * 다른 인스턴스에서 커밋된 주문을 가게의 연결에 전송 (ShopOrderFeedPoller가 DB에서 읽은 주문)
+     * 이미 전송한 주문이거나 이 인스턴스에 가게 채널이 없으면 무시
+     * @return 전송 여부
+     */
+    public boolean deliver(String shopId, ShopOrderStreamMessage message) {
+        return publish(shopId, message, false);
+    }
+
+    /**
+     * 구독 중인 연결이 있는 가게 ID 목록
+     */
+    public List<String> subscribedShopIds() {
+        List<String> shopIds = new ArrayList<>();
+        channels.forEach((shopId, channel) -> {
+            if (!channel.subscribers.isEmpty()) {
+                shopIds.add(shopId);
+            }
+        });
+        return shopIds;
+    }
+
+    private boolean publish(String shopId, ShopOrderStreamMessage message, boolean createChannel) {
+        List<Subscriber> slow = new ArrayList<>();
+        while (true) {
+            ShopChannel channel = createChannel ? channelOf(shopId) : channels.get(shopId);
+            if (channel == null) {
+                return false;
+            }
+            synchronized (channel) {
+                if (channel.evicted) {
+                    if (!createChannel) {
+                        return false;
+                    }
+                    continue;
+                }
+                if (channel.log.containsOrder(message.getOrderId())) {
+                    return false;
+                }
+                // ID 발급과 보관을 같은 잠금 안에서 수행하여 가게 안에서 ID 순서가 보관 순서와 같도록 함
+                ShopOrderEventLog.Entry entry = channel.log.append(sequence.incrementAndGet(), message);
+                channel.touch();
+                // 이벤트는 한 번만 만들고 같은 내용을 모든 연결의 버퍼에 넣음
+                Set<ResponseBodyEmitter.DataWithMediaType> orderEvent = orderEvent(entry);
+                for (Subscriber subscriber : channel.subscribers) {
+                    if (!subscriber.offer(orderEvent)) {
+                        slow.add(subscriber);
+                    }
+                }
+                break;
+            }
+        }
+        slow.forEach(this::drop);
+        return true;
+    }
+
+    /**
+     * 모든 연결에 heartbeat 전송 (버퍼가 가득 찬 연결은 정리) 후 유휴 가게 채널 정리
+     */
+    @Scheduled(fixedDelayString = "${order.shop-order-stream.heartbeat-interval-millis:15000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+        for (ShopChannel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                if (!subscriber.offer(heartbeat)) {
+                    drop(subscriber);
+                }
+            }
+        }
+        evictIdleChannels(System.currentTimeMillis());
+    }
+
+    /**
+     * 연결이 없고 idle-evict-millis 동안 새 주문이 없던 가게의 채널(보관 이벤트 포함) 제거
+     * @return 제거한 채널 수
+     */
+    public int evictIdleChannels(long now) {
+        int evictedCount = 0;
+        for (Map.Entry<String, ShopChannel> entry : channels.entrySet()) {
+            ShopChannel channel = entry.getValue();
+            synchronized (channel) {
+                if (channel.subscribers.isEmpty() && now - channel.lastActivityMillis >= idleEvictMillis
+                        && channels.remove(entry.getKey(), channel)) {
+                    channel.evicted = true;
+                    evictedCount++;
+                }
+            }
+        }
+        return evictedCount;
+    }
+
+    /**
+     * 이벤트를 보관 중인 가게 채널 수
+     */
+    public int channelCount() {
+        return channels.size();
+    }
+
+    /**
+     * 현재 연결 수
+     */
+    public int streamCount() {
+        return channels.values().stream().mapToInt(channel -> channel.subscribers.size()).sum();
+    }
+
+    /**
+     * 가게의 현재 연결 수
+     */
+    public int streamCount(ShopId shopId) {
+        ShopChannel channel = channels.get(shopId.getValue());
+        return channel != null ? channel.subscribers.size() : 0;
+    }
+
+    /**
+     * 전송 버퍼가 가득 차 끊은 연결 수 (누적)
+     */
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+        for (ShopChannel channel : channels.values()) {
+            channel.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+            channel.subscribers.clear();
+        }
+    }
+
+    private ShopChannel channelOf(String shopId) {
+        // 새 채널은 현재 순번부터 기록하므로, 정리되기 전 채널의 ID로 재연결하면 보관 범위 밖으로 판단
+        return channels.computeIfAbsent(shopId, key -> new ShopChannel(new ShopOrderEventLog(replaySize, sequence.get())));
+    }
+
+    /**
+     * 재전송할 이벤트 조회 (ID가 없거나 형식이 맞지 않거나, 다른 epoch이거나, 보관 범위를 벗어났거나, 버퍼에 다 담을 수 없으면 empty)
+     */
+    private Optional<List<ShopOrderEventLog.Entry>> replayableAfter(ShopOrderEventLog log, String lastEventId) {
+        long id = localSequenceOf(lastEventId);
+        if (id < 0) {
+            return Optional.empty();
+        }
+        return log.after(id).filter(missed -> missed.size() < bufferSize);
+    }
+
+    /**
+     * 이 인스턴스가 발급한 이벤트 ID의 순번 (다른 epoch이거나 형식이 맞지 않으면 -1)
+     */
+    public long localSequenceOf(String eventId) {
+        if (eventId == null) {
+            return -1;
+        }
+        String prefix = epoch + "-";
+        String trimmed = eventId.trim();
+        if (!trimmed.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            long id = Long.parseLong(trimmed.substring(prefix.length()));
+            return id >= 0 ? id : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * SSE 이벤트 ID (인스턴스 epoch-순번)
+     */
+    public String eventId(long sequenceId) {
+        return epoch + "-" + sequenceId;
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscriber.channel.subscribers.remove(subscriber)) {
+            droppedCount.incrementAndGet();
+            logger.info("전송이 밀린 가게 주문 스트림 연결 종료 (버퍼 {}건 초과)", bufferSize);
+            subscriber.emitter.complete();
+        }
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> orderEvent(ShopOrderEventLog.Entry entry) {
+        return SseEmitter.event()
+            .id(eventId(entry.id()))
+            .name(ORDER_EVENT_NAME)
+            .reconnectTime(RECONNECT_MILLIS)
+            .data(entry.message(), MediaType.APPLICATION_JSON)
+            .build();
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> syncEvent(long lastId) {
+        return SseEmitter.event()
+            .id(eventId(lastId))
+            .name(SYNC_EVENT_NAME)
+            .reconnectTime(RECONNECT_MILLIS)
+            .data(SYNC_EVENT_NAME)
+            .build();
+    }
+
+    /**
+     * 가게 하나의 재전송 보관 이벤트와 연결 목록 (보관·전송 순서는 이 객체로 잠가 맞춤)
+     */
+    private static final class ShopChannel {
+
+        private final ShopOrderEventLog log;
+        private final Deque<Subscriber> subscribers = new ConcurrentLinkedDeque<>();
+        // 마지막 구독·주문 시각 (유휴 채널 정리 기준)
+        private volatile long lastActivityMillis = System.currentTimeMillis();
+        // 맵에서 제거된 채널 (잠금을 얻은 뒤 확인하여 제거된 채널에는 기록하지 않음)
+        private boolean evicted;
+
+        private ShopChannel(ShopOrderEventLog log) {
+            this.log = log;
+        }
+
+        private void touch() {
+            lastActivityMillis = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 연결 하나와 전송 대기 버퍼
+     * 버퍼에 넣는 쪽은 기다리지 않고, 비우는 작업은 연결마다 한 번에 하나만 실행
+     */
+    private final class Subscriber {
+
+        private final ShopChannel channel;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(ShopChannel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+        }
+
+        /**
+         * 전송 예약 (버퍼가 가득 차면 false)
+         */
+        private boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (!buffer.offer(event)) {
+                return false;
+            }
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+            return true;
+        }
+
+        private void drain() {
+            do {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while ((event = buffer.poll()) != null) {
+                    if (!send(event)) {
+                        buffer.clear();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!buffer.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private boolean send(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 끊어진 연결(IOException)은 컨테이너가 오류 콜백으로 종료하며, 이미 종료된 연결(IllegalStateException)은 목록에서만 제거
+                channel.subscribers.remove(this);
+                return false;
+            }
+        }
+    }
+}
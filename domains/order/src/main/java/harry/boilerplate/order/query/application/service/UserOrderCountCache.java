@@ -0,0 +1,77 @@
+package harry.boilerplate.order.query.application.service;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.infrastructure.dao.OrderQueryDao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 주문 수 캐시
+ * 최초 조회 시에만 COUNT 쿼리를 실행하고, 이후에는 주문 생성 이벤트(커밋 후)로 값을 증가시켜 유지
+ * 조회와 커밋이 엇갈려 생길 수 있는 오차는 TTL이 지나 다시 집계하면서 보정
+ * 최대 사용자 수를 넘으면 가장 오래 조회하지 않은 사용자(LRU)부터 제거
+ */
+@Component
+public class UserOrderCountCache {
+
+    private final OrderQueryDao orderQueryDao;
+    private final long ttlMillis;
+
+    private final Map<String, CachedCount> counts;
+
+    public UserOrderCountCache(OrderQueryDao orderQueryDao,
+                               @Value("${order.history.count-ttl-millis:600000}") long ttlMillis,
+                               @Value("${order.history.count-max-entries:100000}") int maxEntries) {
+        this.orderQueryDao = orderQueryDao;
+        this.ttlMillis = ttlMillis;
+        this.counts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCount> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 사용자의 총 주문 수 조회
+     */
+    public long getCount(UserId userId) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(userId.getValue());
+        if (cached != null && now - cached.loadedAt() < ttlMillis) {
+            return cached.count();
+        }
+
+        long count = orderQueryDao.countOrdersByUserId(userId);
+        counts.put(userId.getValue(), new CachedCount(count, now));
+        return count;
+    }
+
+    /**
+     * 주문 생성이 커밋되면 캐시된 주문 수를 1 증가 (캐시에 없는 사용자는 다음 조회 시 집계)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        counts.computeIfPresent(event.getUserId(), (userId, cached) -> cached.increment());
+    }
+
+    /**
+     * 사용자의 캐시된 주문 수 제거
+     */
+    public void evict(UserId userId) {
+        counts.remove(userId.getValue());
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+        CachedCount increment() {
+            return new CachedCount(count + 1, loadedAt);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package harry.boilerplate.order.query.infrastructure.archive;
+
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderItemReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderSummaryReadModel;
+import harry.boilerplate.order.query.application.readModel.SelectedOptionReadModel;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아카이브 세그먼트에 저장된 주문 한 건 (주문 + 라인 아이템 + 선택 옵션)
+ */
+public record ArchivedOrder(String orderId, String userId, String shopId, String shopName, OrderStatus status,
+                            LocalDateTime orderTime, BigDecimal totalPrice, List<Item> items) {
+
+    public ArchivedOrder {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * 총 주문 수량 (라인 아이템 수량의 합)
+     */
+    public int totalQuantity() {
+        int total = 0;
+        for (Item item : items) {
+            total += item.quantity();
+        }
+        return total;
+    }
+
+    /**
+     * 주문 이력 Read Model로 변환 (가게 이름은 현재 이름이 있으면 그 이름 사용)
+     */
+    public OrderHistoryReadModel toHistoryReadModel(String currentShopName) {
+        List<OrderItemReadModel> orderItems = new ArrayList<>(items.size());
+        for (Item item : items) {
+            List<SelectedOptionReadModel> options = new ArrayList<>(item.options().size());
+            for (Option option : item.options()) {
+                options.add(new SelectedOptionReadModel(option.optionId(), option.optionName(), option.optionPrice()));
+            }
+            orderItems.add(new OrderItemReadModel(
+                item.itemId(), item.menuId(), item.menuName(), options, item.quantity(), item.linePrice()));
+        }
+        return new OrderHistoryReadModel(orderId, userId, shopId,
+            currentShopName != null ? currentShopName : shopName,
+            orderItems, totalPrice, totalQuantity(), orderTime);
+    }
+
+    /**
+     * 최근 주문 요약 Read Model로 변환
+     */
+    public OrderSummaryReadModel toSummaryReadModel(String currentShopName) {
+        return new OrderSummaryReadModel(orderId, shopId,
+            currentShopName != null ? currentShopName : shopName,
+            totalPrice, totalQuantity(), orderTime,
+            items.isEmpty() ? "" : items.get(0).menuName(),
+            Math.max(0, items.size() - 1));
+    }
+
+    public record Item(String itemId, String menuId, String menuName, int quantity, BigDecimal linePrice,
+                       List<Option> options) {
+
+        public Item {
+            options = List.copyOf(options);
+        }
+    }
+
+    public record Option(String optionId, String optionName, BigDecimal optionPrice) {
+    }
+}
@@ -0,0 +1,114 @@
+package harry.boilerplate.order.query.infrastructure.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 아카이브 세그먼트 컬럼 값 인코딩
+ * - 정수: zigzag 가변 길이 (작은 값일수록 적은 바이트, 시각은 앞 값과의 차이로 기록)
+ * - 문자열: 길이(가변 길이, null은 0) + UTF-8 바이트 (길이는 실제 길이 + 1)
+ * - 금액: 센트 단위 정수 + 1 (null은 0)
+ */
+final class ColumnEncoding {
+
+    private ColumnEncoding() {
+    }
+
+    /**
+     * 컬럼 하나를 바이트 배열로 쌓는 버퍼
+     */
+    static final class Writer {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+        void writeLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                out.write((int) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            out.write((int) zigzag);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeLong(bytes.length + 1L);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        void writeAmount(BigDecimal amount) {
+            writeLong(amount == null ? 0 : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact() + 1);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * 압축을 푼 컬럼 하나를 앞에서부터 읽는 커서
+     */
+    static final class Reader {
+
+        private final ByteBuffer buffer;
+
+        Reader(byte[] bytes) {
+            this.buffer = ByteBuffer.wrap(bytes);
+        }
+
+        long readLong() {
+            long zigzag = 0;
+            int shift = 0;
+            while (true) {
+                byte b = buffer.get();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    break;
+                }
+                shift += 7;
+            }
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        int readInt() {
+            return Math.toIntExact(readLong());
+        }
+
+        String readString() {
+            int length = readInt();
+            if (length == 0) {
+                return null;
+            }
+            String value = new String(buffer.array(), buffer.position(), length - 1, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length - 1);
+            return value;
+        }
+
+        /**
+         * 문자열을 만들지 않고 건너뛰면서 주어진 UTF-8 바이트와 같은지 비교
+         */
+        boolean readStringEquals(byte[] expected) {
+            int length = readInt();
+            if (length == 0) {
+                return false;
+            }
+            int start = buffer.position();
+            buffer.position(start + length - 1);
+            return length - 1 == expected.length
+                && Arrays.equals(buffer.array(), start, start + expected.length, expected, 0, expected.length);
+        }
+
+        BigDecimal readAmount() {
+            long encoded = readLong();
+            return encoded == 0 ? null : BigDecimal.valueOf(encoded - 1, 2);
+        }
+    }
+}
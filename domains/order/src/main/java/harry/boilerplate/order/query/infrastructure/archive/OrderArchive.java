@@ -0,0 +1,204 @@
+package harry.boilerplate.order.query.infrastructure.archive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주문 아카이브 세그먼트 목록
+ * 아카이브 디렉터리의 세그먼트(월 하나 × 샤드 하나)를 메모리 매핑해 두고 사용자·주문 ID 조회를 세그먼트 전체에 걸쳐 수행
+ * 세그먼트 목록은 불변 리스트로 교체하므로 조회 중에도 새 세그먼트를 등록할 수 있음
+ * 아카이브 작업은 한 인스턴스에서만 돌고 나머지 인스턴스는 같은 디렉터리를 읽기만 하므로,
+ * 디렉터리는 모든 인스턴스가 마운트한 공유 저장소(NFS 등)의 절대 경로여야 하며(order.archive.enabled=true면 상대 경로 거부)
+ * 각 인스턴스는 reload-interval-millis마다 디렉터리를 다시 읽어 다른 인스턴스가 쓴 세그먼트를 반영함
+ * 작업은 세그먼트를 쓴 뒤 publish-delay-millis(재적재 주기보다 김)가 지나야 DB 원본을 지우므로, 지운 주문이 어느 인스턴스에서도 사라지지 않음
+ */
+@Component
+public class OrderArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchive.class);
+
+    // 최신순 (주문 시각 내림차순, 같으면 주문 ID 내림차순)
+    public static final Comparator<ArchivedOrder> LATEST_FIRST =
+        Comparator.comparing(ArchivedOrder::orderTime).thenComparing(ArchivedOrder::orderId).reversed();
+
+    private final Path directory;
+    private volatile List<OrderArchiveSegment> segments = List.of();
+
+    public OrderArchive(@Value("${order.archive.directory:archive/orders}") String directory,
+                        @Value("${order.archive.enabled:false}") boolean archiveEnabled) {
+        this.directory = Paths.get(directory);
+        if (archiveEnabled && !this.directory.isAbsolute()) {
+            throw new IllegalArgumentException(
+                "order.archive.directory는 모든 인스턴스가 공유하는 저장소의 절대 경로여야 합니다: " + directory);
+        }
+    }
+
+    /**
+     * 아카이브 디렉터리의 세그먼트 적재 (기동 시와 reload-interval-millis마다, 손상된 파일은 건너뜀)
+     * 이미 매핑한 세그먼트는 그대로 쓰고 새로 생긴 파일만 열며, 사라진 파일은 목록에서 뺌
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${order.archive.reload-interval-millis:60000}",
+        initialDelayString = "${order.archive.reload-interval-millis:60000}")
+    public synchronized void load() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Map<Path, OrderArchiveSegment> current = new HashMap<>();
+        for (OrderArchiveSegment segment : segments) {
+            current.put(segment.path(), segment);
+        }
+
+        List<OrderArchiveSegment> loaded = new ArrayList<>();
+        int opened = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "orders-*.oarc")) {
+            for (Path file : files) {
+                OrderArchiveSegment existing = current.get(file);
+                if (existing != null) {
+                    loaded.add(existing);
+                    continue;
+                }
+                try {
+                    loaded.add(OrderArchiveSegment.open(file));
+                    opened++;
+                } catch (RuntimeException e) {
+                    logger.warn("아카이브 세그먼트 적재 실패: {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (opened == 0 && loaded.size() == current.size()) {
+            return;
+        }
+        loaded.sort(Comparator.comparing(OrderArchiveSegment::month).reversed());
+        segments = List.copyOf(loaded);
+        logger.info("주문 아카이브 적재 완료: 세그먼트 {}개 (새로 연 세그먼트 {}개)", loaded.size(), opened);
+    }
+
+    /**
+     * 샤드·월의 세그먼트 파일 경로
+     */
+    public Path segmentPath(String shardId, YearMonth month) {
+        return directory.resolve("orders-" + month + "-" + shardId + ".oarc");
+    }
+
+    /**
+     * 작성이 끝난 세그먼트를 이 인스턴스의 조회 대상에 바로 추가 (같은 경로의 세그먼트는 교체)
+     * 다른 인스턴스는 다음 재적재 때 반영하므로, 원본 삭제는 재적재 주기가 지난 뒤에 해야 함
+     */
+    synchronized void register(OrderArchiveSegment segment) {
+        List<OrderArchiveSegment> next = new ArrayList<>(segments.size() + 1);
+        for (OrderArchiveSegment existing : segments) {
+            if (!existing.path().equals(segment.path())) {
+                next.add(existing);
+            }
+        }
+        next.add(segment);
+        next.sort(Comparator.comparing(OrderArchiveSegment::month).reversed());
+        segments = List.copyOf(next);
+    }
+
+    /**
+     * 샤드·월이 이미 아카이브되었는지 여부
+     */
+    public boolean contains(String shardId, YearMonth month) {
+        Path path = segmentPath(shardId, month);
+        for (OrderArchiveSegment segment : segments) {
+            if (segment.path().equals(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 샤드에서 아카이브된 가장 최근 월 (아카이브는 오래된 월부터 진행하므로 이 월까지는 DB에 주문이 없음)
+     */
+    public Optional<YearMonth> latestMonth(String shardId) {
+        // 세그먼트 목록은 최신 월 순
+        for (OrderArchiveSegment segment : segments) {
+            if (segment.path().equals(segmentPath(shardId, segment.month()))) {
+                return Optional.of(segment.month());
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /**
+     * 사용자의 아카이브 주문 전체 (최신순)
+     */
+    public List<ArchivedOrder> findByUser(String userId) {
+        return findByUser(userId, null, null);
+    }
+
+    /**
+     * 사용자의 기간 내 아카이브 주문 (최신순, 양 끝 포함, null이면 제한 없음)
+     * 기간과 겹치지 않는 월의 세그먼트는 열어보지 않음
+     */
+    public List<ArchivedOrder> findByUser(String userId, LocalDateTime from, LocalDateTime to) {
+        List<ArchivedOrder> orders = new ArrayList<>();
+        for (OrderArchiveSegment segment : segments) {
+            YearMonth month = segment.month();
+            if ((from != null && month.isBefore(YearMonth.from(from)))
+                || (to != null && month.isAfter(YearMonth.from(to)))) {
+                continue;
+            }
+            for (ArchivedOrder order : segment.findByUser(userId)) {
+                if ((from == null || !order.orderTime().isBefore(from)) && (to == null || !order.orderTime().isAfter(to))) {
+                    orders.add(order);
+                }
+            }
+        }
+        orders.sort(LATEST_FIRST);
+        return orders;
+    }
+
+    /**
+     * 사용자의 아카이브 주문 수
+     */
+    public long countByUser(String userId) {
+        long count = 0;
+        for (OrderArchiveSegment segment : segments) {
+            count += segment.countByUser(userId);
+        }
+        return count;
+    }
+
+    /**
+     * 주문 ID로 조회 (최근 월부터 확인)
+     */
+    public Optional<ArchivedOrder> findById(String orderId) {
+        for (OrderArchiveSegment segment : segments) {
+            Optional<ArchivedOrder> order = segment.findById(orderId);
+            if (order.isPresent()) {
+                return order;
+            }
+        }
+        return Optional.empty();
+    }
+}
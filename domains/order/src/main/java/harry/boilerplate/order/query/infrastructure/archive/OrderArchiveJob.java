@@ -0,0 +1,322 @@
+package harry.boilerplate.order.query.infrastructure.archive;
+
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardContext;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.infrastructure.dao.CursorFetch;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.AvailableHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * 오래된 주문 아카이브 작업
+ * 샤드마다 보관 기간(retention-months)이 지난 가장 오래된 월부터 한 달씩
+ * 1) 주문·라인 아이템·선택 옵션을 (사용자 ID, 주문 시각, 주문 ID) 순 커서로 읽어 세그먼트 파일로 쓰고
+ * 2) 파일 전체를 다시 읽어 검증한 뒤 조회 대상에 등록하고, 다른 인스턴스가 공유 디렉터리를 다시 읽을 때까지(publish-delay-millis) 기다린 뒤
+ * 3) 세그먼트에 저장된 주문 ID로 배치 단위 기본 키 삭제 (라인 아이템·옵션·주문 요약은 외래 키로 함께 삭제)
+ * 세그먼트 파일이 이미 있으면 다시 쓰지 않고 삭제만 이어서 진행하므로 중간에 중단되어도 다시 실행하면 됨
+ * 월 범위 조회(가장 오래된 월, 월 주문 수, 세그먼트 작성)는 order_time 색인(idx_order_time_id)을 사용
+ * 세그먼트에 없는 주문은 지우지 않으며, 삭제 후 해당 월에 주문이 남아 있으면 같은 월을 반복하지 않도록 중단하고 운영자 확인 필요
+ * 월 하나를 처리하는 시간이 샤드 병렬 조회 제한 시간보다 길 수 있으므로 ShardRouter 실행기 대신 작업 스레드에서 직접 트랜잭션을 염
+ * 정기 실행은 스케줄러 스레드를 오래 점유하지 않도록 전용 작업 스레드에 넘김
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.archive", name = "enabled", havingValue = "true")
+public class OrderArchiveJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiveJob.class);
+
+    // 라인 아이템·옵션당 한 행, 세그먼트 저장 순서와 같도록 사용자·주문 ID는 바이트 순으로 정렬 (라인은 주문 시 순서)
+    private static final String ARCHIVE_ROWS_SQL =
+        "SELECT o.id, o.user_id, o.shop_id, s.shop_name, o.status, o.order_time, o.total_price, " +
+        "li.id, li.menu_id, li.menu_name, li.quantity, li.line_price, " +
+        "so.option_id, so.option_name, so.option_price " +
+        "FROM order_table o " +
+        "LEFT JOIN order_summary s ON s.order_id = o.id " +
+        "LEFT JOIN order_line_item li ON li.order_id = o.id " +
+        "LEFT JOIN order_item_selected_option so ON so.order_line_item_id = li.id " +
+        "WHERE o.order_time >= :from AND o.order_time < :to " +
+        "ORDER BY o.user_id COLLATE utf8mb4_bin, o.order_time, o.id COLLATE utf8mb4_bin, li.line_no, li.id, so.option_id";
+
+    // 기본 키로 삭제하고, 월 조건은 다른 월 주문을 지우지 않도록 한 번 더 확인하는 용도
+    private static final String DELETE_ORDERS_SQL =
+        "DELETE FROM order_table WHERE id IN (:ids) AND order_time >= :from AND order_time < :to";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final OrderArchive orderArchive;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate shardTransaction;
+    private final int retentionMonths;
+    private final int fetchSize;
+    private final int deleteBatchSize;
+    private final int blockSize;
+    private final long publishDelayMillis;
+    private final ExecutorService scheduledRuns =
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "order-archive"));
+
+    public OrderArchiveJob(OrderArchive orderArchive, ShardRouter shardRouter,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${order.archive.retention-months:12}") int retentionMonths,
+                           @Value("${order.archive.fetch-size:1000}") int fetchSize,
+                           @Value("${order.archive.delete-batch-size:1000}") int deleteBatchSize,
+                           @Value("${order.archive.block-size:256}") int blockSize,
+                           @Value("${order.archive.reload-interval-millis:60000}") long reloadIntervalMillis,
+                           @Value("${order.archive.publish-delay-millis:180000}") long publishDelayMillis) {
+        if (retentionMonths <= 0) {
+            throw new IllegalArgumentException("보관 기간은 1개월 이상이어야 합니다");
+        }
+        if (publishDelayMillis <= reloadIntervalMillis) {
+            throw new IllegalArgumentException("원본 삭제 대기 시간은 아카이브 재적재 주기보다 길어야 합니다");
+        }
+        this.orderArchive = orderArchive;
+        this.shardRouter = shardRouter;
+        this.shardTransaction = new TransactionTemplate(transactionManager);
+        this.shardTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.retentionMonths = retentionMonths;
+        this.fetchSize = fetchSize;
+        this.deleteBatchSize = deleteBatchSize;
+        this.blockSize = blockSize;
+        this.publishDelayMillis = publishDelayMillis;
+    }
+
+    /**
+     * 매월 보관 기간이 지난 월 아카이브를 작업 스레드에 넘김
+     */
+    @Scheduled(cron = "${order.archive.cron:0 0 5 2 * *}")
+    public void archiveExpiredMonths() {
+        scheduledRuns.execute(() -> {
+            try {
+                int months = archiveBefore(YearMonth.now().minusMonths(retentionMonths));
+                logger.info("주문 아카이브 완료: {}개 세그먼트", months);
+            } catch (RuntimeException e) {
+                logger.error("주문 아카이브 실패, 다음 실행 시 이어서 진행", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduledRuns.shutdownNow();
+    }
+
+    /**
+     * cutoff 이전 월의 주문을 모든 샤드에서 아카이브
+     * @return 아카이브한 세그먼트 수 (샤드 × 월)
+     */
+    public synchronized int archiveBefore(YearMonth cutoff) {
+        if (cutoff == null) {
+            throw new IllegalArgumentException("아카이브 기준 월은 필수입니다");
+        }
+
+        int segments = 0;
+        for (String shardId : shardRouter.getShardMap().shardIds()) {
+            YearMonth month;
+            while ((month = oldestMonth(shardId)) != null && month.isBefore(cutoff)) {
+                archiveMonth(shardId, month);
+                segments++;
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * 샤드 하나의 월 하나를 세그먼트로 옮기고 원본 삭제
+     */
+    private void archiveMonth(String shardId, YearMonth month) {
+        Path path = orderArchive.segmentPath(shardId, month);
+        if (!Files.exists(path)) {
+            createDirectories(path.getParent());
+            int written = ShardContext.callInShard(shardId, () ->
+                shardTransaction.execute(status -> CursorFetch.call(entityManager, () -> writeSegment(path, month))));
+            logger.info("아카이브 세그먼트 작성: {}, {}건", path, written);
+        }
+
+        OrderArchiveSegment segment = OrderArchiveSegment.open(path);
+        segment.verify();
+        long remaining = ShardContext.callInShard(shardId, () ->
+            shardTransaction.execute(status -> countMonth(month)));
+        if (remaining > segment.orderCount()) {
+            // 세그먼트 작성 뒤 해당 월 주문이 추가된 경우 (삭제는 하지 않고 운영자 확인 필요)
+            throw new IllegalStateException("아카이브 세그먼트보다 DB 주문이 많습니다: " + path
+                + ", segment=" + segment.orderCount() + ", db=" + remaining);
+        }
+        orderArchive.register(segment);
+        awaitPublished(path);
+
+        // 재실행 시 이미 지운 ID는 삭제 건수 0으로 지나감
+        List<String> orderIds = segment.orderIds();
+        long deleted = 0;
+        for (int from = 0; from < orderIds.size(); from += deleteBatchSize) {
+            List<String> batch = orderIds.subList(from, Math.min(from + deleteBatchSize, orderIds.size()));
+            deleted += ShardContext.callInShard(shardId, () ->
+                shardTransaction.execute(status -> deleteBatch(batch, month)));
+        }
+        logger.info("아카이브 원본 삭제: shard={}, month={}, {}건", shardId, month, deleted);
+
+        long left = ShardContext.callInShard(shardId, () -> shardTransaction.execute(status -> countMonth(month)));
+        if (left > 0) {
+            throw new IllegalStateException("아카이브 세그먼트에 없는 주문이 남아 있습니다: " + path + ", db=" + left);
+        }
+    }
+
+    /**
+     * 월의 주문을 커서로 읽어 세그먼트 파일로 작성 (샤드 트랜잭션 안에서 실행)
+     * @return 저장한 주문 수
+     */
+    private int writeSegment(Path path, YearMonth month) {
+        @SuppressWarnings("unchecked")
+        Stream<Object[]> rows = entityManager.createNativeQuery(ARCHIVE_ROWS_SQL)
+            .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(AvailableHints.HINT_READ_ONLY, true)
+            .setParameter("from", Timestamp.valueOf(month.atDay(1).atStartOfDay()))
+            .setParameter("to", Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()))
+            .getResultStream();
+
+        try (rows; OrderArchiveSegmentWriter writer = new OrderArchiveSegmentWriter(path, month, blockSize)) {
+            OrderRows order = null;
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                if (order == null || !order.orderId.equals(row[0])) {
+                    if (order != null) {
+                        writer.append(order.toArchivedOrder());
+                    }
+                    order = new OrderRows(row);
+                }
+                order.add(row);
+            }
+            if (order != null) {
+                writer.append(order.toArchivedOrder());
+            }
+            return writer.finish();
+        }
+    }
+
+    private YearMonth oldestMonth(String shardId) {
+        Object oldest = ShardContext.callInShard(shardId, () -> shardTransaction.execute(status ->
+            entityManager.createNativeQuery("SELECT MIN(order_time) FROM order_table").getSingleResult()));
+        return oldest == null ? null : YearMonth.from(toLocalDateTime(oldest));
+    }
+
+    private long countMonth(YearMonth month) {
+        Number count = (Number) entityManager.createNativeQuery(
+                "SELECT COUNT(*) FROM order_table WHERE order_time >= :from AND order_time < :to")
+            .setParameter("from", Timestamp.valueOf(month.atDay(1).atStartOfDay()))
+            .setParameter("to", Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()))
+            .getSingleResult();
+        return count.longValue();
+    }
+
+    private int deleteBatch(List<String> orderIds, YearMonth month) {
+        return entityManager.createNativeQuery(DELETE_ORDERS_SQL)
+            .setParameter("ids", orderIds)
+            .setParameter("from", Timestamp.valueOf(month.atDay(1).atStartOfDay()))
+            .setParameter("to", Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()))
+            .executeUpdate();
+    }
+
+    /**
+     * 세그먼트 파일이 쓰인 뒤 publish-delay-millis가 지날 때까지 대기 (재실행 시 이미 지났으면 바로 진행)
+     */
+    private void awaitPublished(Path path) {
+        try {
+            long age = System.currentTimeMillis() - Files.getLastModifiedTime(path).toMillis();
+            if (age < publishDelayMillis) {
+                logger.info("다른 인스턴스의 아카이브 재적재 대기: {}, {}ms", path, publishDelayMillis - age);
+                Thread.sleep(publishDelayMillis - age);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("아카이브 원본 삭제 대기 중 중단되었습니다: " + path, e);
+        }
+    }
+
+    private static void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    /**
+     * 주문 하나에 해당하는 연속 행 누적 (라인 아이템 ID 순, 아이템 안에서는 옵션 ID 순)
+     */
+    private static final class OrderRows {
+
+        private final String orderId;
+        private final Object[] header;
+        private final List<ArchivedOrder.Item> items = new ArrayList<>();
+        private Object[] currentItem;
+        private List<ArchivedOrder.Option> currentOptions;
+
+        OrderRows(Object[] row) {
+            this.orderId = (String) row[0];
+            this.header = row;
+        }
+
+        void add(Object[] row) {
+            if (row[7] == null) {
+                return;
+            }
+            if (currentItem == null || !currentItem[7].equals(row[7])) {
+                flushItem();
+                currentItem = row;
+                currentOptions = new ArrayList<>();
+            }
+            if (row[12] != null) {
+                currentOptions.add(new ArchivedOrder.Option(
+                    (String) row[12], (String) row[13], (BigDecimal) row[14]));
+            }
+        }
+
+        ArchivedOrder toArchivedOrder() {
+            flushItem();
+            return new ArchivedOrder(orderId, (String) header[1], (String) header[2], (String) header[3],
+                OrderStatus.valueOf((String) header[4]), toLocalDateTime(header[5]), (BigDecimal) header[6], items);
+        }
+
+        private void flushItem() {
+            if (currentItem == null) {
+                return;
+            }
+            items.add(new ArchivedOrder.Item((String) currentItem[7], (String) currentItem[8],
+                (String) currentItem[9], ((Number) currentItem[10]).intValue(), (BigDecimal) currentItem[11],
+                currentOptions));
+            currentItem = null;
+        }
+    }
+}
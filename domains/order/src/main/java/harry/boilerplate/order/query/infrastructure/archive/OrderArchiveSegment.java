@@ -0,0 +1,346 @@
+package harry.boilerplate.order.query.infrastructure.archive;
+
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 읽기 전용으로 메모리 매핑한 아카이브 세그먼트
+ * 열 때 꼬리말과 블록 색인만 읽고, 조회 시 색인으로 후보 블록을 찾아 필요한 컬럼만 압축 해제
+ * 매핑된 버퍼는 읽기만 하므로 여러 스레드가 동시에 조회해도 안전 (조회마다 독립된 슬라이스 사용)
+ */
+final class OrderArchiveSegment {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final Path path;
+    private final YearMonth month;
+    private final MappedByteBuffer buffer;
+    private final int orderCount;
+
+    // 블록 색인 (블록 순서 = 사용자 ID 순서)
+    private final String[] firstUserIds;
+    private final String[] lastUserIds;
+    private final long[] offsets;
+    private final int[] lengths;
+    private final int[] blockOrders;
+    // 블록별 주문 ID 블룸 필터 (버전 1 세그먼트는 null이며 모든 블록을 확인)
+    private final long[][] orderIdFilters;
+
+    private OrderArchiveSegment(Path path, YearMonth month, MappedByteBuffer buffer, int orderCount,
+                                String[] firstUserIds, String[] lastUserIds, long[] offsets, int[] lengths,
+                                int[] blockOrders, long[][] orderIdFilters) {
+        this.path = path;
+        this.month = month;
+        this.buffer = buffer;
+        this.orderCount = orderCount;
+        this.firstUserIds = firstUserIds;
+        this.lastUserIds = lastUserIds;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.blockOrders = blockOrders;
+        this.orderIdFilters = orderIdFilters;
+    }
+
+    /**
+     * 세그먼트 파일을 매핑하고 꼬리말·블록 색인을 검증
+     */
+    static OrderArchiveSegment open(Path path) {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < SegmentFormat.FOOTER_LENGTH) {
+                throw new IllegalStateException("아카이브 세그먼트가 아닙니다: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ByteBuffer footer = buffer.slice(buffer.capacity() - SegmentFormat.FOOTER_LENGTH, SegmentFormat.FOOTER_LENGTH);
+        long indexOffset = footer.getLong();
+        int indexLength = footer.getInt();
+        int blockCount = footer.getInt();
+        int orderCount = footer.getInt();
+        int yearMonth = footer.getInt();
+        int version = footer.getInt();
+        int magic = footer.getInt();
+        if (magic != SegmentFormat.MAGIC) {
+            throw new IllegalStateException("아카이브 세그먼트가 아닙니다: " + path);
+        }
+        if (version != SegmentFormat.VERSION && version != SegmentFormat.VERSION_WITHOUT_ID_FILTER) {
+            throw new IllegalStateException("지원하지 않는 아카이브 세그먼트 버전입니다: " + version + ", " + path);
+        }
+        if (indexOffset < 0 || indexOffset + indexLength > buffer.capacity() - SegmentFormat.FOOTER_LENGTH) {
+            throw new IllegalStateException("아카이브 세그먼트 색인이 손상되었습니다: " + path);
+        }
+
+        ByteBuffer index = buffer.slice((int) indexOffset, indexLength);
+        String[] firstUserIds = new String[blockCount];
+        String[] lastUserIds = new String[blockCount];
+        long[] offsets = new long[blockCount];
+        int[] lengths = new int[blockCount];
+        int[] blockOrders = new int[blockCount];
+        long[][] orderIdFilters = version == SegmentFormat.VERSION ? new long[blockCount][] : null;
+        for (int i = 0; i < blockCount; i++) {
+            firstUserIds[i] = readIndexString(index);
+            lastUserIds[i] = readIndexString(index);
+            offsets[i] = index.getLong();
+            lengths[i] = index.getInt();
+            blockOrders[i] = index.getInt();
+            if (orderIdFilters != null) {
+                long[] filter = new long[index.getInt()];
+                for (int j = 0; j < filter.length; j++) {
+                    filter[j] = index.getLong();
+                }
+                orderIdFilters[i] = filter;
+            }
+        }
+
+        return new OrderArchiveSegment(path, YearMonth.of(yearMonth / 100, yearMonth % 100), buffer, orderCount,
+            firstUserIds, lastUserIds, offsets, lengths, blockOrders, orderIdFilters);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    YearMonth month() {
+        return month;
+    }
+
+    int orderCount() {
+        return orderCount;
+    }
+
+    /**
+     * 사용자의 주문 전체 (주문 시각, 주문 ID 오름차순)
+     */
+    List<ArchivedOrder> findByUser(String userId) {
+        List<ArchivedOrder> orders = new ArrayList<>();
+        for (int block = firstCandidateBlock(userId); block < offsets.length; block++) {
+            if (firstUserIds[block].compareTo(userId) > 0) {
+                break;
+            }
+            decodeBlock(block, userId, null, orders);
+        }
+        return orders;
+    }
+
+    /**
+     * 사용자의 주문 수 (사용자 ID 컬럼만 압축 해제)
+     */
+    int countByUser(String userId) {
+        int count = 0;
+        byte[] expected = userId.getBytes(StandardCharsets.UTF_8);
+        for (int block = firstCandidateBlock(userId); block < offsets.length; block++) {
+            if (firstUserIds[block].compareTo(userId) > 0) {
+                break;
+            }
+            ByteBuffer data = blockData(block);
+            ColumnEncoding.Reader users = column(data, SegmentFormat.USER_ID);
+            for (int i = 0; i < blockOrders[block]; i++) {
+                if (users.readStringEquals(expected)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 주문 ID로 조회 (블룸 필터를 통과한 블록만 주문 ID 컬럼을 풀어 확인하므로, 없는 주문은 대부분 압축 해제 없이 끝남)
+     */
+    Optional<ArchivedOrder> findById(String orderId) {
+        byte[] expected = orderId.getBytes(StandardCharsets.UTF_8);
+        for (int block = 0; block < offsets.length; block++) {
+            if (!mightContain(block, expected)) {
+                continue;
+            }
+            ColumnEncoding.Reader ids = column(blockData(block), SegmentFormat.ORDER_ID);
+            for (int i = 0; i < blockOrders[block]; i++) {
+                if (ids.readStringEquals(expected)) {
+                    List<ArchivedOrder> found = new ArrayList<>(1);
+                    decodeBlock(block, null, orderId, found);
+                    return found.stream().findFirst();
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 블록에 주문 ID가 있을 수 있는지 여부 (블룸 필터가 없는 이전 형식은 항상 true)
+     */
+    boolean mightContain(int block, byte[] orderId) {
+        return orderIdFilters == null || OrderIdFilter.mightContain(orderIdFilters[block], orderId);
+    }
+
+    /**
+     * 블록 수
+     */
+    int blockCount() {
+        return offsets.length;
+    }
+
+    /**
+     * 세그먼트에 저장된 주문 ID 전체 (저장 순서, 블록마다 주문 ID 컬럼만 압축 해제)
+     */
+    List<String> orderIds() {
+        List<String> orderIds = new ArrayList<>(orderCount);
+        for (int block = 0; block < offsets.length; block++) {
+            ColumnEncoding.Reader ids = column(blockData(block), SegmentFormat.ORDER_ID);
+            for (int i = 0; i < blockOrders[block]; i++) {
+                orderIds.add(ids.readString());
+            }
+        }
+        return orderIds;
+    }
+
+    /**
+     * 모든 블록을 풀어 주문 수가 꼬리말과 같은지 확인
+     * @return 읽은 주문 수
+     */
+    int verify() {
+        int count = 0;
+        List<ArchivedOrder> orders = new ArrayList<>();
+        for (int block = 0; block < offsets.length; block++) {
+            orders.clear();
+            decodeBlock(block, null, null, orders);
+            if (orders.size() != blockOrders[block]) {
+                throw new IllegalStateException("아카이브 블록 주문 수가 맞지 않습니다: " + path + ", block=" + block);
+            }
+            count += orders.size();
+        }
+        if (count != orderCount) {
+            throw new IllegalStateException("아카이브 주문 수가 맞지 않습니다: " + path);
+        }
+        return count;
+    }
+
+    /**
+     * 사용자의 주문이 있을 수 있는 첫 블록 (마지막 사용자 ID가 userId 이상인 첫 블록)
+     */
+    private int firstCandidateBlock(String userId) {
+        int low = 0;
+        int high = lastUserIds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lastUserIds[mid].compareTo(userId) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 블록 하나를 풀어 조건에 맞는 주문을 out에 추가 (userId·orderId가 null이면 조건 없음)
+     */
+    private void decodeBlock(int block, String userId, String orderId, List<ArchivedOrder> out) {
+        ByteBuffer data = blockData(block);
+        ColumnEncoding.Reader[] columns = new ColumnEncoding.Reader[SegmentFormat.COLUMN_COUNT];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = column(data, i);
+        }
+
+        ColumnEncoding.Reader users = columns[SegmentFormat.USER_ID];
+        ColumnEncoding.Reader ids = columns[SegmentFormat.ORDER_ID];
+        ColumnEncoding.Reader times = columns[SegmentFormat.ORDER_TIME];
+        long time = 0;
+        for (int i = 0; i < blockOrders[block]; i++) {
+            String user = users.readString();
+            String id = ids.readString();
+            String shopId = columns[SegmentFormat.SHOP_ID].readString();
+            String shopName = columns[SegmentFormat.SHOP_NAME].readString();
+            OrderStatus status = STATUSES[columns[SegmentFormat.STATUS].readInt()];
+            time += times.readLong();
+            BigDecimal totalPrice = columns[SegmentFormat.TOTAL_PRICE].readAmount();
+            int itemCount = columns[SegmentFormat.ITEM_COUNT].readInt();
+
+            List<ArchivedOrder.Item> items = new ArrayList<>(itemCount);
+            for (int j = 0; j < itemCount; j++) {
+                String itemId = columns[SegmentFormat.ITEM_ID].readString();
+                String menuId = columns[SegmentFormat.MENU_ID].readString();
+                String menuName = columns[SegmentFormat.MENU_NAME].readString();
+                int quantity = columns[SegmentFormat.QUANTITY].readInt();
+                BigDecimal linePrice = columns[SegmentFormat.LINE_PRICE].readAmount();
+                int optionCount = columns[SegmentFormat.OPTION_COUNT].readInt();
+
+                List<ArchivedOrder.Option> options = new ArrayList<>(optionCount);
+                for (int k = 0; k < optionCount; k++) {
+                    options.add(new ArchivedOrder.Option(
+                        columns[SegmentFormat.OPTION_ID].readString(),
+                        columns[SegmentFormat.OPTION_NAME].readString(),
+                        columns[SegmentFormat.OPTION_PRICE].readAmount()));
+                }
+                items.add(new ArchivedOrder.Item(itemId, menuId, menuName, quantity, linePrice, options));
+            }
+
+            if ((userId == null || userId.equals(user)) && (orderId == null || orderId.equals(id))) {
+                out.add(new ArchivedOrder(id, user, shopId, shopName, status,
+                    LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC), totalPrice, items));
+            }
+        }
+    }
+
+    private ByteBuffer blockData(int block) {
+        return buffer.slice(Math.toIntExact(offsets[block]), lengths[block]);
+    }
+
+    /**
+     * 블록 안의 컬럼 하나를 압축 해제
+     */
+    private static ColumnEncoding.Reader column(ByteBuffer block, int column) {
+        int compressedLength = block.getInt(4 + column * 8);
+        int rawLength = block.getInt(4 + column * 8 + 4);
+        int offset = SegmentFormat.BLOCK_HEADER_LENGTH;
+        for (int i = 0; i < column; i++) {
+            offset += block.getInt(4 + i * 8);
+        }
+
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(block.slice(offset, compressedLength));
+            int inflated = 0;
+            while (inflated < rawLength && !inflater.finished()) {
+                int length = inflater.inflate(raw, inflated, rawLength - inflated);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += length;
+            }
+            if (inflated != rawLength) {
+                throw new IllegalStateException("아카이브 컬럼 길이가 맞지 않습니다: column=" + column);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("아카이브 컬럼이 손상되었습니다: column=" + column, e);
+        } finally {
+            inflater.end();
+        }
+        return new ColumnEncoding.Reader(raw);
+    }
+
+    private static String readIndexString(ByteBuffer index) {
+        byte[] bytes = new byte[index.getInt()];
+        index.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,252 @@
+package harry.boilerplate.order.query.infrastructure.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * 아카이브 세그먼트 작성기
+ * (사용자 ID, 주문 시각, 주문 ID) 순으로 주문을 받아 blockSize개씩 컬럼별로 압축해 임시 파일에 쓰고,
+ * finish()에서 블록 색인과 꼬리말을 쓴 뒤 디스크에 반영하고 대상 경로로 원자적으로 이동
+ * finish() 전에 close()하면 임시 파일을 지움
+ */
+class OrderArchiveSegmentWriter implements AutoCloseable {
+
+    private final Path target;
+    private final Path temporary;
+    private final YearMonth month;
+    private final int blockSize;
+    private final FileChannel channel;
+
+    private final List<ArchivedOrder> block = new ArrayList<>();
+    private final List<BlockEntry> entries = new ArrayList<>();
+    private long position;
+    private int orderCount;
+    private ArchivedOrder last;
+    private boolean finished;
+
+    OrderArchiveSegmentWriter(Path target, YearMonth month, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("블록 크기는 1 이상이어야 합니다");
+        }
+        this.target = target;
+        this.temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        this.month = month;
+        this.blockSize = blockSize;
+        try {
+            this.channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 주문 추가 (이전 주문보다 (사용자 ID, 주문 시각, 주문 ID) 순으로 뒤여야 함)
+     */
+    void append(ArchivedOrder order) {
+        if (finished) {
+            throw new IllegalStateException("이미 완료된 세그먼트입니다");
+        }
+        if (last != null && compare(last, order) >= 0) {
+            throw new IllegalArgumentException("주문은 사용자 ID, 주문 시각, 주문 ID 순이어야 합니다: " + order.orderId());
+        }
+        block.add(order);
+        last = order;
+        orderCount++;
+        if (block.size() == blockSize) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * 남은 블록과 색인을 쓰고 대상 경로로 이동
+     * @return 저장한 주문 수
+     */
+    int finish() {
+        flushBlock();
+        try {
+            byte[] index = encodeIndex();
+            long indexOffset = position;
+            write(ByteBuffer.wrap(index));
+
+            ByteBuffer footer = ByteBuffer.allocate(SegmentFormat.FOOTER_LENGTH);
+            footer.putLong(indexOffset)
+                .putInt(index.length)
+                .putInt(entries.size())
+                .putInt(orderCount)
+                .putInt(month.getYear() * 100 + month.getMonthValue())
+                .putInt(SegmentFormat.VERSION)
+                .putInt(SegmentFormat.MAGIC)
+                .flip();
+            write(footer);
+
+            channel.force(true);
+            channel.close();
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finished = true;
+        return orderCount;
+    }
+
+    @Override
+    public void close() {
+        if (finished) {
+            return;
+        }
+        try {
+            channel.close();
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushBlock() {
+        if (block.isEmpty()) {
+            return;
+        }
+
+        ColumnEncoding.Writer[] columns = new ColumnEncoding.Writer[SegmentFormat.COLUMN_COUNT];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new ColumnEncoding.Writer();
+        }
+        long previousTime = 0;
+        for (ArchivedOrder order : block) {
+            long time = order.orderTime().toEpochSecond(ZoneOffset.UTC);
+            columns[SegmentFormat.USER_ID].writeString(order.userId());
+            columns[SegmentFormat.ORDER_ID].writeString(order.orderId());
+            columns[SegmentFormat.SHOP_ID].writeString(order.shopId());
+            columns[SegmentFormat.SHOP_NAME].writeString(order.shopName());
+            columns[SegmentFormat.STATUS].writeLong(order.status().ordinal());
+            columns[SegmentFormat.ORDER_TIME].writeLong(time - previousTime);
+            columns[SegmentFormat.TOTAL_PRICE].writeAmount(order.totalPrice());
+            columns[SegmentFormat.ITEM_COUNT].writeLong(order.items().size());
+            previousTime = time;
+
+            for (ArchivedOrder.Item item : order.items()) {
+                columns[SegmentFormat.ITEM_ID].writeString(item.itemId());
+                columns[SegmentFormat.MENU_ID].writeString(item.menuId());
+                columns[SegmentFormat.MENU_NAME].writeString(item.menuName());
+                columns[SegmentFormat.QUANTITY].writeLong(item.quantity());
+                columns[SegmentFormat.LINE_PRICE].writeAmount(item.linePrice());
+                columns[SegmentFormat.OPTION_COUNT].writeLong(item.options().size());
+
+                for (ArchivedOrder.Option option : item.options()) {
+                    columns[SegmentFormat.OPTION_ID].writeString(option.optionId());
+                    columns[SegmentFormat.OPTION_NAME].writeString(option.optionName());
+                    columns[SegmentFormat.OPTION_PRICE].writeAmount(option.optionPrice());
+                }
+            }
+        }
+
+        byte[][] compressed = new byte[columns.length][];
+        int[] rawLengths = new int[columns.length];
+        int blockLength = SegmentFormat.BLOCK_HEADER_LENGTH;
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            for (int i = 0; i < columns.length; i++) {
+                byte[] raw = columns[i].toByteArray();
+                rawLengths[i] = raw.length;
+                compressed[i] = deflate(deflater, raw);
+                blockLength += compressed[i].length;
+            }
+        } finally {
+            deflater.end();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(blockLength);
+        buffer.putInt(block.size());
+        for (int i = 0; i < columns.length; i++) {
+            buffer.putInt(compressed[i].length).putInt(rawLengths[i]);
+        }
+        for (byte[] column : compressed) {
+            buffer.put(column);
+        }
+        buffer.flip();
+
+        entries.add(new BlockEntry(block.get(0).userId(), block.get(block.size() - 1).userId(),
+            position, blockLength, block.size(),
+            OrderIdFilter.build(block.stream().map(ArchivedOrder::orderId).toList())));
+        try {
+            write(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        block.clear();
+    }
+
+    private byte[] encodeIndex() {
+        int length = 0;
+        List<byte[][]> userIds = new ArrayList<>(entries.size());
+        for (BlockEntry entry : entries) {
+            byte[][] pair = {
+                entry.firstUserId().getBytes(StandardCharsets.UTF_8),
+                entry.lastUserId().getBytes(StandardCharsets.UTF_8)
+            };
+            userIds.add(pair);
+            length += 4 + pair[0].length + 4 + pair[1].length + 8 + 4 + 4 + 4 + entry.orderIdFilter().length * 8;
+        }
+
+        ByteBuffer index = ByteBuffer.allocate(length);
+        for (int i = 0; i < entries.size(); i++) {
+            BlockEntry entry = entries.get(i);
+            byte[][] pair = userIds.get(i);
+            index.putInt(pair[0].length).put(pair[0])
+                .putInt(pair[1].length).put(pair[1])
+                .putLong(entry.offset())
+                .putInt(entry.length())
+                .putInt(entry.orderCount())
+                .putInt(entry.orderIdFilter().length);
+            for (long word : entry.orderIdFilter()) {
+                index.putLong(word);
+            }
+        }
+        return index.array();
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer);
+        }
+    }
+
+    private static byte[] deflate(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        byte[] chunk = new byte[Math.max(64, raw.length / 2)];
+        java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream(chunk.length);
+        while (!deflater.finished()) {
+            int length = deflater.deflate(chunk);
+            out.write(chunk, 0, length);
+        }
+        return out.toByteArray();
+    }
+
+    static int compare(ArchivedOrder a, ArchivedOrder b) {
+        int byUser = a.userId().compareTo(b.userId());
+        if (byUser != 0) {
+            return byUser;
+        }
+        int byTime = a.orderTime().compareTo(b.orderTime());
+        return byTime != 0 ? byTime : a.orderId().compareTo(b.orderId());
+    }
+
+    private record BlockEntry(String firstUserId, String lastUserId, long offset, int length, int orderCount,
+                              long[] orderIdFilter) {
+    }
+}
@@ -0,0 +1,70 @@
+package harry.boilerplate.order.query.infrastructure.archive;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 블록별 주문 ID 블룸 필터
+ * 주문 ID 조회 시 해당 주문이 없는 블록(대부분)은 압축을 풀지 않고 건너뛰기 위해 블록 색인에 함께 저장
+ * 주문당 BITS_PER_ORDER비트, 해시 HASH_COUNT개로 거짓 양성은 약 1% (거짓 음성은 없음)
+ */
+final class OrderIdFilter {
+
+    static final int BITS_PER_ORDER = 10;
+    static final int HASH_COUNT = 7;
+
+    private OrderIdFilter() {
+    }
+
+    /**
+     * 주문 ID 목록으로 필터 생성 (64비트 단위 배열)
+     */
+    static long[] build(List<String> orderIds) {
+        int words = Math.max(1, (orderIds.size() * BITS_PER_ORDER + 63) / 64);
+        long[] bits = new long[words];
+        for (String orderId : orderIds) {
+            long hash = hash(orderId.getBytes(StandardCharsets.UTF_8));
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASH_COUNT; i++) {
+                int bit = Math.floorMod(h1 + i * h2, words * 64);
+                bits[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 주문 ID가 필터에 있을 수 있는지 여부 (false면 확실히 없음)
+     */
+    static boolean mightContain(long[] bits, byte[] orderId) {
+        long hash = hash(orderId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        int size = bits.length * 64;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = Math.floorMod(h1 + i * h2, size);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * UTF-8 바이트의 64비트 해시 (FNV-1a 후 비트 섞기, 파일에 저장되므로 실행 환경과 무관하게 고정)
+     */
+    private static long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
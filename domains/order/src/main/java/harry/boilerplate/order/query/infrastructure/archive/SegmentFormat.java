@@ -0,0 +1,51 @@
+package harry.boilerplate.order.query.infrastructure.archive;
+
+/**
+ * 아카이브 세그먼트 파일 형식 (월 하나 × 샤드 하나, 한 번 쓰면 바뀌지 않음)
+ * <pre>
+ * [블록 0][블록 1]...[블록 n-1][블록 색인][꼬리말]
+ * 블록    = 주문 수(int) + 컬럼별 (압축 길이(int), 원본 길이(int)) + 컬럼별 Deflate 압축 바이트
+ * 블록 색인 = 블록별 (첫 사용자 ID, 마지막 사용자 ID, 블록 시작 위치(long), 블록 길이(int), 주문 수(int),
+ *            주문 ID 블룸 필터 길이(int, long 개수) + 필터(long...))  ※ 버전 1은 블룸 필터 없음
+ * 꼬리말   = 색인 시작 위치(long), 색인 길이(int), 블록 수(int), 주문 수(int), 연월(yyyyMM, int), 버전(int), 매직(int)
+ * </pre>
+ * 주문은 (사용자 ID, 주문 시각, 주문 ID) 순으로 저장하므로 블록 색인이 사용자별 희소 색인 역할을 하고,
+ * 주문 ID 조회는 블록별 블룸 필터로 후보 블록만 압축 해제
+ * 라인 아이템·옵션 컬럼은 주문·아이템 순서대로 이어 붙이고, 주문별 아이템 수와 아이템별 옵션 수 컬럼으로 구분
+ */
+final class SegmentFormat {
+
+    static final int MAGIC = 0x4F415243; // "OARC"
+    static final int VERSION = 2;
+    // 블룸 필터가 없는 이전 형식 (읽기만 지원)
+    static final int VERSION_WITHOUT_ID_FILTER = 1;
+    static final int FOOTER_LENGTH = 8 + 4 * 6;
+
+    // 주문 컬럼
+    static final int USER_ID = 0;
+    static final int ORDER_ID = 1;
+    static final int SHOP_ID = 2;
+    static final int SHOP_NAME = 3;
+    static final int STATUS = 4;
+    static final int ORDER_TIME = 5;
+    static final int TOTAL_PRICE = 6;
+    static final int ITEM_COUNT = 7;
+    // 라인 아이템 컬럼
+    static final int ITEM_ID = 8;
+    static final int MENU_ID = 9;
+    static final int MENU_NAME = 10;
+    static final int QUANTITY = 11;
+    static final int LINE_PRICE = 12;
+    static final int OPTION_COUNT = 13;
+    // 선택 옵션 컬럼
+    static final int OPTION_ID = 14;
+    static final int OPTION_NAME = 15;
+    static final int OPTION_PRICE = 16;
+
+    static final int COLUMN_COUNT = 17;
+
+    static final int BLOCK_HEADER_LENGTH = 4 + COLUMN_COUNT * 8;
+
+    private SegmentFormat() {
+    }
+}
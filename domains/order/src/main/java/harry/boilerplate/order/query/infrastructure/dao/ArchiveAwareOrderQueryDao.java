@@ -0,0 +1,227 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.command.domain.valueObject.OrderId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderSummaryReadModel;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
+import harry.boilerplate.order.query.infrastructure.archive.ArchivedOrder;
+import harry.boilerplate.order.query.infrastructure.archive.OrderArchive;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 아카이브를 함께 조회하는 주문 Query DAO
+ * 아카이브된 월은 DB에 남아 있는 어떤 주문보다 오래되었으므로, 최신순 결과는 DB 결과 뒤에 아카이브 결과를 이어 붙여 만듦
+ * - 페이지가 DB 결과만으로 채워지면 아카이브를 읽지 않고, 모자랄 때만 메모리 매핑된 세그먼트에서 나머지를 채움
+ * - 세그먼트 등록 직후 원본 삭제가 끝나기 전에는 같은 주문이 양쪽에 있을 수 있으므로 DB 결과에 있는 주문은 아카이브 결과에서 제외
+ * - 가게의 최근 주문(관리용)은 아카이브 대상 기간과 겹치지 않으므로 DB만 조회
+ * 아카이브가 비어 있으면 모든 조회를 DB 구현에 그대로 위임
+ */
+@Repository
+@Primary
+public class ArchiveAwareOrderQueryDao implements OrderQueryDao {
+
+    private final OrderQueryDao database;
+    private final OrderArchive orderArchive;
+    private final ShopDirectory shopDirectory;
+
+    public ArchiveAwareOrderQueryDao(@Qualifier("databaseOrderQueryDao") OrderQueryDao database,
+                                     OrderArchive orderArchive, ShopDirectory shopDirectory) {
+        this.database = database;
+        this.orderArchive = orderArchive;
+        this.shopDirectory = shopDirectory;
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserId(UserId userId, int page, int size) {
+        List<OrderHistoryReadModel> recent = database.findOrderHistoryByUserId(userId, page, size);
+        if (userId == null || recent.size() >= size || orderArchive.isEmpty()) {
+            return recent;
+        }
+
+        // DB에 남은 주문 수만큼 아카이브 쪽 시작 위치를 당김
+        long offset = (long) page * size;
+        long archiveOffset = Math.max(0, offset - database.countOrdersByUserId(userId));
+        return appendArchived(recent, orderArchive.findByUser(userId.getValue()), archiveOffset, size, order -> true);
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdBefore(
+            UserId userId, LocalDateTime orderTime, String orderId, int limit) {
+        List<OrderHistoryReadModel> recent = database.findOrderHistoryByUserIdBefore(userId, orderTime, orderId, limit);
+        if (userId == null || recent.size() >= limit || orderArchive.isEmpty()) {
+            return recent;
+        }
+
+        boolean hasCursor = orderTime != null && orderId != null;
+        List<ArchivedOrder> archived = orderArchive.findByUser(userId.getValue(), null, hasCursor ? orderTime : null);
+        return appendArchived(recent, archived, 0, limit, order -> !hasCursor
+            || order.orderTime().isBefore(orderTime)
+            || (order.orderTime().isEqual(orderTime) && order.orderId().compareTo(orderId) < 0));
+    }
+
+    @Override
+    public Optional<OrderHistoryReadModel> findOrderHistoryById(OrderId orderId) {
+        Optional<OrderHistoryReadModel> order = database.findOrderHistoryById(orderId);
+        if (orderId == null || order.isPresent() || orderArchive.isEmpty()) {
+            return order;
+        }
+        return orderArchive.findById(orderId.getValue())
+            .map(archived -> archived.toHistoryReadModel(shopDirectory.nameOf(archived.shopId())));
+    }
+
+    @Override
+    public List<OrderSummaryReadModel> findRecentOrdersByUserId(UserId userId, int limit) {
+        List<OrderSummaryReadModel> recent = database.findRecentOrdersByUserId(userId, limit);
+        if (userId == null || recent.size() >= limit || orderArchive.isEmpty()) {
+            return recent;
+        }
+
+        Set<String> seen = new HashSet<>();
+        recent.forEach(order -> seen.add(order.getOrderId()));
+        List<ArchivedOrder> archived = new ArrayList<>();
+        for (ArchivedOrder order : orderArchive.findByUser(userId.getValue())) {
+            if (recent.size() + archived.size() >= limit) {
+                break;
+            }
+            if (!seen.contains(order.orderId())) {
+                archived.add(order);
+            }
+        }
+
+        Map<String, String> shopNames = shopNamesOf(archived);
+        List<OrderSummaryReadModel> result = new ArrayList<>(recent);
+        archived.forEach(order -> result.add(order.toSummaryReadModel(shopNames.get(order.shopId()))));
+        return result;
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdAndDateRange(
+            UserId userId, LocalDateTime startDate, LocalDateTime endDate) {
+        List<OrderHistoryReadModel> recent =
+            database.findOrderHistoryByUserIdAndDateRange(userId, startDate, endDate);
+        if (userId == null || orderArchive.isEmpty()) {
+            return recent;
+        }
+        return appendArchived(recent, orderArchive.findByUser(userId.getValue(), startDate, endDate),
+            0, Integer.MAX_VALUE, order -> true);
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdAndDateRanges(UserId userId, List<DateRange> ranges) {
+        List<OrderHistoryReadModel> recent = database.findOrderHistoryByUserIdAndDateRanges(userId, ranges);
+        if (userId == null || ranges == null || ranges.isEmpty() || orderArchive.isEmpty()) {
+            return recent;
+        }
+
+        // 기간 전체를 덮는 범위로 세그먼트를 한 번 읽고 각 기간에 속한 주문만 남김
+        LocalDateTime startDate = ranges.stream().map(DateRange::startDate).min(Comparator.naturalOrder()).get();
+        LocalDateTime endDate = ranges.stream().map(DateRange::endDate).max(Comparator.naturalOrder()).get();
+        return appendArchived(recent, orderArchive.findByUser(userId.getValue(), startDate, endDate),
+            0, Integer.MAX_VALUE, order -> ranges.stream().anyMatch(range -> range.contains(order.orderTime())));
+    }
+
+    @Override
+    public long countOrdersByUserId(UserId userId) {
+        long count = database.countOrdersByUserId(userId);
+        if (userId == null || orderArchive.isEmpty()) {
+            return count;
+        }
+        return count + orderArchive.countByUser(userId.getValue());
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdAndShopId(UserId userId, String shopId) {
+        List<OrderHistoryReadModel> recent = database.findOrderHistoryByUserIdAndShopId(userId, shopId);
+        if (userId == null || shopId == null || orderArchive.isEmpty()) {
+            return recent;
+        }
+        return appendArchived(recent, orderArchive.findByUser(userId.getValue()),
+            0, Integer.MAX_VALUE, order -> shopId.equals(order.shopId()));
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdAndStatus(
+            UserId userId, OrderStatus status, int page, int size) {
+        List<OrderHistoryReadModel> recent = database.findOrderHistoryByUserIdAndStatus(userId, status, page, size);
+        if (userId == null || status == null || recent.size() >= size || orderArchive.isEmpty()) {
+            return recent;
+        }
+
+        long offset = (long) page * size;
+        long archiveOffset = Math.max(0, offset - database.countOrdersByUserIdAndStatus(userId, status));
+        return appendArchived(recent, orderArchive.findByUser(userId.getValue()), archiveOffset, size,
+            order -> order.status() == status);
+    }
+
+    @Override
+    public long countOrdersByUserIdAndStatus(UserId userId, OrderStatus status) {
+        long count = database.countOrdersByUserIdAndStatus(userId, status);
+        if (userId == null || status == null || orderArchive.isEmpty()) {
+            return count;
+        }
+        return count + orderArchive.findByUser(userId.getValue()).stream()
+            .filter(order -> order.status() == status)
+            .count();
+    }
+
+    @Override
+    public List<OrderSummaryReadModel> findRecentOrdersByShopId(String shopId, int limit) {
+        return database.findRecentOrdersByShopId(shopId, limit);
+    }
+
+    /**
+     * DB 결과 뒤에 조건에 맞는 아카이브 주문을 이어 붙임 (최신순 유지)
+     * @param skip 조건에 맞는 아카이브 주문 중 건너뛸 수
+     * @param limit 결과 전체의 최대 크기
+     */
+    private List<OrderHistoryReadModel> appendArchived(List<OrderHistoryReadModel> recent, List<ArchivedOrder> archived,
+                                                       long skip, int limit, Predicate<ArchivedOrder> filter) {
+        Set<String> seen = new HashSet<>();
+        recent.forEach(order -> seen.add(order.getOrderId()));
+
+        List<ArchivedOrder> selected = new ArrayList<>();
+        long skipped = 0;
+        for (ArchivedOrder order : archived) {
+            if (recent.size() + selected.size() >= limit) {
+                break;
+            }
+            if (!filter.test(order) || seen.contains(order.orderId())) {
+                continue;
+            }
+            if (skipped < skip) {
+                skipped++;
+                continue;
+            }
+            selected.add(order);
+        }
+        if (selected.isEmpty()) {
+            return recent;
+        }
+
+        Map<String, String> shopNames = shopNamesOf(selected);
+        List<OrderHistoryReadModel> result = new ArrayList<>(recent.size() + selected.size());
+        result.addAll(recent);
+        selected.forEach(order -> result.add(order.toHistoryReadModel(shopNames.get(order.shopId()))));
+        return result;
+    }
+
+    private Map<String, String> shopNamesOf(List<ArchivedOrder> orders) {
+        Set<String> shopIds = new HashSet<>();
+        orders.forEach(order -> shopIds.add(order.shopId()));
+        return shopDirectory.namesOf(shopIds);
+    }
+}
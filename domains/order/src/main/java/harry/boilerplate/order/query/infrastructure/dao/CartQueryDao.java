@@ -4,6 +4,7 @@ import harry.boilerplate.order.query.application.readModel.CartSummaryReadModel;
 import harry.boilerplate.order.command.domain.valueObject.CartId;
 import harry.boilerplate.order.command.domain.valueObject.UserId;
 
+import java.time.Instant;
 import java.util.Optional;
 
 /**
@@ -21,6 +22,11 @@ public interface CartQueryDao {
      */
     Optional<CartSummaryReadModel> findCartSummaryById(CartId cartId);
     
+    /**
+     * 사용자 장바구니의 마지막 변경 시각 조회 (조건부 GET 버전 확인용, 장바구니가 없으면 empty)
+     */
+    Optional<Instant> findCartUpdatedAtByUserId(UserId userId);
+    
     /**
      * 사용자의 장바구니 존재 여부 확인
      */
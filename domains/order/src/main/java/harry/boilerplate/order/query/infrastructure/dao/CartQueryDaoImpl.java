@@ -1,104 +1,63 @@
 package harry.boilerplate.order.query.infrastructure.dao;
 
-import harry.boilerplate.order.query.application.readModel.CartItemReadModel;
 import harry.boilerplate.order.query.application.readModel.CartSummaryReadModel;
-import harry.boilerplate.order.query.application.readModel.SelectedOptionReadModel;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
 import harry.boilerplate.order.command.domain.valueObject.CartId;
 import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.external.shop.MenuPriceTableCache;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 장바구니 조회 최적화를 위한 Query DAO 구현체
  * EntityManager를 직접 사용하여 읽기 최적화 쿼리 수행
+ * 장바구니 요약은 조인 쿼리 한 번과 가격표 일괄 조회 한 번으로 조립
+ * order.query.dao=jdbc 이면 CartQueryDaoJdbcImpl이 대신 사용됨
  */
 @Repository
+@ConditionalOnProperty(prefix = "order.query", name = "dao", havingValue = "jpa", matchIfMissing = true)
 @Transactional(readOnly = true)
 public class CartQueryDaoImpl implements CartQueryDao {
 
+    private static final String EXISTS_SQL = "SELECT 1 FROM cart WHERE id = ?";
+
+    // 장바구니·아이템·선택 옵션을 한 번에 읽는 조인 (조건절은 호출 측에서 덧붙임)
+    private static final String CART_SUMMARY_JPQL =
+        "SELECT c.id, c.userId, c.shopId, c.updatedAt, cli.id, cli.menuId, cli.quantity, cio " +
+        "FROM Cart c LEFT JOIN c.items cli LEFT JOIN cli.selectedOptionIds cio ";
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final MenuPriceTableCache menuPriceTableCache;
+    private final ShardRouter shardRouter;
+    private final ShopDirectory shopDirectory;
+
+    public CartQueryDaoImpl(MenuPriceTableCache menuPriceTableCache, ShardRouter shardRouter,
+                            ShopDirectory shopDirectory) {
+        this.menuPriceTableCache = menuPriceTableCache;
+        this.shardRouter = shardRouter;
+        this.shopDirectory = shopDirectory;
+    }
+
     @Override
     public Optional<CartSummaryReadModel> findCartSummaryByUserId(UserId userId) {
         if (userId == null) {
             return Optional.empty();
         }
 
-        try {
-            // 장바구니 기본 정보 조회
-            Object[] cartData = entityManager.createQuery(
-                "SELECT c.id, c.userId, c.shopId, c.updatedAt " +
-                "FROM Cart c WHERE c.userId = :userId", Object[].class)
+        return shardRouter.onShardOf(userId, () -> assembleCartSummary(
+            entityManager.createQuery(CART_SUMMARY_JPQL + "WHERE c.userId = :userId", Object[].class)
                 .setParameter("userId", userId.getValue())
-                .getSingleResult();
-
-            String cartId = (String) cartData[0];
-            String userIdValue = (String) cartData[1];
-            String shopId = (String) cartData[2];
-            Instant updatedAt = (Instant) cartData[3];
-
-            // 장바구니 아이템들 조회
-            List<Object[]> itemsData = entityManager.createQuery(
-                "SELECT cli.id, cli.menuId, cli.quantity " +
-                "FROM CartLineItem cli WHERE cli.cart.id = :cartId", Object[].class)
-                .setParameter("cartId", cartId)
-                .getResultList();
-
-            List<CartItemReadModel> items = new ArrayList<>();
-            BigDecimal totalPrice = BigDecimal.ZERO;
-            int totalQuantity = 0;
-
-            for (Object[] itemData : itemsData) {
-                String itemId = (String) itemData[0];
-                String menuId = (String) itemData[1];
-                int quantity = (Integer) itemData[2];
-
-                // TODO: Shop Context API를 통해 메뉴 정보와 가격 조회
-                String menuName = "메뉴명"; // Shop API 호출 필요
-                BigDecimal menuPrice = BigDecimal.valueOf(10000); // Shop API 호출 필요
-                
-                // 선택된 옵션들 조회
-                List<String> optionIds = entityManager.createQuery(
-                    "SELECT cio.optionId FROM CartLineItem cli " +
-                    "JOIN cli.selectedOptionIds cio WHERE cli.id = :itemId", String.class)
-                    .setParameter("itemId", itemId)
-                    .getResultList();
-
-                List<SelectedOptionReadModel> selectedOptions = new ArrayList<>();
-                for (String optionId : optionIds) {
-                    // TODO: Shop Context API를 통해 옵션 정보 조회
-                    selectedOptions.add(new SelectedOptionReadModel(
-                        optionId, "옵션명", BigDecimal.ZERO)); // Shop API 호출 필요
-                }
-
-                BigDecimal linePrice = menuPrice.multiply(BigDecimal.valueOf(quantity));
-                
-                items.add(new CartItemReadModel(
-                    itemId, menuId, menuName, menuPrice, selectedOptions, quantity, linePrice));
-                
-                totalPrice = totalPrice.add(linePrice);
-                totalQuantity += quantity;
-            }
-
-            // TODO: Shop Context API를 통해 가게 이름 조회
-            String shopName = shopId != null ? "가게명" : null; // Shop API 호출 필요
-
-            return Optional.of(new CartSummaryReadModel(
-                cartId, userIdValue, shopId, shopName, items, totalPrice, totalQuantity, updatedAt));
-
-        } catch (NoResultException e) {
-            return Optional.empty();
-        }
+                .getResultList()));
     }
 
     @Override
@@ -107,20 +66,23 @@ public class CartQueryDaoImpl implements CartQueryDao {
             return Optional.empty();
         }
 
-        try {
-            // 장바구니 기본 정보 조회
-            Object[] cartData = entityManager.createQuery(
-                "SELECT c.id, c.userId, c.shopId, c.updatedAt " +
-                "FROM Cart c WHERE c.id = :cartId", Object[].class)
+        return shardRouter.onShardLocating(EXISTS_SQL, cartId.getValue(), () -> assembleCartSummary(
+            entityManager.createQuery(CART_SUMMARY_JPQL + "WHERE c.id = :cartId", Object[].class)
                 .setParameter("cartId", cartId.getValue())
-                .getSingleResult();
-
-            String userIdValue = (String) cartData[1];
-            return findCartSummaryByUserId(UserId.of(userIdValue));
+                .getResultList()), Optional::empty);
+    }
 
-        } catch (NoResultException e) {
+    @Override
+    public Optional<Instant> findCartUpdatedAtByUserId(UserId userId) {
+        if (userId == null) {
             return Optional.empty();
         }
+
+        return shardRouter.onShardOf(userId, () -> entityManager.createQuery(
+                "SELECT c.updatedAt FROM Cart c WHERE c.userId = :userId", Instant.class)
+            .setParameter("userId", userId.getValue())
+            .getResultStream()
+            .findFirst());
     }
 
     @Override
@@ -129,12 +91,14 @@ public class CartQueryDaoImpl implements CartQueryDao {
             return false;
         }
 
-        Long count = entityManager.createQuery(
-            "SELECT COUNT(c) FROM Cart c WHERE c.userId = :userId", Long.class)
-            .setParameter("userId", userId.getValue())
-            .getSingleResult();
+        return shardRouter.onShardOf(userId, () -> {
+            Long count = entityManager.createQuery(
+                "SELECT COUNT(c) FROM Cart c WHERE c.userId = :userId", Long.class)
+                .setParameter("userId", userId.getValue())
+                .getSingleResult();
 
-        return count > 0;
+            return count > 0;
+        });
     }
 
     @Override
@@ -143,16 +107,30 @@ public class CartQueryDaoImpl implements CartQueryDao {
             return 0;
         }
 
-        try {
-            Long count = entityManager.createQuery(
-                "SELECT COUNT(cli) FROM CartLineItem cli " +
-                "WHERE cli.cart.userId = :userId", Long.class)
-                .setParameter("userId", userId.getValue())
-                .getSingleResult();
+        return shardRouter.onShardOf(userId, () -> {
+            try {
+                Long count = entityManager.createQuery(
+                    "SELECT COUNT(cli) FROM CartLineItem cli " +
+                    "WHERE cli.cart.userId = :userId", Long.class)
+                    .setParameter("userId", userId.getValue())
+                    .getSingleResult();
+
+                return count.intValue();
+            } catch (Exception e) {
+                return 0;
+            }
+        });
+    }
 
-            return count.intValue();
-        } catch (Exception e) {
-            return 0;
+    /**
+     * 장바구니·아이템·선택 옵션 조인 결과(CART_SUMMARY_JPQL)를 장바구니 요약으로 조립
+     */
+    private Optional<CartSummaryReadModel> assembleCartSummary(List<Object[]> rows) {
+        CartSummaryAssembler assembler = new CartSummaryAssembler(menuPriceTableCache, shopDirectory);
+        for (Object[] row : rows) {
+            assembler.addRow((String) row[0], (String) row[1], (String) row[2], (Instant) row[3],
+                (String) row[4], (String) row[5], (Integer) row[6], (String) row[7]);
         }
+        return Optional.ofNullable(assembler.assemble());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.command.infrastructure.external.shop.MenuPriceTableCache;
+import harry.boilerplate.order.command.domain.valueObject.CartId;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.application.readModel.CartSummaryReadModel;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Optional;
+import java.util.TimeZone;
+
+/**
+ * 장바구니 조회 Query DAO의 JDBC 구현체 (order.query.dao=jdbc)
+ * CartQueryDaoImpl과 같은 조인을 직접 작성한 SQL로 수행하고, 행을 바로 CartSummaryAssembler에 넘겨 조립
+ */
+@Repository
+@ConditionalOnProperty(prefix = "order.query", name = "dao", havingValue = "jdbc")
+@Transactional(readOnly = true)
+public class CartQueryDaoJdbcImpl implements CartQueryDao {
+
+    private static final String EXISTS_SQL = "SELECT 1 FROM cart WHERE id = ?";
+
+    // 장바구니·아이템·선택 옵션을 한 번에 읽는 조인 (조건절은 호출 측에서 덧붙임)
+    private static final String CART_SUMMARY_SQL =
+        "SELECT c.id, c.user_id, c.shop_id, c.updated_at, cli.id, cli.menu_id, cli.quantity, cio.option_id " +
+        "FROM cart c LEFT JOIN cart_line_item cli ON cli.cart_id = c.id " +
+        "LEFT JOIN cart_item_selected_option cio ON cio.cart_line_item_id = cli.id ";
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final MenuPriceTableCache menuPriceTableCache;
+    private final ShardRouter shardRouter;
+    private final ShopDirectory shopDirectory;
+
+    public CartQueryDaoJdbcImpl(DataSource dataSource, MenuPriceTableCache menuPriceTableCache,
+                                ShardRouter shardRouter, ShopDirectory shopDirectory) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+        this.menuPriceTableCache = menuPriceTableCache;
+        this.shardRouter = shardRouter;
+        this.shopDirectory = shopDirectory;
+    }
+
+    @Override
+    public Optional<CartSummaryReadModel> findCartSummaryByUserId(UserId userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+
+        return shardRouter.onShardOf(userId, () -> findCartSummary(
+            "WHERE c.user_id = :userId", new MapSqlParameterSource("userId", userId.getValue())));
+    }
+
+    @Override
+    public Optional<CartSummaryReadModel> findCartSummaryById(CartId cartId) {
+        if (cartId == null) {
+            return Optional.empty();
+        }
+
+        return shardRouter.onShardLocating(EXISTS_SQL, cartId.getValue(), () -> findCartSummary(
+            "WHERE c.id = :cartId", new MapSqlParameterSource("cartId", cartId.getValue())), Optional::empty);
+    }
+
+    @Override
+    public Optional<Instant> findCartUpdatedAtByUserId(UserId userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+
+        return shardRouter.onShardOf(userId, () -> jdbc.query(
+                "SELECT updated_at FROM cart WHERE user_id = :userId",
+                new MapSqlParameterSource("userId", userId.getValue()),
+                (rs, rowNum) -> Optional.ofNullable(instantOf(rs, 1)))
+            .stream()
+            .findFirst()
+            .flatMap(updatedAt -> updatedAt));
+    }
+
+    @Override
+    public boolean existsCartByUserId(UserId userId) {
+        if (userId == null) {
+            return false;
+        }
+
+        return shardRouter.onShardOf(userId, () -> jdbc.queryForObject(
+            "SELECT COUNT(*) FROM cart WHERE user_id = :userId",
+            new MapSqlParameterSource("userId", userId.getValue()),
+            Long.class) > 0);
+    }
+
+    @Override
+    public int getCartItemCountByUserId(UserId userId) {
+        if (userId == null) {
+            return 0;
+        }
+
+        return shardRouter.onShardOf(userId, () -> jdbc.queryForObject(
+            "SELECT COUNT(*) FROM cart_line_item cli JOIN cart c ON c.id = cli.cart_id WHERE c.user_id = :userId",
+            new MapSqlParameterSource("userId", userId.getValue()),
+            Long.class).intValue());
+    }
+
+    /**
+     * 장바구니·아이템·선택 옵션 조인 결과를 읽으면서 바로 장바구니 요약으로 조립
+     */
+    private Optional<CartSummaryReadModel> findCartSummary(String where, MapSqlParameterSource params) {
+        CartSummaryAssembler assembler = new CartSummaryAssembler(menuPriceTableCache, shopDirectory);
+        jdbc.query(CART_SUMMARY_SQL + where + " ORDER BY cli.id", params, rs -> {
+            int quantity = rs.getInt(7);
+            Integer itemQuantity = rs.wasNull() ? null : quantity;
+            assembler.addRow(rs.getString(1), rs.getString(2), rs.getString(3), instantOf(rs, 4),
+                rs.getString(5), rs.getString(6), itemQuantity, rs.getString(8));
+        });
+        return Optional.ofNullable(assembler.assemble());
+    }
+
+    /**
+     * Instant 컬럼 읽기 (Hibernate가 UTC 기준 TIMESTAMP로 저장하므로 UTC 달력으로 해석)
+     */
+    private static Instant instantOf(ResultSet rs, int column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column, Calendar.getInstance(UTC));
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
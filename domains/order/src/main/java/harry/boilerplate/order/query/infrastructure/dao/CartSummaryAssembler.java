@@ -0,0 +1,129 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.command.infrastructure.external.shop.MenuPriceTableCache;
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.MenuPriceTable;
+import harry.boilerplate.order.command.domain.valueObject.OptionId;
+import harry.boilerplate.order.command.domain.valueObject.SelectedOption;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.query.application.readModel.CartItemReadModel;
+import harry.boilerplate.order.query.application.readModel.CartSummaryReadModel;
+import harry.boilerplate.order.query.application.readModel.SelectedOptionReadModel;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장바구니 요약 조립 (JPA / JDBC Query DAO 공용)
+ * 장바구니·아이템·선택 옵션 조인 결과를 행 단위로 받아 라인 아이템으로 묶고,
+ * 메뉴 이름과 가격은 장바구니 메뉴들의 가격표를 한 번에 준비하여 계산
+ */
+final class CartSummaryAssembler {
+
+    private final MenuPriceTableCache menuPriceTableCache;
+    private final ShopDirectory shopDirectory;
+
+    private String cartId;
+    private String userId;
+    private String shopId;
+    private Instant updatedAt;
+    private final Map<String, LineRow> lines = new LinkedHashMap<>();
+
+    CartSummaryAssembler(MenuPriceTableCache menuPriceTableCache, ShopDirectory shopDirectory) {
+        this.menuPriceTableCache = menuPriceTableCache;
+        this.shopDirectory = shopDirectory;
+    }
+
+    /**
+     * 조인 결과 한 행 추가 (아이템이나 옵션이 없으면 해당 값이 null)
+     */
+    void addRow(String cartId, String userId, String shopId, Instant updatedAt,
+                String itemId, String menuId, Integer quantity, String optionId) {
+        if (this.cartId == null) {
+            this.cartId = cartId;
+            this.userId = userId;
+            this.shopId = shopId;
+            this.updatedAt = updatedAt;
+        }
+        if (itemId == null) {
+            return;
+        }
+        LineRow line = lines.computeIfAbsent(itemId,
+            key -> new LineRow(itemId, menuId, quantity, new ArrayList<>()));
+        if (optionId != null) {
+            line.optionIds().add(OptionId.of(optionId));
+        }
+    }
+
+    /**
+     * 추가된 행으로 장바구니 요약 조립 (행이 없었으면 null)
+     */
+    CartSummaryReadModel assemble() {
+        if (cartId == null) {
+            return null;
+        }
+
+        Collection<LineRow> lineRows = lines.values();
+
+        // 장바구니 메뉴들의 가격표를 한 번에 준비
+        Set<MenuId> menuIds = new LinkedHashSet<>();
+        for (LineRow line : lineRows) {
+            menuIds.add(MenuId.of(line.menuId()));
+        }
+        Map<MenuId, MenuPriceTable> priceTables = shopId != null
+            ? menuPriceTableCache.loadPriceTables(ShopId.of(shopId), menuIds)
+            : Map.of();
+
+        List<CartItemReadModel> items = new ArrayList<>(lineRows.size());
+        BigDecimal totalPrice = BigDecimal.ZERO;
+        int totalQuantity = 0;
+
+        for (LineRow line : lineRows) {
+            MenuPriceTable priceTable = priceTables.get(MenuId.of(line.menuId()));
+            String menuName = null;
+            BigDecimal menuPrice = BigDecimal.ZERO;
+            BigDecimal linePrice = BigDecimal.ZERO;
+            List<SelectedOptionReadModel> selectedOptions = new ArrayList<>();
+            // 메뉴가 삭제되었거나 담아 둔 옵션이 메뉴에서 빠졌으면 판매 불가 아이템으로 표시 (0원, 합계 제외)
+            boolean available = priceTable != null && priceTable.hasOptions(line.optionIds());
+
+            if (priceTable != null) {
+                menuName = priceTable.getMenuName();
+                menuPrice = priceTable.getBasePrice().getAmount();
+            }
+            if (available) {
+                linePrice = priceTable.linePrice(line.optionIds(), line.quantity()).getAmount();
+                for (SelectedOption option : priceTable.toSelectedOptions(line.optionIds())) {
+                    selectedOptions.add(new SelectedOptionReadModel(
+                        option.getOptionId().getValue(), option.getOptionName(), option.getOptionPrice()));
+                }
+            }
+
+            items.add(new CartItemReadModel(
+                line.itemId(), line.menuId(), menuName, menuPrice, selectedOptions, line.quantity(), linePrice,
+                available));
+
+            totalPrice = totalPrice.add(linePrice);
+            totalQuantity += line.quantity();
+        }
+
+        String shopName = shopDirectory.nameOf(shopId);
+
+        return new CartSummaryReadModel(
+            cartId, userId, shopId, shopName, items, totalPrice, totalQuantity, updatedAt);
+    }
+
+    /**
+     * 조인 결과에서 모은 라인 아이템 한 건
+     */
+    private record LineRow(String itemId, String menuId, int quantity, List<OptionId> optionIds) {
+    }
+}
@@ -0,0 +1,73 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.jdbc.JdbcConnection;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * 대량 조회용 서버 커서 fetch
+ * MySQL은 useCursorFetch가 켜진 연결에서만 fetch size 단위로 행을 받아오고, 꺼져 있으면 결과 전체를 메모리에 받음
+ * 전역 접속 URL에 켜 두면 모든 조회가 서버 측 커서를 쓰게 되므로, 내보내기·정산·아카이브처럼
+ * 결과 크기가 정해지지 않은 조회를 실행하는 동안 현재 트랜잭션의 연결에만 켜고 끝나면 원래 값으로 되돌림
+ * MySQL 연결이 아니면(테스트용 H2 등) 아무것도 바꾸지 않음
+ */
+public final class CursorFetch {
+
+    private static final Logger logger = LoggerFactory.getLogger(CursorFetch.class);
+
+    private CursorFetch() {
+    }
+
+    /**
+     * 현재 트랜잭션의 연결에 커서 fetch를 켠 채로 작업 실행 (트랜잭션 안에서 호출해야 같은 연결이 사용됨)
+     */
+    public static <T> T call(EntityManager entityManager, Supplier<T> work) {
+        Session session = entityManager.unwrap(Session.class);
+        boolean[] changed = new boolean[1];
+        session.doWork(connection -> {
+            RuntimeProperty<Boolean> property = cursorFetchProperty(connection);
+            if (property != null && !Boolean.TRUE.equals(property.getValue())) {
+                changed[0] = trySet(property, true);
+            }
+        });
+        try {
+            return work.get();
+        } finally {
+            if (changed[0]) {
+                // 풀에 반납된 연결을 다른 조회가 재사용하므로 원래 값(꺼짐)으로 복원
+                session.doWork(connection -> {
+                    RuntimeProperty<Boolean> property = cursorFetchProperty(connection);
+                    if (property != null) {
+                        trySet(property, false);
+                    }
+                });
+            }
+        }
+    }
+
+    private static RuntimeProperty<Boolean> cursorFetchProperty(Connection connection) throws SQLException {
+        if (!connection.isWrapperFor(JdbcConnection.class)) {
+            return null;
+        }
+        return connection.unwrap(JdbcConnection.class).getPropertySet().getBooleanProperty(PropertyKey.useCursorFetch);
+    }
+
+    private static boolean trySet(RuntimeProperty<Boolean> property, boolean value) {
+        try {
+            property.setValue(value);
+            return true;
+        } catch (RuntimeException e) {
+            // 드라이버가 실행 중 변경을 허용하지 않으면 결과를 한 번에 받는 기본 동작으로 진행
+            logger.warn("커서 fetch 설정 변경 실패, 기본 fetch로 진행합니다", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.query.application.dto.OrderExportCheckpoint;
+import harry.boilerplate.order.query.application.dto.OrderExportQuery;
+import harry.boilerplate.order.query.application.readModel.OrderExportRow;
+
+import java.util.function.Consumer;
+
+/**
+ * 주문 내보내기 DAO 인터페이스
+ * 결과를 목록으로 모으지 않고 커서에서 한 행씩 읽어 sink로 넘김
+ */
+public interface OrderExportDao {
+    
+    /**
+     * 한 샤드의 주문을 (orderTime, orderId) 순으로 스트리밍
+     * @param shardId 조회할 샤드
+     * @param query   가게·기간 조건
+     * @param after   이 위치 다음부터 조회 (null이면 처음부터)
+     * @param sink    행마다 호출
+     * @return 내보낸 행 수
+     */
+    long streamOrders(String shardId, OrderExportQuery query, OrderExportCheckpoint after, Consumer<OrderExportRow> sink);
+}
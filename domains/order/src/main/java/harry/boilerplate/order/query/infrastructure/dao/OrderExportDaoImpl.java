@@ -0,0 +1,111 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.command.infrastructure.sharding.ShardContext;
+import harry.boilerplate.order.query.application.dto.OrderExportCheckpoint;
+import harry.boilerplate.order.query.application.dto.OrderExportQuery;
+import harry.boilerplate.order.query.application.readModel.OrderExportRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 주문 내보내기 DAO 구현체
+ * 주문 요약 테이블을 전진 전용 커서(fetch size 지정)로 읽어 엔티티나 목록을 만들지 않고 행 단위로 전달
+ * MySQL에서 fetch size가 적용되도록 조회하는 동안만 해당 연결에 커서 fetch를 켬 (CursorFetch)
+ */
+@Repository
+@Transactional(readOnly = true)
+public class OrderExportDaoImpl implements OrderExportDao {
+
+    private static final String EXPORT_COLUMNS =
+        "SELECT order_id, user_id, shop_id, order_time, first_menu_name, item_count, total_quantity, total_price " +
+        "FROM order_summary WHERE 1 = 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int fetchSize;
+
+    public OrderExportDaoImpl(@Value("${order.export.fetch-size:1000}") int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long streamOrders(String shardId, OrderExportQuery query, OrderExportCheckpoint after,
+                             Consumer<OrderExportRow> sink) {
+        return ShardContext.callInShard(shardId, () -> CursorFetch.call(entityManager, () -> {
+            StringBuilder sql = new StringBuilder(EXPORT_COLUMNS);
+            if (query.getShopId() != null) {
+                sql.append(" AND shop_id = :shopId");
+            }
+            if (query.getFrom() != null) {
+                sql.append(" AND order_time >= :from");
+            }
+            if (query.getTo() != null) {
+                sql.append(" AND order_time < :to");
+            }
+            if (after != null) {
+                sql.append(" AND (order_time > :afterTime OR (order_time = :afterTime AND order_id > :afterId))");
+            }
+            sql.append(" ORDER BY order_time, order_id");
+
+            Query nativeQuery = entityManager.createNativeQuery(sql.toString())
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true);
+            if (query.getShopId() != null) {
+                nativeQuery.setParameter("shopId", query.getShopId());
+            }
+            if (query.getFrom() != null) {
+                nativeQuery.setParameter("from", query.getFrom());
+            }
+            if (query.getTo() != null) {
+                nativeQuery.setParameter("to", query.getTo());
+            }
+            if (after != null) {
+                nativeQuery.setParameter("afterTime", after.getOrderTime());
+                nativeQuery.setParameter("afterId", after.getOrderId());
+            }
+
+            long exported = 0;
+            @SuppressWarnings("unchecked")
+            Stream<Object[]> rows = nativeQuery.getResultStream();
+            try (rows) {
+                for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                    sink.accept(toExportRow(row));
+                    exported++;
+                }
+            }
+            return exported;
+        }));
+    }
+
+    private static OrderExportRow toExportRow(Object[] row) {
+        return new OrderExportRow(
+            (String) row[0],                        // orderId
+            (String) row[1],                        // userId
+            (String) row[2],                        // shopId
+            toLocalDateTime(row[3]),                // orderTime
+            (String) row[4],                        // firstMenuName
+            ((Number) row[5]).intValue(),           // itemCount
+            ((Number) row[6]).intValue(),           // totalQuantity
+            (BigDecimal) row[7]                     // totalPrice
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
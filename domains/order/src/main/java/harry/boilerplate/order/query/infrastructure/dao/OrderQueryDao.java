@@ -3,6 +3,7 @@ package harry.boilerplate.order.query.infrastructure.dao;
 import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
 import harry.boilerplate.order.query.application.readModel.OrderSummaryReadModel;
 import harry.boilerplate.order.command.domain.valueObject.OrderId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
 import harry.boilerplate.order.command.domain.valueObject.UserId;
 
 import java.time.LocalDateTime;
@@ -18,6 +19,13 @@ public interface OrderQueryDao {
      * 사용자별 주문 이력 조회 (페이징)
      */
     List<OrderHistoryReadModel> findOrderHistoryByUserId(UserId userId, int page, int size);
+
+    /**
+     * 사용자의 주문 이력 조회 (키셋 페이징)
+     * (orderTime, orderId) 커서보다 앞선 주문을 최신순으로 limit개 조회, 커서가 없으면 첫 페이지
+     */
+    List<OrderHistoryReadModel> findOrderHistoryByUserIdBefore(
+        UserId userId, LocalDateTime orderTime, String orderId, int limit);
     
     /**
      * 주문 ID로 상세 정보 조회
@@ -34,6 +42,12 @@ public interface OrderQueryDao {
      */
     List<OrderHistoryReadModel> findOrderHistoryByUserIdAndDateRange(
         UserId userId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * 여러 기간 중 하나에 속한 사용자 주문 조회 (최신순, 기간은 양 끝 포함)
+     * 떨어져 있는 여러 시각 구간을 한 번의 쿼리로 읽을 때 사용
+     */
+    List<OrderHistoryReadModel> findOrderHistoryByUserIdAndDateRanges(UserId userId, List<DateRange> ranges);
     
     /**
      * 사용자의 총 주문 개수 조회
@@ -44,4 +58,35 @@ public interface OrderQueryDao {
      * 사용자의 특정 가게 주문 이력 조회
      */
     List<OrderHistoryReadModel> findOrderHistoryByUserIdAndShopId(UserId userId, String shopId);
+    
+    /**
+     * 사용자의 상태별 주문 이력 조회 (페이징)
+     */
+    List<OrderHistoryReadModel> findOrderHistoryByUserIdAndStatus(UserId userId, OrderStatus status, int page, int size);
+    
+    /**
+     * 사용자의 상태별 주문 개수 조회
+     */
+    long countOrdersByUserIdAndStatus(UserId userId, OrderStatus status);
+    
+    /**
+     * 가게의 최근 주문 요약 조회 (관리용, 모든 샤드 대상)
+     */
+    List<OrderSummaryReadModel> findRecentOrdersByShopId(String shopId, int limit);
+
+    /**
+     * 주문 시각 기간 (양 끝 포함)
+     */
+    record DateRange(LocalDateTime startDate, LocalDateTime endDate) {
+
+        public DateRange {
+            if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+                throw new IllegalArgumentException("기간의 시작은 끝보다 늦을 수 없습니다");
+            }
+        }
+
+        public boolean contains(LocalDateTime orderTime) {
+            return !orderTime.isBefore(startDate) && !orderTime.isAfter(endDate);
+        }
+    }
 }
\ No newline at end of file
@@ -1,70 +1,116 @@
 package harry.boilerplate.order.query.infrastructure.dao;
 
 import harry.boilerplate.order.query.application.readModel.*;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
 import harry.boilerplate.order.command.domain.valueObject.OrderId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
 import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * 주문 조회 최적화를 위한 Query DAO 구현체
  * EntityManager를 직접 사용하여 읽기 최적화 쿼리 수행
+ * 주문 목록은 비정규화된 주문 요약 테이블(order_summary)에서 조회하고, 라인 아이템이 필요한 이력만 추가 조회
+ * 가게 이름은 로컬 가게 디렉터리(ShopDirectory)에서 페이지 단위로 한 번에 채움
+ * order.query.dao=jdbc 이면 OrderQueryDaoJdbcImpl이 대신 사용됨
  */
-@Repository
+@Repository("databaseOrderQueryDao")
+@ConditionalOnProperty(prefix = "order.query", name = "dao", havingValue = "jpa", matchIfMissing = true)
 @Transactional(readOnly = true)
 public class OrderQueryDaoImpl implements OrderQueryDao {
 
+    private static final String EXISTS_SQL = "SELECT 1 FROM order_table WHERE id = ?";
+
+    // 주문 요약 테이블에서 이력 조회에 필요한 컬럼 (orderId, userId, shopId, shopName, totalPrice, totalQuantity, orderTime)
+    private static final String SUMMARY_COLUMNS =
+        "SELECT s.orderId, s.userId, s.shopId, s.shopName, s.totalPrice, s.totalQuantity, s.orderTime ";
+
+    // 주문 요약 테이블에서 최근 주문 목록에 필요한 컬럼
+    // (orderId, shopId, shopName, totalPrice, totalQuantity, orderTime, firstMenuName, itemCount)
+    private static final String RECENT_COLUMNS =
+        "SELECT s.orderId, s.shopId, s.shopName, s.totalPrice, s.totalQuantity, s.orderTime, s.firstMenuName, s.itemCount ";
+
+    // IN 조건 하나에 넣는 최대 ID 수
+    private static final int IN_BATCH_SIZE = 500;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final ShardRouter shardRouter;
+    private final ShopDirectory shopDirectory;
+
+    public OrderQueryDaoImpl(ShardRouter shardRouter, ShopDirectory shopDirectory) {
+        this.shardRouter = shardRouter;
+        this.shopDirectory = shopDirectory;
+    }
+
     @Override
     public List<OrderHistoryReadModel> findOrderHistoryByUserId(UserId userId, int page, int size) {
         if (userId == null) {
             return List.of();
         }
 
-        List<Object[]> ordersData = entityManager.createQuery(
-            "SELECT o.id, o.userId, o.shopId, o.totalPrice, o.orderTime " +
-            "FROM Order o WHERE o.userId = :userId " +
-            "ORDER BY o.orderTime DESC", Object[].class)
-            .setParameter("userId", userId.getValue())
-            .setFirstResult(page * size)
-            .setMaxResults(size)
-            .getResultList();
-
-        List<OrderHistoryReadModel> result = new ArrayList<>();
-        
-        for (Object[] orderData : ordersData) {
-            String orderId = (String) orderData[0];
-            String userIdValue = (String) orderData[1];
-            String shopId = (String) orderData[2];
-            BigDecimal totalPrice = (BigDecimal) orderData[3];
-            LocalDateTime orderTime = (LocalDateTime) orderData[4];
-
-            // 주문 아이템들 조회
-            List<OrderItemReadModel> orderItems = getOrderItemsByOrderId(orderId);
-            int totalQuantity = orderItems.stream()
-                .mapToInt(OrderItemReadModel::getQuantity)
-                .sum();
+        return shardRouter.onShardOf(userId, () -> {
+            List<Object[]> ordersData = entityManager.createQuery(
+                SUMMARY_COLUMNS +
+                "FROM OrderSummary s WHERE s.userId = :userId " +
+                "ORDER BY s.orderTime DESC, s.orderId DESC", Object[].class)
+                .setParameter("userId", userId.getValue())
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .getResultList();
 
-            // TODO: Shop Context API를 통해 가게 이름 조회
-            String shopName = "가게명"; // Shop API 호출 필요
+            return toOrderHistories(ordersData);
+        });
+    }
 
-            result.add(new OrderHistoryReadModel(
-                orderId, userIdValue, shopId, shopName, orderItems, 
-                totalPrice, totalQuantity, orderTime));
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdBefore(
+            UserId userId, LocalDateTime orderTime, String orderId, int limit) {
+        if (userId == null || limit <= 0) {
+            return List.of();
         }
 
-        return result;
+        return shardRouter.onShardOf(userId, () -> {
+            // (user_id, order_time, order_id) 기본 키를 커서 위치부터 역순으로 읽으므로 페이지 깊이와 관계없이 일정한 비용
+            TypedQuery<Object[]> query;
+            if (orderTime == null || orderId == null) {
+                query = entityManager.createQuery(
+                    SUMMARY_COLUMNS +
+                    "FROM OrderSummary s WHERE s.userId = :userId " +
+                    "ORDER BY s.orderTime DESC, s.orderId DESC", Object[].class);
+            } else {
+                query = entityManager.createQuery(
+                    SUMMARY_COLUMNS +
+                    "FROM OrderSummary s WHERE s.userId = :userId " +
+                    "AND (s.orderTime < :orderTime OR (s.orderTime = :orderTime AND s.orderId < :orderId)) " +
+                    "ORDER BY s.orderTime DESC, s.orderId DESC", Object[].class)
+                    .setParameter("orderTime", orderTime)
+                    .setParameter("orderId", orderId);
+            }
+            List<Object[]> ordersData = query
+                .setParameter("userId", userId.getValue())
+                .setMaxResults(limit)
+                .getResultList();
+
+            return toOrderHistories(ordersData);
+        });
     }
 
     @Override
@@ -73,35 +119,20 @@ public class OrderQueryDaoImpl implements OrderQueryDao {
             return Optional.empty();
         }
 
-        try {
-            Object[] orderData = entityManager.createQuery(
-                "SELECT o.id, o.userId, o.shopId, o.totalPrice, o.orderTime " +
-                "FROM Order o WHERE o.id = :orderId", Object[].class)
-                .setParameter("orderId", orderId.getValue())
-                .getSingleResult();
-
-            String orderIdValue = (String) orderData[0];
-            String userId = (String) orderData[1];
-            String shopId = (String) orderData[2];
-            BigDecimal totalPrice = (BigDecimal) orderData[3];
-            LocalDateTime orderTime = (LocalDateTime) orderData[4];
-
-            // 주문 아이템들 조회
-            List<OrderItemReadModel> orderItems = getOrderItemsByOrderId(orderIdValue);
-            int totalQuantity = orderItems.stream()
-                .mapToInt(OrderItemReadModel::getQuantity)
-                .sum();
-
-            // TODO: Shop Context API를 통해 가게 이름 조회
-            String shopName = "가게명"; // Shop API 호출 필요
+        return shardRouter.onShardLocating(EXISTS_SQL, orderId.getValue(), () -> {
+            try {
+                Object[] orderData = entityManager.createQuery(
+                    SUMMARY_COLUMNS +
+                    "FROM OrderSummary s WHERE s.orderId = :orderId", Object[].class)
+                    .setParameter("orderId", orderId.getValue())
+                    .getSingleResult();
 
-            return Optional.of(new OrderHistoryReadModel(
-                orderIdValue, userId, shopId, shopName, orderItems, 
-                totalPrice, totalQuantity, orderTime));
+                return toOrderHistories(List.<Object[]>of(orderData)).stream().findFirst();
 
-        } catch (NoResultException e) {
-            return Optional.empty();
-        }
+            } catch (NoResultException e) {
+                return Optional.empty();
+            }
+        }, Optional::empty);
     }
 
     @Override
@@ -110,45 +141,40 @@ public class OrderQueryDaoImpl implements OrderQueryDao {
             return List.of();
         }
 
-        List<Object[]> ordersData = entityManager.createQuery(
-            "SELECT o.id, o.shopId, o.totalPrice, o.orderTime " +
-            "FROM Order o WHERE o.userId = :userId " +
-            "ORDER BY o.orderTime DESC", Object[].class)
-            .setParameter("userId", userId.getValue())
-            .setMaxResults(limit)
-            .getResultList();
-
-        List<OrderSummaryReadModel> result = new ArrayList<>();
-
-        for (Object[] orderData : ordersData) {
-            String orderId = (String) orderData[0];
-            String shopId = (String) orderData[1];
-            BigDecimal totalPrice = (BigDecimal) orderData[2];
-            LocalDateTime orderTime = (LocalDateTime) orderData[3];
-
-            // 첫 번째 메뉴와 추가 메뉴 개수 조회
-            List<Object[]> menuData = entityManager.createQuery(
-                "SELECT oli.menuName, oli.quantity " +
-                "FROM OrderLineItem oli WHERE oli.order.id = :orderId " +
-                "ORDER BY oli.id", Object[].class)
-                .setParameter("orderId", orderId)
+        return shardRouter.onShardOf(userId, () -> {
+            List<Object[]> ordersData = entityManager.createQuery(
+                RECENT_COLUMNS +
+                "FROM OrderSummary s WHERE s.userId = :userId " +
+                "ORDER BY s.orderTime DESC, s.orderId DESC", Object[].class)
+                .setParameter("userId", userId.getValue())
+                .setMaxResults(limit)
                 .getResultList();
 
-            String firstMenuName = menuData.isEmpty() ? "" : (String) menuData.get(0)[0];
-            int additionalMenuCount = Math.max(0, menuData.size() - 1);
-            int totalQuantity = menuData.stream()
-                .mapToInt(data -> (Integer) data[1])
-                .sum();
-
-            // TODO: Shop Context API를 통해 가게 이름 조회
-            String shopName = "가게명"; // Shop API 호출 필요
+            return toOrderSummaries(ordersData);
+        });
+    }
 
-            result.add(new OrderSummaryReadModel(
-                orderId, shopId, shopName, totalPrice, totalQuantity, 
-                orderTime, firstMenuName, additionalMenuCount));
+    @Override
+    public List<OrderSummaryReadModel> findRecentOrdersByShopId(String shopId, int limit) {
+        if (shopId == null || limit <= 0) {
+            return List.of();
         }
 
-        return result;
+        // 가게 주문은 모든 샤드에 흩어져 있으므로 샤드별 상위 limit개를 병렬 조회 후 병합
+        List<List<OrderSummaryReadModel>> perShard = shardRouter.scatterGather(shardId -> toOrderSummaries(
+            entityManager.createQuery(
+                RECENT_COLUMNS +
+                "FROM OrderSummary s WHERE s.shopId = :shopId " +
+                "ORDER BY s.orderTime DESC", Object[].class)
+                .setParameter("shopId", shopId)
+                .setMaxResults(limit)
+                .getResultList()));
+
+        return perShard.stream()
+            .flatMap(List::stream)
+            .sorted(Comparator.comparing(OrderSummaryReadModel::getOrderTime).reversed())
+            .limit(limit)
+            .toList();
     }
 
     @Override
@@ -158,39 +184,40 @@ public class OrderQueryDaoImpl implements OrderQueryDao {
             return List.of();
         }
 
-        List<Object[]> ordersData = entityManager.createQuery(
-            "SELECT o.id, o.userId, o.shopId, o.totalPrice, o.orderTime " +
-            "FROM Order o WHERE o.userId = :userId " +
-            "AND o.orderTime >= :startDate AND o.orderTime <= :endDate " +
-            "ORDER BY o.orderTime DESC", Object[].class)
-            .setParameter("userId", userId.getValue())
-            .setParameter("startDate", startDate)
-            .setParameter("endDate", endDate)
-            .getResultList();
-
-        List<OrderHistoryReadModel> result = new ArrayList<>();
-
-        for (Object[] orderData : ordersData) {
-            String orderId = (String) orderData[0];
-            String userIdValue = (String) orderData[1];
-            String shopId = (String) orderData[2];
-            BigDecimal totalPrice = (BigDecimal) orderData[3];
-            LocalDateTime orderTime = (LocalDateTime) orderData[4];
-
-            List<OrderItemReadModel> orderItems = getOrderItemsByOrderId(orderId);
-            int totalQuantity = orderItems.stream()
-                .mapToInt(OrderItemReadModel::getQuantity)
-                .sum();
+        return shardRouter.onShardOf(userId, () -> {
+            List<Object[]> ordersData = entityManager.createQuery(
+                SUMMARY_COLUMNS +
+                "FROM OrderSummary s WHERE s.userId = :userId " +
+                "AND s.orderTime >= :startDate AND s.orderTime <= :endDate " +
+                "ORDER BY s.orderTime DESC", Object[].class)
+                .setParameter("userId", userId.getValue())
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .getResultList();
 
-            // TODO: Shop Context API를 통해 가게 이름 조회
-            String shopName = "가게명"; // Shop API 호출 필요
+            return toOrderHistories(ordersData);
+        });
+    }
 
-            result.add(new OrderHistoryReadModel(
-                orderId, userIdValue, shopId, shopName, orderItems, 
-                totalPrice, totalQuantity, orderTime));
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdAndDateRanges(UserId userId, List<DateRange> ranges) {
+        if (userId == null || ranges == null || ranges.isEmpty()) {
+            return List.of();
         }
 
-        return result;
+        return shardRouter.onShardOf(userId, () -> {
+            TypedQuery<Object[]> query = entityManager.createQuery(
+                SUMMARY_COLUMNS +
+                "FROM OrderSummary s WHERE s.userId = :userId AND (" + rangeConditions("s.orderTime", ranges.size()) + ") " +
+                "ORDER BY s.orderTime DESC", Object[].class)
+                .setParameter("userId", userId.getValue());
+            for (int i = 0; i < ranges.size(); i++) {
+                query.setParameter("startDate" + i, ranges.get(i).startDate());
+                query.setParameter("endDate" + i, ranges.get(i).endDate());
+            }
+
+            return toOrderHistories(query.getResultList());
+        });
     }
 
     @Override
@@ -199,10 +226,10 @@ public class OrderQueryDaoImpl implements OrderQueryDao {
             return 0;
         }
 
-        return entityManager.createQuery(
-            "SELECT COUNT(o) FROM Order o WHERE o.userId = :userId", Long.class)
+        return shardRouter.onShardOf(userId, () -> entityManager.createQuery(
+            "SELECT COUNT(s) FROM OrderSummary s WHERE s.userId = :userId", Long.class)
             .setParameter("userId", userId.getValue())
-            .getSingleResult();
+            .getSingleResult());
     }
 
     @Override
@@ -211,33 +238,122 @@ public class OrderQueryDaoImpl implements OrderQueryDao {
             return List.of();
         }
 
-        List<Object[]> ordersData = entityManager.createQuery(
-            "SELECT o.id, o.userId, o.shopId, o.totalPrice, o.orderTime " +
-            "FROM Order o WHERE o.userId = :userId AND o.shopId = :shopId " +
-            "ORDER BY o.orderTime DESC", Object[].class)
+        return shardRouter.onShardOf(userId, () -> {
+            List<Object[]> ordersData = entityManager.createQuery(
+                SUMMARY_COLUMNS +
+                "FROM OrderSummary s WHERE s.userId = :userId AND s.shopId = :shopId " +
+                "ORDER BY s.orderTime DESC", Object[].class)
+                .setParameter("userId", userId.getValue())
+                .setParameter("shopId", shopId)
+                .getResultList();
+
+            return toOrderHistories(ordersData);
+        });
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdAndStatus(UserId userId, OrderStatus status, int page, int size) {
+        if (userId == null || status == null) {
+            return List.of();
+        }
+
+        return shardRouter.onShardOf(userId, () -> {
+            List<Object[]> ordersData = entityManager.createQuery(
+                SUMMARY_COLUMNS +
+                "FROM OrderSummary s, Order o WHERE o.id = s.orderId " +
+                "AND s.userId = :userId AND o.status = :status " +
+                "ORDER BY s.orderTime DESC", Object[].class)
+                .setParameter("userId", userId.getValue())
+                .setParameter("status", status)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .getResultList();
+
+            return toOrderHistories(ordersData);
+        });
+    }
+
+    @Override
+    public long countOrdersByUserIdAndStatus(UserId userId, OrderStatus status) {
+        if (userId == null || status == null) {
+            return 0;
+        }
+
+        return shardRouter.onShardOf(userId, () -> entityManager.createQuery(
+            "SELECT COUNT(o) FROM Order o WHERE o.userId = :userId AND o.status = :status", Long.class)
             .setParameter("userId", userId.getValue())
-            .setParameter("shopId", shopId)
-            .getResultList();
+            .setParameter("status", status)
+            .getSingleResult());
+    }
+
+    /**
+     * 기간 수만큼의 OR 조건 (파라미터 startDate0, endDate0, ...)
+     */
+    private static String rangeConditions(String column, int count) {
+        List<String> conditions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            conditions.add(column + " >= :startDate" + i + " AND " + column + " <= :endDate" + i);
+        }
+        return "(" + String.join(") OR (", conditions) + ")";
+    }
+
+    /**
+     * 주문 요약 테이블 조회 결과를 최근 주문 Read Model로 변환 (내부 헬퍼 메서드)
+     */
+    private List<OrderSummaryReadModel> toOrderSummaries(List<Object[]> ordersData) {
+        List<String> shopIds = new ArrayList<>(ordersData.size());
+        for (Object[] orderData : ordersData) {
+            shopIds.add((String) orderData[1]);
+        }
+        Map<String, String> shopNames = shopDirectory.namesOf(shopIds);
 
-        List<OrderHistoryReadModel> result = new ArrayList<>();
+        List<OrderSummaryReadModel> result = new ArrayList<>(ordersData.size());
 
         for (Object[] orderData : ordersData) {
             String orderId = (String) orderData[0];
-            String userIdValue = (String) orderData[1];
-            String shopIdValue = (String) orderData[2];
+            String shopId = (String) orderData[1];
+            String shopName = shopNames.getOrDefault(shopId, (String) orderData[2]);
             BigDecimal totalPrice = (BigDecimal) orderData[3];
-            LocalDateTime orderTime = (LocalDateTime) orderData[4];
+            int totalQuantity = (Integer) orderData[4];
+            LocalDateTime orderTime = (LocalDateTime) orderData[5];
+            String firstMenuName = orderData[6] != null ? (String) orderData[6] : "";
+            int additionalMenuCount = Math.max(0, (Integer) orderData[7] - 1);
+
+            result.add(new OrderSummaryReadModel(
+                orderId, shopId, shopName, totalPrice, totalQuantity,
+                orderTime, firstMenuName, additionalMenuCount));
+        }
+
+        return result;
+    }
+
+    /**
+     * 주문 요약 테이블 조회 결과(SUMMARY_COLUMNS)를 Read Model로 변환 (내부 헬퍼 메서드)
+     * 합계는 요약 테이블 값을 그대로 사용하고, 페이지 전체의 라인 아이템과 옵션만 한 번에 조회하여 메모리에서 조립
+     */
+    private List<OrderHistoryReadModel> toOrderHistories(List<Object[]> ordersData) {
+        List<String> orderIds = new ArrayList<>(ordersData.size());
+        List<String> shopIds = new ArrayList<>(ordersData.size());
+        for (Object[] orderData : ordersData) {
+            orderIds.add((String) orderData[0]);
+            shopIds.add((String) orderData[2]);
+        }
+        Map<String, List<OrderItemReadModel>> itemsByOrderId = findOrderItemsByOrderIds(orderIds);
+        Map<String, String> shopNames = shopDirectory.namesOf(shopIds);
 
-            List<OrderItemReadModel> orderItems = getOrderItemsByOrderId(orderId);
-            int totalQuantity = orderItems.stream()
-                .mapToInt(OrderItemReadModel::getQuantity)
-                .sum();
+        List<OrderHistoryReadModel> result = new ArrayList<>(ordersData.size());
 
-            // TODO: Shop Context API를 통해 가게 이름 조회
-            String shopName = "가게명"; // Shop API 호출 필요
+        for (Object[] orderData : ordersData) {
+            String orderId = (String) orderData[0];
+            String userIdValue = (String) orderData[1];
+            String shopId = (String) orderData[2];
+            String shopName = shopNames.getOrDefault(shopId, (String) orderData[3]);
+            BigDecimal totalPrice = (BigDecimal) orderData[4];
+            int totalQuantity = (Integer) orderData[5];
+            LocalDateTime orderTime = (LocalDateTime) orderData[6];
 
             result.add(new OrderHistoryReadModel(
-                orderId, userIdValue, shopIdValue, shopName, orderItems, 
+                orderId, userIdValue, shopId, shopName, itemsByOrderId.getOrDefault(orderId, List.of()),
                 totalPrice, totalQuantity, orderTime));
         }
 
@@ -245,46 +361,59 @@ public class OrderQueryDaoImpl implements OrderQueryDao {
     }
 
     /**
-     * 주문 ID로 주문 아이템들 조회 (내부 헬퍼 메서드)
+     * 여러 주문의 라인 아이템과 선택 옵션을 IN 조건으로 일괄 조회 (내부 헬퍼 메서드)
+     * 주문 수와 관계없이 묶음당 아이템 1회 + 옵션 1회 조회
      */
-    private List<OrderItemReadModel> getOrderItemsByOrderId(String orderId) {
-        List<Object[]> itemsData = entityManager.createQuery(
-            "SELECT oli.id, oli.menuId, oli.menuName, oli.quantity, oli.linePrice " +
-            "FROM OrderLineItem oli WHERE oli.order.id = :orderId", Object[].class)
-            .setParameter("orderId", orderId)
-            .getResultList();
-
-        List<OrderItemReadModel> orderItems = new ArrayList<>();
-
-        for (Object[] itemData : itemsData) {
-            String itemId = (String) itemData[0];
-            String menuId = (String) itemData[1];
-            String menuName = (String) itemData[2];
-            int quantity = (Integer) itemData[3];
-            BigDecimal linePrice = (BigDecimal) itemData[4];
+    private Map<String, List<OrderItemReadModel>> findOrderItemsByOrderIds(List<String> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, List<Object[]>> itemRowsByOrderId = new HashMap<>();
+        Map<String, List<SelectedOptionReadModel>> optionsByItemId = new HashMap<>();
+
+        for (int from = 0; from < orderIds.size(); from += IN_BATCH_SIZE) {
+            List<String> batch = orderIds.subList(from, Math.min(from + IN_BATCH_SIZE, orderIds.size()));
+
+            List<Object[]> itemsData = entityManager.createQuery(
+                "SELECT oli.order.id, oli.id, oli.menuId, oli.menuName, oli.quantity, oli.linePrice " +
+                "FROM OrderLineItem oli WHERE oli.order.id IN :orderIds " +
+                "ORDER BY oli.lineNo, oli.id", Object[].class)
+                .setParameter("orderIds", batch)
+                .getResultList();
+            for (Object[] itemData : itemsData) {
+                itemRowsByOrderId.computeIfAbsent((String) itemData[0], key -> new ArrayList<>()).add(itemData);
+            }
 
             // 선택된 옵션들 조회 (SelectedOption 임베디드 객체에서)
             List<Object[]> optionsData = entityManager.createQuery(
-                "SELECT so.optionId, so.optionName, so.optionPrice " +
+                "SELECT oli.id, so.optionId, so.optionName, so.optionPrice " +
                 "FROM OrderLineItem oli JOIN oli.selectedOptions so " +
-                "WHERE oli.id = :itemId", Object[].class)
-                .setParameter("itemId", itemId)
+                "WHERE oli.order.id IN :orderIds", Object[].class)
+                .setParameter("orderIds", batch)
                 .getResultList();
-
-            List<SelectedOptionReadModel> selectedOptions = new ArrayList<>();
             for (Object[] optionData : optionsData) {
-                String optionId = (String) optionData[0];
-                String optionName = (String) optionData[1];
-                BigDecimal optionPrice = (BigDecimal) optionData[2];
-                
-                selectedOptions.add(new SelectedOptionReadModel(
-                    optionId, optionName, optionPrice));
+                optionsByItemId.computeIfAbsent((String) optionData[0], key -> new ArrayList<>())
+                    .add(new SelectedOptionReadModel(
+                        (String) optionData[1], (String) optionData[2], (BigDecimal) optionData[3]));
             }
-
-            orderItems.add(new OrderItemReadModel(
-                itemId, menuId, menuName, selectedOptions, quantity, linePrice));
         }
 
-        return orderItems;
+        Map<String, List<OrderItemReadModel>> itemsByOrderId = new HashMap<>();
+        for (Map.Entry<String, List<Object[]>> entry : itemRowsByOrderId.entrySet()) {
+            List<OrderItemReadModel> orderItems = new ArrayList<>(entry.getValue().size());
+            for (Object[] itemData : entry.getValue()) {
+                String itemId = (String) itemData[1];
+                String menuId = (String) itemData[2];
+                String menuName = (String) itemData[3];
+                int quantity = (Integer) itemData[4];
+                BigDecimal linePrice = (BigDecimal) itemData[5];
+
+                orderItems.add(new OrderItemReadModel(
+                    itemId, menuId, menuName, optionsByItemId.getOrDefault(itemId, List.of()), quantity, linePrice));
+            }
+            itemsByOrderId.put(entry.getKey(), orderItems);
+        }
+        return itemsByOrderId;
     }
-}
\ No newline at end of file
+}
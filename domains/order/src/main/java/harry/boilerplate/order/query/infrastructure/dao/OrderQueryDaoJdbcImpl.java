@@ -0,0 +1,386 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.command.domain.valueObject.OrderId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderItemReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderSummaryReadModel;
+import harry.boilerplate.order.query.application.readModel.SelectedOptionReadModel;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주문 조회 Query DAO의 JDBC 구현체 (order.query.dao=jdbc)
+ * OrderQueryDaoImpl과 같은 SQL 경로를 영속성 컨텍스트 없이 직접 작성한 SQL과 RowMapper로 수행하여, 행을 엔티티나 Object[]를 거치지 않고 Read Model로 변환
+ * - 라인 아이템과 선택 옵션은 LEFT JOIN 한 번으로 읽어 페이지당 주문 1회 + 아이템 1회로 조회
+ * - IN 목록은 2의 거듭제곱 크기로 채워 SQL 문자열 종류를 줄이고, 드라이버/서버의 prepared statement 캐시를 재사용
+ * - 모든 결과를 Read Model 목록으로 모아 반환하므로 커서 fetch 없이 한 번에 받음
+ */
+@Repository("databaseOrderQueryDao")
+@ConditionalOnProperty(prefix = "order.query", name = "dao", havingValue = "jdbc")
+@Transactional(readOnly = true)
+public class OrderQueryDaoJdbcImpl implements OrderQueryDao {
+
+    private static final String EXISTS_SQL = "SELECT 1 FROM order_table WHERE id = ?";
+
+    // 이력 조회 컬럼 (orderId, userId, shopId, shopName, totalPrice, totalQuantity, orderTime)
+    private static final String SUMMARY_COLUMNS =
+        "SELECT s.order_id, s.user_id, s.shop_id, s.shop_name, s.total_price, s.total_quantity, s.order_time " +
+        "FROM order_summary s ";
+
+    // 최근 주문 목록 컬럼 (orderId, shopId, shopName, totalPrice, totalQuantity, orderTime, firstMenuName, itemCount)
+    private static final String RECENT_COLUMNS =
+        "SELECT s.order_id, s.shop_id, s.shop_name, s.total_price, s.total_quantity, s.order_time, " +
+        "s.first_menu_name, s.item_count FROM order_summary s ";
+
+    private static final String LATEST_FIRST = "ORDER BY s.order_time DESC, s.order_id DESC ";
+
+    private static final String ORDER_ITEMS_SQL =
+        "SELECT oli.order_id, oli.id, oli.menu_id, oli.menu_name, oli.quantity, oli.line_price, " +
+        "so.option_id, so.option_name, so.option_price " +
+        "FROM order_line_item oli LEFT JOIN order_item_selected_option so ON so.order_line_item_id = oli.id " +
+        "WHERE oli.order_id IN (:orderIds) ORDER BY oli.line_no, oli.id";
+
+    // IN 조건 하나에 넣는 최대 ID 수 (2의 거듭제곱)
+    private static final int IN_BATCH_SIZE = 512;
+
+    private static final RowMapper<SummaryRow> SUMMARY_ROW = (rs, rowNum) -> new SummaryRow(
+        rs.getString(1),                                // orderId
+        rs.getString(2),                                // userId
+        rs.getString(3),                                // shopId
+        rs.getString(4),                                // shopName
+        rs.getBigDecimal(5),                            // totalPrice
+        rs.getInt(6),                                   // totalQuantity
+        rs.getObject(7, LocalDateTime.class)            // orderTime
+    );
+
+    private static final RowMapper<RecentRow> RECENT_ROW = (rs, rowNum) -> new RecentRow(
+        rs.getString(1),                                // orderId
+        rs.getString(2),                                // shopId
+        rs.getString(3),                                // shopName
+        rs.getBigDecimal(4),                            // totalPrice
+        rs.getInt(5),                                   // totalQuantity
+        rs.getObject(6, LocalDateTime.class),           // orderTime
+        rs.getString(7),                                // firstMenuName
+        rs.getInt(8)                                    // itemCount
+    );
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ShardRouter shardRouter;
+    private final ShopDirectory shopDirectory;
+
+    public OrderQueryDaoJdbcImpl(DataSource dataSource, ShardRouter shardRouter, ShopDirectory shopDirectory) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+        this.shardRouter = shardRouter;
+        this.shopDirectory = shopDirectory;
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserId(UserId userId, int page, int size) {
+        if (userId == null) {
+            return List.of();
+        }
+
+        return shardRouter.onShardOf(userId, () -> toOrderHistories(jdbc.query(
+            SUMMARY_COLUMNS + "WHERE s.user_id = :userId " + LATEST_FIRST + "LIMIT :limit OFFSET :offset",
+            new MapSqlParameterSource("userId", userId.getValue())
+                .addValue("limit", size)
+                .addValue("offset", page * size),
+            SUMMARY_ROW)));
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdBefore(
+            UserId userId, LocalDateTime orderTime, String orderId, int limit) {
+        if (userId == null || limit <= 0) {
+            return List.of();
+        }
+
+        return shardRouter.onShardOf(userId, () -> {
+            MapSqlParameterSource params = new MapSqlParameterSource("userId", userId.getValue())
+                .addValue("limit", limit);
+            String sql;
+            if (orderTime == null || orderId == null) {
+                sql = SUMMARY_COLUMNS + "WHERE s.user_id = :userId " + LATEST_FIRST + "LIMIT :limit";
+            } else {
+                sql = SUMMARY_COLUMNS + "WHERE s.user_id = :userId " +
+                    "AND (s.order_time < :orderTime OR (s.order_time = :orderTime AND s.order_id < :orderId)) " +
+                    LATEST_FIRST + "LIMIT :limit";
+                params.addValue("orderTime", orderTime).addValue("orderId", orderId);
+            }
+            return toOrderHistories(jdbc.query(sql, params, SUMMARY_ROW));
+        });
+    }
+
+    @Override
+    public Optional<OrderHistoryReadModel> findOrderHistoryById(OrderId orderId) {
+        if (orderId == null) {
+            return Optional.empty();
+        }
+
+        return shardRouter.onShardLocating(EXISTS_SQL, orderId.getValue(), () -> toOrderHistories(jdbc.query(
+            SUMMARY_COLUMNS + "WHERE s.order_id = :orderId",
+            new MapSqlParameterSource("orderId", orderId.getValue()),
+            SUMMARY_ROW)).stream().findFirst(), Optional::empty);
+    }
+
+    @Override
+    public List<OrderSummaryReadModel> findRecentOrdersByUserId(UserId userId, int limit) {
+        if (userId == null) {
+            return List.of();
+        }
+
+        return shardRouter.onShardOf(userId, () -> toOrderSummaries(jdbc.query(
+            RECENT_COLUMNS + "WHERE s.user_id = :userId " + LATEST_FIRST + "LIMIT :limit",
+            new MapSqlParameterSource("userId", userId.getValue()).addValue("limit", limit),
+            RECENT_ROW)));
+    }
+
+    @Override
+    public List<OrderSummaryReadModel> findRecentOrdersByShopId(String shopId, int limit) {
+        if (shopId == null || limit <= 0) {
+            return List.of();
+        }
+
+        // 가게 주문은 모든 샤드에 흩어져 있으므로 샤드별 상위 limit개를 병렬 조회 후 병합
+        List<List<OrderSummaryReadModel>> perShard = shardRouter.scatterGather(shardId -> toOrderSummaries(jdbc.query(
+            RECENT_COLUMNS + "WHERE s.shop_id = :shopId " + LATEST_FIRST + "LIMIT :limit",
+            new MapSqlParameterSource("shopId", shopId).addValue("limit", limit),
+            RECENT_ROW)));
+
+        return perShard.stream()
+            .flatMap(List::stream)
+            .sorted(Comparator.comparing(OrderSummaryReadModel::getOrderTime).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdAndDateRange(
+            UserId userId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (userId == null) {
+            return List.of();
+        }
+
+        return shardRouter.onShardOf(userId, () -> toOrderHistories(jdbc.query(
+            SUMMARY_COLUMNS + "WHERE s.user_id = :userId " +
+                "AND s.order_time >= :startDate AND s.order_time <= :endDate " + LATEST_FIRST,
+            new MapSqlParameterSource("userId", userId.getValue())
+                .addValue("startDate", startDate)
+                .addValue("endDate", endDate),
+            SUMMARY_ROW)));
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdAndDateRanges(UserId userId, List<DateRange> ranges) {
+        if (userId == null || ranges == null || ranges.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource("userId", userId.getValue());
+        for (int i = 0; i < ranges.size(); i++) {
+            parameters.addValue("startDate" + i, ranges.get(i).startDate());
+            parameters.addValue("endDate" + i, ranges.get(i).endDate());
+        }
+        return shardRouter.onShardOf(userId, () -> toOrderHistories(jdbc.query(
+            SUMMARY_COLUMNS + "WHERE s.user_id = :userId AND (" + rangeConditions("s.order_time", ranges.size()) + ") " +
+                LATEST_FIRST,
+            parameters,
+            SUMMARY_ROW)));
+    }
+
+    @Override
+    public long countOrdersByUserId(UserId userId) {
+        if (userId == null) {
+            return 0;
+        }
+
+        return shardRouter.onShardOf(userId, () -> jdbc.queryForObject(
+            "SELECT COUNT(*) FROM order_summary WHERE user_id = :userId",
+            new MapSqlParameterSource("userId", userId.getValue()),
+            Long.class));
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdAndShopId(UserId userId, String shopId) {
+        if (userId == null || shopId == null) {
+            return List.of();
+        }
+
+        return shardRouter.onShardOf(userId, () -> toOrderHistories(jdbc.query(
+            SUMMARY_COLUMNS + "WHERE s.user_id = :userId AND s.shop_id = :shopId " + LATEST_FIRST,
+            new MapSqlParameterSource("userId", userId.getValue()).addValue("shopId", shopId),
+            SUMMARY_ROW)));
+    }
+
+    @Override
+    public List<OrderHistoryReadModel> findOrderHistoryByUserIdAndStatus(UserId userId, OrderStatus status, int page, int size) {
+        if (userId == null || status == null) {
+            return List.of();
+        }
+
+        return shardRouter.onShardOf(userId, () -> toOrderHistories(jdbc.query(
+            SUMMARY_COLUMNS + "JOIN order_table o ON o.id = s.order_id " +
+                "WHERE s.user_id = :userId AND o.status = :status " + LATEST_FIRST + "LIMIT :limit OFFSET :offset",
+            new MapSqlParameterSource("userId", userId.getValue())
+                .addValue("status", status.name())
+                .addValue("limit", size)
+                .addValue("offset", page * size),
+            SUMMARY_ROW)));
+    }
+
+    @Override
+    public long countOrdersByUserIdAndStatus(UserId userId, OrderStatus status) {
+        if (userId == null || status == null) {
+            return 0;
+        }
+
+        return shardRouter.onShardOf(userId, () -> jdbc.queryForObject(
+            "SELECT COUNT(*) FROM order_table WHERE user_id = :userId AND status = :status",
+            new MapSqlParameterSource("userId", userId.getValue()).addValue("status", status.name()),
+            Long.class));
+    }
+
+    /**
+     * 최근 주문 행을 Read Model로 변환 (가게 이름은 페이지 단위로 한 번에 조회)
+     */
+    private List<OrderSummaryReadModel> toOrderSummaries(List<RecentRow> rows) {
+        List<String> shopIds = new ArrayList<>(rows.size());
+        for (RecentRow row : rows) {
+            shopIds.add(row.shopId());
+        }
+        Map<String, String> shopNames = shopDirectory.namesOf(shopIds);
+
+        List<OrderSummaryReadModel> result = new ArrayList<>(rows.size());
+        for (RecentRow row : rows) {
+            result.add(new OrderSummaryReadModel(
+                row.orderId(), row.shopId(), shopNames.getOrDefault(row.shopId(), row.shopName()),
+                row.totalPrice(), row.totalQuantity(), row.orderTime(),
+                row.firstMenuName() != null ? row.firstMenuName() : "",
+                Math.max(0, row.itemCount() - 1)));
+        }
+        return result;
+    }
+
+    /**
+     * 기간 수만큼의 OR 조건 (파라미터 startDate0, endDate0, ...)
+     */
+    private static String rangeConditions(String column, int count) {
+        List<String> conditions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            conditions.add(column + " >= :startDate" + i + " AND " + column + " <= :endDate" + i);
+        }
+        return "(" + String.join(") OR (", conditions) + ")";
+    }
+
+    /**
+     * 이력 행을 Read Model로 변환 (페이지 전체의 라인 아이템과 옵션을 한 번에 조회하여 조립)
+     */
+    private List<OrderHistoryReadModel> toOrderHistories(List<SummaryRow> rows) {
+        List<String> orderIds = new ArrayList<>(rows.size());
+        List<String> shopIds = new ArrayList<>(rows.size());
+        for (SummaryRow row : rows) {
+            orderIds.add(row.orderId());
+            shopIds.add(row.shopId());
+        }
+        Map<String, List<OrderItemReadModel>> itemsByOrderId = findOrderItemsByOrderIds(orderIds);
+        Map<String, String> shopNames = shopDirectory.namesOf(shopIds);
+
+        List<OrderHistoryReadModel> result = new ArrayList<>(rows.size());
+        for (SummaryRow row : rows) {
+            result.add(new OrderHistoryReadModel(
+                row.orderId(), row.userId(), row.shopId(), shopNames.getOrDefault(row.shopId(), row.shopName()),
+                itemsByOrderId.getOrDefault(row.orderId(), List.of()),
+                row.totalPrice(), row.totalQuantity(), row.orderTime()));
+        }
+        return result;
+    }
+
+    /**
+     * 여러 주문의 라인 아이템과 선택 옵션을 LEFT JOIN 한 번으로 조회 (묶음당 1회)
+     * 아이템 ID 순으로 읽으면서 행을 아이템 단위로 묶어 바로 Read Model 재료로 모음
+     */
+    private Map<String, List<OrderItemReadModel>> findOrderItemsByOrderIds(List<String> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, ItemRow> itemRows = new LinkedHashMap<>();
+        for (int from = 0; from < orderIds.size(); from += IN_BATCH_SIZE) {
+            List<String> batch = orderIds.subList(from, Math.min(from + IN_BATCH_SIZE, orderIds.size()));
+
+            jdbc.query(ORDER_ITEMS_SQL, new MapSqlParameterSource("orderIds", padded(batch)), rs -> {
+                String itemId = rs.getString(2);
+                ItemRow item = itemRows.get(itemId);
+                if (item == null) {
+                    item = new ItemRow(rs.getString(1), itemId, rs.getString(3), rs.getString(4),
+                        rs.getInt(5), rs.getBigDecimal(6), new ArrayList<>());
+                    itemRows.put(itemId, item);
+                }
+                String optionId = rs.getString(7);
+                if (optionId != null) {
+                    item.options().add(new SelectedOptionReadModel(optionId, rs.getString(8), rs.getBigDecimal(9)));
+                }
+            });
+        }
+
+        Map<String, List<OrderItemReadModel>> itemsByOrderId = new HashMap<>();
+        for (ItemRow item : itemRows.values()) {
+            itemsByOrderId.computeIfAbsent(item.orderId(), key -> new ArrayList<>())
+                .add(new OrderItemReadModel(
+                    item.itemId(), item.menuId(), item.menuName(), item.options(), item.quantity(), item.linePrice()));
+        }
+        return itemsByOrderId;
+    }
+
+    /**
+     * IN 목록을 2의 거듭제곱 크기로 채움 (마지막 ID 반복)
+     * 목록 크기마다 다른 SQL이 만들어지지 않도록 하여 prepared statement 캐시 적중률을 높임
+     */
+    static List<String> padded(List<String> ids) {
+        int size = 1;
+        while (size < ids.size()) {
+            size <<= 1;
+        }
+        if (size == ids.size()) {
+            return ids;
+        }
+        List<String> padded = new ArrayList<>(size);
+        padded.addAll(ids);
+        String last = ids.get(ids.size() - 1);
+        while (padded.size() < size) {
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    private record SummaryRow(String orderId, String userId, String shopId, String shopName,
+                              BigDecimal totalPrice, int totalQuantity, LocalDateTime orderTime) {
+    }
+
+    private record RecentRow(String orderId, String shopId, String shopName, BigDecimal totalPrice,
+                             int totalQuantity, LocalDateTime orderTime, String firstMenuName, int itemCount) {
+    }
+
+    private record ItemRow(String orderId, String itemId, String menuId, String menuName, int quantity,
+                           BigDecimal linePrice, List<SelectedOptionReadModel> options) {
+    }
+}
@@ -0,0 +1,19 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 주문 검색 색인 조회 DAO 인터페이스
+ */
+public interface OrderSearchDao {
+
+    /**
+     * 모든 토큰이 나온 사용자 주문의 주문 시각 (최신순, 초 단위)
+     * n-gram 교집합이므로 실제로 검색어를 포함하지 않는 주문이 섞일 수 있어 호출 측에서 확인 필요
+     */
+    List<LocalDateTime> findOrderTimesContainingAll(UserId userId, Collection<String> tokens);
+}
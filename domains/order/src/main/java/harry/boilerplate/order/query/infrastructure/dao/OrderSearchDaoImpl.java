@@ -0,0 +1,71 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.infrastructure.projection.OrderSearchPostings;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 사용자별 주문 검색 색인 조회 DAO 구현체
+ * 사용자 샤드에서 검색어 토큰 행만 기본 키로 읽고, 포스팅 목록을 짧은 것부터 교집합하여 후보 주문 시각을 구함 (라인 아이템 조회 없음)
+ */
+@Repository
+@Transactional(readOnly = true)
+public class OrderSearchDaoImpl implements OrderSearchDao {
+
+    private static final String POSTINGS_SQL =
+        "SELECT token, postings FROM user_order_search_token WHERE user_id = :userId AND token IN (:tokens)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ShardRouter shardRouter;
+
+    public OrderSearchDaoImpl(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public List<LocalDateTime> findOrderTimesContainingAll(UserId userId, Collection<String> tokens) {
+        if (userId == null || tokens == null || tokens.isEmpty()) {
+            return List.of();
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = shardRouter.onShardOf(userId, () -> entityManager.createNativeQuery(POSTINGS_SQL)
+            .setParameter("userId", userId.getValue())
+            .setParameter("tokens", List.copyOf(tokens))
+            .getResultList());
+        // 토큰 하나라도 색인에 없으면 모두 포함하는 주문도 없음
+        if (rows.size() < tokens.size()) {
+            return List.of();
+        }
+
+        List<long[]> postings = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            postings.add(OrderSearchPostings.decode((byte[]) row[1]));
+        }
+        postings.sort(Comparator.comparingInt(values -> values.length));
+
+        long[] matched = postings.get(0);
+        for (int i = 1; i < postings.size() && matched.length > 0; i++) {
+            matched = OrderSearchPostings.intersect(matched, postings.get(i));
+        }
+
+        List<LocalDateTime> orderTimes = new ArrayList<>(matched.length);
+        for (int i = matched.length - 1; i >= 0; i--) {
+            orderTimes.add(LocalDateTime.ofEpochSecond(matched[i], 0, ZoneOffset.UTC));
+        }
+        return orderTimes;
+    }
+}
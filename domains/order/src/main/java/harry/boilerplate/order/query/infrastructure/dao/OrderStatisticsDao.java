@@ -0,0 +1,24 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.readModel.DailyOrderStatReadModel;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일간 주문 집계 조회 DAO 인터페이스
+ * 원본 주문 대신 일간 집계 테이블을 조회하여 기간 통계 계산
+ */
+public interface OrderStatisticsDao {
+    
+    /**
+     * 사용자의 기간 내 일간 주문 집계 조회 (일자순, 주문 없는 날은 제외)
+     */
+    List<DailyOrderStatReadModel> findUserDailyStats(UserId userId, LocalDate from, LocalDate to);
+    
+    /**
+     * 가게의 기간 내 일간 주문 집계 조회 (일자순, 주문 없는 날은 제외)
+     */
+    List<DailyOrderStatReadModel> findShopDailyStats(String shopId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,90 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.application.readModel.DailyOrderStatReadModel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일간 주문 집계 조회 DAO 구현체
+ * 사용자 집계는 사용자 샤드 한 곳에서, 가게 집계는 모든 샤드에서 조회 후 일자별로 합산
+ */
+@Repository
+@Transactional(readOnly = true)
+public class OrderStatisticsDaoImpl implements OrderStatisticsDao {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ShardRouter shardRouter;
+
+    public OrderStatisticsDaoImpl(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public List<DailyOrderStatReadModel> findUserDailyStats(UserId userId, LocalDate from, LocalDate to) {
+        if (userId == null) {
+            return List.of();
+        }
+
+        return shardRouter.onShardOf(userId, () -> toDailyStats(
+            entityManager.createQuery(
+                "SELECT s.statDate, s.orderCount, s.revenue, s.itemQuantity " +
+                "FROM UserDailyOrderStat s " +
+                "WHERE s.userId = :userId AND s.statDate BETWEEN :from AND :to " +
+                "ORDER BY s.statDate", Object[].class)
+                .setParameter("userId", userId.getValue())
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList()));
+    }
+
+    @Override
+    public List<DailyOrderStatReadModel> findShopDailyStats(String shopId, LocalDate from, LocalDate to) {
+        if (shopId == null) {
+            return List.of();
+        }
+
+        // 가게 집계는 주문이 저장된 샤드마다 나뉘어 있으므로 병렬 조회 후 일자별로 합산
+        List<List<DailyOrderStatReadModel>> perShard = shardRouter.scatterGather(shardId -> toDailyStats(
+            entityManager.createQuery(
+                "SELECT s.statDate, s.orderCount, s.revenue, s.itemQuantity " +
+                "FROM ShopDailyOrderStat s " +
+                "WHERE s.shopId = :shopId AND s.statDate BETWEEN :from AND :to " +
+                "ORDER BY s.statDate", Object[].class)
+                .setParameter("shopId", shopId)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList()));
+
+        Map<LocalDate, DailyOrderStatReadModel> merged = new TreeMap<>();
+        for (List<DailyOrderStatReadModel> stats : perShard) {
+            for (DailyOrderStatReadModel stat : stats) {
+                merged.merge(stat.getDate(), stat, DailyOrderStatReadModel::plus);
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private List<DailyOrderStatReadModel> toDailyStats(List<Object[]> rows) {
+        return rows.stream()
+            .map(row -> new DailyOrderStatReadModel(
+                (LocalDate) row[0],    // statDate
+                (Long) row[1],         // orderCount
+                (BigDecimal) row[2],   // revenue
+                (Long) row[3]          // itemQuantity
+            ))
+            .toList();
+    }
+}
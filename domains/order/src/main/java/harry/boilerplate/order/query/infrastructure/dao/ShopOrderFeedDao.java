@@ -0,0 +1,27 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.query.application.dto.ShopOrderStreamMessage;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 가게 주문 피드 DAO 인터페이스
+ * 다른 서버 인스턴스에서 커밋된 주문도 가게 주문 스트림으로 전달하기 위해 최근 주문을 DB에서 조회
+ */
+public interface ShopOrderFeedDao {
+
+    /**
+     * 가게들의 지정 시각 이후 주문 조회 (모든 샤드, 주문 시각 순)
+     * @param shopIds 조회할 가게 ID 목록
+     * @param since   이 시각 이후(포함)에 생성된 주문
+     */
+    List<FeedOrder> findOrdersSince(Collection<String> shopIds, LocalDateTime since);
+
+    /**
+     * 피드 주문 (가게 ID와 스트림 메시지)
+     */
+    record FeedOrder(String shopId, ShopOrderStreamMessage message) {
+    }
+}
@@ -0,0 +1,77 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.application.dto.ShopOrderStreamMessage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 가게 주문 피드 DAO 구현체
+ * 주문 요약은 주문과 같은 트랜잭션으로 커밋되므로, (shop_id, order_time) 인덱스로 최근 주문만 읽음
+ */
+@Repository
+@Transactional(readOnly = true)
+public class ShopOrderFeedDaoImpl implements ShopOrderFeedDao {
+
+    private static final String FEED_SQL =
+        "SELECT shop_id, order_id, total_price, order_time, first_menu_name, item_count, total_quantity " +
+        "FROM order_summary " +
+        "WHERE shop_id IN (:shopIds) AND order_time >= :since " +
+        "ORDER BY order_time, order_id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ShardRouter shardRouter;
+
+    public ShopOrderFeedDaoImpl(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public List<FeedOrder> findOrdersSince(Collection<String> shopIds, LocalDateTime since) {
+        if (shopIds == null || shopIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<FeedOrder> orders = new ArrayList<>();
+        shardRouter.scatterGather(shardId -> {
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = entityManager.createNativeQuery(FEED_SQL)
+                .setParameter("shopIds", shopIds)
+                .setParameter("since", since)
+                .getResultList();
+            return rows;
+        }).forEach(rows -> rows.forEach(row -> orders.add(toFeedOrder(row))));
+        orders.sort(Comparator.comparing((FeedOrder order) -> order.message().getOrderTime())
+            .thenComparing(order -> order.message().getOrderId()));
+        return orders;
+    }
+
+    private static FeedOrder toFeedOrder(Object[] row) {
+        return new FeedOrder((String) row[0], new ShopOrderStreamMessage(
+            (String) row[1],
+            (BigDecimal) row[2],
+            toLocalDateTime(row[3]),
+            (String) row[4],
+            ((Number) row[5]).intValue(),
+            ((Number) row[6]).intValue()));
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,81 @@
+package harry.boilerplate.order.query.infrastructure.export;
+
+import harry.boilerplate.order.query.application.readModel.OrderExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 출력기 (RFC 4180)
+ * 첫 줄은 헤더, 재개 지점은 '#'으로 시작하는 주석 줄로 출력
+ */
+class CsvOrderExportWriter implements OrderExportWriter {
+
+    private static final String HEADER =
+        "order_id,user_id,shop_id,order_time,first_menu_name,item_count,total_quantity,total_price";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    CsvOrderExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void writeRow(OrderExportRow row) throws IOException {
+        writeField(row.getOrderId());
+        writer.write(',');
+        writeField(row.getUserId());
+        writer.write(',');
+        writeField(row.getShopId());
+        writer.write(',');
+        writeField(row.getOrderTime() != null ? row.getOrderTime().toString() : null);
+        writer.write(',');
+        writeField(row.getFirstMenuName());
+        writer.write(',');
+        writer.write(Integer.toString(row.getItemCount()));
+        writer.write(',');
+        writer.write(Integer.toString(row.getTotalQuantity()));
+        writer.write(',');
+        writer.write(row.getTotalPrice() != null ? row.getTotalPrice().toPlainString() : "");
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void writeCheckpoint(String token, boolean complete) throws IOException {
+        writer.write(complete ? "# complete" : "# checkpoint");
+        if (token != null) {
+            writer.write(" checkpoint=");
+            writer.write(token);
+        }
+        writer.write("\r\n");
+        writer.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0 || value.startsWith("#");
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,57 @@
+package harry.boilerplate.order.query.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import harry.boilerplate.order.query.application.readModel.OrderExportRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * NDJSON 출력기
+ * 한 줄에 주문 하나의 JSON 객체, 재개 지점은 {"checkpoint": ..., "complete": ...} 줄로 출력
+ */
+class NdjsonOrderExportWriter implements OrderExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    NdjsonOrderExportWriter(OutputStream out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 최상위 값 사이를 줄바꿈으로 구분
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    @Override
+    public void writeRow(OrderExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("orderId", row.getOrderId());
+        generator.writeStringField("userId", row.getUserId());
+        generator.writeStringField("shopId", row.getShopId());
+        generator.writeStringField("orderTime", row.getOrderTime() != null ? row.getOrderTime().toString() : null);
+        generator.writeStringField("firstMenuName", row.getFirstMenuName());
+        generator.writeNumberField("itemCount", row.getItemCount());
+        generator.writeNumberField("totalQuantity", row.getTotalQuantity());
+        generator.writeNumberField("totalPrice", row.getTotalPrice());
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void writeCheckpoint(String token, boolean complete) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("checkpoint", token);
+        generator.writeBooleanField("complete", complete);
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.writeRaw('\n');
+        generator.close();
+    }
+}
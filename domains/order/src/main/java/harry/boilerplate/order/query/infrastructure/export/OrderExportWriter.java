@@ -0,0 +1,41 @@
+package harry.boilerplate.order.query.infrastructure.export;
+
+import harry.boilerplate.order.query.application.dto.OrderExportFormat;
+import harry.boilerplate.order.query.application.readModel.OrderExportRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 주문 내보내기 출력기
+ * 행을 받는 즉시 출력 스트림에 쓰며, 고정 크기 버퍼 외에는 데이터를 보관하지 않음
+ */
+public interface OrderExportWriter {
+    
+    /**
+     * 형식에 맞는 출력기 생성
+     */
+    static OrderExportWriter create(OrderExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonOrderExportWriter(out);
+            case CSV -> new CsvOrderExportWriter(out);
+        };
+    }
+    
+    /**
+     * 주문 한 건 출력
+     */
+    void writeRow(OrderExportRow row) throws IOException;
+    
+    /**
+     * 재개 지점 출력 후 버퍼를 비움
+     * @param token    이 지점부터 이어받을 때 사용할 토큰 (내보낸 행이 없으면 null)
+     * @param complete 마지막 재개 지점(내보내기 완료) 여부
+     */
+    void writeCheckpoint(String token, boolean complete) throws IOException;
+    
+    /**
+     * 남은 버퍼 출력 (스트림은 닫지 않음)
+     */
+    void finish() throws IOException;
+}
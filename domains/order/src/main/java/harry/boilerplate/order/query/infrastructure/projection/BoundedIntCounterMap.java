@@ -0,0 +1,142 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import java.util.Arrays;
+
+/**
+ * int 키 → int 카운트 희소 맵 (키 수 상한이 있는 Space-Saving 방식)
+ * 키와 카운트를 기본형 배열에 선형 탐사로 저장하여 박싱 없이 증가·조회
+ * 키가 capacity개로 가득 찬 상태에서 새 키가 오면 가장 작은 카운트의 키를 넘겨받아 그 값에서 이어서 셈 (과대 추정)
+ * 동기화하지 않으므로 호출 측에서 잠근 뒤 사용
+ */
+class BoundedIntCounterMap {
+
+    // 빈 슬롯 표시 (키는 0 이상)
+    private static final int EMPTY = -1;
+
+    private final int capacity;
+    private final int mask;
+    private final int[] keys;
+    private final int[] counts;
+    private int size;
+
+    BoundedIntCounterMap(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("키 수는 1 이상이어야 합니다");
+        }
+        // 적재율 50% 이하를 유지하도록 2배 이상의 2의 거듭제곱 크기
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        this.capacity = capacity;
+        this.mask = tableSize - 1;
+        this.keys = new int[tableSize];
+        this.counts = new int[tableSize];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * 키의 카운트를 1 증가시키고 증가 후 값 반환
+     */
+    int increment(int key) {
+        return add(key, 1);
+    }
+
+    /**
+     * 키의 카운트에 delta를 더하고 더한 후 값 반환
+     */
+    int add(int key, int delta) {
+        if (key < 0) {
+            throw new IllegalArgumentException("키는 0 이상이어야 합니다");
+        }
+        int slot = find(key);
+        if (keys[slot] == key) {
+            counts[slot] += delta;
+            return counts[slot];
+        }
+
+        int base = 0;
+        if (size == capacity) {
+            int minSlot = minSlot();
+            base = counts[minSlot];
+            removeAt(minSlot);
+            slot = find(key);
+        }
+        keys[slot] = key;
+        counts[slot] = base + delta;
+        size++;
+        return counts[slot];
+    }
+
+    /**
+     * 키의 카운트 (없으면 0)
+     */
+    int get(int key) {
+        int slot = find(key);
+        return keys[slot] == key ? counts[slot] : 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 모든 키와 카운트 순회 (순서 없음)
+     */
+    void forEach(EntryConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                consumer.accept(keys[slot], counts[slot]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int key, int count);
+    }
+
+    /**
+     * 키가 있는 슬롯, 없으면 키를 넣을 빈 슬롯
+     */
+    private int find(int key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int minSlot() {
+        int minSlot = -1;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY && (minSlot < 0 || counts[slot] < counts[minSlot])) {
+                minSlot = slot;
+            }
+        }
+        return minSlot;
+    }
+
+    /**
+     * 슬롯을 비우고 뒤따르는 탐사 구간의 키를 앞으로 당김 (삭제 표시 없이 탐사 연속성 유지)
+     */
+    private void removeAt(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = mix(keys[next]) & mask;
+            // next의 원래 위치가 (hole, next] 구간 밖이면 hole로 옮겨도 탐사로 찾을 수 있음
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                counts[hole] = counts[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        counts[hole] = 0;
+        size--;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
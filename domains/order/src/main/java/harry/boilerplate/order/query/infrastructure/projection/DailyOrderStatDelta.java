@@ -0,0 +1,23 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일간 주문 집계에 더할 증분 한 건
+ * @param dimension    집계 기준 (사용자/가게)
+ * @param shardId      집계 행을 기록할 샤드 (주문이 저장된 샤드)
+ * @param ownerId      사용자 ID 또는 가게 ID
+ * @param statDate     집계 일자 (주문 일시 기준)
+ * @param orderCount   주문 수 증분
+ * @param revenue      주문 금액 증분
+ * @param itemQuantity 주문 수량 증분
+ */
+public record DailyOrderStatDelta(Dimension dimension, String shardId, String ownerId, LocalDate statDate,
+                                  long orderCount, BigDecimal revenue, long itemQuantity) {
+
+    public enum Dimension {
+        USER,
+        SHOP
+    }
+}
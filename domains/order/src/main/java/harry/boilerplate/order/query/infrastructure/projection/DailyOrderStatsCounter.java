@@ -0,0 +1,125 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.infrastructure.projection.DailyOrderStatDelta.Dimension;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 일간 주문 집계 증분 카운터
+ * 주문 생성이 커밋될 때마다 DB에 쓰지 않고 (집계 기준, 샤드, ID, 일자)별 LongAdder에 누적
+ * 인기 가게처럼 같은 키에 주문이 몰려도 스레드별 셀로 나뉘어 경합 없이 증가하며,
+ * DailyOrderStatsFlusher가 주기적으로 drain()하여 집계 테이블에 한 번에 더함
+ */
+@Component
+public class DailyOrderStatsCounter {
+
+    private final ShardRouter shardRouter;
+
+    // 증가는 읽기 잠금으로 동시에, 맵 교체(drain)는 쓰기 잠금으로 수행하여 교체 중인 맵에 더해지는 증분이 없도록 함
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private Map<StatKey, Counters> current = new ConcurrentHashMap<>();
+
+    public DailyOrderStatsCounter(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * 주문 생성이 커밋되면 사용자·가게 일간 집계 증분 누적
+     * 가게 집계도 주문이 저장된 (사용자) 샤드에 기록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        String shardId = shardRouter.shardOf(UserId.of(event.getUserId()));
+        LocalDate statDate = event.getOrderTime().toLocalDate();
+        long revenueCents = toCents(event.getTotalAmount());
+
+        add(new StatKey(Dimension.USER, shardId, event.getUserId(), statDate), 1, revenueCents, event.getTotalQuantity());
+        add(new StatKey(Dimension.SHOP, shardId, event.getShopId(), statDate), 1, revenueCents, event.getTotalQuantity());
+    }
+
+    /**
+     * 지금까지 누적된 증분을 꺼내고 카운터를 비움
+     */
+    public List<DailyOrderStatDelta> drain() {
+        Map<StatKey, Counters> drained;
+        Lock lock = swapLock.writeLock();
+        lock.lock();
+        try {
+            drained = current;
+            current = new ConcurrentHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+
+        List<DailyOrderStatDelta> deltas = new ArrayList<>(drained.size());
+        drained.forEach((key, counters) -> deltas.add(new DailyOrderStatDelta(
+            key.dimension(), key.shardId(), key.ownerId(), key.statDate(),
+            counters.orderCount.sum(), BigDecimal.valueOf(counters.revenueCents.sum(), 2), counters.itemQuantity.sum())));
+        return deltas;
+    }
+
+    /**
+     * DB 반영에 실패한 증분을 다음 반영 때 다시 더하도록 되돌림
+     */
+    public void restore(Collection<DailyOrderStatDelta> deltas) {
+        for (DailyOrderStatDelta delta : deltas) {
+            add(new StatKey(delta.dimension(), delta.shardId(), delta.ownerId(), delta.statDate()),
+                delta.orderCount(), toCents(delta.revenue()), delta.itemQuantity());
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 집계 키 수
+     */
+    public int pendingCount() {
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            return current.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(StatKey key, long orderCount, long revenueCents, long itemQuantity) {
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            Counters counters = current.computeIfAbsent(key, k -> new Counters());
+            counters.orderCount.add(orderCount);
+            counters.revenueCents.add(revenueCents);
+            counters.itemQuantity.add(itemQuantity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount != null ? amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0L;
+    }
+
+    private record StatKey(Dimension dimension, String shardId, String ownerId, LocalDate statDate) {
+    }
+
+    private static final class Counters {
+        private final LongAdder orderCount = new LongAdder();
+        private final LongAdder revenueCents = new LongAdder();
+        private final LongAdder itemQuantity = new LongAdder();
+    }
+}
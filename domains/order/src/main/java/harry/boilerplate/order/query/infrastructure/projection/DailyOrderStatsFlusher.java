@@ -0,0 +1,169 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.infrastructure.archive.OrderArchive;
+import harry.boilerplate.order.query.infrastructure.projection.DailyOrderStatDelta.Dimension;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 일간 주문 집계 반영
+ * DailyOrderStatsCounter에 모인 증분을 주기적으로 샤드별 한 트랜잭션에서 집계 테이블에 더함 (MySQL upsert)
+ * 반영에 실패한 샤드의 증분은 카운터로 되돌려 다음 주기에 다시 시도
+ */
+@Component
+public class DailyOrderStatsFlusher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DailyOrderStatsFlusher.class);
+
+    // 한 INSERT 문에 넣는 최대 행 수
+    private static final int UPSERT_BATCH_SIZE = 500;
+
+    private static final String UPSERT_SUFFIX =
+        " ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count), " +
+        "revenue = revenue + VALUES(revenue), item_quantity = item_quantity + VALUES(item_quantity)";
+
+    // :from 이후(아카이브되지 않은 월)만 지우고 다시 계산
+    private static final String REBUILD_USER_SQL =
+        "INSERT INTO user_daily_order_stats (user_id, stat_date, order_count, revenue, item_quantity) " +
+        "SELECT user_id, CAST(order_time AS DATE), COUNT(*), SUM(total_price), SUM(total_quantity) " +
+        "FROM order_summary WHERE order_time >= :from GROUP BY user_id, CAST(order_time AS DATE)";
+
+    private static final String REBUILD_SHOP_SQL =
+        "INSERT INTO shop_daily_order_stats (shop_id, stat_date, order_count, revenue, item_quantity) " +
+        "SELECT shop_id, CAST(order_time AS DATE), COUNT(*), SUM(total_price), SUM(total_quantity) " +
+        "FROM order_summary WHERE order_time >= :from GROUP BY shop_id, CAST(order_time AS DATE)";
+
+    // 아카이브가 없는 샤드는 전체 기간을 다시 계산
+    private static final LocalDate EPOCH = LocalDate.of(1970, 1, 1);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DailyOrderStatsCounter counter;
+    private final ShardRouter shardRouter;
+    private final OrderArchive orderArchive;
+
+    public DailyOrderStatsFlusher(DailyOrderStatsCounter counter, ShardRouter shardRouter, OrderArchive orderArchive) {
+        this.counter = counter;
+        this.shardRouter = shardRouter;
+        this.orderArchive = orderArchive;
+    }
+
+    /**
+     * 누적된 증분을 집계 테이블에 반영
+     * @return 반영한 집계 키 수
+     */
+    @Scheduled(fixedDelayString = "${order.statistics.flush-interval-millis:5000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized int flush() {
+        List<DailyOrderStatDelta> deltas = counter.drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<DailyOrderStatDelta>> byShard = deltas.stream()
+            .collect(Collectors.groupingBy(DailyOrderStatDelta::shardId, LinkedHashMap::new, Collectors.toList()));
+
+        int flushed = 0;
+        for (Map.Entry<String, List<DailyOrderStatDelta>> entry : byShard.entrySet()) {
+            List<DailyOrderStatDelta> shardDeltas = entry.getValue();
+            try {
+                shardRouter.inShardTransaction(entry.getKey(), () -> {
+                    upsert(Dimension.USER, shardDeltas);
+                    upsert(Dimension.SHOP, shardDeltas);
+                    return null;
+                });
+                flushed += shardDeltas.size();
+            } catch (RuntimeException e) {
+                counter.restore(shardDeltas);
+                logger.warn("일간 주문 집계 반영 실패, 다음 주기에 재시도: shard={}, {}건", entry.getKey(), shardDeltas.size(), e);
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * 종료 시 남은 증분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 모든 샤드의 주문 요약 테이블로부터 일간 집계 재구성
+     * 기존 주문을 처음 집계하거나 반영 실패 재시도로 어긋난 값을 바로잡을 때 사용 (주문 유입이 없을 때 실행)
+     * 아카이브된 월의 주문은 주문 요약에서도 지워졌으므로, 샤드의 마지막 아카이브 월까지의 집계는 그대로 두고 그 다음 날짜부터 재구성
+     * @return 재구성한 집계 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized long rebuild() {
+        // 재구성 이전의 증분은 재구성 결과에 이미 포함되므로 버림
+        counter.drain();
+        // 기동 시 재구성은 아카이브 적재(ApplicationReadyEvent)보다 먼저 실행되므로 세그먼트 목록을 먼저 읽음
+        orderArchive.load();
+
+        long rebuilt = 0;
+        for (String shardId : shardRouter.getShardMap().shardIds()) {
+            LocalDate from = orderArchive.latestMonth(shardId)
+                .map(month -> month.plusMonths(1).atDay(1))
+                .orElse(EPOCH);
+            rebuilt += shardRouter.inShardTransaction(shardId, () -> {
+                entityManager.createNativeQuery("DELETE FROM user_daily_order_stats WHERE stat_date >= :from")
+                    .setParameter("from", from)
+                    .executeUpdate();
+                entityManager.createNativeQuery("DELETE FROM shop_daily_order_stats WHERE stat_date >= :from")
+                    .setParameter("from", from)
+                    .executeUpdate();
+                return (long) entityManager.createNativeQuery(REBUILD_USER_SQL)
+                        .setParameter("from", from.atStartOfDay())
+                        .executeUpdate()
+                    + entityManager.createNativeQuery(REBUILD_SHOP_SQL)
+                        .setParameter("from", from.atStartOfDay())
+                        .executeUpdate();
+            });
+        }
+        return rebuilt;
+    }
+
+    private void upsert(Dimension dimension, List<DailyOrderStatDelta> deltas) {
+        List<DailyOrderStatDelta> rows = deltas.stream()
+            .filter(delta -> delta.dimension() == dimension)
+            .toList();
+        String insertPrefix = dimension == Dimension.USER
+            ? "INSERT INTO user_daily_order_stats (user_id, stat_date, order_count, revenue, item_quantity) VALUES "
+            : "INSERT INTO shop_daily_order_stats (shop_id, stat_date, order_count, revenue, item_quantity) VALUES ";
+
+        for (int from = 0; from < rows.size(); from += UPSERT_BATCH_SIZE) {
+            List<DailyOrderStatDelta> batch = rows.subList(from, Math.min(from + UPSERT_BATCH_SIZE, rows.size()));
+            String values = String.join(", ", Collections.nCopies(batch.size(), "(?, ?, ?, ?, ?)"));
+
+            Query query = entityManager.createNativeQuery(insertPrefix + values + UPSERT_SUFFIX);
+            int position = 1;
+            for (DailyOrderStatDelta delta : batch) {
+                query.setParameter(position++, delta.ownerId());
+                query.setParameter(position++, delta.statDate());
+                query.setParameter(position++, delta.orderCount());
+                query.setParameter(position++, delta.revenue());
+                query.setParameter(position++, delta.itemQuantity());
+            }
+            query.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일간 주문 집계 재구성 명령
+ * --order.statistics.rebuild=true 로 기동하면 시작 시 주문 요약 테이블로부터 일간 집계를 다시 계산
+ * 주문 요약 재구성과 함께 실행하면 요약 재구성이 끝난 뒤 실행
+ */
+@Component
+@Order(2)
+@ConditionalOnProperty(prefix = "order.statistics", name = "rebuild", havingValue = "true")
+public class DailyOrderStatsRebuildRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DailyOrderStatsRebuildRunner.class);
+
+    private final DailyOrderStatsFlusher dailyOrderStatsFlusher;
+
+    public DailyOrderStatsRebuildRunner(DailyOrderStatsFlusher dailyOrderStatsFlusher) {
+        this.dailyOrderStatsFlusher = dailyOrderStatsFlusher;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+        long rebuilt = dailyOrderStatsFlusher.rebuild();
+        logger.info("일간 주문 집계 재구성 완료: {}건, {}ms", rebuilt, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,147 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.query.application.readModel.MinuteOrderRateReadModel;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가게별 실시간 주문 수·매출 카운터 (최근 WINDOW_MINUTES분, DB 조회 없음)
+ * 가게마다 분 단위 버킷 WINDOW_MINUTES개짜리 고리를 두고, 주문 생성이 커밋되면 해당 분 버킷에 더함
+ * 버킷 교체는 CAS로, 누적은 LongAdder로 수행하여 잠금 없이 갱신하며, 가게당 메모리는 버킷 수로 고정
+ * 서버 인스턴스별 메모리 집계이므로 재기동 시 초기화되고, 여러 인스턴스의 값은 합산하지 않음
+ */
+@Component
+public class LiveOrderRateCounter {
+
+    public static final int WINDOW_MINUTES = 60;
+
+    private final Map<String, MinuteRing> rings = new ConcurrentHashMap<>();
+
+    /**
+     * 주문 생성이 커밋되면 가게의 해당 분 버킷에 누적
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        record(event.getShopId(), event.getOccurredAt(), event.getTotalAmount());
+    }
+
+    /**
+     * 주문 한 건 누적 (기준 시각 기준 창보다 오래된 주문은 무시)
+     */
+    public void record(String shopId, Instant orderedAt, BigDecimal amount) {
+        if (shopId == null || orderedAt == null) {
+            return;
+        }
+        rings.computeIfAbsent(shopId, key -> new MinuteRing()).add(minuteOf(orderedAt), toCents(amount));
+    }
+
+    /**
+     * 기준 시각까지 최근 minutes분의 분당 집계 (오래된 분부터, 주문 없는 분은 0, 최대 WINDOW_MINUTES분)
+     */
+    public List<MinuteOrderRateReadModel> perMinute(String shopId, Instant now, int minutes) {
+        int count = Math.max(0, Math.min(minutes, WINDOW_MINUTES));
+        long currentMinute = minuteOf(now);
+        MinuteRing ring = shopId != null ? rings.get(shopId) : null;
+
+        List<MinuteOrderRateReadModel> result = new ArrayList<>(count);
+        for (long minute = currentMinute - count + 1; minute <= currentMinute; minute++) {
+            Bucket bucket = ring != null ? ring.bucketOf(minute) : null;
+            result.add(new MinuteOrderRateReadModel(Instant.ofEpochSecond(minute * 60),
+                bucket != null ? bucket.orderCount.sum() : 0,
+                BigDecimal.valueOf(bucket != null ? bucket.revenueCents.sum() : 0, 2)));
+        }
+        return result;
+    }
+
+    /**
+     * 창을 벗어난 버킷 정리 (주문이 끊긴 가게의 고리는 빈 배열만 남음)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        evictExpired(Instant.now());
+    }
+
+    void evictExpired(Instant now) {
+        long oldestMinute = minuteOf(now) - WINDOW_MINUTES + 1;
+        rings.values().forEach(ring -> ring.evictBefore(oldestMinute));
+    }
+
+    private static long minuteOf(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), 60);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount != null ? amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0L;
+    }
+
+    /**
+     * 분 단위 버킷 고리 (슬롯 = 분 % WINDOW_MINUTES)
+     * 슬롯에 더 이전 분의 버킷이 있으면 새 버킷으로 CAS 교체하고, 더 최근 분의 버킷이 있으면 창을 벗어난 주문이므로 무시
+     * 누적 도중 슬롯이 교체되어도 교체되는 버킷은 창을 벗어난 분이므로 창 안의 집계는 잃지 않음
+     */
+    private static final class MinuteRing {
+
+        private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(WINDOW_MINUTES);
+
+        private void add(long minute, long revenueCents) {
+            int slot = (int) Math.floorMod(minute, WINDOW_MINUTES);
+            while (true) {
+                Bucket bucket = buckets.get(slot);
+                if (bucket != null && bucket.minute == minute) {
+                    bucket.add(revenueCents);
+                    return;
+                }
+                if (bucket != null && bucket.minute > minute) {
+                    return;
+                }
+                Bucket fresh = new Bucket(minute);
+                if (buckets.compareAndSet(slot, bucket, fresh)) {
+                    fresh.add(revenueCents);
+                    return;
+                }
+            }
+        }
+
+        private Bucket bucketOf(long minute) {
+            Bucket bucket = buckets.get((int) Math.floorMod(minute, WINDOW_MINUTES));
+            return bucket != null && bucket.minute == minute ? bucket : null;
+        }
+
+        private void evictBefore(long oldestMinute) {
+            for (int slot = 0; slot < WINDOW_MINUTES; slot++) {
+                Bucket bucket = buckets.get(slot);
+                if (bucket != null && bucket.minute < oldestMinute) {
+                    buckets.compareAndSet(slot, bucket, null);
+                }
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private final long minute;
+        private final LongAdder orderCount = new LongAdder();
+        private final LongAdder revenueCents = new LongAdder();
+
+        private Bucket(long minute) {
+            this.minute = minute;
+        }
+
+        private void add(long cents) {
+            orderCount.increment();
+            revenueCents.add(cents);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 이력으로 동시 주문 색인 재구성
+ * 샤드마다 주문 ID 첫 글자(16진수) 구간 16개로 나누어 parallelism개 스레드가 동시에 읽고,
+ * 구간 안에서는 ID 키셋 페이지로 주문과 라인 아이템을 배치 조회하여 새 색인에 누적한 뒤 한 번에 교체
+ * 주문 시각(order_time)이 재구성 시작 시각보다 overlap만큼 앞선 기준 시각 이후인 주문은 이력과 이벤트 양쪽에서 들어올 수 있어
+ * 주문 ID로 한 번만 누적하므로, 이력 조회 도중 커밋된 주문도 빠지거나 중복 집계되지 않음
+ */
+@Component
+public class MenuCoOccurrenceBackfill {
+
+    // 주문 ID 구간 경계 (UUID 첫 글자, 마지막 구간은 상한 없음)
+    private static final String[] PARTITION_BOUNDS =
+        {"", "1", "2", "3", "4", "5", "6", "7", "8", "9", "a", "b", "c", "d", "e", "f"};
+
+    private static final String NEXT_ORDER_IDS_SQL =
+        "SELECT id FROM order_table WHERE id > :lastId ";
+
+    private static final String NEXT_ORDER_IDS_ORDER_BY =
+        "ORDER BY id LIMIT :batchSize";
+
+    private static final String LINE_ITEMS_SQL =
+        "SELECT o.id, o.shop_id, o.order_time, li.menu_id, li.menu_name " +
+        "FROM order_table o JOIN order_line_item li ON li.order_id = o.id " +
+        "WHERE o.id IN (:ids) ORDER BY o.id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final MenuCoOccurrenceIndex index;
+    private final ShardRouter shardRouter;
+    private final int parallelism;
+    private final long overlapMillis;
+
+    public MenuCoOccurrenceBackfill(MenuCoOccurrenceIndex index, ShardRouter shardRouter,
+                                    @Value("${order.co-occurrence.rebuild-parallelism:4}") int parallelism,
+                                    @Value("${order.co-occurrence.rebuild-overlap-millis:300000}") long overlapMillis) {
+        if (overlapMillis < 0) {
+            throw new IllegalArgumentException("재구성 겹침 구간은 0 이상이어야 합니다");
+        }
+        this.index = index;
+        this.shardRouter = shardRouter;
+        this.parallelism = parallelism;
+        this.overlapMillis = overlapMillis;
+    }
+
+    /**
+     * 모든 샤드의 주문 이력으로 색인을 다시 만들고 교체
+     * @return 읽은 주문 수
+     */
+    public long rebuild(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다");
+        }
+
+        // 기준 시각 직전에 생성되어 이력 조회가 지나간 뒤에 커밋된 주문도 이벤트로 받도록 시작 시각보다 앞당김
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(overlapMillis));
+        MenuCoOccurrenceIndex.Rebuild rebuild = index.beginRebuild(cutoff);
+        AtomicLong orders = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String shardId : shardRouter.getShardMap().shardIds()) {
+                for (int partition = 0; partition < PARTITION_BOUNDS.length; partition++) {
+                    String lowerId = PARTITION_BOUNDS[partition];
+                    String upperId = partition + 1 < PARTITION_BOUNDS.length ? PARTITION_BOUNDS[partition + 1] : null;
+                    futures.add(executor.submit(() ->
+                        orders.addAndGet(backfillPartition(rebuild, shardId, lowerId, upperId, batchSize))));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rebuild.abort();
+            throw new IllegalStateException("동시 주문 색인 재구성이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            rebuild.abort();
+            throw new IllegalStateException("동시 주문 색인 재구성에 실패했습니다", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        rebuild.commit();
+        return orders.get();
+    }
+
+    /**
+     * 샤드 하나의 주문 ID 구간 [lowerId, upperId)을 배치 단위로 누적
+     */
+    private long backfillPartition(MenuCoOccurrenceIndex.Rebuild rebuild, String shardId,
+                                   String lowerId, String upperId, int batchSize) {
+        long orders = 0;
+        String lastId = lowerId;
+        while (true) {
+            String afterId = lastId;
+            List<String> ids = shardRouter.inShardTransaction(shardId, () ->
+                backfillBatch(rebuild, afterId, upperId, batchSize));
+            if (ids.isEmpty()) {
+                return orders;
+            }
+            orders += ids.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private List<String> backfillBatch(MenuCoOccurrenceIndex.Rebuild rebuild, String lastId, String upperId,
+                                       int batchSize) {
+        String sql = NEXT_ORDER_IDS_SQL + (upperId != null ? "AND id < :upperId " : "") + NEXT_ORDER_IDS_ORDER_BY;
+        var idQuery = entityManager.createNativeQuery(sql)
+            .setParameter("lastId", lastId)
+            .setParameter("batchSize", batchSize);
+        if (upperId != null) {
+            idQuery.setParameter("upperId", upperId);
+        }
+        @SuppressWarnings("unchecked")
+        List<String> ids = idQuery.getResultList();
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(LINE_ITEMS_SQL)
+            .setParameter("ids", ids)
+            .getResultList();
+
+        String orderId = null;
+        String shopId = null;
+        LocalDateTime orderTime = null;
+        List<String> menuIds = new ArrayList<>();
+        List<String> menuNames = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (!row[0].equals(orderId)) {
+                rebuild.record(orderId, shopId, menuIds, menuNames, orderTime);
+                orderId = (String) row[0];
+                shopId = (String) row[1];
+                orderTime = toLocalDateTime(row[2]);
+                menuIds = new ArrayList<>();
+                menuNames = new ArrayList<>();
+            }
+            menuIds.add((String) row[3]);
+            menuNames.add((String) row[4]);
+        }
+        rebuild.record(orderId, shopId, menuIds, menuNames, orderTime);
+        return ids;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
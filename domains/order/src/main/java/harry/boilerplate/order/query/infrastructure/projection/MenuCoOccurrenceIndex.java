@@ -0,0 +1,299 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.query.application.readModel.MenuSuggestionReadModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게별 "함께 주문한 메뉴" 동시 주문 색인 (주문 생성 이벤트로 증분 갱신)
+ * 가게마다 메뉴 ID를 int 번호로 바꾸어 두고, 메뉴별로 함께 주문된 메뉴 번호 → 주문 수를 기본형 희소 맵에 누적
+ * 메뉴별 이웃은 neighboursPerMenu개까지만 유지 (가득 차면 가장 적게 함께 주문된 이웃을 넘겨받는 Space-Saving 방식)
+ * 주문 이력에서 다시 만들 때는 재구성 중에 커밋된 주문도 새 색인에 반영한 뒤 한 번에 교체
+ * 이력 조회와 이벤트가 겹칠 수 있는 구간(재구성 기준 시각 이후 주문)은 주문 ID로 한 번만 누적
+ */
+@Component
+public class MenuCoOccurrenceIndex {
+
+    // 한 주문에서 조합을 세는 최대 메뉴 수 (단체 주문의 조합 수 폭증 방지)
+    static final int MAX_MENUS_PER_ORDER = 30;
+
+    private final int neighboursPerMenu;
+
+    // 현재 색인과 진행 중인 재구성을 한 번에 읽도록 묶어서 교체
+    private volatile State state = new State(new ConcurrentHashMap<>(), null);
+
+    public MenuCoOccurrenceIndex(@Value("${order.co-occurrence.neighbours-per-menu:32}") int neighboursPerMenu) {
+        if (neighboursPerMenu <= 0) {
+            throw new IllegalArgumentException("메뉴별 이웃 수는 1 이상이어야 합니다");
+        }
+        this.neighboursPerMenu = neighboursPerMenu;
+    }
+
+    /**
+     * 주문 생성이 커밋되면 주문한 메뉴 조합 누적
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        List<String> menuIds = new ArrayList<>(event.getOrderedMenus().size());
+        List<String> menuNames = new ArrayList<>(event.getOrderedMenus().size());
+        for (OrderPlacedEvent.OrderedMenu menu : event.getOrderedMenus()) {
+            menuIds.add(menu.menuId());
+            menuNames.add(menu.menuName());
+        }
+        record(event.getAggregateId(), event.getShopId(), menuIds, menuNames, event.getOrderTime());
+    }
+
+    /**
+     * 주문 한 건의 메뉴 조합 누적 (menuNames는 menuIds와 같은 순서의 표시용 이름)
+     * 재구성 중이면 주문 시각(order_time)이 재구성 기준 시각 이후인 주문을 새 색인에도 누적 (이력에서 이미 읽은 주문은 제외)
+     */
+    public void record(String orderId, String shopId, List<String> menuIds, List<String> menuNames,
+                       LocalDateTime orderTime) {
+        if (shopId == null || menuIds == null || menuIds.isEmpty()) {
+            return;
+        }
+        // 교체 직전에 읽은 상태여도 재구성 중인 색인에 누적되므로 교체 후 색인에서 빠지지 않음
+        State current = state;
+        record(current.shops(), shopId, menuIds, menuNames);
+        Rebuild rebuild = current.rebuild();
+        if (rebuild != null && !rebuild.isBeforeCutoff(orderTime) && rebuild.claim(orderId)) {
+            record(rebuild.shops, shopId, menuIds, menuNames);
+        }
+    }
+
+    /**
+     * 담은 메뉴들과 함께 주문된 메뉴를 점수가 높은 순으로 limit개 (담은 메뉴는 제외)
+     * 점수는 담은 메뉴별 "그 메뉴를 주문한 주문 중 함께 주문한 비율"의 합
+     */
+    public List<MenuSuggestionReadModel> suggest(String shopId, Collection<String> menuIds, int limit) {
+        ShopMatrix shop = shopId != null ? state.shops().get(shopId) : null;
+        if (shop == null || menuIds == null || menuIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return shop.suggest(menuIds, limit);
+    }
+
+    /**
+     * 색인된 가게 수
+     */
+    public int shopCount() {
+        return state.shops().size();
+    }
+
+    /**
+     * 재구성 시작
+     * cutoff 이전 주문은 이력에서만 누적하고, 이후 주문은 이력과 이벤트 중 먼저 들어온 쪽에서 한 번만 누적
+     * (cutoff는 이력 조회가 시작되기 전에 커밋이 끝났다고 볼 수 있을 만큼 재구성 시작 시각보다 앞서야 함)
+     */
+    public synchronized Rebuild beginRebuild(LocalDateTime cutoff) {
+        if (cutoff == null) {
+            throw new IllegalArgumentException("재구성 기준 시각은 필수입니다");
+        }
+        if (state.rebuild() != null) {
+            throw new IllegalStateException("이미 재구성 중입니다");
+        }
+        Rebuild rebuild = new Rebuild(cutoff);
+        state = new State(state.shops(), rebuild);
+        return rebuild;
+    }
+
+    private void record(Map<String, ShopMatrix> target, String shopId, List<String> menuIds, List<String> menuNames) {
+        target.computeIfAbsent(shopId, key -> new ShopMatrix()).record(menuIds, menuNames);
+    }
+
+    /**
+     * 진행 중인 재구성 (여러 스레드에서 동시에 record 가능)
+     */
+    public final class Rebuild {
+
+        private final LocalDateTime cutoff;
+        private final Map<String, ShopMatrix> shops = new ConcurrentHashMap<>();
+        // cutoff 이후 주문 중 이미 누적한 주문 ID (이력 조회와 이벤트 양쪽에서 들어와도 한 번만 누적)
+        private final Set<String> claimedOrderIds = ConcurrentHashMap.newKeySet();
+
+        private Rebuild(LocalDateTime cutoff) {
+            this.cutoff = cutoff;
+        }
+
+        /**
+         * 이력의 주문 한 건 누적
+         */
+        public void record(String orderId, String shopId, List<String> menuIds, List<String> menuNames,
+                           LocalDateTime orderTime) {
+            if (shopId == null || menuIds == null || menuIds.isEmpty()) {
+                return;
+            }
+            if (isBeforeCutoff(orderTime) || claim(orderId)) {
+                MenuCoOccurrenceIndex.this.record(shops, shopId, menuIds, menuNames);
+            }
+        }
+
+        /**
+         * 이력과 이벤트 양쪽에서 들어올 수 있는 주문 수
+         */
+        public int overlappingOrderCount() {
+            return claimedOrderIds.size();
+        }
+
+        private boolean isBeforeCutoff(LocalDateTime orderTime) {
+            return orderTime != null && orderTime.isBefore(cutoff);
+        }
+
+        private boolean claim(String orderId) {
+            return orderId == null || claimedOrderIds.add(orderId);
+        }
+
+        /**
+         * 새 색인으로 교체
+         */
+        public void commit() {
+            synchronized (MenuCoOccurrenceIndex.this) {
+                if (state.rebuild() == this) {
+                    state = new State(shops, null);
+                }
+            }
+        }
+
+        /**
+         * 재구성 취소 (기존 색인 유지)
+         */
+        public void abort() {
+            synchronized (MenuCoOccurrenceIndex.this) {
+                if (state.rebuild() == this) {
+                    state = new State(state.shops(), null);
+                }
+            }
+        }
+    }
+
+    private record State(Map<String, ShopMatrix> shops, Rebuild rebuild) {
+    }
+
+    /**
+     * 가게 하나의 동시 주문 행렬
+     */
+    private final class ShopMatrix {
+
+        private final Map<String, Integer> numbers = new HashMap<>();
+        private final List<String> menuIds = new ArrayList<>();
+        private final List<String> menuNames = new ArrayList<>();
+        private int[] orderCounts = new int[16];
+        private BoundedIntCounterMap[] neighbours = new BoundedIntCounterMap[16];
+
+        private synchronized void record(List<String> orderedMenuIds, List<String> orderedMenuNames) {
+            // 같은 메뉴를 여러 줄 주문해도 주문 한 건으로 셈
+            int[] menus = new int[Math.min(orderedMenuIds.size(), MAX_MENUS_PER_ORDER)];
+            int count = 0;
+            for (int i = 0; i < orderedMenuIds.size() && count < menus.length; i++) {
+                String name = orderedMenuNames != null && i < orderedMenuNames.size() ? orderedMenuNames.get(i) : null;
+                int menu = numberOf(orderedMenuIds.get(i), name);
+                if (!contains(menus, count, menu)) {
+                    menus[count++] = menu;
+                }
+            }
+
+            for (int i = 0; i < count; i++) {
+                orderCounts[menus[i]]++;
+                for (int j = 0; j < count; j++) {
+                    if (i != j) {
+                        neighboursOf(menus[i]).increment(menus[j]);
+                    }
+                }
+            }
+        }
+
+        private synchronized List<MenuSuggestionReadModel> suggest(Collection<String> cartMenuIds, int limit) {
+            boolean[] inCart = new boolean[menuIds.size()];
+            List<Integer> cartMenus = new ArrayList<>(cartMenuIds.size());
+            for (String menuId : cartMenuIds) {
+                Integer menu = numbers.get(menuId);
+                if (menu != null && !inCart[menu]) {
+                    inCart[menu] = true;
+                    cartMenus.add(menu);
+                }
+            }
+
+            double[] scores = new double[menuIds.size()];
+            int[] coOrderCounts = new int[menuIds.size()];
+            List<Integer> candidates = new ArrayList<>();
+            for (int menu : cartMenus) {
+                BoundedIntCounterMap counts = neighbours[menu];
+                if (counts == null || orderCounts[menu] == 0) {
+                    continue;
+                }
+                double orders = orderCounts[menu];
+                counts.forEach((other, count) -> {
+                    if (inCart[other]) {
+                        return;
+                    }
+                    if (coOrderCounts[other] == 0) {
+                        candidates.add(other);
+                    }
+                    // Space-Saving 과대 추정으로 주문 수를 넘는 경우 비율을 1로 제한
+                    scores[other] += Math.min(count / orders, 1.0);
+                    coOrderCounts[other] += count;
+                });
+            }
+
+            candidates.sort(Comparator.comparingDouble((Integer menu) -> scores[menu]).reversed()
+                .thenComparing(menu -> -coOrderCounts[menu])
+                .thenComparing(menuIds::get));
+            List<MenuSuggestionReadModel> suggestions = new ArrayList<>(Math.min(limit, candidates.size()));
+            for (int menu : candidates.subList(0, Math.min(limit, candidates.size()))) {
+                suggestions.add(new MenuSuggestionReadModel(
+                    menuIds.get(menu), menuNames.get(menu), coOrderCounts[menu], scores[menu]));
+            }
+            return suggestions;
+        }
+
+        private int numberOf(String menuId, String menuName) {
+            Integer number = numbers.get(menuId);
+            if (number != null) {
+                if (menuName != null) {
+                    menuNames.set(number, menuName);
+                }
+                return number;
+            }
+
+            int added = menuIds.size();
+            numbers.put(menuId, added);
+            menuIds.add(menuId);
+            menuNames.add(menuName);
+            if (added == orderCounts.length) {
+                orderCounts = Arrays.copyOf(orderCounts, added * 2);
+                neighbours = Arrays.copyOf(neighbours, added * 2);
+            }
+            return added;
+        }
+
+        private static boolean contains(int[] menus, int count, int menu) {
+            for (int i = 0; i < count; i++) {
+                if (menus[i] == menu) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private BoundedIntCounterMap neighboursOf(int menu) {
+            if (neighbours[menu] == null) {
+                neighbours[menu] = new BoundedIntCounterMap(neighboursPerMenu);
+            }
+            return neighbours[menu];
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동시 주문 색인 재구성 명령
+ * --order.co-occurrence.rebuild=true 로 기동하면 시작 시 주문 이력으로 함께 주문한 메뉴 색인을 다시 만듦
+ */
+@Component
+@Order(3)
+@ConditionalOnProperty(prefix = "order.co-occurrence", name = "rebuild", havingValue = "true")
+public class MenuCoOccurrenceRebuildRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuCoOccurrenceRebuildRunner.class);
+
+    private final MenuCoOccurrenceBackfill menuCoOccurrenceBackfill;
+    private final int batchSize;
+
+    public MenuCoOccurrenceRebuildRunner(MenuCoOccurrenceBackfill menuCoOccurrenceBackfill,
+                                         @Value("${order.co-occurrence.rebuild-batch-size:1000}") int batchSize) {
+        this.menuCoOccurrenceBackfill = menuCoOccurrenceBackfill;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+        long rebuilt = menuCoOccurrenceBackfill.rebuild(batchSize);
+        logger.info("동시 주문 색인 재구성 완료: 주문 {}건, {}ms", rebuilt, System.currentTimeMillis() - started);
+    }
+}
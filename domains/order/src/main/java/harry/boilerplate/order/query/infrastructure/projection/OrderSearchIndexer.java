@@ -0,0 +1,119 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 사용자별 주문 검색 색인(user_order_search_token) 기록
+ * 주문 생성 이벤트를 주문 저장 트랜잭션 안에서 동기로 받아, 메뉴 이름과 가게 이름의 n-gram 토큰마다
+ * 사용자 샤드의 (사용자, 토큰) 행 포스팅 목록 끝에 주문 시각을 덧붙임
+ * 잠금 읽기 없이 upsert 한 번으로 반영 (주문당 SQL 1회)
+ * - 새 토큰 행은 첫 값을 0 기준 차이로 넣고, 기존 행은 UPDATE 절에서 행의 마지막 값(last_order_time)과의 차이를
+ *   OrderSearchPostings.append와 같은 zigzag 가변 길이 정수로 만들어 덧붙임 (MySQL 8.0.19 이상의 행 별칭 사용)
+ * - UPDATE 절의 대입은 왼쪽부터 차례로 적용되므로 postings를 먼저 갱신해야 차이 계산에 기존 last_order_time이 쓰임
+ *   (인코딩이 OrderSearchPostings와 같은지는 OrderSearchIndexerMySqlTest에서 확인)
+ * - 잠금 읽기(SELECT ... FOR UPDATE)의 갭 잠금이 없고, 토큰을 정렬해 넣으므로 같은 사용자의 동시 주문도
+ *   같은 순서로 행 잠금을 잡아 교착 상태 없이 차례로 반영됨
+ */
+@Component
+public class OrderSearchIndexer {
+
+    private static final String UPSERT_PREFIX =
+        "INSERT INTO user_order_search_token (user_id, token, postings, last_order_time, order_count) VALUES ";
+
+    // 기존 행의 마지막 값과의 차이 (zigzag, incoming은 넣으려던 행)
+    private static final String DELTA = "(incoming.last_order_time - last_order_time)";
+    private static final String ZIGZAG = "(IF(" + DELTA + " >= 0, " + DELTA + " * 2, -" + DELTA + " * 2 - 1))";
+
+    // zigzag 차이를 5바이트(2^35 미만, 약 ±500년)까지 인코딩하므로 주문 시각 차이는 항상 들어감
+    private static final int MAX_DELTA_BYTES = 5;
+
+    // postings를 last_order_time보다 먼저 갱신해야 UPDATE 절의 last_order_time이 기존 값
+    private static final String UPSERT_SUFFIX =
+        " AS incoming ON DUPLICATE KEY UPDATE postings = CONCAT(postings, " + varint(ZIGZAG) + "), " +
+        "last_order_time = incoming.last_order_time, order_count = order_count + 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ShardRouter shardRouter;
+    private final ShopDirectory shopDirectory;
+
+    public OrderSearchIndexer(ShardRouter shardRouter, ShopDirectory shopDirectory) {
+        this.shardRouter = shardRouter;
+        this.shopDirectory = shopDirectory;
+    }
+
+    /**
+     * 주문 생성 시 검색 토큰 기록 (주문 저장과 같은 트랜잭션 필수)
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        // 같은 사용자의 동시 주문이 같은 순서로 행 잠금을 잡도록 정렬
+        Set<String> tokens = new TreeSet<>();
+        for (OrderPlacedEvent.OrderedMenu menu : event.getOrderedMenus()) {
+            tokens.addAll(OrderSearchTokenizer.indexTokens(menu.menuName()));
+        }
+        tokens.addAll(OrderSearchTokenizer.indexTokens(shopDirectory.nameOf(event.getShopId())));
+        if (tokens.isEmpty() || event.getOrderTime() == null) {
+            return;
+        }
+
+        long orderTime = event.getOrderTime().toEpochSecond(ZoneOffset.UTC);
+        shardRouter.onShardOf(UserId.of(event.getUserId()), () -> append(event.getUserId(), tokens, orderTime));
+    }
+
+    private void append(String userId, Set<String> tokens, long orderTime) {
+        String values = String.join(", ", Collections.nCopies(tokens.size(), "(?, ?, ?, ?, 1)"));
+        Query upsert = entityManager.createNativeQuery(UPSERT_PREFIX + values + UPSERT_SUFFIX);
+        // 새 행에 넣는 첫 값 (기존 행은 UPDATE 절에서 차이를 다시 만듦)
+        byte[] first = OrderSearchPostings.append(0, orderTime);
+        int position = 1;
+        for (String token : tokens) {
+            upsert.setParameter(position++, userId);
+            upsert.setParameter(position++, token);
+            upsert.setParameter(position++, first);
+            upsert.setParameter(position++, orderTime);
+        }
+        upsert.executeUpdate();
+    }
+
+    /**
+     * 음이 아닌 정수 SQL 식을 가변 길이 정수 바이트로 만드는 SQL 식 (7비트씩 하위부터, 마지막 바이트만 최상위 비트 0)
+     */
+    private static String varint(String value) {
+        StringBuilder sql = new StringBuilder("CASE");
+        for (int bytes = 1; bytes <= MAX_DELTA_BYTES; bytes++) {
+            List<String> parts = new ArrayList<>(bytes);
+            for (int i = 0; i < bytes - 1; i++) {
+                parts.add("CHAR(((" + value + " >> " + (7 * i) + ") & 127) | 128 USING binary)");
+            }
+            parts.add("CHAR(" + value + " >> " + (7 * (bytes - 1)) + " USING binary)");
+
+            String encoded = parts.size() == 1 ? parts.get(0) : "CONCAT(" + String.join(", ", parts) + ")";
+            if (bytes < MAX_DELTA_BYTES) {
+                sql.append(" WHEN ").append(value).append(" < ").append(1L << (7 * bytes)).append(" THEN ").append(encoded);
+            } else {
+                sql.append(" ELSE ").append(encoded);
+            }
+        }
+        return sql.append(" END").toString();
+    }
+}
@@ -0,0 +1,85 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * 주문 검색 토큰의 포스팅 목록 인코딩
+ * 토큰이 나온 주문을 주문 시각(epoch 초)으로 기록하며, 직전 값과의 차이를 zigzag 가변 길이 정수로 이어 붙임
+ * 주문은 대부분 시각 순으로 추가되므로 차이가 작아 주문당 2~4바이트, 저장 시 마지막 값만 알면 기존 목록을 읽지 않고 덧붙일 수 있음
+ * (동시 주문으로 순서가 뒤바뀌면 차이가 음수가 되며, 읽을 때 정렬)
+ */
+public final class OrderSearchPostings {
+
+    private OrderSearchPostings() {
+    }
+
+    /**
+     * 직전 값 previous 뒤에 value를 덧붙이는 바이트 (첫 값이면 previous는 0)
+     */
+    public static byte[] append(long previous, long value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(5);
+        long delta = value - previous;
+        long zigzag = (delta << 1) ^ (delta >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+        return out.toByteArray();
+    }
+
+    /**
+     * 포스팅 목록을 풀어 오름차순·중복 없는 값 배열로 반환
+     */
+    public static long[] decode(byte[] postings) {
+        long[] values = new long[postings.length];
+        int count = 0;
+        long value = 0;
+        long zigzag = 0;
+        int shift = 0;
+        for (byte b : postings) {
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) != 0) {
+                shift += 7;
+                continue;
+            }
+            value += (zigzag >>> 1) ^ -(zigzag & 1);
+            values[count++] = value;
+            zigzag = 0;
+            shift = 0;
+        }
+
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, distinct);
+    }
+
+    /**
+     * 오름차순 두 배열의 교집합
+     */
+    public static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,64 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 주문 검색 n-gram 토큰 분리
+ * 한글 메뉴 이름은 띄어쓰기가 일정하지 않고 합성어가 많으므로("치즈떡볶이", "떡 볶이") 형태소 대신 글자 단위 n-gram 사용
+ * - 정규화: NFKC, 소문자, 글자·숫자만 남기고 공백·기호 제거
+ * - 색인: 정규화한 이름의 1-gram과 2-gram (한 글자 검색어도 찾을 수 있도록 1-gram 포함)
+ * - 검색: 두 글자 이상이면 2-gram, 한 글자면 1-gram (모든 토큰이 포함된 주문이 후보)
+ */
+public final class OrderSearchTokenizer {
+
+    private OrderSearchTokenizer() {
+    }
+
+    /**
+     * 검색용 정규화 (null이면 빈 문자열)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints()
+            .filter(Character::isLetterOrDigit)
+            .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    /**
+     * 메뉴·가게 이름의 색인 토큰 (1-gram + 2-gram)
+     */
+    public static Set<String> indexTokens(String name) {
+        int[] codePoints = normalize(name).codePoints().toArray();
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰 (두 글자 이상이면 2-gram, 한 글자면 1-gram, 글자가 없으면 빈 집합)
+     */
+    public static Set<String> queryTokens(String keyword) {
+        int[] codePoints = normalize(keyword).codePoints().toArray();
+        Set<String> tokens = new LinkedHashSet<>();
+        if (codePoints.length == 1) {
+            tokens.add(new String(codePoints, 0, 1));
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+        return tokens;
+    }
+}
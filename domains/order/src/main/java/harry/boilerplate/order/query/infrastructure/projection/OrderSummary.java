@@ -0,0 +1,164 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 주문 요약 읽기 테이블 (order_summary)
+ * (user_id, order_time, order_id)를 기본 키로 두어 사용자 주문 목록이 기본 키 범위 스캔 한 번으로 조회되도록 비정규화
+ * 주문 생성과 같은 트랜잭션에서 기록되며, 기존 주문은 OrderSummaryProjector.rebuild()로 채움
+ */
+@Entity
+@IdClass(OrderSummary.Key.class)
+@Table(name = "order_summary",
+    uniqueConstraints = @UniqueConstraint(name = "uk_order_summary_order_id", columnNames = "order_id"),
+    indexes = {
+        @Index(name = "idx_order_summary_shop_time", columnList = "shop_id, order_time, order_id"),
+        @Index(name = "idx_order_summary_time", columnList = "order_time, order_id")
+    })
+public class OrderSummary {
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "VARCHAR(36)")
+    private String userId;
+
+    @Id
+    @Column(name = "order_time")
+    private LocalDateTime orderTime;
+
+    @Id
+    @Column(name = "order_id", columnDefinition = "VARCHAR(36)")
+    private String orderId;
+
+    @Column(name = "shop_id", nullable = false, columnDefinition = "VARCHAR(36)")
+    private String shopId;
+
+    @Column(name = "shop_name")
+    private String shopName;
+
+    @Column(name = "first_menu_name")
+    private String firstMenuName;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @Column(name = "total_quantity", nullable = false)
+    private int totalQuantity;
+
+    @Column(name = "total_price", precision = 10, scale = 2, nullable = false)
+    private BigDecimal totalPrice;
+
+    // JPA 기본 생성자
+    protected OrderSummary() {
+    }
+
+    private OrderSummary(String userId, LocalDateTime orderTime, String orderId, String shopId, String shopName,
+                         String firstMenuName, int itemCount, int totalQuantity, BigDecimal totalPrice) {
+        this.userId = userId;
+        this.orderTime = orderTime;
+        this.orderId = orderId;
+        this.shopId = shopId;
+        this.shopName = shopName;
+        this.firstMenuName = firstMenuName;
+        this.itemCount = itemCount;
+        this.totalQuantity = totalQuantity;
+        this.totalPrice = totalPrice;
+    }
+
+    /**
+     * 주문 생성 이벤트로부터 요약 행 생성
+     * @param shopName 주문 시점의 가게 이름 (가게 디렉터리에 없으면 null, 조회 시 디렉터리 값이 우선)
+     */
+    public static OrderSummary from(OrderPlacedEvent event, String shopName) {
+        return new OrderSummary(
+            event.getUserId(),
+            event.getOrderTime(),
+            event.getAggregateId(),
+            event.getShopId(),
+            shopName,
+            event.getFirstMenuName(),
+            event.getItemCount(),
+            event.getTotalQuantity(),
+            event.getTotalAmount()
+        );
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getOrderTime() {
+        return orderTime;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public String getShopId() {
+        return shopId;
+    }
+
+    public String getShopName() {
+        return shopName;
+    }
+
+    public String getFirstMenuName() {
+        return firstMenuName;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public int getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    /**
+     * 복합 기본 키 (user_id, order_time, order_id)
+     */
+    public static class Key implements Serializable {
+        private String userId;
+        private LocalDateTime orderTime;
+        private String orderId;
+
+        public Key() {
+        }
+
+        public Key(String userId, LocalDateTime orderTime, String orderId) {
+            this.userId = userId;
+            this.orderTime = orderTime;
+            this.orderId = orderId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(userId, key.userId)
+                && Objects.equals(orderTime, key.orderTime)
+                && Objects.equals(orderId, key.orderId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, orderTime, orderId);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 요약(order_summary) 프로젝션 기록
+ * 주문 생성 이벤트를 주문 저장 트랜잭션 안에서 동기로 받아 같은 샤드에 요약 행을 기록
+ * 가게 이름은 가게 디렉터리에서, 첫 메뉴는 라인 순서(line_no)가 가장 앞선 아이템으로 기록 (재구성도 같은 기준)
+ */
+@Component
+public class OrderSummaryProjector {
+
+    private static final String NEXT_ORDER_IDS_SQL =
+        "SELECT id FROM order_table WHERE id > :lastId ORDER BY id LIMIT :batchSize";
+
+    private static final String DELETE_SUMMARIES_SQL =
+        "DELETE FROM order_summary WHERE order_id IN (:ids)";
+
+    // 첫 메뉴는 주문 생성 시와 같이 라인 순서 기준 (line_no가 같은 기존 행은 ID 순)
+    private static final String INSERT_SUMMARIES_SQL =
+        "INSERT INTO order_summary " +
+        "(user_id, order_time, order_id, shop_id, shop_name, first_menu_name, item_count, total_quantity, total_price) " +
+        "SELECT o.user_id, o.order_time, o.id, o.shop_id, NULL, " +
+        "(SELECT f.menu_name FROM order_line_item f WHERE f.order_id = o.id ORDER BY f.line_no, f.id LIMIT 1), " +
+        "COUNT(oli.id), COALESCE(SUM(oli.quantity), 0), o.total_price " +
+        "FROM order_table o LEFT JOIN order_line_item oli ON oli.order_id = o.id " +
+        "WHERE o.id IN (:ids) " +
+        "GROUP BY o.id, o.user_id, o.order_time, o.shop_id, o.total_price";
+
+    private static final String BATCH_SHOP_IDS_SQL =
+        "SELECT DISTINCT shop_id FROM order_summary WHERE order_id IN (:ids)";
+
+    private static final String UPDATE_SHOP_NAME_SQL =
+        "UPDATE order_summary SET shop_name = :shopName WHERE order_id IN (:ids) AND shop_id = :shopId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ShardRouter shardRouter;
+    private final ShopDirectory shopDirectory;
+
+    public OrderSummaryProjector(ShardRouter shardRouter, ShopDirectory shopDirectory) {
+        this.shardRouter = shardRouter;
+        this.shopDirectory = shopDirectory;
+    }
+
+    /**
+     * 주문 생성 시 요약 행 기록 (주문 저장과 같은 트랜잭션 필수)
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        OrderSummary summary = OrderSummary.from(event, shopDirectory.nameOf(event.getShopId()));
+        shardRouter.onShardOf(UserId.of(event.getUserId()), () -> entityManager.persist(summary));
+    }
+
+    /**
+     * 모든 샤드의 order_table로부터 요약 테이블 재구성
+     * 주문 ID 순으로 batchSize개씩 잘라 배치마다 별도 트랜잭션에서 지우고 다시 기록
+     * @return 재구성한 요약 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuild(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다");
+        }
+        // 기동 시 재구성은 가게 디렉터리 적재(ApplicationReadyEvent)보다 먼저 실행되므로 직접 적재
+        if (!shopDirectory.isLoaded()) {
+            shopDirectory.load();
+        }
+
+        long rebuilt = 0;
+        for (String shardId : shardRouter.getShardMap().shardIds()) {
+            String lastId = "";
+            while (true) {
+                String afterId = lastId;
+                List<String> ids = shardRouter.inShardTransaction(shardId, () -> rebuildBatch(afterId, batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                rebuilt += ids.size();
+                lastId = ids.get(ids.size() - 1);
+            }
+        }
+        return rebuilt;
+    }
+
+    private List<String> rebuildBatch(String lastId, int batchSize) {
+        @SuppressWarnings("unchecked")
+        List<String> ids = entityManager.createNativeQuery(NEXT_ORDER_IDS_SQL)
+            .setParameter("lastId", lastId)
+            .setParameter("batchSize", batchSize)
+            .getResultList();
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        entityManager.createNativeQuery(DELETE_SUMMARIES_SQL)
+            .setParameter("ids", ids)
+            .executeUpdate();
+        entityManager.createNativeQuery(INSERT_SUMMARIES_SQL)
+            .setParameter("ids", ids)
+            .executeUpdate();
+
+        // 배치에 등장한 가게별로 가게 이름 기록
+        @SuppressWarnings("unchecked")
+        List<String> shopIds = entityManager.createNativeQuery(BATCH_SHOP_IDS_SQL)
+            .setParameter("ids", ids)
+            .getResultList();
+        for (Map.Entry<String, String> shop : shopDirectory.namesOf(shopIds).entrySet()) {
+            entityManager.createNativeQuery(UPDATE_SHOP_NAME_SQL)
+                .setParameter("shopName", shop.getValue())
+                .setParameter("ids", ids)
+                .setParameter("shopId", shop.getKey())
+                .executeUpdate();
+        }
+        return ids;
+    }
+}
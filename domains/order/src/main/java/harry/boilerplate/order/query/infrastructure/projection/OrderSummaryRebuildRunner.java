@@ -0,0 +1,38 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 요약 테이블 재구성 명령
+ * --order.summary.rebuild=true 로 기동하면 시작 시 order_table 전체를 요약 테이블로 백필
+ */
+@Component
+@Order(1)
+@ConditionalOnProperty(prefix = "order.summary", name = "rebuild", havingValue = "true")
+public class OrderSummaryRebuildRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderSummaryRebuildRunner.class);
+
+    private final OrderSummaryProjector orderSummaryProjector;
+    private final int batchSize;
+
+    public OrderSummaryRebuildRunner(OrderSummaryProjector orderSummaryProjector,
+                                     @Value("${order.summary.rebuild-batch-size:500}") int batchSize) {
+        this.orderSummaryProjector = orderSummaryProjector;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+        long rebuilt = orderSummaryProjector.rebuild(batchSize);
+        logger.info("주문 요약 테이블 재구성 완료: {}건, {}ms", rebuilt, System.currentTimeMillis() - started);
+    }
+}
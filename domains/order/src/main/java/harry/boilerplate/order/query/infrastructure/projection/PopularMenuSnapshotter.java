@@ -0,0 +1,169 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가게별 인기 메뉴 집계 스냅샷 (재기동 시 복원용)
+ * 마지막 스냅샷 이후 주문이 들어온 가게의 카운터만 주기적으로 가게 ID 해시 샤드의 shop_popular_menu에 덮어쓰고,
+ * 기동이 끝나면 모든 샤드의 스냅샷을 읽어 경과 시간만큼 감쇠하여 복원
+ * 저장에 실패한 가게는 다음 주기에 다시 저장
+ */
+@Component
+public class PopularMenuSnapshotter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PopularMenuSnapshotter.class);
+
+    // 한 INSERT 문에 넣는 최대 행 수
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO shop_popular_menu (shop_id, menu_id, menu_name, score, error, snapshot_epoch_millis) VALUES ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final PopularMenuTracker tracker;
+    private final ShardRouter shardRouter;
+
+    public PopularMenuSnapshotter(PopularMenuTracker tracker, ShardRouter shardRouter) {
+        this.tracker = tracker;
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * 변경된 가게의 카운터 저장
+     * @return 저장한 가게 수
+     */
+    @Scheduled(fixedDelayString = "${order.popular-menus.snapshot-interval-millis:300000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized int snapshot() {
+        long snapshotAt = System.currentTimeMillis();
+        Map<String, List<SpaceSavingSketch.Entry>> changed = tracker.drainChanged(snapshotAt);
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Map<String, List<SpaceSavingSketch.Entry>>> byShard = new LinkedHashMap<>();
+        changed.forEach((shopId, entries) -> byShard
+            .computeIfAbsent(shardRouter.getShardMap().shardFor(shopId), key -> new LinkedHashMap<>())
+            .put(shopId, entries));
+
+        int saved = 0;
+        for (Map.Entry<String, Map<String, List<SpaceSavingSketch.Entry>>> entry : byShard.entrySet()) {
+            Map<String, List<SpaceSavingSketch.Entry>> shops = entry.getValue();
+            try {
+                shardRouter.inShardTransaction(entry.getKey(), () -> {
+                    replace(shops, snapshotAt);
+                    return null;
+                });
+                saved += shops.size();
+            } catch (RuntimeException e) {
+                tracker.markChanged(shops.keySet());
+                logger.warn("인기 메뉴 스냅샷 저장 실패, 다음 주기에 재시도: shard={}, {}개 가게", entry.getKey(), shops.size(), e);
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * 기동이 끝나면 모든 샤드의 스냅샷 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void restore() {
+        int restored = 0;
+        for (String shardId : shardRouter.getShardMap().shardIds()) {
+            try {
+                restored += shardRouter.inShardTransaction(shardId, this::restoreShard);
+            } catch (RuntimeException e) {
+                logger.warn("인기 메뉴 스냅샷 복원 실패: shard={}", shardId, e);
+            }
+        }
+        logger.info("인기 메뉴 스냅샷 복원: {}개 가게", restored);
+    }
+
+    /**
+     * 종료 시 남은 변경 저장
+     */
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    private void replace(Map<String, List<SpaceSavingSketch.Entry>> shops, long snapshotAt) {
+        List<String> shopIds = new ArrayList<>(shops.keySet());
+        entityManager.createNativeQuery("DELETE FROM shop_popular_menu WHERE shop_id IN (:shopIds)")
+            .setParameter("shopIds", shopIds)
+            .executeUpdate();
+
+        List<Object[]> rows = new ArrayList<>();
+        shops.forEach((shopId, entries) -> {
+            for (SpaceSavingSketch.Entry entry : entries) {
+                rows.add(new Object[]{shopId, entry.key(), entry.label(), entry.count(), entry.error(), snapshotAt});
+            }
+        });
+
+        for (int from = 0; from < rows.size(); from += INSERT_BATCH_SIZE) {
+            List<Object[]> batch = rows.subList(from, Math.min(from + INSERT_BATCH_SIZE, rows.size()));
+            String values = String.join(", ", Collections.nCopies(batch.size(), "(?, ?, ?, ?, ?, ?)"));
+
+            Query query = entityManager.createNativeQuery(INSERT_PREFIX + values);
+            int position = 1;
+            for (Object[] row : batch) {
+                for (Object value : row) {
+                    query.setParameter(position++, value);
+                }
+            }
+            query.executeUpdate();
+        }
+    }
+
+    private int restoreShard() {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT shop_id, menu_id, menu_name, score, error, snapshot_epoch_millis " +
+                "FROM shop_popular_menu ORDER BY shop_id")
+            .getResultList();
+
+        int shops = 0;
+        String shopId = null;
+        long snapshotAt = 0;
+        List<SpaceSavingSketch.Entry> entries = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (!row[0].equals(shopId)) {
+                if (shopId != null) {
+                    tracker.restore(shopId, entries, snapshotAt);
+                    shops++;
+                }
+                shopId = (String) row[0];
+                snapshotAt = ((Number) row[5]).longValue();
+                entries = new ArrayList<>();
+            }
+            entries.add(new SpaceSavingSketch.Entry((String) row[1], (String) row[2],
+                ((Number) row[3]).doubleValue(), ((Number) row[4]).doubleValue()));
+        }
+        if (shopId != null) {
+            tracker.restore(shopId, entries, snapshotAt);
+            shops++;
+        }
+        return shops;
+    }
+}
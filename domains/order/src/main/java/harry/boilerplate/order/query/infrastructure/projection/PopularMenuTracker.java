@@ -0,0 +1,217 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.query.application.readModel.PopularMenuReadModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게별 인기 메뉴 집계 (주문 라인 아이템을 읽지 않고 주문 생성 이벤트로 누적)
+ * 가게마다 Space-Saving 카운터 capacity개로 주문 수량을 근사 집계하며, 시간 감쇠는 전방 감쇠(forward decay)로 처리
+ * - 주문 시각 t의 수량에 2^((t - 기준 시각) / 반감기)를 곱해 더하므로, 모든 카운터를 주기적으로 줄이지 않아도 순위는 감쇠를 반영
+ * - 조회 시 2^(-(현재 - 기준 시각) / 반감기)를 곱해 현재 시점 점수로 환산
+ * - 기준 시각이 오래되면(REBASE_HALF_LIVES 반감기) 가게 단위로 카운터를 환산하고 기준 시각을 옮겨 값이 커지지 않도록 함
+ * 조회는 정렬해 둔 상위 목록을 재사용하므로 주문이 들어오기 전까지 정렬 없이 응답
+ */
+@Component
+public class PopularMenuTracker {
+
+    // 기준 시각을 옮기는 주기 (반감기 배수)
+    private static final int REBASE_HALF_LIVES = 16;
+
+    // 현재 시점 점수가 이 값보다 작아진 메뉴는 기준 시각을 옮길 때 제거
+    private static final double MIN_SCORE = 0.01;
+
+    private final int capacity;
+    private final double halfLifeMillis;
+
+    private final Map<String, ShopSketch> shops = new ConcurrentHashMap<>();
+
+    public PopularMenuTracker(@Value("${order.popular-menus.capacity:64}") int capacity,
+                              @Value("${order.popular-menus.half-life-hours:24}") long halfLifeHours) {
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLifeHours * 3_600_000.0;
+    }
+
+    /**
+     * 주문 생성이 커밋되면 주문한 메뉴별 수량 누적
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        record(event.getShopId(), event.getOrderedMenus(), event.getOccurredAt().toEpochMilli());
+    }
+
+    /**
+     * 주문 한 건의 메뉴별 수량 누적
+     */
+    public void record(String shopId, List<OrderPlacedEvent.OrderedMenu> orderedMenus, long orderedAtMillis) {
+        if (shopId == null || orderedMenus == null || orderedMenus.isEmpty()) {
+            return;
+        }
+        shops.compute(shopId, (key, shop) -> {
+            ShopSketch sketch = shop != null ? shop : new ShopSketch(orderedAtMillis);
+            sketch.record(orderedMenus, orderedAtMillis);
+            return sketch;
+        });
+    }
+
+    /**
+     * 가게의 인기 메뉴 상위 limit개 (현재 시점 점수가 높은 순)
+     */
+    public List<PopularMenuReadModel> top(String shopId, int limit, long nowMillis) {
+        ShopSketch shop = shopId != null ? shops.get(shopId) : null;
+        return shop != null ? shop.top(limit, nowMillis) : List.of();
+    }
+
+    /**
+     * 마지막 스냅샷 이후 변경된 가게의 카운터를 현재 시점 점수로 환산하여 꺼냄 (변경 표시는 지움)
+     */
+    public Map<String, List<SpaceSavingSketch.Entry>> drainChanged(long nowMillis) {
+        Map<String, List<SpaceSavingSketch.Entry>> changed = new LinkedHashMap<>();
+        shops.forEach((shopId, shop) -> {
+            List<SpaceSavingSketch.Entry> entries = shop.drainIfChanged(nowMillis);
+            if (entries != null) {
+                changed.put(shopId, entries);
+            }
+        });
+        return changed;
+    }
+
+    /**
+     * 스냅샷 저장에 실패한 가게를 다음 스냅샷에 다시 포함하도록 표시
+     */
+    public void markChanged(Collection<String> shopIds) {
+        for (String shopId : shopIds) {
+            ShopSketch shop = shops.get(shopId);
+            if (shop != null) {
+                shop.markChanged();
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 시점 점수로 저장된 카운터를 합쳐 복원 (재기동 후 누적된 값이 있으면 더함)
+     */
+    public void restore(String shopId, List<SpaceSavingSketch.Entry> entries, long snapshotAtMillis) {
+        if (shopId == null || entries.isEmpty()) {
+            return;
+        }
+        shops.compute(shopId, (key, shop) -> {
+            ShopSketch sketch = shop != null ? shop : new ShopSketch(snapshotAtMillis);
+            sketch.restore(entries, snapshotAtMillis);
+            return sketch;
+        });
+    }
+
+    /**
+     * 집계 중인 가게 수
+     */
+    public int shopCount() {
+        return shops.size();
+    }
+
+    /**
+     * 가게 하나의 카운터 (기준 시각 단위 값으로 보관)
+     */
+    private final class ShopSketch {
+
+        private final SpaceSavingSketch sketch = new SpaceSavingSketch(capacity);
+        private long landmarkMillis;
+        private boolean changed;
+        // 점수 순으로 정렬한 카운터와 그 기준 시각 (변경 시 null)
+        private volatile Ranking ranking;
+
+        private ShopSketch(long landmarkMillis) {
+            this.landmarkMillis = landmarkMillis;
+        }
+
+        private synchronized void record(List<OrderPlacedEvent.OrderedMenu> orderedMenus, long orderedAtMillis) {
+            rebaseIfStale(orderedAtMillis);
+            double weight = scale(orderedAtMillis - landmarkMillis);
+            for (OrderPlacedEvent.OrderedMenu menu : orderedMenus) {
+                sketch.offer(menu.menuId(), menu.menuName(), menu.quantity() * weight);
+            }
+            ranking = null;
+            changed = true;
+        }
+
+        private synchronized void restore(List<SpaceSavingSketch.Entry> entries, long snapshotAtMillis) {
+            double toLandmark = scale(snapshotAtMillis - landmarkMillis);
+            for (SpaceSavingSketch.Entry entry : entries) {
+                sketch.merge(entry.key(), entry.label(), entry.count() * toLandmark, entry.error() * toLandmark);
+            }
+            ranking = null;
+        }
+
+        private List<PopularMenuReadModel> top(int limit, long nowMillis) {
+            Ranking current = ranking;
+            if (current == null) {
+                synchronized (this) {
+                    current = ranking;
+                    if (current == null) {
+                        current = new Ranking(sketch.entries(), landmarkMillis);
+                        ranking = current;
+                    }
+                }
+            }
+
+            List<SpaceSavingSketch.Entry> entries = current.entries();
+            double toNow = scale(current.landmarkMillis() - nowMillis);
+            int size = Math.min(Math.max(limit, 0), entries.size());
+            List<PopularMenuReadModel> top = new ArrayList<>(size);
+            for (SpaceSavingSketch.Entry entry : entries.subList(0, size)) {
+                top.add(new PopularMenuReadModel(entry.key(), entry.label(), entry.count() * toNow));
+            }
+            return top;
+        }
+
+        private synchronized List<SpaceSavingSketch.Entry> drainIfChanged(long nowMillis) {
+            if (!changed) {
+                return null;
+            }
+            changed = false;
+            double toNow = scale(landmarkMillis - nowMillis);
+            List<SpaceSavingSketch.Entry> entries = new ArrayList<>();
+            for (SpaceSavingSketch.Entry entry : sketch.entries()) {
+                entries.add(new SpaceSavingSketch.Entry(
+                    entry.key(), entry.label(), entry.count() * toNow, entry.error() * toNow));
+            }
+            return entries;
+        }
+
+        private synchronized void markChanged() {
+            changed = true;
+        }
+
+        /**
+         * 기준 시각이 오래되었으면 카운터를 새 기준 시각 단위로 환산하고 작아진 메뉴 제거
+         */
+        private void rebaseIfStale(long nowMillis) {
+            if (nowMillis - landmarkMillis < REBASE_HALF_LIVES * halfLifeMillis) {
+                return;
+            }
+            sketch.decay(scale(landmarkMillis - nowMillis), MIN_SCORE);
+            landmarkMillis = nowMillis;
+            ranking = null;
+        }
+    }
+
+    private record Ranking(List<SpaceSavingSketch.Entry> entries, long landmarkMillis) {
+    }
+
+    /**
+     * 경과 시간만큼의 감쇠 배율 (2^(elapsed / 반감기), 음수면 감쇠)
+     */
+    private double scale(long elapsedMillis) {
+        return Math.pow(2, elapsedMillis / halfLifeMillis);
+    }
+}
@@ -0,0 +1,92 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 가게별 일간 주문 집계 (shop_daily_order_stats)
+ * 주문 수, 주문 금액, 주문 수량을 (shop_id, stat_date) 단위로 누적
+ * 주문은 사용자 샤드에 저장되므로 가게 집계도 주문이 저장된 샤드마다 나뉘어 기록되며, 조회 시 모든 샤드의 값을 합산
+ */
+@Entity
+@IdClass(ShopDailyOrderStat.Key.class)
+@Table(name = "shop_daily_order_stats")
+public class ShopDailyOrderStat {
+
+    @Id
+    @Column(name = "shop_id", columnDefinition = "VARCHAR(36)")
+    private String shopId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "revenue", precision = 15, scale = 2, nullable = false)
+    private BigDecimal revenue;
+
+    @Column(name = "item_quantity", nullable = false)
+    private long itemQuantity;
+
+    // JPA 기본 생성자
+    protected ShopDailyOrderStat() {
+    }
+
+    public String getShopId() {
+        return shopId;
+    }
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public long getItemQuantity() {
+        return itemQuantity;
+    }
+
+    /**
+     * 복합 기본 키 (shop_id, stat_date)
+     */
+    public static class Key implements Serializable {
+        private String shopId;
+        private LocalDate statDate;
+
+        public Key() {
+        }
+
+        public Key(String shopId, LocalDate statDate) {
+            this.shopId = shopId;
+            this.statDate = statDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(shopId, key.shopId) && Objects.equals(statDate, key.statDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shopId, statDate);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자주 등장하는 항목 근사 집계 (Space-Saving)
+ * 최대 capacity개의 카운터만 유지하며, 가득 찬 상태에서 새 항목이 오면 가장 작은 카운터를 넘겨받아 그 값에서 이어서 셈
+ * 넘겨받은 값은 오차(error)로 기록하므로 실제 값은 [count - error, count] 범위이며, 실제 값이 전체의 1/capacity를 넘는 항목은 반드시 포함
+ * 모든 카운터에 같은 비율을 곱하는 감쇠는 이 성질을 유지하므로 시간 감쇠 집계에도 사용
+ * 동기화하지 않으므로 호출 측에서 잠근 뒤 사용
+ */
+public class SpaceSavingSketch {
+
+    private static final Comparator<Counter> BY_COUNT_DESC =
+        Comparator.comparingDouble((Counter counter) -> counter.count).reversed()
+            .thenComparing(counter -> counter.key);
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("카운터 수는 1 이상이어야 합니다");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 항목 가중치 누적 (label은 표시용 이름으로 마지막 값을 유지)
+     */
+    public void offer(String key, String label, double weight) {
+        merge(key, label, weight, 0);
+    }
+
+    /**
+     * 다른 집계의 카운터 합치기 (스냅샷 복원용)
+     */
+    public void merge(String key, String label, double count, double error) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count += count;
+            counter.error += error;
+            if (label != null) {
+                counter.label = label;
+            }
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(key, label, count, error));
+            return;
+        }
+        Counter min = counters.values().stream()
+            .min(Comparator.comparingDouble((Counter c) -> c.count))
+            .orElseThrow();
+        counters.remove(min.key);
+        counters.put(key, new Counter(key, label, min.count + count, min.count + error));
+    }
+
+    /**
+     * 모든 카운터에 감쇠 비율을 곱하고, 감쇠 후 minCount 미만인 카운터는 제거
+     */
+    public void decay(double factor, double minCount) {
+        counters.values().removeIf(counter -> {
+            counter.count *= factor;
+            counter.error *= factor;
+            return counter.count < minCount;
+        });
+    }
+
+    /**
+     * 추정 값이 큰 순서로 정렬한 전체 카운터
+     */
+    public List<Entry> entries() {
+        List<Counter> sorted = new ArrayList<>(counters.values());
+        sorted.sort(BY_COUNT_DESC);
+        List<Entry> entries = new ArrayList<>(sorted.size());
+        for (Counter counter : sorted) {
+            entries.add(new Entry(counter.key, counter.label, counter.count, counter.error));
+        }
+        return entries;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty();
+    }
+
+    /**
+     * 카운터 값 (count는 추정 값, count - error는 보장된 최솟값)
+     */
+    public record Entry(String key, String label, double count, double error) {
+    }
+
+    private static final class Counter {
+        private final String key;
+        private String label;
+        private double count;
+        private double error;
+
+        private Counter(String key, String label, double count, double error) {
+            this.key = key;
+            this.label = label;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 사용자별 일간 주문 집계 (user_daily_order_stats)
+ * 주문 수, 주문 금액, 주문 수량을 (user_id, stat_date) 단위로 누적하여 기간 통계를 원본 주문 스캔 없이 계산
+ * DailyOrderStatsCounter가 메모리에 모은 증분을 주기적으로 더해 갱신
+ */
+@Entity
+@IdClass(UserDailyOrderStat.Key.class)
+@Table(name = "user_daily_order_stats")
+public class UserDailyOrderStat {
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "VARCHAR(36)")
+    private String userId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "revenue", precision = 15, scale = 2, nullable = false)
+    private BigDecimal revenue;
+
+    @Column(name = "item_quantity", nullable = false)
+    private long itemQuantity;
+
+    // JPA 기본 생성자
+    protected UserDailyOrderStat() {
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public long getItemQuantity() {
+        return itemQuantity;
+    }
+
+    /**
+     * 복합 기본 키 (user_id, stat_date)
+     */
+    public static class Key implements Serializable {
+        private String userId;
+        private LocalDate statDate;
+
+        public Key() {
+        }
+
+        public Key(String userId, LocalDate statDate) {
+            this.userId = userId;
+            this.statDate = statDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(userId, key.userId) && Objects.equals(statDate, key.statDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, statDate);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package harry.boilerplate.order.query.infrastructure.settlement;
+
+import harry.boilerplate.order.command.infrastructure.sharding.ShardContext;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.infrastructure.dao.CursorFetch;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.AvailableHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * 가게별 일간 정산 배치
+ * 샤드마다 그날 주문이 있는 가게 목록을 읽어 가게 ID 해시 구간(SettlementPartition)으로 나누고, ForkJoinPool에서 구간마다
+ * 1) 주문·라인 아이템·옵션을 가게 ID 순 전진 전용 커서(fetch size 지정)로 읽어 가게별 정수 누적값으로 합산하고
+ * 2) 같은 트랜잭션에서 구간 가게들의 정산 행을 지우고 다시 넣은 뒤 구간 완료 표시(집계 시작 시각)를 남김
+ * 구간 단위로 원자적으로 반영되므로 중간에 중단되어도 다시 실행하면 완료 표시가 없는 구간만 처리 (force면 전체 재처리)
+ * 완료 표시 뒤에 상태가 바뀐 주문(정산 후 취소 등)이 있는 구간은 완료 표시가 있어도 다시 처리하며,
+ * 매일 실행 시 전날과 함께 최근 recheck-days일도 다시 확인하여 늦은 취소를 반영
+ * 가게 정산은 주문이 저장된 샤드마다 나뉘어 저장되므로 지급 시 샤드별 행을 합산
+ * 한 구간 처리가 샤드 병렬 조회 제한 시간보다 길 수 있으므로 ShardRouter 실행기 대신 배치 스레드에서 직접 트랜잭션을 염
+ * 정기 실행은 스케줄러 스레드를 오래 점유하지 않도록 전용 배치 스레드에 넘김
+ */
+@Component
+public class DailySettlementBatch {
+
+    private static final Logger logger = LoggerFactory.getLogger(DailySettlementBatch.class);
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    // 한 번에 조회·삭제하는 가게 ID 수 (IN 목록 크기 제한)
+    private static final int SHOP_ID_CHUNK_SIZE = 1000;
+
+    // 그날 주문이 있는 가게와 가게별 마지막 상태 변경 시각 (취소 주문 포함, 정산 행 삭제 대상과 재정산 판단에 사용)
+    private static final String DAY_SHOPS_SQL =
+        "SELECT shop_id, MAX(status_changed_at) FROM order_table " +
+        "WHERE order_time >= :from AND order_time < :to GROUP BY shop_id";
+
+    // 라인 아이템당 한 행 (라인 아이템 없는 주문은 quantity가 null인 한 행), 취소된 주문 제외
+    private static final String SETTLEMENT_ROWS_SQL =
+        "SELECT o.shop_id, o.id, o.total_price, li.quantity, " +
+        "(SELECT COALESCE(SUM(so.option_price), 0) FROM order_item_selected_option so " +
+        "WHERE so.order_line_item_id = li.id) " +
+        "FROM order_table o LEFT JOIN order_line_item li ON li.order_id = o.id " +
+        "WHERE o.shop_id IN (:shopIds) AND o.order_time >= :from AND o.order_time < :to " +
+        "AND o.status <> 'CANCELLED' " +
+        "ORDER BY o.shop_id, o.id";
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO shop_daily_settlement " +
+        "(shop_id, settlement_date, order_count, gross_amount, item_quantity, option_revenue) VALUES ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate partitionTransaction;
+    private final int parallelism;
+    private final int fetchSize;
+    private final int recheckDays;
+    private final ExecutorService scheduledRuns =
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "daily-settlement"));
+
+    public DailySettlementBatch(ShardRouter shardRouter, PlatformTransactionManager transactionManager,
+                                @Value("${order.settlement.parallelism:4}") int parallelism,
+                                @Value("${order.settlement.fetch-size:1000}") int fetchSize,
+                                @Value("${order.settlement.recheck-days:7}") int recheckDays) {
+        if (recheckDays < 0) {
+            throw new IllegalArgumentException("재확인 일수는 0 이상이어야 합니다");
+        }
+        this.shardRouter = shardRouter;
+        this.partitionTransaction = new TransactionTemplate(transactionManager);
+        this.partitionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.parallelism = parallelism;
+        this.fetchSize = fetchSize;
+        this.recheckDays = recheckDays;
+    }
+
+    /**
+     * 매일 전날 정산을 배치 스레드에 넘김 (이전 실행이 끝나지 않았으면 끝난 뒤 실행)
+     */
+    @Scheduled(cron = "${order.settlement.cron:0 30 4 * * *}")
+    public void settleYesterday() {
+        scheduledRuns.execute(() -> settleRecentDays(LocalDate.now()));
+    }
+
+    /**
+     * 전날과 그 이전 recheck-days일 정산
+     * 완료된 구간은 건너뛰고, 완료 뒤 상태가 바뀐 주문이 있는 구간만 다시 처리
+     */
+    void settleRecentDays(LocalDate today) {
+        for (int daysAgo = recheckDays + 1; daysAgo >= 1; daysAgo--) {
+            LocalDate date = today.minusDays(daysAgo);
+            try {
+                SettlementReport report = settle(date, false);
+                if (report.processed() > 0) {
+                    logger.info("일간 정산 완료: {}", report);
+                }
+            } catch (RuntimeException e) {
+                // 하루가 실패해도 나머지 날짜는 진행 (실패한 구간은 다음 실행 시 재처리)
+                logger.error("일간 정산 실패: date={}", date, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduledRuns.shutdownNow();
+    }
+
+    /**
+     * 하루치 정산 실행
+     * @param force true면 완료 표시가 있는 구간도 다시 처리
+     */
+    public synchronized SettlementReport settle(LocalDate date, boolean force) {
+        if (date == null) {
+            throw new IllegalArgumentException("정산일은 필수입니다");
+        }
+
+        // 완료 표시 시각은 집계 전에 정하여, 집계 도중 바뀐 주문도 다음 실행에서 다시 처리되도록 함
+        LocalDateTime settledAt = LocalDateTime.now();
+        List<SettlementPartition> partitions = new ArrayList<>();
+        List<Callable<PartitionResult>> tasks = new ArrayList<>();
+        for (String shardId : shardRouter.getShardMap().shardIds()) {
+            List<PartitionShops> shardPartitions = ShardContext.callInShard(shardId, () ->
+                partitionTransaction.execute(status -> partitionShops(shardId, date)));
+            for (PartitionShops partitionShops : shardPartitions) {
+                SettlementPartition partition = partitionShops.partition();
+                partitions.add(partition);
+                tasks.add(() -> ShardContext.callInShard(partition.shardId(), () ->
+                    partitionTransaction.execute(status -> settlePartition(partitionShops, date, force, settledAt))));
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        List<PartitionResult> results = new ArrayList<>(partitions.size());
+        List<SettlementPartition> failed = new ArrayList<>();
+        try {
+            List<Future<PartitionResult>> futures = pool.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    failed.add(partitions.get(i));
+                    logger.warn("정산 구간 실패, 다음 실행 시 재처리: date={}, {}", date, partitions.get(i), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("정산 배치가 중단되었습니다: " + date, e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        SettlementReport report = SettlementReport.of(date, results, failed.size());
+        if (!failed.isEmpty()) {
+            throw new IllegalStateException("정산 구간 " + failed.size() + "개 실패: " + report);
+        }
+        return report;
+    }
+
+    /**
+     * 샤드 하나의 그날 가게 목록을 구간별로 나눔 (샤드 트랜잭션 안에서 실행, 주문이 없는 구간도 포함)
+     */
+    private List<PartitionShops> partitionShops(String shardId, LocalDate date) {
+        List<PartitionShops> partitions = new ArrayList<>(SettlementPartition.PARTITIONS_PER_SHARD);
+        for (int no = 0; no < SettlementPartition.PARTITIONS_PER_SHARD; no++) {
+            partitions.add(new PartitionShops(new SettlementPartition(shardId, no)));
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(DAY_SHOPS_SQL)
+            .setParameter("from", Timestamp.valueOf(date.atStartOfDay()))
+            .setParameter("to", Timestamp.valueOf(date.plusDays(1).atStartOfDay()))
+            .getResultList();
+        for (Object[] row : rows) {
+            String shopId = (String) row[0];
+            partitions.get(SettlementPartition.partitionOf(shopId)).add(shopId, toLocalDateTime(row[1]));
+        }
+        return partitions;
+    }
+
+    /**
+     * 구간 하나 정산 (샤드 트랜잭션 안에서 실행)
+     */
+    private PartitionResult settlePartition(PartitionShops partitionShops, LocalDate date, boolean force,
+                                            LocalDateTime settledAt) {
+        SettlementPartition partition = partitionShops.partition();
+        if (!force) {
+            LocalDateTime completedAt = completedAt(partition, date);
+            if (completedAt != null && !partitionShops.changedSince(completedAt)) {
+                return PartitionResult.skippedPartition();
+            }
+        }
+
+        List<String> shopIds = partitionShops.shopIds();
+        List<ShopSettlementTotals> totals = new ArrayList<>();
+        long orders = 0;
+        for (int from = 0; from < shopIds.size(); from += SHOP_ID_CHUNK_SIZE) {
+            List<String> chunk = shopIds.subList(from, Math.min(from + SHOP_ID_CHUNK_SIZE, shopIds.size()));
+            orders += CursorFetch.call(entityManager, () -> aggregate(chunk, date, totals));
+        }
+
+        replaceSettlements(shopIds, date, totals);
+        markCompleted(partition, date, orders, settledAt);
+        return new PartitionResult(false, orders, totals.size());
+    }
+
+    /**
+     * 가게들의 주문을 커서로 읽어 가게별로 합산 (가게 ID 순으로 읽으므로 가게마다 누적값 하나)
+     * @return 정산한 주문 수
+     */
+    private long aggregate(List<String> shopIds, LocalDate date, List<ShopSettlementTotals> totals) {
+        Query query = entityManager.createNativeQuery(SETTLEMENT_ROWS_SQL)
+            .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(AvailableHints.HINT_READ_ONLY, true)
+            .setParameter("shopIds", shopIds)
+            .setParameter("from", Timestamp.valueOf(date.atStartOfDay()))
+            .setParameter("to", Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+
+        long orders = 0;
+        ShopSettlementTotals current = null;
+        String lastOrderId = null;
+        @SuppressWarnings("unchecked")
+        Stream<Object[]> rows = query.getResultStream();
+        try (rows) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                String shopId = (String) row[0];
+                String orderId = (String) row[1];
+                if (current == null || !current.shopId().equals(shopId)) {
+                    current = new ShopSettlementTotals(shopId);
+                    totals.add(current);
+                }
+                if (!orderId.equals(lastOrderId)) {
+                    current.addOrder(toCents(row[2]));
+                    lastOrderId = orderId;
+                    orders++;
+                }
+                if (row[3] != null) {
+                    current.addLineItem(((Number) row[3]).intValue(), toCents(row[4]));
+                }
+            }
+        }
+        return orders;
+    }
+
+    /**
+     * 구간 완료 표시의 집계 시작 시각 (완료 표시가 없으면 null)
+     */
+    private LocalDateTime completedAt(SettlementPartition partition, LocalDate date) {
+        List<?> completed = entityManager.createNativeQuery(
+                "SELECT completed_at FROM settlement_partition WHERE settlement_date = :date AND partition_no = :no")
+            .setParameter("date", date)
+            .setParameter("no", partition.partitionNo())
+            .getResultList();
+        return completed.isEmpty() ? null : toLocalDateTime(completed.get(0));
+    }
+
+    /**
+     * 구간 가게들의 정산 행 교체 (주문이 모두 취소된 가게는 행을 지우기만 함)
+     */
+    private void replaceSettlements(List<String> shopIds, LocalDate date, List<ShopSettlementTotals> totals) {
+        for (int from = 0; from < shopIds.size(); from += SHOP_ID_CHUNK_SIZE) {
+            entityManager.createNativeQuery(
+                    "DELETE FROM shop_daily_settlement WHERE settlement_date = :date AND shop_id IN (:shopIds)")
+                .setParameter("date", date)
+                .setParameter("shopIds", shopIds.subList(from, Math.min(from + SHOP_ID_CHUNK_SIZE, shopIds.size())))
+                .executeUpdate();
+        }
+
+        for (int from = 0; from < totals.size(); from += INSERT_BATCH_SIZE) {
+            List<ShopSettlementTotals> batch = totals.subList(from, Math.min(from + INSERT_BATCH_SIZE, totals.size()));
+            String values = String.join(", ", Collections.nCopies(batch.size(), "(?, ?, ?, ?, ?, ?)"));
+
+            Query insert = entityManager.createNativeQuery(INSERT_PREFIX + values);
+            int position = 1;
+            for (ShopSettlementTotals shop : batch) {
+                insert.setParameter(position++, shop.shopId());
+                insert.setParameter(position++, date);
+                insert.setParameter(position++, shop.orderCount());
+                insert.setParameter(position++, shop.grossAmount());
+                insert.setParameter(position++, shop.itemQuantity());
+                insert.setParameter(position++, shop.optionRevenue());
+            }
+            insert.executeUpdate();
+        }
+    }
+
+    private void markCompleted(SettlementPartition partition, LocalDate date, long orders, LocalDateTime settledAt) {
+        entityManager.createNativeQuery(
+                "DELETE FROM settlement_partition WHERE settlement_date = :date AND partition_no = :no")
+            .setParameter("date", date)
+            .setParameter("no", partition.partitionNo())
+            .executeUpdate();
+        entityManager.createNativeQuery(
+                "INSERT INTO settlement_partition (settlement_date, partition_no, settled_orders, completed_at) " +
+                "VALUES (:date, :no, :orders, :completedAt)")
+            .setParameter("date", date)
+            .setParameter("no", partition.partitionNo())
+            .setParameter("orders", orders)
+            .setParameter("completedAt", Timestamp.valueOf(settledAt))
+            .executeUpdate();
+    }
+
+    private static long toCents(Object amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        BigDecimal value = amount instanceof BigDecimal decimal ? decimal : new BigDecimal(amount.toString());
+        return value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value == null || value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        return ((Timestamp) value).toLocalDateTime();
+    }
+
+    /**
+     * 구간에 속한 그날 가게 목록과 가장 늦은 주문 상태 변경 시각
+     */
+    private static final class PartitionShops {
+
+        private final SettlementPartition partition;
+        private final List<String> shopIds = new ArrayList<>();
+        private LocalDateTime lastChangedAt;
+
+        PartitionShops(SettlementPartition partition) {
+            this.partition = partition;
+        }
+
+        void add(String shopId, LocalDateTime changedAt) {
+            shopIds.add(shopId);
+            if (changedAt != null && (lastChangedAt == null || changedAt.isAfter(lastChangedAt))) {
+                lastChangedAt = changedAt;
+            }
+        }
+
+        SettlementPartition partition() {
+            return partition;
+        }
+
+        List<String> shopIds() {
+            return shopIds;
+        }
+
+        boolean changedSince(LocalDateTime completedAt) {
+            return lastChangedAt != null && !lastChangedAt.isBefore(completedAt);
+        }
+    }
+
+    /**
+     * 구간 처리 결과
+     */
+    record PartitionResult(boolean skipped, long orders, int shops) {
+        static PartitionResult skippedPartition() {
+            return new PartitionResult(true, 0, 0);
+        }
+    }
+}
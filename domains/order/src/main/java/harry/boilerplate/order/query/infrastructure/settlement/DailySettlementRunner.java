@@ -0,0 +1,42 @@
+package harry.boilerplate.order.query.infrastructure.settlement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 일간 정산 수동 실행 명령
+ * --order.settlement.run-date=2024-01-15 로 기동하면 시작 시 해당 일자를 정산 (중단된 정산은 남은 구간과 완료 뒤 주문이 바뀐 구간만 처리)
+ * --order.settlement.force=true 를 함께 주면 완료된 구간도 다시 정산
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.settlement", name = "run-date")
+public class DailySettlementRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DailySettlementRunner.class);
+
+    private final DailySettlementBatch dailySettlementBatch;
+    private final LocalDate runDate;
+    private final boolean force;
+
+    public DailySettlementRunner(DailySettlementBatch dailySettlementBatch,
+                                 @Value("${order.settlement.run-date}") LocalDate runDate,
+                                 @Value("${order.settlement.force:false}") boolean force) {
+        this.dailySettlementBatch = dailySettlementBatch;
+        this.runDate = runDate;
+        this.force = force;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+        SettlementReport report = dailySettlementBatch.settle(runDate, force);
+        logger.info("일간 정산 완료: {}, {}ms", report, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,35 @@
+package harry.boilerplate.order.query.infrastructure.settlement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 정산 배치 처리 단위 (샤드 하나에서 가게 ID 해시가 같은 가게들)
+ * 가게 ID 형식(UUID, "shop-001" 등)과 무관하게 고르게 나뉘도록 String.hashCode로 샤드마다 PARTITIONS_PER_SHARD개 구간에 배정
+ * (String.hashCode는 명세로 고정된 값이라 실행·인스턴스가 달라도 같은 가게는 항상 같은 구간)
+ */
+record SettlementPartition(String shardId, int partitionNo) {
+
+    static final int PARTITIONS_PER_SHARD = 16;
+
+    /**
+     * 모든 샤드의 처리 단위 목록
+     */
+    static List<SettlementPartition> of(Collection<String> shardIds) {
+        List<SettlementPartition> partitions = new ArrayList<>(shardIds.size() * PARTITIONS_PER_SHARD);
+        for (String shardId : shardIds) {
+            for (int no = 0; no < PARTITIONS_PER_SHARD; no++) {
+                partitions.add(new SettlementPartition(shardId, no));
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * 가게가 속한 구간 번호
+     */
+    static int partitionOf(String shopId) {
+        return Math.floorMod(shopId.hashCode(), PARTITIONS_PER_SHARD);
+    }
+}
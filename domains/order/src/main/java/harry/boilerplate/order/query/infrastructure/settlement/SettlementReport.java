@@ -0,0 +1,32 @@
+package harry.boilerplate.order.query.infrastructure.settlement;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일간 정산 실행 결과
+ * @param processed 이번 실행에서 처리한 구간 수
+ * @param skipped   이미 완료되어 건너뛴 구간 수
+ * @param failed    실패한 구간 수 (다음 실행 시 재처리)
+ * @param orders    이번 실행에서 정산한 주문 수
+ * @param shops     이번 실행에서 정산 행을 쓴 가게 수 (샤드별로 셈)
+ */
+public record SettlementReport(LocalDate date, int processed, int skipped, int failed, long orders, long shops) {
+
+    static SettlementReport of(LocalDate date, List<DailySettlementBatch.PartitionResult> results, int failed) {
+        int processed = 0;
+        int skipped = 0;
+        long orders = 0;
+        long shops = 0;
+        for (DailySettlementBatch.PartitionResult result : results) {
+            if (result.skipped()) {
+                skipped++;
+            } else {
+                processed++;
+                orders += result.orders();
+                shops += result.shops();
+            }
+        }
+        return new SettlementReport(date, processed, skipped, failed, orders, shops);
+    }
+}
@@ -0,0 +1,49 @@
+package harry.boilerplate.order.query.infrastructure.settlement;
+
+import java.math.BigDecimal;
+
+/**
+ * 가게 하나의 일간 정산 누적값 (금액은 원 단위 소수 둘째 자리까지 정수(센트)로 누적)
+ */
+final class ShopSettlementTotals {
+
+    private final String shopId;
+    private long orderCount;
+    private long grossCents;
+    private long itemQuantity;
+    private long optionRevenueCents;
+
+    ShopSettlementTotals(String shopId) {
+        this.shopId = shopId;
+    }
+
+    void addOrder(long totalPriceCents) {
+        orderCount++;
+        grossCents += totalPriceCents;
+    }
+
+    void addLineItem(int quantity, long optionPriceCents) {
+        itemQuantity += quantity;
+        optionRevenueCents += optionPriceCents * quantity;
+    }
+
+    String shopId() {
+        return shopId;
+    }
+
+    long orderCount() {
+        return orderCount;
+    }
+
+    BigDecimal grossAmount() {
+        return BigDecimal.valueOf(grossCents, 2);
+    }
+
+    long itemQuantity() {
+        return itemQuantity;
+    }
+
+    BigDecimal optionRevenue() {
+        return BigDecimal.valueOf(optionRevenueCents, 2);
+    }
+}
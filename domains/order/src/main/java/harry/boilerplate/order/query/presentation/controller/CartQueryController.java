@@ -1,15 +1,25 @@
 package harry.boilerplate.order.query.presentation.controller;
 
+import harry.boilerplate.common.response.ConditionalGet;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.dto.CartItemCountQuery;
+import harry.boilerplate.order.query.application.dto.CartItemCountResult;
 import harry.boilerplate.order.query.application.dto.CartSummaryQuery;
 import harry.boilerplate.order.query.application.dto.CartSummaryResult;
+import harry.boilerplate.order.query.application.handler.CartItemCountQueryHandler;
 import harry.boilerplate.order.query.application.handler.CartSummaryQueryHandler;
+import harry.boilerplate.order.query.application.service.CartStreamRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 장바구니 Query API Controller
@@ -21,13 +31,20 @@ import org.springframework.web.bind.annotation.*;
 public class CartQueryController {
     
     private final CartSummaryQueryHandler cartSummaryQueryHandler;
+    private final CartItemCountQueryHandler cartItemCountQueryHandler;
+    private final CartStreamRegistry cartStreamRegistry;
     
-    public CartQueryController(CartSummaryQueryHandler cartSummaryQueryHandler) {
+    public CartQueryController(CartSummaryQueryHandler cartSummaryQueryHandler,
+                               CartItemCountQueryHandler cartItemCountQueryHandler,
+                               CartStreamRegistry cartStreamRegistry) {
         this.cartSummaryQueryHandler = cartSummaryQueryHandler;
+        this.cartItemCountQueryHandler = cartItemCountQueryHandler;
+        this.cartStreamRegistry = cartStreamRegistry;
     }
     
     /**
      * 사용자 장바구니 요약 조회
+     * If-None-Match가 현재 버전과 같으면 요약을 조립하지 않고 304 반환
      * Requirements: 5.5
      */
     @GetMapping
@@ -37,19 +54,44 @@ public class CartQueryController {
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "장바구니 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "장바구니 변경 없음"),
         @ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     public ResponseEntity<CartSummaryResult> getCartSummary(
             @Parameter(description = "사용자 ID", required = true, example = "user-123")
-            @RequestHeader("X-User-Id") String userId) {
+            @RequestHeader("X-User-Id") String userId,
+            WebRequest request) {
         
         // Query 생성 및 Handler 호출
         CartSummaryQuery query = new CartSummaryQuery(userId);
-        CartSummaryResult result = cartSummaryQueryHandler.handle(query);
+        return ConditionalGet.respond(request, cartSummaryQueryHandler.version(query),
+            CacheControl.noCache().cachePrivate(),
+            () -> ResponseEntity.ok(cartSummaryQueryHandler.handle(query)));
+    }
+    
+    /**
+     * 장바구니 변경 스트림 구독 (Server-Sent Events)
+     * 연결 직후와 장바구니 명령이 커밋될 때마다 아이템 개수·총 수량·총 금액을 "cart" 이벤트로 전송하여 개수 폴링을 대체
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "장바구니 변경 스트림",
+        description = "사용자의 장바구니 아이템 개수와 총 금액을 변경될 때마다 SSE로 전송합니다. 연결이 끊기면 클라이언트가 재연결합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "스트림 연결 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    public SseEmitter streamCart(
+            @Parameter(description = "사용자 ID", required = true, example = "user-123")
+            @RequestHeader("X-User-Id") String userId) {
         
-        return ResponseEntity.ok(result);
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다");
+        }
+        return cartStreamRegistry.subscribe(UserId.of(userId));
     }
     
     /**
@@ -77,13 +119,14 @@ public class CartQueryController {
     }
     
     /**
-     * 장바구니 아이템 개수 조회 (향후 구현 예정)
+     * 장바구니 아이템 개수 조회
+     * 가격 계산 없이 라인 아이템 수만 집계 (변경 알림은 장바구니 변경 스트림 사용)
      * Requirements: 5.5
      */
     @GetMapping("/count")
     @Operation(
         summary = "장바구니 아이템 개수 조회",
-        description = "사용자의 장바구니에 담긴 총 아이템 개수를 조회합니다."
+        description = "사용자의 장바구니에 담긴 아이템(라인) 개수를 조회합니다. 장바구니가 없으면 0을 반환합니다."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "아이템 개수 조회 성공"),
@@ -91,12 +134,10 @@ public class CartQueryController {
         @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<Object> getCartItemCount(
+    public ResponseEntity<CartItemCountResult> getCartItemCount(
             @Parameter(description = "사용자 ID", required = true, example = "user-123")
             @RequestHeader("X-User-Id") String userId) {
         
-        // TODO: CartItemCountQueryHandler 구현 필요
-        // 현재는 기본 응답만 반환
-        return ResponseEntity.ok("{ \"count\": 0 }");
+        return ResponseEntity.ok(cartItemCountQueryHandler.handle(new CartItemCountQuery(userId)));
     }
 }
\ No newline at end of file
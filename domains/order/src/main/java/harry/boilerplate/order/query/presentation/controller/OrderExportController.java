@@ -0,0 +1,102 @@
+package harry.boilerplate.order.query.presentation.controller;
+
+import harry.boilerplate.order.query.application.dto.OrderExportCheckpoint;
+import harry.boilerplate.order.query.application.dto.OrderExportFormat;
+import harry.boilerplate.order.query.application.dto.OrderExportQuery;
+import harry.boilerplate.order.query.application.service.OrderExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주문 내보내기 API Controller
+ * 정산·가게 운영용 전체 주문 덤프를 NDJSON/CSV로 스트리밍
+ */
+@RestController
+@RequestMapping("/api/v1/orders/export")
+@Tag(name = "Order Export API", description = "주문 내보내기 API")
+public class OrderExportController {
+    
+    private final OrderExportService orderExportService;
+    
+    public OrderExportController(OrderExportService orderExportService) {
+        this.orderExportService = orderExportService;
+    }
+    
+    /**
+     * 주문 내보내기
+     * Accept-Encoding에 gzip이 있으면 gzip으로 압축하여 응답
+     */
+    @GetMapping
+    @Operation(
+        summary = "주문 내보내기",
+        description = "주문을 (주문 시각, 주문 ID) 순으로 NDJSON 또는 CSV로 스트리밍합니다. " +
+            "일정 행마다 재개 지점(checkpoint)이 출력되며, 연결이 끊기면 마지막 재개 지점을 checkpoint로 전달하여 이어받을 수 있습니다. " +
+            "마지막 줄은 complete 재개 지점입니다. " +
+            "전체 주문은 운영자만, 가게 점주(X-Shop-Id)는 자기 가게 주문만 내보낼 수 있습니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (형식, 기간, 재개 지점 오류 등)"),
+        @ApiResponse(responseCode = "403", description = "내보내기 권한 없음 (운영자가 아니거나 다른 가게 주문 요청)"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "요청자 ID", required = true, example = "ops-1")
+            @RequestHeader("X-User-Id") String userId,
+            @Parameter(description = "요청자가 인증된 가게 ID (가게 점주 요청)", example = "shop-001")
+            @RequestHeader(value = "X-Shop-Id", required = false) String requesterShopId,
+            @Parameter(description = "가게 ID (미지정 시 운영자는 전체 주문, 점주는 자기 가게 주문)", example = "shop-001")
+            @RequestParam(required = false) String shopId,
+            @Parameter(description = "시작 시각 (포함, yyyy-MM-ddTHH:mm:ss)", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "종료 시각 (미포함, yyyy-MM-ddTHH:mm:ss)", example = "2024-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "형식 (ndjson, csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "재개 지점 (이전 응답의 checkpoint)")
+            @RequestParam(required = false) String checkpoint,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        OrderExportFormat exportFormat = OrderExportFormat.from(format);
+        OrderExportQuery query = orderExportService.authorize(new OrderExportQuery(shopId, from, to, exportFormat,
+            checkpoint != null && !checkpoint.isBlank() ? OrderExportCheckpoint.decode(checkpoint) : null),
+            userId, requesterShopId);
+        // 응답을 쓰기 시작한 뒤에는 오류 응답을 보낼 수 없으므로 미리 검증
+        orderExportService.validate(query);
+        
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                try (OutputStream compressed = new GZIPOutputStream(outputStream, 64 * 1024)) {
+                    orderExportService.export(query, compressed);
+                }
+            } else {
+                orderExportService.export(query, outputStream);
+            }
+        };
+        
+        String filename = "orders" + (query.getShopId() != null ? "-" + query.getShopId() : "")
+            + "." + exportFormat.getExtension();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -2,15 +2,26 @@ package harry.boilerplate.order.query.presentation.controller;
 
 import harry.boilerplate.order.query.application.dto.OrderHistoryQuery;
 import harry.boilerplate.order.query.application.dto.OrderHistoryResult;
+import harry.boilerplate.order.query.application.dto.OrderSearchQuery;
+import harry.boilerplate.order.query.application.dto.OrderSearchResult;
+import harry.boilerplate.order.query.application.dto.OrderStatisticsQuery;
+import harry.boilerplate.order.query.application.dto.OrderStatisticsResult;
+import harry.boilerplate.order.query.application.dto.OrdersByStatusQuery;
 import harry.boilerplate.order.query.application.handler.OrderHistoryQueryHandler;
+import harry.boilerplate.order.query.application.handler.OrderSearchQueryHandler;
+import harry.boilerplate.order.query.application.handler.OrderStatisticsQueryHandler;
+import harry.boilerplate.order.query.application.handler.OrdersByStatusQueryHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 /**
  * 주문 Query API Controller
  * Requirements: 6.3, 9.2
@@ -21,9 +32,18 @@ import org.springframework.web.bind.annotation.*;
 public class OrderQueryController {
     
     private final OrderHistoryQueryHandler orderHistoryQueryHandler;
+    private final OrdersByStatusQueryHandler ordersByStatusQueryHandler;
+    private final OrderStatisticsQueryHandler orderStatisticsQueryHandler;
+    private final OrderSearchQueryHandler orderSearchQueryHandler;
     
-    public OrderQueryController(OrderHistoryQueryHandler orderHistoryQueryHandler) {
+    public OrderQueryController(OrderHistoryQueryHandler orderHistoryQueryHandler,
+                                OrdersByStatusQueryHandler ordersByStatusQueryHandler,
+                                OrderStatisticsQueryHandler orderStatisticsQueryHandler,
+                                OrderSearchQueryHandler orderSearchQueryHandler) {
         this.orderHistoryQueryHandler = orderHistoryQueryHandler;
+        this.ordersByStatusQueryHandler = ordersByStatusQueryHandler;
+        this.orderStatisticsQueryHandler = orderStatisticsQueryHandler;
+        this.orderSearchQueryHandler = orderSearchQueryHandler;
     }
     
     /**
@@ -33,7 +53,8 @@ public class OrderQueryController {
     @GetMapping
     @Operation(
         summary = "주문 이력 조회",
-        description = "사용자의 주문 이력을 페이징하여 조회합니다. 최신 주문부터 정렬되어 반환됩니다."
+        description = "사용자의 주문 이력을 페이징하여 조회합니다. 최신 주문부터 정렬되어 반환됩니다. " +
+            "응답의 nextCursor를 cursor로 전달하면 page 대신 커서 기반으로 다음 페이지를 조회합니다."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "주문 이력 조회 성공"),
@@ -47,15 +68,45 @@ public class OrderQueryController {
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기 (1~100)", example = "20")
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시)")
+            @RequestParam(required = false) String cursor) {
         
         // Query 생성 및 Handler 호출
-        OrderHistoryQuery query = new OrderHistoryQuery(userId, page, size);
+        OrderHistoryQuery query = new OrderHistoryQuery(userId, page, size, cursor);
         OrderHistoryResult result = orderHistoryQueryHandler.handle(query);
         
         return ResponseEntity.ok(result);
     }
     
+    /**
+     * 메뉴 이름·가게 이름으로 주문 이력 검색
+     * 사용자별 n-gram 검색 색인으로 후보 주문을 찾으므로 라인 아이템 전체를 훑지 않음
+     */
+    @GetMapping("/search")
+    @Operation(
+        summary = "주문 이력 검색",
+        description = "메뉴 이름 또는 가게 이름에 검색어가 포함된 주문을 최신순으로 조회합니다. " +
+            "띄어쓰기와 대소문자는 구분하지 않으며, 한 글자 검색도 가능합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "주문 이력 검색 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (빈 검색어, 조회 개수 범위 초과 등)"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<OrderSearchResult> searchOrderHistory(
+            @Parameter(description = "사용자 ID", required = true, example = "user-123")
+            @RequestHeader("X-User-Id") String userId,
+            @Parameter(description = "검색어 (메뉴 이름 또는 가게 이름)", required = true, example = "떡볶이")
+            @RequestParam String keyword,
+            @Parameter(description = "조회 개수 (1~50)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        OrderSearchResult result = orderSearchQueryHandler.handle(new OrderSearchQuery(userId, keyword, limit));
+        
+        return ResponseEntity.ok(result);
+    }
+    
     /**
      * 특정 주문 상세 조회 (향후 구현 예정)
      * Requirements: 6.3
@@ -84,13 +135,13 @@ public class OrderQueryController {
     }
     
     /**
-     * 주문 상태별 조회 (향후 구현 예정)
+     * 주문 상태별 조회
      * Requirements: 6.3
      */
     @GetMapping("/status/{status}")
     @Operation(
         summary = "주문 상태별 조회",
-        description = "특정 상태의 주문들을 조회합니다. (예: 진행중, 완료, 취소 등)"
+        description = "특정 상태의 주문들을 조회합니다. (PLACED, ACCEPTED, PREPARING, READY, DELIVERING, COMPLETED, CANCELLED)"
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "상태별 주문 조회 성공"),
@@ -98,7 +149,7 @@ public class OrderQueryController {
         @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<Object> getOrdersByStatus(
+    public ResponseEntity<OrderHistoryResult> getOrdersByStatus(
             @Parameter(description = "사용자 ID", required = true, example = "user-123")
             @RequestHeader("X-User-Id") String userId,
             @Parameter(description = "주문 상태", required = true, example = "PREPARING")
@@ -108,34 +159,46 @@ public class OrderQueryController {
             @Parameter(description = "페이지 크기 (1~100)", example = "20")
             @RequestParam(defaultValue = "20") int size) {
         
-        // TODO: OrdersByStatusQueryHandler 구현 필요
-        // 현재는 기본 응답만 반환
-        return ResponseEntity.ok("상태별 주문 목록 (구현 예정)");
+        // Query 생성 및 Handler 호출
+        OrdersByStatusQuery query = new OrdersByStatusQuery(userId, status, page, size);
+        OrderHistoryResult result = ordersByStatusQueryHandler.handle(query);
+        
+        return ResponseEntity.ok(result);
     }
     
     /**
-     * 주문 통계 조회 (향후 구현 예정)
+     * 주문 통계 조회
+     * 일간 집계를 기간만큼 합산하여 응답 (from/to를 지정하지 않으면 오늘까지 최근 days일)
      * Requirements: 6.3
      */
     @GetMapping("/statistics")
     @Operation(
         summary = "주문 통계 조회",
-        description = "사용자의 주문 통계 정보를 조회합니다. (총 주문 수, 총 주문 금액, 자주 주문하는 가게 등)"
+        description = "사용자의 기간 주문 통계(총 주문 수, 총 주문 금액, 주문 수량, 일자별 집계)를 조회합니다. " +
+            "from/to를 지정하면 해당 기간(양 끝 포함), 지정하지 않으면 오늘까지 최근 days일을 집계합니다."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "주문 통계 조회 성공"),
-        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (시작일이 종료일보다 늦은 경우 등)"),
         @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<Object> getOrderStatistics(
+    public ResponseEntity<OrderStatisticsResult> getOrderStatistics(
             @Parameter(description = "사용자 ID", required = true, example = "user-123")
             @RequestHeader("X-User-Id") String userId,
-            @Parameter(description = "통계 기간 (일)", example = "30")
-            @RequestParam(defaultValue = "30") int days) {
+            @Parameter(description = "통계 기간 (일, from 미지정 시 사용)", example = "30")
+            @RequestParam(defaultValue = "30") int days,
+            @Parameter(description = "시작일 (yyyy-MM-dd)", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd, 기본값 오늘)", example = "2024-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
         
-        // TODO: OrderStatisticsQueryHandler 구현 필요
-        // 현재는 기본 응답만 반환
-        return ResponseEntity.ok("주문 통계 정보 (구현 예정)");
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : OrderStatisticsQuery.startOfLastDays(end, days);
+        
+        OrderStatisticsResult result = orderStatisticsQueryHandler.handle(
+            OrderStatisticsQuery.forUser(userId, start, end));
+        
+        return ResponseEntity.ok(result);
     }
 }
\ No newline at end of file
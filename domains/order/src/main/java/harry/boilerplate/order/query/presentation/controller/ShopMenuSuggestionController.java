@@ -0,0 +1,58 @@
+package harry.boilerplate.order.query.presentation.controller;
+
+import harry.boilerplate.order.query.application.dto.MenuSuggestionQuery;
+import harry.boilerplate.order.query.application.dto.MenuSuggestionResult;
+import harry.boilerplate.order.query.application.handler.MenuSuggestionQueryHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 함께 주문한 메뉴 추천 Query API Controller
+ * 장바구니 화면의 "함께 주문하면 좋은 메뉴" 영역 조회
+ */
+@RestController
+@RequestMapping("/api/v1/shops/{shopId}/menu-suggestions")
+@Tag(name = "Shop Menu Suggestion API", description = "함께 주문한 메뉴 추천 조회 API")
+public class ShopMenuSuggestionController {
+    
+    private final MenuSuggestionQueryHandler menuSuggestionQueryHandler;
+    
+    public ShopMenuSuggestionController(MenuSuggestionQueryHandler menuSuggestionQueryHandler) {
+        this.menuSuggestionQueryHandler = menuSuggestionQueryHandler;
+    }
+    
+    /**
+     * 함께 주문한 메뉴 추천 조회
+     * 장바구니에 담은 메뉴와 자주 함께 주문된 메뉴 순 (담은 메뉴 제외, 서버 인스턴스별 메모리 색인)
+     */
+    @GetMapping
+    @Operation(
+        summary = "함께 주문한 메뉴 추천 조회",
+        description = "장바구니에 담은 메뉴들과 자주 함께 주문된 같은 가게의 메뉴를 limit개 조회합니다. 담은 메뉴는 제외합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "추천 메뉴 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (메뉴 ID가 없거나 조회 개수가 1~20을 벗어난 경우 등)"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<MenuSuggestionResult> getMenuSuggestions(
+            @Parameter(description = "가게 ID", required = true, example = "shop-001")
+            @PathVariable String shopId,
+            @Parameter(description = "장바구니에 담은 메뉴 ID 목록", required = true, example = "menu-001")
+            @RequestParam List<String> menuIds,
+            @Parameter(description = "조회 개수 (최대 20)", example = "5")
+            @RequestParam(defaultValue = "5") int limit) {
+        
+        MenuSuggestionResult result = menuSuggestionQueryHandler.handle(
+            new MenuSuggestionQuery(shopId, menuIds, limit));
+        
+        return ResponseEntity.ok(result);
+    }
+}
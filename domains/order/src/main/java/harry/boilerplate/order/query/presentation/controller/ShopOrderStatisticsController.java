@@ -0,0 +1,115 @@
+package harry.boilerplate.order.query.presentation.controller;
+
+import harry.boilerplate.order.query.application.dto.LiveOrderRateQuery;
+import harry.boilerplate.order.query.application.dto.LiveOrderRateResult;
+import harry.boilerplate.order.query.application.dto.OrderStatisticsQuery;
+import harry.boilerplate.order.query.application.dto.OrderStatisticsResult;
+import harry.boilerplate.order.query.application.handler.LiveOrderRateQueryHandler;
+import harry.boilerplate.order.query.application.handler.OrderStatisticsQueryHandler;
+import harry.boilerplate.order.query.application.service.ShopAccessPolicy;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 가게 주문 통계 Query API Controller
+ * 가게 사장님 화면의 기간 매출 조회
+ * 운영자 또는 해당 가게 점주(X-Shop-Id)만 조회할 수 있음
+ */
+@RestController
+@RequestMapping("/api/v1/shops/{shopId}/orders/statistics")
+@Tag(name = "Shop Order Statistics API", description = "가게 주문 통계 조회 API")
+public class ShopOrderStatisticsController {
+    
+    private final OrderStatisticsQueryHandler orderStatisticsQueryHandler;
+    private final LiveOrderRateQueryHandler liveOrderRateQueryHandler;
+    private final ShopAccessPolicy shopAccessPolicy;
+    
+    public ShopOrderStatisticsController(OrderStatisticsQueryHandler orderStatisticsQueryHandler,
+                                         LiveOrderRateQueryHandler liveOrderRateQueryHandler,
+                                         ShopAccessPolicy shopAccessPolicy) {
+        this.orderStatisticsQueryHandler = orderStatisticsQueryHandler;
+        this.liveOrderRateQueryHandler = liveOrderRateQueryHandler;
+        this.shopAccessPolicy = shopAccessPolicy;
+    }
+    
+    /**
+     * 가게 주문 통계 조회
+     * 일간 집계를 기간만큼 합산하여 응답 (from/to를 지정하지 않으면 오늘까지 최근 days일)
+     */
+    @GetMapping
+    @Operation(
+        summary = "가게 주문 통계 조회",
+        description = "가게의 기간 주문 통계(총 주문 수, 매출, 주문 수량, 일자별 집계)를 조회합니다. " +
+            "from/to를 지정하면 해당 기간(양 끝 포함), 지정하지 않으면 오늘까지 최근 days일을 집계합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "가게 주문 통계 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (시작일이 종료일보다 늦은 경우 등)"),
+        @ApiResponse(responseCode = "403", description = "조회 권한 없음 (운영자가 아니거나 다른 가게)"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<OrderStatisticsResult> getShopOrderStatistics(
+            @Parameter(description = "가게 ID", required = true, example = "shop-001")
+            @PathVariable String shopId,
+            @Parameter(description = "요청자 ID (운영자 요청)", example = "ops-1")
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @Parameter(description = "요청자가 인증된 가게 ID (가게 점주 요청)", example = "shop-001")
+            @RequestHeader(value = "X-Shop-Id", required = false) String requesterShopId,
+            @Parameter(description = "통계 기간 (일, from 미지정 시 사용)", example = "30")
+            @RequestParam(defaultValue = "30") int days,
+            @Parameter(description = "시작일 (yyyy-MM-dd)", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd, 기본값 오늘)", example = "2024-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        
+        shopAccessPolicy.authorize(shopId, userId, requesterShopId);
+        
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : OrderStatisticsQuery.startOfLastDays(end, days);
+        
+        OrderStatisticsResult result = orderStatisticsQueryHandler.handle(
+            OrderStatisticsQuery.forShop(shopId, start, end));
+        
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * 가게 실시간 주문 현황 조회
+     * 메모리 분 단위 카운터에서 응답하므로 DB를 조회하지 않음 (서버 인스턴스별 집계)
+     */
+    @GetMapping("/live")
+    @Operation(
+        summary = "가게 실시간 주문 현황 조회",
+        description = "가게의 최근 5/15/60분 주문 수와 매출, 최근 minutes분의 분당 주문 수와 매출을 조회합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "실시간 주문 현황 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (분당 집계 기간이 1~60분을 벗어난 경우 등)"),
+        @ApiResponse(responseCode = "403", description = "조회 권한 없음 (운영자가 아니거나 다른 가게)"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<LiveOrderRateResult> getLiveOrderRate(
+            @Parameter(description = "가게 ID", required = true, example = "shop-001")
+            @PathVariable String shopId,
+            @Parameter(description = "요청자 ID (운영자 요청)", example = "ops-1")
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @Parameter(description = "요청자가 인증된 가게 ID (가게 점주 요청)", example = "shop-001")
+            @RequestHeader(value = "X-Shop-Id", required = false) String requesterShopId,
+            @Parameter(description = "분당 집계를 조회할 최근 분 수 (최대 60)", example = "60")
+            @RequestParam(defaultValue = "60") int minutes) {
+        
+        shopAccessPolicy.authorize(shopId, userId, requesterShopId);
+        
+        LiveOrderRateResult result = liveOrderRateQueryHandler.handle(new LiveOrderRateQuery(shopId, minutes));
+        
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,69 @@
+package harry.boilerplate.order.query.presentation.controller;
+
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.query.application.service.ShopAccessPolicy;
+import harry.boilerplate.order.query.application.service.ShopOrderStreamRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 가게 주문 스트림 API Controller
+ * 주방 태블릿이 새 주문을 폴링하지 않고 푸시로 받음
+ * 운영자 또는 해당 가게 점주(X-Shop-Id)만 구독할 수 있음
+ */
+@RestController
+@RequestMapping("/api/v1/shops/{shopId}/order-stream")
+@Tag(name = "Shop Order Stream API", description = "가게 주문 스트림 API")
+public class ShopOrderStreamController {
+
+    private final ShopOrderStreamRegistry shopOrderStreamRegistry;
+    private final ShopAccessPolicy shopAccessPolicy;
+
+    public ShopOrderStreamController(ShopOrderStreamRegistry shopOrderStreamRegistry,
+                                     ShopAccessPolicy shopAccessPolicy) {
+        this.shopOrderStreamRegistry = shopOrderStreamRegistry;
+        this.shopAccessPolicy = shopAccessPolicy;
+    }
+
+    /**
+     * 가게 주문 스트림 구독 (Server-Sent Events)
+     * 주문 생성이 커밋될 때마다 "order" 이벤트를 전송하고, 재연결 시 Last-Event-ID 이후 놓친 주문을 재전송
+     * 처음 연결했거나 놓친 주문을 재전송할 수 없으면 "sync" 이벤트를 보내 주문 작업 큐에서 다시 조회하도록 함
+     * 다른 서버 인스턴스에서 커밋된 주문은 DB 피드 조회 주기(feed-poll-interval-millis)만큼 늦게 전달됨
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "가게 주문 스트림",
+        description = "가게의 새 주문을 SSE로 전송합니다. 연결이 끊기면 클라이언트가 Last-Event-ID 헤더로 재연결하여 놓친 주문을 받습니다. " +
+            "\"sync\" 이벤트를 받으면 주문 작업 큐에서 현재 주문을 다시 조회해야 합니다. " +
+            "연결된 서버가 아닌 다른 서버에서 접수된 주문은 DB 조회 주기(기본 2초)만큼 늦게 전달되며, " +
+            "sync 조회 결과와 스트림에 같은 주문이 함께 올 수 있으므로 주문 ID로 중복을 걸러야 합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "스트림 연결 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @ApiResponse(responseCode = "403", description = "구독 권한 없음 (운영자가 아니거나 다른 가게)")
+    })
+    public SseEmitter streamShopOrders(
+            @Parameter(description = "가게 ID", required = true, example = "shop-001")
+            @PathVariable String shopId,
+            @Parameter(description = "요청자 ID (운영자 요청)", example = "ops-1")
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @Parameter(description = "요청자가 인증된 가게 ID (가게 점주 요청)", example = "shop-001")
+            @RequestHeader(value = "X-Shop-Id", required = false) String requesterShopId,
+            @Parameter(description = "마지막으로 받은 이벤트 ID (재연결 시 EventSource가 자동 설정)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        if (shopId == null || shopId.trim().isEmpty()) {
+            throw new IllegalArgumentException("가게 ID는 필수입니다");
+        }
+        shopAccessPolicy.authorize(shopId, userId, requesterShopId);
+        return shopOrderStreamRegistry.subscribe(ShopId.of(shopId), lastEventId);
+    }
+}
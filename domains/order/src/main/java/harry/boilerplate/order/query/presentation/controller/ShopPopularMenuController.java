@@ -0,0 +1,53 @@
+package harry.boilerplate.order.query.presentation.controller;
+
+import harry.boilerplate.order.query.application.dto.PopularMenuQuery;
+import harry.boilerplate.order.query.application.dto.PopularMenuResult;
+import harry.boilerplate.order.query.application.handler.PopularMenuQueryHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 가게 인기 메뉴 Query API Controller
+ * 메뉴판 화면의 "인기 메뉴" 영역 조회
+ */
+@RestController
+@RequestMapping("/api/v1/shops/{shopId}/popular-menus")
+@Tag(name = "Shop Popular Menu API", description = "가게 인기 메뉴 조회 API")
+public class ShopPopularMenuController {
+    
+    private final PopularMenuQueryHandler popularMenuQueryHandler;
+    
+    public ShopPopularMenuController(PopularMenuQueryHandler popularMenuQueryHandler) {
+        this.popularMenuQueryHandler = popularMenuQueryHandler;
+    }
+    
+    /**
+     * 가게 인기 메뉴 조회
+     * 최근 주문일수록 크게 반영한 주문 수량 순 (서버 인스턴스별 메모리 집계)
+     */
+    @GetMapping
+    @Operation(
+        summary = "가게 인기 메뉴 조회",
+        description = "가게의 인기 메뉴를 최근 주문 수량(시간 감쇠 적용) 순으로 limit개 조회합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "인기 메뉴 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (조회 개수가 1~50을 벗어난 경우 등)"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<PopularMenuResult> getPopularMenus(
+            @Parameter(description = "가게 ID", required = true, example = "shop-001")
+            @PathVariable String shopId,
+            @Parameter(description = "조회 개수 (최대 50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        PopularMenuResult result = popularMenuQueryHandler.handle(new PopularMenuQuery(shopId, limit));
+        
+        return ResponseEntity.ok(result);
+    }
+}
@@ -8,12 +8,15 @@ import harry.boilerplate.order.command.domain.exception.CartErrorCode;
 import harry.boilerplate.order.command.domain.aggregate.Order;
 import harry.boilerplate.order.command.domain.entity.CartLineItem;
 import harry.boilerplate.order.command.domain.event.CartItemAddedEvent;
+import harry.boilerplate.order.command.domain.event.CartItemsRemovedEvent;
 import harry.boilerplate.order.command.domain.valueObject.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -250,9 +253,12 @@ class CartTest {
         List<OptionId> options = Arrays.asList(OptionId.of("option-1"));
 
         cart.addItem(shopId, menuId, options, 2);
+        Map<MenuId, MenuPriceTable> priceTables = Map.of(
+            menuId, MenuPriceTable.of(menuId, "v1", "짜장면", new BigDecimal("8000"),
+                Map.of("option-1", new BigDecimal("1000"))));
 
         // When
-        Order order = cart.placeOrder();
+        Order order = cart.placeOrder(priceTables);
 
         // Then
         assertThat(order).isNotNull();
@@ -260,6 +266,10 @@ class CartTest {
         assertThat(order.getShopId()).isEqualTo(shopId);
         assertThat(order.getOrderItems()).hasSize(1);
         assertThat(order.getTotalQuantity()).isEqualTo(2);
+        assertThat(order.getTotalPrice()).isEqualTo(Money.of(18000)); // (8,000 + 1,000) * 2
+        assertThat(order.getOrderItems().get(0).getMenuName()).isEqualTo("짜장면");
+        assertThat(order.getOrderItems().get(0).getSelectedOptions())
+                .containsExactly(new SelectedOption(OptionId.of("option-1"), "option-1", new BigDecimal("1000")));
 
         // 주문 후 장바구니가 비워졌는지 확인
         assertThat(cart.isEmpty()).isTrue();
@@ -273,7 +283,7 @@ class CartTest {
         Cart emptyCart = new Cart(userId);
 
         // When & Then
-        assertThatThrownBy(() -> emptyCart.placeOrder())
+        assertThatThrownBy(() -> emptyCart.placeOrder(Map.of()))
                 .isInstanceOf(CartDomainException.class)
                 .extracting(e -> ((CartDomainException) e).getErrorCode())
                 .isEqualTo(CartErrorCode.EMPTY_CART);
@@ -288,12 +298,31 @@ class CartTest {
         MenuId menuId2 = MenuId.of("menu-2");
         List<OptionId> options = Arrays.asList(OptionId.of("option-1"));
 
+        Map<MenuId, MenuPriceTable> priceTables = Map.of(
+            menuId1, MenuPriceTable.of(menuId1, "v1", "짜장면", new BigDecimal("9000"),
+                Map.of("option-1", new BigDecimal("1000"))),
+            menuId2, MenuPriceTable.of(menuId2, "v1", "짬뽕", new BigDecimal("9500"),
+                Map.of("option-1", new BigDecimal("500"))));
+
         // When
-        cart.addItem(menuId1, options, 2); // 2개 * 10,000원 = 20,000원
-        cart.addItem(menuId2, options, 1); // 1개 * 10,000원 = 10,000원
+        cart.addItem(menuId1, options, 2); // 2개 * (9,000원 + 1,000원) = 20,000원
+        cart.addItem(menuId2, options, 1); // 1개 * (9,500원 + 500원) = 10,000원
 
         // Then
-        assertThat(cart.getTotalPrice()).isEqualTo(Money.of(30000));
+        assertThat(cart.getTotalPrice(priceTables)).isEqualTo(Money.of(30000));
+    }
+
+    @Test
+    void 가격표가_없는_메뉴_금액_계산_실패() {
+        // Given
+        Cart cart = new Cart(UserId.of("user-1"));
+        cart.addItem(MenuId.of("menu-1"), List.of(), 1);
+
+        // When & Then
+        assertThatThrownBy(() -> cart.getTotalPrice(Map.of()))
+                .isInstanceOf(CartDomainException.class)
+                .extracting(e -> ((CartDomainException) e).getErrorCode())
+                .isEqualTo(CartErrorCode.MENU_NOT_AVAILABLE);
     }
 
     @Test
@@ -303,8 +332,8 @@ class CartTest {
         Cart emptyCart = new Cart(userId);
 
         // When & Then
-        assertThat(emptyCart.getTotalPrice()).isEqualTo(Money.zero());
-        assertThat(emptyCart.getTotalPrice().isZero()).isTrue();
+        assertThat(emptyCart.getTotalPrice(Map.of())).isEqualTo(Money.zero());
+        assertThat(emptyCart.getTotalPrice(Map.of()).isZero()).isTrue();
     }
     
     @Test
@@ -391,4 +420,34 @@ class CartTest {
         CartItemAddedEvent secondEvent = (CartItemAddedEvent) events.get(1);
         assertThat(secondEvent.getQuantity()).isEqualTo(3);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void 아이템_제거_및_비우기_시_CartItemsRemovedEvent_발행() {
+        // Given
+        UserId userId = UserId.of("user-1");
+        Cart cart = new Cart(userId);
+        ShopId shopId = ShopId.of("shop-1");
+        List<OptionId> options = Arrays.asList(OptionId.of("option-1"));
+        cart.addItem(shopId, MenuId.of("menu-1"), options, 1);
+        cart.addItem(shopId, MenuId.of("menu-2"), options, 1);
+        cart.clearDomainEvents();
+
+        // When
+        cart.removeItem(MenuId.of("menu-1"), options);
+        cart.removeItem(MenuId.of("menu-3"), options); // 없는 아이템은 이벤트 없음
+        cart.clear();
+
+        // Then
+        List<DomainEvent> events = cart.getDomainEvents();
+        assertThat(events).hasSize(2);
+        
+        CartItemsRemovedEvent removed = (CartItemsRemovedEvent) events.get(0);
+        assertThat(removed.getUserId()).isEqualTo(userId.getValue());
+        assertThat(removed.getShopId()).isEqualTo(shopId.getValue());
+        assertThat(removed.getRemainingItemCount()).isEqualTo(1);
+        
+        CartItemsRemovedEvent cleared = (CartItemsRemovedEvent) events.get(1);
+        assertThat(cleared.getShopId()).isEqualTo(shopId.getValue());
+        assertThat(cleared.getRemainingItemCount()).isZero();
+    }
+}
@@ -0,0 +1,104 @@
+package harry.boilerplate.order.command.domain;
+
+import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.order.command.domain.exception.CartDomainException;
+import harry.boilerplate.order.command.domain.exception.CartErrorCode;
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.MenuPriceTable;
+import harry.boilerplate.order.command.domain.valueObject.OptionId;
+import harry.boilerplate.order.command.domain.valueObject.SelectedOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MenuPriceTable 값 객체 테스트
+ */
+@DisplayName("MenuPriceTable 값 객체 테스트")
+class MenuPriceTableTest {
+
+    private final MenuId menuId = MenuId.of("menu-1");
+
+    private MenuPriceTable priceTable() {
+        Map<String, BigDecimal> options = new LinkedHashMap<>();
+        options.put("곱빼기", new BigDecimal("1000"));
+        options.put("계란 추가", new BigDecimal("500"));
+        options.put("보통", BigDecimal.ZERO);
+        return MenuPriceTable.of(menuId, "v1", "짜장면", new BigDecimal("8000"), options);
+    }
+
+    @Test
+    @DisplayName("기본가와 선택 옵션 가격을 합산하여 단가 계산")
+    void 기본가와_선택_옵션_가격을_합산하여_단가_계산() {
+        // When
+        Money unitPrice = priceTable().unitPrice(List.of(OptionId.of("곱빼기"), OptionId.of("계란 추가")));
+
+        // Then
+        assertThat(unitPrice).isEqualTo(Money.of(9500));
+    }
+
+    @Test
+    @DisplayName("라인 가격은 단가에 수량을 곱한 값")
+    void 라인_가격은_단가에_수량을_곱한_값() {
+        // When
+        Money linePrice = priceTable().linePrice(List.of(OptionId.of("곱빼기")), 3);
+
+        // Then
+        assertThat(linePrice).isEqualTo(Money.of(27000));
+    }
+
+    @Test
+    @DisplayName("옵션 선택이 없으면 기본가가 단가")
+    void 옵션_선택이_없으면_기본가가_단가() {
+        assertThat(priceTable().unitPrice(List.of())).isEqualTo(Money.of(8000));
+    }
+
+    @Test
+    @DisplayName("선택 옵션의 주문 시점 스냅샷 생성")
+    void 선택_옵션의_주문_시점_스냅샷_생성() {
+        // When
+        List<SelectedOption> snapshots = priceTable().toSelectedOptions(
+            List.of(OptionId.of("계란 추가"), OptionId.of("곱빼기")));
+
+        // Then
+        assertThat(snapshots).containsExactly(
+            new SelectedOption(OptionId.of("계란 추가"), "계란 추가", new BigDecimal("500")),
+            new SelectedOption(OptionId.of("곱빼기"), "곱빼기", new BigDecimal("1000"))
+        );
+    }
+
+    @Test
+    @DisplayName("메뉴에 없는 옵션 선택 시 예외 발생")
+    void 메뉴에_없는_옵션_선택_시_예외_발생() {
+        assertThatThrownBy(() -> priceTable().unitPrice(List.of(OptionId.of("없는옵션"))))
+            .isInstanceOf(CartDomainException.class)
+            .extracting(e -> ((CartDomainException) e).getErrorCode())
+            .isEqualTo(CartErrorCode.INVALID_OPTION_SELECTION);
+    }
+
+    @Test
+    @DisplayName("선택 옵션이 가격표에 모두 있는지 예외 없이 확인")
+    void 선택_옵션이_가격표에_모두_있는지_예외_없이_확인() {
+        MenuPriceTable priceTable = priceTable();
+
+        assertThat(priceTable.hasOptions(List.of(OptionId.of("곱빼기"), OptionId.of("보통")))).isTrue();
+        assertThat(priceTable.hasOptions(List.of())).isTrue();
+        assertThat(priceTable.hasOptions(List.of(OptionId.of("곱빼기"), OptionId.of("없는옵션")))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 메뉴와 버전의 가격표는 동등")
+    void 같은_메뉴와_버전의_가격표는_동등() {
+        MenuPriceTable other = MenuPriceTable.of(menuId, "v1", "짜장면", new BigDecimal("8000"), Map.of());
+
+        assertThat(priceTable()).isEqualTo(other);
+        assertThat(priceTable()).isNotEqualTo(
+            MenuPriceTable.of(menuId, "v2", "짜장면", new BigDecimal("8000"), Map.of()));
+    }
+}
@@ -3,6 +3,7 @@ package harry.boilerplate.order.command.domain;
 import harry.boilerplate.common.domain.entity.Money;
 import harry.boilerplate.order.command.domain.aggregate.Order;
 import harry.boilerplate.order.command.domain.entity.OrderLineItem;
+import harry.boilerplate.order.command.domain.event.OrderStatusChangedEvent;
 import harry.boilerplate.order.command.domain.exception.OrderDomainException;
 import harry.boilerplate.order.command.domain.exception.OrderErrorCode;
 import harry.boilerplate.order.command.domain.valueObject.*;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -174,6 +176,9 @@ class OrderTest {
 
             // Then
             assertThat(order.getPrice()).isEqualTo(Money.of(new BigDecimal("50000")));
+            assertThat(order.getOrderItems()).extracting(OrderLineItem::getLineNo).containsExactly(0, 1, 2);
+            assertThat(order.getOrderItems()).extracting(OrderLineItem::getMenuName)
+                .containsExactly("삼겹살", "냉면", "김치찌개");
         }
     }
 
@@ -272,4 +277,135 @@ class OrderTest {
             assertThat(order.isFromShop(ShopId.generate())).isFalse();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("주문 상태 및 작업 큐 선점")
+    class OrderStatusAndClaim {
+
+        private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        private Order newOrder() {
+            return new Order(UserId.generate(), ShopId.generate(), Arrays.asList(
+                new OrderLineItem(
+                    MenuId.of("menu-1"), "삼겹살",
+                    Arrays.asList(), 1, Money.of(new BigDecimal("15000"))
+                )
+            ));
+        }
+
+        @Test
+        @DisplayName("새 주문은 접수 대기 상태")
+        void 새_주문은_접수_대기_상태() {
+            assertThat(newOrder().getStatus()).isEqualTo(OrderStatus.PLACED);
+        }
+
+        @Test
+        @DisplayName("허용된 순서로 상태 변경 시 상태 변경 이벤트 발행")
+        void 허용된_순서로_상태_변경_시_상태_변경_이벤트_발행() {
+            // Given
+            Order order = newOrder();
+            order.clearDomainEvents();
+
+            // When
+            order.changeStatus(OrderStatus.ACCEPTED, "tablet-1", now);
+            order.changeStatus(OrderStatus.PREPARING, "tablet-1", now);
+
+            // Then
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.PREPARING);
+            assertThat(order.getStatusChangedAt()).isEqualTo(now);
+            assertThat(order.getDomainEvents()).hasSize(2);
+            OrderStatusChangedEvent last = (OrderStatusChangedEvent) order.getDomainEvents().get(1);
+            assertThat(last.getPreviousStatus()).isEqualTo("ACCEPTED");
+            assertThat(last.getStatus()).isEqualTo("PREPARING");
+        }
+
+        @Test
+        @DisplayName("허용되지 않은 상태 변경 시 예외 발생")
+        void 허용되지_않은_상태_변경_시_예외_발생() {
+            Order order = newOrder();
+
+            assertThatThrownBy(() -> order.changeStatus(OrderStatus.DELIVERING, "tablet-1", now))
+                    .isInstanceOf(OrderDomainException.class)
+                    .extracting(e -> ((OrderDomainException) e).getErrorCode())
+                    .isEqualTo(OrderErrorCode.INVALID_STATUS_TRANSITION);
+        }
+
+        @Test
+        @DisplayName("조리 시작 후에는 취소 불가")
+        void 조리_시작_후에는_취소_불가() {
+            Order order = newOrder();
+            order.changeStatus(OrderStatus.ACCEPTED, "tablet-1", now);
+            order.changeStatus(OrderStatus.PREPARING, "tablet-1", now);
+
+            assertThatThrownBy(() -> order.changeStatus(OrderStatus.CANCELLED, "tablet-1", now))
+                    .isInstanceOf(OrderDomainException.class);
+        }
+
+        @Test
+        @DisplayName("다른 작업자가 선점 중인 주문은 상태 변경 불가")
+        void 다른_작업자가_선점_중인_주문은_상태_변경_불가() {
+            // Given
+            Order order = newOrder();
+            order.claim("tablet-1", now, now.plusSeconds(60));
+
+            // When & Then
+            assertThatThrownBy(() -> order.changeStatus(OrderStatus.ACCEPTED, "tablet-2", now))
+                    .isInstanceOf(OrderDomainException.class)
+                    .extracting(e -> ((OrderDomainException) e).getErrorCode())
+                    .isEqualTo(OrderErrorCode.ORDER_CLAIMED_BY_OTHER);
+        }
+
+        @Test
+        @DisplayName("선점한 작업자가 상태를 바꾸면 선점 해제")
+        void 선점한_작업자가_상태를_바꾸면_선점_해제() {
+            // Given
+            Order order = newOrder();
+            order.claim("tablet-1", now, now.plusSeconds(60));
+            assertThat(order.isClaimedBy("tablet-1", now)).isTrue();
+
+            // When
+            order.changeStatus(OrderStatus.ACCEPTED, "tablet-1", now.plusSeconds(10));
+
+            // Then
+            assertThat(order.getClaimedBy()).isNull();
+            assertThat(order.getClaimExpiresAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("선점 시간이 지나면 다른 작업자가 다시 선점 가능")
+        void 선점_시간이_지나면_다른_작업자가_다시_선점_가능() {
+            // Given
+            Order order = newOrder();
+            order.claim("tablet-1", now, now.plusSeconds(60));
+
+            // When
+            assertThatThrownBy(() -> order.claim("tablet-2", now.plusSeconds(30), now.plusSeconds(90)))
+                    .isInstanceOf(OrderDomainException.class);
+            order.claim("tablet-2", now.plusSeconds(61), now.plusSeconds(121));
+
+            // Then
+            assertThat(order.isClaimedBy("tablet-2", now.plusSeconds(61))).isTrue();
+            assertThat(order.isClaimedBy("tablet-1", now.plusSeconds(61))).isFalse();
+        }
+
+        @Test
+        @DisplayName("종료된 주문은 선점 불가")
+        void 종료된_주문은_선점_불가() {
+            Order order = newOrder();
+            order.changeStatus(OrderStatus.CANCELLED, "tablet-1", now);
+
+            assertThatThrownBy(() -> order.claim("tablet-1", now, now.plusSeconds(60)))
+                    .isInstanceOf(OrderDomainException.class)
+                    .extracting(e -> ((OrderDomainException) e).getErrorCode())
+                    .isEqualTo(OrderErrorCode.INVALID_ORDER_STATUS);
+        }
+
+        @Test
+        @DisplayName("문자열로 주문 상태 변환")
+        void 문자열로_주문_상태_변환() {
+            assertThat(OrderStatus.from("preparing")).isEqualTo(OrderStatus.PREPARING);
+            assertThatThrownBy(() -> OrderStatus.from("UNKNOWN"))
+                    .isInstanceOf(OrderDomainException.class);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package harry.boilerplate.order.command.handler;
+
+import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.common.exception.ForbiddenException;
+import harry.boilerplate.order.command.application.dto.ClaimOrdersCommand;
+import harry.boilerplate.order.command.application.dto.ClaimOrdersResult;
+import harry.boilerplate.order.command.application.handler.ClaimOrdersCommandHandler;
+import harry.boilerplate.order.command.domain.aggregate.Order;
+import harry.boilerplate.order.command.domain.aggregate.OrderRepository;
+import harry.boilerplate.order.command.domain.entity.OrderLineItem;
+import harry.boilerplate.order.command.domain.exception.OrderDomainException;
+import harry.boilerplate.order.command.domain.exception.OrderErrorCode;
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimOrdersCommandHandler 테스트")
+class ClaimOrdersCommandHandlerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private ClaimOrdersCommandHandler claimOrdersCommandHandler;
+
+    @BeforeEach
+    void setUp() {
+        claimOrdersCommandHandler = new ClaimOrdersCommandHandler(orderRepository, 60, 20);
+    }
+
+    @Test
+    @DisplayName("선점 시간만큼의 임대 기간으로 주문 선점")
+    void 선점_시간만큼의_임대_기간으로_주문_선점() {
+        // Given
+        Order order = new Order(UserId.of("user-1"), ShopId.of("shop-1"), List.of(
+            new OrderLineItem(MenuId.of("menu-1"), "짜장면", List.of(), 2, Money.of(new BigDecimal("8000")))));
+        when(orderRepository.claimOrders(eq(ShopId.of("shop-1")), eq(OrderStatus.PLACED), eq("tablet-1"),
+                eq(5), any(LocalDateTime.class), any(LocalDateTime.class)))
+            .thenReturn(List.of(order));
+
+        // When
+        ClaimOrdersResult result = claimOrdersCommandHandler.handle(
+            new ClaimOrdersCommand("shop-1", "tablet-1", "PLACED", 5, "shop-1"));
+
+        // Then
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(orderRepository).claimOrders(any(), any(), any(), anyInt(), now.capture(), leaseUntil.capture());
+        assertThat(leaseUntil.getValue()).isEqualTo(now.getValue().plusSeconds(60));
+
+        assertThat(result.getOrders()).hasSize(1);
+        assertThat(result.getOrders().get(0).getOrderId()).isEqualTo(order.getId().getValue());
+        assertThat(result.getOrders().get(0).getItems().get(0).getMenuName()).isEqualTo("짜장면");
+    }
+
+    @Test
+    @DisplayName("최대 선점 개수를 넘는 요청은 최대 개수로 제한")
+    void 최대_선점_개수를_넘는_요청은_최대_개수로_제한() {
+        // Given
+        when(orderRepository.claimOrders(any(), any(), any(), anyInt(), any(), any())).thenReturn(List.of());
+
+        // When
+        ClaimOrdersResult result = claimOrdersCommandHandler.handle(
+            new ClaimOrdersCommand("shop-1", "tablet-1", null, 100, "shop-1"));
+
+        // Then
+        verify(orderRepository).claimOrders(eq(ShopId.of("shop-1")), eq(OrderStatus.PLACED), eq("tablet-1"),
+            eq(20), any(), any());
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업자 ID 없이 선점 시 예외 발생")
+    void 작업자_ID_없이_선점_시_예외_발생() {
+        assertThatThrownBy(() -> claimOrdersCommandHandler.handle(
+                new ClaimOrdersCommand("shop-1", " ", "PLACED", 5, "shop-1")))
+            .isInstanceOf(OrderDomainException.class)
+            .extracting(e -> ((OrderDomainException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.INVALID_CLAIMANT);
+
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("작업 큐에서 처리하지 않는 상태는 선점 불가")
+    void 작업_큐에서_처리하지_않는_상태는_선점_불가() {
+        assertThatThrownBy(() -> claimOrdersCommandHandler.handle(
+                new ClaimOrdersCommand("shop-1", "tablet-1", "COMPLETED", 5, "shop-1")))
+            .isInstanceOf(OrderDomainException.class)
+            .extracting(e -> ((OrderDomainException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.INVALID_ORDER_STATUS);
+
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("다른 가게의 주문은 선점 불가")
+    void 다른_가게의_주문은_선점_불가() {
+        assertThatThrownBy(() -> claimOrdersCommandHandler.handle(
+                new ClaimOrdersCommand("shop-1", "tablet-1", "PLACED", 5, "shop-2")))
+            .isInstanceOf(ForbiddenException.class)
+            .extracting(e -> ((ForbiddenException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.CLAIM_NOT_ALLOWED);
+
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("요청자의 가게 ID 없이 선점 시 예외 발생")
+    void 요청자의_가게_ID_없이_선점_시_예외_발생() {
+        assertThatThrownBy(() -> claimOrdersCommandHandler.handle(
+                new ClaimOrdersCommand("shop-1", "tablet-1", "PLACED", 5, null)))
+            .isInstanceOf(ForbiddenException.class)
+            .extracting(e -> ((ForbiddenException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.CLAIM_NOT_ALLOWED);
+
+        verifyNoInteractions(orderRepository);
+    }
+}
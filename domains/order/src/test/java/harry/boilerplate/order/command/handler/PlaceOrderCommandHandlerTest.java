@@ -1,7 +1,9 @@
 package harry.boilerplate.order.command.handler;
 
+import harry.boilerplate.common.domain.entity.Money;
 import harry.boilerplate.order.command.application.dto.PlaceOrderCommand;
 import harry.boilerplate.order.command.application.handler.PlaceOrderCommandHandler;
+import harry.boilerplate.order.command.application.service.CartPricingService;
 import harry.boilerplate.order.command.domain.aggregate.Cart;
 import harry.boilerplate.order.command.domain.aggregate.CartRepository;
 import harry.boilerplate.order.command.domain.aggregate.Order;
@@ -11,6 +13,7 @@ import harry.boilerplate.order.command.domain.exception.CartErrorCode;
 import harry.boilerplate.order.command.domain.exception.OrderDomainException;
 import harry.boilerplate.order.command.domain.exception.OrderErrorCode;
 import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.MenuPriceTable;
 import harry.boilerplate.order.command.domain.valueObject.OptionId;
 import harry.boilerplate.order.command.domain.valueObject.ShopId;
 import harry.boilerplate.order.command.domain.valueObject.UserId;
@@ -25,7 +28,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -49,6 +54,9 @@ class PlaceOrderCommandHandlerTest {
     @Mock
     private ShopApiClient shopApiClient;
 
+    @Mock
+    private CartPricingService cartPricingService;
+
     @InjectMocks
     private PlaceOrderCommandHandler placeOrderCommandHandler;
 
@@ -65,13 +73,23 @@ class PlaceOrderCommandHandlerTest {
         command = new PlaceOrderCommand("user-1");
     }
 
+    private void stubPricing(String minOrderAmount) {
+        Map<MenuId, MenuPriceTable> priceTables = Map.of(
+            MenuId.of("menu-1"),
+            MenuPriceTable.of(MenuId.of("menu-1"), "v1", "짜장면", new BigDecimal("8000"),
+                Map.of("option-1", new BigDecimal("1000"))));
+        when(cartPricingService.loadPriceTables(any(Cart.class))).thenReturn(priceTables);
+        when(shopApiClient.getShop(anyString()))
+            .thenReturn(new ShopApiClient.ShopInfoResponse(true, new BigDecimal(minOrderAmount)));
+    }
+
     @Test
     @DisplayName("주문 생성 성공")
     void 주문_생성_성공() {
         // Given
         when(userApiClient.isValidUser(anyString())).thenReturn(true);
-        when(shopApiClient.isShopOpen(anyString())).thenReturn(true);
         when(cartRepository.findByUserIdOptional(any(UserId.class))).thenReturn(Optional.of(cart));
+        stubPricing("10000");
 
         // When
         String orderId = placeOrderCommandHandler.handle(command);
@@ -81,6 +99,7 @@ class PlaceOrderCommandHandlerTest {
         
         verify(userApiClient).isValidUser("user-1");
         verify(cartRepository).findByUserIdOptional(any(UserId.class));
+        verify(shopApiClient, times(1)).getShop("shop-1");
         verify(orderRepository).save(any(Order.class));
         verify(cartRepository).save(cart);
         
@@ -183,7 +202,7 @@ class PlaceOrderCommandHandlerTest {
         // Given
         when(userApiClient.isValidUser(anyString())).thenReturn(true);
         when(cartRepository.findByUserIdOptional(any(UserId.class))).thenReturn(Optional.of(cart));
-        when(shopApiClient.isShopOpen(anyString())).thenReturn(true);
+        stubPricing("10000");
         doThrow(new RuntimeException("데이터베이스 오류")).when(orderRepository).save(any(Order.class));
 
         // When & Then
@@ -203,7 +222,7 @@ class PlaceOrderCommandHandlerTest {
         // Given
         when(userApiClient.isValidUser(anyString())).thenReturn(true);
         when(cartRepository.findByUserIdOptional(any(UserId.class))).thenReturn(Optional.of(cart));
-        when(shopApiClient.isShopOpen(anyString())).thenReturn(true);
+        stubPricing("10000");
         doThrow(new RuntimeException("장바구니 저장 오류")).when(cartRepository).save(any(Cart.class));
 
         // When & Then
@@ -223,7 +242,7 @@ class PlaceOrderCommandHandlerTest {
         // Given
         when(userApiClient.isValidUser(anyString())).thenReturn(true);
         when(cartRepository.findByUserIdOptional(any(UserId.class))).thenReturn(Optional.of(cart));
-        when(shopApiClient.isShopOpen(anyString())).thenReturn(true);
+        stubPricing("10000");
 
         // When
         String orderId = placeOrderCommandHandler.handle(command);
@@ -244,7 +263,7 @@ class PlaceOrderCommandHandlerTest {
         // Given
         when(userApiClient.isValidUser(anyString())).thenReturn(true);
         when(cartRepository.findByUserIdOptional(any(UserId.class))).thenReturn(Optional.of(cart));
-        when(shopApiClient.isShopOpen(anyString())).thenReturn(true);
+        stubPricing("10000");
 
         // When
         placeOrderCommandHandler.handle(command);
@@ -255,7 +274,28 @@ class PlaceOrderCommandHandlerTest {
             assertThat(order.getShopId()).isEqualTo(ShopId.of("shop-1")); // cart.getShopId() 대신 직접 값 사용
             assertThat(order.getOrderItems()).hasSize(1); // cart에서 생성된 OrderLineItem 1개
             assertThat(order.getTotalQuantity()).isEqualTo(2); // setUp에서 설정한 quantity
+            assertThat(order.getTotalPrice()).isEqualTo(Money.of(18000)); // (8,000 + 1,000) * 2
+            assertThat(order.getOrderItems().get(0).getMenuName()).isEqualTo("짜장면");
             return true;
         }));
     }
+
+    @Test
+    @DisplayName("가게 최소 주문금액 미달 시 예외 발생")
+    void 가게_최소_주문금액_미달_시_예외_발생() {
+        // Given
+        when(userApiClient.isValidUser(anyString())).thenReturn(true);
+        when(cartRepository.findByUserIdOptional(any(UserId.class))).thenReturn(Optional.of(cart));
+        stubPricing("20000"); // 장바구니 금액 18,000원
+
+        // When & Then
+        assertThatThrownBy(() -> placeOrderCommandHandler.handle(command))
+                .isInstanceOf(OrderDomainException.class)
+                .extracting(e -> ((OrderDomainException) e).getErrorCode())
+                .isEqualTo(OrderErrorCode.MINIMUM_ORDER_AMOUNT_NOT_MET);
+
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(cartRepository, never()).save(any(Cart.class));
+        assertThat(cart.isEmpty()).isFalse();
+    }
 }
\ No newline at end of file
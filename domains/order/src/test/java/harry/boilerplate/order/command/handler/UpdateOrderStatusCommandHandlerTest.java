@@ -0,0 +1,157 @@
+package harry.boilerplate.order.command.handler;
+
+import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.common.exception.ForbiddenException;
+import harry.boilerplate.order.command.application.dto.UpdateOrderStatusCommand;
+import harry.boilerplate.order.command.application.handler.UpdateOrderStatusCommandHandler;
+import harry.boilerplate.order.command.domain.aggregate.Order;
+import harry.boilerplate.order.command.domain.aggregate.OrderRepository;
+import harry.boilerplate.order.command.domain.entity.OrderLineItem;
+import harry.boilerplate.order.command.domain.exception.OrderDomainException;
+import harry.boilerplate.order.command.domain.exception.OrderErrorCode;
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.OrderId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateOrderStatusCommandHandler 테스트")
+class UpdateOrderStatusCommandHandlerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private UpdateOrderStatusCommandHandler updateOrderStatusCommandHandler;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        order = new Order(UserId.of("user-1"), ShopId.of("shop-1"), List.of(
+            new OrderLineItem(MenuId.of("menu-1"), "짜장면", List.of(), 1, Money.of(new BigDecimal("8000")))));
+    }
+
+    @Test
+    @DisplayName("선점한 작업자의 주문 상태 변경 성공")
+    void 주문_상태_변경_성공() {
+        // Given
+        String orderId = order.getId().getValue();
+        order.claim("tablet-1", LocalDateTime.now(), LocalDateTime.now().plusMinutes(1));
+        when(orderRepository.findByIdOptional(OrderId.of(orderId))).thenReturn(Optional.of(order));
+
+        // When
+        updateOrderStatusCommandHandler.handle(new UpdateOrderStatusCommand(orderId, "tablet-1", "ACCEPTED"));
+
+        // Then
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+        verify(orderRepository).save(order);
+    }
+
+    @Test
+    @DisplayName("가게 점주는 선점 없이 자기 가게 주문 상태 변경 성공")
+    void 가게_점주는_선점_없이_자기_가게_주문_상태_변경_성공() {
+        // Given
+        String orderId = order.getId().getValue();
+        when(orderRepository.findByIdOptional(OrderId.of(orderId))).thenReturn(Optional.of(order));
+
+        // When
+        updateOrderStatusCommandHandler.handle(new UpdateOrderStatusCommand(orderId, "owner-1", "ACCEPTED", "shop-1"));
+
+        // Then
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+        verify(orderRepository).save(order);
+    }
+
+    @Test
+    @DisplayName("선점하지 않은 작업자나 다른 가게의 상태 변경 요청은 권한 없음")
+    void 선점하지_않은_작업자나_다른_가게의_상태_변경_요청은_권한_없음() {
+        // Given
+        String orderId = order.getId().getValue();
+        order.claim("tablet-1", LocalDateTime.now(), LocalDateTime.now().plusMinutes(1));
+        when(orderRepository.findByIdOptional(OrderId.of(orderId))).thenReturn(Optional.of(order));
+
+        // When & Then
+        assertThatThrownBy(() -> updateOrderStatusCommandHandler.handle(
+                new UpdateOrderStatusCommand(orderId, "tablet-2", "ACCEPTED")))
+            .isInstanceOf(ForbiddenException.class)
+            .extracting(e -> ((ForbiddenException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.STATUS_CHANGE_NOT_ALLOWED);
+        assertThatThrownBy(() -> updateOrderStatusCommandHandler.handle(
+                new UpdateOrderStatusCommand(orderId, "owner-2", "ACCEPTED", "shop-2")))
+            .isInstanceOf(ForbiddenException.class);
+
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다른 작업자가 선점한 주문은 가게 점주도 상태 변경 시 예외 발생")
+    void 다른_작업자가_선점한_주문_상태_변경_시_예외_발생() {
+        // Given
+        String orderId = order.getId().getValue();
+        order.claim("tablet-1", LocalDateTime.now(), LocalDateTime.now().plusMinutes(1));
+        when(orderRepository.findByIdOptional(OrderId.of(orderId))).thenReturn(Optional.of(order));
+
+        // When & Then
+        assertThatThrownBy(() -> updateOrderStatusCommandHandler.handle(
+                new UpdateOrderStatusCommand(orderId, "owner-1", "ACCEPTED", "shop-1")))
+            .isInstanceOf(OrderDomainException.class)
+            .extracting(e -> ((OrderDomainException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.ORDER_CLAIMED_BY_OTHER);
+
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("주문 취소는 주문한 사용자만 가능")
+    void 주문_취소는_주문한_사용자만_가능() {
+        // Given
+        String orderId = order.getId().getValue();
+        when(orderRepository.findByIdOptional(OrderId.of(orderId))).thenReturn(Optional.of(order));
+
+        // When & Then
+        assertThatThrownBy(() -> updateOrderStatusCommandHandler.handle(
+                new UpdateOrderStatusCommand(orderId, "owner-1", "CANCELLED", "shop-1")))
+            .isInstanceOf(ForbiddenException.class)
+            .extracting(e -> ((ForbiddenException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.ORDER_CANCEL_NOT_ALLOWED);
+
+        // When
+        updateOrderStatusCommandHandler.handle(new UpdateOrderStatusCommand(orderId, "user-1", "CANCELLED"));
+
+        // Then
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(orderRepository, times(1)).save(order);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 주문 상태 변경 시 예외 발생")
+    void 존재하지_않는_주문_상태_변경_시_예외_발생() {
+        // Given
+        when(orderRepository.findByIdOptional(any())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> updateOrderStatusCommandHandler.handle(
+                new UpdateOrderStatusCommand("order-x", "tablet-1", "ACCEPTED")))
+            .isInstanceOf(OrderDomainException.class)
+            .extracting(e -> ((OrderDomainException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.ORDER_NOT_FOUND);
+    }
+}
@@ -0,0 +1,162 @@
+package harry.boilerplate.order.command.infrastructure.external.shop;
+
+import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.MenuPriceTable;
+import harry.boilerplate.order.command.domain.valueObject.OptionId;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.command.infrastructure.external.shop.ShopApiClient.MenuInfoResponse;
+import harry.boilerplate.order.command.infrastructure.external.shop.ShopApiClient.OptionInfoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuPriceTableCache 테스트")
+class MenuPriceTableCacheTest {
+
+    private static final String SHOP_ID = "shop-1";
+
+    private static final List<MenuId> MENU_IDS = List.of(MenuId.of("menu-1"), MenuId.of("menu-2"));
+
+    private static final List<OptionInfoResponse> LARGE_OPTION =
+        List.of(new OptionInfoResponse("곱빼기", new BigDecimal("1000")));
+
+    @Mock
+    private ShopApiClient shopApiClient;
+
+    private static MenuInfoResponse menu(String menuId, String version, String basePrice,
+                                         List<OptionInfoResponse> options) {
+        return new MenuInfoResponse(menuId, "메뉴-" + menuId, "설명", new BigDecimal(basePrice), true, version, options);
+    }
+
+    @Test
+    @DisplayName("버전 확인 주기 안에서는 Shop API 호출 없이 메모이제이션된 가격표 사용")
+    void 버전_확인_주기_안에서는_메모이제이션된_가격표_사용() {
+        // Given
+        MenuPriceTableCache cache = new MenuPriceTableCache(shopApiClient, 60_000);
+        when(shopApiClient.getMenus(eq(SHOP_ID), anyCollection())).thenReturn(List.of(
+            menu("menu-1", "v1", "8000", LARGE_OPTION),
+            menu("menu-2", "v1", "6000", List.of())));
+
+        // When
+        Map<MenuId, MenuPriceTable> first = cache.loadPriceTables(ShopId.of(SHOP_ID), MENU_IDS);
+        Map<MenuId, MenuPriceTable> second = cache.loadPriceTables(ShopId.of(SHOP_ID), MENU_IDS);
+
+        // Then
+        assertThat(second.get(MenuId.of("menu-1"))).isSameAs(first.get(MenuId.of("menu-1")));
+        verify(shopApiClient, times(1)).getMenus(eq(SHOP_ID), anyCollection());
+    }
+
+    @Test
+    @DisplayName("메뉴 버전이 같으면 재확인 후에도 가격표 재사용")
+    void 메뉴_버전이_같으면_재확인_후에도_가격표_재사용() {
+        // Given
+        MenuPriceTableCache cache = new MenuPriceTableCache(shopApiClient, 0);
+        when(shopApiClient.getMenus(eq(SHOP_ID), anyCollection())).thenReturn(List.of(
+            menu("menu-1", "v1", "8000", LARGE_OPTION),
+            menu("menu-2", "v1", "6000", List.of())));
+
+        // When
+        Map<MenuId, MenuPriceTable> first = cache.loadPriceTables(ShopId.of(SHOP_ID), MENU_IDS);
+        Map<MenuId, MenuPriceTable> second = cache.loadPriceTables(ShopId.of(SHOP_ID), MENU_IDS);
+
+        // Then
+        assertThat(second.get(MenuId.of("menu-1"))).isSameAs(first.get(MenuId.of("menu-1")));
+        verify(shopApiClient, times(2)).getMenus(eq(SHOP_ID), anyCollection());
+    }
+
+    @Test
+    @DisplayName("메뉴 버전이 바뀌면 가격표를 다시 생성")
+    void 메뉴_버전이_바뀌면_가격표를_다시_생성() {
+        // Given
+        MenuPriceTableCache cache = new MenuPriceTableCache(shopApiClient, 0);
+        when(shopApiClient.getMenus(SHOP_ID, List.of("menu-1"))).thenReturn(
+            List.of(menu("menu-1", "v1", "8000", List.of())),
+            List.of(menu("menu-1", "v2", "9000", List.of())));
+
+        // When
+        MenuPriceTable before = cache.loadPriceTables(ShopId.of(SHOP_ID), List.of(MenuId.of("menu-1")))
+            .get(MenuId.of("menu-1"));
+        MenuPriceTable after = cache.loadPriceTables(ShopId.of(SHOP_ID), List.of(MenuId.of("menu-1")))
+            .get(MenuId.of("menu-1"));
+
+        // Then
+        assertThat(before.getBasePrice()).isEqualTo(Money.of(8000));
+        assertThat(after.getVersion()).isEqualTo("v2");
+        assertThat(after.getBasePrice()).isEqualTo(Money.of(9000));
+    }
+
+    @Test
+    @DisplayName("응답에 옵션이 없으면 메뉴 옵션을 개별 조회")
+    void 응답에_옵션이_없으면_메뉴_옵션을_개별_조회() {
+        // Given
+        MenuPriceTableCache cache = new MenuPriceTableCache(shopApiClient, 60_000);
+        when(shopApiClient.getMenus(SHOP_ID, List.of("menu-1")))
+            .thenReturn(List.of(menu("menu-1", "v1", "8000", null)));
+        when(shopApiClient.getMenuOptions(SHOP_ID, "menu-1")).thenReturn(LARGE_OPTION);
+
+        // When
+        MenuPriceTable priceTable = cache.loadPriceTables(ShopId.of(SHOP_ID), List.of(MenuId.of("menu-1")))
+            .get(MenuId.of("menu-1"));
+
+        // Then
+        assertThat(priceTable.unitPrice(List.of(OptionId.of("곱빼기")))).isEqualTo(Money.of(9000));
+        verify(shopApiClient, times(1)).getMenuOptions(SHOP_ID, "menu-1");
+    }
+
+    @Test
+    @DisplayName("조회할 수 없는 메뉴는 가격표에서 제외")
+    void 조회할_수_없는_메뉴는_가격표에서_제외() {
+        // Given
+        MenuPriceTableCache cache = new MenuPriceTableCache(shopApiClient, 60_000);
+        when(shopApiClient.getMenus(SHOP_ID, List.of("menu-x"))).thenReturn(List.of());
+
+        // When
+        Map<MenuId, MenuPriceTable> priceTables =
+            cache.loadPriceTables(ShopId.of(SHOP_ID), List.of(MenuId.of("menu-x")));
+
+        // Then
+        assertThat(priceTables).isEmpty();
+        verify(shopApiClient, never()).getMenuOptions(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 쓰지 않은 가격표부터 제거")
+    void 최대_개수를_넘으면_가장_오래_쓰지_않은_가격표부터_제거() {
+        // Given
+        MenuPriceTableCache cache = new MenuPriceTableCache(shopApiClient, 60_000);
+        when(shopApiClient.getMenus(eq(SHOP_ID), anyCollection())).thenAnswer(invocation -> {
+            Collection<String> menuIds = invocation.getArgument(1);
+            return menuIds.stream().map(menuId -> menu(menuId, "v1", "1000", List.of())).toList();
+        });
+        List<MenuId> menuIds = new ArrayList<>();
+        for (int i = 0; i < MenuPriceTableCache.MAX_PRICE_TABLES; i++) {
+            menuIds.add(MenuId.of("menu-" + i));
+        }
+        cache.loadPriceTables(ShopId.of(SHOP_ID), menuIds);
+        // 가장 먼저 넣은 메뉴를 다시 사용해 최근 사용으로 만듦
+        cache.loadPriceTables(ShopId.of(SHOP_ID), List.of(MenuId.of("menu-0")));
+
+        // When
+        cache.loadPriceTables(ShopId.of(SHOP_ID), List.of(MenuId.of("menu-new")));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(MenuPriceTableCache.MAX_PRICE_TABLES);
+        cache.loadPriceTables(ShopId.of(SHOP_ID), List.of(MenuId.of("menu-0")));
+        cache.loadPriceTables(ShopId.of(SHOP_ID), List.of(MenuId.of("menu-1")));
+        verify(shopApiClient, never()).getMenus(SHOP_ID, List.of("menu-0"));
+        verify(shopApiClient, times(1)).getMenus(SHOP_ID, List.of("menu-1"));
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
@@ -173,6 +174,61 @@ class ShopApiClientImplTest {
         assertThat(result.isOpen()).isTrue();
     }
 
+    @Test
+    @DisplayName("메뉴 정보 조회 - 수정 시각을 메뉴 버전으로 사용")
+    void getMenu_수정시각_버전으로_반환() {
+        // Given
+        wireMockServer.stubFor(get(urlEqualTo("/api/shops/" + shopId + "/menus/" + menuId))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody("""
+                    {
+                        "menu": {
+                            "id": "%s",
+                            "name": "짜장면",
+                            "basePrice": 8000,
+                            "open": true,
+                            "updatedAt": "2024-01-01T10:00:00Z"
+                        }
+                    }
+                    """.formatted(menuId))));
+
+        // When
+        ShopApiClient.MenuInfoResponse result = shopApiClient.getMenu(shopId, menuId);
+
+        // Then
+        assertThat(result.getVersion()).isEqualTo("2024-01-01T10:00:00Z");
+    }
+
+    @Test
+    @DisplayName("가게 영업 상태와 최소 주문금액 조회 - 성공")
+    void getShop_정상조회_영업상태와_최소주문금액_반환() {
+        // Given
+        wireMockServer.stubFor(get(urlEqualTo("/api/shops/" + shopId))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody("""
+                    {
+                        "shop": {
+                            "id": "%s",
+                            "name": "테스트 가게",
+                            "open": true,
+                            "minOrderAmount": 15000
+                        }
+                    }
+                    """.formatted(shopId))));
+
+        // When
+        ShopApiClient.ShopInfoResponse result = shopApiClient.getShop(shopId);
+
+        // Then
+        assertThat(result.isOpen()).isTrue();
+        assertThat(result.getMinOrderAmount()).isEqualByComparingTo("15000");
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api/shops/" + shopId)));
+    }
+
     @Test
     @DisplayName("메뉴 정보 조회 - 메뉴를 찾을 수 없음")
     void getMenu_메뉴없음_예외발생() {
@@ -241,6 +297,80 @@ class ShopApiClientImplTest {
         assertThat(option3.getPrice()).isEqualByComparingTo(new BigDecimal("1000"));
     }
 
+    @Test
+    @DisplayName("메뉴 일괄 조회 - 옵션 포함 한 번의 요청")
+    void getMenus_정상조회_옵션포함_메뉴목록_반환() {
+        // Given
+        wireMockServer.stubFor(get(urlEqualTo("/api/shops/" + shopId + "/menus?ids=menu-1,menu-2"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody("""
+                    {
+                        "menus": [
+                            {
+                                "id": "menu-1",
+                                "name": "짜장면",
+                                "basePrice": 8000,
+                                "open": true,
+                                "updatedAt": "2024-01-01T00:00:00Z",
+                                "optionGroups": [
+                                    { "options": [ { "name": "곱빼기", "price": 1000 } ] }
+                                ]
+                            },
+                            {
+                                "id": "menu-2",
+                                "name": "짬뽕",
+                                "basePrice": 9000,
+                                "open": true,
+                                "optionGroups": []
+                            }
+                        ]
+                    }
+                    """)));
+
+        // When
+        List<ShopApiClient.MenuInfoResponse> result = shopApiClient.getMenus(shopId, List.of("menu-1", "menu-2"));
+
+        // Then
+        assertThat(result).extracting(ShopApiClient.MenuInfoResponse::getId).containsExactly("menu-1", "menu-2");
+        assertThat(result.get(0).getVersion()).isEqualTo("2024-01-01T00:00:00Z");
+        assertThat(result.get(0).getOptions()).extracting(ShopApiClient.OptionInfoResponse::getName)
+            .containsExactly("곱빼기");
+        assertThat(result.get(1).getOptions()).isEmpty();
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api/shops/" + shopId + "/menus?ids=menu-1,menu-2")));
+    }
+
+    @Test
+    @DisplayName("가게 디렉터리 조회 - 변경 시각 이후 변경분")
+    void getShopDirectory_변경시각지정_변경분_반환() {
+        // Given
+        Instant updatedSince = Instant.parse("2024-01-01T00:00:00Z");
+        wireMockServer.stubFor(get(urlEqualTo("/api/shops/directory?updatedSince=2024-01-01T00:00:00Z"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody("""
+                    {
+                        "shops": [
+                            { "id": "shop-1", "name": "중국집", "minOrderAmount": 15000, "updatedAt": "2024-01-01T00:00:01Z" },
+                            { "id": "shop-2", "name": "분식집", "minOrderAmount": null, "updatedAt": 1704067202.5 }
+                        ]
+                    }
+                    """)));
+
+        // When
+        List<ShopApiClient.ShopDirectoryEntryResponse> result = shopApiClient.getShopDirectory(updatedSince);
+
+        // Then
+        assertThat(result).extracting(ShopApiClient.ShopDirectoryEntryResponse::getName)
+            .containsExactly("중국집", "분식집");
+        assertThat(result.get(0).getMinOrderAmount()).isEqualByComparingTo(new BigDecimal("15000"));
+        assertThat(result.get(0).getUpdatedAt()).isEqualTo(Instant.parse("2024-01-01T00:00:01Z"));
+        assertThat(result.get(1).getMinOrderAmount()).isNull();
+        assertThat(result.get(1).getUpdatedAt()).isEqualTo(Instant.parse("2024-01-01T00:00:02.5Z"));
+    }
+
     @Test
     @DisplayName("메뉴 옵션 조회 - 옵션 없음")
     void getMenuOptions_옵션없음_빈목록_반환() {
@@ -0,0 +1,52 @@
+package harry.boilerplate.order.command.infrastructure.repository;
+
+import harry.boilerplate.order.command.infrastructure.repository.OrderRepositoryImpl.ClaimCandidate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderRepositoryImpl 선점 후보 선택 테스트")
+class OrderRepositoryImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Test
+    @DisplayName("두 샤드의 후보를 합쳐 뒤 샤드에 있는 더 오래된 주문부터 선점")
+    void 두_샤드의_후보를_합쳐_가장_오래된_주문부터_선점() {
+        // Given - 앞 샤드에도 후보가 limit개 있지만 뒤 샤드의 주문이 더 오래됨
+        List<ClaimCandidate> shard0 = List.of(
+            new ClaimCandidate("shard-0", "order-new-1", NOW.minusMinutes(1)),
+            new ClaimCandidate("shard-0", "order-new-2", NOW.minusMinutes(2)),
+            new ClaimCandidate("shard-0", "order-new-3", NOW.minusMinutes(3)));
+        List<ClaimCandidate> shard1 = List.of(
+            new ClaimCandidate("shard-1", "order-old-1", NOW.minusMinutes(30)),
+            new ClaimCandidate("shard-1", "order-old-2", NOW.minusMinutes(20)));
+
+        // When
+        Map<String, List<String>> selected = OrderRepositoryImpl.selectOldest(List.of(shard0, shard1), 3);
+
+        // Then
+        assertThat(selected).containsOnlyKeys("shard-1", "shard-0");
+        assertThat(selected.get("shard-1")).containsExactly("order-old-1", "order-old-2");
+        assertThat(selected.get("shard-0")).containsExactly("order-new-3");
+    }
+
+    @Test
+    @DisplayName("후보가 없는 샤드는 선점 대상에서 제외")
+    void 후보가_없는_샤드는_선점_대상에서_제외() {
+        // Given
+        List<ClaimCandidate> shard1 = List.of(new ClaimCandidate("shard-1", "order-1", NOW));
+
+        // When
+        Map<String, List<String>> selected = OrderRepositoryImpl.selectOldest(List.of(List.of(), shard1), 10);
+
+        // Then
+        assertThat(selected).containsOnlyKeys("shard-1");
+        assertThat(selected.get("shard-1")).containsExactly("order-1");
+    }
+}
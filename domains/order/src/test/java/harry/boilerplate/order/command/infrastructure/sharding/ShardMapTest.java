@@ -0,0 +1,97 @@
+package harry.boilerplate.order.command.infrastructure.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ShardMap 해시 구간 매핑 테스트
+ */
+@DisplayName("ShardMap 해시 구간 매핑 테스트")
+class ShardMapTest {
+
+    private ShardMap twoShards() {
+        return ShardMap.of(Map.of(0L, "shard-0", 0x80000000L, "shard-1"));
+    }
+
+    @Test
+    @DisplayName("같은 라우팅 키는 항상 같은 해시")
+    void 같은_라우팅_키는_항상_같은_해시() {
+        assertThat(ShardMap.hash("user-1")).isEqualTo(ShardMap.hash("user-1"));
+        assertThat(ShardMap.hash("user-1")).isBetween(0L, ShardMap.HASH_SPACE - 1);
+    }
+
+    @Test
+    @DisplayName("해시 값이 속한 구간의 샤드로 라우팅")
+    void 해시_값이_속한_구간의_샤드로_라우팅() {
+        ShardMap shardMap = twoShards();
+
+        assertThat(shardMap.shardForHash(0L)).isEqualTo("shard-0");
+        assertThat(shardMap.shardForHash(0x7fffffffL)).isEqualTo("shard-0");
+        assertThat(shardMap.shardForHash(0x80000000L)).isEqualTo("shard-1");
+        assertThat(shardMap.shardForHash(ShardMap.HASH_SPACE - 1)).isEqualTo("shard-1");
+    }
+
+    @Test
+    @DisplayName("사용자들이 여러 샤드에 고르게 분산")
+    void 사용자들이_여러_샤드에_고르게_분산() {
+        ShardMap shardMap = twoShards();
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < 10000; i++) {
+            counts.merge(shardMap.shardFor("user-" + i), 1, Integer::sum);
+        }
+
+        assertThat(counts.get("shard-0")).isBetween(4000, 6000);
+        assertThat(counts.get("shard-1")).isBetween(4000, 6000);
+    }
+
+    @Test
+    @DisplayName("구간 분할 시 분할된 뒤쪽 구간만 새 샤드로 이동")
+    void 구간_분할_시_분할된_뒤쪽_구간만_새_샤드로_이동() {
+        ShardMap before = twoShards();
+
+        ShardMap after = before.splitInHalf(0x80000000L, "shard-2");
+
+        assertThat(after.ranges()).containsExactly(
+            new ShardMap.Range(0L, 0x80000000L, "shard-0"),
+            new ShardMap.Range(0x80000000L, 0xc0000000L, "shard-1"),
+            new ShardMap.Range(0xc0000000L, ShardMap.HASH_SPACE, "shard-2"));
+
+        // 새 샤드로 이동하지 않은 키는 기존 샤드 유지
+        for (int i = 0; i < 1000; i++) {
+            String key = "user-" + i;
+            String moved = after.shardFor(key);
+            if (!moved.equals("shard-2")) {
+                assertThat(moved).isEqualTo(before.shardFor(key));
+            } else {
+                assertThat(before.shardFor(key)).isEqualTo("shard-1");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("첫 구간이 0에서 시작하지 않으면 생성 실패")
+    void 첫_구간이_0에서_시작하지_않으면_생성_실패() {
+        assertThatThrownBy(() -> ShardMap.of(Map.of(1L, "shard-0")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("이미 존재하는 구간 시작값으로 분할 실패")
+    void 이미_존재하는_구간_시작값으로_분할_실패() {
+        assertThatThrownBy(() -> twoShards().split(0x80000000L, "shard-2"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("샤드 ID 목록은 구간 순서")
+    void 샤드_ID_목록은_구간_순서() {
+        assertThat(List.copyOf(twoShards().shardIds())).containsExactly("shard-0", "shard-1");
+    }
+}
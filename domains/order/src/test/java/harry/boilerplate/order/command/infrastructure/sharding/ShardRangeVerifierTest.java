@@ -0,0 +1,126 @@
+package harry.boilerplate.order.command.infrastructure.sharding;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ShardRangeVerifier 테스트
+ * 샤드마다 별도의 H2 인메모리 DB를 사용하고, MySQL CRC32()는 ShardMap.hash 별칭으로 대신함
+ */
+@DisplayName("ShardRangeVerifier 테스트")
+class ShardRangeVerifierTest {
+
+    private final Map<String, DataSource> shardDataSources = new LinkedHashMap<>();
+    private ShardRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        for (String shardId : List.of("shard-0", "shard-1", "shard-2")) {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:" + shardId + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+            execute(dataSource, "CREATE ALIAS CRC32 FOR '" + ShardMap.class.getName() + ".hash'");
+            execute(dataSource, "CREATE TABLE order_table (id VARCHAR(36) PRIMARY KEY, user_id VARCHAR(36))");
+            execute(dataSource, "CREATE TABLE cart (id VARCHAR(36) PRIMARY KEY, user_id VARCHAR(36))");
+            shardDataSources.put(shardId, dataSource);
+        }
+        routingDataSource = new ShardRoutingDataSource(shardDataSources, "shard-0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardDataSources.values().forEach(dataSource -> execute(dataSource, "SHUTDOWN"));
+    }
+
+    @Test
+    @DisplayName("모든 데이터가 자기 구간에 있으면 검증 통과")
+    void 모든_데이터가_자기_구간에_있으면_검증_통과() {
+        // Given
+        ShardMap shardMap = twoShards();
+        insertUsers(shardMap, 100);
+
+        // When & Then
+        assertThatCode(() -> new ShardRangeVerifier(shardMap, routingDataSource).verify())
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("데이터가 있는 구간을 분할하면 옮겨지지 않은 데이터 때문에 검증 실패")
+    void 데이터가_있는_구간을_분할하면_검증_실패() {
+        // Given - 두 샤드에 데이터를 넣은 뒤 shard-1 구간의 뒤쪽 절반을 빈 shard-2에 할당
+        ShardMap before = twoShards();
+        insertUsers(before, 100);
+        ShardMap after = before.splitInHalf(0x80000000L, "shard-2");
+
+        // When & Then
+        assertThatThrownBy(() -> new ShardRangeVerifier(after, routingDataSource).verify())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("shard-1")
+            .hasMessageContaining("shard-2");
+    }
+
+    @Test
+    @DisplayName("데이터가 없는 구간만 분할하면 검증 통과")
+    void 데이터가_없는_구간만_분할하면_검증_통과() {
+        // Given - shard-1 구간의 뒤쪽 절반에 속한 사용자는 없음
+        ShardMap before = twoShards();
+        ShardMap after = before.splitInHalf(0x80000000L, "shard-2");
+        for (int i = 0; i < 200; i++) {
+            String userId = "user-" + i;
+            if (!after.shardFor(userId).equals("shard-2")) {
+                insert(before.shardFor(userId), "order_table", userId);
+            }
+        }
+
+        // When & Then
+        assertThatCode(() -> new ShardRangeVerifier(after, routingDataSource).verify())
+            .doesNotThrowAnyException();
+    }
+
+    private static ShardMap twoShards() {
+        return ShardMap.of(Map.of(0L, "shard-0", 0x80000000L, "shard-1"));
+    }
+
+    private void insertUsers(ShardMap shardMap, int count) {
+        for (int i = 0; i < count; i++) {
+            String userId = "user-" + i;
+            insert(shardMap.shardFor(userId), "order_table", userId);
+            insert(shardMap.shardFor(userId), "cart", userId);
+        }
+    }
+
+    private void insert(String shardId, String table, String userId) {
+        try (Connection connection = shardDataSources.get(shardId).getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "INSERT INTO " + table + " (id, user_id) VALUES (?, ?)")) {
+            statement.setString(1, UUID.randomUUID().toString());
+            statement.setString(2, userId);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void execute(DataSource dataSource, String sql) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package harry.boilerplate.order.command.infrastructure.sharding;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ShardRouter 다중 샤드 라우팅 테스트
+ * 샤드마다 별도의 H2 인메모리 DB를 사용
+ */
+@DisplayName("ShardRouter 다중 샤드 라우팅 테스트")
+class ShardRouterTest {
+
+    private static final String EXISTS_SQL = "SELECT 1 FROM order_table WHERE id = ?";
+
+    private final Map<String, DataSource> shardDataSources = new LinkedHashMap<>();
+    private ShardRoutingDataSource routingDataSource;
+    private ShardRouter shardRouter;
+
+    @BeforeEach
+    void setUp() {
+        for (String shardId : List.of("shard-0", "shard-1")) {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:" + shardId + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+            execute(dataSource, "CREATE TABLE order_table (id VARCHAR(36) PRIMARY KEY, user_id VARCHAR(36), shop_id VARCHAR(36))");
+            shardDataSources.put(shardId, dataSource);
+        }
+
+        routingDataSource = new ShardRoutingDataSource(shardDataSources, "shard-0");
+        shardRouter = new ShardRouter(
+            ShardMap.of(Map.of(0L, "shard-0", 0x80000000L, "shard-1")), routingDataSource, null, null, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardRouter.close();
+        shardDataSources.values().forEach(dataSource -> execute(dataSource, "SHUTDOWN"));
+    }
+
+    @Test
+    @DisplayName("사용자 작업은 사용자 해시로 결정된 샤드에만 저장")
+    void 사용자_작업은_사용자_해시로_결정된_샤드에만_저장() {
+        // Given
+        List<UserId> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(UserId.of("user-" + i));
+        }
+
+        // When
+        for (UserId userId : users) {
+            shardRouter.onShardOf(userId, () -> insertOrder(UUID.randomUUID().toString(), userId, "shop-1"));
+        }
+
+        // Then
+        for (UserId userId : users) {
+            String expected = shardRouter.shardOf(userId);
+            for (String shardId : shardDataSources.keySet()) {
+                int expectedCount = shardId.equals(expected) ? 1 : 0;
+                assertThat(countByUser(shardDataSources.get(shardId), userId)).isEqualTo(expectedCount);
+            }
+        }
+        assertThat(shardRouter.isSharded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용자 키 없이 ID로 저장된 샤드 탐색")
+    void 사용자_키_없이_ID로_저장된_샤드_탐색() {
+        // Given
+        UserId userId = UserId.of("user-7");
+        String orderId = UUID.randomUUID().toString();
+        shardRouter.onShardOf(userId, () -> insertOrder(orderId, userId, "shop-1"));
+
+        // When & Then
+        assertThat(shardRouter.locate(EXISTS_SQL, orderId)).contains(shardRouter.shardOf(userId));
+        assertThat(shardRouter.locate(EXISTS_SQL, "unknown-order")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("관리용 조회는 모든 샤드를 병렬 조회하여 결과를 모음")
+    void 관리용_조회는_모든_샤드를_병렬_조회하여_결과를_모음() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            UserId userId = UserId.of("user-" + i);
+            shardRouter.onShardOf(userId, () -> insertOrder(UUID.randomUUID().toString(), userId, "shop-1"));
+        }
+
+        // When
+        List<Integer> perShard = shardRouter.scatterGather(shardId -> countByShopOnCurrentShard("shop-1"));
+
+        // Then
+        assertThat(perShard).hasSize(2);
+        assertThat(perShard.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("하나의 트랜잭션에서 다른 샤드로 전환 시 실패")
+    void 하나의_트랜잭션에서_다른_샤드로_전환_시_실패() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ShardContext.runInShard("shard-0", () -> { });
+
+            assertThat(ShardContext.current()).isEqualTo("shard-0");
+            assertThatThrownBy(() -> ShardContext.runInShard("shard-1", () -> { }))
+                .isInstanceOf(IllegalStateException.class);
+        } finally {
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        }
+
+        // 트랜잭션 종료 후 샤드 컨텍스트 해제
+        assertThat(ShardContext.current()).isNull();
+    }
+
+    private void insertOrder(String orderId, UserId userId, String shopId) {
+        try (Connection connection = routingDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "INSERT INTO order_table (id, user_id, shop_id) VALUES (?, ?, ?)")) {
+            statement.setString(1, orderId);
+            statement.setString(2, userId.getValue());
+            statement.setString(3, shopId);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int countByShopOnCurrentShard(String shopId) {
+        try (Connection connection = routingDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "SELECT COUNT(*) FROM order_table WHERE shop_id = ?")) {
+            statement.setString(1, shopId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int countByUser(DataSource dataSource, UserId userId) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "SELECT COUNT(*) FROM order_table WHERE user_id = ?")) {
+            statement.setString(1, userId.getValue());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void execute(DataSource dataSource, String sql) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
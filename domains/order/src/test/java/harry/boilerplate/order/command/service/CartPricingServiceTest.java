@@ -0,0 +1,75 @@
+package harry.boilerplate.order.command.service;
+
+import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.order.command.application.service.CartPricingService;
+import harry.boilerplate.order.command.domain.aggregate.Cart;
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.MenuPriceTable;
+import harry.boilerplate.order.command.domain.valueObject.OptionId;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.external.shop.MenuPriceTableCache;
+import harry.boilerplate.order.command.infrastructure.external.shop.ShopApiClient;
+import harry.boilerplate.order.command.infrastructure.external.shop.ShopApiClient.MenuInfoResponse;
+import harry.boilerplate.order.command.infrastructure.external.shop.ShopApiClient.OptionInfoResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartPricingService 테스트")
+class CartPricingServiceTest {
+
+    private static final String SHOP_ID = "shop-1";
+
+    private static final List<OptionInfoResponse> LARGE_OPTION =
+        List.of(new OptionInfoResponse("곱빼기", new BigDecimal("1000")));
+
+    @Mock
+    private ShopApiClient shopApiClient;
+
+    private Cart cart;
+
+    @BeforeEach
+    void setUp() {
+        cart = new Cart(UserId.of("user-1"));
+        cart.addItem(ShopId.of(SHOP_ID), MenuId.of("menu-1"), List.of(OptionId.of("곱빼기")), 2);
+        cart.addItem(ShopId.of(SHOP_ID), MenuId.of("menu-1"), List.of(), 1);
+        cart.addItem(ShopId.of(SHOP_ID), MenuId.of("menu-2"), List.of(), 1);
+    }
+
+    private static MenuInfoResponse menu(String menuId, String version, String basePrice,
+                                         List<OptionInfoResponse> options) {
+        return new MenuInfoResponse(menuId, "메뉴-" + menuId, "설명", new BigDecimal(basePrice), true, version, options);
+    }
+
+    @Test
+    @DisplayName("장바구니 가격 계산 시 메뉴들을 한 번의 일괄 요청으로 조회")
+    void 장바구니_가격_계산_시_메뉴들을_한_번의_일괄_요청으로_조회() {
+        // Given
+        CartPricingService service = new CartPricingService(new MenuPriceTableCache(shopApiClient, 60_000));
+        when(shopApiClient.getMenus(SHOP_ID, List.of("menu-1", "menu-2"))).thenReturn(List.of(
+            menu("menu-1", "v1", "8000", LARGE_OPTION),
+            menu("menu-2", "v1", "6000", List.of())));
+
+        // When
+        Map<MenuId, MenuPriceTable> priceTables = service.loadPriceTables(cart);
+
+        // Then
+        assertThat(priceTables).hasSize(2);
+        assertThat(cart.getTotalPrice(priceTables)).isEqualTo(Money.of(32000)); // 9,000*2 + 8,000 + 6,000
+        verify(shopApiClient, times(1)).getMenus(eq(SHOP_ID), anyCollection());
+        verify(shopApiClient, never()).getMenu(anyString(), anyString());
+        verify(shopApiClient, never()).getMenuOptions(anyString(), anyString());
+    }
+}
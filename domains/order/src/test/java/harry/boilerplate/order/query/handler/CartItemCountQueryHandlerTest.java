@@ -0,0 +1,49 @@
+package harry.boilerplate.order.query.handler;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.dto.CartItemCountQuery;
+import harry.boilerplate.order.query.application.dto.CartItemCountResult;
+import harry.boilerplate.order.query.application.handler.CartItemCountQueryHandler;
+import harry.boilerplate.order.query.infrastructure.dao.CartQueryDao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartItemCountQueryHandler 테스트")
+class CartItemCountQueryHandlerTest {
+
+    @Mock
+    private CartQueryDao cartQueryDao;
+
+    @InjectMocks
+    private CartItemCountQueryHandler cartItemCountQueryHandler;
+
+    @Test
+    @DisplayName("장바구니 라인 아이템 개수를 가격 계산 없이 조회")
+    void 장바구니_라인_아이템_개수를_가격_계산_없이_조회() {
+        // Given
+        when(cartQueryDao.getCartItemCountByUserId(UserId.of("user-1"))).thenReturn(3);
+
+        // When
+        CartItemCountResult result = cartItemCountQueryHandler.handle(new CartItemCountQuery("user-1"));
+
+        // Then
+        assertThat(result.getCount()).isEqualTo(3);
+        verify(cartQueryDao, never()).findCartSummaryByUserId(any());
+    }
+
+    @Test
+    @DisplayName("사용자 ID가 없으면 예외 발생")
+    void 사용자_ID가_없으면_예외_발생() {
+        assertThatThrownBy(() -> cartItemCountQueryHandler.handle(new CartItemCountQuery(" ")))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(cartQueryDao);
+    }
+}
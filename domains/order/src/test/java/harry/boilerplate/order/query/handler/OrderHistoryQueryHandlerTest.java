@@ -0,0 +1,124 @@
+package harry.boilerplate.order.query.handler;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.dto.OrderHistoryCursor;
+import harry.boilerplate.order.query.application.dto.OrderHistoryQuery;
+import harry.boilerplate.order.query.application.dto.OrderHistoryResult;
+import harry.boilerplate.order.query.application.handler.OrderHistoryQueryHandler;
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+import harry.boilerplate.order.query.application.service.UserOrderCountCache;
+import harry.boilerplate.order.query.infrastructure.dao.OrderQueryDao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderHistoryQueryHandler 테스트")
+class OrderHistoryQueryHandlerTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private OrderQueryDao orderQueryDao;
+
+    @Mock
+    private UserOrderCountCache userOrderCountCache;
+
+    @InjectMocks
+    private OrderHistoryQueryHandler orderHistoryQueryHandler;
+
+    private final UserId userId = UserId.of("user-1");
+
+    @Test
+    @DisplayName("오프셋 페이징 결과에 다음 페이지 커서 포함")
+    void 오프셋_페이징_결과에_다음_페이지_커서_포함() {
+        // Given
+        List<OrderHistoryReadModel> page = orders(0, 2);
+        when(orderQueryDao.findOrderHistoryByUserId(userId, 0, 2)).thenReturn(page);
+        when(userOrderCountCache.getCount(userId)).thenReturn(5L);
+
+        // When
+        OrderHistoryResult result = orderHistoryQueryHandler.handle(new OrderHistoryQuery("user-1", 0, 2));
+
+        // Then
+        assertThat(result.getTotalCount()).isEqualTo(5);
+        assertThat(result.hasNext()).isTrue();
+        OrderHistoryCursor cursor = OrderHistoryCursor.decode(result.getNextCursor());
+        assertThat(cursor.getOrderId()).isEqualTo("order-1");
+        assertThat(cursor.getOrderTime()).isEqualTo(BASE_TIME.minusMinutes(1));
+        verify(orderQueryDao, never()).countOrdersByUserId(any());
+    }
+
+    @Test
+    @DisplayName("커서로 조회 시 커서 위치 이후를 한 건 더 조회하여 다음 페이지 판단")
+    void 커서로_조회_시_커서_위치_이후를_한_건_더_조회하여_다음_페이지_판단() {
+        // Given
+        OrderHistoryCursor cursor = new OrderHistoryCursor(BASE_TIME.minusMinutes(1), "order-1");
+        when(orderQueryDao.findOrderHistoryByUserIdBefore(userId, cursor.getOrderTime(), "order-1", 3))
+            .thenReturn(orders(2, 3));
+        when(userOrderCountCache.getCount(userId)).thenReturn(5L);
+
+        // When
+        OrderHistoryResult result = orderHistoryQueryHandler.handle(
+            new OrderHistoryQuery("user-1", 0, 2, cursor.encode()));
+
+        // Then
+        assertThat(result.getOrders()).extracting(OrderHistoryReadModel::getOrderId)
+            .containsExactly("order-2", "order-3");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(OrderHistoryCursor.decode(result.getNextCursor()).getOrderId()).isEqualTo("order-3");
+        verify(orderQueryDao, never()).findOrderHistoryByUserId(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("마지막 커서 페이지는 다음 커서 없음")
+    void 마지막_커서_페이지는_다음_커서_없음() {
+        // Given
+        OrderHistoryCursor cursor = new OrderHistoryCursor(BASE_TIME.minusMinutes(3), "order-3");
+        when(orderQueryDao.findOrderHistoryByUserIdBefore(userId, cursor.getOrderTime(), "order-3", 3))
+            .thenReturn(orders(4, 1));
+        when(userOrderCountCache.getCount(userId)).thenReturn(5L);
+
+        // When
+        OrderHistoryResult result = orderHistoryQueryHandler.handle(
+            new OrderHistoryQuery("user-1", 0, 2, cursor.encode()));
+
+        // Then
+        assertThat(result.getOrders()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 토큰으로 조회 시 예외 발생")
+    void 잘못된_커서_토큰으로_조회_시_예외_발생() {
+        // When & Then
+        assertThatThrownBy(() -> orderHistoryQueryHandler.handle(
+                new OrderHistoryQuery("user-1", 0, 2, "not-a-cursor")))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(orderQueryDao);
+    }
+
+    private List<OrderHistoryReadModel> orders(int from, int count) {
+        List<OrderHistoryReadModel> orders = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            orders.add(new OrderHistoryReadModel(
+                "order-" + i, "user-1", "shop-1", "가게명", List.of(),
+                new BigDecimal("10000"), 1, BASE_TIME.minusMinutes(i)));
+        }
+        return orders;
+    }
+}
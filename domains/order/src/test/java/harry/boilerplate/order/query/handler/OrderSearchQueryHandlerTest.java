@@ -0,0 +1,134 @@
+package harry.boilerplate.order.query.handler;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.dto.OrderSearchQuery;
+import harry.boilerplate.order.query.application.dto.OrderSearchResult;
+import harry.boilerplate.order.query.application.handler.OrderSearchQueryHandler;
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderItemReadModel;
+import harry.boilerplate.order.query.infrastructure.dao.OrderQueryDao;
+import harry.boilerplate.order.query.infrastructure.dao.OrderQueryDao.DateRange;
+import harry.boilerplate.order.query.infrastructure.dao.OrderSearchDao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSearchQueryHandler 테스트")
+class OrderSearchQueryHandlerTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private OrderSearchDao orderSearchDao;
+
+    @Mock
+    private OrderQueryDao orderQueryDao;
+
+    @InjectMocks
+    private OrderSearchQueryHandler orderSearchQueryHandler;
+
+    private final UserId userId = UserId.of("user-1");
+
+    @Test
+    @DisplayName("색인 후보 시각의 주문 중 메뉴 이름에 검색어가 포함된 주문만 최신순 응답")
+    void 검색어가_포함된_주문만_응답() {
+        // Given
+        LocalDateTime newer = BASE_TIME.plusDays(3);
+        when(orderSearchDao.findOrderTimesContainingAll(userId, Set.of("떡볶", "볶이")))
+            .thenReturn(List.of(newer, BASE_TIME));
+        when(orderQueryDao.findOrderHistoryByUserIdAndDateRanges(userId, List.of(
+                new DateRange(newer, newer.plusSeconds(1)),
+                new DateRange(BASE_TIME, BASE_TIME.plusSeconds(1)))))
+            .thenReturn(List.of(
+                order("order-2", newer, "김밥천국", "치즈 떡볶이"),
+                // n-gram은 모두 있지만 검색어는 없는 주문 (오탐)
+                order("order-1", BASE_TIME, "분식집", "볶이떡볶")));
+
+        // When
+        OrderSearchResult result = orderSearchQueryHandler.handle(new OrderSearchQuery("user-1", "떡볶이", 10));
+
+        // Then
+        assertThat(result.getOrders()).extracting(OrderHistoryReadModel::getOrderId).containsExactly("order-2");
+    }
+
+    @Test
+    @DisplayName("가게 이름으로도 찾고 후보 시각은 1초 이내로 이어지면 한 기간으로 묶어 한 번에 조회하며 limit에서 멈춤")
+    void 가게_이름으로_찾고_limit에서_멈춤() {
+        // Given
+        LocalDateTime second = BASE_TIME.plusSeconds(1);
+        LocalDateTime older = BASE_TIME.minusDays(1);
+        when(orderSearchDao.findOrderTimesContainingAll(userId, Set.of("엽기")))
+            .thenReturn(List.of(second, BASE_TIME, older));
+        when(orderQueryDao.findOrderHistoryByUserIdAndDateRanges(userId, List.of(
+                new DateRange(BASE_TIME, second.plusSeconds(1)),
+                new DateRange(older, older.plusSeconds(1)))))
+            .thenReturn(List.of(
+                order("order-3", second, "엽기떡볶이", "엽떡"),
+                order("order-2", BASE_TIME, "엽기떡볶이", "엽떡"),
+                order("order-1", older, "엽기떡볶이", "엽떡")));
+
+        // When
+        OrderSearchResult result = orderSearchQueryHandler.handle(new OrderSearchQuery("user-1", "엽기", 2));
+
+        // Then
+        assertThat(result.getOrders()).extracting(OrderHistoryReadModel::getOrderId)
+            .containsExactly("order-3", "order-2");
+        verify(orderQueryDao, times(1)).findOrderHistoryByUserIdAndDateRanges(any(), any());
+    }
+
+    @Test
+    @DisplayName("오탐으로 limit을 채우지 못하면 다음 후보 묶음을 조회")
+    void 오탐으로_모자라면_다음_후보_묶음을_조회() {
+        // Given - limit 1이면 후보 시각 2개씩 조회
+        LocalDateTime first = BASE_TIME.plusDays(2);
+        LocalDateTime second = BASE_TIME.plusDays(1);
+        when(orderSearchDao.findOrderTimesContainingAll(userId, Set.of("떡볶", "볶이")))
+            .thenReturn(List.of(first, second, BASE_TIME));
+        when(orderQueryDao.findOrderHistoryByUserIdAndDateRanges(userId, List.of(
+                new DateRange(first, first.plusSeconds(1)),
+                new DateRange(second, second.plusSeconds(1)))))
+            .thenReturn(List.of(
+                order("order-3", first, "분식집", "볶이떡볶"),
+                order("order-2", second, "분식집", "볶이떡볶")));
+        when(orderQueryDao.findOrderHistoryByUserIdAndDateRanges(userId, List.of(
+                new DateRange(BASE_TIME, BASE_TIME.plusSeconds(1)))))
+            .thenReturn(List.of(order("order-1", BASE_TIME, "분식집", "떡볶이")));
+
+        // When
+        OrderSearchResult result = orderSearchQueryHandler.handle(new OrderSearchQuery("user-1", "떡볶이", 1));
+
+        // Then
+        assertThat(result.getOrders()).extracting(OrderHistoryReadModel::getOrderId).containsExactly("order-1");
+        verify(orderQueryDao, times(2)).findOrderHistoryByUserIdAndDateRanges(any(), any());
+    }
+
+    @Test
+    @DisplayName("글자가 없는 검색어와 범위를 벗어난 조회 개수는 거부")
+    void 잘못된_검색어는_거부() {
+        // When & Then
+        assertThatThrownBy(() -> orderSearchQueryHandler.handle(new OrderSearchQuery("user-1", " !! ", 10)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderSearchQueryHandler.handle(new OrderSearchQuery("user-1", "떡", 51)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(orderSearchDao, orderQueryDao);
+    }
+
+    private static OrderHistoryReadModel order(String orderId, LocalDateTime orderTime, String shopName, String menuName) {
+        OrderItemReadModel item = new OrderItemReadModel(
+            orderId + "-item", "menu-1", menuName, List.of(), 1, new BigDecimal("12000"));
+        return new OrderHistoryReadModel(orderId, "user-1", "shop-1", shopName, List.of(item),
+            new BigDecimal("12000"), 1, orderTime);
+    }
+}
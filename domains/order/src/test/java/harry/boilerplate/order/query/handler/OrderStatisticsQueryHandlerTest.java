@@ -0,0 +1,106 @@
+package harry.boilerplate.order.query.handler;
+
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.dto.OrderStatisticsQuery;
+import harry.boilerplate.order.query.application.dto.OrderStatisticsResult;
+import harry.boilerplate.order.query.application.handler.OrderStatisticsQueryHandler;
+import harry.boilerplate.order.query.application.readModel.DailyOrderStatReadModel;
+import harry.boilerplate.order.query.infrastructure.dao.OrderStatisticsDao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderStatisticsQueryHandler 테스트")
+class OrderStatisticsQueryHandlerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+
+    @Mock
+    private OrderStatisticsDao orderStatisticsDao;
+
+    @InjectMocks
+    private OrderStatisticsQueryHandler orderStatisticsQueryHandler;
+
+    @Test
+    @DisplayName("사용자 통계는 기간 내 일간 집계를 합산")
+    void 사용자_통계는_기간_내_일간_집계를_합산() {
+        // Given
+        when(orderStatisticsDao.findUserDailyStats(UserId.of("user-1"), FROM, TO)).thenReturn(List.of(
+            new DailyOrderStatReadModel(LocalDate.of(2024, 1, 3), 2, new BigDecimal("25000"), 5),
+            new DailyOrderStatReadModel(LocalDate.of(2024, 1, 20), 1, new BigDecimal("15000"), 1)));
+
+        // When
+        OrderStatisticsResult result = orderStatisticsQueryHandler.handle(
+            OrderStatisticsQuery.forUser("user-1", FROM, TO));
+
+        // Then
+        assertThat(result.getOrderCount()).isEqualTo(3);
+        assertThat(result.getTotalRevenue()).isEqualByComparingTo("40000");
+        assertThat(result.getItemQuantity()).isEqualTo(6);
+        assertThat(result.getAverageOrderAmount()).isEqualByComparingTo("13333.33");
+        assertThat(result.getDaily()).hasSize(2);
+        verifyNoMoreInteractions(orderStatisticsDao);
+    }
+
+    @Test
+    @DisplayName("가게 통계는 가게 일간 집계로 계산")
+    void 가게_통계는_가게_일간_집계로_계산() {
+        // Given
+        when(orderStatisticsDao.findShopDailyStats("shop-1", FROM, TO)).thenReturn(List.of(
+            new DailyOrderStatReadModel(LocalDate.of(2024, 1, 3), 10, new BigDecimal("120000"), 14)));
+
+        // When
+        OrderStatisticsResult result = orderStatisticsQueryHandler.handle(
+            OrderStatisticsQuery.forShop("shop-1", FROM, TO));
+
+        // Then
+        assertThat(result.getOrderCount()).isEqualTo(10);
+        assertThat(result.getTotalRevenue()).isEqualByComparingTo("120000");
+        verify(orderStatisticsDao, never()).findUserDailyStats(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주문이 없는 기간은 0으로 응답")
+    void 주문이_없는_기간은_0으로_응답() {
+        // Given
+        when(orderStatisticsDao.findUserDailyStats(UserId.of("user-1"), FROM, TO)).thenReturn(List.of());
+
+        // When
+        OrderStatisticsResult result = orderStatisticsQueryHandler.handle(
+            OrderStatisticsQuery.forUser("user-1", FROM, TO));
+
+        // Then
+        assertThat(result.getOrderCount()).isZero();
+        assertThat(result.getAverageOrderAmount()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 예외 발생")
+    void 시작일이_종료일보다_늦으면_예외_발생() {
+        // When & Then
+        assertThatThrownBy(() -> orderStatisticsQueryHandler.handle(
+                OrderStatisticsQuery.forUser("user-1", TO, FROM)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(orderStatisticsDao);
+    }
+
+    @Test
+    @DisplayName("최근 N일 기간은 기준일 포함")
+    void 최근_N일_기간은_기준일_포함() {
+        // When & Then
+        assertThat(OrderStatisticsQuery.startOfLastDays(TO, 30)).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(OrderStatisticsQuery.startOfLastDays(TO, 0)).isEqualTo(TO);
+    }
+}
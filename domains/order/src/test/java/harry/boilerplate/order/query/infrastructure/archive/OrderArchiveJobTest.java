@@ -0,0 +1,253 @@
+package harry.boilerplate.order.query.infrastructure.archive;
+
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardingConfig;
+import harry.boilerplate.order.query.infrastructure.projection.DailyOrderStatsCounter;
+import harry.boilerplate.order.query.infrastructure.projection.DailyOrderStatsFlusher;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 아카이브 작업 테스트
+ * 세그먼트 작성 쿼리는 MySQL 전용 정렬(COLLATE)을 쓰므로, 세그먼트를 미리 써 둔 재실행 경로(검증·등록·기본 키 삭제)를 확인
+ * 작업은 새 트랜잭션으로 조회·삭제하므로 테스트 데이터는 커밋하고 테스트가 끝나면 지움
+ * 아카이브한 월의 일간 집계가 집계 재구성 후에도 남는지 함께 확인
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OrderArchiveJob 테스트")
+class OrderArchiveJobTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    @Configuration
+    @EntityScan({
+        "harry.boilerplate.order.command.domain",
+        "harry.boilerplate.order.query.infrastructure.projection",
+        "harry.boilerplate.common.domain"
+    })
+    @Import(ShardingConfig.class)
+    static class TestConfig {
+
+        @Bean
+        OrderArchive orderArchive() throws IOException {
+            return new OrderArchive(Files.createTempDirectory("order-archive").toString(), true);
+        }
+
+        // 삭제 배치 2건, 재적재 주기 1ms·원본 삭제 대기 2ms
+        @Bean
+        OrderArchiveJob orderArchiveJob(OrderArchive orderArchive, ShardRouter shardRouter,
+                                        PlatformTransactionManager transactionManager) {
+            return new OrderArchiveJob(orderArchive, shardRouter, transactionManager, 12, 100, 2, 4, 1, 2);
+        }
+
+        @Bean
+        DailyOrderStatsFlusher dailyOrderStatsFlusher(ShardRouter shardRouter, OrderArchive orderArchive) {
+            return new DailyOrderStatsFlusher(new DailyOrderStatsCounter(shardRouter), shardRouter, orderArchive);
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderArchive orderArchive;
+
+    @Autowired
+    private OrderArchiveJob orderArchiveJob;
+
+    @Autowired
+    private DailyOrderStatsFlusher dailyOrderStatsFlusher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Path segmentPath;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        segmentPath = orderArchive.segmentPath(ShardingConfig.DEFAULT_SHARD, MONTH);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        transaction.executeWithoutResult(status -> {
+            entityManager.createNativeQuery("DELETE FROM order_table").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM order_summary").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM user_daily_order_stats").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM shop_daily_order_stats").executeUpdate();
+        });
+        Files.deleteIfExists(segmentPath);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 이미 있으면 다시 쓰지 않고 세그먼트의 주문만 기본 키로 삭제한 뒤 조회 대상에 등록")
+    void 재실행하면_세그먼트의_주문만_기본_키로_삭제() {
+        // Given - 이전 실행에서 세그먼트 작성 후 order-0만 지우고 중단된 상태
+        writeSegment("order-0", "order-1", "order-2", "order-3", "order-4");
+        for (int i = 1; i <= 4; i++) {
+            insertOrder("order-" + i, MONTH.atDay(i).atTime(12, 0));
+        }
+        insertOrder("order-recent", LocalDateTime.now());
+
+        // When
+        int segments = orderArchiveJob.archiveBefore(MONTH.plusMonths(1));
+
+        // Then
+        assertThat(segments).isEqualTo(1);
+        assertThat(orderIdsInDatabase()).containsExactly("order-recent");
+        assertThat(orderArchive.findById("order-0")).isPresent();
+        assertThat(orderArchive.findById("order-4")).isPresent();
+    }
+
+    @Test
+    @DisplayName("해당 월의 DB 주문이 세그먼트보다 많으면 지우지 않고 중단")
+    void DB_주문이_세그먼트보다_많으면_지우지_않고_중단() {
+        // Given
+        writeSegment("order-1");
+        insertOrder("order-1", MONTH.atDay(1).atTime(12, 0));
+        insertOrder("order-2", MONTH.atDay(2).atTime(12, 0));
+
+        // When & Then
+        assertThatThrownBy(() -> orderArchiveJob.archiveBefore(MONTH.plusMonths(1)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(orderIdsInDatabase()).containsExactly("order-1", "order-2");
+    }
+
+    @Test
+    @DisplayName("세그먼트에 없는 주문은 지우지 않고 남아 있으면 같은 월을 반복하지 않고 중단")
+    void 세그먼트에_없는_주문은_지우지_않고_중단() {
+        // Given - 주문 수는 같지만 order-2는 세그먼트에 없음
+        writeSegment("order-1", "order-9");
+        insertOrder("order-1", MONTH.atDay(1).atTime(12, 0));
+        insertOrder("order-2", MONTH.atDay(2).atTime(12, 0));
+
+        // When & Then
+        assertThatThrownBy(() -> orderArchiveJob.archiveBefore(MONTH.plusMonths(1)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("세그먼트에 없는 주문");
+        assertThat(orderIdsInDatabase()).containsExactly("order-2");
+    }
+
+    @Test
+    @DisplayName("아카이브한 월의 일간 집계는 집계 재구성 후에도 그대로 남고 이후 날짜만 다시 계산")
+    void 아카이브한_월의_일간_집계는_재구성_후에도_남음() {
+        // Given - 3월 주문 2건(집계 반영됨)과 최근 주문 1건, 최근 날짜 집계는 어긋나 있음
+        LocalDateTime recent = LocalDateTime.of(2025, 6, 1, 12, 0);
+        writeSegment("order-1", "order-2");
+        insertOrder("order-1", MONTH.atDay(1).atTime(12, 0));
+        insertOrder("order-2", MONTH.atDay(2).atTime(12, 0));
+        insertOrder("order-recent", recent);
+        // 운영 스키마에서는 아카이브한 주문의 요약이 외래 키로 함께 삭제되므로 최근 주문의 요약만 둠
+        insertSummary("order-recent", recent);
+        insertStats(MONTH.atDay(1).atStartOfDay(), 1);
+        insertStats(MONTH.atDay(2).atStartOfDay(), 1);
+        insertStats(recent, 5);
+        orderArchiveJob.archiveBefore(MONTH.plusMonths(1));
+
+        // When
+        dailyOrderStatsFlusher.rebuild();
+
+        // Then
+        assertThat(orderIdsInDatabase()).containsExactly("order-recent");
+        assertThat(statOrderCounts("user_daily_order_stats")).containsExactly(
+            "2024-03-01=1", "2024-03-02=1", "2025-06-01=1");
+        assertThat(statOrderCounts("shop_daily_order_stats")).containsExactly(
+            "2024-03-01=1", "2024-03-02=1", "2025-06-01=1");
+    }
+
+    private void writeSegment(String... orderIds) {
+        try (OrderArchiveSegmentWriter writer = new OrderArchiveSegmentWriter(segmentPath, MONTH, 2)) {
+            for (int i = 0; i < orderIds.length; i++) {
+                writer.append(new ArchivedOrder(orderIds[i], "user-1", "shop-1", "가게", OrderStatus.COMPLETED,
+                    MONTH.atDay(i + 1).atTime(12, 0), new BigDecimal("10000.00"), List.of()));
+            }
+            writer.finish();
+        }
+    }
+
+    private void insertOrder(String orderId, LocalDateTime orderTime) {
+        transaction.executeWithoutResult(status -> entityManager.createNativeQuery(
+                "INSERT INTO order_table (id, user_id, shop_id, total_price, order_time, status, status_changed_at, " +
+                "created_at, updated_at) VALUES (:id, 'user-1', 'shop-1', 10000, :orderTime, 'COMPLETED', :orderTime, " +
+                "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+            .setParameter("id", orderId)
+            .setParameter("orderTime", Timestamp.valueOf(orderTime))
+            .executeUpdate());
+    }
+
+    private void insertSummary(String orderId, LocalDateTime orderTime) {
+        transaction.executeWithoutResult(status -> entityManager.createNativeQuery(
+                "INSERT INTO order_summary (user_id, order_time, order_id, shop_id, shop_name, first_menu_name, " +
+                "item_count, total_quantity, total_price) VALUES ('user-1', :orderTime, :id, 'shop-1', '가게', '메뉴', " +
+                "1, 1, 10000)")
+            .setParameter("id", orderId)
+            .setParameter("orderTime", Timestamp.valueOf(orderTime))
+            .executeUpdate());
+    }
+
+    private void insertStats(LocalDateTime statDate, int orderCount) {
+        transaction.executeWithoutResult(status -> {
+            for (String sql : List.of(
+                    "INSERT INTO user_daily_order_stats (user_id, stat_date, order_count, revenue, item_quantity) " +
+                    "VALUES ('user-1', :statDate, :orderCount, 10000, 1)",
+                    "INSERT INTO shop_daily_order_stats (shop_id, stat_date, order_count, revenue, item_quantity) " +
+                    "VALUES ('shop-1', :statDate, :orderCount, 10000, 1)")) {
+                entityManager.createNativeQuery(sql)
+                    .setParameter("statDate", Date.valueOf(statDate.toLocalDate()))
+                    .setParameter("orderCount", orderCount)
+                    .executeUpdate();
+            }
+        });
+    }
+
+    private List<String> statOrderCounts(String table) {
+        return transaction.execute(status -> {
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = entityManager.createNativeQuery(
+                    "SELECT stat_date, order_count FROM " + table + " ORDER BY stat_date")
+                .getResultList();
+            return rows.stream()
+                .map(row -> row[0].toString() + "=" + ((Number) row[1]).intValue())
+                .toList();
+        });
+    }
+
+    private List<String> orderIdsInDatabase() {
+        return transaction.execute(status -> {
+            @SuppressWarnings("unchecked")
+            List<String> ids = entityManager.createNativeQuery("SELECT id FROM order_table ORDER BY id")
+                .getResultList();
+            return ids;
+        });
+    }
+}
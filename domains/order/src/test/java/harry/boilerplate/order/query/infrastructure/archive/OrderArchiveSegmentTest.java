@@ -0,0 +1,159 @@
+package harry.boilerplate.order.query.infrastructure.archive;
+
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderArchiveSegment 테스트")
+class OrderArchiveSegmentTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("작성한 주문을 라인 아이템·옵션·null 금액까지 그대로 읽음")
+    void 작성한_주문을_그대로_읽음() {
+        // Given
+        ArchivedOrder order = new ArchivedOrder("order-1", "user-1", "shop-1", "치킨집", OrderStatus.COMPLETED,
+            LocalDateTime.of(2024, 3, 5, 12, 30, 15), new BigDecimal("23000.00"), List.of(
+                new ArchivedOrder.Item("item-1", "menu-1", "후라이드", 2, new BigDecimal("20000.00"), List.of(
+                    new ArchivedOrder.Option("option-1", "순살", new BigDecimal("1500.00")),
+                    new ArchivedOrder.Option("option-2", "소스 추가", new BigDecimal("0.00")))),
+                new ArchivedOrder.Item("item-2", "menu-2", "콜라", 1, null, List.of())));
+        ArchivedOrder empty = new ArchivedOrder("order-2", "user-1", "shop-2", null, OrderStatus.CANCELLED,
+            LocalDateTime.of(2024, 3, 6, 0, 0), null, List.of());
+        Path path = write(List.of(order, empty), 256);
+
+        // When
+        OrderArchiveSegment segment = OrderArchiveSegment.open(path);
+
+        // Then
+        assertThat(segment.month()).isEqualTo(MONTH);
+        assertThat(segment.orderCount()).isEqualTo(2);
+        assertThat(segment.verify()).isEqualTo(2);
+        assertThat(segment.findByUser("user-1")).containsExactly(order, empty);
+        assertThat(segment.findById("order-2")).contains(empty);
+    }
+
+    @Test
+    @DisplayName("여러 블록에 걸친 사용자도 색인으로 모두 찾고 다른 사용자는 섞이지 않음")
+    void 여러_블록에_걸친_사용자를_모두_찾음() {
+        // Given
+        List<ArchivedOrder> orders = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2024, 3, 1, 9, 0);
+        for (int user = 0; user < 20; user++) {
+            int count = user == 7 ? 25 : 3;
+            for (int i = 0; i < count; i++) {
+                orders.add(order(String.format("order-%02d-%02d", user, i), String.format("user-%02d", user),
+                    start.plusHours(i)));
+            }
+        }
+        Path path = write(orders, 4);
+
+        // When
+        OrderArchiveSegment segment = OrderArchiveSegment.open(path);
+
+        // Then
+        assertThat(segment.findByUser("user-07"))
+            .isEqualTo(orders.stream().filter(order -> order.userId().equals("user-07")).toList());
+        assertThat(segment.countByUser("user-07")).isEqualTo(25);
+        assertThat(segment.countByUser("user-19")).isEqualTo(3);
+        assertThat(segment.findByUser("user-99")).isEmpty();
+        assertThat(segment.findById("order-12-02").map(ArchivedOrder::userId)).contains("user-12");
+        assertThat(segment.findById("order-missing")).isEmpty();
+        assertThat(segment.verify()).isEqualTo(orders.size());
+    }
+
+    @Test
+    @DisplayName("주문 ID 조회는 블룸 필터로 후보 블록만 확인하고 있는 주문은 빠짐없이 찾음")
+    void 주문_ID_조회는_블룸_필터로_후보_블록만_확인() {
+        // Given
+        List<ArchivedOrder> orders = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2024, 3, 1, 9, 0);
+        for (int user = 0; user < 100; user++) {
+            for (int i = 0; i < 4; i++) {
+                orders.add(order(String.format("order-%03d-%d", user, i), String.format("user-%03d", user),
+                    start.plusHours(i)));
+            }
+        }
+        OrderArchiveSegment segment = OrderArchiveSegment.open(write(orders, 8));
+
+        // When - 없는 주문 ID 200개가 통과하는 블록 수
+        int candidates = 0;
+        for (int i = 0; i < 200; i++) {
+            byte[] missing = ("order-missing-" + i).getBytes(java.nio.charset.StandardCharsets.UTF_8);
+            for (int block = 0; block < segment.blockCount(); block++) {
+                if (segment.mightContain(block, missing)) {
+                    candidates++;
+                }
+            }
+        }
+
+        // Then - 거짓 음성 없이 모두 찾고, 없는 주문은 거의 모든 블록을 건너뜀
+        for (ArchivedOrder order : orders) {
+            assertThat(segment.findById(order.orderId())).contains(order);
+        }
+        assertThat(segment.blockCount()).isEqualTo(50);
+        assertThat(candidates).isLessThan(200 * 50 / 20);
+        assertThat(segment.findById("order-missing")).isEmpty();
+        assertThat(segment.orderIds()).containsExactlyElementsOf(orders.stream().map(ArchivedOrder::orderId).toList());
+    }
+
+    @Test
+    @DisplayName("정렬 순서가 어긋난 주문은 거부하고 완료하지 않은 임시 파일은 남기지 않음")
+    void 정렬_순서가_어긋난_주문은_거부() throws Exception {
+        // Given
+        Path path = directory.resolve("orders-2024-03-shard-0.oarc");
+        LocalDateTime time = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+        // When & Then
+        try (OrderArchiveSegmentWriter writer = new OrderArchiveSegmentWriter(path, MONTH, 4)) {
+            writer.append(order("order-1", "user-2", time));
+            assertThatThrownBy(() -> writer.append(order("order-2", "user-1", time)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("아카이브 세그먼트가 아닌 파일은 열지 않음")
+    void 아카이브_세그먼트가_아닌_파일은_열지_않음() throws Exception {
+        // Given
+        Path path = directory.resolve("orders-2024-03-shard-0.oarc");
+        Files.write(path, new byte[64]);
+
+        // When & Then
+        assertThatThrownBy(() -> OrderArchiveSegment.open(path))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Path write(List<ArchivedOrder> orders, int blockSize) {
+        Path path = directory.resolve("orders-2024-03-shard-0.oarc");
+        try (OrderArchiveSegmentWriter writer = new OrderArchiveSegmentWriter(path, MONTH, blockSize)) {
+            orders.forEach(writer::append);
+            writer.finish();
+        }
+        return path;
+    }
+
+    private static ArchivedOrder order(String orderId, String userId, LocalDateTime orderTime) {
+        return new ArchivedOrder(orderId, userId, "shop-1", "가게", OrderStatus.PLACED, orderTime,
+            new BigDecimal("12000.00"), List.of(
+                new ArchivedOrder.Item(orderId + "-item", "menu-1", "메뉴", 1, new BigDecimal("12000.00"), List.of())));
+    }
+}
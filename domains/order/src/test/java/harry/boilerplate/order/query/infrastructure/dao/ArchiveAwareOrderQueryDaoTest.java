@@ -0,0 +1,193 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.order.command.domain.valueObject.OrderId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
+import harry.boilerplate.order.query.infrastructure.archive.ArchivedOrder;
+import harry.boilerplate.order.query.infrastructure.archive.OrderArchive;
+import harry.boilerplate.order.query.infrastructure.dao.OrderQueryDao.DateRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchiveAwareOrderQueryDao 테스트")
+class ArchiveAwareOrderQueryDaoTest {
+
+    private static final UserId USER = UserId.of("user-1");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+    private static final LocalDateTime ARCHIVED_MONTH = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    @Mock
+    private OrderQueryDao database;
+
+    @Mock
+    private OrderArchive orderArchive;
+
+    @Mock
+    private ShopDirectory shopDirectory;
+
+    private ArchiveAwareOrderQueryDao dao;
+
+    @BeforeEach
+    void setUp() {
+        dao = new ArchiveAwareOrderQueryDao(database, orderArchive, shopDirectory);
+    }
+
+    @Test
+    @DisplayName("DB 결과로 페이지가 채워지면 아카이브를 읽지 않음")
+    void DB_결과로_페이지가_채워지면_아카이브를_읽지_않음() {
+        // Given
+        List<OrderHistoryReadModel> recent = List.of(history("order-2", NOW), history("order-1", NOW.minusHours(1)));
+        when(database.findOrderHistoryByUserId(USER, 0, 2)).thenReturn(recent);
+
+        // When
+        List<OrderHistoryReadModel> result = dao.findOrderHistoryByUserId(USER, 0, 2);
+
+        // Then
+        assertThat(result).isEqualTo(recent);
+        verify(orderArchive, never()).findByUser(anyString());
+    }
+
+    @Test
+    @DisplayName("오프셋 페이징은 DB에 남은 주문 수만큼 아카이브 시작 위치를 당겨 이어 붙임")
+    void 오프셋_페이징은_DB에_남은_주문_수만큼_아카이브_시작_위치를_당김() {
+        // Given - DB 3건, 아카이브 3건, 페이지 크기 2
+        when(orderArchive.isEmpty()).thenReturn(false);
+        when(database.countOrdersByUserId(USER)).thenReturn(3L);
+        when(database.findOrderHistoryByUserId(USER, 1, 2)).thenReturn(List.of(history("db-3", NOW.minusDays(2))));
+        when(database.findOrderHistoryByUserId(USER, 2, 2)).thenReturn(List.of());
+        when(orderArchive.findByUser("user-1")).thenReturn(List.of(
+            archived("archived-1", ARCHIVED_MONTH),
+            archived("archived-2", ARCHIVED_MONTH.minusDays(1)),
+            archived("archived-3", ARCHIVED_MONTH.minusDays(2))));
+
+        // When
+        List<OrderHistoryReadModel> second = dao.findOrderHistoryByUserId(USER, 1, 2);
+        List<OrderHistoryReadModel> third = dao.findOrderHistoryByUserId(USER, 2, 2);
+
+        // Then
+        assertThat(second).extracting(OrderHistoryReadModel::getOrderId).containsExactly("db-3", "archived-1");
+        assertThat(third).extracting(OrderHistoryReadModel::getOrderId).containsExactly("archived-2", "archived-3");
+    }
+
+    @Test
+    @DisplayName("원본 삭제 전이라 DB와 아카이브 양쪽에 있는 주문은 한 번만 반환")
+    void DB와_아카이브_양쪽에_있는_주문은_한_번만_반환() {
+        // Given
+        when(orderArchive.isEmpty()).thenReturn(false);
+        when(database.countOrdersByUserId(USER)).thenReturn(1L);
+        when(database.findOrderHistoryByUserId(USER, 0, 3)).thenReturn(List.of(history("order-1", ARCHIVED_MONTH)));
+        when(orderArchive.findByUser("user-1")).thenReturn(List.of(
+            archived("order-1", ARCHIVED_MONTH),
+            archived("order-0", ARCHIVED_MONTH.minusDays(1))));
+
+        // When
+        List<OrderHistoryReadModel> result = dao.findOrderHistoryByUserId(USER, 0, 3);
+
+        // Then
+        assertThat(result).extracting(OrderHistoryReadModel::getOrderId).containsExactly("order-1", "order-0");
+    }
+
+    @Test
+    @DisplayName("키셋 페이징은 커서와 같은 시각이면 주문 ID가 작은 아카이브 주문부터 이어 붙임")
+    void 키셋_페이징은_커서_이후의_아카이브_주문만_이어_붙임() {
+        // Given
+        when(orderArchive.isEmpty()).thenReturn(false);
+        when(database.findOrderHistoryByUserIdBefore(USER, ARCHIVED_MONTH, "order-m", 3)).thenReturn(List.of());
+        when(orderArchive.findByUser("user-1", null, ARCHIVED_MONTH)).thenReturn(List.of(
+            archived("order-z", ARCHIVED_MONTH),
+            archived("order-m", ARCHIVED_MONTH),
+            archived("order-a", ARCHIVED_MONTH),
+            archived("order-old-1", ARCHIVED_MONTH.minusDays(1)),
+            archived("order-old-2", ARCHIVED_MONTH.minusDays(2))));
+
+        // When
+        List<OrderHistoryReadModel> result = dao.findOrderHistoryByUserIdBefore(USER, ARCHIVED_MONTH, "order-m", 3);
+
+        // Then
+        assertThat(result).extracting(OrderHistoryReadModel::getOrderId)
+            .containsExactly("order-a", "order-old-1", "order-old-2");
+    }
+
+    @Test
+    @DisplayName("여러 기간 조회는 기간 전체를 덮는 범위로 아카이브를 한 번 읽고 각 기간에 속한 주문만 이어 붙임")
+    void 여러_기간_조회는_각_기간에_속한_아카이브_주문만_이어_붙임() {
+        // Given
+        List<DateRange> ranges = List.of(
+            new DateRange(ARCHIVED_MONTH, ARCHIVED_MONTH.plusSeconds(1)),
+            new DateRange(ARCHIVED_MONTH.minusDays(2), ARCHIVED_MONTH.minusDays(2).plusSeconds(1)));
+        when(orderArchive.isEmpty()).thenReturn(false);
+        when(database.findOrderHistoryByUserIdAndDateRanges(USER, ranges)).thenReturn(List.of());
+        when(orderArchive.findByUser("user-1", ARCHIVED_MONTH.minusDays(2), ARCHIVED_MONTH.plusSeconds(1)))
+            .thenReturn(List.of(
+                archived("archived-1", ARCHIVED_MONTH),
+                archived("archived-2", ARCHIVED_MONTH.minusDays(1)),
+                archived("archived-3", ARCHIVED_MONTH.minusDays(2))));
+
+        // When
+        List<OrderHistoryReadModel> result = dao.findOrderHistoryByUserIdAndDateRanges(USER, ranges);
+
+        // Then
+        assertThat(result).extracting(OrderHistoryReadModel::getOrderId).containsExactly("archived-1", "archived-3");
+    }
+
+    @Test
+    @DisplayName("DB에 없는 주문은 아카이브에서 찾고 주문 수는 양쪽을 합산")
+    void DB에_없는_주문은_아카이브에서_찾고_주문_수는_양쪽을_합산() {
+        // Given
+        when(orderArchive.isEmpty()).thenReturn(false);
+        when(database.findOrderHistoryById(OrderId.of("archived-1"))).thenReturn(Optional.empty());
+        when(orderArchive.findById("archived-1")).thenReturn(Optional.of(archived("archived-1", ARCHIVED_MONTH)));
+        when(database.countOrdersByUserId(USER)).thenReturn(5L);
+        when(orderArchive.countByUser("user-1")).thenReturn(7L);
+
+        // When
+        Optional<OrderHistoryReadModel> order = dao.findOrderHistoryById(OrderId.of("archived-1"));
+        long count = dao.countOrdersByUserId(USER);
+
+        // Then
+        assertThat(order).isPresent();
+        assertThat(order.get().getShopName()).isEqualTo("아카이브 가게");
+        assertThat(count).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("아카이브가 비어 있으면 DB 결과를 그대로 반환")
+    void 아카이브가_비어_있으면_DB_결과를_그대로_반환() {
+        // Given
+        when(orderArchive.isEmpty()).thenReturn(true);
+        when(database.findOrderHistoryByUserId(USER, 0, 5)).thenReturn(List.of(history("order-1", NOW)));
+
+        // When
+        List<OrderHistoryReadModel> result = dao.findOrderHistoryByUserId(USER, 0, 5);
+
+        // Then
+        assertThat(result).extracting(OrderHistoryReadModel::getOrderId).containsExactly("order-1");
+        verify(orderArchive, never()).findByUser(anyString());
+    }
+
+    private static OrderHistoryReadModel history(String orderId, LocalDateTime orderTime) {
+        return new OrderHistoryReadModel(orderId, "user-1", "shop-1", "가게", List.of(),
+            new BigDecimal("10000"), 1, orderTime);
+    }
+
+    private static ArchivedOrder archived(String orderId, LocalDateTime orderTime) {
+        return new ArchivedOrder(orderId, "user-1", "shop-1", "아카이브 가게", OrderStatus.COMPLETED, orderTime,
+            new BigDecimal("10000.00"), List.of());
+    }
+}
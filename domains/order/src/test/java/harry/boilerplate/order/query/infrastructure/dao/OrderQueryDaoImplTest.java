@@ -0,0 +1,249 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.common.domain.event.DomainEvent;
+import harry.boilerplate.order.command.domain.aggregate.Order;
+import harry.boilerplate.order.command.domain.entity.OrderLineItem;
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.OptionId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.SelectedOption;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.external.shop.ShopApiClient;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardingConfig;
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderItemReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderSummaryReadModel;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
+import harry.boilerplate.order.query.infrastructure.projection.OrderSummary;
+import harry.boilerplate.order.query.infrastructure.projection.OrderSummaryProjector;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * OrderQueryDaoImpl 주문 이력 조회 테스트
+ * 페이지 크기와 관계없이 주문 1회 + 아이템 1회 + 옵션 1회로 조회되는지 확인
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("OrderQueryDaoImpl 주문 이력 조회 테스트")
+class OrderQueryDaoImplTest {
+
+    private static final int ORDER_COUNT = 30;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final int OPTIONS_PER_ITEM = 2;
+
+    @Configuration
+    @EntityScan({
+        "harry.boilerplate.order.command.domain",
+        "harry.boilerplate.order.query.infrastructure.projection",
+        "harry.boilerplate.common.domain"
+    })
+    @Import({OrderQueryDaoImpl.class, OrderSummaryProjector.class, ShardingConfig.class})
+    static class TestConfig {
+
+        @Bean
+        ShopDirectory shopDirectory() {
+            ShopApiClient shopApiClient = mock(ShopApiClient.class);
+            when(shopApiClient.getShopDirectory(any())).thenReturn(List.of(
+                new ShopApiClient.ShopDirectoryEntryResponse("shop-1", "중국집", null, null)));
+            ShopDirectory shopDirectory = new ShopDirectory(shopApiClient);
+            shopDirectory.load();
+            return shopDirectory;
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrderQueryDao orderQueryDao;
+
+    @Autowired
+    private OrderSummaryProjector orderSummaryProjector;
+
+    private final UserId userId = UserId.of("user-1");
+    private final ShopId shopId = ShopId.of("shop-1");
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = new Order(userId, shopId, orderItems(i));
+            entityManager.persist(order);
+            // 리포지토리 저장 시 발행되는 주문 생성 이벤트로 요약 행 기록
+            for (DomainEvent event : order.getDomainEvents()) {
+                orderSummaryProjector.onOrderPlaced((OrderPlacedEvent) event);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest(name = "페이지 크기 {0}")
+    @ValueSource(ints = {1, 5, 20})
+    @DisplayName("페이지 크기와 관계없이 주문 이력을 3회의 쿼리로 조회")
+    void 페이지_크기와_관계없이_주문_이력을_3회의_쿼리로_조회(int size) {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<OrderHistoryReadModel> histories = orderQueryDao.findOrderHistoryByUserId(userId, 0, size);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(histories).hasSize(size);
+        for (OrderHistoryReadModel history : histories) {
+            assertThat(history.getOrderItems()).hasSize(ITEMS_PER_ORDER);
+            assertThat(history.getTotalQuantity()).isEqualTo(ITEMS_PER_ORDER);
+            for (OrderItemReadModel item : history.getOrderItems()) {
+                assertThat(item.getSelectedOptions()).hasSize(OPTIONS_PER_ITEM);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("가게별 주문 이력도 주문 수와 관계없이 3회의 쿼리로 조회")
+    void 가게별_주문_이력도_주문_수와_관계없이_3회의_쿼리로_조회() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<OrderHistoryReadModel> histories = orderQueryDao.findOrderHistoryByUserIdAndShopId(userId, shopId.getValue());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(histories).hasSize(ORDER_COUNT);
+    }
+
+    @Test
+    @DisplayName("최근 주문은 주문 요약 테이블 한 번의 조회로 구성")
+    void 최근_주문은_주문_요약_테이블_한_번의_조회로_구성() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<OrderSummaryReadModel> recentOrders = orderQueryDao.findRecentOrdersByUserId(userId, 10);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(recentOrders).hasSize(10);
+        for (OrderSummaryReadModel summary : recentOrders) {
+            assertThat(summary.getFirstMenuName()).isEqualTo("메뉴0");
+            assertThat(summary.getAdditionalMenuCount()).isEqualTo(ITEMS_PER_ORDER - 1);
+            assertThat(summary.getTotalQuantity()).isEqualTo(ITEMS_PER_ORDER);
+        }
+    }
+
+    @Test
+    @DisplayName("주문 요약에 가게 디렉터리의 가게 이름과 첫 번째 라인의 메뉴를 기록")
+    void 주문_요약에_가게_이름과_첫_번째_라인의_메뉴를_기록() {
+        // When
+        List<OrderSummary> summaries = entityManager.createQuery(
+                "SELECT s FROM OrderSummary s WHERE s.userId = :userId", OrderSummary.class)
+            .setParameter("userId", userId.getValue())
+            .getResultList();
+
+        // Then
+        assertThat(summaries).hasSize(ORDER_COUNT);
+        for (OrderSummary summary : summaries) {
+            assertThat(summary.getShopName()).isEqualTo("중국집");
+            assertThat(summary.getFirstMenuName()).isEqualTo("메뉴0");
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 주문 수는 주문 요약 테이블에서 집계")
+    void 사용자_주문_수는_주문_요약_테이블에서_집계() {
+        // When
+        long count = orderQueryDao.countOrdersByUserId(userId);
+
+        // Then
+        assertThat(count).isEqualTo(ORDER_COUNT);
+    }
+
+    @Test
+    @DisplayName("상태별 주문 이력은 주문 요약과 주문 상태를 함께 조회")
+    void 상태별_주문_이력은_주문_요약과_주문_상태를_함께_조회() {
+        // When
+        List<OrderHistoryReadModel> placed = orderQueryDao.findOrderHistoryByUserIdAndStatus(userId, OrderStatus.PLACED, 0, 5);
+        List<OrderHistoryReadModel> completed = orderQueryDao.findOrderHistoryByUserIdAndStatus(userId, OrderStatus.COMPLETED, 0, 5);
+
+        // Then
+        assertThat(placed).hasSize(5);
+        assertThat(completed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키셋 페이징으로 모든 주문을 중복 없이 순회")
+    void 키셋_페이징으로_모든_주문을_중복_없이_순회() {
+        // Given
+        Set<String> visited = new HashSet<>();
+        LocalDateTime cursorTime = null;
+        String cursorId = null;
+
+        // When
+        List<OrderHistoryReadModel> page;
+        do {
+            page = orderQueryDao.findOrderHistoryByUserIdBefore(userId, cursorTime, cursorId, 7);
+            for (OrderHistoryReadModel history : page) {
+                assertThat(visited.add(history.getOrderId())).isTrue();
+            }
+            if (!page.isEmpty()) {
+                OrderHistoryReadModel last = page.get(page.size() - 1);
+                cursorTime = last.getOrderTime();
+                cursorId = last.getOrderId();
+            }
+        } while (page.size() == 7);
+
+        // Then
+        assertThat(visited).hasSize(ORDER_COUNT);
+    }
+
+    private List<OrderLineItem> orderItems(int orderIndex) {
+        List<OrderLineItem> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            List<SelectedOption> options = new ArrayList<>();
+            for (int j = 0; j < OPTIONS_PER_ITEM; j++) {
+                options.add(new SelectedOption(OptionId.of("option-" + j), "옵션" + j, new BigDecimal("500")));
+            }
+            items.add(new OrderLineItem(
+                MenuId.of("menu-" + orderIndex + "-" + i), "메뉴" + i, options, 1, Money.of(new BigDecimal("10000"))));
+        }
+        return items;
+    }
+}
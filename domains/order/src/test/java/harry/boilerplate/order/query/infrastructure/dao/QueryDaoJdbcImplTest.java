@@ -0,0 +1,315 @@
+package harry.boilerplate.order.query.infrastructure.dao;
+
+import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.common.domain.event.DomainEvent;
+import harry.boilerplate.order.command.domain.aggregate.Cart;
+import harry.boilerplate.order.command.domain.aggregate.Order;
+import harry.boilerplate.order.command.domain.entity.OrderLineItem;
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.domain.valueObject.CartId;
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.OptionId;
+import harry.boilerplate.order.command.domain.valueObject.OrderId;
+import harry.boilerplate.order.command.domain.valueObject.OrderStatus;
+import harry.boilerplate.order.command.domain.valueObject.SelectedOption;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.external.shop.MenuPriceTableCache;
+import harry.boilerplate.order.command.infrastructure.external.shop.ShopApiClient;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardingConfig;
+import harry.boilerplate.order.query.application.readModel.OrderHistoryReadModel;
+import harry.boilerplate.order.query.application.readModel.OrderItemReadModel;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
+import harry.boilerplate.order.query.infrastructure.dao.OrderQueryDao.DateRange;
+import harry.boilerplate.order.query.infrastructure.projection.OrderSummaryProjector;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JDBC Query DAO 테스트
+ * 같은 데이터에 대해 JPA 구현체(OrderQueryDaoImpl, CartQueryDaoImpl)와 동일한 Read Model을 반환하는지 확인
+ * -Dbenchmark=true 로 실행하면 두 구현체의 호출당 지연 시간과 할당량을 비교하여 출력
+ */
+@DataJpaTest
+@DisplayName("JDBC Query DAO 테스트")
+class QueryDaoJdbcImplTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryDaoJdbcImplTest.class);
+
+    private static final int ORDER_COUNT = 30;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final int OPTIONS_PER_ITEM = 2;
+
+    @Configuration
+    @EntityScan({
+        "harry.boilerplate.order.command.domain",
+        "harry.boilerplate.order.query.infrastructure.projection",
+        "harry.boilerplate.common.domain"
+    })
+    @Import({OrderQueryDaoImpl.class, CartQueryDaoImpl.class, OrderSummaryProjector.class, ShardingConfig.class})
+    static class TestConfig {
+
+        @Bean
+        ShopDirectory shopDirectory() {
+            return new ShopDirectory(mock(ShopApiClient.class));
+        }
+
+        @Bean
+        MenuPriceTableCache menuPriceTableCache() {
+            MenuPriceTableCache menuPriceTableCache = mock(MenuPriceTableCache.class);
+            when(menuPriceTableCache.loadPriceTables(any(ShopId.class), any())).thenReturn(Map.of());
+            return menuPriceTableCache;
+        }
+
+        @Bean
+        OrderQueryDaoJdbcImpl orderQueryDaoJdbcImpl(DataSource dataSource, ShardRouter shardRouter,
+                                                    ShopDirectory shopDirectory) {
+            return new OrderQueryDaoJdbcImpl(dataSource, shardRouter, shopDirectory);
+        }
+
+        @Bean
+        CartQueryDaoJdbcImpl cartQueryDaoJdbcImpl(DataSource dataSource, MenuPriceTableCache menuPriceTableCache,
+                                                  ShardRouter shardRouter, ShopDirectory shopDirectory) {
+            return new CartQueryDaoJdbcImpl(dataSource, menuPriceTableCache, shardRouter, shopDirectory);
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderQueryDaoImpl jpaOrderQueryDao;
+
+    @Autowired
+    private OrderQueryDaoJdbcImpl jdbcOrderQueryDao;
+
+    @Autowired
+    private CartQueryDaoImpl jpaCartQueryDao;
+
+    @Autowired
+    private CartQueryDaoJdbcImpl jdbcCartQueryDao;
+
+    @Autowired
+    private OrderSummaryProjector orderSummaryProjector;
+
+    private final UserId userId = UserId.of("user-1");
+    private final ShopId shopId = ShopId.of("shop-1");
+
+    private String firstOrderId;
+    private CartId cartId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = new Order(userId, shopId, orderItems(i));
+            entityManager.persist(order);
+            for (DomainEvent event : order.getDomainEvents()) {
+                orderSummaryProjector.onOrderPlaced((OrderPlacedEvent) event);
+            }
+            if (firstOrderId == null) {
+                firstOrderId = order.getId().getValue();
+            }
+        }
+
+        Cart cart = new Cart(userId);
+        cart.addItem(shopId, MenuId.of("menu-1"), List.of(OptionId.of("option-1"), OptionId.of("option-2")), 2);
+        cart.addItem(shopId, MenuId.of("menu-2"), List.of(), 1);
+        entityManager.persist(cart);
+        cartId = cart.getId();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("주문 이력 조회 결과가 JPA 구현체와 동일")
+    void 주문_이력_조회_결과가_JPA_구현체와_동일() {
+        // Given
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+        List<DateRange> ranges = List.of(new DateRange(from.minusDays(1), from), new DateRange(from, to));
+
+        // When & Then
+        assertSameResult(
+            jpaOrderQueryDao.findOrderHistoryByUserId(userId, 1, 7),
+            jdbcOrderQueryDao.findOrderHistoryByUserId(userId, 1, 7));
+        assertSameResult(
+            jpaOrderQueryDao.findOrderHistoryByUserIdAndDateRange(userId, from, to),
+            jdbcOrderQueryDao.findOrderHistoryByUserIdAndDateRange(userId, from, to));
+        assertSameResult(
+            jpaOrderQueryDao.findOrderHistoryByUserIdAndDateRanges(userId, ranges),
+            jdbcOrderQueryDao.findOrderHistoryByUserIdAndDateRanges(userId, ranges));
+        assertSameResult(
+            jpaOrderQueryDao.findOrderHistoryByUserIdAndShopId(userId, shopId.getValue()),
+            jdbcOrderQueryDao.findOrderHistoryByUserIdAndShopId(userId, shopId.getValue()));
+        assertSameResult(
+            jpaOrderQueryDao.findOrderHistoryByUserIdAndStatus(userId, OrderStatus.PLACED, 0, 5),
+            jdbcOrderQueryDao.findOrderHistoryByUserIdAndStatus(userId, OrderStatus.PLACED, 0, 5));
+        assertSameResult(
+            jpaOrderQueryDao.findOrderHistoryById(OrderId.of(firstOrderId)),
+            jdbcOrderQueryDao.findOrderHistoryById(OrderId.of(firstOrderId)));
+    }
+
+    @Test
+    @DisplayName("주문 아이템은 두 구현체 모두 주문에 담긴 순서로 조회")
+    void 주문_아이템은_두_구현체_모두_주문에_담긴_순서로_조회() {
+        // Given
+        List<String> expectedMenuNames = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            expectedMenuNames.add("메뉴" + i);
+        }
+
+        // When
+        OrderHistoryReadModel jpa = jpaOrderQueryDao.findOrderHistoryById(OrderId.of(firstOrderId)).orElseThrow();
+        OrderHistoryReadModel jdbc = jdbcOrderQueryDao.findOrderHistoryById(OrderId.of(firstOrderId)).orElseThrow();
+
+        // Then
+        assertThat(jpa.getOrderItems()).extracting(OrderItemReadModel::getMenuName)
+            .containsExactlyElementsOf(expectedMenuNames);
+        assertThat(jdbc.getOrderItems()).extracting(OrderItemReadModel::getMenuName)
+            .containsExactlyElementsOf(expectedMenuNames);
+    }
+
+    @Test
+    @DisplayName("최근 주문과 주문 수 조회 결과가 JPA 구현체와 동일")
+    void 최근_주문과_주문_수_조회_결과가_JPA_구현체와_동일() {
+        // When & Then
+        assertSameResult(
+            jpaOrderQueryDao.findRecentOrdersByUserId(userId, 10),
+            jdbcOrderQueryDao.findRecentOrdersByUserId(userId, 10));
+        assertThat(jdbcOrderQueryDao.countOrdersByUserId(userId))
+            .isEqualTo(jpaOrderQueryDao.countOrdersByUserId(userId))
+            .isEqualTo(ORDER_COUNT);
+        assertThat(jdbcOrderQueryDao.countOrdersByUserIdAndStatus(userId, OrderStatus.PLACED))
+            .isEqualTo(jpaOrderQueryDao.countOrdersByUserIdAndStatus(userId, OrderStatus.PLACED));
+    }
+
+    @Test
+    @DisplayName("키셋 페이징 결과가 JPA 구현체와 동일")
+    void 키셋_페이징_결과가_JPA_구현체와_동일() {
+        // Given
+        List<OrderHistoryReadModel> firstPage = jdbcOrderQueryDao.findOrderHistoryByUserIdBefore(userId, null, null, 7);
+        OrderHistoryReadModel last = firstPage.get(firstPage.size() - 1);
+
+        // When
+        List<OrderHistoryReadModel> jdbcPage = jdbcOrderQueryDao.findOrderHistoryByUserIdBefore(
+            userId, last.getOrderTime(), last.getOrderId(), 7);
+        List<OrderHistoryReadModel> jpaPage = jpaOrderQueryDao.findOrderHistoryByUserIdBefore(
+            userId, last.getOrderTime(), last.getOrderId(), 7);
+
+        // Then
+        assertThat(firstPage).hasSize(7);
+        assertThat(jdbcPage).hasSize(7);
+        assertSameResult(jpaPage, jdbcPage);
+    }
+
+    @Test
+    @DisplayName("장바구니 조회 결과가 JPA 구현체와 동일")
+    void 장바구니_조회_결과가_JPA_구현체와_동일() {
+        // When & Then
+        assertSameResult(
+            jpaCartQueryDao.findCartSummaryByUserId(userId),
+            jdbcCartQueryDao.findCartSummaryByUserId(userId));
+        assertSameResult(
+            jpaCartQueryDao.findCartSummaryById(cartId),
+            jdbcCartQueryDao.findCartSummaryById(cartId));
+        assertThat(jdbcCartQueryDao.findCartUpdatedAtByUserId(userId))
+            .isEqualTo(jpaCartQueryDao.findCartUpdatedAtByUserId(userId))
+            .isPresent();
+        assertThat(jdbcCartQueryDao.getCartItemCountByUserId(userId)).isEqualTo(2);
+        assertThat(jdbcCartQueryDao.existsCartByUserId(userId)).isTrue();
+        assertThat(jdbcCartQueryDao.existsCartByUserId(UserId.of("user-2"))).isFalse();
+        assertThat(jdbcCartQueryDao.findCartSummaryByUserId(UserId.of("user-2"))).isEmpty();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("JPA와 JDBC 구현체의 주문 이력 조회 지연 시간·할당량 비교")
+    void JPA와_JDBC_구현체의_주문_이력_조회_지연_시간_할당량_비교() {
+        // Given
+        int iterations = 2_000;
+
+        // When
+        Measurement jpa = measure(iterations, () -> {
+            List<OrderHistoryReadModel> result = jpaOrderQueryDao.findOrderHistoryByUserId(userId, 0, 20);
+            // 영속성 컨텍스트를 비워 매 호출을 같은 조건으로 측정
+            entityManager.clear();
+            return result;
+        });
+        Measurement jdbc = measure(iterations, () -> jdbcOrderQueryDao.findOrderHistoryByUserId(userId, 0, 20));
+
+        // Then
+        logger.info("[order history, page 20] JPA  {} us/op {} bytes/op", String.format("%8.1f", jpa.micros()), jpa.bytes());
+        logger.info("[order history, page 20] JDBC {} us/op {} bytes/op", String.format("%8.1f", jdbc.micros()), jdbc.bytes());
+        assertThat(jpa.bytes()).isPositive();
+        assertThat(jdbc.bytes()).isPositive();
+    }
+
+    private static void assertSameResult(Object expected, Object actual) {
+        assertThat(actual).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(expected);
+    }
+
+    /**
+     * 예열 후 호출당 평균 지연 시간(us)과 현재 스레드 할당량(bytes) 측정
+     */
+    private static Measurement measure(int iterations, Supplier<?> call) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < iterations; i++) {
+            call.get();
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            call.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Measurement(elapsed / 1_000.0 / iterations, allocated / iterations);
+    }
+
+    private record Measurement(double micros, long bytes) {
+    }
+
+    private List<OrderLineItem> orderItems(int orderIndex) {
+        List<OrderLineItem> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            List<SelectedOption> options = new ArrayList<>();
+            for (int j = 0; j < OPTIONS_PER_ITEM; j++) {
+                options.add(new SelectedOption(OptionId.of("option-" + j), "옵션" + j, new BigDecimal("500")));
+            }
+            items.add(new OrderLineItem(
+                MenuId.of("menu-" + orderIndex + "-" + i), "메뉴" + i, options, 1, Money.of(new BigDecimal("10000"))));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,83 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BoundedIntCounterMap 테스트")
+class BoundedIntCounterMapTest {
+
+    @Test
+    @DisplayName("키별 카운트를 증가시키고 조회")
+    void 키별_카운트를_증가시키고_조회() {
+        // Given
+        BoundedIntCounterMap map = new BoundedIntCounterMap(4);
+
+        // When
+        map.increment(7);
+        map.increment(7);
+        map.add(0, 5);
+
+        // Then
+        assertThat(map.get(7)).isEqualTo(2);
+        assertThat(map.get(0)).isEqualTo(5);
+        assertThat(map.get(3)).isZero();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 작은 카운트의 키를 넘겨받아 이어서 셈")
+    void 가득_차면_가장_작은_카운트의_키를_넘겨받아_이어서_셈() {
+        // Given
+        BoundedIntCounterMap map = new BoundedIntCounterMap(2);
+        map.add(1, 5);
+        map.add(2, 2);
+
+        // When
+        int count = map.increment(3);
+
+        // Then
+        assertThat(count).isEqualTo(3);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(2)).isZero();
+        assertThat(map.get(1)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("교체가 반복되어도 남은 키를 모두 찾을 수 있음")
+    void 교체가_반복되어도_남은_키를_모두_찾을_수_있음() {
+        // Given
+        BoundedIntCounterMap map = new BoundedIntCounterMap(8);
+        for (int key = 1; key < 8; key++) {
+            map.add(key, 10_000);
+        }
+
+        // When - 남은 한 슬롯을 많은 키가 번갈아 넘겨받으며 탐사 구간을 계속 바꿈
+        for (int key = 100; key < 1_100; key++) {
+            map.increment(key);
+        }
+
+        // Then
+        Map<Integer, Integer> entries = new HashMap<>();
+        map.forEach(entries::put);
+        assertThat(entries).hasSize(8);
+        entries.forEach((key, count) -> assertThat(map.get(key)).isEqualTo(count));
+        for (int key = 1; key < 8; key++) {
+            assertThat(map.get(key)).isEqualTo(10_000);
+        }
+        assertThat(map.get(1_099)).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("음수 키는 예외")
+    void 음수_키는_예외() {
+        BoundedIntCounterMap map = new BoundedIntCounterMap(2);
+
+        assertThatThrownBy(() -> map.increment(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
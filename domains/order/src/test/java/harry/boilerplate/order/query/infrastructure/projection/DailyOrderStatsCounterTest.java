@@ -0,0 +1,147 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardMap;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.infrastructure.projection.DailyOrderStatDelta.Dimension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DailyOrderStatsCounter 테스트")
+class DailyOrderStatsCounterTest {
+
+    private static final LocalDateTime ORDER_TIME = LocalDateTime.of(2024, 1, 15, 12, 0);
+
+    private DailyOrderStatsCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new DailyOrderStatsCounter(new ShardRouter(ShardMap.single("shard-0"), null, null, null, 1000));
+    }
+
+    @Test
+    @DisplayName("같은 날 주문은 사용자·가게별 하나의 증분으로 누적")
+    void 같은_날_주문은_사용자_가게별_하나의_증분으로_누적() {
+        // Given
+        counter.onOrderPlaced(placedEvent("user-1", "shop-1", "10000.50", 2, ORDER_TIME));
+        counter.onOrderPlaced(placedEvent("user-1", "shop-1", "5000", 1, ORDER_TIME.plusHours(3)));
+
+        // When
+        List<DailyOrderStatDelta> deltas = counter.drain();
+
+        // Then
+        assertThat(deltas).hasSize(2);
+        DailyOrderStatDelta user = find(deltas, Dimension.USER);
+        assertThat(user.ownerId()).isEqualTo("user-1");
+        assertThat(user.shardId()).isEqualTo("shard-0");
+        assertThat(user.statDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(user.orderCount()).isEqualTo(2);
+        assertThat(user.revenue()).isEqualByComparingTo("15000.50");
+        assertThat(user.itemQuantity()).isEqualTo(3);
+        assertThat(find(deltas, Dimension.SHOP).ownerId()).isEqualTo("shop-1");
+    }
+
+    @Test
+    @DisplayName("일자가 다르면 별도 증분으로 누적")
+    void 일자가_다르면_별도_증분으로_누적() {
+        // Given
+        counter.onOrderPlaced(placedEvent("user-1", "shop-1", "10000", 1, ORDER_TIME));
+        counter.onOrderPlaced(placedEvent("user-1", "shop-1", "10000", 1, ORDER_TIME.plusDays(1)));
+
+        // When
+        List<DailyOrderStatDelta> deltas = counter.drain();
+
+        // Then
+        assertThat(deltas).filteredOn(delta -> delta.dimension() == Dimension.USER)
+            .extracting(DailyOrderStatDelta::statDate)
+            .containsExactlyInAnyOrder(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 16));
+    }
+
+    @Test
+    @DisplayName("drain 후 카운터는 비워짐")
+    void drain_후_카운터는_비워짐() {
+        // Given
+        counter.onOrderPlaced(placedEvent("user-1", "shop-1", "10000", 1, ORDER_TIME));
+
+        // When
+        counter.drain();
+
+        // Then
+        assertThat(counter.pendingCount()).isZero();
+        assertThat(counter.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("되돌린 증분은 새 증분과 합쳐짐")
+    void 되돌린_증분은_새_증분과_합쳐짐() {
+        // Given
+        counter.onOrderPlaced(placedEvent("user-1", "shop-1", "10000", 1, ORDER_TIME));
+        List<DailyOrderStatDelta> failed = counter.drain();
+        counter.onOrderPlaced(placedEvent("user-1", "shop-1", "3000", 2, ORDER_TIME));
+
+        // When
+        counter.restore(failed);
+        List<DailyOrderStatDelta> deltas = counter.drain();
+
+        // Then
+        DailyOrderStatDelta user = find(deltas, Dimension.USER);
+        assertThat(user.orderCount()).isEqualTo(2);
+        assertThat(user.revenue()).isEqualByComparingTo("13000");
+        assertThat(user.itemQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("동시 주문과 drain이 섞여도 증분 유실 없음")
+    void 동시_주문과_drain이_섞여도_증분_유실_없음() throws Exception {
+        // Given
+        int threads = 8;
+        int ordersPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long[] drainedOrders = new long[1];
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < ordersPerThread; i++) {
+                    counter.onOrderPlaced(placedEvent("user-1", "shop-1", "1000", 1, ORDER_TIME));
+                }
+            });
+        }
+        for (int i = 0; i < 20; i++) {
+            drainedOrders[0] += sumUserOrders(counter.drain());
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        drainedOrders[0] += sumUserOrders(counter.drain());
+
+        // Then
+        assertThat(drainedOrders[0]).isEqualTo((long) threads * ordersPerThread);
+    }
+
+    private static long sumUserOrders(List<DailyOrderStatDelta> deltas) {
+        return deltas.stream()
+            .filter(delta -> delta.dimension() == Dimension.USER)
+            .mapToLong(DailyOrderStatDelta::orderCount)
+            .sum();
+    }
+
+    private static DailyOrderStatDelta find(List<DailyOrderStatDelta> deltas, Dimension dimension) {
+        return deltas.stream().filter(delta -> delta.dimension() == dimension).findFirst().orElseThrow();
+    }
+
+    private static OrderPlacedEvent placedEvent(String userId, String shopId, String amount, int quantity,
+                                                LocalDateTime orderTime) {
+        return new OrderPlacedEvent("order-1", userId, shopId, new BigDecimal(amount), orderTime, "짜장면", 1, quantity);
+    }
+}
@@ -0,0 +1,135 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.query.application.readModel.MinuteOrderRateReadModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LiveOrderRateCounter 테스트")
+class LiveOrderRateCounterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T12:30:20Z");
+
+    private LiveOrderRateCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new LiveOrderRateCounter();
+    }
+
+    @Test
+    @DisplayName("같은 분의 주문은 하나의 분당 집계로 누적")
+    void 같은_분의_주문은_하나의_분당_집계로_누적() {
+        // Given
+        counter.record("shop-1", NOW.minusSeconds(10), new BigDecimal("10000.50"));
+        counter.record("shop-1", NOW, new BigDecimal("5000"));
+        counter.record("shop-1", NOW.minusSeconds(60), new BigDecimal("3000"));
+
+        // When
+        List<MinuteOrderRateReadModel> perMinute = counter.perMinute("shop-1", NOW, 3);
+
+        // Then
+        assertThat(perMinute).extracting(MinuteOrderRateReadModel::getOrderCount).containsExactly(0L, 1L, 2L);
+        assertThat(perMinute.get(2).getMinute()).isEqualTo(Instant.parse("2024-01-15T12:30:00Z"));
+        assertThat(perMinute.get(2).getRevenue()).isEqualByComparingTo("15000.50");
+        assertThat(perMinute.get(1).getRevenue()).isEqualByComparingTo("3000");
+    }
+
+    @Test
+    @DisplayName("가게별로 따로 집계")
+    void 가게별로_따로_집계() {
+        // Given
+        counter.record("shop-1", NOW, new BigDecimal("10000"));
+        counter.record("shop-2", NOW, new BigDecimal("20000"));
+
+        // When & Then
+        assertThat(total(counter.perMinute("shop-1", NOW, 60))).isEqualTo(1);
+        assertThat(total(counter.perMinute("shop-2", NOW, 60))).isEqualTo(1);
+        assertThat(total(counter.perMinute("shop-3", NOW, 60))).isZero();
+    }
+
+    @Test
+    @DisplayName("한 시간이 지난 버킷은 새 분의 주문으로 교체")
+    void 한_시간이_지난_버킷은_새_분의_주문으로_교체() {
+        // Given
+        Instant anHourAgo = NOW.minusSeconds(LiveOrderRateCounter.WINDOW_MINUTES * 60L);
+        counter.record("shop-1", anHourAgo, new BigDecimal("10000"));
+
+        // When
+        counter.record("shop-1", NOW, new BigDecimal("20000"));
+
+        // Then
+        List<MinuteOrderRateReadModel> perMinute = counter.perMinute("shop-1", NOW, 60);
+        assertThat(perMinute).hasSize(60);
+        assertThat(total(perMinute)).isEqualTo(1);
+        assertThat(perMinute.get(59).getRevenue()).isEqualByComparingTo("20000");
+    }
+
+    @Test
+    @DisplayName("창보다 오래된 주문은 최근 버킷을 덮어쓰지 않음")
+    void 창보다_오래된_주문은_최근_버킷을_덮어쓰지_않음() {
+        // Given
+        counter.record("shop-1", NOW, new BigDecimal("20000"));
+
+        // When
+        counter.record("shop-1", NOW.minusSeconds(LiveOrderRateCounter.WINDOW_MINUTES * 60L), new BigDecimal("10000"));
+
+        // Then
+        assertThat(total(counter.perMinute("shop-1", NOW, 60))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("창을 벗어난 버킷 정리 후에도 창 안의 집계는 유지")
+    void 창을_벗어난_버킷_정리_후에도_창_안의_집계는_유지() {
+        // Given
+        counter.record("shop-1", NOW.minusSeconds(90 * 60), new BigDecimal("10000"));
+        counter.record("shop-1", NOW.minusSeconds(5 * 60), new BigDecimal("20000"));
+
+        // When
+        counter.evictExpired(NOW);
+
+        // Then
+        assertThat(total(counter.perMinute("shop-1", NOW, 60))).isEqualTo(1);
+        assertThat(total(counter.perMinute("shop-1", NOW.minusSeconds(60 * 60), 60))).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 주문도 빠짐없이 누적")
+    void 동시에_들어온_주문도_빠짐없이_누적() throws InterruptedException {
+        // Given
+        int threads = 8;
+        int ordersPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < ordersPerThread; i++) {
+                    // 두 분에 걸쳐 기록하여 버킷 교체와 누적이 겹치도록 함
+                    counter.record("shop-1", NOW.minusSeconds(i % 2 * 60L), BigDecimal.ONE);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        List<MinuteOrderRateReadModel> perMinute = counter.perMinute("shop-1", NOW, 2);
+        assertThat(total(perMinute)).isEqualTo((long) threads * ordersPerThread);
+        assertThat(perMinute.get(0).getRevenue().add(perMinute.get(1).getRevenue()))
+            .isEqualByComparingTo(BigDecimal.valueOf((long) threads * ordersPerThread));
+    }
+
+    private static long total(List<MinuteOrderRateReadModel> perMinute) {
+        return perMinute.stream().mapToLong(MinuteOrderRateReadModel::getOrderCount).sum();
+    }
+}
@@ -0,0 +1,184 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.query.application.readModel.MenuSuggestionReadModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MenuCoOccurrenceIndex 테스트")
+class MenuCoOccurrenceIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 12, 0);
+
+    private MenuCoOccurrenceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MenuCoOccurrenceIndex(8);
+    }
+
+    @Test
+    @DisplayName("담은 메뉴와 자주 함께 주문된 메뉴 순으로 추천하고 담은 메뉴는 제외")
+    void 담은_메뉴와_자주_함께_주문된_메뉴_순으로_추천() {
+        // Given
+        order("shop-1", "짜장면", "탕수육");
+        order("shop-1", "짜장면", "탕수육");
+        order("shop-1", "짜장면", "군만두");
+        order("shop-1", "짜장면");
+        order("shop-2", "짜장면", "피자");
+
+        // When
+        List<MenuSuggestionReadModel> suggestions = index.suggest("shop-1", List.of("짜장면"), 5);
+
+        // Then
+        assertThat(suggestions).extracting(MenuSuggestionReadModel::getMenuId).containsExactly("탕수육", "군만두");
+        assertThat(suggestions.get(0).getCoOrderCount()).isEqualTo(2);
+        assertThat(suggestions.get(0).getScore()).isCloseTo(0.5, within(1e-9));
+        assertThat(suggestions.get(0).getMenuName()).isEqualTo("탕수육 이름");
+    }
+
+    @Test
+    @DisplayName("여러 메뉴를 담으면 메뉴별 함께 주문한 비율을 합산")
+    void 여러_메뉴를_담으면_메뉴별_함께_주문한_비율을_합산() {
+        // Given
+        order("shop-1", "짜장면", "군만두");
+        order("shop-1", "짬뽕", "군만두");
+        order("shop-1", "짬뽕", "탕수육");
+
+        // When
+        List<MenuSuggestionReadModel> suggestions = index.suggest("shop-1", List.of("짜장면", "짬뽕"), 5);
+
+        // Then
+        assertThat(suggestions).extracting(MenuSuggestionReadModel::getMenuId).containsExactly("군만두", "탕수육");
+        assertThat(suggestions.get(0).getScore()).isCloseTo(1.5, within(1e-9));
+        assertThat(suggestions.get(1).getScore()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("같은 메뉴를 여러 줄 주문해도 주문 한 건으로 셈")
+    void 같은_메뉴를_여러_줄_주문해도_주문_한_건으로_셈() {
+        // Given
+        order("shop-1", "짜장면", "짜장면", "탕수육");
+
+        // When
+        List<MenuSuggestionReadModel> suggestions = index.suggest("shop-1", List.of("짜장면"), 5);
+
+        // Then
+        assertThat(suggestions).hasSize(1);
+        assertThat(suggestions.get(0).getCoOrderCount()).isEqualTo(1);
+        assertThat(suggestions.get(0).getScore()).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("메뉴별 이웃은 정해진 수까지만 유지")
+    void 메뉴별_이웃은_정해진_수까지만_유지() {
+        // Given - 전체 주문의 1/이웃 수를 넘게 함께 주문된 메뉴는 긴 꼬리 속에서도 유지
+        for (int i = 0; i < 30; i++) {
+            order("shop-1", "짜장면", "탕수육");
+        }
+        for (int i = 0; i < 100; i++) {
+            order("shop-1", "짜장면", "메뉴-" + i);
+        }
+
+        // When
+        List<MenuSuggestionReadModel> suggestions = index.suggest("shop-1", List.of("짜장면"), 20);
+
+        // Then
+        assertThat(suggestions).hasSizeLessThanOrEqualTo(8);
+        assertThat(suggestions.get(0).getMenuId()).isEqualTo("탕수육");
+    }
+
+    @Test
+    @DisplayName("재구성하면 이력과 재구성 중 주문으로 만든 색인으로 교체")
+    void 재구성하면_이력과_재구성_중_주문으로_만든_색인으로_교체() {
+        // Given
+        order("shop-1", "짜장면", "단무지");
+        MenuCoOccurrenceIndex.Rebuild rebuild = index.beginRebuild(NOW);
+
+        // When - 이력의 주문과 재구성 기준 시각 이후 주문
+        rebuild.record("order-1", "shop-1", List.of("짜장면", "탕수육"), List.of("짜장면", "탕수육"), NOW.minusMinutes(1));
+        index.record("order-2", "shop-1", List.of("짜장면", "군만두"), List.of("짜장면", "군만두"), NOW.plusSeconds(1));
+        rebuild.commit();
+
+        // Then
+        assertThat(index.suggest("shop-1", List.of("짜장면"), 5))
+            .extracting(MenuSuggestionReadModel::getMenuId).containsExactlyInAnyOrder("탕수육", "군만두");
+        assertThatCode(() -> index.beginRebuild(NOW).abort()).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("재구성 기준 시각 이후 주문은 이력과 이벤트 양쪽에서 들어와도 한 번만 누적")
+    void 재구성_기준_시각_이후_주문은_이력과_이벤트_양쪽에서_들어와도_한_번만_누적() {
+        // Given
+        MenuCoOccurrenceIndex.Rebuild rebuild = index.beginRebuild(NOW);
+        List<String> menus = List.of("짜장면", "탕수육");
+
+        // When - 이벤트가 먼저 온 주문과 이력에서 먼저 읽은 주문, 기준 시각 이전에 생성되어 늦게 커밋된 주문의 이벤트
+        index.record("order-1", "shop-1", menus, menus, NOW.plusSeconds(1));
+        rebuild.record("order-1", "shop-1", menus, menus, NOW.plusSeconds(1));
+        rebuild.record("order-2", "shop-1", menus, menus, NOW.plusSeconds(2));
+        index.record("order-2", "shop-1", menus, menus, NOW.plusSeconds(2));
+        index.record("order-3", "shop-1", menus, menus, NOW.minusSeconds(1));
+        rebuild.record("order-3", "shop-1", menus, menus, NOW.minusSeconds(1));
+        rebuild.commit();
+
+        // Then
+        List<MenuSuggestionReadModel> suggestions = index.suggest("shop-1", List.of("짜장면"), 5);
+        assertThat(suggestions.get(0).getCoOrderCount()).isEqualTo(3);
+        assertThat(rebuild.overlappingOrderCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재구성을 취소하면 기존 색인 유지")
+    void 재구성을_취소하면_기존_색인_유지() {
+        // Given
+        order("shop-1", "짜장면", "단무지");
+        MenuCoOccurrenceIndex.Rebuild rebuild = index.beginRebuild(NOW);
+        rebuild.record("order-1", "shop-1", List.of("짜장면", "탕수육"), List.of("짜장면", "탕수육"), NOW.minusMinutes(1));
+
+        // When
+        rebuild.abort();
+
+        // Then
+        assertThat(index.suggest("shop-1", List.of("짜장면"), 5))
+            .extracting(MenuSuggestionReadModel::getMenuId).containsExactly("단무지");
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 주문도 빠짐없이 누적")
+    void 동시에_들어온_주문도_빠짐없이_누적() throws InterruptedException {
+        // Given
+        int threads = 8;
+        int ordersPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < ordersPerThread; i++) {
+                    order("shop-1", "짜장면", "탕수육");
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        List<MenuSuggestionReadModel> suggestions = index.suggest("shop-1", List.of("짜장면"), 5);
+        assertThat(suggestions.get(0).getCoOrderCount()).isEqualTo((long) threads * ordersPerThread);
+        assertThat(suggestions.get(0).getScore()).isCloseTo(1.0, within(1e-9));
+    }
+
+    private void order(String shopId, String... menuIds) {
+        List<String> ids = List.of(menuIds);
+        index.record(null, shopId, ids, ids.stream().map(id -> id + " 이름").toList(), NOW);
+    }
+}
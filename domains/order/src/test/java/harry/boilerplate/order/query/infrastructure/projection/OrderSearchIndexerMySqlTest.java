@@ -0,0 +1,173 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardingConfig;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 주문 검색 색인 upsert 테스트 (MySQL)
+ * UPDATE 절에서 SQL로 만드는 차이 인코딩이 OrderSearchPostings와 같은지 실제 MySQL에서 확인
+ * Docker가 없으면 건너뜀
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("OrderSearchIndexer MySQL 테스트")
+class OrderSearchIndexerMySqlTest {
+
+    private static final String USER_ID = "user-1";
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("test_db")
+            .withUsername("test_user")
+            .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Configuration
+    @EntityScan({
+        "harry.boilerplate.order.command.domain",
+        "harry.boilerplate.common.domain"
+    })
+    @Import(ShardingConfig.class)
+    static class TestConfig {
+
+        // 가게 이름이 없으면 메뉴 이름 토큰만 기록
+        @Bean
+        OrderSearchIndexer orderSearchIndexer(ShardRouter shardRouter) {
+            return new OrderSearchIndexer(shardRouter, mock(ShopDirectory.class));
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderSearchIndexer orderSearchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.createNativeQuery(
+                "CREATE TABLE IF NOT EXISTS user_order_search_token (" +
+                "user_id VARCHAR(36) NOT NULL, " +
+                "token VARCHAR(8) COLLATE utf8mb4_bin NOT NULL, " +
+                "postings MEDIUMBLOB NOT NULL, " +
+                "last_order_time BIGINT NOT NULL, " +
+                "order_count INT NOT NULL, " +
+                "PRIMARY KEY (user_id, token))")
+            .executeUpdate();
+    }
+
+    @Test
+    @DisplayName("음수 차이와 여러 바이트 차이가 섞여도 포스팅 목록이 OrderSearchPostings 인코딩과 같음")
+    void 음수_차이와_여러_바이트_차이가_섞여도_OrderSearchPostings_인코딩과_같음() {
+        // Given - 늦게 커밋된 이전 시각 주문(음수 차이)과 며칠 뒤 주문(3바이트 차이)을 포함
+        List<LocalDateTime> orderTimes = List.of(
+            BASE,
+            BASE.plusSeconds(10),
+            BASE.plusSeconds(5),
+            BASE.plusDays(3),
+            BASE.minusDays(400),
+            BASE.plusDays(3).plusSeconds(1));
+
+        // When
+        for (int i = 0; i < orderTimes.size(); i++) {
+            orderSearchIndexer.onOrderPlaced(placed("order-" + i, orderTimes.get(i), "김밥"));
+        }
+
+        // Then
+        long[] seconds = orderTimes.stream().mapToLong(time -> time.toEpochSecond(ZoneOffset.UTC)).toArray();
+        for (String token : List.of("김", "밥", "김밥")) {
+            Object[] row = tokenRow(token);
+            byte[] postings = (byte[]) row[0];
+            assertThat(postings).isEqualTo(encode(seconds));
+            assertThat(OrderSearchPostings.decode(postings)).containsExactly(sorted(seconds));
+            assertThat(((Number) row[1]).longValue()).isEqualTo(seconds[seconds.length - 1]);
+            assertThat(((Number) row[2]).intValue()).isEqualTo(orderTimes.size());
+        }
+    }
+
+    @Test
+    @DisplayName("나중에 처음 나온 토큰은 그 주문 시각부터 새 행으로 기록")
+    void 나중에_처음_나온_토큰은_새_행으로_기록() {
+        // Given
+        LocalDateTime later = BASE.plusHours(1);
+
+        // When
+        orderSearchIndexer.onOrderPlaced(placed("order-1", BASE, "김밥"));
+        orderSearchIndexer.onOrderPlaced(placed("order-2", later, "김치"));
+
+        // Then
+        long base = BASE.toEpochSecond(ZoneOffset.UTC);
+        long laterSeconds = later.toEpochSecond(ZoneOffset.UTC);
+        assertThat(OrderSearchPostings.decode((byte[]) tokenRow("김")[0])).containsExactly(base, laterSeconds);
+        assertThat(OrderSearchPostings.decode((byte[]) tokenRow("김치")[0])).containsExactly(laterSeconds);
+        assertThat(OrderSearchPostings.decode((byte[]) tokenRow("김밥")[0])).containsExactly(base);
+    }
+
+    private Object[] tokenRow(String token) {
+        return (Object[]) entityManager.createNativeQuery(
+                "SELECT postings, last_order_time, order_count FROM user_order_search_token " +
+                "WHERE user_id = :userId AND token = :token")
+            .setParameter("userId", USER_ID)
+            .setParameter("token", token)
+            .getSingleResult();
+    }
+
+    private static OrderPlacedEvent placed(String orderId, LocalDateTime orderTime, String menuName) {
+        return new OrderPlacedEvent(orderId, USER_ID, "shop-1", new BigDecimal("10000"), orderTime, menuName, 1, 1,
+            List.of(new OrderPlacedEvent.OrderedMenu("menu-1", menuName, 1)));
+    }
+
+    // 색인기가 SQL로 이어 붙인 결과와 비교할 기대값 (Java 인코딩으로 차례로 덧붙임)
+    private static byte[] encode(long[] values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long previous = 0;
+        for (long value : values) {
+            out.writeBytes(OrderSearchPostings.append(previous, value));
+            previous = value;
+        }
+        return out.toByteArray();
+    }
+
+    private static long[] sorted(long[] values) {
+        long[] copy = values.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
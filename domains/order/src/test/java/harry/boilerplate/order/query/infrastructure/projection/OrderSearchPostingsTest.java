@@ -0,0 +1,49 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderSearchPostings 테스트")
+class OrderSearchPostingsTest {
+
+    @Test
+    @DisplayName("차이로 덧붙인 값을 정렬·중복 제거하여 복원")
+    void 덧붙인_값을_정렬하여_복원() {
+        // Given - 동시 주문으로 순서가 뒤바뀐 값과 같은 초의 값 포함
+        long[] values = {1_704_067_200L, 1_704_067_260L, 1_704_067_250L, 1_704_153_600L, 1_704_153_600L};
+        ByteArrayOutputStream postings = new ByteArrayOutputStream();
+        long previous = 0;
+        for (long value : values) {
+            postings.writeBytes(OrderSearchPostings.append(previous, value));
+            previous = value;
+        }
+
+        // When
+        long[] decoded = OrderSearchPostings.decode(postings.toByteArray());
+
+        // Then
+        assertThat(decoded).containsExactly(1_704_067_200L, 1_704_067_250L, 1_704_067_260L, 1_704_153_600L);
+    }
+
+    @Test
+    @DisplayName("가까운 시각의 차이는 몇 바이트로 기록")
+    void 가까운_시각의_차이는_짧게_기록() {
+        // When & Then
+        assertThat(OrderSearchPostings.append(0, 1_704_067_200L)).hasSize(5);
+        assertThat(OrderSearchPostings.append(1_704_067_200L, 1_704_067_200L + 3_600)).hasSize(2);
+        assertThat(OrderSearchPostings.append(1_704_067_200L, 1_704_067_190L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("오름차순 배열의 교집합")
+    void 오름차순_배열의_교집합() {
+        // When & Then
+        assertThat(OrderSearchPostings.intersect(new long[]{1, 3, 5, 7}, new long[]{2, 3, 7, 9}))
+            .containsExactly(3, 7);
+        assertThat(OrderSearchPostings.intersect(new long[]{1, 2}, new long[]{})).isEmpty();
+    }
+}
@@ -0,0 +1,45 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderSearchTokenizer 테스트")
+class OrderSearchTokenizerTest {
+
+    @Test
+    @DisplayName("공백·기호를 지우고 전각 문자와 대문자를 정규화")
+    void 공백과_기호를_지우고_정규화() {
+        // When & Then
+        assertThat(OrderSearchTokenizer.normalize(" 치즈 떡볶이 (매운맛)! ")).isEqualTo("치즈떡볶이매운맛");
+        assertThat(OrderSearchTokenizer.normalize("ＢＢＱ Chicken")).isEqualTo("bbqchicken");
+        assertThat(OrderSearchTokenizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인 토큰은 1-gram과 2-gram, 검색 토큰은 2-gram")
+    void 색인_토큰과_검색_토큰() {
+        // When & Then
+        assertThat(OrderSearchTokenizer.indexTokens("떡볶이"))
+            .containsExactly("떡", "떡볶", "볶", "볶이", "이");
+        assertThat(OrderSearchTokenizer.queryTokens("떡 볶이")).containsExactly("떡볶", "볶이");
+    }
+
+    @Test
+    @DisplayName("합성어 안의 검색어도 검색 토큰이 모두 색인 토큰에 포함")
+    void 합성어_안의_검색어도_찾음() {
+        // When & Then
+        assertThat(OrderSearchTokenizer.indexTokens("로제치즈떡볶이"))
+            .containsAll(OrderSearchTokenizer.queryTokens("떡볶이"))
+            .containsAll(OrderSearchTokenizer.queryTokens("치즈"));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 1-gram, 글자가 없으면 토큰 없음")
+    void 한_글자_검색어는_1gram() {
+        // When & Then
+        assertThat(OrderSearchTokenizer.queryTokens("국")).containsExactly("국");
+        assertThat(OrderSearchTokenizer.queryTokens(" !? ")).isEmpty();
+    }
+}
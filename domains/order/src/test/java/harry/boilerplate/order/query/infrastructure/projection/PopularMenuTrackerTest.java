@@ -0,0 +1,138 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.query.application.readModel.PopularMenuReadModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PopularMenuTracker 테스트")
+class PopularMenuTrackerTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final long NOW = 1_705_320_000_000L;
+
+    private PopularMenuTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new PopularMenuTracker(8, 24);
+    }
+
+    @Test
+    @DisplayName("주문 수량이 많은 메뉴 순으로 조회")
+    void 주문_수량이_많은_메뉴_순으로_조회() {
+        // Given
+        tracker.record("shop-1", List.of(menu("m1", "짜장면", 1), menu("m2", "짬뽕", 3)), NOW);
+        tracker.record("shop-1", List.of(menu("m3", "탕수육", 1)), NOW);
+        tracker.record("shop-2", List.of(menu("m9", "피자", 10)), NOW);
+
+        // When
+        List<PopularMenuReadModel> top = tracker.top("shop-1", 2, NOW);
+
+        // Then
+        assertThat(top).extracting(PopularMenuReadModel::getMenuId).containsExactly("m2", "m1");
+        assertThat(top.get(0).getMenuName()).isEqualTo("짬뽕");
+        assertThat(top.get(0).getScore()).isCloseTo(3.0, within(1e-9));
+        assertThat(tracker.top("shop-3", 10, NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반감기가 지나면 점수가 절반으로 줄고 최근 주문이 오래된 주문보다 크게 반영")
+    void 반감기가_지나면_점수가_절반으로_줄고_최근_주문이_크게_반영() {
+        // Given
+        tracker.record("shop-1", List.of(menu("old", "옛 인기", 3)), NOW);
+        tracker.record("shop-1", List.of(menu("new", "새 인기", 2)), NOW + 24 * HOUR);
+
+        // When
+        List<PopularMenuReadModel> top = tracker.top("shop-1", 10, NOW + 24 * HOUR);
+
+        // Then
+        assertThat(top).extracting(PopularMenuReadModel::getMenuId).containsExactly("new", "old");
+        assertThat(top.get(0).getScore()).isCloseTo(2.0, within(1e-9));
+        assertThat(top.get(1).getScore()).isCloseTo(1.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("기준 시각을 옮긴 뒤에도 점수는 이어지고 작아진 메뉴는 제거")
+    void 기준_시각을_옮긴_뒤에도_점수는_이어지고_작아진_메뉴는_제거() {
+        // Given - 16 반감기 뒤 1024는 1/64로, 1은 0.01 미만으로 줄어듦
+        tracker.record("shop-1", List.of(menu("big", "대표", 1024), menu("small", "기타", 1)), NOW);
+        long later = NOW + 16 * 24 * HOUR;
+
+        // When
+        tracker.record("shop-1", List.of(menu("fresh", "신메뉴", 1)), later);
+
+        // Then
+        List<PopularMenuReadModel> top = tracker.top("shop-1", 10, later);
+        assertThat(top).extracting(PopularMenuReadModel::getMenuId).containsExactly("fresh", "big");
+        assertThat(top.get(1).getScore()).isCloseTo(1024.0 / 65_536, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("변경된 가게만 현재 시점 점수로 꺼내고, 실패 표시하면 다음에 다시 꺼냄")
+    void 변경된_가게만_현재_시점_점수로_꺼내고_실패_표시하면_다시_꺼냄() {
+        // Given
+        tracker.record("shop-1", List.of(menu("m1", "짜장면", 4)), NOW);
+        tracker.record("shop-2", List.of(menu("m2", "피자", 1)), NOW);
+
+        // When
+        Map<String, List<SpaceSavingSketch.Entry>> first = tracker.drainChanged(NOW + 24 * HOUR);
+        Map<String, List<SpaceSavingSketch.Entry>> second = tracker.drainChanged(NOW + 24 * HOUR);
+        tracker.markChanged(Set.of("shop-1"));
+        Map<String, List<SpaceSavingSketch.Entry>> retried = tracker.drainChanged(NOW + 24 * HOUR);
+
+        // Then
+        assertThat(first).containsOnlyKeys("shop-1", "shop-2");
+        assertThat(first.get("shop-1").get(0).count()).isCloseTo(2.0, within(1e-9));
+        assertThat(second).isEmpty();
+        assertThat(retried).containsOnlyKeys("shop-1");
+    }
+
+    @Test
+    @DisplayName("스냅샷에서 복원하면 경과 시간만큼 감쇠하고 재기동 후 주문과 합산")
+    void 스냅샷에서_복원하면_경과_시간만큼_감쇠하고_재기동_후_주문과_합산() {
+        // Given
+        tracker.record("shop-1", List.of(menu("m1", "짜장면", 1)), NOW + 24 * HOUR);
+
+        // When
+        tracker.restore("shop-1", List.of(
+            new SpaceSavingSketch.Entry("m1", "짜장면", 4, 0),
+            new SpaceSavingSketch.Entry("m2", "짬뽕", 2, 0)), NOW);
+
+        // Then
+        List<PopularMenuReadModel> top = tracker.top("shop-1", 10, NOW + 24 * HOUR);
+        assertThat(top).extracting(PopularMenuReadModel::getMenuId).containsExactly("m1", "m2");
+        assertThat(top.get(0).getScore()).isCloseTo(3.0, within(1e-9));
+        assertThat(top.get(1).getScore()).isCloseTo(1.0, within(1e-9));
+        assertThat(tracker.drainChanged(NOW + 24 * HOUR)).containsOnlyKeys("shop-1");
+    }
+
+    @Test
+    @DisplayName("주문 생성 이벤트의 메뉴별 수량을 누적")
+    void 주문_생성_이벤트의_메뉴별_수량을_누적() {
+        // Given
+        OrderPlacedEvent event = new OrderPlacedEvent("order-1", "user-1", "shop-1", new BigDecimal("20000"),
+            LocalDateTime.now(), "짜장면", 2, 3, List.of(menu("m1", "짜장면", 2), menu("m2", "짬뽕", 1)));
+
+        // When
+        tracker.onOrderPlaced(event);
+
+        // Then
+        assertThat(tracker.top("shop-1", 10, event.getOccurredAt().toEpochMilli()))
+            .extracting(PopularMenuReadModel::getMenuId).containsExactly("m1", "m2");
+        assertThat(tracker.shopCount()).isEqualTo(1);
+    }
+
+    private static OrderPlacedEvent.OrderedMenu menu(String menuId, String menuName, int quantity) {
+        return new OrderPlacedEvent.OrderedMenu(menuId, menuName, quantity);
+    }
+}
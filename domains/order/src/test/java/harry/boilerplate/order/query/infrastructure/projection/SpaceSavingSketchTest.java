@@ -0,0 +1,111 @@
+package harry.boilerplate.order.query.infrastructure.projection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SpaceSavingSketch 테스트")
+class SpaceSavingSketchTest {
+
+    @Test
+    @DisplayName("카운터 수 이하의 항목은 정확히 집계")
+    void 카운터_수_이하의_항목은_정확히_집계() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+
+        // When
+        sketch.offer("a", "메뉴A", 2);
+        sketch.offer("b", "메뉴B", 5);
+        sketch.offer("a", "메뉴A", 1);
+
+        // Then
+        assertThat(sketch.entries()).containsExactly(
+            new SpaceSavingSketch.Entry("b", "메뉴B", 5, 0),
+            new SpaceSavingSketch.Entry("a", "메뉴A", 3, 0));
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 작은 카운터를 넘겨받고 그 값을 오차로 기록")
+    void 가득_차면_가장_작은_카운터를_넘겨받고_그_값을_오차로_기록() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        sketch.offer("a", "메뉴A", 5);
+        sketch.offer("b", "메뉴B", 2);
+
+        // When
+        sketch.offer("c", "메뉴C", 1);
+
+        // Then
+        assertThat(sketch.size()).isEqualTo(2);
+        assertThat(sketch.entries()).containsExactly(
+            new SpaceSavingSketch.Entry("a", "메뉴A", 5, 0),
+            new SpaceSavingSketch.Entry("c", "메뉴C", 3, 2));
+    }
+
+    @Test
+    @DisplayName("전체의 1/카운터 수를 넘는 항목은 긴 꼬리 속에서도 유지되고 실제 값이 오차 범위 안에 있음")
+    void 전체의_1_카운터_수를_넘는_항목은_긴_꼬리_속에서도_유지() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10);
+
+        // When - 인기 메뉴 2개 사이사이에 한 번씩만 주문된 메뉴 1000개
+        for (int i = 0; i < 1_000; i++) {
+            sketch.offer("hot-1", "인기1", 1);
+            if (i % 2 == 0) {
+                sketch.offer("hot-2", "인기2", 1);
+            }
+            sketch.offer("tail-" + i, "기타", 1);
+        }
+
+        // Then
+        List<SpaceSavingSketch.Entry> entries = sketch.entries();
+        assertThat(entries.get(0).key()).isEqualTo("hot-1");
+        assertThat(entries.get(1).key()).isEqualTo("hot-2");
+        assertThat(entries.get(0).count() - entries.get(0).error()).isLessThanOrEqualTo(1_000);
+        assertThat(entries.get(0).count()).isGreaterThanOrEqualTo(1_000);
+        assertThat(entries.get(1).count() - entries.get(1).error()).isLessThanOrEqualTo(500);
+        assertThat(entries.get(1).count()).isGreaterThanOrEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("감쇠하면 모든 카운터에 같은 비율을 곱하고 작아진 카운터는 제거")
+    void 감쇠하면_모든_카운터에_같은_비율을_곱하고_작아진_카운터는_제거() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+        sketch.offer("a", "메뉴A", 8);
+        sketch.offer("b", "메뉴B", 1);
+
+        // When
+        sketch.decay(0.5, 1);
+
+        // Then
+        assertThat(sketch.entries()).containsExactly(new SpaceSavingSketch.Entry("a", "메뉴A", 4, 0));
+    }
+
+    @Test
+    @DisplayName("합치면 같은 항목의 값과 오차를 더함")
+    void 합치면_같은_항목의_값과_오차를_더함() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+        sketch.offer("a", "메뉴A", 2);
+
+        // When
+        sketch.merge("a", "메뉴A(변경)", 3, 1);
+        sketch.merge("b", "메뉴B", 4, 0.5);
+
+        // Then
+        assertThat(sketch.entries()).containsExactly(
+            new SpaceSavingSketch.Entry("a", "메뉴A(변경)", 5, 1),
+            new SpaceSavingSketch.Entry("b", "메뉴B", 4, 0.5));
+    }
+
+    @Test
+    @DisplayName("카운터 수가 0 이하이면 예외")
+    void 카운터_수가_0_이하이면_예외() {
+        assertThatThrownBy(() -> new SpaceSavingSketch(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
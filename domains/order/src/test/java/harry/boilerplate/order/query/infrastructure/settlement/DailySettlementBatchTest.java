@@ -0,0 +1,230 @@
+package harry.boilerplate.order.query.infrastructure.settlement;
+
+import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.order.command.domain.aggregate.Order;
+import harry.boilerplate.order.command.domain.entity.OrderLineItem;
+import harry.boilerplate.order.command.domain.valueObject.MenuId;
+import harry.boilerplate.order.command.domain.valueObject.OptionId;
+import harry.boilerplate.order.command.domain.valueObject.SelectedOption;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardingConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 일간 정산 배치 테스트
+ * 배치는 구간마다 별도 스레드에서 새 트랜잭션을 열므로 테스트 데이터는 커밋하고 테스트가 끝나면 지움
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("DailySettlementBatch 테스트")
+class DailySettlementBatchTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 15);
+
+    @Configuration
+    @EntityScan({
+        "harry.boilerplate.order.command.domain",
+        "harry.boilerplate.common.domain"
+    })
+    @Import(ShardingConfig.class)
+    static class TestConfig {
+
+        @Bean
+        DailySettlementBatch dailySettlementBatch(ShardRouter shardRouter, PlatformTransactionManager transactionManager) {
+            return new DailySettlementBatch(shardRouter, transactionManager, 2, 2, 1);
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private DailySettlementBatch dailySettlementBatch;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        execute("CREATE TABLE IF NOT EXISTS shop_daily_settlement (" +
+            "shop_id VARCHAR(36) NOT NULL, settlement_date DATE NOT NULL, order_count BIGINT NOT NULL, " +
+            "gross_amount DECIMAL(14,2) NOT NULL, item_quantity BIGINT NOT NULL, option_revenue DECIMAL(14,2) NOT NULL, " +
+            "PRIMARY KEY (settlement_date, shop_id))");
+        execute("CREATE TABLE IF NOT EXISTS settlement_partition (" +
+            "settlement_date DATE NOT NULL, partition_no INT NOT NULL, settled_orders BIGINT NOT NULL, " +
+            "completed_at TIMESTAMP NOT NULL, PRIMARY KEY (settlement_date, partition_no))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        execute("DELETE FROM order_item_selected_option");
+        execute("DELETE FROM order_line_item");
+        execute("DELETE FROM order_table");
+        execute("DELETE FROM shop_daily_settlement");
+        execute("DELETE FROM settlement_partition");
+    }
+
+    @Test
+    @DisplayName("가게별로 주문 수·주문 금액·수량·옵션 매출을 합산하고 취소 주문과 다른 날 주문은 제외")
+    void 가게별로_주문_금액_수량_옵션_매출을_합산() {
+        // Given
+        order("shop-001", "10000.50", DATE.atTime(9, 0),
+            item(2, option("곱빼기", "500"), option("계란 추가", "300")),
+            item(1));
+        order("shop-001", "5000", DATE.atTime(23, 59), item(1));
+        cancel(order("shop-001", "9000", DATE.atTime(12, 0), item(3)));
+        order("shop-001", "7000", DATE.plusDays(1).atStartOfDay(), item(1));
+        order("shop-002", "7000", DATE.atTime(18, 0), item(1, option("보통", "0")));
+
+        // When
+        SettlementReport report = dailySettlementBatch.settle(DATE, false);
+
+        // Then
+        assertThat(report.processed()).isEqualTo(SettlementPartition.PARTITIONS_PER_SHARD);
+        assertThat(report.orders()).isEqualTo(3);
+        assertThat(report.shops()).isEqualTo(2);
+        assertThat(settlement("shop-001")).containsExactly(2L, new BigDecimal("15000.50"), 4L, new BigDecimal("1600.00"));
+        assertThat(settlement("shop-002")).containsExactly(1L, new BigDecimal("7000.00"), 1L, new BigDecimal("0.00"));
+    }
+
+    @Test
+    @DisplayName("다시 실행하면 완료된 구간은 건너뛰고 force면 전체를 다시 정산해도 결과가 같음")
+    void 다시_실행하면_완료된_구간은_건너뛰고_결과가_같음() {
+        // Given
+        order("shop-001", "10000", DATE.atTime(9, 0), item(2, option("곱빼기", "500")));
+        order("shop-002", "7000", DATE.atTime(18, 0), item(1));
+        dailySettlementBatch.settle(DATE, false);
+        List<Object> first = settlement("shop-001");
+
+        // When
+        SettlementReport rerun = dailySettlementBatch.settle(DATE, false);
+        SettlementReport forced = dailySettlementBatch.settle(DATE, true);
+
+        // Then
+        assertThat(rerun.processed()).isZero();
+        assertThat(rerun.skipped()).isEqualTo(SettlementPartition.PARTITIONS_PER_SHARD);
+        assertThat(forced.processed()).isEqualTo(SettlementPartition.PARTITIONS_PER_SHARD);
+        assertThat(forced.orders()).isEqualTo(2);
+        assertThat(settlement("shop-001")).isEqualTo(first);
+        assertThat(settlementRowCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("완료 뒤 취소된 주문이 있는 구간만 다시 정산하고 주문이 모두 취소된 가게의 정산 행은 지움")
+    void 완료_뒤_취소된_주문이_있는_구간만_다시_정산() {
+        // Given
+        order("shop-001", "10000", DATE.atTime(9, 0), item(1));
+        String lateCancelled = order("shop-001", "5000", DATE.atTime(10, 0), item(1));
+        String onlyOrder = order("shop-002", "7000", DATE.atTime(18, 0), item(1));
+        order("shop-003", "3000", DATE.atTime(20, 0), item(1));
+        dailySettlementBatch.settle(DATE, false);
+
+        // When
+        cancel(lateCancelled);
+        cancel(onlyOrder);
+        SettlementReport report = dailySettlementBatch.settle(DATE, false);
+
+        // Then
+        int changedPartitions = Set.of(
+            SettlementPartition.partitionOf("shop-001"), SettlementPartition.partitionOf("shop-002")).size();
+        assertThat(report.processed()).isEqualTo(changedPartitions);
+        assertThat(report.skipped()).isEqualTo(SettlementPartition.PARTITIONS_PER_SHARD - changedPartitions);
+        assertThat(settlement("shop-001")).containsExactly(1L, new BigDecimal("10000.00"), 1L, new BigDecimal("0.00"));
+        assertThat(settlement("shop-002")).isEmpty();
+        assertThat(settlement("shop-003")).containsExactly(1L, new BigDecimal("3000.00"), 1L, new BigDecimal("0.00"));
+    }
+
+    /**
+     * 주문 저장 후 주문 시각·금액을 지정한 값으로 고정
+     * @return 주문 ID
+     */
+    private String order(String shopId, String totalPrice, LocalDateTime orderTime, OrderLineItem... items) {
+        return transaction.execute(status -> {
+            Order order = new Order(UserId.of("user-1"), ShopId.of(shopId), List.of(items));
+            entityManager.persist(order);
+            entityManager.flush();
+            entityManager.createNativeQuery(
+                    "UPDATE order_table SET order_time = :orderTime, status_changed_at = :orderTime, " +
+                    "total_price = :totalPrice WHERE id = :id")
+                .setParameter("orderTime", Timestamp.valueOf(orderTime))
+                .setParameter("totalPrice", new BigDecimal(totalPrice))
+                .setParameter("id", order.getId().getValue())
+                .executeUpdate();
+            return order.getId().getValue();
+        });
+    }
+
+    private void cancel(String orderId) {
+        transaction.executeWithoutResult(status -> entityManager.createNativeQuery(
+                "UPDATE order_table SET status = 'CANCELLED', status_changed_at = :now WHERE id = :id")
+            .setParameter("now", Timestamp.valueOf(LocalDateTime.now()))
+            .setParameter("id", orderId)
+            .executeUpdate());
+    }
+
+    private static OrderLineItem item(int quantity, SelectedOption... options) {
+        return new OrderLineItem(MenuId.of("menu-1"), "짜장면", List.of(options), quantity, Money.of(8000));
+    }
+
+    private static SelectedOption option(String name, String price) {
+        return new SelectedOption(OptionId.of(name), name, new BigDecimal(price));
+    }
+
+    /**
+     * 가게의 정산 행 (주문 수, 주문 금액, 수량, 옵션 매출), 없으면 빈 목록
+     */
+    private List<Object> settlement(String shopId) {
+        return transaction.execute(status -> {
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = entityManager.createNativeQuery(
+                    "SELECT order_count, gross_amount, item_quantity, option_revenue FROM shop_daily_settlement " +
+                    "WHERE settlement_date = :date AND shop_id = :shopId")
+                .setParameter("date", DATE)
+                .setParameter("shopId", shopId)
+                .getResultList();
+            if (rows.isEmpty()) {
+                return List.of();
+            }
+            Object[] row = rows.get(0);
+            return List.of(((Number) row[0]).longValue(), row[1], ((Number) row[2]).longValue(), row[3]);
+        });
+    }
+
+    private long settlementRowCount() {
+        return transaction.execute(status -> ((Number) entityManager.createNativeQuery(
+            "SELECT COUNT(*) FROM shop_daily_settlement").getSingleResult()).longValue());
+    }
+
+    private void execute(String sql) {
+        transaction.executeWithoutResult(status -> entityManager.createNativeQuery(sql).executeUpdate());
+    }
+}
@@ -0,0 +1,78 @@
+package harry.boilerplate.order.query.infrastructure.settlement;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SettlementPartition 테스트")
+class SettlementPartitionTest {
+
+    @Test
+    @DisplayName("샤드마다 16개 구간을 만들고 구간 번호는 샤드 안에서 0부터")
+    void 샤드마다_16개_구간을_만듦() {
+        // When
+        List<SettlementPartition> partitions = SettlementPartition.of(List.of("shard-0", "shard-1"));
+
+        // Then
+        assertThat(partitions).hasSize(2 * SettlementPartition.PARTITIONS_PER_SHARD);
+        assertThat(partitions.get(0)).isEqualTo(new SettlementPartition("shard-0", 0));
+        assertThat(partitions.get(15)).isEqualTo(new SettlementPartition("shard-0", 15));
+        assertThat(partitions.get(16)).isEqualTo(new SettlementPartition("shard-1", 0));
+    }
+
+    @Test
+    @DisplayName("모든 가게 ID는 형식과 무관하게 항상 같은 한 구간에 속함")
+    void 모든_가게_ID는_형식과_무관하게_항상_같은_한_구간에_속함() {
+        // Given
+        List<String> shopIds = List.of("shop-001", "0", "ffffffff", "A-shop", UUID.randomUUID().toString(), "");
+
+        // When & Then
+        for (String shopId : shopIds) {
+            assertThat(SettlementPartition.partitionOf(shopId)).as(shopId)
+                .isBetween(0, SettlementPartition.PARTITIONS_PER_SHARD - 1)
+                .isEqualTo(SettlementPartition.partitionOf(new String(shopId.toCharArray())));
+        }
+    }
+
+    @Test
+    @DisplayName("UUID가 아닌 일련번호 가게 ID도 모든 구간에 고르게 나뉨")
+    void UUID가_아닌_일련번호_가게_ID도_모든_구간에_고르게_나뉨() {
+        // Given
+        int shops = 1600;
+        int[] counts = new int[SettlementPartition.PARTITIONS_PER_SHARD];
+
+        // When
+        for (int i = 1; i <= shops; i++) {
+            counts[SettlementPartition.partitionOf(String.format("shop-%03d", i))]++;
+        }
+
+        // Then - 구간마다 평균(100개)의 절반 이상, 두 배 이하
+        for (int count : counts) {
+            assertThat(count).isBetween(50, 200);
+        }
+    }
+
+    @Test
+    @DisplayName("정산 누적값은 주문 금액과 옵션 금액 × 수량을 정수로 합산")
+    void 정산_누적값은_주문_금액과_옵션_금액_곱하기_수량을_정수로_합산() {
+        // Given
+        ShopSettlementTotals totals = new ShopSettlementTotals("shop-1");
+
+        // When
+        totals.addOrder(1_550_050);
+        totals.addLineItem(2, 50_000);
+        totals.addLineItem(1, 0);
+        totals.addOrder(800_000);
+        totals.addLineItem(3, 10_010);
+
+        // Then
+        assertThat(totals.orderCount()).isEqualTo(2);
+        assertThat(totals.grossAmount()).isEqualByComparingTo("23500.50");
+        assertThat(totals.itemQuantity()).isEqualTo(6);
+        assertThat(totals.optionRevenue()).isEqualByComparingTo("1300.30");
+    }
+}
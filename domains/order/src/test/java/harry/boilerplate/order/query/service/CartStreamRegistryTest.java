@@ -0,0 +1,102 @@
+package harry.boilerplate.order.query.service;
+
+import harry.boilerplate.order.command.domain.event.CartItemAddedEvent;
+import harry.boilerplate.order.command.domain.event.CartItemsRemovedEvent;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.dto.CartSummaryQuery;
+import harry.boilerplate.order.query.application.handler.CartSummaryQueryHandler;
+import harry.boilerplate.order.query.application.service.CartStreamRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartStreamRegistry 테스트")
+class CartStreamRegistryTest {
+
+    private static final long WAIT_MILLIS = 1_000;
+
+    @Mock
+    private CartSummaryQueryHandler cartSummaryQueryHandler;
+
+    private CartStreamRegistry registry;
+
+    private final UserId userId = UserId.of("user-1");
+
+    @BeforeEach
+    void setUp() {
+        registry = new CartStreamRegistry(cartSummaryQueryHandler, 60_000, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("구독 직후 현재 장바구니 상태를 한 번 전송")
+    void 구독_직후_현재_장바구니_상태를_한_번_전송() {
+        // When
+        registry.subscribe(userId);
+
+        // Then
+        verify(cartSummaryQueryHandler, timeout(WAIT_MILLIS).times(1)).handle(queryOf("user-1"));
+        assertThat(registry.streamCount(userId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커밋된 장바구니 변경은 구독 중인 사용자에게만 전송")
+    void 커밋된_장바구니_변경은_구독_중인_사용자에게만_전송() {
+        // Given
+        registry.subscribe(userId);
+        verify(cartSummaryQueryHandler, timeout(WAIT_MILLIS).times(1)).handle(queryOf("user-1"));
+
+        // When
+        registry.onCartItemAdded(new CartItemAddedEvent("cart-1", "user-1", "shop-1", "menu-1", 1));
+        registry.onCartItemsRemoved(new CartItemsRemovedEvent("cart-2", "user-2", "shop-1", 0));
+
+        // Then
+        verify(cartSummaryQueryHandler, timeout(WAIT_MILLIS).times(2)).handle(queryOf("user-1"));
+        verify(cartSummaryQueryHandler, after(200).never()).handle(queryOf("user-2"));
+    }
+
+    @Test
+    @DisplayName("사용자당 연결 수 상한을 넘으면 가장 오래된 연결을 종료")
+    void 사용자당_연결_수_상한을_넘으면_가장_오래된_연결을_종료() {
+        // When
+        registry.subscribe(userId);
+        registry.subscribe(userId);
+        registry.subscribe(userId);
+        registry.subscribe(UserId.of("user-2"));
+
+        // Then
+        assertThat(registry.streamCount(userId)).isEqualTo(2);
+        assertThat(registry.streamCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("종료 시 모든 연결 정리")
+    void 종료_시_모든_연결_정리() {
+        // Given
+        registry.subscribe(userId);
+        registry.subscribe(UserId.of("user-2"));
+
+        // When
+        registry.close();
+
+        // Then
+        assertThat(registry.streamCount()).isZero();
+    }
+
+    private static CartSummaryQuery queryOf(String userId) {
+        return argThat(query -> query != null && userId.equals(query.getUserId()));
+    }
+}
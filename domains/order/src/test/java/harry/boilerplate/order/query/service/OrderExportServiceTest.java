@@ -0,0 +1,213 @@
+package harry.boilerplate.order.query.service;
+
+import harry.boilerplate.common.exception.ForbiddenException;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardMap;
+import harry.boilerplate.order.command.infrastructure.sharding.ShardRouter;
+import harry.boilerplate.order.query.application.dto.OrderExportCheckpoint;
+import harry.boilerplate.order.query.application.dto.OrderExportFormat;
+import harry.boilerplate.order.query.application.dto.OrderExportQuery;
+import harry.boilerplate.order.query.application.readModel.OrderExportRow;
+import harry.boilerplate.order.query.application.service.OrderExportService;
+import harry.boilerplate.order.query.application.service.ShopAccessPolicy;
+import harry.boilerplate.order.query.infrastructure.dao.OrderExportDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderExportService 테스트")
+class OrderExportServiceTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private OrderExportDao orderExportDao;
+
+    private OrderExportService orderExportService;
+
+    @BeforeEach
+    void setUp() {
+        ShardRouter shardRouter = new ShardRouter(
+            ShardMap.of(Map.of(0L, "shard-0", 1L << 31, "shard-1")), null, null, null, 1000);
+        orderExportService = new OrderExportService(orderExportDao, shardRouter, 2,
+            new ShopAccessPolicy(Set.of("ops-1")));
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 주문 하나와 주기적인 재개 지점을 출력")
+    void NDJSON은_한_줄에_주문_하나와_주기적인_재개_지점을_출력() throws Exception {
+        // Given
+        stubShard("shard-0", row(1), row(2), row(3));
+        stubShard("shard-1");
+
+        // When
+        List<String> lines = export(query(OrderExportFormat.NDJSON, null));
+
+        // Then
+        assertThat(lines).hasSize(5);
+        assertThat(lines.get(0)).contains("\"orderId\":\"order-1\"").contains("\"totalPrice\":10000");
+        assertThat(lines.get(2)).startsWith("{\"checkpoint\":").contains("\"complete\":false");
+        assertThat(lines.get(4)).contains("\"complete\":true");
+    }
+
+    @Test
+    @DisplayName("완료 재개 지점은 마지막으로 내보낸 주문 위치")
+    void 완료_재개_지점은_마지막으로_내보낸_주문_위치() throws Exception {
+        // Given
+        stubShard("shard-0", row(1));
+        stubShard("shard-1", row(2));
+
+        // When
+        List<String> lines = export(query(OrderExportFormat.CSV, null));
+
+        // Then
+        String token = lines.get(lines.size() - 1).substring("# complete checkpoint=".length());
+        OrderExportCheckpoint checkpoint = OrderExportCheckpoint.decode(token);
+        assertThat(checkpoint.getShardId()).isEqualTo("shard-1");
+        assertThat(checkpoint.getOrderId()).isEqualTo("order-2");
+    }
+
+    @Test
+    @DisplayName("재개 지점이 있으면 해당 샤드의 다음 주문부터 내보냄")
+    void 재개_지점이_있으면_해당_샤드의_다음_주문부터_내보냄() throws Exception {
+        // Given
+        OrderExportCheckpoint checkpoint = new OrderExportCheckpoint("shard-1", BASE_TIME, "order-5");
+        stubShard("shard-1", row(6));
+
+        // When
+        export(query(OrderExportFormat.NDJSON, checkpoint));
+
+        // Then
+        verify(orderExportDao).streamOrders(eq("shard-1"), any(), eq(checkpoint), any());
+        verify(orderExportDao, never()).streamOrders(eq("shard-0"), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더와 함께 특수문자가 있는 값을 따옴표로 감쌈")
+    void CSV는_헤더와_함께_특수문자가_있는_값을_따옴표로_감쌈() throws Exception {
+        // Given
+        OrderExportRow row = new OrderExportRow("order-1", "user-1", "shop-1", BASE_TIME,
+            "짜장면, \"곱빼기\"", 2, 3, new BigDecimal("18000.00"));
+        stubShard("shard-0", row);
+        stubShard("shard-1");
+
+        // When
+        List<String> lines = export(query(OrderExportFormat.CSV, null));
+
+        // Then
+        assertThat(lines.get(0)).startsWith("order_id,user_id,shop_id,order_time");
+        assertThat(lines.get(1))
+            .isEqualTo("order-1,user-1,shop-1,2024-01-01T12:00,\"짜장면, \"\"곱빼기\"\"\",2,3,18000.00");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 샤드의 재개 지점은 예외 발생")
+    void 알_수_없는_샤드의_재개_지점은_예외_발생() {
+        // Given
+        OrderExportQuery query = query(OrderExportFormat.NDJSON,
+            new OrderExportCheckpoint("shard-9", BASE_TIME, "order-1"));
+
+        // When & Then
+        assertThatThrownBy(() -> orderExportService.validate(query))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(orderExportDao);
+    }
+
+    @Test
+    @DisplayName("운영자는 요청한 범위 그대로 내보냄")
+    void 운영자는_요청한_범위_그대로_내보냄() {
+        // Given
+        OrderExportQuery query = query(OrderExportFormat.NDJSON, null);
+
+        // When
+        OrderExportQuery authorized = orderExportService.authorize(query, "ops-1", null);
+
+        // Then
+        assertThat(authorized.getShopId()).isNull();
+    }
+
+    @Test
+    @DisplayName("가게 점주는 가게를 지정하지 않아도 자기 가게 주문만 내보냄")
+    void 가게_점주는_자기_가게_주문만_내보냄() {
+        // Given
+        OrderExportQuery query = query(OrderExportFormat.CSV, null);
+
+        // When
+        OrderExportQuery authorized = orderExportService.authorize(query, "owner-1", "shop-1");
+
+        // Then
+        assertThat(authorized.getShopId()).isEqualTo("shop-1");
+        assertThat(authorized.getFormat()).isEqualTo(OrderExportFormat.CSV);
+    }
+
+    @Test
+    @DisplayName("다른 가게 주문이나 가게 없는 일반 사용자 요청은 권한 예외 발생")
+    void 다른_가게_주문이나_일반_사용자_요청은_권한_예외_발생() {
+        // Given
+        OrderExportQuery otherShop = new OrderExportQuery("shop-2", null, null, OrderExportFormat.NDJSON, null);
+        OrderExportQuery all = query(OrderExportFormat.NDJSON, null);
+
+        // When & Then
+        assertThatThrownBy(() -> orderExportService.authorize(otherShop, "owner-1", "shop-1"))
+            .isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> orderExportService.authorize(all, "user-1", null))
+            .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    @DisplayName("재개 지점 토큰 인코딩 후 디코딩하면 같은 위치")
+    void 재개_지점_토큰_인코딩_후_디코딩하면_같은_위치() {
+        // Given
+        OrderExportCheckpoint checkpoint = new OrderExportCheckpoint("shard-0", BASE_TIME, "order-1");
+
+        // When
+        OrderExportCheckpoint decoded = OrderExportCheckpoint.decode(checkpoint.encode());
+
+        // Then
+        assertThat(decoded.getShardId()).isEqualTo("shard-0");
+        assertThat(decoded.getOrderTime()).isEqualTo(BASE_TIME);
+        assertThat(decoded.getOrderId()).isEqualTo("order-1");
+    }
+
+    private List<String> export(OrderExportQuery query) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        orderExportService.export(query, out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private void stubShard(String shardId, OrderExportRow... rows) {
+        when(orderExportDao.streamOrders(eq(shardId), any(), any(), any())).thenAnswer(invocation -> {
+            Consumer<OrderExportRow> sink = invocation.getArgument(3);
+            for (OrderExportRow row : rows) {
+                sink.accept(row);
+            }
+            return (long) rows.length;
+        });
+    }
+
+    private static OrderExportQuery query(OrderExportFormat format, OrderExportCheckpoint checkpoint) {
+        return new OrderExportQuery(null, null, null, format, checkpoint);
+    }
+
+    private static OrderExportRow row(int i) {
+        return new OrderExportRow("order-" + i, "user-1", "shop-1", BASE_TIME.plusMinutes(i),
+            "짜장면", 1, 1, new BigDecimal("10000"));
+    }
+}
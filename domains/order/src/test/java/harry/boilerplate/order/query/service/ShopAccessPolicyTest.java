@@ -0,0 +1,37 @@
+package harry.boilerplate.order.query.service;
+
+import harry.boilerplate.common.exception.ForbiddenException;
+import harry.boilerplate.order.command.domain.exception.OrderErrorCode;
+import harry.boilerplate.order.query.application.service.ShopAccessPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ShopAccessPolicy 테스트")
+class ShopAccessPolicyTest {
+
+    private final ShopAccessPolicy shopAccessPolicy = new ShopAccessPolicy(Set.of("ops-1"));
+
+    @Test
+    @DisplayName("가게 점주는 자기 가게만, 운영자는 모든 가게를 조회 가능")
+    void 가게_점주는_자기_가게만_운영자는_모든_가게를_조회_가능() {
+        assertThatCode(() -> shopAccessPolicy.authorize("shop-1", "owner-1", "shop-1")).doesNotThrowAnyException();
+        assertThatCode(() -> shopAccessPolicy.authorize("shop-1", "ops-1", null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("다른 가게나 가게 ID 없이 조회 시 403 예외 발생")
+    void 다른_가게나_가게_ID_없이_조회_시_403_예외_발생() {
+        assertThatThrownBy(() -> shopAccessPolicy.authorize("shop-1", "owner-2", "shop-2"))
+            .isInstanceOf(ForbiddenException.class)
+            .extracting(e -> ((ForbiddenException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.SHOP_ACCESS_NOT_ALLOWED);
+        assertThatThrownBy(() -> shopAccessPolicy.authorize("shop-1", "user-1", null))
+            .isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> shopAccessPolicy.authorize("shop-1", null, " "))
+            .isInstanceOf(ForbiddenException.class);
+    }
+}
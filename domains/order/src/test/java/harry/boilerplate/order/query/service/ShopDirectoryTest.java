@@ -0,0 +1,128 @@
+package harry.boilerplate.order.query.service;
+
+import harry.boilerplate.order.command.infrastructure.external.shop.ShopApiClient;
+import harry.boilerplate.order.command.infrastructure.external.shop.ShopApiClient.ShopDirectoryEntryResponse;
+import harry.boilerplate.order.query.application.service.ShopDirectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShopDirectory 테스트")
+class ShopDirectoryTest {
+
+    private static final Instant BASE_TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private ShopApiClient shopApiClient;
+
+    private ShopDirectory shopDirectory;
+
+    @BeforeEach
+    void setUp() {
+        shopDirectory = new ShopDirectory(shopApiClient);
+    }
+
+    @Test
+    @DisplayName("기동 시 전체 가게를 적재하고 페이지의 가게 이름을 한 번에 조회")
+    void 기동_시_전체_가게를_적재하고_페이지의_가게_이름을_한_번에_조회() {
+        // Given
+        when(shopApiClient.getShopDirectory(null)).thenReturn(List.of(
+            shop("shop-1", "중국집", BASE_TIME),
+            shop("shop-2", "분식집", BASE_TIME.plusSeconds(1))));
+
+        // When
+        shopDirectory.load();
+        Map<String, String> names = shopDirectory.namesOf(List.of("shop-1", "shop-2", "shop-1", "shop-9"));
+
+        // Then
+        assertThat(shopDirectory.isLoaded()).isTrue();
+        assertThat(names).containsOnly(entry("shop-1", "중국집"), entry("shop-2", "분식집"));
+        assertThat(shopDirectory.minOrderAmountOf("shop-1")).contains(new BigDecimal("15000"));
+        verify(shopApiClient, times(1)).getShopDirectory(any());
+    }
+
+    @Test
+    @DisplayName("적재 후 동기화는 마지막 변경 시각 이후 변경분만 조회")
+    void 적재_후_동기화는_마지막_변경_시각_이후_변경분만_조회() {
+        // Given
+        Instant lastUpdatedAt = BASE_TIME.plusSeconds(60);
+        when(shopApiClient.getShopDirectory(null)).thenReturn(List.of(shop("shop-1", "중국집", lastUpdatedAt)));
+        Instant since = lastUpdatedAt.minusSeconds(5);
+        when(shopApiClient.getShopDirectory(since)).thenReturn(List.of(
+            shop("shop-1", "새 중국집", lastUpdatedAt.plusSeconds(10))));
+        shopDirectory.load();
+
+        // When
+        shopDirectory.refresh();
+
+        // Then
+        assertThat(shopDirectory.nameOf("shop-1")).isEqualTo("새 중국집");
+        verify(shopApiClient).getShopDirectory(since);
+    }
+
+    @Test
+    @DisplayName("겹쳐 조회된 이전 변경분은 최신 값을 덮어쓰지 않음")
+    void 겹쳐_조회된_이전_변경분은_최신_값을_덮어쓰지_않음() {
+        // Given
+        when(shopApiClient.getShopDirectory(isNull())).thenReturn(List.of(
+            shop("shop-1", "새 중국집", BASE_TIME.plusSeconds(10))));
+        when(shopApiClient.getShopDirectory(BASE_TIME.plusSeconds(5))).thenReturn(List.of(
+            shop("shop-1", "중국집", BASE_TIME)));
+        shopDirectory.load();
+
+        // When
+        shopDirectory.refresh();
+
+        // Then
+        assertThat(shopDirectory.nameOf("shop-1")).isEqualTo("새 중국집");
+    }
+
+    @Test
+    @DisplayName("기동 시 Shop API 실패하면 다음 동기화에서 전체 적재")
+    void 기동_시_Shop_API_실패하면_다음_동기화에서_전체_적재() {
+        // Given
+        when(shopApiClient.getShopDirectory(null))
+            .thenThrow(new RestClientException("connection refused"))
+            .thenReturn(List.of(shop("shop-1", "중국집", BASE_TIME)));
+
+        // When
+        shopDirectory.load();
+        boolean loadedAfterFailure = shopDirectory.isLoaded();
+        shopDirectory.refresh();
+
+        // Then
+        assertThat(loadedAfterFailure).isFalse();
+        assertThat(shopDirectory.isLoaded()).isTrue();
+        assertThat(shopDirectory.nameOf("shop-1")).isEqualTo("중국집");
+        verify(shopApiClient, times(2)).getShopDirectory(null);
+    }
+
+    @Test
+    @DisplayName("디렉터리에 없는 가게 이름은 null")
+    void 디렉터리에_없는_가게_이름은_null() {
+        // When & Then
+        assertThat(shopDirectory.nameOf("shop-9")).isNull();
+        assertThat(shopDirectory.namesOf(List.of("shop-9"))).isEmpty();
+        assertThat(shopDirectory.minOrderAmountOf("shop-9")).isEmpty();
+        verifyNoInteractions(shopApiClient);
+    }
+
+    private static ShopDirectoryEntryResponse shop(String shopId, String name, Instant updatedAt) {
+        return new ShopDirectoryEntryResponse(shopId, name, new BigDecimal("15000"), updatedAt);
+    }
+}
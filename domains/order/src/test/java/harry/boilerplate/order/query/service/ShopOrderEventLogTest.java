@@ -0,0 +1,92 @@
+package harry.boilerplate.order.query.service;
+
+import harry.boilerplate.order.query.application.dto.ShopOrderStreamMessage;
+import harry.boilerplate.order.query.application.service.ShopOrderEventLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ShopOrderEventLog 테스트")
+class ShopOrderEventLogTest {
+
+    private static final long START_ID = 1_000;
+
+    @Test
+    @DisplayName("마지막으로 받은 ID 이후의 이벤트만 재전송")
+    void 마지막으로_받은_ID_이후의_이벤트만_재전송() {
+        // Given
+        ShopOrderEventLog log = new ShopOrderEventLog(10, START_ID);
+        for (long id = START_ID + 1; id <= START_ID + 5; id++) {
+            log.append(id, message("order-" + id));
+        }
+
+        // When
+        Optional<List<ShopOrderEventLog.Entry>> missed = log.after(START_ID + 3);
+
+        // Then
+        assertThat(missed).isPresent();
+        assertThat(missed.get()).extracting(ShopOrderEventLog.Entry::id)
+            .containsExactly(START_ID + 4, START_ID + 5);
+    }
+
+    @Test
+    @DisplayName("최신 이벤트까지 받았으면 재전송할 이벤트 없음")
+    void 최신_이벤트까지_받았으면_재전송할_이벤트_없음() {
+        // Given
+        ShopOrderEventLog log = new ShopOrderEventLog(10, START_ID);
+        log.append(START_ID + 1, message("order-1"));
+
+        // When & Then
+        assertThat(log.after(START_ID + 1)).hasValue(List.of());
+        assertThat(log.after(START_ID)).hasValueSatisfying(missed -> assertThat(missed).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("보관 수를 넘으면 오래된 이벤트가 밀려나고 그 이전 ID는 재전송 불가")
+    void 보관_수를_넘으면_오래된_이벤트가_밀려나고_그_이전_ID는_재전송_불가() {
+        // Given
+        ShopOrderEventLog log = new ShopOrderEventLog(3, START_ID);
+        for (long id = START_ID + 1; id <= START_ID + 5; id++) {
+            log.append(id, message("order-" + id));
+        }
+
+        // When & Then
+        assertThat(log.size()).isEqualTo(3);
+        assertThat(log.after(START_ID + 1)).isEmpty();
+        assertThat(log.after(START_ID + 2)).hasValueSatisfying(missed -> assertThat(missed).hasSize(3));
+    }
+
+    @Test
+    @DisplayName("기록 시작 전이나 아직 발급하지 않은 ID는 재전송 불가")
+    void 기록_시작_전이나_아직_발급하지_않은_ID는_재전송_불가() {
+        // Given
+        ShopOrderEventLog log = new ShopOrderEventLog(10, START_ID);
+        log.append(START_ID + 1, message("order-1"));
+
+        // When & Then
+        assertThat(log.after(START_ID - 1)).isEmpty();
+        assertThat(log.after(START_ID + 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이벤트 ID가 증가하지 않으면 예외 발생")
+    void 이벤트_ID가_증가하지_않으면_예외_발생() {
+        // Given
+        ShopOrderEventLog log = new ShopOrderEventLog(10, START_ID);
+        log.append(START_ID + 2, message("order-2"));
+
+        // When & Then
+        assertThatThrownBy(() -> log.append(START_ID + 1, message("order-1")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ShopOrderStreamMessage message(String orderId) {
+        return new ShopOrderStreamMessage(orderId, new BigDecimal("15000"), LocalDateTime.now(), "메뉴", 1, 1);
+    }
+}
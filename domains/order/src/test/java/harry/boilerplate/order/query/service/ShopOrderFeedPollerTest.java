@@ -0,0 +1,92 @@
+package harry.boilerplate.order.query.service;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.query.application.dto.ShopOrderStreamMessage;
+import harry.boilerplate.order.query.application.service.ShopOrderFeedPoller;
+import harry.boilerplate.order.query.application.service.ShopOrderStreamRegistry;
+import harry.boilerplate.order.query.infrastructure.dao.ShopOrderFeedDao;
+import harry.boilerplate.order.query.infrastructure.dao.ShopOrderFeedDao.FeedOrder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShopOrderFeedPoller 테스트")
+class ShopOrderFeedPollerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Mock
+    private ShopOrderFeedDao shopOrderFeedDao;
+
+    private ShopOrderStreamRegistry registry;
+    private ShopOrderFeedPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ShopOrderStreamRegistry(60_000, 100, 16, 2, 60_000);
+        poller = new ShopOrderFeedPoller(registry, shopOrderFeedDao, 30_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 커밋된 주문만 전송하고 이 인스턴스에서 전송한 주문은 다시 보내지 않음")
+    void 다른_인스턴스에서_커밋된_주문만_전송() {
+        // Given - order-1은 이 인스턴스에서 커밋, order-2는 다른 인스턴스에서 커밋
+        registry.subscribe(ShopId.of("shop-1"), null);
+        registry.onOrderPlaced(new OrderPlacedEvent("order-1", "user-1", "shop-1", new BigDecimal("15000"),
+            NOW.minusSeconds(5), "메뉴", 1, 1));
+        when(shopOrderFeedDao.findOrdersSince(eq(List.of("shop-1")), any())).thenReturn(List.of(
+            feedOrder("shop-1", "order-1", NOW.minusSeconds(5)),
+            feedOrder("shop-1", "order-2", NOW.minusSeconds(1))));
+
+        // When
+        int delivered = poller.pollAt(NOW);
+        int redelivered = poller.pollAt(NOW.plusSeconds(2));
+
+        // Then
+        assertThat(delivered).isEqualTo(1);
+        assertThat(redelivered).isZero();
+        // 두 번째 조회는 마지막 조회 시각보다 lookback만큼 앞에서부터 읽음
+        verify(shopOrderFeedDao).findOrdersSince(List.of("shop-1"), NOW.minusSeconds(30));
+        verify(shopOrderFeedDao).findOrdersSince(List.of("shop-1"), NOW.minusSeconds(28));
+    }
+
+    @Test
+    @DisplayName("연결된 가게가 없으면 DB를 조회하지 않음")
+    void 연결된_가게가_없으면_DB를_조회하지_않음() {
+        // Given - 구독 없이 보관만 된 가게
+        registry.onOrderPlaced(new OrderPlacedEvent("order-1", "user-1", "shop-1", new BigDecimal("15000"),
+            NOW, "메뉴", 1, 1));
+
+        // When
+        int delivered = poller.pollAt(NOW);
+
+        // Then
+        assertThat(delivered).isZero();
+        verifyNoInteractions(shopOrderFeedDao);
+    }
+
+    private static FeedOrder feedOrder(String shopId, String orderId, LocalDateTime orderTime) {
+        return new FeedOrder(shopId, new ShopOrderStreamMessage(orderId, new BigDecimal("15000"), orderTime,
+            "메뉴", 1, 1));
+    }
+}
@@ -0,0 +1,142 @@
+package harry.boilerplate.order.query.service;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.domain.valueObject.ShopId;
+import harry.boilerplate.order.query.application.service.ShopOrderStreamRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ShopOrderStreamRegistry 테스트")
+class ShopOrderStreamRegistryTest {
+
+    private ShopOrderStreamRegistry registry;
+
+    private final ShopId shopId = ShopId.of("shop-1");
+
+    @BeforeEach
+    void setUp() {
+        registry = new ShopOrderStreamRegistry(60_000, 100, 16, 2, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("가게당 연결 수 상한을 넘으면 가장 오래된 연결을 종료")
+    void 가게당_연결_수_상한을_넘으면_가장_오래된_연결을_종료() {
+        // When
+        registry.subscribe(shopId, null);
+        registry.subscribe(shopId, null);
+        registry.subscribe(shopId, null);
+        registry.subscribe(ShopId.of("shop-2"), null);
+
+        // Then
+        assertThat(registry.streamCount(shopId)).isEqualTo(2);
+        assertThat(registry.streamCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("구독이 없는 가게의 주문도 재연결 재전송용으로 보관")
+    void 구독이_없는_가게의_주문도_재연결_재전송용으로_보관() {
+        // When
+        registry.onOrderPlaced(orderPlaced("order-1", "shop-1"));
+
+        // Then
+        assertThatCode(() -> registry.subscribe(shopId, "not-a-number")).doesNotThrowAnyException();
+        assertThat(registry.streamCount(shopId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스나 재기동 전에 발급된 이벤트 ID는 순번이 같아도 이 인스턴스의 순번으로 보지 않음")
+    void 다른_인스턴스의_이벤트_ID는_이_인스턴스의_순번으로_보지_않음() {
+        // Given
+        ShopOrderStreamRegistry otherInstance = new ShopOrderStreamRegistry(60_000, 100, 16, 2, 60_000);
+        String foreignId = otherInstance.eventId(1);
+        otherInstance.close();
+
+        // When & Then
+        assertThat(registry.localSequenceOf(registry.eventId(1))).isEqualTo(1);
+        assertThat(registry.localSequenceOf(foreignId)).isEqualTo(-1);
+        assertThat(registry.localSequenceOf("1")).isEqualTo(-1);
+        assertThat(registry.localSequenceOf(null)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("연결이 없고 유휴 시간이 지난 가게 채널만 정리")
+    void 연결이_없고_유휴_시간이_지난_가게_채널만_정리() {
+        // Given
+        registry.onOrderPlaced(orderPlaced("order-1", "shop-1"));
+        registry.subscribe(ShopId.of("shop-2"), null);
+
+        // When
+        int notYet = registry.evictIdleChannels(System.currentTimeMillis());
+        int evicted = registry.evictIdleChannels(System.currentTimeMillis() + 60_000);
+
+        // Then
+        assertThat(notYet).isZero();
+        assertThat(evicted).isEqualTo(1);
+        assertThat(registry.channelCount()).isEqualTo(1);
+        assertThat(registry.streamCount(ShopId.of("shop-2"))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리된 가게에도 이후 주문과 구독은 새 채널로 이어짐")
+    void 정리된_가게에도_이후_주문과_구독은_새_채널로_이어짐() {
+        // Given
+        registry.onOrderPlaced(orderPlaced("order-1", "shop-1"));
+        registry.evictIdleChannels(System.currentTimeMillis() + 60_000);
+
+        // When
+        registry.onOrderPlaced(orderPlaced("order-2", "shop-1"));
+        registry.subscribe(shopId, registry.eventId(1));
+
+        // Then
+        assertThat(registry.channelCount()).isEqualTo(1);
+        assertThat(registry.streamCount(shopId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연결된 가게에 주문을 전송해도 버퍼 안에서는 연결을 유지")
+    void 연결된_가게에_주문을_전송해도_버퍼_안에서는_연결을_유지() {
+        // Given
+        registry.subscribe(shopId, null);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            registry.onOrderPlaced(orderPlaced("order-" + i, "shop-1"));
+        }
+        registry.heartbeat();
+
+        // Then
+        assertThat(registry.streamCount(shopId)).isEqualTo(1);
+        assertThat(registry.droppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 모든 연결 정리")
+    void 종료_시_모든_연결_정리() {
+        // Given
+        registry.subscribe(shopId, null);
+        registry.subscribe(ShopId.of("shop-2"), null);
+
+        // When
+        registry.close();
+
+        // Then
+        assertThat(registry.streamCount()).isZero();
+    }
+
+    private static OrderPlacedEvent orderPlaced(String orderId, String shopId) {
+        return new OrderPlacedEvent(orderId, "user-1", shopId, new BigDecimal("15000"),
+            LocalDateTime.now(), "메뉴", 1, 1);
+    }
+}
@@ -0,0 +1,123 @@
+package harry.boilerplate.order.query.service;
+
+import harry.boilerplate.order.command.domain.event.OrderPlacedEvent;
+import harry.boilerplate.order.command.domain.valueObject.UserId;
+import harry.boilerplate.order.query.application.service.UserOrderCountCache;
+import harry.boilerplate.order.query.infrastructure.dao.OrderQueryDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserOrderCountCache 테스트")
+class UserOrderCountCacheTest {
+
+    @Mock
+    private OrderQueryDao orderQueryDao;
+
+    private UserOrderCountCache userOrderCountCache;
+
+    private final UserId userId = UserId.of("user-1");
+
+    @BeforeEach
+    void setUp() {
+        userOrderCountCache = new UserOrderCountCache(orderQueryDao, 60_000, 100);
+    }
+
+    @Test
+    @DisplayName("주문 수는 최초 조회 시에만 집계")
+    void 주문_수는_최초_조회_시에만_집계() {
+        // Given
+        when(orderQueryDao.countOrdersByUserId(userId)).thenReturn(3L);
+
+        // When
+        long first = userOrderCountCache.getCount(userId);
+        long second = userOrderCountCache.getCount(userId);
+
+        // Then
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(3L);
+        verify(orderQueryDao, times(1)).countOrdersByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("주문 생성 이벤트로 캐시된 주문 수 증가")
+    void 주문_생성_이벤트로_캐시된_주문_수_증가() {
+        // Given
+        when(orderQueryDao.countOrdersByUserId(userId)).thenReturn(3L);
+        userOrderCountCache.getCount(userId);
+
+        // When
+        userOrderCountCache.onOrderPlaced(placedEvent());
+
+        // Then
+        assertThat(userOrderCountCache.getCount(userId)).isEqualTo(4L);
+        verify(orderQueryDao, times(1)).countOrdersByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자의 주문 생성 이벤트는 다음 조회 시 집계")
+    void 캐시에_없는_사용자의_주문_생성_이벤트는_다음_조회_시_집계() {
+        // Given
+        userOrderCountCache.onOrderPlaced(placedEvent());
+        when(orderQueryDao.countOrdersByUserId(userId)).thenReturn(1L);
+
+        // When
+        long count = userOrderCountCache.getCount(userId);
+
+        // Then
+        assertThat(count).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 집계")
+    void TTL이_지나면_다시_집계() {
+        // Given
+        userOrderCountCache = new UserOrderCountCache(orderQueryDao, 0, 100);
+        when(orderQueryDao.countOrdersByUserId(userId)).thenReturn(3L, 5L);
+
+        // When
+        userOrderCountCache.getCount(userId);
+        long count = userOrderCountCache.getCount(userId);
+
+        // Then
+        assertThat(count).isEqualTo(5L);
+        verify(orderQueryDao, times(2)).countOrdersByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("최대 사용자 수를 넘으면 가장 오래 조회하지 않은 사용자부터 제거")
+    void 최대_사용자_수를_넘으면_가장_오래_조회하지_않은_사용자부터_제거() {
+        // Given
+        userOrderCountCache = new UserOrderCountCache(orderQueryDao, 60_000, 2);
+        UserId other = UserId.of("user-2");
+        UserId newcomer = UserId.of("user-3");
+        when(orderQueryDao.countOrdersByUserId(any(UserId.class))).thenReturn(1L);
+        userOrderCountCache.getCount(userId);
+        userOrderCountCache.getCount(other);
+        userOrderCountCache.getCount(userId);
+
+        // When
+        userOrderCountCache.getCount(newcomer);
+        userOrderCountCache.getCount(userId);
+        userOrderCountCache.getCount(other);
+
+        // Then
+        verify(orderQueryDao, times(1)).countOrdersByUserId(userId);
+        verify(orderQueryDao, times(2)).countOrdersByUserId(other);
+    }
+
+    private OrderPlacedEvent placedEvent() {
+        return new OrderPlacedEvent("order-1", "user-1", "shop-1", new BigDecimal("10000"),
+            LocalDateTime.now(), "짜장면", 1, 1);
+    }
+}
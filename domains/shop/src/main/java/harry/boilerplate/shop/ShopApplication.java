@@ -4,11 +4,13 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Shop Context Spring Boot 애플리케이션
  */
 @SpringBootApplication
+@EnableScheduling
 @ComponentScan(basePackages = {
     "harry.boilerplate.shop",
     "harry.boilerplate.common"
@@ -155,6 +155,8 @@ public class Menu extends AggregateRoot<Menu, MenuId> {
         // OptionGroup 생성 및 추가
         OptionGroup optionGroup = new OptionGroup(this, OptionGroupId.generate(), name, required);
         this.optionGroups.add(optionGroup);
+
+        touch();
     }
 
     /**
@@ -183,6 +185,8 @@ public class Menu extends AggregateRoot<Menu, MenuId> {
 
         // 옵션그룹 이름 변경
         targetGroup.changeName(newName);
+
+        touch();
     }
 
     /**
@@ -208,6 +212,8 @@ public class Menu extends AggregateRoot<Menu, MenuId> {
 
         // 옵션 이름 변경
         targetGroup.changeOptionName(currentName, currentPrice, newName);
+
+        touch();
     }
 
     /**
@@ -229,6 +235,8 @@ public class Menu extends AggregateRoot<Menu, MenuId> {
 
         // 옵션그룹 제거
         this.optionGroups.removeIf(group -> group.getId().equals(optionGroupId));
+
+        touch();
     }
 
     /**
@@ -2,6 +2,7 @@ package harry.boilerplate.shop.command.domain.aggregate;
 
 import harry.boilerplate.common.domain.entity.AggregateRoot;
 import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.shop.command.domain.event.ShopBusinessHoursChangedEvent;
 import harry.boilerplate.shop.command.domain.event.ShopClosedEvent;
 import harry.boilerplate.shop.command.domain.valueObject.*;
 import harry.boilerplate.shop.command.domain.exception.ShopDomainException;
@@ -20,7 +21,7 @@ import java.util.UUID;
  * Requirements: 10.5 - BaseEntity 상속으로 공통 필드 관리
  */
 @Entity
-@Table(name = "shop")
+@Table(name = "shop", indexes = @Index(name = "idx_shop_updated_at", columnList = "updated_at"))
 public class Shop extends AggregateRoot<Shop, ShopId> {
 
     @Id
@@ -52,6 +53,8 @@ public class Shop extends AggregateRoot<Shop, ShopId> {
         this.name = name.trim();
         this.minOrderAmount = minOrderAmount != null ? minOrderAmount.getAmount() : null;
         this.businessHours = businessHours;
+
+        addDomainEvent(new ShopBusinessHoursChangedEvent(this.id, this.businessHours));
     }
 
     @Override
@@ -98,6 +101,8 @@ public class Shop extends AggregateRoot<Shop, ShopId> {
             weeklyHours.put(day, new LocalTime[]{openTime, closeTime});
         }
         this.businessHours = new BusinessHours(weeklyHours);
+
+        addDomainEvent(new ShopBusinessHoursChangedEvent(this.id, this.businessHours));
     }
 
     /**
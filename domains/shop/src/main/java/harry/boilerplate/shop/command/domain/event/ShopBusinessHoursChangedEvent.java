@@ -0,0 +1,72 @@
+package harry.boilerplate.shop.command.domain.event;
+
+import harry.boilerplate.common.domain.event.DomainEvent;
+import harry.boilerplate.shop.command.domain.valueObject.BusinessHours;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 가게 영업시간이 정해지거나 바뀌었을 때 발행되는 도메인 이벤트
+ * 가게 생성과 영업시간 조정 시 발행되며, 조회 측 영업 중 가게 색인이 해당 가게만 갱신하는 데 사용
+ */
+public class ShopBusinessHoursChangedEvent implements DomainEvent {
+    private final UUID eventId = UUID.randomUUID();
+    private final Instant occurredAt = Instant.now();
+    private final String aggregateId; // shopId
+    private final String aggregateType = "Shop";
+    private final int version = 1;
+
+    // 비즈니스 데이터 (영업시간이 없는 가게는 null)
+    private final BusinessHours businessHours;
+
+    public ShopBusinessHoursChangedEvent(String shopId, BusinessHours businessHours) {
+        this.aggregateId = shopId;
+        this.businessHours = businessHours;
+    }
+
+    @Override
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    @Override
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    // 비즈니스 데이터 접근자
+    public String getShopId() {
+        return aggregateId;
+    }
+
+    public BusinessHours getBusinessHours() {
+        return businessHours;
+    }
+
+    @Override
+    public String toString() {
+        return "ShopBusinessHoursChangedEvent{" +
+                "eventId=" + eventId +
+                ", occurredAt=" + occurredAt +
+                ", aggregateId='" + aggregateId + '\'' +
+                ", aggregateType='" + aggregateType + '\'' +
+                ", version=" + version +
+                '}';
+    }
+}
@@ -0,0 +1,9 @@
+package harry.boilerplate.shop.command.domain.event;
+
+/**
+ * 가게의 메뉴판 구성이 바뀌었음을 알리는 변경 알림
+ * 메뉴·가게 리포지토리가 저장·삭제 직후 발행하며, 조회 측은 커밋 후 이 알림으로 가게 단위 캐시를 다시 만듦
+ * (메뉴 생성·공개, 옵션그룹 변경, 최소 주문금액·영업시간 변경 등 애그리게이트 변경 종류와 무관하게 가게 ID만 전달)
+ */
+public record ShopCatalogChangedEvent(String shopId) {
+}
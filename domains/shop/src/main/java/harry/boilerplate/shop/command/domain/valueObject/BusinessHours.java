@@ -4,6 +4,7 @@ import harry.boilerplate.common.domain.entity.ValueObject;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import jakarta.persistence.Transient;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.EnumMap;
@@ -12,6 +13,7 @@ import java.util.Map;
 /**
  * 가게 영업시간 값 객체
  * 요일별 영업시간을 관리
+ * 영업 여부 판단은 처음 필요할 때 만든 WeeklySchedule에 맡기며, 자정을 넘기는 영업시간도 처리
  */
 @Embeddable
 public class BusinessHours extends ValueObject {
@@ -58,6 +60,9 @@ public class BusinessHours extends ValueObject {
     @Column(name = "sunday_close")
     private LocalTime sundayClose;
     
+    @Transient
+    private volatile WeeklySchedule weeklySchedule;
+    
     protected BusinessHours() {
         // JPA용 기본 생성자
     }
@@ -118,35 +123,34 @@ public class BusinessHours extends ValueObject {
      * 특정 요일의 영업 여부 확인
      */
     public boolean isOpenOn(DayOfWeek dayOfWeek) {
-        LocalTime[] hours = getHoursForDay(dayOfWeek);
-        return hours[0] != null && hours[1] != null;
+        return switch (dayOfWeek) {
+            case MONDAY -> mondayOpen != null && mondayClose != null;
+            case TUESDAY -> tuesdayOpen != null && tuesdayClose != null;
+            case WEDNESDAY -> wednesdayOpen != null && wednesdayClose != null;
+            case THURSDAY -> thursdayOpen != null && thursdayClose != null;
+            case FRIDAY -> fridayOpen != null && fridayClose != null;
+            case SATURDAY -> saturdayOpen != null && saturdayClose != null;
+            case SUNDAY -> sundayOpen != null && sundayClose != null;
+        };
     }
     
     /**
-     * 특정 요일과 시간에 영업 중인지 확인
+     * 특정 요일과 시간에 영업 중인지 확인 (전날 자정을 넘겨 이어지는 영업 포함)
      */
     public boolean isOpenAt(DayOfWeek dayOfWeek, LocalTime time) {
-        if (!isOpenOn(dayOfWeek)) {
-            return false;
-        }
-        
-        LocalTime[] hours = getHoursForDay(dayOfWeek);
-        LocalTime openTime = hours[0];
-        LocalTime closeTime = hours[1];
-        
-        return !time.isBefore(openTime) && time.isBefore(closeTime);
+        return getWeeklySchedule().isOpenAt(dayOfWeek, time);
     }
     
-    private LocalTime[] getHoursForDay(DayOfWeek dayOfWeek) {
-        return switch (dayOfWeek) {
-            case MONDAY -> new LocalTime[]{mondayOpen, mondayClose};
-            case TUESDAY -> new LocalTime[]{tuesdayOpen, tuesdayClose};
-            case WEDNESDAY -> new LocalTime[]{wednesdayOpen, wednesdayClose};
-            case THURSDAY -> new LocalTime[]{thursdayOpen, thursdayClose};
-            case FRIDAY -> new LocalTime[]{fridayOpen, fridayClose};
-            case SATURDAY -> new LocalTime[]{saturdayOpen, saturdayClose};
-            case SUNDAY -> new LocalTime[]{sundayOpen, sundayClose};
-        };
+    /**
+     * 주간 영업 일정 (요일별 영업시간을 분 단위 구간으로 압축한 형태)
+     */
+    public WeeklySchedule getWeeklySchedule() {
+        WeeklySchedule schedule = weeklySchedule;
+        if (schedule == null) {
+            schedule = WeeklySchedule.of(getWeeklyHours());
+            weeklySchedule = schedule;
+        }
+        return schedule;
     }
     
     /**
@@ -0,0 +1,243 @@
+package harry.boilerplate.shop.command.domain.valueObject;
+
+import harry.boilerplate.common.domain.entity.ValueObject;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 주간 영업 일정 값 객체
+ * 영업 구간을 한 주의 분(월요일 00:00 = 0 ~ 일요일 23:59 = 10079) 단위 [시작, 끝)으로 보관
+ * - 구간 하나를 int 하나로 압축 (상위 16비트 = 시작, 하위 16비트 = 끝)하고 시작 순으로 정렬해 이진 탐색
+ * - 하루에 여러 구간을 둘 수 있으며, 자정을 넘기는 구간은 다음 날 닫는 시각까지 이어짐
+ * - 일요일 밤에 시작한 구간은 끝이 한 주(10080분)를 넘을 수 있고, 월요일 새벽 조회 시 한 주를 더해 비교
+ * - 여는 시각과 닫는 시각이 같은 구간은 휴무로 보고 버림
+ * 영업 여부 확인은 객체를 만들지 않으므로 많은 가게를 반복 확인하는 조회 측에서도 그대로 사용
+ */
+public final class WeeklySchedule extends ValueObject {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    public static final WeeklySchedule CLOSED = new WeeklySchedule(new int[0]);
+
+    private static final int END_MASK = 0xFFFF;
+
+    private final int[] ranges;
+
+    private WeeklySchedule(int[] ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * 요일별 [여는 시각, 닫는 시각] 쌍으로 생성 (한 요일에 여러 쌍을 이어 붙일 수 있음)
+     * 값이 없거나 시각이 null인 쌍은 휴무로 봄
+     */
+    public static WeeklySchedule of(Map<DayOfWeek, LocalTime[]> weeklyHours) {
+        if (weeklyHours == null) {
+            throw new IllegalArgumentException("영업시간 정보는 필수입니다");
+        }
+
+        int count = 0;
+        for (LocalTime[] hours : weeklyHours.values()) {
+            if (hours != null) {
+                if (hours.length % 2 != 0) {
+                    throw new IllegalArgumentException("영업시간은 여는 시각과 닫는 시각의 쌍이어야 합니다");
+                }
+                count += hours.length / 2;
+            }
+        }
+
+        int[] packed = new int[count];
+        int size = 0;
+        for (Map.Entry<DayOfWeek, LocalTime[]> day : weeklyHours.entrySet()) {
+            LocalTime[] hours = day.getValue();
+            if (hours == null) {
+                continue;
+            }
+            for (int i = 0; i < hours.length; i += 2) {
+                LocalTime open = hours[i];
+                LocalTime close = hours[i + 1];
+                if (open == null || close == null || open.equals(close)) {
+                    continue;
+                }
+                int start = minuteOfWeek(day.getKey(), open);
+                // 자정을 넘기는 영업은 다음 날 닫는 시각까지
+                int end = start - minuteOfDay(open) + minuteOfDay(close) + (close.isBefore(open) ? MINUTES_PER_DAY : 0);
+                packed[size++] = pack(start, end);
+            }
+        }
+        return size == 0 ? CLOSED : new WeeklySchedule(merge(packed, size));
+    }
+
+    /**
+     * 주어진 시각(한 주의 분)에 영업 중인지 확인
+     */
+    public boolean isOpenAt(int minuteOfWeek) {
+        int size = ranges.length;
+        if (size == 0) {
+            return false;
+        }
+        // 시작이 minuteOfWeek 이하인 마지막 구간
+        int index = -Arrays.binarySearch(ranges, (minuteOfWeek << 16) | END_MASK) - 2;
+        if (index >= 0 && minuteOfWeek < endOf(index)) {
+            return true;
+        }
+        // 일요일 밤에 시작해 한 주를 넘긴 구간
+        return minuteOfWeek + MINUTES_PER_WEEK < endOf(size - 1);
+    }
+
+    /**
+     * 특정 요일과 시간에 영업 중인지 확인
+     */
+    public boolean isOpenAt(DayOfWeek dayOfWeek, LocalTime time) {
+        return isOpenAt(minuteOfWeek(dayOfWeek, time));
+    }
+
+    /**
+     * 특정 시각에 영업 중인지 확인
+     */
+    public boolean isOpenAt(LocalDateTime time) {
+        return isOpenAt(minuteOfWeek(time));
+    }
+
+    /**
+     * 여러 일정의 영업 여부를 같은 시각 기준으로 한 번에 확인
+     * 결과는 호출자가 넘긴 배열에 채우며, 일정이 null이면 영업하지 않는 것으로 봄
+     */
+    public static void evaluateAt(int minuteOfWeek, WeeklySchedule[] schedules, boolean[] open) {
+        if (open.length < schedules.length) {
+            throw new IllegalArgumentException("결과 배열이 일정 수보다 작습니다");
+        }
+        for (int i = 0; i < schedules.length; i++) {
+            WeeklySchedule schedule = schedules[i];
+            open[i] = schedule != null && schedule.isOpenAt(minuteOfWeek);
+        }
+    }
+
+    /**
+     * 영업 구간이 하나도 없는지 여부
+     */
+    public boolean isClosedAllWeek() {
+        return ranges.length == 0;
+    }
+
+    /**
+     * 영업 구간 수
+     */
+    public int rangeCount() {
+        return ranges.length;
+    }
+
+    /**
+     * index번째 구간의 시작 (한 주의 분)
+     */
+    public int startOf(int index) {
+        return ranges[index] >>> 16;
+    }
+
+    /**
+     * index번째 구간의 끝 (한 주의 분, 일요일 밤에 시작한 구간은 한 주를 넘을 수 있음)
+     */
+    public int endOf(int index) {
+        return ranges[index] & END_MASK;
+    }
+
+    /**
+     * 해당 요일에 시작하는 첫 구간의 여는 시각 (없으면 null)
+     */
+    public LocalTime openTimeOn(DayOfWeek dayOfWeek) {
+        int index = firstRangeOn(dayOfWeek);
+        return index < 0 ? null : timeOf(startOf(index));
+    }
+
+    /**
+     * 해당 요일에 시작하는 첫 구간의 닫는 시각 (없으면 null)
+     */
+    public LocalTime closeTimeOn(DayOfWeek dayOfWeek) {
+        int index = firstRangeOn(dayOfWeek);
+        return index < 0 ? null : timeOf(endOf(index));
+    }
+
+    public static int minuteOfWeek(DayOfWeek dayOfWeek, LocalTime time) {
+        return (dayOfWeek.getValue() - 1) * MINUTES_PER_DAY + minuteOfDay(time);
+    }
+
+    public static int minuteOfWeek(LocalDateTime time) {
+        return minuteOfWeek(time.getDayOfWeek(), time.toLocalTime());
+    }
+
+    private int firstRangeOn(DayOfWeek dayOfWeek) {
+        int dayStart = (dayOfWeek.getValue() - 1) * MINUTES_PER_DAY;
+        for (int i = 0; i < ranges.length; i++) {
+            int start = startOf(i);
+            if (start >= dayStart + MINUTES_PER_DAY) {
+                break;
+            }
+            if (start >= dayStart) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime timeOf(int minuteOfWeek) {
+        int minuteOfDay = minuteOfWeek % MINUTES_PER_DAY;
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    private static int pack(int start, int end) {
+        return (start << 16) | end;
+    }
+
+    /**
+     * 시작 순으로 정렬하고 겹치는 구간을 합침 (맞닿은 구간은 요일별 표시를 위해 그대로 둠)
+     */
+    private static int[] merge(int[] packed, int size) {
+        Arrays.sort(packed, 0, size);
+        int merged = 0;
+        for (int i = 0; i < size; i++) {
+            int start = packed[i] >>> 16;
+            int end = packed[i] & END_MASK;
+            if (merged > 0) {
+                int previous = packed[merged - 1];
+                int previousEnd = previous & END_MASK;
+                if (start < previousEnd) {
+                    packed[merged - 1] = pack(previous >>> 16, Math.max(previousEnd, end));
+                    continue;
+                }
+            }
+            packed[merged++] = packed[i];
+        }
+        return merged == packed.length ? packed : Arrays.copyOf(packed, merged);
+    }
+
+    @Override
+    protected Object[] getEqualityComponents() {
+        return new Object[]{Arrays.hashCode(ranges)};
+    }
+
+    @Override
+    protected boolean equalsByValue(Object other) {
+        return Arrays.equals(this.ranges, ((WeeklySchedule) other).ranges);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("WeeklySchedule[");
+        for (int i = 0; i < ranges.length; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(startOf(i)).append('-').append(endOf(i));
+        }
+        return text.append(']').toString();
+    }
+}
@@ -2,11 +2,13 @@ package harry.boilerplate.shop.command.infrastructure.repository;
 
 import harry.boilerplate.shop.command.domain.aggregate.Menu;
 import harry.boilerplate.shop.command.domain.aggregate.MenuRepository;
+import harry.boilerplate.shop.command.domain.event.ShopCatalogChangedEvent;
 import harry.boilerplate.shop.command.domain.valueObject.MenuId;
 import harry.boilerplate.shop.command.domain.valueObject.ShopId;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,12 @@ public class MenuRepositoryImpl implements MenuRepository {
     @PersistenceContext
     private EntityManager entityManager;
     
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public MenuRepositoryImpl(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+    
     @Override
     public void save(Menu menu) {
         if (menu == null) {
@@ -35,8 +43,12 @@ public class MenuRepositoryImpl implements MenuRepository {
             entityManager.persist(menu);
         }
         
-        // 도메인 이벤트 처리는 별도 이벤트 퍼블리셔에서 담당
         entityManager.flush();
+        
+        // 도메인 이벤트와 메뉴판 변경 알림 발행 (조회 측 캐시는 커밋 후 반영)
+        menu.getDomainEvents().forEach(eventPublisher::publishEvent);
+        menu.clearDomainEvents();
+        eventPublisher.publishEvent(new ShopCatalogChangedEvent(menu.getShopId().getValue()));
     }
     
     @Override
@@ -91,6 +103,7 @@ public class MenuRepositoryImpl implements MenuRepository {
         if (managedMenu != null) {
             entityManager.remove(managedMenu);
             entityManager.flush();
+            eventPublisher.publishEvent(new ShopCatalogChangedEvent(managedMenu.getShopId().getValue()));
         }
     }
     
@@ -104,6 +117,7 @@ public class MenuRepositoryImpl implements MenuRepository {
         if (menu != null) {
             entityManager.remove(menu);
             entityManager.flush();
+            eventPublisher.publishEvent(new ShopCatalogChangedEvent(menu.getShopId().getValue()));
         }
     }
     
@@ -119,5 +133,6 @@ public class MenuRepositoryImpl implements MenuRepository {
             .executeUpdate();
             
         entityManager.flush();
+        eventPublisher.publishEvent(new ShopCatalogChangedEvent(shopId.getValue()));
     }
 }
\ No newline at end of file
@@ -2,10 +2,12 @@ package harry.boilerplate.shop.command.infrastructure.repository;
 
 import harry.boilerplate.shop.command.domain.aggregate.Shop;
 import harry.boilerplate.shop.command.domain.aggregate.ShopRepository;
+import harry.boilerplate.shop.command.domain.event.ShopCatalogChangedEvent;
 import harry.boilerplate.shop.command.domain.valueObject.ShopId;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,12 @@ public class ShopRepositoryImpl implements ShopRepository {
     @PersistenceContext
     private EntityManager entityManager;
     
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public ShopRepositoryImpl(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+    
     @Override
     public void save(Shop shop) {
         if (shop == null) {
@@ -32,8 +40,12 @@ public class ShopRepositoryImpl implements ShopRepository {
             entityManager.persist(shop);
         }
         
-        // 도메인 이벤트 처리는 별도 이벤트 퍼블리셔에서 담당
         entityManager.flush();
+        
+        // 도메인 이벤트와 메뉴판 변경 알림 발행 (조회 측 캐시는 커밋 후 반영)
+        shop.getDomainEvents().forEach(eventPublisher::publishEvent);
+        shop.clearDomainEvents();
+        eventPublisher.publishEvent(new ShopCatalogChangedEvent(shop.getId().getValue()));
     }
     
     @Override
@@ -76,6 +88,7 @@ public class ShopRepositoryImpl implements ShopRepository {
         if (managedShop != null) {
             entityManager.remove(managedShop);
             entityManager.flush();
+            eventPublisher.publishEvent(new ShopCatalogChangedEvent(managedShop.getId().getValue()));
         }
     }
     
@@ -89,6 +102,7 @@ public class ShopRepositoryImpl implements ShopRepository {
         if (shop != null) {
             entityManager.remove(shop);
             entityManager.flush();
+            eventPublisher.publishEvent(new ShopCatalogChangedEvent(shopId.getValue()));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package harry.boilerplate.shop.query.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * 메뉴 상세 일괄 조회 쿼리 DTO
+ */
+public class MenuDetailsQuery {
+    
+    @NotBlank(message = "가게 ID는 필수입니다")
+    private final String shopId;
+    
+    @NotEmpty(message = "메뉴 ID 목록은 필수입니다")
+    private final List<String> menuIds;
+    
+    public MenuDetailsQuery(String shopId, List<String> menuIds) {
+        this.shopId = shopId;
+        this.menuIds = menuIds != null ? List.copyOf(menuIds) : List.of();
+    }
+    
+    public String getShopId() {
+        return shopId;
+    }
+    
+    public List<String> getMenuIds() {
+        return menuIds;
+    }
+}
@@ -0,0 +1,25 @@
+package harry.boilerplate.shop.query.application.dto;
+
+import harry.boilerplate.shop.query.application.readModel.MenuDetailReadModel;
+
+import java.util.List;
+
+/**
+ * 메뉴 상세 일괄 조회 결과 DTO
+ */
+public class MenuDetailsResult {
+    
+    private final List<MenuDetailReadModel> menus;
+    
+    public MenuDetailsResult(List<MenuDetailReadModel> menus) {
+        this.menus = menus;
+    }
+    
+    public List<MenuDetailReadModel> getMenus() {
+        return menus;
+    }
+    
+    public static MenuDetailsResult from(List<MenuDetailReadModel> menus) {
+        return new MenuDetailsResult(menus);
+    }
+}
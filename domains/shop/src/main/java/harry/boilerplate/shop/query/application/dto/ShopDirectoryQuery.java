@@ -0,0 +1,20 @@
+package harry.boilerplate.shop.query.application.dto;
+
+import java.time.Instant;
+
+/**
+ * 가게 디렉터리 조회 쿼리 DTO
+ * updatedSince가 없으면 전체, 있으면 해당 시각 이후(포함) 변경된 가게만 조회
+ */
+public class ShopDirectoryQuery {
+
+    private final Instant updatedSince;
+
+    public ShopDirectoryQuery(Instant updatedSince) {
+        this.updatedSince = updatedSince;
+    }
+
+    public Instant getUpdatedSince() {
+        return updatedSince;
+    }
+}
@@ -0,0 +1,25 @@
+package harry.boilerplate.shop.query.application.dto;
+
+import harry.boilerplate.shop.query.application.readModel.ShopDirectoryEntryReadModel;
+
+import java.util.List;
+
+/**
+ * 가게 디렉터리 조회 결과 DTO
+ */
+public class ShopDirectoryResult {
+
+    private final List<ShopDirectoryEntryReadModel> shops;
+
+    public ShopDirectoryResult(List<ShopDirectoryEntryReadModel> shops) {
+        this.shops = shops;
+    }
+
+    public List<ShopDirectoryEntryReadModel> getShops() {
+        return shops;
+    }
+
+    public static ShopDirectoryResult from(List<ShopDirectoryEntryReadModel> shops) {
+        return new ShopDirectoryResult(shops);
+    }
+}
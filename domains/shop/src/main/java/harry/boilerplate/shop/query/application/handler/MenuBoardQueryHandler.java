@@ -1,27 +1,37 @@
 package harry.boilerplate.shop.query.application.handler;
 
+import harry.boilerplate.common.response.ResourceVersion;
 import harry.boilerplate.shop.query.application.dto.MenuBoardQuery;
 import harry.boilerplate.shop.query.application.dto.MenuBoardResult;
 import harry.boilerplate.shop.query.application.readModel.MenuBoardViewModel;
-import harry.boilerplate.shop.query.infrastructure.dao.MenuQueryDao;
-import harry.boilerplate.shop.query.infrastructure.dao.ShopQueryDao;
+import harry.boilerplate.shop.query.application.service.MenuBoardCache;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 /**
  * 메뉴보드 조회 Query Handler
+ * 가게별로 미리 만들어 둔 메뉴판 캐시에서 조회하며, 버전도 제공 중인 메뉴판으로부터 계산
  * Requirements: 4.1, 4.2, 4.3 - 고객이 가게의 메뉴보드를 조회할 수 있어야 함
  */
 @Component
-@Transactional(readOnly = true)
 public class MenuBoardQueryHandler {
     
-    private final MenuQueryDao menuQueryDao;
-    private final ShopQueryDao shopQueryDao;
+    private final MenuBoardCache menuBoardCache;
+    
+    public MenuBoardQueryHandler(MenuBoardCache menuBoardCache) {
+        this.menuBoardCache = menuBoardCache;
+    }
     
-    public MenuBoardQueryHandler(MenuQueryDao menuQueryDao, ShopQueryDao shopQueryDao) {
-        this.menuQueryDao = menuQueryDao;
-        this.shopQueryDao = shopQueryDao;
+    /**
+     * 메뉴보드 버전 조회 (가게가 없으면 empty)
+     */
+    public Optional<ResourceVersion> version(MenuBoardQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("MenuBoardQuery는 필수입니다");
+        }
+        
+        return menuBoardCache.version(query.getShopId());
     }
     
     /**
@@ -35,7 +45,7 @@ public class MenuBoardQueryHandler {
         }
         
         // 메뉴보드 조회
-        MenuBoardViewModel viewModel = menuQueryDao.getMenuBoard(query.getShopId());
+        MenuBoardViewModel viewModel = menuBoardCache.get(query.getShopId());
         
         if (viewModel == null) {
             return null;
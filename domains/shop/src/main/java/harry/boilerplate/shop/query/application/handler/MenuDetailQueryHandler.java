@@ -1,5 +1,6 @@
 package harry.boilerplate.shop.query.application.handler;
 
+import harry.boilerplate.common.response.ResourceVersion;
 import harry.boilerplate.shop.query.application.dto.MenuDetailQuery;
 import harry.boilerplate.shop.query.application.dto.MenuDetailResult;
 import harry.boilerplate.shop.query.application.readModel.MenuDetailReadModel;
@@ -7,6 +8,8 @@ import harry.boilerplate.shop.query.infrastructure.dao.MenuQueryDao;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * 메뉴 상세 조회 Query Handler
  * Requirements: 4.4 - 고객이 메뉴 상세 정보를 조회할 수 있어야 함
@@ -21,6 +24,13 @@ public class MenuDetailQueryHandler {
         this.menuQueryDao = menuQueryDao;
     }
     
+    /**
+     * 메뉴 상세 버전 조회 (메뉴가 없으면 empty)
+     */
+    public Optional<ResourceVersion> version(MenuDetailQuery query) {
+        return menuQueryDao.findMenuDetailVersion(query.getMenuId());
+    }
+    
     /**
      * 메뉴 상세 조회 처리
      * @param query 메뉴 상세 조회 쿼리
@@ -0,0 +1,42 @@
+package harry.boilerplate.shop.query.application.handler;
+
+import harry.boilerplate.shop.query.application.dto.MenuDetailsQuery;
+import harry.boilerplate.shop.query.application.dto.MenuDetailsResult;
+import harry.boilerplate.shop.query.application.readModel.MenuDetailReadModel;
+import harry.boilerplate.shop.query.infrastructure.dao.MenuQueryDao;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 메뉴 상세 일괄 조회 Query Handler
+ * 장바구니 가격 계산처럼 여러 메뉴가 한 번에 필요한 Order Context 요청을 한 번의 호출로 처리
+ */
+@Component
+@Transactional(readOnly = true)
+public class MenuDetailsQueryHandler {
+    
+    private static final int MAX_MENU_IDS = 100;
+    
+    private final MenuQueryDao menuQueryDao;
+    
+    public MenuDetailsQueryHandler(MenuQueryDao menuQueryDao) {
+        this.menuQueryDao = menuQueryDao;
+    }
+    
+    /**
+     * 메뉴 상세 일괄 조회 처리
+     * 가게에 없는 메뉴는 결과에서 제외
+     * @param query 메뉴 상세 일괄 조회 쿼리
+     * @return 메뉴 상세 일괄 조회 결과
+     */
+    public MenuDetailsResult handle(MenuDetailsQuery query) {
+        if (query.getMenuIds().size() > MAX_MENU_IDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 메뉴는 최대 " + MAX_MENU_IDS + "개입니다");
+        }
+        
+        List<MenuDetailReadModel> menus = menuQueryDao.findMenuDetails(query.getShopId(), query.getMenuIds());
+        return MenuDetailsResult.from(menus);
+    }
+}
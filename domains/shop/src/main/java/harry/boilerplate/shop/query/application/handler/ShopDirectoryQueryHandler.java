@@ -0,0 +1,31 @@
+package harry.boilerplate.shop.query.application.handler;
+
+import harry.boilerplate.shop.query.application.dto.ShopDirectoryQuery;
+import harry.boilerplate.shop.query.application.dto.ShopDirectoryResult;
+import harry.boilerplate.shop.query.infrastructure.dao.ShopQueryDao;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 가게 디렉터리 조회 Query Handler
+ * Order Context의 로컬 가게 디렉터리 적재(전체) 및 증분 동기화(updatedSince)에 사용
+ */
+@Component
+@Transactional(readOnly = true)
+public class ShopDirectoryQueryHandler {
+
+    private final ShopQueryDao shopQueryDao;
+
+    public ShopDirectoryQueryHandler(ShopQueryDao shopQueryDao) {
+        this.shopQueryDao = shopQueryDao;
+    }
+
+    /**
+     * 가게 디렉터리 조회 처리
+     * @param query 가게 디렉터리 조회 쿼리
+     * @return 변경 시각 오름차순의 가게 디렉터리 항목
+     */
+    public ShopDirectoryResult handle(ShopDirectoryQuery query) {
+        return ShopDirectoryResult.from(shopQueryDao.findShopDirectory(query.getUpdatedSince()));
+    }
+}
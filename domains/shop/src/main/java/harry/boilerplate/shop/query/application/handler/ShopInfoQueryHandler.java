@@ -1,5 +1,6 @@
 package harry.boilerplate.shop.query.application.handler;
 
+import harry.boilerplate.common.response.ResourceVersion;
 import harry.boilerplate.shop.query.application.dto.ShopInfoQuery;
 import harry.boilerplate.shop.query.application.dto.ShopInfoResult;
 import harry.boilerplate.shop.query.application.readModel.ShopDetailReadModel;
@@ -7,6 +8,8 @@ import harry.boilerplate.shop.query.infrastructure.dao.ShopQueryDao;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * 가게 정보 조회 Query Handler
  * Requirements: 4.1 - 고객이 가게 정보를 조회할 수 있어야 함
@@ -21,6 +24,13 @@ public class ShopInfoQueryHandler {
         this.shopQueryDao = shopQueryDao;
     }
     
+    /**
+     * 가게 정보 버전 조회 (가게가 없으면 empty)
+     */
+    public Optional<ResourceVersion> version(ShopInfoQuery query) {
+        return shopQueryDao.findShopDetailVersion(query.getShopId());
+    }
+    
     /**
      * 가게 정보 조회 처리
      * @param query 가게 정보 조회 쿼리
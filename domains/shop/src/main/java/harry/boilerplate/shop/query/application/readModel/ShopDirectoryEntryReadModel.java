@@ -0,0 +1,38 @@
+package harry.boilerplate.shop.query.application.readModel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 가게 디렉터리 항목 Read Model
+ * 다른 컨텍스트가 가게 이름/최소 주문 금액을 로컬에 복제할 때 사용하는 불변 데이터 객체
+ */
+public class ShopDirectoryEntryReadModel {
+    private final String id;
+    private final String name;
+    private final BigDecimal minOrderAmount;
+    private final Instant updatedAt;
+
+    public ShopDirectoryEntryReadModel(String id, String name, BigDecimal minOrderAmount, Instant updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.minOrderAmount = minOrderAmount;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getMinOrderAmount() {
+        return minOrderAmount;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,230 @@
+package harry.boilerplate.shop.query.application.service;
+
+import harry.boilerplate.common.response.ResourceVersion;
+import harry.boilerplate.shop.command.domain.event.ShopCatalogChangedEvent;
+import harry.boilerplate.shop.query.application.readModel.MenuBoardViewModel;
+import harry.boilerplate.shop.query.application.readModel.MenuSummaryReadModel;
+import harry.boilerplate.shop.query.infrastructure.dao.MenuQueryDao;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가게별 메뉴판 캐시
+ * 가게마다 완성된 메뉴판(MenuBoardViewModel)을 세대 번호와 함께 보관하고, 조회는 DB 접근 없이 메모리에서 처리
+ * - 메뉴·가게 변경이 커밋되면 해당 가게의 요청 세대를 올리고 별도 스레드에서 메뉴판을 다시 만듦
+ * - 재구성이 끝나기 전까지는 직전에 완성된 메뉴판을 그대로 제공하며, 새 메뉴판은 완성된 뒤에 한 번에 교체되므로
+ *   조회 측이 만들다 만 메뉴판을 보는 일은 없음
+ * - 영업 여부는 현재 시각에 따라 달라지므로 refresh-interval이 지난 메뉴판도 같은 방식으로 다시 만듦
+ * - 캐시에 없는 가게는 처음 조회할 때 동기로 만들며, 가게 수가 max-entries에 이르면 전체를 비움
+ * - 없는 가게도 빈 메뉴판 자리로 같은 방식으로 보관하여, 없는 가게 조회가 반복되어도 refresh-interval마다 한 번만 DB를 조회
+ *   (가게가 생성되면 변경 이벤트로 바로 다시 만듦)
+ * 변경 이벤트는 변경을 커밋한 인스턴스에만 전달되므로, 다른 인스턴스는 최대 refresh-interval 동안
+ * 이전 메뉴판(또는 가게 없음)을 제공할 수 있음
+ */
+@Component
+public class MenuBoardCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuBoardCache.class);
+
+    private final MenuQueryDao menuQueryDao;
+    private final Executor rebuildExecutor;
+    private final ExecutorService ownedExecutor;
+    private final int maxEntries;
+    private final long refreshIntervalMillis;
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    public MenuBoardCache(MenuQueryDao menuQueryDao,
+                          @Value("${shop.menu-board.rebuild-threads:2}") int rebuildThreads,
+                          @Value("${shop.menu-board.max-entries:10000}") int maxEntries,
+                          @Value("${shop.menu-board.refresh-interval-millis:60000}") long refreshIntervalMillis) {
+        this(menuQueryDao, Executors.newFixedThreadPool(Math.max(1, rebuildThreads)), maxEntries, refreshIntervalMillis);
+    }
+
+    MenuBoardCache(MenuQueryDao menuQueryDao, Executor rebuildExecutor, int maxEntries, long refreshIntervalMillis) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("메뉴판 캐시 크기는 1 이상이어야 합니다");
+        }
+        this.menuQueryDao = menuQueryDao;
+        this.rebuildExecutor = rebuildExecutor;
+        this.ownedExecutor = rebuildExecutor instanceof ExecutorService executorService ? executorService : null;
+        this.maxEntries = maxEntries;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    /**
+     * 가게의 메뉴판 조회 (가게가 없으면 null)
+     */
+    public MenuBoardViewModel get(String shopId) {
+        return find(shopId).map(Entry::board).orElse(null);
+    }
+
+    /**
+     * 가게의 메뉴판 버전 조회 (가게가 없으면 empty)
+     * 캐시된 메뉴판 내용으로 ETag를 만들어, 제공 중인 메뉴판과 버전이 항상 일치
+     */
+    public Optional<ResourceVersion> version(String shopId) {
+        return find(shopId).map(Entry::version);
+    }
+
+    /**
+     * 메뉴·가게 변경이 커밋되면 해당 가게의 메뉴판을 비동기로 다시 만듦 (캐시에 없는 가게는 다음 조회 시 생성)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onShopCatalogChanged(ShopCatalogChangedEvent event) {
+        Slot slot = event.shopId() != null ? slots.get(event.shopId()) : null;
+        if (slot == null) {
+            return;
+        }
+        slot.requested.incrementAndGet();
+        scheduleRebuild(event.shopId(), slot);
+    }
+
+    /**
+     * 캐시된 가게 수
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 가게의 캐시 항목 (가게가 없으면 board가 null인 항목)
+     */
+    private Optional<Entry> find(String shopId) {
+        if (shopId == null) {
+            return Optional.empty();
+        }
+
+        Slot slot = slots.get(shopId);
+        Entry entry = slot != null ? slot.entry : null;
+        if (entry == null) {
+            return Optional.of(loadNow(shopId));
+        }
+
+        if (entry.generation() < slot.requested.get()
+            || System.currentTimeMillis() - entry.builtAt() >= refreshIntervalMillis) {
+            scheduleRebuild(shopId, slot);
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * 캐시에 없는 가게의 메뉴판을 조회 스레드에서 바로 만들어 등록 (가게가 없으면 없음으로 등록)
+     */
+    private Entry loadNow(String shopId) {
+        if (slots.size() >= maxEntries) {
+            slots.clear();
+        }
+        Slot slot = slots.computeIfAbsent(shopId, key -> new Slot());
+        long generation = slot.requested.get();
+        return slot.install(Entry.of(generation, menuQueryDao.getMenuBoard(shopId)));
+    }
+
+    /**
+     * 가게당 재구성 작업은 하나만 실행하며, 실행 중 들어온 변경은 작업이 끝난 뒤 한 번 더 반영
+     */
+    private void scheduleRebuild(String shopId, Slot slot) {
+        if (!slot.rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> rebuild(shopId, slot));
+        } catch (RuntimeException e) {
+            slot.rebuilding.set(false);
+            logger.warn("메뉴판 재구성 예약 실패: shopId={}", shopId, e);
+        }
+    }
+
+    private void rebuild(String shopId, Slot slot) {
+        long generation = slot.requested.get();
+        try {
+            // 가게가 삭제되었으면 없음으로 교체
+            slot.install(Entry.of(generation, menuQueryDao.getMenuBoard(shopId)));
+        } catch (RuntimeException e) {
+            // 직전 메뉴판을 계속 제공하고 다음 조회 시 다시 시도
+            logger.warn("메뉴판 재구성 실패: shopId={}", shopId, e);
+            return;
+        } finally {
+            slot.rebuilding.set(false);
+        }
+
+        if (slot.requested.get() > generation) {
+            scheduleRebuild(shopId, slot);
+        }
+    }
+
+    /**
+     * 메뉴판에 표시되는 값 전체로 버전 생성 (인스턴스와 무관하게 같은 내용이면 같은 ETag)
+     */
+    private static ResourceVersion versionOf(MenuBoardViewModel board) {
+        StringBuilder content = new StringBuilder()
+            .append(board.getShopId()).append('|')
+            .append(board.getShopName()).append('|')
+            .append(board.isShopOpen());
+        appendMenus(content, board.getOpenMenus());
+        appendMenus(content, board.getClosedMenus());
+        return ResourceVersion.of(content);
+    }
+
+    private static void appendMenus(StringBuilder content, Iterable<MenuSummaryReadModel> menus) {
+        for (MenuSummaryReadModel menu : menus) {
+            content.append('|').append(menu.getId())
+                .append('|').append(menu.getName())
+                .append('|').append(menu.getDescription())
+                .append('|').append(menu.getBasePrice())
+                .append('|').append(menu.isOpen())
+                .append('|').append(menu.getOptionGroupCount());
+        }
+    }
+
+    /**
+     * 완성된 메뉴판과 그 메뉴판이 반영한 요청 세대 (가게가 없으면 board와 version이 null)
+     */
+    private record Entry(long generation, MenuBoardViewModel board, ResourceVersion version, long builtAt) {
+
+        static Entry of(long generation, MenuBoardViewModel board) {
+            return new Entry(generation, board, board != null ? versionOf(board) : null, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 가게 하나의 캐시 자리 (요청 세대, 현재 메뉴판, 재구성 진행 여부)
+     */
+    private static final class Slot {
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicBoolean rebuilding = new AtomicBoolean();
+        private volatile Entry entry;
+
+        /**
+         * 더 오래된 세대로 덮어쓰지 않도록 세대를 비교해 교체
+         */
+        synchronized Entry install(Entry built) {
+            if (entry == null || built.generation() >= entry.generation()) {
+                entry = built;
+            }
+            return entry;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package harry.boilerplate.shop.query.infrastructure.dao;
 
+import harry.boilerplate.common.response.ResourceVersion;
 import harry.boilerplate.shop.query.application.readModel.MenuBoardViewModel;
 import harry.boilerplate.shop.query.application.readModel.MenuDetailReadModel;
 import harry.boilerplate.shop.query.application.readModel.MenuSummaryReadModel;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,10 +16,16 @@ import java.util.Optional;
 public interface MenuQueryDao {
     
     /**
-     * 가게의 메뉴판 조회 (UI 최적화)
+     * 가게의 메뉴판 조회 (UI 최적화, 가게가 없으면 null)
      */
     MenuBoardViewModel getMenuBoard(String shopId);
     
+    /**
+     * 메뉴판 버전 조회 (가게가 없으면 empty)
+     * 가게 변경 시각, 현재 영업 여부, 메뉴 수와 최근 메뉴 변경 시각으로 결정되며 영업 여부가 섞여 있어 ETag만 제공
+     */
+    Optional<ResourceVersion> findMenuBoardVersion(String shopId);
+    
     /**
      * 가게의 모든 메뉴 요약 정보 조회
      */
@@ -33,6 +41,16 @@ public interface MenuQueryDao {
      */
     Optional<MenuDetailReadModel> findMenuDetail(String menuId);
     
+    /**
+     * 메뉴 상세 버전 조회 (메뉴가 없으면 empty, 옵션 변경도 메뉴 변경 시각에 반영됨)
+     */
+    Optional<ResourceVersion> findMenuDetailVersion(String menuId);
+    
+    /**
+     * 가게의 여러 메뉴 상세 정보 일괄 조회 (가게에 없는 메뉴는 제외)
+     */
+    List<MenuDetailReadModel> findMenuDetails(String shopId, Collection<String> menuIds);
+    
     /**
      * 메뉴 존재 여부 확인
      */
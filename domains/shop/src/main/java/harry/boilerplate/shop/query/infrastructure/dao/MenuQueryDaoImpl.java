@@ -1,7 +1,9 @@
 package harry.boilerplate.shop.query.infrastructure.dao;
 
+import harry.boilerplate.common.response.ResourceVersion;
 import harry.boilerplate.shop.query.application.readModel.*;
 import harry.boilerplate.shop.query.infrastructure.mapper.MenuReadModelMapper;
+import harry.boilerplate.shop.query.infrastructure.projection.OpenShopIndex;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.hibernate.jpa.AvailableHints;
@@ -10,8 +12,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -22,38 +28,54 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class MenuQueryDaoImpl implements MenuQueryDao {
     
+    // 옵션그룹 수는 메뉴마다 서브쿼리를 실행하지 않고 조인 후 메뉴별로 묶어 집계
+    private static final String MENU_SUMMARY_SELECT = """
+        SELECT m.id, m.shopId, m.name, m.description, m.basePrice, m.open, COUNT(og)
+        FROM Menu m LEFT JOIN m.optionGroups og
+        """;
+    
+    private static final String MENU_SUMMARY_GROUP_BY = """
+        GROUP BY m.id, m.shopId, m.name, m.description, m.basePrice, m.open, m.createdAt
+        """;
+    
+    // 메뉴 상세는 메뉴·옵션그룹·옵션을 한 번의 조인으로 조회하여 옵션그룹 수와 관계없이 쿼리 1회
+    private static final String MENU_DETAIL_SELECT = """
+        SELECT m.id, m.shopId, m.name, m.description, m.basePrice, m.open, m.createdAt, m.updatedAt,
+               og.id, og.name, og.required, o.name, o.price.amount
+        FROM Menu m LEFT JOIN m.optionGroups og LEFT JOIN og.options o
+        """;
+    
     @PersistenceContext
     private EntityManager entityManager;
     
     private final MenuReadModelMapper mapper;
+    private final OpenShopIndex openShopIndex;
     
-    public MenuQueryDaoImpl(MenuReadModelMapper mapper) {
+    public MenuQueryDaoImpl(MenuReadModelMapper mapper, OpenShopIndex openShopIndex) {
         this.mapper = mapper;
+        this.openShopIndex = openShopIndex;
     }
     
     @Override
     public MenuBoardViewModel getMenuBoard(String shopId) {
         // 가게 정보 조회
         String shopJpql = """
-            SELECT s.id, s.name, s.businessHours.openTime, s.businessHours.closeTime
+            SELECT s.name
             FROM Shop s
             WHERE s.id = :shopId
             """;
             
-        List<Object[]> shopResults = entityManager.createQuery(shopJpql, Object[].class)
+        List<String> shopResults = entityManager.createQuery(shopJpql, String.class)
             .setParameter("shopId", shopId)
             .setHint(AvailableHints.HINT_READ_ONLY, true)
             .getResultList();
             
         if (shopResults.isEmpty()) {
-            throw new IllegalArgumentException("Shop not found: " + shopId);
+            return null;
         }
         
-        Object[] shopRow = shopResults.get(0);
-        String shopName = (String) shopRow[1];
-        LocalTime openTime = (LocalTime) shopRow[2];
-        LocalTime closeTime = (LocalTime) shopRow[3];
-        boolean shopIsOpen = isCurrentlyOpen(openTime, closeTime);
+        String shopName = shopResults.get(0);
+        boolean shopIsOpen = openShopIndex.isOpenNow(shopId);
         
         // 메뉴 정보 조회
         List<MenuSummaryReadModel> allMenus = findMenuSummariesByShopId(shopId);
@@ -68,12 +90,38 @@ public class MenuQueryDaoImpl implements MenuQueryDao {
     }
     
     @Override
-    public List<MenuSummaryReadModel> findMenuSummariesByShopId(String shopId) {
+    public Optional<ResourceVersion> findMenuBoardVersion(String shopId) {
         String jpql = """
-            SELECT m.id, m.shopId, m.name, m.description, m.basePrice, m.open,
-                   (SELECT COUNT(og) FROM OptionGroupEntity og WHERE og.menu.id = m.id)
-            FROM Menu m
+            SELECT s.updatedAt,
+                   (SELECT COUNT(m) FROM Menu m WHERE m.shopId = s.id),
+                   (SELECT MAX(m.updatedAt) FROM Menu m WHERE m.shopId = s.id)
+            FROM Shop s
+            WHERE s.id = :shopId
+            """;
+            
+        List<Object[]> results = entityManager.createQuery(jpql, Object[].class)
+            .setParameter("shopId", shopId)
+            .setHint(AvailableHints.HINT_READ_ONLY, true)
+            .getResultList();
+            
+        if (results.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        Object[] row = results.get(0);
+        return Optional.of(ResourceVersion.of(
+            row[0],                                                      // shop updatedAt
+            openShopIndex.isOpenNow(shopId),                             // shopIsOpen
+            row[1],                                                      // menuCount
+            row[2]                                                       // 최근 메뉴 updatedAt
+        ));
+    }
+    
+    @Override
+    public List<MenuSummaryReadModel> findMenuSummariesByShopId(String shopId) {
+        String jpql = MENU_SUMMARY_SELECT + """
             WHERE m.shopId = :shopId
+            """ + MENU_SUMMARY_GROUP_BY + """
             ORDER BY m.createdAt
             """;
             
@@ -83,26 +131,14 @@ public class MenuQueryDaoImpl implements MenuQueryDao {
             .setHint(AvailableHints.HINT_CACHEABLE, true)
             .getResultList();
             
-        return results.stream()
-            .map(row -> new MenuSummaryReadModel(
-                (String) row[0],           // id
-                (String) row[1],           // shopId
-                (String) row[2],           // name
-                (String) row[3],           // description
-                (BigDecimal) row[4],       // basePrice
-                (Boolean) row[5],          // isOpen
-                ((Long) row[6]).intValue() // optionGroupCount
-            ))
-            .toList();
+        return toMenuSummaries(results);
     }
     
     @Override
     public List<MenuSummaryReadModel> findOpenMenuSummariesByShopId(String shopId) {
-        String jpql = """
-            SELECT m.id, m.shopId, m.name, m.description, m.basePrice, m.open,
-                   (SELECT COUNT(og) FROM OptionGroupEntity og WHERE og.menu.id = m.id)
-            FROM Menu m
+        String jpql = MENU_SUMMARY_SELECT + """
             WHERE m.shopId = :shopId AND m.open = true
+            """ + MENU_SUMMARY_GROUP_BY + """
             ORDER BY m.createdAt
             """;
             
@@ -112,26 +148,14 @@ public class MenuQueryDaoImpl implements MenuQueryDao {
             .setHint(AvailableHints.HINT_CACHEABLE, true)
             .getResultList();
             
-        return results.stream()
-            .map(row -> new MenuSummaryReadModel(
-                (String) row[0],           // id
-                (String) row[1],           // shopId
-                (String) row[2],           // name
-                (String) row[3],           // description
-                (BigDecimal) row[4],       // basePrice
-                (Boolean) row[5],          // isOpen
-                ((Long) row[6]).intValue() // optionGroupCount
-            ))
-            .toList();
+        return toMenuSummaries(results);
     }
     
     @Override
     public Optional<MenuDetailReadModel> findMenuDetail(String menuId) {
-        String jpql = """
-            SELECT m.id, m.shopId, m.name, m.description, m.basePrice, m.open,
-                   m.createdAt, m.updatedAt
-            FROM Menu m
+        String jpql = MENU_DETAIL_SELECT + """
             WHERE m.id = :menuId
+            ORDER BY og.createdAt, og.id
             """;
             
         List<Object[]> results = entityManager.createQuery(jpql, Object[].class)
@@ -139,26 +163,39 @@ public class MenuQueryDaoImpl implements MenuQueryDao {
             .setHint(AvailableHints.HINT_READ_ONLY, true)
             .getResultList();
             
-        if (results.isEmpty()) {
-            return Optional.empty();
-        }
-        
-        Object[] row = results.get(0);
+        return toMenuDetails(results).stream().findFirst();
+    }
+    
+    @Override
+    public Optional<ResourceVersion> findMenuDetailVersion(String menuId) {
+        String jpql = "SELECT m.updatedAt FROM Menu m WHERE m.id = :menuId";
         
-        // 옵션그룹 정보 조회
-        List<OptionGroupReadModel> optionGroups = findOptionGroupsByMenuId(menuId);
+        return entityManager.createQuery(jpql, Instant.class)
+            .setParameter("menuId", menuId)
+            .setHint(AvailableHints.HINT_READ_ONLY, true)
+            .getResultStream()
+            .findFirst()
+            .map(updatedAt -> ResourceVersion.lastModified(updatedAt, menuId));
+    }
+    
+    @Override
+    public List<MenuDetailReadModel> findMenuDetails(String shopId, Collection<String> menuIds) {
+        if (menuIds == null || menuIds.isEmpty()) {
+            return List.of();
+        }
         
-        return Optional.of(new MenuDetailReadModel(
-            (String) row[0],           // id
-            (String) row[1],           // shopId
-            (String) row[2],           // name
-            (String) row[3],           // description
-            (BigDecimal) row[4],       // basePrice
-            (Boolean) row[5],          // isOpen
-            optionGroups,              // optionGroups
-            (Instant) row[6],          // createdAt
-            (Instant) row[7]           // updatedAt
-        ));
+        String jpql = MENU_DETAIL_SELECT + """
+            WHERE m.shopId = :shopId AND m.id IN :menuIds
+            ORDER BY m.id, og.createdAt, og.id
+            """;
+            
+        List<Object[]> results = entityManager.createQuery(jpql, Object[].class)
+            .setParameter("shopId", shopId)
+            .setParameter("menuIds", menuIds)
+            .setHint(AvailableHints.HINT_READ_ONLY, true)
+            .getResultList();
+            
+        return toMenuDetails(results);
     }
     
     @Override
@@ -175,11 +212,9 @@ public class MenuQueryDaoImpl implements MenuQueryDao {
     
     @Override
     public List<MenuSummaryReadModel> searchMenusByName(String shopId, String nameKeyword) {
-        String jpql = """
-            SELECT m.id, m.shopId, m.name, m.description, m.basePrice, m.open,
-                   (SELECT COUNT(og) FROM OptionGroupEntity og WHERE og.menu.id = m.id)
-            FROM Menu m
+        String jpql = MENU_SUMMARY_SELECT + """
             WHERE m.shopId = :shopId AND m.name LIKE :nameKeyword
+            """ + MENU_SUMMARY_GROUP_BY + """
             ORDER BY m.name
             """;
             
@@ -189,6 +224,13 @@ public class MenuQueryDaoImpl implements MenuQueryDao {
             .setHint(AvailableHints.HINT_READ_ONLY, true)
             .getResultList();
             
+        return toMenuSummaries(results);
+    }
+    
+    /**
+     * 메뉴 요약 행 변환 (MENU_SUMMARY_SELECT 순서)
+     */
+    private List<MenuSummaryReadModel> toMenuSummaries(List<Object[]> results) {
         return results.stream()
             .map(row -> new MenuSummaryReadModel(
                 (String) row[0],           // id
@@ -203,75 +245,50 @@ public class MenuQueryDaoImpl implements MenuQueryDao {
     }
     
     /**
-     * 메뉴의 옵션그룹 정보 조회
+     * 메뉴·옵션그룹·옵션 조인 행을 메뉴 상세로 조립 (MENU_DETAIL_SELECT 순서)
+     * 메뉴당 (옵션그룹 × 옵션) 행이 연속으로 오며, 옵션그룹이 없는 메뉴는 옵션그룹 컬럼이 null인 한 행
      */
-    private List<OptionGroupReadModel> findOptionGroupsByMenuId(String menuId) {
-        String jpql = """
-            SELECT og.id, og.name, og.required
-            FROM OptionGroupEntity og
-            WHERE og.menu.id = :menuId
-            ORDER BY og.createdAt
-            """;
-            
-        List<Object[]> results = entityManager.createQuery(jpql, Object[].class)
-            .setParameter("menuId", menuId)
-            .setHint(AvailableHints.HINT_READ_ONLY, true)
-            .getResultList();
-            
-        return results.stream()
-            .map(row -> {
-                String optionGroupId = (String) row[0];
-                String name = (String) row[1];
-                Boolean required = (Boolean) row[2];
-                
-                List<OptionReadModel> options = findOptionsByOptionGroupId(optionGroupId);
-                
-                return new OptionGroupReadModel(optionGroupId, name, required, options);
-            })
-            .toList();
-    }
-    
-    /**
-     * 옵션그룹의 옵션 정보 조회
-     */
-    private List<OptionReadModel> findOptionsByOptionGroupId(String optionGroupId) {
-        String jpql = """
-            SELECT o.name, o.price
-            FROM OptionEntity o
-            WHERE o.optionGroup.id = :optionGroupId
-            ORDER BY o.createdAt
-            """;
-            
-        List<Object[]> results = entityManager.createQuery(jpql, Object[].class)
-            .setParameter("optionGroupId", optionGroupId)
-            .setHint(AvailableHints.HINT_READ_ONLY, true)
-            .getResultList();
-            
-        return results.stream()
-            .map(row -> new OptionReadModel(
-                (String) row[0],      // name
-                (BigDecimal) row[1]   // price
-            ))
-            .toList();
-    }
-    
-    /**
-     * 현재 시간 기준으로 영업 중인지 확인
-     */
-    private boolean isCurrentlyOpen(LocalTime openTime, LocalTime closeTime) {
-        if (openTime == null || closeTime == null) {
-            return false;
+    private List<MenuDetailReadModel> toMenuDetails(List<Object[]> results) {
+        Map<String, Object[]> menuRows = new LinkedHashMap<>();
+        Map<String, Map<String, Object[]>> groupRowsByMenu = new HashMap<>();
+        Map<String, List<OptionReadModel>> optionsByGroup = new HashMap<>();
+        for (Object[] row : results) {
+            String menuId = (String) row[0];
+            menuRows.putIfAbsent(menuId, row);
+            String optionGroupId = (String) row[8];
+            if (optionGroupId == null) {
+                continue;
+            }
+            groupRowsByMenu.computeIfAbsent(menuId, key -> new LinkedHashMap<>())
+                .putIfAbsent(optionGroupId, row);
+            List<OptionReadModel> options = optionsByGroup.computeIfAbsent(optionGroupId, key -> new ArrayList<>());
+            if (row[11] != null) {
+                options.add(new OptionReadModel((String) row[11], (BigDecimal) row[12]));
+            }
         }
         
-        LocalTime currentTime = LocalTime.now();
-        
-        // 일반적인 경우: 09:00 - 18:00
-        if (openTime.isBefore(closeTime)) {
-            return !currentTime.isBefore(openTime) && currentTime.isBefore(closeTime);
-        }
-        // 자정을 넘는 경우: 22:00 - 02:00
-        else {
-            return !currentTime.isBefore(openTime) || currentTime.isBefore(closeTime);
-        }
+        List<MenuDetailReadModel> details = new ArrayList<>(menuRows.size());
+        menuRows.forEach((menuId, row) -> {
+            List<OptionGroupReadModel> optionGroups = groupRowsByMenu.getOrDefault(menuId, Map.of()).values().stream()
+                .map(groupRow -> new OptionGroupReadModel(
+                    (String) groupRow[8],                          // id
+                    (String) groupRow[9],                          // name
+                    (Boolean) groupRow[10],                        // required
+                    optionsByGroup.get((String) groupRow[8])       // options
+                ))
+                .toList();
+            details.add(new MenuDetailReadModel(
+                (String) row[0],           // id
+                (String) row[1],           // shopId
+                (String) row[2],           // name
+                (String) row[3],           // description
+                (BigDecimal) row[4],       // basePrice
+                (Boolean) row[5],          // isOpen
+                optionGroups,              // optionGroups
+                (Instant) row[6],          // createdAt
+                (Instant) row[7]           // updatedAt
+            ));
+        });
+        return details;
     }
 }
\ No newline at end of file
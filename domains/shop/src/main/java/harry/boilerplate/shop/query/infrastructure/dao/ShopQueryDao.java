@@ -1,8 +1,11 @@
 package harry.boilerplate.shop.query.infrastructure.dao;
 
+import harry.boilerplate.common.response.ResourceVersion;
 import harry.boilerplate.shop.query.application.readModel.ShopDetailReadModel;
+import harry.boilerplate.shop.query.application.readModel.ShopDirectoryEntryReadModel;
 import harry.boilerplate.shop.query.application.readModel.ShopSummaryReadModel;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +30,12 @@ public interface ShopQueryDao {
      */
     Optional<ShopDetailReadModel> findShopDetail(String shopId);
     
+    /**
+     * 가게 상세 버전 조회 (가게가 없으면 empty)
+     * 현재 영업 여부가 표현에 포함되어 Last-Modified 없이 ETag만 제공
+     */
+    Optional<ResourceVersion> findShopDetailVersion(String shopId);
+    
     /**
      * 가게 존재 여부 확인
      */
@@ -36,4 +45,10 @@ public interface ShopQueryDao {
      * 가게 이름으로 검색
      */
     List<ShopSummaryReadModel> searchShopsByName(String nameKeyword);
+
+    /**
+     * 가게 디렉터리 항목 조회 (변경 시각, ID 오름차순)
+     * @param updatedSince 이 시각 이후(포함) 변경된 가게만 조회, null이면 전체
+     */
+    List<ShopDirectoryEntryReadModel> findShopDirectory(Instant updatedSince);
 }
\ No newline at end of file
@@ -1,22 +1,34 @@
 package harry.boilerplate.shop.query.infrastructure.dao;
 
+import harry.boilerplate.common.response.ResourceVersion;
+import harry.boilerplate.shop.command.domain.valueObject.BusinessHours;
+import harry.boilerplate.shop.command.domain.valueObject.WeeklySchedule;
 import harry.boilerplate.shop.query.application.readModel.ShopDetailReadModel;
+import harry.boilerplate.shop.query.application.readModel.ShopDirectoryEntryReadModel;
 import harry.boilerplate.shop.query.application.readModel.ShopSummaryReadModel;
+import harry.boilerplate.shop.query.infrastructure.projection.OpenShopIndex;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 import org.hibernate.jpa.AvailableHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
 import java.time.Instant;
-import java.time.LocalTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Shop Query DAO JPA 구현체
  * Query 측면의 읽기 작업을 담당 (EntityManager 직접 사용)
+ * 영업 여부는 요일별 영업시간으로 만든 OpenShopIndex에서 판단하고,
+ * 표시용 오늘 영업시간은 조회한 영업시간의 WeeklySchedule에서 꺼냄
  */
 @Repository
 @Transactional(readOnly = true)
@@ -25,10 +37,16 @@ public class ShopQueryDaoImpl implements ShopQueryDao {
     @PersistenceContext
     private EntityManager entityManager;
     
+    private final OpenShopIndex openShopIndex;
+    
+    public ShopQueryDaoImpl(OpenShopIndex openShopIndex) {
+        this.openShopIndex = openShopIndex;
+    }
+    
     @Override
     public List<ShopSummaryReadModel> findAllShopSummaries() {
         String jpql = """
-            SELECT s.id, s.name, s.minOrderAmount, s.businessHours.openTime, s.businessHours.closeTime
+            SELECT s.id, s.name, s.minOrderAmount, s.businessHours
             FROM Shop s
             ORDER BY s.createdAt DESC
             """;
@@ -38,52 +56,39 @@ public class ShopQueryDaoImpl implements ShopQueryDao {
             .setHint(AvailableHints.HINT_CACHEABLE, true)
             .getResultList();
             
-        return results.stream()
-            .map(row -> new ShopSummaryReadModel(
-                (String) row[0],           // id
-                (String) row[1],           // name
-                (BigDecimal) row[2],       // minOrderAmount
-                (LocalTime) row[3],        // openTime
-                (LocalTime) row[4],        // closeTime
-                isCurrentlyOpen((LocalTime) row[3], (LocalTime) row[4])
-            ))
-            .toList();
+        return toShopSummaries(results, openShopIndex.isOpenNow(shopIdsOf(results)));
     }
     
     @Override
     public List<ShopSummaryReadModel> findOpenShopSummaries() {
-        LocalTime currentTime = LocalTime.now();
+        // 색인에서 지금 영업 중인 가게만 골라 해당 가게만 조회
+        Set<String> openShopIds = openShopIndex.openShopIdsNow();
+        if (openShopIds.isEmpty()) {
+            return List.of();
+        }
         
         String jpql = """
-            SELECT s.id, s.name, s.minOrderAmount, s.businessHours.openTime, s.businessHours.closeTime
+            SELECT s.id, s.name, s.minOrderAmount, s.businessHours
             FROM Shop s
-            WHERE s.businessHours.openTime IS NOT NULL 
-            AND s.businessHours.closeTime IS NOT NULL
+            WHERE s.id IN :shopIds
             ORDER BY s.createdAt DESC
             """;
             
         List<Object[]> results = entityManager.createQuery(jpql, Object[].class)
+            .setParameter("shopIds", openShopIds)
             .setHint(AvailableHints.HINT_READ_ONLY, true)
-            .setHint(AvailableHints.HINT_CACHEABLE, true)
             .getResultList();
             
-        return results.stream()
-            .filter(row -> isCurrentlyOpen((LocalTime) row[3], (LocalTime) row[4]))
-            .map(row -> new ShopSummaryReadModel(
-                (String) row[0],           // id
-                (String) row[1],           // name
-                (BigDecimal) row[2],       // minOrderAmount
-                (LocalTime) row[3],        // openTime
-                (LocalTime) row[4],        // closeTime
-                true                       // isOpen (이미 필터링됨)
-            ))
-            .toList();
+        // 색인에서 골라낸 가게이므로 모두 영업 중
+        boolean[] open = new boolean[results.size()];
+        Arrays.fill(open, true);
+        return toShopSummaries(results, open);
     }
     
     @Override
     public Optional<ShopDetailReadModel> findShopDetail(String shopId) {
         String jpql = """
-            SELECT s.id, s.name, s.minOrderAmount, s.businessHours.openTime, s.businessHours.closeTime,
+            SELECT s.id, s.name, s.minOrderAmount, s.businessHours,
                    s.createdAt, s.updatedAt
             FROM Shop s
             WHERE s.id = :shopId
@@ -99,15 +104,40 @@ public class ShopQueryDaoImpl implements ShopQueryDao {
         }
         
         Object[] row = results.get(0);
+        WeeklySchedule schedule = scheduleOf(row[3]);
+        DayOfWeek today = LocalDate.now().getDayOfWeek();
         return Optional.of(new ShopDetailReadModel(
             (String) row[0],           // id
             (String) row[1],           // name
             (BigDecimal) row[2],       // minOrderAmount
-            (LocalTime) row[3],        // openTime
-            (LocalTime) row[4],        // closeTime
-            isCurrentlyOpen((LocalTime) row[3], (LocalTime) row[4]),
-            (Instant) row[5],          // createdAt
-            (Instant) row[6]           // updatedAt
+            schedule.openTimeOn(today),    // 오늘 여는 시각
+            schedule.closeTimeOn(today),   // 오늘 닫는 시각
+            openShopIndex.isOpenNow((String) row[0]),
+            (Instant) row[4],          // createdAt
+            (Instant) row[5]           // updatedAt
+        ));
+    }
+    
+    @Override
+    public Optional<ResourceVersion> findShopDetailVersion(String shopId) {
+        String jpql = """
+            SELECT s.updatedAt
+            FROM Shop s
+            WHERE s.id = :shopId
+            """;
+            
+        List<Instant> results = entityManager.createQuery(jpql, Instant.class)
+            .setParameter("shopId", shopId)
+            .setHint(AvailableHints.HINT_READ_ONLY, true)
+            .getResultList();
+            
+        if (results.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        return Optional.of(ResourceVersion.of(
+            results.get(0),                                              // updatedAt
+            openShopIndex.isOpenNow(shopId)                              // isOpen
         ));
     }
     
@@ -126,7 +156,7 @@ public class ShopQueryDaoImpl implements ShopQueryDao {
     @Override
     public List<ShopSummaryReadModel> searchShopsByName(String nameKeyword) {
         String jpql = """
-            SELECT s.id, s.name, s.minOrderAmount, s.businessHours.openTime, s.businessHours.closeTime
+            SELECT s.id, s.name, s.minOrderAmount, s.businessHours
             FROM Shop s
             WHERE s.name LIKE :nameKeyword
             ORDER BY s.name
@@ -137,35 +167,59 @@ public class ShopQueryDaoImpl implements ShopQueryDao {
             .setHint(AvailableHints.HINT_READ_ONLY, true)
             .getResultList();
             
-        return results.stream()
-            .map(row -> new ShopSummaryReadModel(
+        return toShopSummaries(results, openShopIndex.isOpenNow(shopIdsOf(results)));
+    }
+    
+    @Override
+    public List<ShopDirectoryEntryReadModel> findShopDirectory(Instant updatedSince) {
+        String jpql = "SELECT s.id, s.name, s.minOrderAmount, s.updatedAt FROM Shop s "
+            + (updatedSince != null ? "WHERE s.updatedAt >= :updatedSince " : "")
+            + "ORDER BY s.updatedAt, s.id";
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class)
+            .setHint(AvailableHints.HINT_READ_ONLY, true);
+        if (updatedSince != null) {
+            query.setParameter("updatedSince", updatedSince);
+        }
+
+        return query.getResultList().stream()
+            .map(row -> new ShopDirectoryEntryReadModel(
                 (String) row[0],           // id
                 (String) row[1],           // name
                 (BigDecimal) row[2],       // minOrderAmount
-                (LocalTime) row[3],        // openTime
-                (LocalTime) row[4],        // closeTime
-                isCurrentlyOpen((LocalTime) row[3], (LocalTime) row[4])
+                (Instant) row[3]           // updatedAt
             ))
             .toList();
     }
     
     /**
-     * 현재 시간 기준으로 영업 중인지 확인
+     * id, name, minOrderAmount, businessHours 행을 가게 요약으로 변환 (open은 행 순서의 영업 여부)
      */
-    private boolean isCurrentlyOpen(LocalTime openTime, LocalTime closeTime) {
-        if (openTime == null || closeTime == null) {
-            return false;
-        }
-        
-        LocalTime currentTime = LocalTime.now();
-        
-        // 일반적인 경우: 09:00 - 18:00
-        if (openTime.isBefore(closeTime)) {
-            return !currentTime.isBefore(openTime) && currentTime.isBefore(closeTime);
-        }
-        // 자정을 넘는 경우: 22:00 - 02:00
-        else {
-            return !currentTime.isBefore(openTime) || currentTime.isBefore(closeTime);
+    private List<ShopSummaryReadModel> toShopSummaries(List<Object[]> rows, boolean[] open) {
+        DayOfWeek today = LocalDate.now().getDayOfWeek();
+        List<ShopSummaryReadModel> summaries = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            WeeklySchedule schedule = scheduleOf(row[3]);
+            summaries.add(new ShopSummaryReadModel(
+                (String) row[0],               // id
+                (String) row[1],               // name
+                (BigDecimal) row[2],           // minOrderAmount
+                schedule.openTimeOn(today),    // 오늘 여는 시각
+                schedule.closeTimeOn(today),   // 오늘 닫는 시각
+                open[i]
+            ));
         }
+        return summaries;
+    }
+    
+    private static List<String> shopIdsOf(List<Object[]> rows) {
+        return rows.stream()
+            .map(row -> (String) row[0])
+            .toList();
+    }
+    
+    private static WeeklySchedule scheduleOf(Object businessHours) {
+        return businessHours != null ? ((BusinessHours) businessHours).getWeeklySchedule() : WeeklySchedule.CLOSED;
     }
 }
\ No newline at end of file
@@ -0,0 +1,269 @@
+package harry.boilerplate.shop.query.infrastructure.projection;
+
+import harry.boilerplate.shop.command.domain.event.ShopBusinessHoursChangedEvent;
+import harry.boilerplate.shop.command.domain.valueObject.BusinessHours;
+import harry.boilerplate.shop.command.domain.valueObject.WeeklySchedule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.AvailableHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 영업 중 가게 색인 (요일·시각 → 영업 중인 가게 ID)
+ * 가게별 주간 영업 일정(WeeklySchedule, 한 주의 분 단위 구간)을 보관하고,
+ * 한 주를 1시간 단위 버킷 168개로 나눠 각 버킷에 겹치는 구간만 담아 둠
+ * - 조회는 시각이 속한 버킷 하나만 확인하므로 전체 가게를 훑지 않음
+ * - 자정을 넘기는 영업과 일요일 밤 → 월요일 새벽 영업은 WeeklySchedule과 같은 규칙으로 판단
+ * 가게 생성·영업시간 조정이 커밋되면 해당 가게만 갱신하고, 다른 인스턴스의 변경과 삭제된 가게는 주기적 전체 적재로 반영
+ */
+@Component
+public class OpenShopIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenShopIndex.class);
+
+    private static final int MINUTES_PER_WEEK = WeeklySchedule.MINUTES_PER_WEEK;
+    private static final int BUCKET_MINUTES = 60;
+    private static final int BUCKET_COUNT = MINUTES_PER_WEEK / BUCKET_MINUTES;
+
+    private static final Interval[] EMPTY_BUCKET = new Interval[0];
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 가게별 주간 영업 일정 (영업 구간이 없는 가게는 없음)
+    private final Map<String, WeeklySchedule> schedulesByShop = new ConcurrentHashMap<>();
+    // 버킷별 구간 목록 (변경 시 버킷 배열을 통째로 교체하므로 조회는 잠금 없이 수행)
+    private final AtomicReferenceArray<Interval[]> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+
+    public OpenShopIndex() {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            buckets.set(bucket, EMPTY_BUCKET);
+        }
+    }
+
+    /**
+     * 기동 시 전체 가게의 영업시간 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        int count = reloadAll();
+        logger.info("영업 중 가게 색인 적재 완료: {}개 가게", count);
+    }
+
+    /**
+     * 주기적 전체 재적재 (다른 인스턴스에서 바뀐 영업시간과 삭제된 가게 반영)
+     */
+    @Scheduled(fixedDelayString = "${shop.open-index.reload-interval-millis:300000}",
+        initialDelayString = "${shop.open-index.reload-interval-millis:300000}")
+    @Transactional(readOnly = true)
+    public void reload() {
+        reloadAll();
+    }
+
+    /**
+     * 가게 생성·영업시간 조정이 커밋되면 해당 가게만 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBusinessHoursChanged(ShopBusinessHoursChangedEvent event) {
+        update(event.getShopId(), event.getBusinessHours());
+    }
+
+    /**
+     * 현재 영업 중인 가게 ID
+     */
+    public Set<String> openShopIdsNow() {
+        return openShopIdsAt(LocalDateTime.now());
+    }
+
+    /**
+     * 주어진 시각에 영업 중인 가게 ID
+     */
+    public Set<String> openShopIdsAt(LocalDateTime time) {
+        int minute = WeeklySchedule.minuteOfWeek(time);
+        Set<String> shopIds = new HashSet<>();
+        for (Interval interval : buckets.get(minute / BUCKET_MINUTES)) {
+            if (interval.contains(minute)) {
+                shopIds.add(interval.shopId());
+            }
+        }
+        return shopIds;
+    }
+
+    /**
+     * 가게가 현재 영업 중인지 여부 (색인에 없는 가게는 영업하지 않는 것으로 봄)
+     */
+    public boolean isOpenNow(String shopId) {
+        return isOpenAt(shopId, LocalDateTime.now());
+    }
+
+    /**
+     * 가게가 주어진 시각에 영업 중인지 여부
+     */
+    public boolean isOpenAt(String shopId, LocalDateTime time) {
+        WeeklySchedule schedule = shopId != null ? schedulesByShop.get(shopId) : null;
+        return schedule != null && schedule.isOpenAt(time);
+    }
+
+    /**
+     * 여러 가게의 현재 영업 여부 (모두 같은 시각 기준, 결과는 shopIds 순서)
+     */
+    public boolean[] isOpenNow(List<String> shopIds) {
+        return isOpenAt(shopIds, LocalDateTime.now());
+    }
+
+    /**
+     * 여러 가게의 주어진 시각 영업 여부 (결과는 shopIds 순서)
+     */
+    public boolean[] isOpenAt(List<String> shopIds, LocalDateTime time) {
+        WeeklySchedule[] schedules = new WeeklySchedule[shopIds.size()];
+        for (int i = 0; i < schedules.length; i++) {
+            String shopId = shopIds.get(i);
+            schedules[i] = shopId != null ? schedulesByShop.get(shopId) : null;
+        }
+        boolean[] open = new boolean[schedules.length];
+        WeeklySchedule.evaluateAt(WeeklySchedule.minuteOfWeek(time), schedules, open);
+        return open;
+    }
+
+    /**
+     * 색인된 가게 수
+     */
+    public int size() {
+        return schedulesByShop.size();
+    }
+
+    /**
+     * 가게 하나의 영업 구간 교체 (영업시간이 없으면 색인에서 제거)
+     * 이전 구간과 새 구간이 걸친 버킷만 다시 만듦
+     */
+    synchronized void update(String shopId, BusinessHours businessHours) {
+        if (shopId == null) {
+            return;
+        }
+        WeeklySchedule next = scheduleOf(businessHours);
+        WeeklySchedule previous = next.isClosedAllWeek()
+            ? schedulesByShop.remove(shopId) : schedulesByShop.put(shopId, next);
+
+        boolean[] touched = new boolean[BUCKET_COUNT];
+        markBuckets(touched, shopId, previous);
+        markBuckets(touched, shopId, next);
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            if (!touched[bucket]) {
+                continue;
+            }
+            List<Interval> rebuilt = new ArrayList<>();
+            for (Interval interval : buckets.get(bucket)) {
+                if (!interval.shopId().equals(shopId)) {
+                    rebuilt.add(interval);
+                }
+            }
+            addOverlapping(rebuilt, shopId, next, bucket);
+            buckets.set(bucket, rebuilt.toArray(EMPTY_BUCKET));
+        }
+    }
+
+    private int reloadAll() {
+        List<Object[]> rows = entityManager.createQuery("SELECT s.id, s.businessHours FROM Shop s", Object[].class)
+            .setHint(AvailableHints.HINT_READ_ONLY, true)
+            .getResultList();
+
+        Map<String, BusinessHours> hoursByShop = new HashMap<>();
+        for (Object[] row : rows) {
+            hoursByShop.put((String) row[0], (BusinessHours) row[1]);
+        }
+        replaceAll(hoursByShop);
+        return schedulesByShop.size();
+    }
+
+    /**
+     * 전체 가게의 영업 구간으로 색인을 새로 만듦
+     */
+    synchronized void replaceAll(Map<String, BusinessHours> hoursByShop) {
+        Map<String, WeeklySchedule> next = new HashMap<>();
+        List<List<Interval>> rebuilt = new ArrayList<>(BUCKET_COUNT);
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            rebuilt.add(new ArrayList<>());
+        }
+        hoursByShop.forEach((shopId, businessHours) -> {
+            WeeklySchedule schedule = scheduleOf(businessHours);
+            if (schedule.isClosedAllWeek()) {
+                return;
+            }
+            next.put(shopId, schedule);
+            for (int i = 0; i < schedule.rangeCount(); i++) {
+                Interval interval = new Interval(shopId, schedule.startOf(i), schedule.endOf(i));
+                for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                    if (interval.overlapsBucket(bucket)) {
+                        rebuilt.get(bucket).add(interval);
+                    }
+                }
+            }
+        });
+
+        schedulesByShop.keySet().retainAll(next.keySet());
+        schedulesByShop.putAll(next);
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            buckets.set(bucket, rebuilt.get(bucket).toArray(EMPTY_BUCKET));
+        }
+    }
+
+    private static WeeklySchedule scheduleOf(BusinessHours businessHours) {
+        return businessHours != null ? businessHours.getWeeklySchedule() : WeeklySchedule.CLOSED;
+    }
+
+    private static void markBuckets(boolean[] touched, String shopId, WeeklySchedule schedule) {
+        if (schedule == null) {
+            return;
+        }
+        for (int i = 0; i < schedule.rangeCount(); i++) {
+            Interval interval = new Interval(shopId, schedule.startOf(i), schedule.endOf(i));
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                touched[bucket] |= interval.overlapsBucket(bucket);
+            }
+        }
+    }
+
+    private static void addOverlapping(List<Interval> bucketIntervals, String shopId, WeeklySchedule schedule, int bucket) {
+        for (int i = 0; i < schedule.rangeCount(); i++) {
+            Interval interval = new Interval(shopId, schedule.startOf(i), schedule.endOf(i));
+            if (interval.overlapsBucket(bucket)) {
+                bucketIntervals.add(interval);
+            }
+        }
+    }
+
+    /**
+     * 가게 하나의 영업 구간 [start, end) (end는 한 주를 넘어 다음 주 월요일 새벽까지 이어질 수 있음)
+     */
+    private record Interval(String shopId, int start, int end) {
+
+        boolean contains(int minute) {
+            return (start <= minute && minute < end) || minute + MINUTES_PER_WEEK < end;
+        }
+
+        boolean overlapsBucket(int bucket) {
+            int bucketStart = bucket * BUCKET_MINUTES;
+            int bucketEnd = bucketStart + BUCKET_MINUTES;
+            return (start < bucketEnd && bucketStart < end) || bucketStart + MINUTES_PER_WEEK < end;
+        }
+    }
+}
@@ -1,18 +1,26 @@
 package harry.boilerplate.shop.query.presentation.controller;
 
+import harry.boilerplate.common.response.ConditionalGet;
 import harry.boilerplate.shop.query.application.dto.MenuBoardQuery;
 import harry.boilerplate.shop.query.application.dto.MenuBoardResult;
 import harry.boilerplate.shop.query.application.dto.MenuDetailQuery;
 import harry.boilerplate.shop.query.application.dto.MenuDetailResult;
+import harry.boilerplate.shop.query.application.dto.MenuDetailsQuery;
+import harry.boilerplate.shop.query.application.dto.MenuDetailsResult;
 import harry.boilerplate.shop.query.application.handler.MenuBoardQueryHandler;
 import harry.boilerplate.shop.query.application.handler.MenuDetailQueryHandler;
+import harry.boilerplate.shop.query.application.handler.MenuDetailsQueryHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 /**
  * Menu Context Query API Controller
@@ -25,43 +33,81 @@ public class MenuQueryController {
     
     private final MenuBoardQueryHandler menuBoardQueryHandler;
     private final MenuDetailQueryHandler menuDetailQueryHandler;
+    private final MenuDetailsQueryHandler menuDetailsQueryHandler;
     
     public MenuQueryController(
             MenuBoardQueryHandler menuBoardQueryHandler,
-            MenuDetailQueryHandler menuDetailQueryHandler) {
+            MenuDetailQueryHandler menuDetailQueryHandler,
+            MenuDetailsQueryHandler menuDetailsQueryHandler) {
         this.menuBoardQueryHandler = menuBoardQueryHandler;
         this.menuDetailQueryHandler = menuDetailQueryHandler;
+        this.menuDetailsQueryHandler = menuDetailsQueryHandler;
     }
     
     /**
      * 메뉴보드 조회
+     * If-None-Match가 현재 버전과 같으면 메뉴보드를 조립하지 않고 304 반환, 가게가 없으면 404
+     * 인스턴스별 메뉴판 캐시에서 제공하므로 다른 인스턴스에서 커밋된 변경은 최대 shop.menu-board.refresh-interval-millis 뒤에 반영
      * Requirements: 4.1, 4.2, 4.3 - 고객이 가게의 메뉴보드를 조회할 수 있어야 함
      */
     @GetMapping
     @Operation(summary = "메뉴보드 조회", description = "가게의 메뉴보드를 조회합니다 (공개된 메뉴만)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "메뉴보드 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "메뉴보드 변경 없음"),
         @ApiResponse(responseCode = "404", description = "가게를 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     public ResponseEntity<MenuBoardResult> getMenuBoard(
             @Parameter(description = "가게 ID", required = true)
-            @PathVariable String shopId) {
+            @PathVariable String shopId,
+            WebRequest request) {
         
         MenuBoardQuery query = new MenuBoardQuery(shopId);
-        MenuBoardResult result = menuBoardQueryHandler.handle(query);
+        return ConditionalGet.respond(request, menuBoardQueryHandler.version(query), CacheControl.noCache(), () -> {
+            MenuBoardResult result = menuBoardQueryHandler.handle(query);
+            
+            if (result == null) {
+                return ResponseEntity.notFound().build();
+            }
+            
+            return ResponseEntity.ok(result);
+        });
+    }
+    
+    /**
+     * 메뉴 상세 일괄 조회
+     * 장바구니 가격 계산 등 여러 메뉴 정보가 필요한 경우 한 번의 요청으로 조회
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "메뉴 상세 일괄 조회", description = "여러 메뉴의 상세 정보를 옵션과 함께 한 번에 조회합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "메뉴 상세 일괄 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<MenuDetailsResult> getMenuDetails(
+            @Parameter(description = "가게 ID", required = true)
+            @PathVariable String shopId,
+            @Parameter(description = "메뉴 ID 목록 (쉼표 구분)", required = true)
+            @RequestParam("ids") List<String> menuIds) {
+        
+        MenuDetailsQuery query = new MenuDetailsQuery(shopId, menuIds);
+        MenuDetailsResult result = menuDetailsQueryHandler.handle(query);
         
         return ResponseEntity.ok(result);
     }
     
     /**
      * 메뉴 상세 조회
+     * If-None-Match / If-Modified-Since로 변경 여부를 확인하여 변경이 없으면 304 반환
      * Requirements: 4.4 - 고객이 메뉴 상세 정보를 조회할 수 있어야 함
      */
     @GetMapping("/{menuId}")
     @Operation(summary = "메뉴 상세 조회", description = "특정 메뉴의 상세 정보를 조회합니다")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "메뉴 상세 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "메뉴 변경 없음"),
         @ApiResponse(responseCode = "404", description = "메뉴를 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
@@ -69,11 +115,11 @@ public class MenuQueryController {
             @Parameter(description = "가게 ID", required = true)
             @PathVariable String shopId,
             @Parameter(description = "메뉴 ID", required = true)
-            @PathVariable String menuId) {
+            @PathVariable String menuId,
+            WebRequest request) {
         
         MenuDetailQuery query = new MenuDetailQuery(menuId);
-        MenuDetailResult result = menuDetailQueryHandler.handle(query);
-        
-        return ResponseEntity.ok(result);
+        return ConditionalGet.respond(request, menuDetailQueryHandler.version(query), CacheControl.noCache(),
+            () -> ResponseEntity.ok(menuDetailQueryHandler.handle(query)));
     }
 }
\ No newline at end of file
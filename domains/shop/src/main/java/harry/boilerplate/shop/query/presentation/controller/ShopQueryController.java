@@ -1,15 +1,23 @@
 package harry.boilerplate.shop.query.presentation.controller;
 
+import harry.boilerplate.common.response.ConditionalGet;
+import harry.boilerplate.shop.query.application.dto.ShopDirectoryQuery;
+import harry.boilerplate.shop.query.application.dto.ShopDirectoryResult;
 import harry.boilerplate.shop.query.application.dto.ShopInfoQuery;
 import harry.boilerplate.shop.query.application.dto.ShopInfoResult;
+import harry.boilerplate.shop.query.application.handler.ShopDirectoryQueryHandler;
 import harry.boilerplate.shop.query.application.handler.ShopInfoQueryHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
 
 /**
  * Shop Context Query API Controller
@@ -21,29 +29,53 @@ import org.springframework.web.bind.annotation.*;
 public class ShopQueryController {
     
     private final ShopInfoQueryHandler shopInfoQueryHandler;
+    private final ShopDirectoryQueryHandler shopDirectoryQueryHandler;
     
-    public ShopQueryController(ShopInfoQueryHandler shopInfoQueryHandler) {
+    public ShopQueryController(ShopInfoQueryHandler shopInfoQueryHandler,
+                               ShopDirectoryQueryHandler shopDirectoryQueryHandler) {
         this.shopInfoQueryHandler = shopInfoQueryHandler;
+        this.shopDirectoryQueryHandler = shopDirectoryQueryHandler;
+    }
+    
+    /**
+     * 가게 디렉터리 조회 (가게 ID, 이름, 최소 주문 금액)
+     * updatedSince 없이 호출하면 전체, 지정하면 해당 시각 이후 변경분만 반환
+     */
+    @GetMapping("/directory")
+    @Operation(summary = "가게 디렉터리 조회", description = "가게 이름과 최소 주문 금액을 변경 시각 순으로 조회합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "가게 디렉터리 조회 성공"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<ShopDirectoryResult> getShopDirectory(
+            @Parameter(description = "이 시각 이후 변경된 가게만 조회 (ISO-8601)")
+            @RequestParam(required = false) Instant updatedSince) {
+        
+        ShopDirectoryResult result = shopDirectoryQueryHandler.handle(new ShopDirectoryQuery(updatedSince));
+        
+        return ResponseEntity.ok(result);
     }
     
     /**
      * 가게 정보 조회
+     * If-None-Match가 현재 버전과 같으면 304 반환
      * Requirements: 4.1 - 고객이 가게 정보를 조회할 수 있어야 함
      */
     @GetMapping("/{shopId}")
     @Operation(summary = "가게 정보 조회", description = "가게의 상세 정보를 조회합니다")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "가게 정보 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "가게 정보 변경 없음"),
         @ApiResponse(responseCode = "404", description = "가게를 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     public ResponseEntity<ShopInfoResult> getShopInfo(
             @Parameter(description = "가게 ID", required = true)
-            @PathVariable String shopId) {
+            @PathVariable String shopId,
+            WebRequest request) {
         
         ShopInfoQuery query = new ShopInfoQuery(shopId);
-        ShopInfoResult result = shopInfoQueryHandler.handle(query);
-        
-        return ResponseEntity.ok(result);
+        return ConditionalGet.respond(request, shopInfoQueryHandler.version(query), CacheControl.noCache(),
+            () -> ResponseEntity.ok(shopInfoQueryHandler.handle(query)));
     }
 }
\ No newline at end of file
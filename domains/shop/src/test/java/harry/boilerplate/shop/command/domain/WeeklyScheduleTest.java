@@ -0,0 +1,287 @@
+package harry.boilerplate.shop.command.domain;
+
+import harry.boilerplate.shop.command.domain.valueObject.BusinessHours;
+import harry.boilerplate.shop.command.domain.valueObject.WeeklySchedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * WeeklySchedule 값 객체 테스트
+ * -Dbenchmark=true 로 실행하면 BusinessHours와 WeeklySchedule의 영업 여부 확인당 지연 시간과 할당량을 비교하여 출력
+ */
+@DisplayName("WeeklySchedule 값 객체 테스트")
+class WeeklyScheduleTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeeklyScheduleTest.class);
+
+    @Nested
+    @DisplayName("WeeklySchedule 생성 테스트")
+    class WeeklyScheduleCreationTest {
+
+        @Test
+        @DisplayName("한 요일에 여러 영업 구간 생성")
+        void 한_요일에_여러_영업_구간_생성() {
+            // Given
+            Map<DayOfWeek, LocalTime[]> weeklyHours = new EnumMap<>(DayOfWeek.class);
+            weeklyHours.put(DayOfWeek.MONDAY, new LocalTime[]{
+                LocalTime.of(11, 0), LocalTime.of(14, 0),
+                LocalTime.of(17, 0), LocalTime.of(22, 0)
+            });
+
+            // When
+            WeeklySchedule schedule = WeeklySchedule.of(weeklyHours);
+
+            // Then
+            assertThat(schedule.rangeCount()).isEqualTo(2);
+            assertThat(schedule.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(12, 0))).isTrue();
+            assertThat(schedule.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(15, 0))).isFalse();
+            assertThat(schedule.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(17, 0))).isTrue();
+            assertThat(schedule.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(22, 0))).isFalse();
+        }
+
+        @Test
+        @DisplayName("겹치는 영업 구간은 하나로 합침")
+        void 겹치는_영업_구간은_하나로_합침() {
+            // Given
+            Map<DayOfWeek, LocalTime[]> weeklyHours = new EnumMap<>(DayOfWeek.class);
+            weeklyHours.put(DayOfWeek.MONDAY, new LocalTime[]{
+                LocalTime.of(9, 0), LocalTime.of(15, 0),
+                LocalTime.of(12, 0), LocalTime.of(18, 0)
+            });
+
+            // When
+            WeeklySchedule schedule = WeeklySchedule.of(weeklyHours);
+
+            // Then
+            assertThat(schedule.rangeCount()).isEqualTo(1);
+            assertThat(schedule.openTimeOn(DayOfWeek.MONDAY)).isEqualTo(LocalTime.of(9, 0));
+            assertThat(schedule.closeTimeOn(DayOfWeek.MONDAY)).isEqualTo(LocalTime.of(18, 0));
+        }
+
+        @Test
+        @DisplayName("여는 시각과 닫는 시각이 같거나 없는 요일은 휴무")
+        void 여는_시각과_닫는_시각이_같거나_없는_요일은_휴무() {
+            // Given
+            Map<DayOfWeek, LocalTime[]> weeklyHours = new EnumMap<>(DayOfWeek.class);
+            weeklyHours.put(DayOfWeek.MONDAY, new LocalTime[]{LocalTime.of(9, 0), LocalTime.of(9, 0)});
+            weeklyHours.put(DayOfWeek.TUESDAY, new LocalTime[]{null, null});
+
+            // When
+            WeeklySchedule schedule = WeeklySchedule.of(weeklyHours);
+
+            // Then
+            assertThat(schedule.isClosedAllWeek()).isTrue();
+            assertThat(schedule).isSameAs(WeeklySchedule.CLOSED);
+        }
+
+        @Test
+        @DisplayName("여는 시각과 닫는 시각이 쌍을 이루지 않으면 예외 발생")
+        void 여는_시각과_닫는_시각이_쌍을_이루지_않으면_예외_발생() {
+            // Given
+            Map<DayOfWeek, LocalTime[]> weeklyHours = new EnumMap<>(DayOfWeek.class);
+            weeklyHours.put(DayOfWeek.MONDAY, new LocalTime[]{LocalTime.of(9, 0)});
+
+            // When & Then
+            assertThatThrownBy(() -> WeeklySchedule.of(weeklyHours))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> WeeklySchedule.of(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("WeeklySchedule 영업 여부 테스트")
+    class WeeklyScheduleOpenTest {
+
+        @Test
+        @DisplayName("자정을 넘기는 영업은 다음 날 새벽까지 영업 중")
+        void 자정을_넘기는_영업은_다음_날_새벽까지_영업_중() {
+            // Given
+            WeeklySchedule schedule = schedule(DayOfWeek.FRIDAY, LocalTime.of(18, 0), LocalTime.of(2, 0));
+
+            // Then
+            assertThat(schedule.isOpenAt(DayOfWeek.FRIDAY, LocalTime.of(23, 0))).isTrue();
+            assertThat(schedule.isOpenAt(DayOfWeek.SATURDAY, LocalTime.of(1, 59))).isTrue();
+            assertThat(schedule.isOpenAt(DayOfWeek.SATURDAY, LocalTime.of(2, 0))).isFalse();
+            assertThat(schedule.isOpenAt(DayOfWeek.FRIDAY, LocalTime.of(1, 0))).isFalse();
+            assertThat(schedule.closeTimeOn(DayOfWeek.FRIDAY)).isEqualTo(LocalTime.of(2, 0));
+        }
+
+        @Test
+        @DisplayName("일요일 밤에 시작한 영업은 월요일 새벽까지 이어짐")
+        void 일요일_밤에_시작한_영업은_월요일_새벽까지_이어짐() {
+            // Given
+            WeeklySchedule schedule = schedule(DayOfWeek.SUNDAY, LocalTime.of(22, 0), LocalTime.of(3, 0));
+
+            // Then
+            assertThat(schedule.isOpenAt(DayOfWeek.SUNDAY, LocalTime.of(23, 30))).isTrue();
+            assertThat(schedule.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(0, 0))).isTrue();
+            assertThat(schedule.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(2, 59))).isTrue();
+            assertThat(schedule.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(3, 0))).isFalse();
+            assertThat(schedule.openTimeOn(DayOfWeek.SUNDAY)).isEqualTo(LocalTime.of(22, 0));
+            assertThat(schedule.openTimeOn(DayOfWeek.MONDAY)).isNull();
+        }
+
+        @Test
+        @DisplayName("여러 일정의 영업 여부를 같은 시각 기준으로 한 번에 확인")
+        void 여러_일정의_영업_여부를_한_번에_확인() {
+            // Given
+            WeeklySchedule[] schedules = {
+                schedule(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(18, 0)),
+                null,
+                schedule(DayOfWeek.SUNDAY, LocalTime.of(22, 0), LocalTime.of(3, 0)),
+                WeeklySchedule.CLOSED
+            };
+            boolean[] open = new boolean[schedules.length];
+
+            // When
+            WeeklySchedule.evaluateAt(WeeklySchedule.minuteOfWeek(DayOfWeek.MONDAY, LocalTime.of(1, 0)), schedules, open);
+
+            // Then
+            assertThat(open).containsExactly(false, false, true, false);
+        }
+
+        @Test
+        @DisplayName("자정을 넘기지 않는 영업시간은 기존 요일별 비교와 모든 분에서 같은 결과")
+        void 기존_요일별_비교와_모든_분에서_같은_결과() {
+            // Given
+            Map<DayOfWeek, LocalTime[]> weeklyHours = new EnumMap<>(DayOfWeek.class);
+            weeklyHours.put(DayOfWeek.MONDAY, new LocalTime[]{LocalTime.of(9, 0), LocalTime.of(22, 0)});
+            weeklyHours.put(DayOfWeek.WEDNESDAY, new LocalTime[]{LocalTime.of(11, 30), LocalTime.of(14, 45)});
+            weeklyHours.put(DayOfWeek.SATURDAY, new LocalTime[]{LocalTime.of(0, 0), LocalTime.of(23, 59)});
+            BusinessHours businessHours = new BusinessHours(weeklyHours);
+            WeeklySchedule schedule = businessHours.getWeeklySchedule();
+
+            // When & Then
+            for (DayOfWeek day : DayOfWeek.values()) {
+                LocalTime[] hours = weeklyHours.get(day);
+                for (int minute = 0; minute < WeeklySchedule.MINUTES_PER_DAY; minute++) {
+                    LocalTime time = LocalTime.of(minute / 60, minute % 60);
+                    boolean expected = hours != null && !time.isBefore(hours[0]) && time.isBefore(hours[1]);
+                    assertThat(schedule.isOpenAt(day, time)).as("%s %s", day, time).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("BusinessHours와 WeeklySchedule의 영업 여부 확인 지연 시간·할당량 비교")
+    void BusinessHours와_WeeklySchedule의_영업_여부_확인_지연_시간_할당량_비교() {
+        // Given - 가게 1,000곳(일부는 자정을 넘겨 영업), 한 주에 고르게 흩어진 조회 시각
+        int shopCount = 1_000;
+        BusinessHours[] businessHours = new BusinessHours[shopCount];
+        WeeklySchedule[] schedules = new WeeklySchedule[shopCount];
+        for (int i = 0; i < shopCount; i++) {
+            Map<DayOfWeek, LocalTime[]> weeklyHours = new EnumMap<>(DayOfWeek.class);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (day.getValue() - 1 != i % 7) {
+                    weeklyHours.put(day, new LocalTime[]{LocalTime.of(8 + i % 4, 0), LocalTime.of((20 + i % 6) % 24, 30)});
+                }
+            }
+            businessHours[i] = new BusinessHours(weeklyHours);
+            schedules[i] = businessHours[i].getWeeklySchedule();
+        }
+        int probeCount = WeeklySchedule.MINUTES_PER_WEEK / 37;
+        DayOfWeek[] days = new DayOfWeek[probeCount];
+        LocalTime[] times = new LocalTime[probeCount];
+        int[] minutes = new int[probeCount];
+        for (int p = 0; p < probeCount; p++) {
+            minutes[p] = p * 37;
+            days[p] = DayOfWeek.of(minutes[p] / WeeklySchedule.MINUTES_PER_DAY + 1);
+            times[p] = LocalTime.of(minutes[p] % WeeklySchedule.MINUTES_PER_DAY / 60, minutes[p] % 60);
+        }
+        int checks = shopCount * probeCount;
+        boolean[] open = new boolean[shopCount];
+
+        // When
+        Measurement entity = measure(checks, () -> {
+            int count = 0;
+            for (int p = 0; p < probeCount; p++) {
+                for (BusinessHours hours : businessHours) {
+                    count += hours.isOpenAt(days[p], times[p]) ? 1 : 0;
+                }
+            }
+            return count;
+        });
+        Measurement single = measure(checks, () -> {
+            int count = 0;
+            for (int p = 0; p < probeCount; p++) {
+                for (WeeklySchedule schedule : schedules) {
+                    count += schedule.isOpenAt(minutes[p]) ? 1 : 0;
+                }
+            }
+            return count;
+        });
+        Measurement batch = measure(checks, () -> {
+            int count = 0;
+            for (int p = 0; p < probeCount; p++) {
+                WeeklySchedule.evaluateAt(minutes[p], schedules, open);
+                for (boolean shopOpen : open) {
+                    count += shopOpen ? 1 : 0;
+                }
+            }
+            return count;
+        });
+
+        // Then
+        logger.info("[open check] BusinessHours.isOpenAt   {} ns/op {} bytes/op", String.format("%6.2f", entity.nanos()), entity.bytes());
+        logger.info("[open check] WeeklySchedule.isOpenAt  {} ns/op {} bytes/op", String.format("%6.2f", single.nanos()), single.bytes());
+        logger.info("[open check] WeeklySchedule.evaluateAt {} ns/op {} bytes/op", String.format("%6.2f", batch.nanos()), batch.bytes());
+        assertThat(single.openCount()).isEqualTo(entity.openCount());
+        assertThat(batch.openCount()).isEqualTo(entity.openCount());
+        // 일정이 만들어진 뒤의 영업 여부 확인은 객체를 만들지 않음
+        assertThat(entity.bytes()).isZero();
+        assertThat(single.bytes()).isZero();
+        assertThat(batch.bytes()).isZero();
+    }
+
+    private static WeeklySchedule schedule(DayOfWeek day, LocalTime open, LocalTime close) {
+        Map<DayOfWeek, LocalTime[]> weeklyHours = new EnumMap<>(DayOfWeek.class);
+        weeklyHours.put(day, new LocalTime[]{open, close});
+        return WeeklySchedule.of(weeklyHours);
+    }
+
+    /**
+     * 예열 후 영업 여부 확인당 평균 지연 시간(ns)과 현재 스레드 할당량(bytes) 측정
+     * @param checks 한 번의 호출이 수행하는 영업 여부 확인 수
+     * @param call 영업 중인 경우의 수를 반환하는 호출
+     */
+    private static Measurement measure(int checks, IntSupplier call) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        int rounds = 20;
+        for (int i = 0; i < rounds; i++) {
+            call.getAsInt();
+        }
+
+        int openCount = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            openCount = call.getAsInt();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        long total = (long) checks * rounds;
+        return new Measurement((double) elapsed / total, allocated / total, openCount);
+    }
+
+    private record Measurement(double nanos, long bytes, int openCount) {
+    }
+}
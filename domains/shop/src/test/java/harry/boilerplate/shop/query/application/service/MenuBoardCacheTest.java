@@ -0,0 +1,204 @@
+package harry.boilerplate.shop.query.application.service;
+
+import harry.boilerplate.common.response.ResourceVersion;
+import harry.boilerplate.shop.command.domain.event.ShopCatalogChangedEvent;
+import harry.boilerplate.shop.query.application.readModel.MenuBoardViewModel;
+import harry.boilerplate.shop.query.application.readModel.MenuSummaryReadModel;
+import harry.boilerplate.shop.query.infrastructure.dao.MenuQueryDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuBoardCache 테스트")
+class MenuBoardCacheTest {
+
+    @Mock
+    private MenuQueryDao menuQueryDao;
+
+    // 재구성 작업을 바로 실행하지 않고 쌓아 두었다가 테스트에서 원하는 시점에 실행
+    private final Queue<Runnable> pendingRebuilds = new ArrayDeque<>();
+
+    private MenuBoardCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MenuBoardCache(menuQueryDao, pendingRebuilds::add, 100, 60_000);
+    }
+
+    @Test
+    @DisplayName("처음 조회한 가게는 바로 만들고 이후 조회는 DAO를 다시 호출하지 않음")
+    void 처음_조회한_가게는_바로_만들고_이후_조회는_캐시에서_제공() {
+        // Given
+        MenuBoardViewModel board = board("삼겹살");
+        when(menuQueryDao.getMenuBoard("shop-1")).thenReturn(board);
+
+        // When
+        MenuBoardViewModel first = cache.get("shop-1");
+        MenuBoardViewModel second = cache.get("shop-1");
+
+        // Then
+        assertThat(first).isSameAs(board);
+        assertThat(second).isSameAs(board);
+        assertThat(pendingRebuilds).isEmpty();
+        verify(menuQueryDao, times(1)).getMenuBoard("shop-1");
+    }
+
+    @Test
+    @DisplayName("변경 알림 후 재구성이 끝나기 전에는 이전 메뉴판을, 끝난 뒤에는 새 메뉴판을 제공")
+    void 재구성이_끝나기_전에는_이전_메뉴판을_제공() {
+        // Given
+        MenuBoardViewModel before = board("삼겹살");
+        MenuBoardViewModel after = board("삼겹살", "냉면");
+        when(menuQueryDao.getMenuBoard("shop-1")).thenReturn(before, after);
+        cache.get("shop-1");
+
+        // When
+        cache.onShopCatalogChanged(new ShopCatalogChangedEvent("shop-1"));
+        MenuBoardViewModel whileRebuilding = cache.get("shop-1");
+        runPendingRebuilds();
+        MenuBoardViewModel rebuilt = cache.get("shop-1");
+
+        // Then
+        assertThat(whileRebuilding).isSameAs(before);
+        assertThat(rebuilt).isSameAs(after);
+        verify(menuQueryDao, times(2)).getMenuBoard("shop-1");
+    }
+
+    @Test
+    @DisplayName("재구성 중에 들어온 변경은 진행 중인 재구성이 끝난 뒤 한 번 더 반영")
+    void 재구성_중에_들어온_변경은_끝난_뒤_다시_반영() {
+        // Given
+        MenuBoardViewModel initial = board("삼겹살");
+        MenuBoardViewModel latest = board("삼겹살", "냉면", "물냉면");
+        when(menuQueryDao.getMenuBoard("shop-1")).thenReturn(initial);
+        cache.get("shop-1");
+        when(menuQueryDao.getMenuBoard("shop-1")).thenAnswer(invocation -> {
+            // 첫 재구성이 DB를 읽은 직후 다른 변경이 커밋됨
+            cache.onShopCatalogChanged(new ShopCatalogChangedEvent("shop-1"));
+            return board("삼겹살", "냉면");
+        }).thenReturn(latest);
+
+        // When
+        cache.onShopCatalogChanged(new ShopCatalogChangedEvent("shop-1"));
+        cache.onShopCatalogChanged(new ShopCatalogChangedEvent("shop-1"));
+        runPendingRebuilds();
+
+        // Then
+        assertThat(cache.get("shop-1")).isSameAs(latest);
+        verify(menuQueryDao, times(3)).getMenuBoard("shop-1");
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 가게의 변경 알림은 무시하고 다음 조회 때 만듦")
+    void 캐시에_없는_가게의_변경_알림은_무시() {
+        // When
+        cache.onShopCatalogChanged(new ShopCatalogChangedEvent("shop-1"));
+
+        // Then
+        assertThat(pendingRebuilds).isEmpty();
+        assertThat(cache.size()).isZero();
+        verifyNoInteractions(menuQueryDao);
+    }
+
+    @Test
+    @DisplayName("없는 가게도 없음으로 캐시하여 반복 조회해도 DAO를 한 번만 호출하고, 가게가 생성되면 변경 알림으로 다시 만듦")
+    void 없는_가게는_없음으로_캐시하고_생성되면_다시_만듦() {
+        // Given
+        MenuBoardViewModel board = board("삼겹살");
+        when(menuQueryDao.getMenuBoard("shop-1")).thenReturn(null, board);
+
+        // When
+        Optional<ResourceVersion> missingVersion = cache.version("shop-1");
+        MenuBoardViewModel missing = cache.get("shop-1");
+        cache.onShopCatalogChanged(new ShopCatalogChangedEvent("shop-1"));
+        runPendingRebuilds();
+
+        // Then
+        assertThat(missingVersion).isEmpty();
+        assertThat(missing).isNull();
+        assertThat(cache.get("shop-1")).isSameAs(board);
+        verify(menuQueryDao, times(2)).getMenuBoard("shop-1");
+    }
+
+    @Test
+    @DisplayName("재구성 중 가게가 삭제되면 없음으로 교체")
+    void 재구성_중_가게가_삭제되면_없음으로_교체() {
+        // Given
+        when(menuQueryDao.getMenuBoard("shop-1")).thenReturn(board("삼겹살"), (MenuBoardViewModel) null);
+        cache.get("shop-1");
+
+        // When
+        cache.onShopCatalogChanged(new ShopCatalogChangedEvent("shop-1"));
+        runPendingRebuilds();
+
+        // Then
+        assertThat(cache.get("shop-1")).isNull();
+        assertThat(cache.version("shop-1")).isEmpty();
+        verify(menuQueryDao, times(2)).getMenuBoard("shop-1");
+    }
+
+    @Test
+    @DisplayName("버전은 메뉴판 내용이 같으면 같고 내용이 바뀌면 달라짐")
+    void 버전은_메뉴판_내용으로_결정() {
+        // Given
+        when(menuQueryDao.getMenuBoard("shop-1")).thenReturn(board("삼겹살"), board("삼겹살"), board("냉면"));
+        Optional<ResourceVersion> initial = cache.version("shop-1");
+
+        // When
+        cache.onShopCatalogChanged(new ShopCatalogChangedEvent("shop-1"));
+        runPendingRebuilds();
+        Optional<ResourceVersion> sameContent = cache.version("shop-1");
+        cache.onShopCatalogChanged(new ShopCatalogChangedEvent("shop-1"));
+        runPendingRebuilds();
+        Optional<ResourceVersion> changedContent = cache.version("shop-1");
+
+        // Then
+        assertThat(initial).isPresent();
+        assertThat(sameContent).isEqualTo(initial);
+        assertThat(changedContent).isNotEqualTo(initial);
+    }
+
+    @Test
+    @DisplayName("캐시 크기에 이르면 기존 가게를 비우고 새 가게를 담음")
+    void 캐시_크기에_이르면_비우고_새로_담음() {
+        // Given
+        MenuBoardCache small = new MenuBoardCache(menuQueryDao, pendingRebuilds::add, 2, 60_000);
+        when(menuQueryDao.getMenuBoard(anyString())).thenReturn(board("삼겹살"));
+        small.get("shop-1");
+        small.get("shop-2");
+
+        // When
+        small.get("shop-3");
+
+        // Then
+        assertThat(small.size()).isEqualTo(1);
+    }
+
+    private void runPendingRebuilds() {
+        Runnable rebuild;
+        while ((rebuild = pendingRebuilds.poll()) != null) {
+            rebuild.run();
+        }
+    }
+
+    private static MenuBoardViewModel board(String... openMenuNames) {
+        List<MenuSummaryReadModel> openMenus = Arrays.stream(openMenuNames)
+            .map(name -> new MenuSummaryReadModel("menu-" + name, "shop-1", name, null, new BigDecimal("10000"), true, 1))
+            .toList();
+        return new MenuBoardViewModel("shop-1", "맛있는 가게", true, openMenus, List.of());
+    }
+}
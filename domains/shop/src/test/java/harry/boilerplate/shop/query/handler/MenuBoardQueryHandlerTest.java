@@ -5,12 +5,12 @@ import harry.boilerplate.shop.query.application.dto.MenuBoardResult;
 import harry.boilerplate.shop.query.application.handler.MenuBoardQueryHandler;
 import harry.boilerplate.shop.query.application.readModel.MenuBoardViewModel;
 import harry.boilerplate.shop.query.application.readModel.MenuSummaryReadModel;
+import harry.boilerplate.shop.query.application.service.MenuBoardCache;
 import harry.boilerplate.shop.query.infrastructure.dao.MenuQueryDao;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -27,7 +27,6 @@ class MenuBoardQueryHandlerTest {
     @Mock
     private MenuQueryDao menuQueryDao;
 
-    @InjectMocks
     private MenuBoardQueryHandler menuBoardQueryHandler;
 
     private MenuBoardQuery query;
@@ -35,6 +34,7 @@ class MenuBoardQueryHandlerTest {
 
     @BeforeEach
     void setUp() {
+        menuBoardQueryHandler = new MenuBoardQueryHandler(new MenuBoardCache(menuQueryDao, 1, 100, 60_000));
         query = new MenuBoardQuery("shop-1");
 
         MenuSummaryReadModel menu1 = new MenuSummaryReadModel(
@@ -0,0 +1,64 @@
+package harry.boilerplate.shop.query.handler;
+
+import harry.boilerplate.shop.query.application.dto.MenuDetailsQuery;
+import harry.boilerplate.shop.query.application.dto.MenuDetailsResult;
+import harry.boilerplate.shop.query.application.handler.MenuDetailsQueryHandler;
+import harry.boilerplate.shop.query.application.readModel.MenuDetailReadModel;
+import harry.boilerplate.shop.query.infrastructure.dao.MenuQueryDao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuDetailsQueryHandler 테스트")
+class MenuDetailsQueryHandlerTest {
+
+    @Mock
+    private MenuQueryDao menuQueryDao;
+
+    @InjectMocks
+    private MenuDetailsQueryHandler menuDetailsQueryHandler;
+
+    @Test
+    @DisplayName("여러 메뉴 상세를 한 번의 DAO 호출로 조회")
+    void 여러_메뉴_상세를_한_번의_DAO_호출로_조회() {
+        // Given
+        List<String> menuIds = List.of("menu-1", "menu-2");
+        MenuDetailReadModel menu = new MenuDetailReadModel(
+            "menu-1", "shop-1", "삼겹살", "맛있는 삼겹살", new BigDecimal("15000"), true,
+            List.of(), Instant.now(), Instant.now());
+        when(menuQueryDao.findMenuDetails("shop-1", menuIds)).thenReturn(List.of(menu));
+
+        // When
+        MenuDetailsResult result = menuDetailsQueryHandler.handle(new MenuDetailsQuery("shop-1", menuIds));
+
+        // Then
+        assertThat(result.getMenus()).containsExactly(menu);
+        verify(menuQueryDao, times(1)).findMenuDetails("shop-1", menuIds);
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 메뉴 수를 넘으면 예외 발생")
+    void 한_번에_조회할_수_있는_메뉴_수를_넘으면_예외_발생() {
+        // Given
+        List<String> menuIds = new ArrayList<>();
+        IntStream.range(0, 101).forEach(i -> menuIds.add("menu-" + i));
+
+        // When & Then
+        assertThatThrownBy(() -> menuDetailsQueryHandler.handle(new MenuDetailsQuery("shop-1", menuIds)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(menuQueryDao);
+    }
+}
@@ -0,0 +1,180 @@
+package harry.boilerplate.shop.query.infrastructure.dao;
+
+import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.shop.command.domain.aggregate.Menu;
+import harry.boilerplate.shop.command.domain.entity.OptionGroup;
+import harry.boilerplate.shop.command.domain.valueObject.Option;
+import harry.boilerplate.shop.command.domain.valueObject.ShopId;
+import harry.boilerplate.shop.query.application.readModel.MenuDetailReadModel;
+import harry.boilerplate.shop.query.application.readModel.MenuSummaryReadModel;
+import harry.boilerplate.shop.query.application.readModel.OptionGroupReadModel;
+import harry.boilerplate.shop.query.infrastructure.mapper.MenuReadModelMapper;
+import harry.boilerplate.shop.query.infrastructure.projection.OpenShopIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MenuQueryDaoImpl 메뉴 조회 테스트
+ * 옵션그룹·옵션 수와 관계없이 메뉴 상세와 메뉴 요약이 한 번의 쿼리로 조회되는지 확인
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("MenuQueryDaoImpl 메뉴 조회 테스트")
+class MenuQueryDaoImplTest {
+
+    private static final int GROUP_COUNT = 12;
+    private static final int OPTIONS_PER_GROUP = 3;
+
+    @Configuration
+    @EntityScan({
+        "harry.boilerplate.shop.command.domain",
+        "harry.boilerplate.common.domain"
+    })
+    @Import({MenuQueryDaoImpl.class, MenuReadModelMapper.class, OpenShopIndex.class})
+    static class TestConfig {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MenuQueryDao menuQueryDao;
+
+    private final ShopId shopId = ShopId.of("shop-1");
+    private String richMenuId;
+    private String plainMenuId;
+
+    @BeforeEach
+    void setUp() {
+        Menu richMenu = new Menu(shopId, "세트 메뉴", "옵션이 많은 메뉴", Money.of(new BigDecimal("15000")));
+        for (int group = 0; group < GROUP_COUNT; group++) {
+            richMenu.addOptionGroup("옵션그룹" + group, group == 0);
+        }
+        for (OptionGroup optionGroup : richMenu.getOptionGroups()) {
+            for (int option = 0; option < OPTIONS_PER_GROUP; option++) {
+                optionGroup.addOption(new Option("옵션" + option, Money.of(new BigDecimal(option * 500))));
+            }
+        }
+        Menu plainMenu = new Menu(shopId, "단품 메뉴", null, Money.of(new BigDecimal("8000")));
+
+        entityManager.persist(richMenu);
+        entityManager.persist(plainMenu);
+        entityManager.flush();
+        entityManager.clear();
+
+        richMenuId = richMenu.getId().getValue();
+        plainMenuId = plainMenu.getId().getValue();
+    }
+
+    @Test
+    @DisplayName("옵션그룹이 많은 메뉴도 상세 정보를 1회의 쿼리로 조회")
+    void 옵션그룹이_많은_메뉴도_상세_정보를_1회의_쿼리로_조회() {
+        // Given
+        Statistics statistics = statistics();
+
+        // When
+        Optional<MenuDetailReadModel> detail = menuQueryDao.findMenuDetail(richMenuId);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(detail).isPresent();
+        assertThat(detail.get().getName()).isEqualTo("세트 메뉴");
+        assertThat(detail.get().getOptionGroups()).hasSize(GROUP_COUNT);
+        for (OptionGroupReadModel optionGroup : detail.get().getOptionGroups()) {
+            assertThat(optionGroup.getOptions()).hasSize(OPTIONS_PER_GROUP);
+        }
+        assertThat(detail.get().getOptionGroups().stream().filter(OptionGroupReadModel::isRequired)
+            .map(OptionGroupReadModel::getName).toList()).containsExactly("옵션그룹0");
+    }
+
+    @Test
+    @DisplayName("옵션그룹이 없는 메뉴는 빈 옵션그룹 목록으로 조회하고 없는 메뉴는 empty")
+    void 옵션그룹이_없는_메뉴와_없는_메뉴_조회() {
+        // When
+        Optional<MenuDetailReadModel> plain = menuQueryDao.findMenuDetail(plainMenuId);
+        Optional<MenuDetailReadModel> missing = menuQueryDao.findMenuDetail("missing-menu");
+
+        // Then
+        assertThat(plain).isPresent();
+        assertThat(plain.get().getOptionGroups()).isEmpty();
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 메뉴의 상세 정보도 1회의 쿼리로 조회")
+    void 여러_메뉴의_상세_정보도_1회의_쿼리로_조회() {
+        // Given
+        Statistics statistics = statistics();
+
+        // When
+        List<MenuDetailReadModel> details = menuQueryDao.findMenuDetails(shopId.getValue(),
+            List.of(richMenuId, plainMenuId, "missing-menu"));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(details).hasSize(2);
+        assertThat(details.stream().filter(detail -> detail.getId().equals(richMenuId)).findFirst()
+            .map(detail -> detail.getOptionGroups().size())).contains(GROUP_COUNT);
+    }
+
+    @Test
+    @DisplayName("메뉴 요약의 옵션그룹 수는 메뉴별 서브쿼리 없이 1회의 집계 쿼리로 조회")
+    void 메뉴_요약의_옵션그룹_수는_1회의_집계_쿼리로_조회() {
+        // Given
+        Statistics statistics = statistics();
+
+        // When
+        List<MenuSummaryReadModel> summaries = menuQueryDao.findMenuSummariesByShopId(shopId.getValue());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(summaries).hasSize(2);
+        assertThat(optionGroupCountOf(summaries, richMenuId)).contains(GROUP_COUNT);
+        assertThat(optionGroupCountOf(summaries, plainMenuId)).contains(0);
+    }
+
+    @Test
+    @DisplayName("이름 검색 결과에도 옵션그룹 수가 옵션 수와 무관하게 집계됨")
+    void 이름_검색_결과에도_옵션그룹_수가_집계됨() {
+        // When
+        List<MenuSummaryReadModel> summaries = menuQueryDao.searchMenusByName(shopId.getValue(), "세트");
+
+        // Then
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getOptionGroupCount()).isEqualTo(GROUP_COUNT);
+    }
+
+    private static Optional<Integer> optionGroupCountOf(List<MenuSummaryReadModel> summaries, String menuId) {
+        return summaries.stream()
+            .filter(summary -> summary.getId().equals(menuId))
+            .findFirst()
+            .map(MenuSummaryReadModel::getOptionGroupCount);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,129 @@
+package harry.boilerplate.shop.query.infrastructure.dao;
+
+import harry.boilerplate.common.domain.entity.Money;
+import harry.boilerplate.common.response.ResourceVersion;
+import harry.boilerplate.shop.command.domain.aggregate.Shop;
+import harry.boilerplate.shop.command.domain.valueObject.BusinessHours;
+import harry.boilerplate.shop.query.application.readModel.ShopDetailReadModel;
+import harry.boilerplate.shop.query.application.readModel.ShopSummaryReadModel;
+import harry.boilerplate.shop.query.infrastructure.mapper.MenuReadModelMapper;
+import harry.boilerplate.shop.query.infrastructure.projection.OpenShopIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ShopQueryDaoImpl 가게 조회 테스트
+ * 영업시간 임베디드 값을 그대로 읽어 오늘 영업시간을 채우는지 확인
+ * 조건부 GET에 쓰는 버전 조회 JPQL이 가게 엔티티 매핑과 맞는지도 확인
+ */
+@DataJpaTest
+@DisplayName("ShopQueryDaoImpl 가게 조회 테스트")
+class ShopQueryDaoImplTest {
+
+    @Configuration
+    @EntityScan({
+        "harry.boilerplate.shop.command.domain",
+        "harry.boilerplate.common.domain"
+    })
+    @Import({ShopQueryDaoImpl.class, MenuQueryDaoImpl.class, MenuReadModelMapper.class, OpenShopIndex.class})
+    static class TestConfig {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ShopQueryDao shopQueryDao;
+
+    @Autowired
+    private MenuQueryDao menuQueryDao;
+
+    private final DayOfWeek today = LocalDate.now().getDayOfWeek();
+    private String shopId;
+
+    @BeforeEach
+    void setUp() {
+        Map<DayOfWeek, LocalTime[]> weeklyHours = new EnumMap<>(DayOfWeek.class);
+        weeklyHours.put(today, new LocalTime[]{LocalTime.of(10, 0), LocalTime.of(21, 0)});
+        Shop shop = new Shop("맛있는 가게", Money.of(new BigDecimal("15000")), new BusinessHours(weeklyHours));
+
+        entityManager.persist(shop);
+        entityManager.flush();
+        entityManager.clear();
+
+        shopId = shop.getId().getValue();
+    }
+
+    @Test
+    @DisplayName("가게 목록과 이름 검색 결과에 오늘 영업시간을 채움")
+    void 가게_목록과_이름_검색_결과에_오늘_영업시간을_채움() {
+        // When
+        List<ShopSummaryReadModel> all = shopQueryDao.findAllShopSummaries();
+        List<ShopSummaryReadModel> searched = shopQueryDao.searchShopsByName("맛있는");
+
+        // Then
+        assertThat(all).hasSize(1);
+        assertThat(all.get(0).getOpenTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(all.get(0).getCloseTime()).isEqualTo(LocalTime.of(21, 0));
+        assertThat(searched).hasSize(1);
+        assertThat(searched.get(0).getId()).isEqualTo(shopId);
+    }
+
+    @Test
+    @DisplayName("가게 상세에 오늘 영업시간을 채우고 없는 가게는 empty")
+    void 가게_상세에_오늘_영업시간을_채움() {
+        // When
+        Optional<ShopDetailReadModel> detail = shopQueryDao.findShopDetail(shopId);
+        Optional<ShopDetailReadModel> missing = shopQueryDao.findShopDetail("missing-shop");
+
+        // Then
+        assertThat(detail).isPresent();
+        assertThat(detail.get().getOpenTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(detail.get().getCloseTime()).isEqualTo(LocalTime.of(21, 0));
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가게 상세와 메뉴판 버전 조회는 가게 엔티티의 실제 필드로 실행되고 없는 가게는 empty")
+    void 가게_상세와_메뉴판_버전_조회() {
+        // When
+        Optional<ResourceVersion> shopVersion = shopQueryDao.findShopDetailVersion(shopId);
+        Optional<ResourceVersion> boardVersion = menuQueryDao.findMenuBoardVersion(shopId);
+
+        // Then
+        assertThat(shopVersion).isPresent();
+        assertThat(shopVersion.get().getETag()).isNotBlank();
+        assertThat(boardVersion).isPresent();
+        assertThat(shopQueryDao.findShopDetailVersion("missing-shop")).isEmpty();
+        assertThat(menuQueryDao.findMenuBoardVersion("missing-shop")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("영업 중 가게 색인이 비어 있으면 영업 중 가게 목록은 조회 없이 빈 목록")
+    void 색인이_비어_있으면_영업_중_가게_목록은_빈_목록() {
+        // When
+        List<ShopSummaryReadModel> open = shopQueryDao.findOpenShopSummaries();
+
+        // Then
+        assertThat(open).isEmpty();
+    }
+}
@@ -0,0 +1,149 @@
+package harry.boilerplate.shop.query.infrastructure.projection;
+
+import harry.boilerplate.shop.command.domain.event.ShopBusinessHoursChangedEvent;
+import harry.boilerplate.shop.command.domain.valueObject.BusinessHours;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OpenShopIndex 테스트")
+class OpenShopIndexTest {
+
+    // 2026-10-19는 월요일, 2026-10-25는 일요일
+    private static final LocalDateTime MONDAY_NOON = LocalDateTime.of(2026, 10, 19, 12, 0);
+    private static final LocalDateTime MONDAY_1AM = LocalDateTime.of(2026, 10, 19, 1, 0);
+    private static final LocalDateTime TUESDAY_1AM = LocalDateTime.of(2026, 10, 20, 1, 0);
+    private static final LocalDateTime SUNDAY_11PM = LocalDateTime.of(2026, 10, 25, 23, 0);
+
+    private OpenShopIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OpenShopIndex();
+    }
+
+    @Test
+    @DisplayName("요일별 영업시간에 따라 해당 시각에 영업 중인 가게만 반환")
+    void 요일별_영업시간에_따라_영업_중인_가게만_반환() {
+        // Given
+        index.update("lunch", hours(DayOfWeek.MONDAY, LocalTime.of(11, 0), LocalTime.of(15, 0)));
+        index.update("tuesday-only", hours(DayOfWeek.TUESDAY, LocalTime.of(11, 0), LocalTime.of(15, 0)));
+
+        // When
+        var openAtMondayNoon = index.openShopIdsAt(MONDAY_NOON);
+
+        // Then
+        assertThat(openAtMondayNoon).containsExactly("lunch");
+        assertThat(index.openShopIdsAt(MONDAY_NOON.withHour(15))).isEmpty();
+        assertThat(index.isOpenAt("tuesday-only", MONDAY_NOON)).isFalse();
+        assertThat(index.isOpenAt("tuesday-only", MONDAY_NOON.plusDays(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 영업은 다음 날 새벽까지 영업 중")
+    void 자정을_넘기는_영업은_다음_날_새벽까지_영업_중() {
+        // Given
+        index.update("pub", hours(DayOfWeek.MONDAY, LocalTime.of(22, 0), LocalTime.of(2, 0)));
+
+        // Then
+        assertThat(index.openShopIdsAt(MONDAY_NOON.withHour(23))).containsExactly("pub");
+        assertThat(index.openShopIdsAt(TUESDAY_1AM)).containsExactly("pub");
+        assertThat(index.openShopIdsAt(TUESDAY_1AM.withHour(2))).isEmpty();
+        // 월요일 새벽은 일요일 영업분이 아니므로 닫힘
+        assertThat(index.openShopIdsAt(MONDAY_1AM)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일요일 밤에 시작한 영업은 월요일 새벽까지 이어짐")
+    void 일요일_밤에_시작한_영업은_월요일_새벽까지_이어짐() {
+        // Given
+        index.update("pub", hours(DayOfWeek.SUNDAY, LocalTime.of(22, 0), LocalTime.of(3, 0)));
+
+        // Then
+        assertThat(index.isOpenAt("pub", SUNDAY_11PM)).isTrue();
+        assertThat(index.isOpenAt("pub", MONDAY_1AM)).isTrue();
+        assertThat(index.openShopIdsAt(MONDAY_1AM)).containsExactly("pub");
+        assertThat(index.isOpenAt("pub", MONDAY_NOON)).isFalse();
+    }
+
+    @Test
+    @DisplayName("영업시간 변경 이벤트로 해당 가게만 갱신하고 영업시간이 없으면 제거")
+    void 영업시간_변경_이벤트로_해당_가게만_갱신() {
+        // Given
+        index.update("shop-1", hours(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(13, 0)));
+        index.update("shop-2", hours(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(18, 0)));
+
+        // When
+        index.onBusinessHoursChanged(new ShopBusinessHoursChangedEvent("shop-1",
+            hours(DayOfWeek.MONDAY, LocalTime.of(14, 0), LocalTime.of(20, 0))));
+
+        // Then
+        assertThat(index.openShopIdsAt(MONDAY_NOON)).containsExactly("shop-2");
+        assertThat(index.openShopIdsAt(MONDAY_NOON.withHour(15))).containsExactlyInAnyOrder("shop-1", "shop-2");
+
+        // When
+        index.onBusinessHoursChanged(new ShopBusinessHoursChangedEvent("shop-2", null));
+
+        // Then
+        assertThat(index.openShopIdsAt(MONDAY_NOON)).isEmpty();
+        assertThat(index.isOpenAt("shop-2", MONDAY_NOON)).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 재적재 시 사라진 가게는 색인에서 제거")
+    void 전체_재적재_시_사라진_가게는_제거() {
+        // Given
+        index.update("deleted", hours(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(18, 0)));
+
+        // When
+        index.replaceAll(Map.of("shop-1", hours(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(18, 0))));
+
+        // Then
+        assertThat(index.openShopIdsAt(MONDAY_NOON)).containsExactly("shop-1");
+        assertThat(index.isOpenAt("deleted", MONDAY_NOON)).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여는 시각과 닫는 시각이 같은 요일은 휴무로 봄")
+    void 여는_시각과_닫는_시각이_같은_요일은_휴무() {
+        // When
+        index.update("shop-1", hours(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(9, 0)));
+
+        // Then
+        assertThat(index.isOpenAt("shop-1", MONDAY_NOON.withHour(9))).isFalse();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 가게의 영업 여부를 같은 시각 기준으로 한 번에 확인")
+    void 여러_가게의_영업_여부를_한_번에_확인() {
+        // Given
+        index.update("lunch", hours(DayOfWeek.MONDAY, LocalTime.of(11, 0), LocalTime.of(15, 0)));
+        index.update("pub", hours(DayOfWeek.SUNDAY, LocalTime.of(22, 0), LocalTime.of(3, 0)));
+
+        // When
+        boolean[] atNoon = index.isOpenAt(List.of("lunch", "missing", "pub"), MONDAY_NOON);
+        boolean[] atDawn = index.isOpenAt(List.of("lunch", "missing", "pub"), MONDAY_1AM);
+
+        // Then
+        assertThat(atNoon).containsExactly(true, false, false);
+        assertThat(atDawn).containsExactly(false, false, true);
+    }
+
+    private static BusinessHours hours(DayOfWeek day, LocalTime open, LocalTime close) {
+        Map<DayOfWeek, LocalTime[]> weeklyHours = new EnumMap<>(DayOfWeek.class);
+        weeklyHours.put(day, new LocalTime[]{open, close});
+        return new BusinessHours(weeklyHours);
+    }
+}
@@ -1,5 +1,6 @@
 package harry.boilerplate.user.query.application.handler;
 
+import harry.boilerplate.common.response.ResourceVersion;
 import harry.boilerplate.user.query.application.dto.UserDetailQuery;
 import harry.boilerplate.user.query.application.dto.UserDetailResult;
 import harry.boilerplate.user.query.application.readModel.UserDetailReadModel;
@@ -8,6 +9,8 @@ import harry.boilerplate.user.query.infrastructure.dao.UserQueryDao;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * 사용자 상세 정보 조회 Query Handler
  * Requirements 7.3: 사용자 상세 정보 조회 기능 구현
@@ -22,6 +25,16 @@ public class UserDetailQueryHandler {
         this.userQueryDao = userQueryDao;
     }
     
+    /**
+     * 사용자 상세 정보 버전 조회
+     * 
+     * @param query 사용자 상세 조회 쿼리
+     * @return 사용자 상세 정보 버전 (사용자가 존재하지 않으면 Optional.empty())
+     */
+    public Optional<ResourceVersion> version(UserDetailQuery query) {
+        return userQueryDao.findUserDetailVersion(query.getUserId());
+    }
+    
     /**
      * 사용자 상세 정보 조회 처리
      * 
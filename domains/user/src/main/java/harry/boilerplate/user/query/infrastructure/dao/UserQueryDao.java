@@ -1,5 +1,6 @@
 package harry.boilerplate.user.query.infrastructure.dao;
 
+import harry.boilerplate.common.response.ResourceVersion;
 import harry.boilerplate.user.query.application.readModel.UserDetailReadModel;
 import harry.boilerplate.user.query.application.readModel.UserSummaryReadModel;
 
@@ -29,6 +30,14 @@ public interface UserQueryDao {
      */
     UserDetailReadModel findUserDetail(String userId);
     
+    /**
+     * 사용자 상세 정보의 버전 조회 (조건부 GET용)
+     * 
+     * @param userId 사용자 ID
+     * @return 마지막 수정 시각 기반 버전 (존재하지 않으면 Optional.empty())
+     */
+    Optional<ResourceVersion> findUserDetailVersion(String userId);
+    
     /**
      * 이메일로 사용자 요약 정보 조회
      * 
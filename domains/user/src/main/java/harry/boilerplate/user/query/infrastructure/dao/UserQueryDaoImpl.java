@@ -1,5 +1,6 @@
 package harry.boilerplate.user.query.infrastructure.dao;
 
+import harry.boilerplate.common.response.ResourceVersion;
 import harry.boilerplate.user.query.application.readModel.UserDetailReadModel;
 import harry.boilerplate.user.query.application.readModel.UserSummaryReadModel;
 import harry.boilerplate.user.command.domain.aggregate.User;
@@ -8,6 +9,7 @@ import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -51,6 +53,20 @@ public class UserQueryDaoImpl implements UserQueryDao {
         }
     }
     
+    @Override
+    public Optional<ResourceVersion> findUserDetailVersion(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        
+        return entityManager.createQuery(
+            "SELECT u.updatedAt FROM User u WHERE u.id = :userId", Instant.class)
+            .setParameter("userId", userId)
+            .getResultStream()
+            .findFirst()
+            .map(updatedAt -> ResourceVersion.lastModified(updatedAt, userId));
+    }
+    
     @Override
     public Optional<UserSummaryReadModel> findUserSummaryByEmail(String email) {
         if (email == null || email.trim().isEmpty()) {
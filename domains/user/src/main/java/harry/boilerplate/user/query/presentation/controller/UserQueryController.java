@@ -1,5 +1,6 @@
 package harry.boilerplate.user.query.presentation.controller;
 
+import harry.boilerplate.common.response.ConditionalGet;
 import harry.boilerplate.user.query.application.dto.UserDetailQuery;
 import harry.boilerplate.user.query.application.dto.UserDetailResult;
 import harry.boilerplate.user.query.application.dto.UserValidationQuery;
@@ -12,8 +13,10 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * User Query Controller
@@ -36,25 +39,31 @@ public class UserQueryController {
     /**
      * 사용자 상세 정보 조회
      * Requirements 7.3: 사용자 상세 정보 조회 기능
+     * If-None-Match / If-Modified-Since로 변경 여부를 확인하여 변경이 없으면 304 반환
      */
     @GetMapping("/{userId}")
     @Operation(summary = "사용자 상세 정보 조회", description = "사용자 ID로 상세 정보를 조회합니다")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "사용자 정보 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "사용자 정보 변경 없음"),
         @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
     })
     public ResponseEntity<UserDetailResult> getUserDetail(
             @Parameter(description = "사용자 ID", required = true)
-            @PathVariable String userId) {
+            @PathVariable String userId,
+            WebRequest request) {
         
         UserDetailQuery query = new UserDetailQuery(userId);
-        UserDetailResult result = userDetailQueryHandler.handle(query);
-        
-        if (result == null) {
-            return ResponseEntity.notFound().build();
-        }
-        
-        return ResponseEntity.ok(result);
+        return ConditionalGet.respond(request, userDetailQueryHandler.version(query),
+            CacheControl.noCache().cachePrivate(), () -> {
+                UserDetailResult result = userDetailQueryHandler.handle(query);
+                
+                if (result == null) {
+                    return ResponseEntity.notFound().build();
+                }
+                
+                return ResponseEntity.ok(result);
+            });
     }
     
     /**